@@ -0,0 +1,109 @@
+package com.openelements.hiero.base;
+
+import com.hedera.hashgraph.sdk.FileId;
+import java.nio.ByteBuffer;
+import java.time.Instant;
+import java.util.concurrent.CompletableFuture;
+import org.jspecify.annotations.NonNull;
+
+/**
+ * Asynchronous counterpart of {@link FileClient}. All methods return immediately and the returned
+ * future is completed once the network has handled the underlying transactions or queries. No
+ * thread is blocked while waiting for consensus. If an operation fails the returned future
+ * completes exceptionally with a {@link HieroException}.
+ *
+ * <p>Only {@code null} arguments are rejected directly with a {@link NullPointerException}. Every
+ * other invalid argument, like contents that exceed the maximum file size or an expiration time in
+ * the past, is reported through the returned future. No request is sent to the network in that
+ * case.
+ *
+ * @see FileClient
+ */
+public interface AsyncFileClient {
+
+  /**
+   * Create a new file with the given contents.
+   *
+   * @param contents the contents of the file
+   * @return a future that completes with the ID of the new file
+   */
+  @NonNull CompletableFuture<FileId> createFile(@NonNull byte[] contents);
+
+  /**
+   * Create a new file with the given contents and expiration time.
+   *
+   * @param contents the contents of the file
+   * @param expirationTime the expiration time of the file
+   * @return a future that completes with the ID of the new file
+   */
+  @NonNull CompletableFuture<FileId> createFile(
+      @NonNull byte[] contents, @NonNull Instant expirationTime);
+
+  /**
+   * Read the contents of a file.
+   *
+   * @param fileId the ID of the file to read
+   * @return a future that completes with the contents of the file
+   */
+  @NonNull CompletableFuture<byte[]> readFile(@NonNull FileId fileId);
+
+  /**
+   * Read the contents of a file as a read-only buffer. The buffer is a view of the data that was
+   * received from the network, so the contents are not copied.
+   *
+   * @param fileId the ID of the file to read
+   * @return a future that completes with the read-only contents of the file
+   */
+  @NonNull CompletableFuture<ByteBuffer> readFileAsByteBuffer(@NonNull FileId fileId);
+
+  /**
+   * Delete a file.
+   *
+   * @param fileId the ID of the file to delete
+   * @return a future that completes once the file has been deleted
+   */
+  @NonNull CompletableFuture<Void> deleteFile(@NonNull FileId fileId);
+
+  /**
+   * Update the contents of a file.
+   *
+   * @param fileId the ID of the file to update
+   * @param content the new contents of the file
+   * @return a future that completes once the file has been updated
+   */
+  @NonNull CompletableFuture<Void> updateFile(@NonNull FileId fileId, @NonNull byte[] content);
+
+  /**
+   * Update the expiration time of a file.
+   *
+   * @param fileId the ID of the file to update
+   * @param expirationTime the new expiration time of the file
+   * @return a future that completes once the file has been updated
+   */
+  @NonNull CompletableFuture<Void> updateExpirationTime(
+      @NonNull FileId fileId, @NonNull Instant expirationTime);
+
+  /**
+   * Check if a file is deleted.
+   *
+   * @param fileId the ID of the file to check
+   * @return a future that completes with true if the file is deleted, false otherwise
+   */
+  @NonNull CompletableFuture<Boolean> isDeleted(@NonNull FileId fileId);
+
+  /**
+   * Get the size of a file.
+   *
+   * @param fileId the ID of the file to check
+   * @return a future that completes with the size of the file
+   */
+  @NonNull CompletableFuture<Integer> getSize(@NonNull FileId fileId);
+
+  /**
+   * Get the expiration time of a file.
+   *
+   * @param fileId the ID of the file to check
+   * @return a future that completes with the expiration time of the file
+   */
+  @NonNull CompletableFuture<Instant> getExpirationTime(@NonNull FileId fileId);
+}
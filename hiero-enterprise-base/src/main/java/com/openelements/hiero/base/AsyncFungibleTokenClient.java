@@ -0,0 +1,159 @@
+package com.openelements.hiero.base;
+
+import com.hedera.hashgraph.sdk.AccountId;
+import com.hedera.hashgraph.sdk.PrivateKey;
+import com.hedera.hashgraph.sdk.TokenId;
+import com.openelements.hiero.base.data.TokenTransferOutcome;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import org.jspecify.annotations.NonNull;
+
+/**
+ * Asynchronous counterpart of {@link FungibleTokenClient}. All methods return immediately and the
+ * returned future is completed once the network has handled the underlying transaction. No thread
+ * is blocked while waiting for consensus. If an operation fails the returned future completes
+ * exceptionally with a {@link HieroException}.
+ *
+ * @see FungibleTokenClient
+ */
+public interface AsyncFungibleTokenClient {
+
+  /**
+   * Create a new token. The operator account is used as suppler account and as treasury account for
+   * the token.
+   *
+   * @param name the name of the token
+   * @param symbol the symbol of the token
+   * @return a future that completes with the ID of the new token
+   */
+  @NonNull CompletableFuture<TokenId> createToken(@NonNull String name, @NonNull String symbol);
+
+  /**
+   * Create a new token.
+   *
+   * @param name the name of the token
+   * @param symbol the symbol of the token
+   * @param treasuryAccountId the ID of the treasury account
+   * @param treasuryKey the private key of the treasury account
+   * @param supplyKey the private key of the supplier
+   * @return a future that completes with the ID of the new token
+   */
+  @NonNull CompletableFuture<TokenId> createToken(
+      @NonNull String name,
+      @NonNull String symbol,
+      @NonNull AccountId treasuryAccountId,
+      @NonNull PrivateKey treasuryKey,
+      @NonNull PrivateKey supplyKey);
+
+  /**
+   * Associate an account with tokens.
+   *
+   * @param tokenIds the IDs of the tokens
+   * @param accountId the ID of the account
+   * @param accountKey the private key of the account
+   * @return a future that completes once the account has been associated
+   */
+  @NonNull CompletableFuture<Void> associateToken(
+      @NonNull List<TokenId> tokenIds,
+      @NonNull AccountId accountId,
+      @NonNull PrivateKey accountKey);
+
+  /**
+   * Dissociate an account from tokens.
+   *
+   * @param tokenIds the IDs of the tokens
+   * @param accountId the ID of the account
+   * @param accountKey the private key of the account
+   * @return a future that completes once the account has been dissociated
+   */
+  @NonNull CompletableFuture<Void> dissociateToken(
+      @NonNull List<TokenId> tokenIds,
+      @NonNull AccountId accountId,
+      @NonNull PrivateKey accountKey);
+
+  /**
+   * Mint tokens. The operator account is used as supplier account.
+   *
+   * @param tokenId the ID of the token
+   * @param amount the amount of tokens to mint
+   * @return a future that completes with the total supply of the token
+   */
+  @NonNull CompletableFuture<Long> mintToken(@NonNull TokenId tokenId, long amount);
+
+  /**
+   * Mint tokens.
+   *
+   * @param tokenId the ID of the token
+   * @param supplyKey the private key of the supplier
+   * @param amount the amount of tokens to mint
+   * @return a future that completes with the total supply of the token
+   */
+  @NonNull CompletableFuture<Long> mintToken(
+      @NonNull TokenId tokenId, @NonNull PrivateKey supplyKey, long amount);
+
+  /**
+   * Burn tokens. The operator account is used as supplier account.
+   *
+   * @param tokenId the ID of the token
+   * @param amount the amount of tokens to burn
+   * @return a future that completes with the total supply of the token
+   */
+  @NonNull CompletableFuture<Long> burnToken(@NonNull TokenId tokenId, long amount);
+
+  /**
+   * Burn tokens.
+   *
+   * @param tokenId the ID of the token
+   * @param amount the amount of tokens to burn
+   * @param supplyKey the private key of the supplier
+   * @return a future that completes with the total supply of the token
+   */
+  @NonNull CompletableFuture<Long> burnToken(
+      @NonNull TokenId tokenId, long amount, @NonNull PrivateKey supplyKey);
+
+  /**
+   * Transfer tokens from the operator account to another account.
+   *
+   * @param tokenId the ID of the token
+   * @param toAccountId the ID of the account that should receive the tokens
+   * @param amount the amount of tokens to transfer
+   * @return a future that completes once the tokens have been transferred
+   */
+  @NonNull CompletableFuture<Void> transferToken(
+      @NonNull TokenId tokenId, @NonNull AccountId toAccountId, long amount);
+
+  /**
+   * Transfer tokens from one account to another account.
+   *
+   * @param tokenId the ID of the token
+   * @param fromAccountId the ID of the account that holds the tokens
+   * @param fromAccountKey the private key of the account that holds the tokens
+   * @param toAccountId the ID of the account that should receive the tokens
+   * @param amount the amount of tokens to transfer
+   * @return a future that completes once the tokens have been transferred
+   */
+  @NonNull CompletableFuture<Void> transferToken(
+      @NonNull TokenId tokenId,
+      @NonNull AccountId fromAccountId,
+      @NonNull PrivateKey fromAccountKey,
+      @NonNull AccountId toAccountId,
+      long amount);
+
+  /**
+   * Transfer a token from one account to many accounts. The transfers are packed into as few
+   * transfer transactions as the network allows and the transactions are executed concurrently.
+   *
+   * @param tokenId the ID of the token
+   * @param fromAccountId the ID of the account that holds the tokens
+   * @param fromAccountKey the private key of the account that holds the tokens
+   * @param amounts the amount of tokens to transfer per receiver account
+   * @return a future that completes with the outcome of the transfer per receiver account
+   * @see FungibleTokenClient#transferTokens(TokenId, AccountId, PrivateKey, Map)
+   */
+  @NonNull CompletableFuture<Map<AccountId, TokenTransferOutcome>> transferTokens(
+      @NonNull TokenId tokenId,
+      @NonNull AccountId fromAccountId,
+      @NonNull PrivateKey fromAccountKey,
+      @NonNull Map<AccountId, Long> amounts);
+}
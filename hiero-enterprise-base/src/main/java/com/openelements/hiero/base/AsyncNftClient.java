@@ -0,0 +1,179 @@
+package com.openelements.hiero.base;
+
+import com.hedera.hashgraph.sdk.AccountId;
+import com.hedera.hashgraph.sdk.PrivateKey;
+import com.hedera.hashgraph.sdk.TokenId;
+import com.openelements.hiero.base.data.NftMintCheckpoint;
+import com.openelements.hiero.base.data.NftTransferInstruction;
+import com.openelements.hiero.base.data.NftTransferOutcome;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import org.jspecify.annotations.NonNull;
+
+/**
+ * Asynchronous counterpart of {@link NftClient}. All methods return immediately and the returned
+ * future is completed once the network has handled the underlying transaction. No thread is blocked
+ * while waiting for consensus. If an operation fails the returned future completes exceptionally
+ * with a {@link HieroException}.
+ *
+ * @see NftClient
+ */
+public interface AsyncNftClient {
+
+  /**
+   * Create a new NFT type. The operator account is used as suppler account and as treasury account
+   * for the NFT type.
+   *
+   * @param name the name of the NFT type
+   * @param symbol the symbol of the NFT type
+   * @return a future that completes with the ID of the new NFT type
+   */
+  @NonNull CompletableFuture<TokenId> createNftType(@NonNull String name, @NonNull String symbol);
+
+  /**
+   * Create a new NFT type. The operator account is used as treasury account for the NFT type.
+   *
+   * @param name the name of the NFT type
+   * @param symbol the symbol of the NFT type
+   * @param supplierKey the private key of the supplier
+   * @return a future that completes with the ID of the new NFT type
+   */
+  @NonNull CompletableFuture<TokenId> createNftType(
+      @NonNull String name, @NonNull String symbol, @NonNull PrivateKey supplierKey);
+
+  /**
+   * Create a new NFT type.
+   *
+   * @param name the name of the NFT type
+   * @param symbol the symbol of the NFT type
+   * @param treasuryAccountId the ID of the treasury account
+   * @param treasuryKey the private key of the treasury account
+   * @param supplierKey the private key of the supplier
+   * @return a future that completes with the ID of the new NFT type
+   */
+  @NonNull CompletableFuture<TokenId> createNftType(
+      @NonNull String name,
+      @NonNull String symbol,
+      @NonNull AccountId treasuryAccountId,
+      @NonNull PrivateKey treasuryKey,
+      @NonNull PrivateKey supplierKey);
+
+  /**
+   * Associate an account with NFT types.
+   *
+   * @param tokenIds the IDs of the NFT types
+   * @param accountId the ID of the account
+   * @param accountKey the private key of the account
+   * @return a future that completes once the account has been associated
+   */
+  @NonNull CompletableFuture<Void> associateNft(
+      @NonNull List<TokenId> tokenIds,
+      @NonNull AccountId accountId,
+      @NonNull PrivateKey accountKey);
+
+  /**
+   * Dissociate an account from NFT types.
+   *
+   * @param tokenIds the IDs of the NFT types
+   * @param accountId the ID of the account
+   * @param accountKey the private key of the account
+   * @return a future that completes once the account has been dissociated
+   */
+  @NonNull CompletableFuture<Void> dissociateNft(
+      @NonNull List<TokenId> tokenIds,
+      @NonNull AccountId accountId,
+      @NonNull PrivateKey accountKey);
+
+  /**
+   * Mint new NFTs of the given type. The operator account is used as supplier account.
+   *
+   * @param tokenId the ID of the NFT type
+   * @param metadata the metadata of the NFTs
+   * @return a future that completes with the serial numbers of the new NFTs
+   */
+  @NonNull CompletableFuture<List<Long>> mintNfts(
+      @NonNull TokenId tokenId, @NonNull byte[]... metadata);
+
+  /**
+   * Mint new NFTs of the given type.
+   *
+   * @param tokenId the ID of the NFT type
+   * @param supplyKey the private key of the supplier
+   * @param metadata the metadata of the NFTs
+   * @return a future that completes with the serial numbers of the new NFTs
+   */
+  @NonNull CompletableFuture<List<Long>> mintNfts(
+      @NonNull TokenId tokenId, @NonNull PrivateKey supplyKey, @NonNull byte[]... metadata);
+
+  /**
+   * Mint a large number of NFTs of the given type. The metadata is split into chunks of {@link
+   * com.openelements.hiero.base.protocol.data.TokenMintRequest#MAX_NFTS_PER_MINT} entries and the
+   * chunks are minted concurrently. Every minted chunk is stored in the checkpoint, so a failed
+   * mint can be resumed by calling this method again with the same metadata and checkpoint. All
+   * metadata is read into memory before the first chunk is minted.
+   *
+   * @param tokenId the ID of the NFT type
+   * @param supplyKey the private key of the supplier
+   * @param metadata the metadata of the NFTs
+   * @param checkpoint the checkpoint that stores the progress of the mint
+   * @return a future that completes with the serial numbers of the new NFTs in the order of the
+   *     metadata
+   * @see NftClient#bulkMintNfts(TokenId, PrivateKey, Iterable, NftMintCheckpoint)
+   */
+  @NonNull CompletableFuture<List<Long>> bulkMintNfts(
+      @NonNull TokenId tokenId,
+      @NonNull PrivateKey supplyKey,
+      @NonNull Iterable<byte[]> metadata,
+      @NonNull NftMintCheckpoint checkpoint);
+
+  /**
+   * Burn NFTs of the given type. The operator account is used as supplier account.
+   *
+   * @param tokenId the ID of the NFT type
+   * @param serialNumbers the serial numbers of the NFTs to burn
+   * @return a future that completes once the NFTs have been burned
+   */
+  @NonNull CompletableFuture<Void> burnNfts(
+      @NonNull TokenId tokenId, @NonNull Set<Long> serialNumbers);
+
+  /**
+   * Burn NFTs of the given type.
+   *
+   * @param tokenId the ID of the NFT type
+   * @param serialNumbers the serial numbers of the NFTs to burn
+   * @param supplyKey the private key of the supplier
+   * @return a future that completes once the NFTs have been burned
+   */
+  @NonNull CompletableFuture<Void> burnNfts(
+      @NonNull TokenId tokenId, @NonNull Set<Long> serialNumbers, @NonNull PrivateKey supplyKey);
+
+  /**
+   * Transfer NFTs to another account.
+   *
+   * @param tokenId the ID of the NFT type
+   * @param serialNumbers the serial numbers of the NFTs
+   * @param fromAccountId the ID of the account that holds the NFTs
+   * @param fromAccountKey the private key of the account that holds the NFTs
+   * @param toAccountId the ID of the account that should receive the NFTs
+   * @return a future that completes once the NFTs have been transferred
+   */
+  @NonNull CompletableFuture<Void> transferNfts(
+      @NonNull TokenId tokenId,
+      @NonNull List<Long> serialNumbers,
+      @NonNull AccountId fromAccountId,
+      @NonNull PrivateKey fromAccountKey,
+      @NonNull AccountId toAccountId);
+
+  /**
+   * Transfer many NFTs. The transfers are grouped into as few transfer transactions as the network
+   * allows and the transactions are executed in parallel.
+   *
+   * @param transfers the transfers to execute
+   * @return a future that completes with the outcome of every transfer in the order of the given
+   *     transfers
+   * @see NftClient#transferNfts(List)
+   */
+  @NonNull CompletableFuture<List<NftTransferOutcome>> transferNfts(
+      @NonNull List<NftTransferInstruction> transfers);
+}
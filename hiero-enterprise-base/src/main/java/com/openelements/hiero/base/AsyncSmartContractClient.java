@@ -0,0 +1,55 @@
+package com.openelements.hiero.base;
+
+import com.hedera.hashgraph.sdk.ContractId;
+import com.hedera.hashgraph.sdk.FileId;
+import com.openelements.hiero.base.data.ContractCallResult;
+import com.openelements.hiero.base.data.ContractParam;
+import java.util.concurrent.CompletableFuture;
+import org.jspecify.annotations.NonNull;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Asynchronous counterpart of {@link SmartContractClient}. All methods return immediately and the
+ * returned future is completed once the network has handled the underlying transactions. No thread
+ * is blocked while waiting for consensus. If an operation fails the returned future completes
+ * exceptionally with a {@link HieroException}.
+ *
+ * @see SmartContractClient
+ */
+public interface AsyncSmartContractClient {
+
+  /**
+   * Create a new smart contract based on the file the given file ID. The file must contain the
+   * bytecode for the contract.
+   *
+   * @param fileId the ID of the file containing the contract bytecode
+   * @param constructorParams the parameters to pass to the contract constructor
+   * @return a future that completes with the ID of the new contract
+   */
+  @NonNull CompletableFuture<ContractId> createContract(
+      @NonNull FileId fileId, @Nullable ContractParam<?>... constructorParams);
+
+  /**
+   * Create a new smart contract with the given contents. The contents must be the bytecode for the
+   * contract.
+   *
+   * @param contents the contents of the contract
+   * @param constructorParams the parameters to pass to the contract constructor
+   * @return a future that completes with the ID of the new contract
+   */
+  @NonNull CompletableFuture<ContractId> createContract(
+      @NonNull byte[] contents, @Nullable ContractParam<?>... constructorParams);
+
+  /**
+   * Call a function on a smart contract.
+   *
+   * @param contractId the ID of the contract
+   * @param functionName the name of the function to call
+   * @param params the parameters to pass to the function
+   * @return a future that completes with the result of the function call
+   */
+  @NonNull CompletableFuture<ContractCallResult> callContractFunction(
+      @NonNull ContractId contractId,
+      @NonNull String functionName,
+      @Nullable ContractParam<?>... params);
+}
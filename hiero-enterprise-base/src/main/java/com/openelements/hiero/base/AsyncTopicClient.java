@@ -0,0 +1,95 @@
+package com.openelements.hiero.base;
+
+import com.hedera.hashgraph.sdk.PrivateKey;
+import com.hedera.hashgraph.sdk.TopicId;
+import java.util.concurrent.CompletableFuture;
+import org.jspecify.annotations.NonNull;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Asynchronous counterpart of {@link TopicClient}. All methods return immediately and the returned
+ * future is completed once the network has handled the underlying transaction. No thread is blocked
+ * while waiting for consensus. If an operation fails the returned future completes exceptionally
+ * with a {@link HieroException}.
+ *
+ * @see TopicClient
+ */
+public interface AsyncTopicClient {
+
+  /**
+   * Create a new Topic. The operator account privateKey is used as adminKey for topic.
+   *
+   * @return a future that completes with the ID of the new Topic
+   */
+  @NonNull CompletableFuture<TopicId> createTopic();
+
+  /**
+   * Create a new Topic.
+   *
+   * @param adminKey the adminKey for the Topic
+   * @param memo the memo for the Topic
+   * @return a future that completes with the ID of the new Topic
+   */
+  @NonNull CompletableFuture<TopicId> createTopic(
+      @NonNull PrivateKey adminKey, @NonNull String memo);
+
+  /**
+   * Create a new private Topic. Messages can only be submitted to the topic by using the submitKey.
+   *
+   * @param adminKey the adminKey for the Topic
+   * @param submitKey the submitKey for the Topic
+   * @param memo the memo for the Topic
+   * @return a future that completes with the ID of the new Topic
+   */
+  @NonNull CompletableFuture<TopicId> createPrivateTopic(
+      @NonNull PrivateKey adminKey, @NonNull PrivateKey submitKey, @NonNull String memo);
+
+  /**
+   * Update the memo of a Topic.
+   *
+   * @param topicId the topicId
+   * @param adminKey the adminKey of the Topic
+   * @param memo the new memo for the Topic
+   * @return a future that completes once the Topic has been updated
+   */
+  @NonNull CompletableFuture<Void> updateTopic(
+      @NonNull TopicId topicId, @NonNull PrivateKey adminKey, @NonNull String memo);
+
+  /**
+   * Delete a Topic. The operator account privateKey is used as adminKey.
+   *
+   * @param topicId the topicId
+   * @return a future that completes once the Topic has been deleted
+   */
+  @NonNull CompletableFuture<Void> deleteTopic(@NonNull TopicId topicId);
+
+  /**
+   * Delete a Topic.
+   *
+   * @param topicId the topicId
+   * @param adminKey the adminKey of the Topic
+   * @return a future that completes once the Topic has been deleted
+   */
+  @NonNull CompletableFuture<Void> deleteTopic(
+      @NonNull TopicId topicId, @NonNull PrivateKey adminKey);
+
+  /**
+   * Submit a message to a Topic.
+   *
+   * @param topicId the topicId
+   * @param message the message
+   * @return a future that completes once the message has been handled by the network
+   */
+  @NonNull CompletableFuture<Void> submitMessage(@NonNull TopicId topicId, @NonNull byte[] message);
+
+  /**
+   * Submit a message to a private Topic.
+   *
+   * @param topicId the topicId
+   * @param submitKey the submitKey of the Topic or null for a public Topic
+   * @param message the message
+   * @return a future that completes once the message has been handled by the network
+   */
+  @NonNull CompletableFuture<Void> submitMessage(
+      @NonNull TopicId topicId, @Nullable PrivateKey submitKey, @NonNull byte[] message);
+}
@@ -0,0 +1,55 @@
+package com.openelements.hiero.base;
+
+import com.hedera.hashgraph.sdk.AccountId;
+import com.openelements.hiero.base.data.ConsensusNodeScore;
+import java.time.Duration;
+import java.util.List;
+import org.jspecify.annotations.NonNull;
+
+/**
+ * Selects the consensus nodes that new transactions are sent to. The selector is fed with the
+ * latency and the failures of all transactions and prefers the healthiest nodes. Nodes that fail
+ * repeatedly are taken out of rotation for some time.
+ */
+public interface ConsensusNodeSelector {
+
+  /**
+   * Returns the nodes that a new transaction should be sent to, ordered by preference. The SDK
+   * tries the nodes in the given order and only moves on to the next node if a node does not accept
+   * the transaction.
+   *
+   * @return the nodes, never empty
+   */
+  @NonNull List<AccountId> selectNodes();
+
+  /**
+   * Called once a node has accepted a transaction.
+   *
+   * @param node the account ID of the node
+   * @param latency the time between sending the transaction and its acceptance
+   */
+  void submitSucceeded(@NonNull AccountId node, @NonNull Duration latency);
+
+  /**
+   * Called once the receipt of a transaction that was accepted by a node is available.
+   *
+   * @param node the account ID of the node
+   * @param latency the time between the acceptance of the transaction and its receipt
+   */
+  void receiptReceived(@NonNull AccountId node, @NonNull Duration latency);
+
+  /**
+   * Called if a transaction could not be sent to a node.
+   *
+   * @param node the account ID of the node
+   * @param error the error
+   */
+  void submitFailed(@NonNull AccountId node, @NonNull Throwable error);
+
+  /**
+   * Returns the current scores of all nodes, ordered by preference.
+   *
+   * @return the scores
+   */
+  @NonNull List<ConsensusNodeScore> getScores();
+}
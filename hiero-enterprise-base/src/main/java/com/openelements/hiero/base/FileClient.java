@@ -1,6 +1,10 @@
 package com.openelements.hiero.base;
 
 import com.hedera.hashgraph.sdk.FileId;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.file.Path;
 import java.time.Instant;
 import java.util.Objects;
 import org.jspecify.annotations.NonNull;
@@ -33,6 +37,38 @@ public interface FileClient {
   @NonNull FileId createFile(@NonNull byte[] contents, @NonNull Instant expirationTime)
       throws HieroException;
 
+  /**
+   * Create a new file with the remaining bytes of the given buffer. The contents are uploaded in
+   * chunks without copying the whole buffer and the appends of the chunks are pipelined. The
+   * position of the buffer is not modified.
+   *
+   * @param contents the contents of the file
+   * @return the ID of the new file
+   * @throws HieroException if the file could not be created
+   */
+  @NonNull FileId createFileFrom(@NonNull ByteBuffer contents) throws HieroException;
+
+  /**
+   * Create a new file with the contents of the given local file. The local file is mapped into
+   * memory, so its contents never need to be copied to the heap as a whole.
+   *
+   * @param path the path of the local file
+   * @return the ID of the new file
+   * @throws HieroException if the local file could not be read or the file could not be created
+   */
+  @NonNull FileId createFileFrom(@NonNull Path path) throws HieroException;
+
+  /**
+   * Create a new file with the contents of the given stream. The stream is read completely before
+   * the file is created and is not closed by this method. If the stream contains more than the
+   * maximum file size, no file is created.
+   *
+   * @param contents the stream that provides the contents of the file
+   * @return the ID of the new file
+   * @throws HieroException if the stream could not be read or the file could not be created
+   */
+  @NonNull FileId createFileFrom(@NonNull InputStream contents) throws HieroException;
+
   /**
    * Create a new file with the given contents.
    *
@@ -55,6 +91,27 @@ public interface FileClient {
    */
   @NonNull byte[] readFile(@NonNull FileId fileId) throws HieroException;
 
+  /**
+   * Read the contents of a file and write them to the given stream. The contents are written from
+   * the data that was received from the network without creating an additional copy of the whole
+   * file. The stream is not closed by this method.
+   *
+   * @param fileId the ID of the file to read
+   * @param out the stream to write the contents to
+   * @throws HieroException if the file could not be read or the contents could not be written
+   */
+  void readFile(@NonNull FileId fileId, @NonNull OutputStream out) throws HieroException;
+
+  /**
+   * Read the contents of a file as a read-only buffer. The buffer is a view of the data that was
+   * received from the network, so the contents are not copied.
+   *
+   * @param fileId the ID of the file to read
+   * @return the read-only contents of the file
+   * @throws HieroException if the file could not be read
+   */
+  @NonNull ByteBuffer readFileAsByteBuffer(@NonNull FileId fileId) throws HieroException;
+
   /**
    * Delete a file.
    *
@@ -82,6 +139,38 @@ public interface FileClient {
    */
   void updateFile(@NonNull FileId fileId, byte[] content) throws HieroException;
 
+  /**
+   * Update the contents of a file with the remaining bytes of the given buffer. The contents are
+   * uploaded in chunks without copying the whole buffer and the appends of the chunks are
+   * pipelined. The position of the buffer is not modified.
+   *
+   * @param fileId the ID of the file to update
+   * @param content the new contents of the file
+   * @throws HieroException if the file could not be updated
+   */
+  void updateFileFrom(@NonNull FileId fileId, @NonNull ByteBuffer content) throws HieroException;
+
+  /**
+   * Update the contents of a file with the contents of the given local file. The local file is
+   * mapped into memory, so its contents never need to be copied to the heap as a whole.
+   *
+   * @param fileId the ID of the file to update
+   * @param path the path of the local file
+   * @throws HieroException if the local file could not be read or the file could not be updated
+   */
+  void updateFileFrom(@NonNull FileId fileId, @NonNull Path path) throws HieroException;
+
+  /**
+   * Update the contents of a file with the contents of the given stream. The stream is read
+   * completely before the file is updated and is not closed by this method. If the stream contains
+   * more than the maximum file size, the file is not updated.
+   *
+   * @param fileId the ID of the file to update
+   * @param content the stream that provides the new contents of the file
+   * @throws HieroException if the stream could not be read or the file could not be updated
+   */
+  void updateFileFrom(@NonNull FileId fileId, @NonNull InputStream content) throws HieroException;
+
   /**
    * Update the expiration time of a file.
    *
@@ -4,7 +4,9 @@ import com.hedera.hashgraph.sdk.AccountId;
 import com.hedera.hashgraph.sdk.PrivateKey;
 import com.hedera.hashgraph.sdk.TokenId;
 import com.openelements.hiero.base.data.Account;
+import com.openelements.hiero.base.data.TokenTransferOutcome;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import org.jspecify.annotations.NonNull;
 
@@ -546,4 +548,55 @@ public interface FungibleTokenClient {
         AccountId.fromString(toAccountId),
         amount);
   }
+
+  /**
+   * Transfer a token from the operator account to many accounts. The transfers are packed into as
+   * few transfer transactions as the network allows and the transactions are executed concurrently.
+   * A failed transaction does not stop the other transactions; the outcome is reported per
+   * receiver.
+   *
+   * @param tokenId the ID of the token
+   * @param amounts the amount of tokens to transfer per receiver account
+   * @return the outcome of the transfer per receiver account, in the order of the given map
+   * @throws HieroException if the transfers could not be executed
+   */
+  @NonNull Map<AccountId, TokenTransferOutcome> transferTokens(
+      @NonNull TokenId tokenId, @NonNull Map<AccountId, Long> amounts) throws HieroException;
+
+  /**
+   * Transfer a token from one account to many accounts. The transfers are packed into as few
+   * transfer transactions as the network allows and the transactions are executed concurrently. A
+   * failed transaction does not stop the other transactions; the outcome is reported per receiver.
+   *
+   * @param tokenId the ID of the token
+   * @param fromAccountId the ID of the account that holds the token
+   * @param fromAccountKey the private key of the account that holds the token
+   * @param amounts the amount of tokens to transfer per receiver account
+   * @return the outcome of the transfer per receiver account, in the order of the given map
+   * @throws HieroException if the transfers could not be executed
+   */
+  @NonNull Map<AccountId, TokenTransferOutcome> transferTokens(
+      @NonNull TokenId tokenId,
+      @NonNull AccountId fromAccountId,
+      @NonNull PrivateKey fromAccountKey,
+      @NonNull Map<AccountId, Long> amounts)
+      throws HieroException;
+
+  /**
+   * Transfer a token from one account to many accounts.
+   *
+   * @param tokenId the ID of the token
+   * @param fromAccount the account that holds the token
+   * @param amounts the amount of tokens to transfer per receiver account
+   * @return the outcome of the transfer per receiver account, in the order of the given map
+   * @throws HieroException if the transfers could not be executed
+   * @see #transferTokens(TokenId, AccountId, PrivateKey, Map)
+   */
+  @NonNull
+  default Map<AccountId, TokenTransferOutcome> transferTokens(
+      @NonNull TokenId tokenId, @NonNull Account fromAccount, @NonNull Map<AccountId, Long> amounts)
+      throws HieroException {
+    Objects.requireNonNull(fromAccount, "fromAccount must not be null");
+    return transferTokens(tokenId, fromAccount.accountId(), fromAccount.privateKey(), amounts);
+  }
 }
@@ -1,11 +1,14 @@
 package com.openelements.hiero.base;
 
 import com.hedera.hashgraph.sdk.Client;
+import com.openelements.hiero.base.config.TransactionRetryPolicy;
 import com.openelements.hiero.base.data.Account;
+import java.util.List;
+import java.util.Optional;
 import org.jspecify.annotations.NonNull;
 
 /** Context for a specific Hiero connection to a network. */
-public interface HieroContext {
+public interface HieroContext extends AutoCloseable {
 
   /**
    * Get the account that is used to pay for the transactions that are sent to the network. This
@@ -21,4 +24,78 @@ public interface HieroContext {
    * @return the client
    */
   @NonNull Client getClient();
+
+  /**
+   * Get all 'native' clients of the context. Every client has its own channels and executor, so
+   * using several clients spreads the load of concurrent requests. The first client is the one that
+   * is returned by {@link #getClient()}.
+   *
+   * @return the clients
+   */
+  @NonNull
+  default List<Client> getClients() {
+    return List.of(getClient());
+  }
+
+  /**
+   * Get the 'native' client that should be used for the next request. The requests are spread over
+   * all clients of {@link #getClients()}.
+   *
+   * @return the client
+   */
+  @NonNull
+  default Client nextClient() {
+    return getClient();
+  }
+
+  /**
+   * Get the selector that chooses the consensus nodes for new transactions. If no selector is
+   * available the nodes are chosen by the client.
+   *
+   * @return the node selector
+   */
+  @NonNull
+  default Optional<ConsensusNodeSelector> getNodeSelector() {
+    return Optional.empty();
+  }
+
+  /**
+   * Get the pool of operator accounts that pay for the transactions that are sent to the network.
+   * If no pool is available all transactions are paid by the operator account.
+   *
+   * @return the operator pool
+   */
+  @NonNull
+  default Optional<OperatorPool> getOperatorPool() {
+    return Optional.empty();
+  }
+
+  /**
+   * Get the policy for retrying transactions that failed with a transient error. Transactions are
+   * not retried by default.
+   *
+   * @return the retry policy
+   */
+  @NonNull
+  default TransactionRetryPolicy getTransactionRetryPolicy() {
+    return TransactionRetryPolicy.NONE;
+  }
+
+  /**
+   * Get the rate limiter that limits the rate of transactions per transaction type. If no rate
+   * limiter is available transactions are sent without limit.
+   *
+   * @return the rate limiter
+   */
+  @NonNull
+  default Optional<TransactionRateLimiter> getRateLimiter() {
+    return Optional.empty();
+  }
+
+  /**
+   * Closes the 'native' clients that have been created for this context. The default implementation
+   * does nothing, since the client of a custom context is owned by its creator.
+   */
+  @Override
+  default void close() {}
 }
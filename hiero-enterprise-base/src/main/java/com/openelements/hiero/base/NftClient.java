@@ -4,6 +4,9 @@ import com.hedera.hashgraph.sdk.AccountId;
 import com.hedera.hashgraph.sdk.PrivateKey;
 import com.hedera.hashgraph.sdk.TokenId;
 import com.openelements.hiero.base.data.Account;
+import com.openelements.hiero.base.data.NftMintCheckpoint;
+import com.openelements.hiero.base.data.NftTransferInstruction;
+import com.openelements.hiero.base.data.NftTransferOutcome;
 import java.util.List;
 import java.util.Objects;
 import java.util.Set;
@@ -453,6 +456,62 @@ public interface NftClient {
     return mintNfts(TokenId.fromString(tokenId), PrivateKey.fromString(supplyKey), metadata);
   }
 
+  /**
+   * Mint a large number of NFTs of the given type. The metadata is split into chunks of {@link
+   * com.openelements.hiero.base.protocol.data.TokenMintRequest#MAX_NFTS_PER_MINT} entries and the
+   * chunks are minted concurrently. The NFTs are minted by the operator account. The operator
+   * account is used as supply account for the NFTs. All metadata is read into memory before the
+   * first chunk is minted.
+   *
+   * @param tokenId the ID of the NFT type
+   * @param metadata the metadata of the NFTs
+   * @param checkpoint the checkpoint that stores the progress of the mint
+   * @return the serial numbers of the new NFTs in the order of the metadata
+   * @throws HieroException if the NFTs could not be minted
+   */
+  @NonNull List<Long> bulkMintNfts(
+      @NonNull TokenId tokenId,
+      @NonNull Iterable<byte[]> metadata,
+      @NonNull NftMintCheckpoint checkpoint)
+      throws HieroException;
+
+  /**
+   * Mint a large number of NFTs of the given type. The NFTs are minted by the operator account. The
+   * operator account is used as supply account for the NFTs.
+   *
+   * @param tokenId the ID of the NFT type
+   * @param metadata the metadata of the NFTs
+   * @return the serial numbers of the new NFTs in the order of the metadata
+   * @throws HieroException if the NFTs could not be minted
+   * @see #bulkMintNfts(TokenId, Iterable, NftMintCheckpoint)
+   */
+  @NonNull
+  default List<Long> bulkMintNfts(@NonNull TokenId tokenId, @NonNull Iterable<byte[]> metadata)
+      throws HieroException {
+    return bulkMintNfts(tokenId, metadata, NftMintCheckpoint.inMemory());
+  }
+
+  /**
+   * Mint a large number of NFTs of the given type. The metadata is split into chunks of {@link
+   * com.openelements.hiero.base.protocol.data.TokenMintRequest#MAX_NFTS_PER_MINT} entries and the
+   * chunks are minted concurrently. Every minted chunk is stored in the checkpoint. If the mint
+   * fails, it can be resumed by calling this method again with the same metadata and checkpoint.
+   * All metadata is read into memory before the first chunk is minted.
+   *
+   * @param tokenId the ID of the NFT type
+   * @param supplyKey the private key of the supply account
+   * @param metadata the metadata of the NFTs
+   * @param checkpoint the checkpoint that stores the progress of the mint
+   * @return the serial numbers of the new NFTs in the order of the metadata
+   * @throws HieroException if the NFTs could not be minted
+   */
+  @NonNull List<Long> bulkMintNfts(
+      @NonNull TokenId tokenId,
+      @NonNull PrivateKey supplyKey,
+      @NonNull Iterable<byte[]> metadata,
+      @NonNull NftMintCheckpoint checkpoint)
+      throws HieroException;
+
   /**
    * Burn an NFT.
    *
@@ -573,4 +632,18 @@ public interface NftClient {
     transferNfts(
         tokenId, serialNumbers, fromAccount.accountId(), fromAccount.privateKey(), toAccountId);
   }
+
+  /**
+   * Transfer many NFTs. The NFTs can be of different types and can be moved between different
+   * senders and receivers. The transfers are grouped into as few transfer transactions as the
+   * network allows, every transaction is signed only once by every sender that is part of it and
+   * the transactions are executed in parallel. A failed transaction does not stop the other
+   * transactions; the outcome is reported per transfer.
+   *
+   * @param transfers the transfers to execute
+   * @return the outcome of every transfer in the order of the given transfers
+   * @throws HieroException if the transfers could not be executed
+   */
+  @NonNull List<NftTransferOutcome> transferNfts(@NonNull List<NftTransferInstruction> transfers)
+      throws HieroException;
 }
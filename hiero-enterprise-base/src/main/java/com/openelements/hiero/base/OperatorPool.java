@@ -0,0 +1,60 @@
+package com.openelements.hiero.base;
+
+import com.hedera.hashgraph.sdk.AccountId;
+import com.hedera.hashgraph.sdk.Hbar;
+import com.openelements.hiero.base.data.Account;
+import com.openelements.hiero.base.data.OperatorUsage;
+import java.util.List;
+import org.jspecify.annotations.NonNull;
+
+/**
+ * A pool of operator accounts that pay for transactions. Spreading transactions over several payers
+ * avoids that all transactions of an application are limited by the throttles of a single payer and
+ * by the transaction IDs that can be generated for it.
+ */
+public interface OperatorPool {
+
+  /**
+   * Returns the operator that should pay for the next transaction.
+   *
+   * @return the operator
+   */
+  @NonNull Account nextOperator();
+
+  /**
+   * Called once a transaction paid by the given operator has been sent to the network.
+   *
+   * @param operator the account ID of the operator
+   */
+  void transactionSubmitted(@NonNull AccountId operator);
+
+  /**
+   * Called once a transaction paid by the given operator has completed.
+   *
+   * @param operator the account ID of the operator
+   * @param success true if the transaction reached consensus, false if it failed
+   */
+  void transactionCompleted(@NonNull AccountId operator, boolean success);
+
+  /**
+   * Called once the fee of a transaction paid by the given operator is known.
+   *
+   * @param operator the account ID of the operator
+   * @param fee the fee of the transaction
+   */
+  void feeCharged(@NonNull AccountId operator, @NonNull Hbar fee);
+
+  /**
+   * Returns all operators of the pool.
+   *
+   * @return the operators
+   */
+  @NonNull List<Account> getOperators();
+
+  /**
+   * Returns the current usage of all operators of the pool.
+   *
+   * @return the usage per operator
+   */
+  @NonNull List<OperatorUsage> getUsage();
+}
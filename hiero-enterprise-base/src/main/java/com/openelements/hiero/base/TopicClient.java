@@ -2,7 +2,11 @@ package com.openelements.hiero.base;
 
 import com.hedera.hashgraph.sdk.PrivateKey;
 import com.hedera.hashgraph.sdk.TopicId;
+import com.openelements.hiero.base.data.TopicSubmitMetrics;
+import com.openelements.hiero.base.data.TopicSubscriptionOptions;
+import java.nio.charset.StandardCharsets;
 import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
 import org.jspecify.annotations.NonNull;
 
 /**
@@ -341,4 +345,77 @@ public interface TopicClient {
     submitMessage(TopicId.fromString(topicId), PrivateKey.fromString(submitKey), message);
   }
   ;
+
+  /**
+   * Submits a message to a Topic without waiting for its receipt. The message is submitted through
+   * a window that limits the number of messages that are in flight at the same time. If the window
+   * is full the backpressure of the client is applied: the call either blocks until a slot is free
+   * or the returned future fails.
+   *
+   * @param topicId the topicId of topic
+   * @param message the message to send to topic
+   * @return a future that completes once the message has reached consensus
+   */
+  @NonNull CompletableFuture<Void> enqueueMessage(
+      @NonNull TopicId topicId, @NonNull byte[] message);
+
+  /**
+   * Submits a message to a Topic without waiting for its receipt.
+   *
+   * @param topicId the topicId of topic
+   * @param message the message to send to topic
+   * @return a future that completes once the message has reached consensus
+   * @see #enqueueMessage(TopicId, byte[])
+   */
+  @NonNull
+  default CompletableFuture<Void> enqueueMessage(
+      @NonNull TopicId topicId, @NonNull String message) {
+    Objects.requireNonNull(message, "message cannot be null");
+    return enqueueMessage(topicId, message.getBytes(StandardCharsets.UTF_8));
+  }
+
+  /**
+   * Submits a message to a private Topic without waiting for its receipt.
+   *
+   * @param topicId the topicId of topic
+   * @param submitKey the submit key for submitting message
+   * @param message the message to send to topic
+   * @return a future that completes once the message has reached consensus
+   * @see #enqueueMessage(TopicId, byte[])
+   */
+  @NonNull CompletableFuture<Void> enqueueMessage(
+      @NonNull TopicId topicId, @NonNull PrivateKey submitKey, @NonNull byte[] message);
+
+  /**
+   * Returns the current metrics of the messages that are submitted by {@link
+   * #enqueueMessage(TopicId, byte[])}.
+   *
+   * @return the metrics
+   */
+  @NonNull TopicSubmitMetrics getSubmitMetrics();
+
+  /**
+   * Creates a subscription to the messages of a topic with the default options. The subscription
+   * starts with the next message of the topic once a subscriber subscribes to it.
+   *
+   * @param topicId the topicId of topic
+   * @return the subscription
+   * @see #subscribe(TopicId, TopicSubscriptionOptions)
+   */
+  @NonNull
+  default TopicSubscription subscribe(@NonNull TopicId topicId) {
+    return subscribe(topicId, TopicSubscriptionOptions.of());
+  }
+
+  /**
+   * Creates a subscription to the messages of a topic. The connection to the mirror node is opened
+   * once a subscriber subscribes to the returned publisher and is closed by cancelling the
+   * subscription.
+   *
+   * @param topicId the topicId of topic
+   * @param options the options of the subscription
+   * @return the subscription
+   */
+  @NonNull TopicSubscription subscribe(
+      @NonNull TopicId topicId, @NonNull TopicSubscriptionOptions options);
 }
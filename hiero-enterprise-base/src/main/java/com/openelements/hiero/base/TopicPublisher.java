@@ -0,0 +1,57 @@
+package com.openelements.hiero.base;
+
+import com.hedera.hashgraph.sdk.TopicId;
+import com.openelements.hiero.base.data.TopicMessageBatch;
+import java.nio.charset.StandardCharsets;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import org.jspecify.annotations.NonNull;
+
+/**
+ * A publisher that coalesces small messages into topic messages. Messages are buffered per topic
+ * and packed into a single topic message as a {@link TopicMessageBatch} until the maximum topic
+ * message size is reached or the configured linger time has passed. Subscribers of the topic use
+ * {@link TopicMessageBatch#decode(byte[])} to split a received topic message back into the
+ * published messages.
+ */
+public interface TopicPublisher extends AutoCloseable {
+
+  /**
+   * Publish a message to the given topic. The message is buffered and submitted together with other
+   * messages to the same topic.
+   *
+   * @param topicId the ID of the topic
+   * @param message the message
+   * @return a future that completes once the topic message that contains the message has reached
+   *     consensus or completes exceptionally with a {@link HieroException} if it could not be
+   *     submitted
+   * @throws IllegalArgumentException if the message is too large to fit in a topic message
+   * @throws IllegalStateException if the publisher has been closed
+   */
+  @NonNull CompletableFuture<Void> publish(@NonNull TopicId topicId, @NonNull byte[] message);
+
+  /**
+   * Publish a message to the given topic. The message is encoded as UTF-8.
+   *
+   * @param topicId the ID of the topic
+   * @param message the message
+   * @return a future that completes once the topic message that contains the message has reached
+   *     consensus
+   * @see #publish(TopicId, byte[])
+   */
+  @NonNull
+  default CompletableFuture<Void> publish(@NonNull TopicId topicId, @NonNull String message) {
+    Objects.requireNonNull(message, "message must not be null");
+    return publish(topicId, message.getBytes(StandardCharsets.UTF_8));
+  }
+
+  /** Submit all buffered messages without waiting for the linger time. */
+  void flush();
+
+  /**
+   * Submit all buffered messages and stop the publisher. Messages that are published after the
+   * publisher has been closed are rejected.
+   */
+  @Override
+  void close();
+}
@@ -0,0 +1,63 @@
+package com.openelements.hiero.base;
+
+import com.hedera.hashgraph.sdk.TopicId;
+import com.hedera.hashgraph.sdk.TopicMessage;
+import java.time.Instant;
+import java.util.concurrent.Flow;
+import org.jspecify.annotations.NonNull;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * A subscription to the messages of a topic. The connection to the mirror node is opened once a
+ * subscriber subscribes and only one subscriber is supported. Received messages are buffered until
+ * the subscriber requests them. What happens once the buffer is full is defined by the {@link
+ * com.openelements.hiero.base.data.TopicOverflowPolicy} of the subscription.
+ *
+ * <p>If the connection to the mirror node fails, the subscription reconnects and resumes with the
+ * message after the last received consensus timestamp. The subscriber receives an error once the
+ * maximum number of reconnects is exceeded.
+ */
+public interface TopicSubscription extends Flow.Publisher<TopicMessage>, AutoCloseable {
+
+  /**
+   * Returns the ID of the topic.
+   *
+   * @return the ID of the topic
+   */
+  @NonNull TopicId topicId();
+
+  /**
+   * Returns the consensus timestamp of the last received message. A new subscription that starts
+   * after this timestamp continues where this subscription stopped.
+   *
+   * @return the consensus timestamp of the last received message or null if no message has been
+   *     received
+   */
+  @Nullable Instant lastConsensusTimestamp();
+
+  /**
+   * Returns the number of messages that have been dropped because the buffer was full.
+   *
+   * @return the number of dropped messages
+   */
+  long droppedMessages();
+
+  /**
+   * Checks if the subscription has been cancelled or has failed. A subscription that completed
+   * normally is not cancelled.
+   *
+   * @return true if the subscription has been cancelled or has failed
+   */
+  boolean isCancelled();
+
+  /**
+   * Cancels the subscription and closes the connection to the mirror node. Buffered messages are
+   * discarded and the subscriber does not receive any further signal.
+   */
+  void cancel();
+
+  @Override
+  default void close() {
+    cancel();
+  }
+}
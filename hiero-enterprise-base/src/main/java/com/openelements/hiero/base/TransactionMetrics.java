@@ -0,0 +1,67 @@
+package com.openelements.hiero.base;
+
+import com.hedera.hashgraph.sdk.Status;
+import com.openelements.hiero.base.data.PhaseLatency;
+import com.openelements.hiero.base.data.TransactionPhase;
+import com.openelements.hiero.base.protocol.data.TransactionType;
+import java.util.List;
+import org.jspecify.annotations.NonNull;
+
+/**
+ * Receives the latency of every phase of the transactions and queries that are executed by the
+ * protocol layer. Implementations are called on the threads that execute the transactions and must
+ * therefore be cheap and thread safe. Frameworks like Spring can provide an implementation that
+ * publishes the measurements to their metrics system.
+ */
+public interface TransactionMetrics {
+
+  /** Metrics that ignore all measurements. */
+  TransactionMetrics NOOP =
+      new TransactionMetrics() {
+        @Override
+        public void recordTransaction(
+            @NonNull TransactionPhase phase,
+            @NonNull TransactionType type,
+            @NonNull Status status,
+            long durationNanos) {}
+
+        @Override
+        public void recordQuery(
+            @NonNull String queryType, @NonNull Status status, long durationNanos) {}
+
+        @Override
+        public @NonNull List<PhaseLatency> getLatencies() {
+          return List.of();
+        }
+      };
+
+  /**
+   * Records the latency of a phase of a transaction.
+   *
+   * @param phase the phase
+   * @param type the transaction type
+   * @param status the status the phase ended with
+   * @param durationNanos the latency in nanoseconds
+   */
+  void recordTransaction(
+      @NonNull TransactionPhase phase,
+      @NonNull TransactionType type,
+      @NonNull Status status,
+      long durationNanos);
+
+  /**
+   * Records the latency of a query.
+   *
+   * @param queryType the simple class name of the query
+   * @param status the status the query ended with
+   * @param durationNanos the latency in nanoseconds
+   */
+  void recordQuery(@NonNull String queryType, @NonNull Status status, long durationNanos);
+
+  /**
+   * Returns the latency distributions of all measured phases.
+   *
+   * @return the latency distributions
+   */
+  @NonNull List<PhaseLatency> getLatencies();
+}
@@ -0,0 +1,66 @@
+package com.openelements.hiero.base;
+
+import com.hedera.hashgraph.sdk.Status;
+import com.openelements.hiero.base.data.TransactionRate;
+import com.openelements.hiero.base.protocol.data.TransactionType;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import org.jspecify.annotations.NonNull;
+
+/**
+ * Limits the rate of transactions that are sent to the network, with a separate limit for every
+ * transaction type. The limits adapt to the network: they shrink when the network throttles
+ * transactions and grow again while it does not.
+ */
+public interface TransactionRateLimiter {
+
+  /**
+   * Blocks until a transaction of the given type can be sent.
+   *
+   * @param type the transaction type
+   * @throws HieroException if the thread is interrupted while waiting
+   */
+  void acquire(@NonNull TransactionType type) throws HieroException;
+
+  /**
+   * Returns a future that completes once a transaction of the given type can be sent.
+   *
+   * @param type the transaction type
+   * @return the future
+   */
+  @NonNull CompletableFuture<Void> acquireAsync(@NonNull TransactionType type);
+
+  /**
+   * Takes a permit for a transaction of the given type if one is available without waiting.
+   *
+   * @param type the transaction type
+   * @return true if a permit was taken
+   */
+  boolean tryAcquire(@NonNull TransactionType type);
+
+  /**
+   * Reports the status that the network returned for a transaction of the given type. Throttle
+   * statuses shrink the rate of the type, {@link Status#SUCCESS} lets it grow and all other
+   * statuses leave it unchanged.
+   *
+   * @param type the transaction type
+   * @param status the status of the transaction
+   */
+  void recordStatus(@NonNull TransactionType type, @NonNull Status status);
+
+  /**
+   * Returns the current rate of a transaction type. A type that has not been used yet reports its
+   * initial rate.
+   *
+   * @param type the transaction type
+   * @return the rate
+   */
+  @NonNull TransactionRate getRate(@NonNull TransactionType type);
+
+  /**
+   * Returns the current rates of all transaction types that have been used.
+   *
+   * @return the rates
+   */
+  @NonNull List<TransactionRate> getRates();
+}
@@ -0,0 +1,14 @@
+package com.openelements.hiero.base.config;
+
+/** Defines the executor that runs the requests of every client of a {@link HieroConfig}. */
+public enum ClientExecutorType {
+
+  /** Every client creates the default executor of the SDK. */
+  SDK,
+
+  /** Every client gets its own pool with a fixed number of platform threads. */
+  PLATFORM,
+
+  /** Every client gets its own executor that starts a virtual thread for each task. */
+  VIRTUAL
+}
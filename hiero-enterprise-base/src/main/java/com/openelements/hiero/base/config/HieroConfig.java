@@ -2,14 +2,26 @@ package com.openelements.hiero.base.config;
 
 import com.hedera.hashgraph.sdk.AccountId;
 import com.hedera.hashgraph.sdk.Client;
+import com.openelements.hiero.base.ConsensusNodeSelector;
 import com.openelements.hiero.base.HieroContext;
+import com.openelements.hiero.base.OperatorPool;
+import com.openelements.hiero.base.TransactionRateLimiter;
 import com.openelements.hiero.base.data.Account;
+import com.openelements.hiero.base.implementation.ConsensusNodeSelectorImpl;
+import com.openelements.hiero.base.implementation.OperatorPoolImpl;
+import com.openelements.hiero.base.implementation.TransactionRateLimiterImpl;
 import java.time.Duration;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 import org.jspecify.annotations.NonNull;
 
 /** Hiero configuration for one network connection. */
@@ -22,6 +34,26 @@ public interface HieroConfig {
    */
   @NonNull Account getOperatorAccount();
 
+  /**
+   * Returns the operator accounts that pay for transactions in addition to the operator account.
+   *
+   * @return the additional operator accounts
+   */
+  @NonNull
+  default List<Account> getAdditionalOperatorAccounts() {
+    return List.of();
+  }
+
+  /**
+   * Returns the strategy that chooses the payer of a transaction from the operator accounts.
+   *
+   * @return the operator selection strategy
+   */
+  @NonNull
+  default OperatorSelectionStrategy getOperatorSelectionStrategy() {
+    return OperatorSelectionStrategy.ROUND_ROBIN;
+  }
+
   /**
    * Returns the network name.
    *
@@ -61,6 +93,68 @@ public interface HieroConfig {
     return Optional.empty();
   }
 
+  /**
+   * Returns the policy for retrying transactions that failed with a transient error. Transactions
+   * are not retried by default, like in a {@link HieroContext} that is not created by a config.
+   *
+   * @return the retry policy
+   */
+  @NonNull
+  default TransactionRetryPolicy getTransactionRetryPolicy() {
+    return TransactionRetryPolicy.NONE;
+  }
+
+  /**
+   * Returns the policy for limiting the rate of transactions per transaction type. Transactions are
+   * not limited by default.
+   *
+   * @return the rate limit policy or an empty optional if transactions should not be limited
+   */
+  @NonNull
+  default Optional<TransactionRateLimitPolicy> getTransactionRateLimitPolicy() {
+    return Optional.empty();
+  }
+
+  /**
+   * Returns whether the consensus nodes of new transactions are chosen by their latency and health.
+   * The nodes are chosen by the SDK by default.
+   *
+   * @return true if a {@link ConsensusNodeSelector} should be created
+   */
+  default boolean isNodeSelectionEnabled() {
+    return false;
+  }
+
+  /**
+   * Returns the number of clients that are created for the network. Every client has its own
+   * channels and executor.
+   *
+   * @return the number of clients
+   */
+  default int getClientPoolSize() {
+    return 1;
+  }
+
+  /**
+   * Returns the type of executor that every client of the pool gets.
+   *
+   * @return the executor type
+   */
+  @NonNull
+  default ClientExecutorType getClientExecutorType() {
+    return ClientExecutorType.SDK;
+  }
+
+  /**
+   * Returns the number of threads of every client executor if the executor type is {@link
+   * ClientExecutorType#PLATFORM}.
+   *
+   * @return the number of threads
+   */
+  default int getClientExecutorThreads() {
+    return Runtime.getRuntime().availableProcessors();
+  }
+
   /**
    * Creates a Hiero context. Calling this method multiple times will return a new instance each
    * time.
@@ -70,7 +164,28 @@ public interface HieroConfig {
   @NonNull
   default HieroContext createHieroContext() {
     final Account operatorAccount = getOperatorAccount();
-    final Client client = createClient();
+    final int clientPoolSize = getClientPoolSize();
+    if (clientPoolSize < 1) {
+      throw new IllegalArgumentException("clientPoolSize must be greater than 0");
+    }
+    final List<ExecutorService> executors = new ArrayList<>();
+    final List<Client> clients =
+        IntStream.range(0, clientPoolSize)
+            .mapToObj(
+                i ->
+                    createClientExecutor()
+                        .map(
+                            executor -> {
+                              executors.add(executor);
+                              return createClient(executor);
+                            })
+                        .orElseGet(this::createClient))
+            .toList();
+    final AtomicInteger nextClient = new AtomicInteger();
+    final Optional<ConsensusNodeSelector> nodeSelector = createNodeSelector();
+    final Optional<OperatorPool> operatorPool = createOperatorPool();
+    final TransactionRetryPolicy retryPolicy = getTransactionRetryPolicy();
+    final Optional<TransactionRateLimiter> rateLimiter = createRateLimiter();
     return new HieroContext() {
       @Override
       public @NonNull Account getOperatorAccount() {
@@ -79,7 +194,58 @@ public interface HieroConfig {
 
       @Override
       public @NonNull Client getClient() {
-        return client;
+        return clients.get(0);
+      }
+
+      @Override
+      public @NonNull List<Client> getClients() {
+        return clients;
+      }
+
+      @Override
+      public @NonNull Client nextClient() {
+        return clients.get(Math.floorMod(nextClient.getAndIncrement(), clients.size()));
+      }
+
+      @Override
+      public @NonNull Optional<ConsensusNodeSelector> getNodeSelector() {
+        return nodeSelector;
+      }
+
+      @Override
+      public @NonNull Optional<OperatorPool> getOperatorPool() {
+        return operatorPool;
+      }
+
+      @Override
+      public @NonNull TransactionRetryPolicy getTransactionRetryPolicy() {
+        return retryPolicy;
+      }
+
+      @Override
+      public @NonNull Optional<TransactionRateLimiter> getRateLimiter() {
+        return rateLimiter;
+      }
+
+      @Override
+      public void close() {
+        IllegalStateException failure = null;
+        for (final Client client : clients) {
+          try {
+            client.close();
+          } catch (final Exception e) {
+            if (failure == null) {
+              failure = new IllegalStateException("Failed to close client", e);
+            } else {
+              failure.addSuppressed(e);
+            }
+          }
+        }
+        // clients do not shut down executors that they have not created
+        executors.forEach(ExecutorService::shutdown);
+        if (failure != null) {
+          throw failure;
+        }
       }
     };
   }
@@ -93,18 +259,120 @@ public interface HieroConfig {
   @NonNull
   default Client createClient() {
     try {
-      final Map<String, AccountId> nodes =
-          getConsensusNodes().stream()
-              .collect(Collectors.toMap(n -> n.getAddress(), n -> n.getAccountId()));
-      final Client client = Client.forNetwork(nodes);
-      final List<String> mirrorNodeAddresses =
-          getMirrorNodeAddresses().stream().collect(Collectors.toList());
-      client.setMirrorNetwork(mirrorNodeAddresses);
-      client.setOperator(getOperatorAccount().accountId(), getOperatorAccount().privateKey());
-      getRequestTimeout().ifPresent(client::setRequestTimeout);
-      return client;
+      return configureClient(Client.forNetwork(getNetwork()));
+    } catch (final Exception e) {
+      throw new IllegalArgumentException("Can not create client for custom network", e);
+    }
+  }
+
+  /**
+   * Creates a new client for the network that runs its requests on the given executor. The client
+   * does not shut down the executor when it is closed. Calling this method multiple times will
+   * return a new instance each time.
+   *
+   * @param executor the executor of the client
+   * @return the client
+   */
+  @NonNull
+  default Client createClient(@NonNull final ExecutorService executor) {
+    Objects.requireNonNull(executor, "executor must not be null");
+    try {
+      return configureClient(Client.forNetwork(getNetwork(), executor));
     } catch (final Exception e) {
       throw new IllegalArgumentException("Can not create client for custom network", e);
     }
   }
+
+  /**
+   * Creates the executor for one client of the pool, based on {@link #getClientExecutorType()}.
+   * Calling this method multiple times will return a new instance each time.
+   *
+   * @return the executor or an empty optional if the client should create the default executor of
+   *     the SDK
+   */
+  @NonNull
+  default Optional<ExecutorService> createClientExecutor() {
+    return switch (getClientExecutorType()) {
+      case SDK -> Optional.empty();
+      case PLATFORM -> {
+        final int threads = getClientExecutorThreads();
+        if (threads < 1) {
+          throw new IllegalArgumentException("clientExecutorThreads must be greater than 0");
+        }
+        yield Optional.of(
+            Executors.newFixedThreadPool(
+                threads, Thread.ofPlatform().name("hiero-client-", 0).daemon().factory()));
+      }
+      case VIRTUAL ->
+          Optional.of(
+              Executors.newThreadPerTaskExecutor(
+                  Thread.ofVirtual().name("hiero-client-", 0).factory()));
+    };
+  }
+
+  @NonNull
+  private Map<String, AccountId> getNetwork() {
+    return getConsensusNodes().stream()
+        .collect(Collectors.toMap(n -> n.getAddress(), n -> n.getAccountId()));
+  }
+
+  @NonNull
+  private Client configureClient(@NonNull final Client client) throws Exception {
+    final List<String> mirrorNodeAddresses =
+        getMirrorNodeAddresses().stream().collect(Collectors.toList());
+    client.setMirrorNetwork(mirrorNodeAddresses);
+    client.setOperator(getOperatorAccount().accountId(), getOperatorAccount().privateKey());
+    getRequestTimeout().ifPresent(client::setRequestTimeout);
+    return client;
+  }
+
+  /**
+   * Creates the selector that chooses the consensus nodes for new transactions based on their
+   * latency and health, if {@link #isNodeSelectionEnabled()} is true. Calling this method multiple
+   * times will return a new instance each time.
+   *
+   * @return the node selector or an empty optional if node selection is disabled or no consensus
+   *     nodes are configured
+   */
+  @NonNull
+  default Optional<ConsensusNodeSelector> createNodeSelector() {
+    if (!isNodeSelectionEnabled() || getConsensusNodes().isEmpty()) {
+      return Optional.empty();
+    }
+    return Optional.of(new ConsensusNodeSelectorImpl(getConsensusNodes()));
+  }
+
+  /**
+   * Creates the pool of operator accounts that pay for transactions. The pool contains the operator
+   * account and all additional operator accounts. Calling this method multiple times will return a
+   * new instance each time.
+   *
+   * @return the operator pool or an empty optional if no additional operator accounts are
+   *     configured
+   */
+  @NonNull
+  default Optional<OperatorPool> createOperatorPool() {
+    final List<Account> additionalOperatorAccounts = getAdditionalOperatorAccounts();
+    if (additionalOperatorAccounts.isEmpty()) {
+      return Optional.empty();
+    }
+    final List<Account> operators = new ArrayList<>();
+    operators.add(getOperatorAccount());
+    additionalOperatorAccounts.stream()
+        .filter(account -> !account.accountId().equals(getOperatorAccount().accountId()))
+        .forEach(operators::add);
+    return Optional.of(new OperatorPoolImpl(operators, getOperatorSelectionStrategy()));
+  }
+
+  /**
+   * Creates the rate limiter that adapts the rate of transactions per transaction type to the
+   * throttles of the network, based on {@link #getTransactionRateLimitPolicy()}. Calling this
+   * method multiple times will return a new instance each time.
+   *
+   * @return the rate limiter or an empty optional if transactions should not be limited
+   */
+  @NonNull
+  default Optional<TransactionRateLimiter> createRateLimiter() {
+    return getTransactionRateLimitPolicy().map(TransactionRateLimiterImpl::new);
+  }
 }
@@ -0,0 +1,13 @@
+package com.openelements.hiero.base.config;
+
+/**
+ * Defines how an {@link com.openelements.hiero.base.OperatorPool} picks the payer of a transaction.
+ */
+public enum OperatorSelectionStrategy {
+
+  /** The operators are used one after another. */
+  ROUND_ROBIN,
+
+  /** The operator with the fewest transactions in flight is used. */
+  LEAST_LOADED
+}
@@ -0,0 +1,47 @@
+package com.openelements.hiero.base.config;
+
+/**
+ * Policy for limiting the rate of transactions per transaction type. The rate of a type starts at
+ * {@code initialRate}, grows by {@code increasePerSecond} for every second of traffic that is not
+ * throttled and is multiplied with {@code decreaseFactor} when the network throttles the type. The
+ * rate always stays between {@code minRate} and {@code maxRate}.
+ *
+ * @param initialRate the rate of a transaction type before the network throttled it
+ * @param minRate the minimum rate of a transaction type
+ * @param maxRate the maximum rate of a transaction type
+ * @param increasePerSecond the growth of the rate per second of traffic without throttling
+ * @param decreaseFactor the factor that is applied to the rate when the network throttles a
+ *     transaction
+ */
+public record TransactionRateLimitPolicy(
+    double initialRate,
+    double minRate,
+    double maxRate,
+    double increasePerSecond,
+    double decreaseFactor) {
+
+  /**
+   * Default policy: starts at 1000 transactions per second, stays between 1 and 10000, grows by 10
+   * per second and is halved on throttling.
+   */
+  public static final TransactionRateLimitPolicy DEFAULT =
+      new TransactionRateLimitPolicy(1_000, 1, 10_000, 10, 0.5);
+
+  public TransactionRateLimitPolicy {
+    if (!(minRate > 0)) {
+      throw new IllegalArgumentException("minRate must be greater than 0");
+    }
+    if (maxRate < minRate) {
+      throw new IllegalArgumentException("maxRate must not be less than minRate");
+    }
+    if (initialRate < minRate || initialRate > maxRate) {
+      throw new IllegalArgumentException("initialRate must be between minRate and maxRate");
+    }
+    if (increasePerSecond < 0) {
+      throw new IllegalArgumentException("increasePerSecond must not be negative");
+    }
+    if (!(decreaseFactor > 0 && decreaseFactor < 1)) {
+      throw new IllegalArgumentException("decreaseFactor must be between 0 and 1");
+    }
+  }
+}
@@ -0,0 +1,106 @@
+package com.openelements.hiero.base.config;
+
+import com.hedera.hashgraph.sdk.MaxAttemptsExceededException;
+import com.hedera.hashgraph.sdk.PrecheckStatusException;
+import com.hedera.hashgraph.sdk.Status;
+import java.time.Duration;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.TimeoutException;
+import org.jspecify.annotations.NonNull;
+
+/**
+ * Policy for retrying transactions that failed with a transient error. A retried transaction keeps
+ * its transaction ID, so the network deduplicates it if an earlier attempt reached consensus.
+ *
+ * @param maxAttempts the maximum number of attempts, including the first one
+ * @param initialBackoff the time to wait before the second attempt
+ * @param maxBackoff the maximum time to wait between two attempts
+ */
+public record TransactionRetryPolicy(
+    int maxAttempts, @NonNull Duration initialBackoff, @NonNull Duration maxBackoff) {
+
+  /** Policy that does not retry transactions. */
+  public static final TransactionRetryPolicy NONE =
+      new TransactionRetryPolicy(1, Duration.ZERO, Duration.ZERO);
+
+  /** Default policy: 3 attempts with a backoff that starts at 250 ms and doubles up to 5 s. */
+  public static final TransactionRetryPolicy DEFAULT =
+      new TransactionRetryPolicy(3, Duration.ofMillis(250), Duration.ofSeconds(5));
+
+  private static final Set<Status> TRANSIENT_STATUSES =
+      Set.of(Status.BUSY, Status.PLATFORM_NOT_ACTIVE, Status.PLATFORM_TRANSACTION_NOT_CREATED);
+
+  public TransactionRetryPolicy {
+    Objects.requireNonNull(initialBackoff, "initialBackoff must not be null");
+    Objects.requireNonNull(maxBackoff, "maxBackoff must not be null");
+    if (maxAttempts < 1) {
+      throw new IllegalArgumentException("maxAttempts must be greater than 0");
+    }
+    if (initialBackoff.isNegative()) {
+      throw new IllegalArgumentException("initialBackoff must not be negative");
+    }
+    if (maxBackoff.compareTo(initialBackoff) < 0) {
+      throw new IllegalArgumentException("maxBackoff must not be less than initialBackoff");
+    }
+  }
+
+  /**
+   * Creates a retry policy.
+   *
+   * @param maxAttempts the maximum number of attempts, including the first one
+   * @param initialBackoff the time to wait before the second attempt
+   * @param maxBackoff the maximum time to wait between two attempts
+   * @return the retry policy
+   */
+  @NonNull
+  public static TransactionRetryPolicy of(
+      final int maxAttempts,
+      @NonNull final Duration initialBackoff,
+      @NonNull final Duration maxBackoff) {
+    return new TransactionRetryPolicy(maxAttempts, initialBackoff, maxBackoff);
+  }
+
+  /**
+   * Returns the time to wait after the given failed attempt. The backoff doubles with every attempt
+   * until it reaches {@link #maxBackoff()}.
+   *
+   * @param attempt the failed attempt, starting with 1
+   * @return the time to wait before the next attempt
+   */
+  @NonNull
+  public Duration backoff(final int attempt) {
+    if (attempt < 1) {
+      throw new IllegalArgumentException("attempt must be greater than 0");
+    }
+    final int shift = Math.min(attempt - 1, 30);
+    final long nanos = initialBackoff.toNanos();
+    if (nanos > (maxBackoff.toNanos() >> shift)) {
+      return maxBackoff;
+    }
+    return Duration.ofNanos(nanos << shift);
+  }
+
+  /**
+   * Checks if a failure is transient. Transient failures are caused by a busy or unreachable node
+   * and say nothing about the transaction itself, so the transaction can be submitted again.
+   *
+   * @param error the failure
+   * @return true if the failure is transient
+   */
+  public boolean isTransient(@NonNull final Throwable error) {
+    Objects.requireNonNull(error, "error must not be null");
+    Throwable current = error;
+    while (current != null) {
+      if (current instanceof PrecheckStatusException precheck
+          && TRANSIENT_STATUSES.contains(precheck.status)) {
+        return true;
+      }
+      if (current instanceof MaxAttemptsExceededException || current instanceof TimeoutException) {
+        return true;
+      }
+      current = current.getCause() == current ? null : current.getCause();
+    }
+    return false;
+  }
+}
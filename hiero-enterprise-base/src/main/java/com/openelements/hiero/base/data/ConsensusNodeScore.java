@@ -0,0 +1,43 @@
+package com.openelements.hiero.base.data;
+
+import com.hedera.hashgraph.sdk.AccountId;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Objects;
+import org.jspecify.annotations.NonNull;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Health of a consensus node as seen by the client.
+ *
+ * @param node the account ID of the node
+ * @param submitLatency the moving average of the time until the node accepted a transaction
+ * @param receiptLatency the moving average of the time between acceptance and receipt
+ * @param errorRate the moving average of the share of transactions that the node did not accept
+ *     because it was busy or unavailable, between 0 and 1
+ * @param score the score of the node, lower is better
+ * @param unavailableUntil the time until the node is out of rotation or null if it is in rotation
+ */
+public record ConsensusNodeScore(
+    @NonNull AccountId node,
+    @NonNull Duration submitLatency,
+    @NonNull Duration receiptLatency,
+    double errorRate,
+    double score,
+    @Nullable Instant unavailableUntil) {
+
+  public ConsensusNodeScore {
+    Objects.requireNonNull(node, "node must not be null");
+    Objects.requireNonNull(submitLatency, "submitLatency must not be null");
+    Objects.requireNonNull(receiptLatency, "receiptLatency must not be null");
+  }
+
+  /**
+   * Checks if the node is in rotation.
+   *
+   * @return true if new transactions can be sent to the node
+   */
+  public boolean isAvailable() {
+    return unavailableUntil == null;
+  }
+}
@@ -0,0 +1,12 @@
+package com.openelements.hiero.base.data;
+
+/**
+ * Snapshot of the metrics of the asynchronous delivery of transaction events to the {@link
+ * com.openelements.hiero.base.protocol.TransactionListener}s.
+ *
+ * @param capacity the number of events the buffer can hold
+ * @param queued the number of events that wait in the buffer
+ * @param dispatched the number of events that have been delivered to the listeners
+ * @param dropped the number of events that were dropped because the buffer was full
+ */
+public record ListenerDispatchMetrics(int capacity, int queued, long dispatched, long dropped) {}
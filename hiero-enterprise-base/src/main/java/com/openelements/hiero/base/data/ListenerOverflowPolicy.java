@@ -0,0 +1,20 @@
+package com.openelements.hiero.base.data;
+
+/**
+ * Defines what happens to a transaction event if the buffer of events that wait for the {@link
+ * com.openelements.hiero.base.protocol.TransactionListener}s is full.
+ */
+public enum ListenerOverflowPolicy {
+
+  /** The submitting thread waits until the buffer has a free slot. No event is lost. */
+  BLOCK,
+
+  /** The event is dropped and counted as dropped. */
+  DROP,
+
+  /**
+   * The event is delivered to the listeners on the submitting thread. No event is lost, but the
+   * event can overtake events that are still in the buffer.
+   */
+  CALLER_RUNS
+}
@@ -0,0 +1,110 @@
+package com.openelements.hiero.base.data;
+
+import com.hedera.hashgraph.sdk.TransactionId;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import org.jspecify.annotations.NonNull;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Stores the progress of a bulk mint of NFTs. A bulk mint splits its metadata into chunks and every
+ * chunk is minted by one transaction. The ID of that transaction is stored in the checkpoint before
+ * the transaction is sent, and the serials are stored once the chunk has been minted. If a bulk
+ * mint is restarted with the same metadata and checkpoint, all chunks that are already stored are
+ * skipped and their serials are reused. For a chunk that has only a transaction ID, the receipt of
+ * that transaction is checked before the chunk is minted again, so no NFT is minted twice.
+ *
+ * <p>Chunks are identified by their index. A resumed run must therefore use the same metadata in
+ * the same order. Implementations must be thread-safe since chunks are minted concurrently. A
+ * custom implementation can store the progress persistently (like in a database) to survive a
+ * restart of the application.
+ *
+ * @see com.openelements.hiero.base.NftClient#bulkMintNfts(com.hedera.hashgraph.sdk.TokenId,
+ *     com.hedera.hashgraph.sdk.PrivateKey, Iterable, NftMintCheckpoint)
+ */
+public interface NftMintCheckpoint {
+
+  /**
+   * Returns the serials of a chunk that has already been minted.
+   *
+   * @param chunkIndex the index of the chunk
+   * @return the serials of the chunk or null if the chunk has not been minted
+   */
+  @Nullable List<Long> getMintedSerials(int chunkIndex);
+
+  /**
+   * Called once a chunk has been minted.
+   *
+   * @param chunkIndex the index of the chunk
+   * @param serials the serials of the minted NFTs in the order of the metadata of the chunk
+   */
+  void chunkMinted(int chunkIndex, @NonNull List<Long> serials);
+
+  /**
+   * Returns the ID of the transaction that has been sent to mint a chunk whose outcome is not
+   * known.
+   *
+   * @param chunkIndex the index of the chunk
+   * @return the transaction ID or null if no transaction of the chunk is pending
+   */
+  @Nullable TransactionId getPendingTransactionId(int chunkIndex);
+
+  /**
+   * Called before the transaction that mints a chunk is sent.
+   *
+   * @param chunkIndex the index of the chunk
+   * @param transactionId the ID of the transaction
+   */
+  void chunkPending(int chunkIndex, @NonNull TransactionId transactionId);
+
+  /**
+   * Called if the pending transaction of a chunk has been handled by the network without minting
+   * the chunk. The chunk is minted by a new transaction on the next run.
+   *
+   * @param chunkIndex the index of the chunk
+   */
+  void chunkFailed(int chunkIndex);
+
+  /**
+   * Creates a checkpoint that stores the progress in memory. Such a checkpoint can be used to retry
+   * a failed bulk mint within the same application run.
+   *
+   * @return a new in-memory checkpoint
+   */
+  @NonNull
+  static NftMintCheckpoint inMemory() {
+    final Map<Integer, List<Long>> minted = new ConcurrentHashMap<>();
+    final Map<Integer, TransactionId> pending = new ConcurrentHashMap<>();
+    return new NftMintCheckpoint() {
+      @Override
+      public @Nullable List<Long> getMintedSerials(final int chunkIndex) {
+        return minted.get(chunkIndex);
+      }
+
+      @Override
+      public void chunkMinted(final int chunkIndex, @NonNull final List<Long> serials) {
+        Objects.requireNonNull(serials, "serials must not be null");
+        minted.put(chunkIndex, List.copyOf(serials));
+        pending.remove(chunkIndex);
+      }
+
+      @Override
+      public @Nullable TransactionId getPendingTransactionId(final int chunkIndex) {
+        return pending.get(chunkIndex);
+      }
+
+      @Override
+      public void chunkPending(final int chunkIndex, @NonNull final TransactionId transactionId) {
+        Objects.requireNonNull(transactionId, "transactionId must not be null");
+        pending.put(chunkIndex, transactionId);
+      }
+
+      @Override
+      public void chunkFailed(final int chunkIndex) {
+        pending.remove(chunkIndex);
+      }
+    };
+  }
+}
@@ -0,0 +1,50 @@
+package com.openelements.hiero.base.data;
+
+import com.hedera.hashgraph.sdk.AccountId;
+import com.hedera.hashgraph.sdk.NftId;
+import com.hedera.hashgraph.sdk.TokenId;
+import java.util.Objects;
+import org.jspecify.annotations.NonNull;
+
+/**
+ * Instruction to transfer a single NFT from a sender to a receiver.
+ *
+ * @param tokenId the ID of the NFT type
+ * @param serial the serial number of the NFT
+ * @param sender the account that holds the NFT and signs the transfer
+ * @param receiver the ID of the account that should receive the NFT
+ */
+public record NftTransferInstruction(
+    @NonNull TokenId tokenId, long serial, @NonNull Account sender, @NonNull AccountId receiver) {
+
+  public NftTransferInstruction {
+    Objects.requireNonNull(tokenId, "tokenId must not be null");
+    Objects.requireNonNull(sender, "sender must not be null");
+    Objects.requireNonNull(receiver, "receiver must not be null");
+    if (serial <= 0) {
+      throw new IllegalArgumentException("serial must be positive");
+    }
+    if (sender.accountId().equals(receiver)) {
+      throw new IllegalArgumentException("sender must not be the receiver");
+    }
+  }
+
+  /**
+   * Returns the ID of the NFT that is transferred.
+   *
+   * @return the ID of the NFT
+   */
+  @NonNull
+  public NftId nftId() {
+    return new NftId(tokenId, serial);
+  }
+
+  @NonNull
+  public static NftTransferInstruction of(
+      @NonNull final TokenId tokenId,
+      final long serial,
+      @NonNull final Account sender,
+      @NonNull final AccountId receiver) {
+    return new NftTransferInstruction(tokenId, serial, sender, receiver);
+  }
+}
@@ -0,0 +1,40 @@
+package com.openelements.hiero.base.data;
+
+import com.hedera.hashgraph.sdk.Status;
+import com.hedera.hashgraph.sdk.TransactionId;
+import com.openelements.hiero.base.HieroException;
+import java.util.Objects;
+import org.jspecify.annotations.NonNull;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Outcome of a single NFT transfer that was executed as part of a batch transfer.
+ *
+ * @param instruction the transfer instruction
+ * @param transactionId the ID of the transaction that contained the transfer or null if the
+ *     transaction was not submitted
+ * @param status the status of the transaction or null if no receipt was received
+ * @param error the error that occurred or null if the transfer was successful
+ */
+public record NftTransferOutcome(
+    @NonNull NftTransferInstruction instruction,
+    @Nullable TransactionId transactionId,
+    @Nullable Status status,
+    @Nullable HieroException error) {
+
+  public NftTransferOutcome {
+    Objects.requireNonNull(instruction, "instruction must not be null");
+    if (status == null && error == null) {
+      throw new IllegalArgumentException("either status or error must be provided");
+    }
+  }
+
+  /**
+   * Returns true if the NFT has been transferred to the receiver.
+   *
+   * @return true if the transfer was successful
+   */
+  public boolean isSuccess() {
+    return error == null && status == Status.SUCCESS;
+  }
+}
@@ -0,0 +1,25 @@
+package com.openelements.hiero.base.data;
+
+import com.hedera.hashgraph.sdk.AccountId;
+import com.hedera.hashgraph.sdk.Hbar;
+import java.util.Objects;
+import org.jspecify.annotations.NonNull;
+
+/**
+ * Usage of one operator account of an {@link com.openelements.hiero.base.OperatorPool}.
+ *
+ * @param accountId the ID of the operator account
+ * @param inFlight the number of transactions paid by the operator that have not completed yet
+ * @param submitted the number of transactions paid by the operator
+ * @param failed the number of transactions paid by the operator that failed
+ * @param fees the sum of the fees of the transactions paid by the operator whose record has been
+ *     received
+ */
+public record OperatorUsage(
+    @NonNull AccountId accountId, int inFlight, long submitted, long failed, @NonNull Hbar fees) {
+
+  public OperatorUsage {
+    Objects.requireNonNull(accountId, "accountId must not be null");
+    Objects.requireNonNull(fees, "fees must not be null");
+  }
+}
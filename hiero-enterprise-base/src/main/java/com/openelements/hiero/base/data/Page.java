@@ -1,6 +1,10 @@
 package com.openelements.hiero.base.data;
 
 import java.util.List;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 /**
  * This interface defines a page of data for an endpoint of service that supports pagination.
@@ -60,4 +64,52 @@ public interface Page<T> {
    * @return true if this page is the first page
    */
   boolean isFirst();
+
+  /**
+   * Returns an iterator over the elements of this page and all following pages. The next page is
+   * fetched in the background while the elements of the current page are consumed.
+   *
+   * @return the iterator, that must be closed if it is not consumed to the end
+   * @see #iterator(int)
+   */
+  default PageIterator<T> iterator() {
+    return iterator(1);
+  }
+
+  /**
+   * Returns an iterator over the elements of this page and all following pages.
+   *
+   * @param prefetch the number of pages that are fetched ahead in the background, 0 fetches every
+   *     page on demand
+   * @return the iterator, that must be closed if it is not consumed to the end
+   */
+  default PageIterator<T> iterator(final int prefetch) {
+    return new PageIterator<>(this, prefetch);
+  }
+
+  /**
+   * Returns a lazy stream of the elements of this page and all following pages. The next page is
+   * fetched in the background while the elements of the current page are consumed.
+   *
+   * @return the stream, that must be closed if it is not consumed to the end
+   * @see #stream(int)
+   */
+  default Stream<T> stream() {
+    return stream(1);
+  }
+
+  /**
+   * Returns a lazy stream of the elements of this page and all following pages. Closing the stream
+   * cancels all outstanding fetches.
+   *
+   * @param prefetch the number of pages that are fetched ahead in the background, 0 fetches every
+   *     page on demand
+   * @return the stream, that must be closed if it is not consumed to the end
+   */
+  default Stream<T> stream(final int prefetch) {
+    final PageIterator<T> iterator = iterator(prefetch);
+    return StreamSupport.stream(
+            Spliterators.spliteratorUnknownSize(iterator, Spliterator.ORDERED), false)
+        .onClose(iterator::close);
+  }
 }
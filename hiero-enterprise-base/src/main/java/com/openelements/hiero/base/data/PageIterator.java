@@ -0,0 +1,137 @@
+package com.openelements.hiero.base.data;
+
+import java.util.ArrayDeque;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import org.jspecify.annotations.NonNull;
+
+/**
+ * Iterator over the elements of a {@link Page} and all following pages. While the elements of a
+ * page are consumed, the next pages are fetched in the background, so walking a large result does
+ * not wait for a request after every page.
+ *
+ * <p>The iterator must be closed if it is not consumed to the end. Closing cancels all outstanding
+ * fetches. The iterator is not thread-safe.
+ *
+ * @param <T> the type of the elements
+ * @see Page#iterator(int)
+ */
+public final class PageIterator<T> implements Iterator<T>, AutoCloseable {
+
+  private final int prefetch;
+
+  private final Deque<CompletableFuture<Page<T>>> pending = new ArrayDeque<>();
+
+  private ExecutorService executor;
+
+  private CompletableFuture<Page<T>> tail;
+
+  private Page<T> page;
+
+  private Iterator<T> elements;
+
+  private boolean closed;
+
+  /**
+   * Creates an iterator that starts with the elements of the given page.
+   *
+   * @param first the page to start with
+   * @param prefetch the number of pages that are fetched ahead, 0 fetches every page on demand
+   */
+  public PageIterator(@NonNull final Page<T> first, final int prefetch) {
+    this.page = Objects.requireNonNull(first, "first must not be null");
+    if (prefetch < 0) {
+      throw new IllegalArgumentException("prefetch must not be negative");
+    }
+    this.prefetch = prefetch;
+    this.elements = first.getData().iterator();
+    this.tail = CompletableFuture.completedFuture(first);
+    fill();
+  }
+
+  @Override
+  public boolean hasNext() {
+    while (!closed && !elements.hasNext()) {
+      if (!page.hasNext()) {
+        close();
+        return false;
+      }
+      page = fetchNext();
+      elements = page.getData().iterator();
+      fill();
+    }
+    return !closed;
+  }
+
+  @Override
+  public T next() {
+    if (!hasNext()) {
+      throw new NoSuchElementException();
+    }
+    return elements.next();
+  }
+
+  /** Cancels all outstanding fetches. */
+  @Override
+  public void close() {
+    if (closed) {
+      return;
+    }
+    closed = true;
+    elements = Collections.emptyIterator();
+    pending.forEach(future -> future.cancel(true));
+    pending.clear();
+    if (executor != null) {
+      executor.shutdownNow();
+    }
+  }
+
+  private Page<T> fetchNext() {
+    if (prefetch == 0) {
+      return page.next();
+    }
+    try {
+      return pending.removeFirst().join();
+    } catch (final CompletionException e) {
+      close();
+      if (e.getCause() instanceof RuntimeException runtimeException) {
+        throw runtimeException;
+      }
+      if (e.getCause() instanceof Error error) {
+        throw error;
+      }
+      throw e;
+    }
+  }
+
+  /**
+   * Schedules fetches until {@link #prefetch} pages are fetched ahead or the last page is known.
+   */
+  private void fill() {
+    while (pending.size() < prefetch && (pending.isEmpty() ? page.hasNext() : mightHaveNext())) {
+      if (executor == null) {
+        executor =
+            Executors.newThreadPerTaskExecutor(
+                Thread.ofVirtual().name("hiero-page-prefetch-", 0).factory());
+      }
+      tail = tail.thenApplyAsync(p -> p != null && p.hasNext() ? p.next() : null, executor);
+      pending.addLast(tail);
+    }
+  }
+
+  /** Returns false if the last scheduled fetch is known to have returned the last page. */
+  private boolean mightHaveNext() {
+    if (!tail.isDone() || tail.isCompletedExceptionally()) {
+      return !tail.isDone();
+    }
+    final Page<T> last = tail.join();
+    return last != null && last.hasNext();
+  }
+}
@@ -0,0 +1,40 @@
+package com.openelements.hiero.base.data;
+
+import com.hedera.hashgraph.sdk.Status;
+import java.time.Duration;
+import java.util.Objects;
+import org.jspecify.annotations.NonNull;
+
+/**
+ * Snapshot of the latency distribution of one phase of one type of transaction or query.
+ *
+ * @param phase the phase
+ * @param type the name of the {@link com.openelements.hiero.base.protocol.data.TransactionType} for
+ *     transactions or the simple class name of the query
+ * @param status the status the phase ended with
+ * @param count the number of measurements
+ * @param p50 the median latency
+ * @param p90 the 90th percentile of the latency
+ * @param p99 the 99th percentile of the latency
+ * @param max the highest latency
+ */
+public record PhaseLatency(
+    @NonNull TransactionPhase phase,
+    @NonNull String type,
+    @NonNull Status status,
+    long count,
+    @NonNull Duration p50,
+    @NonNull Duration p90,
+    @NonNull Duration p99,
+    @NonNull Duration max) {
+
+  public PhaseLatency {
+    Objects.requireNonNull(phase, "phase must not be null");
+    Objects.requireNonNull(type, "type must not be null");
+    Objects.requireNonNull(status, "status must not be null");
+    Objects.requireNonNull(p50, "p50 must not be null");
+    Objects.requireNonNull(p90, "p90 must not be null");
+    Objects.requireNonNull(p99, "p99 must not be null");
+    Objects.requireNonNull(max, "max must not be null");
+  }
+}
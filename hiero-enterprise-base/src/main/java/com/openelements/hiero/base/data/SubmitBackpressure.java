@@ -0,0 +1,13 @@
+package com.openelements.hiero.base.data;
+
+/**
+ * Defines what happens when a message is submitted while the window of in-flight messages is full.
+ */
+public enum SubmitBackpressure {
+
+  /** The calling thread is blocked until a message of the window has reached consensus. */
+  BLOCK,
+
+  /** The returned future fails immediately and the message is not submitted. */
+  FAIL
+}
@@ -0,0 +1,43 @@
+package com.openelements.hiero.base.data;
+
+import com.hedera.hashgraph.sdk.AccountId;
+import com.hedera.hashgraph.sdk.Status;
+import com.hedera.hashgraph.sdk.TransactionId;
+import com.openelements.hiero.base.HieroException;
+import java.util.Objects;
+import org.jspecify.annotations.NonNull;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Outcome of a token transfer to a single receiver that was executed as part of a batch transfer.
+ *
+ * @param receiver the account that should receive the tokens
+ * @param amount the amount of tokens that should be transferred
+ * @param transactionId the ID of the transaction that contained the transfer or null if the
+ *     transaction was not submitted
+ * @param status the status of the transaction or null if no receipt was received
+ * @param error the error that occurred or null if the transfer was successful
+ */
+public record TokenTransferOutcome(
+    @NonNull AccountId receiver,
+    long amount,
+    @Nullable TransactionId transactionId,
+    @Nullable Status status,
+    @Nullable HieroException error) {
+
+  public TokenTransferOutcome {
+    Objects.requireNonNull(receiver, "receiver must not be null");
+    if (status == null && error == null) {
+      throw new IllegalArgumentException("either status or error must be provided");
+    }
+  }
+
+  /**
+   * Returns true if the tokens have been transferred to the receiver.
+   *
+   * @return true if the transfer was successful
+   */
+  public boolean isSuccess() {
+    return error == null && status == Status.SUCCESS;
+  }
+}
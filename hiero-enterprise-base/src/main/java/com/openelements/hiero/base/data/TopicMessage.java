@@ -2,11 +2,26 @@ package com.openelements.hiero.base.data;
 
 import com.hedera.hashgraph.sdk.AccountId;
 import com.hedera.hashgraph.sdk.TopicId;
+import java.nio.charset.StandardCharsets;
 import java.time.Instant;
 import java.util.Objects;
 import org.jspecify.annotations.NonNull;
 import org.jspecify.annotations.Nullable;
 
+/**
+ * Represents a message of a topic as returned by the mirror node.
+ *
+ * @param chunkInfo the chunk info, or {@code null} if the message was not split into chunks
+ * @param consensusTimestamp the consensus timestamp
+ * @param message the contents of the message decoded as UTF-8
+ * @param payerAccountId the payer account ID
+ * @param runningHash the running hash
+ * @param runningHashVersion the running hash version
+ * @param sequenceNumber the sequence number
+ * @param topicId the topic ID
+ * @param contents the raw contents of the message, which can be binary (see {@link
+ *     TopicMessageBatch#decode(TopicMessage)})
+ */
 public record TopicMessage(
     @Nullable ChunkInfo chunkInfo,
     @NonNull Instant consensusTimestamp,
@@ -15,11 +30,48 @@ public record TopicMessage(
     byte[] runningHash,
     int runningHashVersion,
     long sequenceNumber,
-    @NonNull TopicId topicId) {
+    @NonNull TopicId topicId,
+    @NonNull byte[] contents) {
   public TopicMessage {
     Objects.requireNonNull(consensusTimestamp, "consensusTimestamp must not be null");
     Objects.requireNonNull(message, "message must not be null");
     Objects.requireNonNull(payerAccountId, "payerAccountId must not be null");
     Objects.requireNonNull(topicId, "topicId must not be null");
+    Objects.requireNonNull(contents, "contents must not be null");
+  }
+
+  /**
+   * Creates a topic message whose raw contents are the UTF-8 bytes of the given message. This is
+   * the constructor of the original record shape without the raw contents.
+   *
+   * @param chunkInfo the chunk info
+   * @param consensusTimestamp the consensus timestamp
+   * @param message the message
+   * @param payerAccountId the payer account ID
+   * @param runningHash the running hash
+   * @param runningHashVersion the running hash version
+   * @param sequenceNumber the sequence number
+   * @param topicId the topic ID
+   */
+  public TopicMessage(
+      @Nullable ChunkInfo chunkInfo,
+      @NonNull Instant consensusTimestamp,
+      @NonNull String message,
+      @NonNull AccountId payerAccountId,
+      byte[] runningHash,
+      int runningHashVersion,
+      long sequenceNumber,
+      @NonNull TopicId topicId) {
+    this(
+        chunkInfo,
+        consensusTimestamp,
+        message,
+        payerAccountId,
+        runningHash,
+        runningHashVersion,
+        sequenceNumber,
+        topicId,
+        Objects.requireNonNull(message, "message must not be null")
+            .getBytes(StandardCharsets.UTF_8));
   }
 }
@@ -0,0 +1,162 @@
+package com.openelements.hiero.base.data;
+
+import com.openelements.hiero.base.protocol.data.TopicSubmitMessageRequest;
+import java.io.ByteArrayOutputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import org.jspecify.annotations.NonNull;
+
+/**
+ * Several application messages that are packed into a single topic message. The batch is encoded
+ * with a 2 byte header (a magic byte and the format version) followed by the messages. Every
+ * message is prefixed with its length, encoded as an unsigned varint.
+ *
+ * @param messages the messages of the batch
+ */
+public record TopicMessageBatch(@NonNull List<byte[]> messages) {
+
+  /** First byte of every encoded batch. */
+  public static final byte MAGIC = 0x48;
+
+  /** Version of the encoding. */
+  public static final byte VERSION = 0x01;
+
+  /** Number of bytes of the header of an encoded batch. */
+  public static final int HEADER_SIZE = 2;
+
+  /** Maximum number of bytes of an encoded batch, defined by the maximum topic message size. */
+  public static final int MAX_ENCODED_SIZE = TopicSubmitMessageRequest.MAX_MESSAGE_LENGTH;
+
+  public TopicMessageBatch {
+    Objects.requireNonNull(messages, "messages must not be null");
+    messages = List.copyOf(messages);
+  }
+
+  /**
+   * Returns the number of bytes of the encoded batch.
+   *
+   * @return the number of bytes of the encoded batch
+   */
+  public int encodedSize() {
+    return HEADER_SIZE + messages.stream().mapToInt(m -> encodedSize(m.length)).sum();
+  }
+
+  /**
+   * Encodes the batch.
+   *
+   * @return the encoded batch
+   */
+  @NonNull
+  public byte[] encode() {
+    final ByteArrayOutputStream out = new ByteArrayOutputStream(encodedSize());
+    out.write(MAGIC);
+    out.write(VERSION);
+    for (final byte[] message : messages) {
+      int length = message.length;
+      while ((length & ~0x7F) != 0) {
+        out.write((length & 0x7F) | 0x80);
+        length >>>= 7;
+      }
+      out.write(length);
+      out.writeBytes(message);
+    }
+    return out.toByteArray();
+  }
+
+  /**
+   * Returns the number of bytes that a message of the given length needs in an encoded batch,
+   * including its length prefix.
+   *
+   * @param messageLength the length of the message
+   * @return the number of bytes of the framed message
+   */
+  public static int encodedSize(final int messageLength) {
+    if (messageLength < 0) {
+      throw new IllegalArgumentException("messageLength must not be negative");
+    }
+    int prefix = 1;
+    int remaining = messageLength >>> 7;
+    while (remaining != 0) {
+      prefix++;
+      remaining >>>= 7;
+    }
+    return prefix + messageLength;
+  }
+
+  /**
+   * Checks if the given topic message contents start with the header of an encoded batch.
+   *
+   * @param contents the contents of a topic message
+   * @return true if the contents start with the header of an encoded batch
+   */
+  public static boolean isBatch(@NonNull final byte[] contents) {
+    Objects.requireNonNull(contents, "contents must not be null");
+    return contents.length >= HEADER_SIZE && contents[0] == MAGIC && contents[1] == VERSION;
+  }
+
+  /**
+   * Decodes the given topic message contents into the messages of the batch.
+   *
+   * @param contents the contents of a topic message
+   * @return the batch
+   * @throws IllegalArgumentException if the contents are not a valid encoded batch
+   */
+  @NonNull
+  public static TopicMessageBatch decode(@NonNull final byte[] contents) {
+    if (!isBatch(contents)) {
+      throw new IllegalArgumentException("contents are not an encoded topic message batch");
+    }
+    final List<byte[]> messages = new ArrayList<>();
+    int position = HEADER_SIZE;
+    while (position < contents.length) {
+      int length = 0;
+      int shift = 0;
+      byte current;
+      do {
+        if (position >= contents.length || shift > 28) {
+          throw new IllegalArgumentException("invalid length prefix at position " + position);
+        }
+        current = contents[position++];
+        length |= (current & 0x7F) << shift;
+        shift += 7;
+      } while ((current & 0x80) != 0);
+      if (length < 0 || length > contents.length - position) {
+        throw new IllegalArgumentException(
+            "message length " + length + " exceeds the remaining " + (contents.length - position));
+      }
+      final byte[] message = new byte[length];
+      System.arraycopy(contents, position, message, 0, length);
+      messages.add(message);
+      position += length;
+    }
+    return new TopicMessageBatch(messages);
+  }
+
+  /**
+   * Decodes the contents of the given topic message that was received from the mirror node.
+   *
+   * @param message the topic message
+   * @return the batch
+   * @throws IllegalArgumentException if the message does not contain a valid encoded batch
+   */
+  @NonNull
+  public static TopicMessageBatch decode(@NonNull final TopicMessage message) {
+    Objects.requireNonNull(message, "message must not be null");
+    return decode(message.contents());
+  }
+
+  /**
+   * Decodes the contents of the given topic message that was received from a topic subscription.
+   *
+   * @param message the topic message
+   * @return the batch
+   * @throws IllegalArgumentException if the message does not contain a valid encoded batch
+   */
+  @NonNull
+  public static TopicMessageBatch decode(
+      final com.hedera.hashgraph.sdk.@NonNull TopicMessage message) {
+    Objects.requireNonNull(message, "message must not be null");
+    return decode(message.contents);
+  }
+}
@@ -0,0 +1,23 @@
+package com.openelements.hiero.base.data;
+
+/**
+ * Defines what happens when a topic message is received while the buffer of a topic subscription is
+ * full because the subscriber has not requested more messages.
+ */
+public enum TopicOverflowPolicy {
+
+  /**
+   * The receiving thread is blocked until the subscriber requests more messages. This pushes the
+   * backpressure to the connection to the mirror node.
+   */
+  BLOCK,
+
+  /** The oldest buffered message is dropped to make room for the received message. */
+  DROP_OLDEST,
+
+  /** The received message is dropped. */
+  DROP_LATEST,
+
+  /** The subscription is cancelled and the subscriber receives an error. */
+  FAIL
+}
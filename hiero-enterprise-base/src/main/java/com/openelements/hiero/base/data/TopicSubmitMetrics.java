@@ -0,0 +1,44 @@
+package com.openelements.hiero.base.data;
+
+import java.time.Duration;
+import java.util.Objects;
+import org.jspecify.annotations.NonNull;
+
+/**
+ * Snapshot of the metrics of the windowed submission of topic messages.
+ *
+ * @param maxInFlight the maximum number of messages that can be in flight at the same time
+ * @param inFlight the number of messages that have been submitted but have not reached consensus
+ * @param waiting the number of callers that are blocked because the window is full
+ * @param submitted the number of messages that have been submitted
+ * @param succeeded the number of messages that have reached consensus
+ * @param failed the number of messages whose submission failed
+ * @param rejected the number of messages that were rejected because the window was full
+ * @param averageConsensusLatency the average time between submission and receipt of a message
+ * @param maxConsensusLatency the maximum time between submission and receipt of a message
+ */
+public record TopicSubmitMetrics(
+    int maxInFlight,
+    int inFlight,
+    int waiting,
+    long submitted,
+    long succeeded,
+    long failed,
+    long rejected,
+    @NonNull Duration averageConsensusLatency,
+    @NonNull Duration maxConsensusLatency) {
+
+  public TopicSubmitMetrics {
+    Objects.requireNonNull(averageConsensusLatency, "averageConsensusLatency must not be null");
+    Objects.requireNonNull(maxConsensusLatency, "maxConsensusLatency must not be null");
+  }
+
+  /**
+   * Returns the number of messages that are in flight or waiting for a free slot in the window.
+   *
+   * @return the queue depth
+   */
+  public int queueDepth() {
+    return inFlight + waiting;
+  }
+}
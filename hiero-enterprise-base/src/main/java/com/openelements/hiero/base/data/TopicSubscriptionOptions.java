@@ -0,0 +1,68 @@
+package com.openelements.hiero.base.data;
+
+import java.time.Instant;
+import java.util.Objects;
+import org.jspecify.annotations.NonNull;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Options of a topic subscription.
+ *
+ * @param startTime the consensus timestamp of the first message to receive or null to start with
+ *     the next message
+ * @param endTime the consensus timestamp after which the subscription completes or null to never
+ *     complete
+ * @param bufferSize the maximum number of received messages that are buffered until the subscriber
+ *     requests them
+ * @param overflowPolicy defines what happens if a message is received while the buffer is full
+ * @param maxReconnects the maximum number of consecutive reconnects after the connection to the
+ *     mirror node failed
+ */
+public record TopicSubscriptionOptions(
+    @Nullable Instant startTime,
+    @Nullable Instant endTime,
+    int bufferSize,
+    @NonNull TopicOverflowPolicy overflowPolicy,
+    int maxReconnects) {
+
+  /** Default size of the buffer of a subscription. */
+  public static final int DEFAULT_BUFFER_SIZE = 256;
+
+  /** Default number of consecutive reconnects of a subscription. */
+  public static final int DEFAULT_MAX_RECONNECTS = 3;
+
+  public TopicSubscriptionOptions {
+    Objects.requireNonNull(overflowPolicy, "overflowPolicy must not be null");
+    if (bufferSize < 1) {
+      throw new IllegalArgumentException("bufferSize must be greater than 0");
+    }
+    if (maxReconnects < 0) {
+      throw new IllegalArgumentException("maxReconnects must not be negative");
+    }
+    if (startTime != null && endTime != null && endTime.isBefore(startTime)) {
+      throw new IllegalArgumentException("endTime must not be before startTime");
+    }
+  }
+
+  @NonNull
+  public static TopicSubscriptionOptions of() {
+    return of(DEFAULT_BUFFER_SIZE, TopicOverflowPolicy.BLOCK);
+  }
+
+  @NonNull
+  public static TopicSubscriptionOptions of(
+      final int bufferSize, @NonNull final TopicOverflowPolicy overflowPolicy) {
+    return new TopicSubscriptionOptions(
+        null, null, bufferSize, overflowPolicy, DEFAULT_MAX_RECONNECTS);
+  }
+
+  @NonNull
+  public static TopicSubscriptionOptions of(
+      @NonNull final Instant startTime,
+      final int bufferSize,
+      @NonNull final TopicOverflowPolicy overflowPolicy) {
+    Objects.requireNonNull(startTime, "startTime must not be null");
+    return new TopicSubscriptionOptions(
+        startTime, null, bufferSize, overflowPolicy, DEFAULT_MAX_RECONNECTS);
+  }
+}
@@ -0,0 +1,20 @@
+package com.openelements.hiero.base.data;
+
+/**
+ * The phases of a call to the network that are measured by {@link
+ * com.openelements.hiero.base.TransactionMetrics}.
+ */
+public enum TransactionPhase {
+
+  /** Sending a transaction to a node until the node accepted or rejected it. */
+  SUBMIT,
+
+  /** Waiting for the receipt of a transaction that has been accepted by a node. */
+  RECEIPT,
+
+  /** Fetching the record of a transaction that has reached consensus. */
+  RECORD,
+
+  /** Executing a query. */
+  QUERY
+}
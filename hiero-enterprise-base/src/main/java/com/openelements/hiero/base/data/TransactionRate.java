@@ -0,0 +1,25 @@
+package com.openelements.hiero.base.data;
+
+import com.openelements.hiero.base.protocol.data.TransactionType;
+import java.util.Objects;
+import org.jspecify.annotations.NonNull;
+
+/**
+ * Snapshot of the rate limit of one transaction type.
+ *
+ * @param type the transaction type
+ * @param permitsPerSecond the current number of transactions per second that are allowed
+ * @param availablePermits the number of transactions that can be sent without waiting, negative if
+ *     callers are waiting for permits
+ * @param throttled the number of transactions that were throttled by the network
+ */
+public record TransactionRate(
+    @NonNull TransactionType type,
+    double permitsPerSecond,
+    double availablePermits,
+    long throttled) {
+
+  public TransactionRate {
+    Objects.requireNonNull(type, "type must not be null");
+  }
+}
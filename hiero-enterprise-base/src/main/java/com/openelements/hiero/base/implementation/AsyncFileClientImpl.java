@@ -0,0 +1,195 @@
+package com.openelements.hiero.base.implementation;
+
+import static com.openelements.hiero.base.implementation.AsyncSupport.wrapFailure;
+
+import com.hedera.hashgraph.sdk.FileId;
+import com.openelements.hiero.base.AsyncFileClient;
+import com.openelements.hiero.base.HieroException;
+import com.openelements.hiero.base.protocol.ProtocolLayerClient;
+import com.openelements.hiero.base.protocol.data.FileAppendRequest;
+import com.openelements.hiero.base.protocol.data.FileContentsBufferResponse;
+import com.openelements.hiero.base.protocol.data.FileContentsRequest;
+import com.openelements.hiero.base.protocol.data.FileContentsResponse;
+import com.openelements.hiero.base.protocol.data.FileCreateRequest;
+import com.openelements.hiero.base.protocol.data.FileCreateResult;
+import com.openelements.hiero.base.protocol.data.FileDeleteRequest;
+import com.openelements.hiero.base.protocol.data.FileInfoRequest;
+import com.openelements.hiero.base.protocol.data.FileInfoResponse;
+import com.openelements.hiero.base.protocol.data.FileUpdateRequest;
+import java.nio.ByteBuffer;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import org.jspecify.annotations.NonNull;
+import org.jspecify.annotations.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+public class AsyncFileClientImpl implements AsyncFileClient {
+
+  private static final Logger log = LoggerFactory.getLogger(AsyncFileClientImpl.class);
+
+  private final ProtocolLayerClient protocolLayerClient;
+
+  public AsyncFileClientImpl(@NonNull final ProtocolLayerClient protocolLayerClient) {
+    this.protocolLayerClient =
+        Objects.requireNonNull(protocolLayerClient, "protocolLevelClient must not be null");
+  }
+
+  @Override
+  public @NonNull CompletableFuture<FileId> createFile(@NonNull final byte[] contents) {
+    return createFileImpl(contents, null);
+  }
+
+  @Override
+  public @NonNull CompletableFuture<FileId> createFile(
+      @NonNull final byte[] contents, @NonNull final Instant expirationTime) {
+    Objects.requireNonNull(expirationTime, "expirationTime must not be null");
+    return createFileImpl(contents, expirationTime);
+  }
+
+  private CompletableFuture<FileId> createFileImpl(
+      @NonNull final byte[] contents, @Nullable final Instant expirationTime) {
+    Objects.requireNonNull(contents, "contents must not be null");
+    if (contents.length > FileCreateRequest.FILE_MAX_SIZE) {
+      return CompletableFuture.failedFuture(
+          new HieroException(
+              "File contents must be less than " + FileCreateRequest.FILE_MAX_SIZE + " bytes"));
+    }
+    if (expirationTime != null && expirationTime.isBefore(Instant.now())) {
+      return CompletableFuture.failedFuture(
+          new IllegalArgumentException("Expiration time must be in the future"));
+    }
+    final int firstChunkSize = Math.min(contents.length, FileCreateRequest.FILE_CREATE_MAX_SIZE);
+    final byte[] start = Arrays.copyOf(contents, firstChunkSize);
+    final FileCreateRequest request;
+    if (expirationTime != null) {
+      request = FileCreateRequest.of(start, expirationTime);
+    } else {
+      request = FileCreateRequest.of(start);
+    }
+    return wrapFailure(
+        protocolLayerClient
+            .executeFileCreateTransactionAsync(request)
+            .thenApply(FileCreateResult::fileId)
+            .thenCompose(
+                fileId ->
+                    appendRemaining(fileId, contents, firstChunkSize).thenApply(v -> fileId)),
+        "Failed to create file");
+  }
+
+  @Override
+  public @NonNull CompletableFuture<byte[]> readFile(@NonNull final FileId fileId) {
+    Objects.requireNonNull(fileId, "fileId must not be null");
+    final FileContentsRequest request = FileContentsRequest.of(fileId);
+    return wrapFailure(
+        protocolLayerClient
+            .executeFileContentsQueryAsync(request)
+            .thenApply(FileContentsResponse::contents),
+        "Failed to read file with fileId " + fileId);
+  }
+
+  @Override
+  public @NonNull CompletableFuture<ByteBuffer> readFileAsByteBuffer(@NonNull final FileId fileId) {
+    Objects.requireNonNull(fileId, "fileId must not be null");
+    final FileContentsRequest request = FileContentsRequest.of(fileId);
+    return wrapFailure(
+        protocolLayerClient
+            .executeFileContentsBufferQueryAsync(request)
+            .thenApply(FileContentsBufferResponse::contents),
+        "Failed to read file with fileId " + fileId);
+  }
+
+  @Override
+  public @NonNull CompletableFuture<Void> deleteFile(@NonNull final FileId fileId) {
+    Objects.requireNonNull(fileId, "fileId must not be null");
+    final FileDeleteRequest request = FileDeleteRequest.of(fileId);
+    return wrapFailure(
+        protocolLayerClient.executeFileDeleteTransactionAsync(request).thenApply(r -> null),
+        "Failed to delete file with fileId " + fileId);
+  }
+
+  @Override
+  public @NonNull CompletableFuture<Void> updateFile(
+      @NonNull final FileId fileId, @NonNull final byte[] content) {
+    Objects.requireNonNull(fileId, "fileId must not be null");
+    Objects.requireNonNull(content, "content must not be null");
+    if (content.length > FileCreateRequest.FILE_MAX_SIZE) {
+      return CompletableFuture.failedFuture(
+          new HieroException(
+              "File contents must be less than " + FileCreateRequest.FILE_MAX_SIZE + " bytes"));
+    }
+    final int firstChunkSize = Math.min(content.length, FileCreateRequest.FILE_CREATE_MAX_SIZE);
+    final FileUpdateRequest request =
+        FileUpdateRequest.of(fileId, Arrays.copyOf(content, firstChunkSize));
+    return wrapFailure(
+        protocolLayerClient
+            .executeFileUpdateRequestTransactionAsync(request)
+            .thenCompose(r -> appendRemaining(fileId, content, firstChunkSize)),
+        "Failed to update file with fileId " + fileId);
+  }
+
+  @Override
+  public @NonNull CompletableFuture<Void> updateExpirationTime(
+      @NonNull final FileId fileId, @NonNull final Instant expirationTime) {
+    Objects.requireNonNull(fileId, "fileId must not be null");
+    Objects.requireNonNull(expirationTime, "expirationTime must not be null");
+    if (expirationTime.isBefore(Instant.now())) {
+      return CompletableFuture.failedFuture(
+          new IllegalArgumentException("Expiration time must be in the future"));
+    }
+    final FileUpdateRequest request = FileUpdateRequest.of(fileId, expirationTime);
+    return protocolLayerClient
+        .executeFileUpdateRequestTransactionAsync(request)
+        .thenApply(r -> null);
+  }
+
+  @Override
+  public @NonNull CompletableFuture<Boolean> isDeleted(@NonNull final FileId fileId) {
+    return getFileInfo(fileId).thenApply(FileInfoResponse::deleted);
+  }
+
+  @Override
+  public @NonNull CompletableFuture<Integer> getSize(@NonNull final FileId fileId) {
+    return getFileInfo(fileId).thenApply(FileInfoResponse::size);
+  }
+
+  @Override
+  public @NonNull CompletableFuture<Instant> getExpirationTime(@NonNull final FileId fileId) {
+    return getFileInfo(fileId).thenApply(FileInfoResponse::expirationTime);
+  }
+
+  @NonNull
+  private CompletableFuture<FileInfoResponse> getFileInfo(@NonNull final FileId fileId) {
+    Objects.requireNonNull(fileId, "fileId must not be null");
+    final FileInfoRequest request = FileInfoRequest.of(fileId);
+    return protocolLayerClient.executeFileInfoQueryAsync(request);
+  }
+
+  /**
+   * Appends the content starting at the given offset to the file. Appends must be handled by the
+   * network in order, so every append is only sent once the previous one has been handled.
+   */
+  @NonNull
+  private CompletableFuture<Void> appendRemaining(
+      @NonNull final FileId fileId, @NonNull final byte[] content, final int offset) {
+    if (offset >= content.length) {
+      return CompletableFuture.completedFuture(null);
+    }
+    if (log.isDebugEnabled() && offset == FileCreateRequest.FILE_CREATE_MAX_SIZE) {
+      final int appendCount =
+          Math.floorDiv(content.length - 1, FileCreateRequest.FILE_CREATE_MAX_SIZE);
+      log.debug(
+          "Content of size {} is to big for 1 transaction. Will append {} FileAppend transactions",
+          content.length,
+          appendCount);
+    }
+    final int end = Math.min(content.length, offset + FileCreateRequest.FILE_CREATE_MAX_SIZE);
+    final FileAppendRequest appendRequest =
+        FileAppendRequest.of(fileId, Arrays.copyOfRange(content, offset, end));
+    return protocolLayerClient
+        .executeFileAppendRequestTransactionAsync(appendRequest)
+        .thenCompose(r -> appendRemaining(fileId, content, end));
+  }
+}
@@ -0,0 +1,159 @@
+package com.openelements.hiero.base.implementation;
+
+import com.hedera.hashgraph.sdk.AccountId;
+import com.hedera.hashgraph.sdk.PrivateKey;
+import com.hedera.hashgraph.sdk.TokenId;
+import com.hedera.hashgraph.sdk.TokenType;
+import com.openelements.hiero.base.AsyncFungibleTokenClient;
+import com.openelements.hiero.base.data.Account;
+import com.openelements.hiero.base.data.TokenTransferOutcome;
+import com.openelements.hiero.base.protocol.ProtocolLayerClient;
+import com.openelements.hiero.base.protocol.data.TokenAssociateRequest;
+import com.openelements.hiero.base.protocol.data.TokenBurnRequest;
+import com.openelements.hiero.base.protocol.data.TokenBurnResult;
+import com.openelements.hiero.base.protocol.data.TokenCreateRequest;
+import com.openelements.hiero.base.protocol.data.TokenCreateResult;
+import com.openelements.hiero.base.protocol.data.TokenDissociateRequest;
+import com.openelements.hiero.base.protocol.data.TokenMintRequest;
+import com.openelements.hiero.base.protocol.data.TokenMintResult;
+import com.openelements.hiero.base.protocol.data.TokenTransferRequest;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import org.jspecify.annotations.NonNull;
+
+public class AsyncFungibleTokenClientImpl implements AsyncFungibleTokenClient {
+
+  private final ProtocolLayerClient client;
+
+  private final Account operationalAccount;
+
+  public AsyncFungibleTokenClientImpl(
+      @NonNull final ProtocolLayerClient client, @NonNull final Account operationalAccount) {
+    this.client = Objects.requireNonNull(client, "client must not be null");
+    this.operationalAccount =
+        Objects.requireNonNull(operationalAccount, "operationalAccount must not be null");
+  }
+
+  @Override
+  public @NonNull CompletableFuture<TokenId> createToken(
+      @NonNull final String name, @NonNull final String symbol) {
+    return createToken(
+        name,
+        symbol,
+        operationalAccount.accountId(),
+        operationalAccount.privateKey(),
+        operationalAccount.privateKey());
+  }
+
+  @Override
+  public @NonNull CompletableFuture<TokenId> createToken(
+      @NonNull final String name,
+      @NonNull final String symbol,
+      @NonNull final AccountId treasuryAccountId,
+      @NonNull final PrivateKey treasuryKey,
+      @NonNull final PrivateKey supplyKey) {
+    final TokenCreateRequest request =
+        TokenCreateRequest.of(
+            name, symbol, treasuryAccountId, treasuryKey, TokenType.FUNGIBLE_COMMON, supplyKey);
+    return client.executeTokenCreateTransactionAsync(request).thenApply(TokenCreateResult::tokenId);
+  }
+
+  @Override
+  public @NonNull CompletableFuture<Void> associateToken(
+      @NonNull final List<TokenId> tokenIds,
+      @NonNull final AccountId accountId,
+      @NonNull final PrivateKey accountKey) {
+    Objects.requireNonNull(tokenIds, "tokenIds must not be null");
+    Objects.requireNonNull(accountId, "accountId must not be null");
+    Objects.requireNonNull(accountKey, "accountKey must not be null");
+    if (tokenIds.isEmpty()) {
+      return CompletableFuture.failedFuture(
+          new IllegalArgumentException("tokenIds must not be empty"));
+    }
+    final TokenAssociateRequest request = TokenAssociateRequest.of(tokenIds, accountId, accountKey);
+    return client.executeTokenAssociateTransactionAsync(request).thenApply(r -> null);
+  }
+
+  @Override
+  public @NonNull CompletableFuture<Void> dissociateToken(
+      @NonNull final List<TokenId> tokenIds,
+      @NonNull final AccountId accountId,
+      @NonNull final PrivateKey accountKey) {
+    Objects.requireNonNull(tokenIds, "tokenIds must not be null");
+    Objects.requireNonNull(accountId, "accountId must not be null");
+    Objects.requireNonNull(accountKey, "accountKey must not be null");
+    if (tokenIds.isEmpty()) {
+      return CompletableFuture.failedFuture(
+          new IllegalArgumentException("tokenIds must not be empty"));
+    }
+    final TokenDissociateRequest request =
+        TokenDissociateRequest.of(tokenIds, accountId, accountKey);
+    return client.executeTokenDissociateTransactionAsync(request).thenApply(r -> null);
+  }
+
+  @Override
+  public @NonNull CompletableFuture<Long> mintToken(
+      @NonNull final TokenId tokenId, final long amount) {
+    return mintToken(tokenId, operationalAccount.privateKey(), amount);
+  }
+
+  @Override
+  public @NonNull CompletableFuture<Long> mintToken(
+      @NonNull final TokenId tokenId, @NonNull final PrivateKey supplyKey, final long amount) {
+    final TokenMintRequest request = TokenMintRequest.of(tokenId, supplyKey, amount);
+    return client.executeMintTokenTransactionAsync(request).thenApply(TokenMintResult::totalSupply);
+  }
+
+  @Override
+  public @NonNull CompletableFuture<Long> burnToken(
+      @NonNull final TokenId tokenId, final long amount) {
+    return burnToken(tokenId, amount, operationalAccount.privateKey());
+  }
+
+  @Override
+  public @NonNull CompletableFuture<Long> burnToken(
+      @NonNull final TokenId tokenId, final long amount, @NonNull final PrivateKey supplyKey) {
+    final TokenBurnRequest request = TokenBurnRequest.of(tokenId, supplyKey, amount);
+    return client.executeBurnTokenTransactionAsync(request).thenApply(TokenBurnResult::totalSupply);
+  }
+
+  @Override
+  public @NonNull CompletableFuture<Void> transferToken(
+      @NonNull final TokenId tokenId, @NonNull final AccountId toAccountId, final long amount) {
+    return transferToken(
+        tokenId,
+        operationalAccount.accountId(),
+        operationalAccount.privateKey(),
+        toAccountId,
+        amount);
+  }
+
+  @Override
+  public @NonNull CompletableFuture<Void> transferToken(
+      @NonNull final TokenId tokenId,
+      @NonNull final AccountId fromAccountId,
+      @NonNull final PrivateKey fromAccountKey,
+      @NonNull final AccountId toAccountId,
+      final long amount) {
+    final TokenTransferRequest request =
+        TokenTransferRequest.of(tokenId, fromAccountId, toAccountId, fromAccountKey, amount);
+    return client.executeTransferTransactionAsync(request).thenApply(r -> null);
+  }
+
+  @Override
+  public @NonNull CompletableFuture<Map<AccountId, TokenTransferOutcome>> transferTokens(
+      @NonNull final TokenId tokenId,
+      @NonNull final AccountId fromAccountId,
+      @NonNull final PrivateKey fromAccountKey,
+      @NonNull final Map<AccountId, Long> amounts) {
+    return TokenBatchTransfer.transfer(
+        client,
+        tokenId,
+        fromAccountId,
+        fromAccountKey,
+        amounts,
+        TokenBatchTransfer.DEFAULT_MAX_TRANSFERS_IN_FLIGHT);
+  }
+}
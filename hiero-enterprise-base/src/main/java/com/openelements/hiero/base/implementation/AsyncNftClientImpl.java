@@ -0,0 +1,166 @@
+package com.openelements.hiero.base.implementation;
+
+import com.hedera.hashgraph.sdk.AccountId;
+import com.hedera.hashgraph.sdk.PrivateKey;
+import com.hedera.hashgraph.sdk.TokenId;
+import com.hedera.hashgraph.sdk.TokenType;
+import com.openelements.hiero.base.AsyncNftClient;
+import com.openelements.hiero.base.data.Account;
+import com.openelements.hiero.base.data.NftMintCheckpoint;
+import com.openelements.hiero.base.data.NftTransferInstruction;
+import com.openelements.hiero.base.data.NftTransferOutcome;
+import com.openelements.hiero.base.protocol.ProtocolLayerClient;
+import com.openelements.hiero.base.protocol.data.TokenAssociateRequest;
+import com.openelements.hiero.base.protocol.data.TokenBurnRequest;
+import com.openelements.hiero.base.protocol.data.TokenCreateRequest;
+import com.openelements.hiero.base.protocol.data.TokenCreateResult;
+import com.openelements.hiero.base.protocol.data.TokenDissociateRequest;
+import com.openelements.hiero.base.protocol.data.TokenMintRequest;
+import com.openelements.hiero.base.protocol.data.TokenTransferRequest;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import org.jspecify.annotations.NonNull;
+
+public class AsyncNftClientImpl implements AsyncNftClient {
+
+  private final ProtocolLayerClient client;
+
+  private final Account operationalAccount;
+
+  public AsyncNftClientImpl(
+      @NonNull final ProtocolLayerClient client, @NonNull final Account operationalAccount) {
+    this.client = Objects.requireNonNull(client, "client must not be null");
+    this.operationalAccount =
+        Objects.requireNonNull(operationalAccount, "operationalAccount must not be null");
+  }
+
+  @Override
+  public @NonNull CompletableFuture<TokenId> createNftType(
+      @NonNull final String name, @NonNull final String symbol) {
+    return createNftType(name, symbol, operationalAccount.privateKey());
+  }
+
+  @Override
+  public @NonNull CompletableFuture<TokenId> createNftType(
+      @NonNull final String name,
+      @NonNull final String symbol,
+      @NonNull final PrivateKey supplierKey) {
+    return createNftType(
+        name, symbol, operationalAccount.accountId(), operationalAccount.privateKey(), supplierKey);
+  }
+
+  @Override
+  public @NonNull CompletableFuture<TokenId> createNftType(
+      @NonNull final String name,
+      @NonNull final String symbol,
+      @NonNull final AccountId treasuryAccountId,
+      @NonNull final PrivateKey treasuryKey,
+      @NonNull final PrivateKey supplierKey) {
+    final TokenCreateRequest request =
+        TokenCreateRequest.of(
+            name,
+            symbol,
+            treasuryAccountId,
+            treasuryKey,
+            TokenType.NON_FUNGIBLE_UNIQUE,
+            supplierKey);
+    return client.executeTokenCreateTransactionAsync(request).thenApply(TokenCreateResult::tokenId);
+  }
+
+  @Override
+  public @NonNull CompletableFuture<Void> associateNft(
+      @NonNull final List<TokenId> tokenIds,
+      @NonNull final AccountId accountId,
+      @NonNull final PrivateKey accountKey) {
+    Objects.requireNonNull(tokenIds, "tokenIds must not be null");
+    Objects.requireNonNull(accountId, "accountId must not be null");
+    Objects.requireNonNull(accountKey, "accountKey must not be null");
+    if (tokenIds.isEmpty()) {
+      return CompletableFuture.failedFuture(
+          new IllegalArgumentException("tokenIds must not be empty"));
+    }
+    final TokenAssociateRequest request = TokenAssociateRequest.of(tokenIds, accountId, accountKey);
+    return client.executeTokenAssociateTransactionAsync(request).thenApply(r -> null);
+  }
+
+  @Override
+  public @NonNull CompletableFuture<Void> dissociateNft(
+      @NonNull final List<TokenId> tokenIds,
+      @NonNull final AccountId accountId,
+      @NonNull final PrivateKey accountKey) {
+    Objects.requireNonNull(tokenIds, "tokenIds must not be null");
+    Objects.requireNonNull(accountId, "accountId must not be null");
+    Objects.requireNonNull(accountKey, "accountKey must not be null");
+    if (tokenIds.isEmpty()) {
+      return CompletableFuture.failedFuture(
+          new IllegalArgumentException("tokenIds must not be empty"));
+    }
+    final TokenDissociateRequest request =
+        TokenDissociateRequest.of(tokenIds, accountId, accountKey);
+    return client.executeTokenDissociateTransactionAsync(request).thenApply(r -> null);
+  }
+
+  @Override
+  public @NonNull CompletableFuture<List<Long>> mintNfts(
+      @NonNull final TokenId tokenId, @NonNull final byte[]... metadata) {
+    return mintNfts(tokenId, operationalAccount.privateKey(), metadata);
+  }
+
+  @Override
+  public @NonNull CompletableFuture<List<Long>> mintNfts(
+      @NonNull final TokenId tokenId,
+      @NonNull final PrivateKey supplyKey,
+      @NonNull final byte[]... metadata) {
+    final TokenMintRequest request = TokenMintRequest.of(tokenId, supplyKey, metadata);
+    return client
+        .executeMintTokenTransactionAsync(request)
+        .thenApply(result -> Collections.unmodifiableList(result.serials()));
+  }
+
+  @Override
+  public @NonNull CompletableFuture<List<Long>> bulkMintNfts(
+      @NonNull final TokenId tokenId,
+      @NonNull final PrivateKey supplyKey,
+      @NonNull final Iterable<byte[]> metadata,
+      @NonNull final NftMintCheckpoint checkpoint) {
+    return NftBulkMint.mint(
+        client, tokenId, supplyKey, metadata, checkpoint, NftBulkMint.DEFAULT_MAX_MINTS_IN_FLIGHT);
+  }
+
+  @Override
+  public @NonNull CompletableFuture<Void> burnNfts(
+      @NonNull final TokenId tokenId, @NonNull final Set<Long> serialNumbers) {
+    return burnNfts(tokenId, serialNumbers, operationalAccount.privateKey());
+  }
+
+  @Override
+  public @NonNull CompletableFuture<Void> burnNfts(
+      @NonNull final TokenId tokenId,
+      @NonNull final Set<Long> serialNumbers,
+      @NonNull final PrivateKey supplyKey) {
+    final TokenBurnRequest request = TokenBurnRequest.of(tokenId, serialNumbers, supplyKey);
+    return client.executeBurnTokenTransactionAsync(request).thenApply(r -> null);
+  }
+
+  @Override
+  public @NonNull CompletableFuture<Void> transferNfts(
+      @NonNull final TokenId tokenId,
+      @NonNull final List<Long> serialNumbers,
+      @NonNull final AccountId fromAccountId,
+      @NonNull final PrivateKey fromAccountKey,
+      @NonNull final AccountId toAccountId) {
+    final TokenTransferRequest request =
+        TokenTransferRequest.of(tokenId, serialNumbers, fromAccountId, toAccountId, fromAccountKey);
+    return client.executeTransferTransactionAsync(request).thenApply(r -> null);
+  }
+
+  @Override
+  public @NonNull CompletableFuture<List<NftTransferOutcome>> transferNfts(
+      @NonNull final List<NftTransferInstruction> transfers) {
+    return NftBatchTransfer.transfer(
+        client, transfers, NftBatchTransfer.DEFAULT_MAX_TRANSFERS_IN_FLIGHT);
+  }
+}
@@ -0,0 +1,81 @@
+package com.openelements.hiero.base.implementation;
+
+import static com.openelements.hiero.base.implementation.AsyncSupport.wrapFailure;
+
+import com.hedera.hashgraph.sdk.ContractId;
+import com.hedera.hashgraph.sdk.FileId;
+import com.openelements.hiero.base.AsyncFileClient;
+import com.openelements.hiero.base.AsyncSmartContractClient;
+import com.openelements.hiero.base.data.ContractCallResult;
+import com.openelements.hiero.base.data.ContractParam;
+import com.openelements.hiero.base.protocol.ProtocolLayerClient;
+import com.openelements.hiero.base.protocol.data.ContractCallRequest;
+import com.openelements.hiero.base.protocol.data.ContractCreateRequest;
+import com.openelements.hiero.base.protocol.data.ContractCreateResult;
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import org.jspecify.annotations.NonNull;
+import org.jspecify.annotations.Nullable;
+
+public class AsyncSmartContractClientImpl implements AsyncSmartContractClient {
+
+  private final ProtocolLayerClient protocolLayerClient;
+
+  private final AsyncFileClient fileClient;
+
+  public AsyncSmartContractClientImpl(
+      @NonNull final ProtocolLayerClient protocolLayerClient,
+      @NonNull final AsyncFileClient fileClient) {
+    this.protocolLayerClient =
+        Objects.requireNonNull(protocolLayerClient, "protocolLevelClient must not be null");
+    this.fileClient = Objects.requireNonNull(fileClient, "fileClient must not be null");
+  }
+
+  @Override
+  public @NonNull CompletableFuture<ContractId> createContract(
+      @NonNull final FileId fileId, @Nullable final ContractParam<?>... constructorParams) {
+    final ContractCreateRequest request;
+    if (constructorParams == null) {
+      request = ContractCreateRequest.of(fileId);
+    } else {
+      request = ContractCreateRequest.of(fileId, Arrays.asList(constructorParams));
+    }
+    return wrapFailure(
+        protocolLayerClient
+            .executeContractCreateTransactionAsync(request)
+            .thenApply(ContractCreateResult::contractId),
+        "Failed to create contract with fileId " + fileId);
+  }
+
+  @Override
+  public @NonNull CompletableFuture<ContractId> createContract(
+      @NonNull final byte[] contents, @Nullable final ContractParam<?>... constructorParams) {
+    final CompletableFuture<ContractId> future =
+        fileClient
+            .createFile(contents)
+            .thenCompose(
+                fileId ->
+                    createContract(fileId, constructorParams)
+                        .thenCompose(
+                            contractId ->
+                                fileClient.deleteFile(fileId).thenApply(v -> contractId)));
+    return wrapFailure(future, "Failed to create contract out of byte array");
+  }
+
+  @Override
+  public @NonNull CompletableFuture<ContractCallResult> callContractFunction(
+      @NonNull final ContractId contractId,
+      @NonNull final String functionName,
+      @Nullable final ContractParam<?>... params) {
+    final ContractCallRequest request = ContractCallRequest.of(contractId, functionName, params);
+    return wrapFailure(
+        protocolLayerClient
+            .executeContractCallTransactionAsync(request)
+            .thenApply(
+                result ->
+                    (ContractCallResult)
+                        new ContractCallResultImpl(result.contractFunctionResult())),
+        "Failed to call function '" + functionName + "' on contract with id " + contractId);
+  }
+}
@@ -0,0 +1,96 @@
+package com.openelements.hiero.base.implementation;
+
+import com.openelements.hiero.base.HieroException;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import org.jspecify.annotations.NonNull;
+
+/** Internal helpers for the {@link CompletableFuture} based clients. */
+final class AsyncSupport {
+
+  private AsyncSupport() {}
+
+  /**
+   * Creates a future based on a supplier that can throw a checked exception. Any exception thrown
+   * by the supplier results in an exceptionally completed future.
+   *
+   * @param supplier the supplier
+   * @return a completed future
+   * @param <T> the type of the result
+   */
+  @NonNull
+  static <T> CompletableFuture<T> supply(@NonNull final ThrowingSupplier<T> supplier) {
+    try {
+      return CompletableFuture.completedFuture(supplier.get());
+    } catch (final Exception e) {
+      return CompletableFuture.failedFuture(e);
+    }
+  }
+
+  /**
+   * Wraps any failure of the given future in a {@link HieroException} with the given message, the
+   * same way the blocking clients wrap exceptions.
+   *
+   * @param future the future
+   * @param message the message of the exception
+   * @return a future that completes with the result of the given future
+   * @param <T> the type of the result
+   */
+  @NonNull
+  static <T> CompletableFuture<T> wrapFailure(
+      @NonNull final CompletableFuture<T> future, @NonNull final String message) {
+    return future.handle(
+        (result, throwable) -> {
+          if (throwable != null) {
+            throw new CompletionException(new HieroException(message, unwrap(throwable)));
+          }
+          return result;
+        });
+  }
+
+  /**
+   * Waits for the given future and rethrows its failure as a {@link HieroException}. This is used
+   * to provide blocking methods on top of the asynchronous implementations.
+   *
+   * @param future the future
+   * @param message the message of the exception if the failure is not a {@link HieroException}
+   * @return the result of the future
+   * @param <T> the type of the result
+   * @throws HieroException if the future completed exceptionally
+   */
+  static <T> T join(@NonNull final CompletableFuture<T> future, @NonNull final String message)
+      throws HieroException {
+    try {
+      return future.join();
+    } catch (final CompletionException | CancellationException e) {
+      final Throwable cause = unwrap(e);
+      if (cause instanceof HieroException hieroException) {
+        throw hieroException;
+      }
+      throw new HieroException(message, cause);
+    }
+  }
+
+  /**
+   * Returns the root cause of an exception that has been wrapped by a {@link CompletableFuture}.
+   *
+   * @param throwable the exception
+   * @return the unwrapped exception
+   */
+  @NonNull
+  static Throwable unwrap(@NonNull final Throwable throwable) {
+    Throwable current = throwable;
+    while ((current instanceof CompletionException || current instanceof ExecutionException)
+        && current.getCause() != null) {
+      current = current.getCause();
+    }
+    return current;
+  }
+
+  @FunctionalInterface
+  interface ThrowingSupplier<T> {
+    T get() throws Exception;
+  }
+}
@@ -0,0 +1,101 @@
+package com.openelements.hiero.base.implementation;
+
+import com.hedera.hashgraph.sdk.PrivateKey;
+import com.hedera.hashgraph.sdk.TopicId;
+import com.openelements.hiero.base.AsyncTopicClient;
+import com.openelements.hiero.base.data.Account;
+import com.openelements.hiero.base.protocol.ProtocolLayerClient;
+import com.openelements.hiero.base.protocol.data.TopicCreateRequest;
+import com.openelements.hiero.base.protocol.data.TopicCreateResult;
+import com.openelements.hiero.base.protocol.data.TopicDeleteRequest;
+import com.openelements.hiero.base.protocol.data.TopicSubmitMessageRequest;
+import com.openelements.hiero.base.protocol.data.TopicUpdateRequest;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import org.jspecify.annotations.NonNull;
+import org.jspecify.annotations.Nullable;
+
+public class AsyncTopicClientImpl implements AsyncTopicClient {
+
+  private final ProtocolLayerClient client;
+
+  private final Account operationalAccount;
+
+  public AsyncTopicClientImpl(
+      @NonNull final ProtocolLayerClient client, @NonNull final Account operationalAccount) {
+    this.client = Objects.requireNonNull(client, "client must not be null");
+    this.operationalAccount =
+        Objects.requireNonNull(operationalAccount, "operationalAccount must not be null");
+  }
+
+  @Override
+  public @NonNull CompletableFuture<TopicId> createTopic() {
+    final TopicCreateRequest request = TopicCreateRequest.of(operationalAccount.privateKey());
+    return client.executeTopicCreateTransactionAsync(request).thenApply(TopicCreateResult::topicId);
+  }
+
+  @Override
+  public @NonNull CompletableFuture<TopicId> createTopic(
+      @NonNull final PrivateKey adminKey, @NonNull final String memo) {
+    Objects.requireNonNull(adminKey, "adminKey must not be null");
+    Objects.requireNonNull(memo, "memo must not be null");
+    final TopicCreateRequest request = TopicCreateRequest.of(adminKey, memo);
+    return client.executeTopicCreateTransactionAsync(request).thenApply(TopicCreateResult::topicId);
+  }
+
+  @Override
+  public @NonNull CompletableFuture<TopicId> createPrivateTopic(
+      @NonNull final PrivateKey adminKey,
+      @NonNull final PrivateKey submitKey,
+      @NonNull final String memo) {
+    Objects.requireNonNull(adminKey, "adminKey must not be null");
+    Objects.requireNonNull(submitKey, "submitKey must not be null");
+    Objects.requireNonNull(memo, "memo must not be null");
+    final TopicCreateRequest request = TopicCreateRequest.of(adminKey, submitKey, memo);
+    return client.executeTopicCreateTransactionAsync(request).thenApply(TopicCreateResult::topicId);
+  }
+
+  @Override
+  public @NonNull CompletableFuture<Void> updateTopic(
+      @NonNull final TopicId topicId,
+      @NonNull final PrivateKey adminKey,
+      @NonNull final String memo) {
+    Objects.requireNonNull(topicId, "topicId must not be null");
+    Objects.requireNonNull(adminKey, "adminKey must not be null");
+    Objects.requireNonNull(memo, "memo must not be null");
+    final TopicUpdateRequest request = TopicUpdateRequest.of(topicId, adminKey, memo);
+    return client.executeTopicUpdateTransactionAsync(request).thenApply(r -> null);
+  }
+
+  @Override
+  public @NonNull CompletableFuture<Void> deleteTopic(@NonNull final TopicId topicId) {
+    return deleteTopic(topicId, operationalAccount.privateKey());
+  }
+
+  @Override
+  public @NonNull CompletableFuture<Void> deleteTopic(
+      @NonNull final TopicId topicId, @NonNull final PrivateKey adminKey) {
+    Objects.requireNonNull(topicId, "topicId must not be null");
+    Objects.requireNonNull(adminKey, "adminKey must not be null");
+    final TopicDeleteRequest request = TopicDeleteRequest.of(adminKey, topicId);
+    return client.executeTopicDeleteTransactionAsync(request).thenApply(r -> null);
+  }
+
+  @Override
+  public @NonNull CompletableFuture<Void> submitMessage(
+      @NonNull final TopicId topicId, @NonNull final byte[] message) {
+    return submitMessage(topicId, null, message);
+  }
+
+  @Override
+  public @NonNull CompletableFuture<Void> submitMessage(
+      @NonNull final TopicId topicId,
+      @Nullable final PrivateKey submitKey,
+      @NonNull final byte[] message) {
+    Objects.requireNonNull(topicId, "topicId must not be null");
+    Objects.requireNonNull(message, "message must not be null");
+    final TopicSubmitMessageRequest request =
+        TopicSubmitMessageRequest.of(topicId, submitKey, message);
+    return client.executeTopicMessageSubmitTransactionAsync(request).thenApply(r -> null);
+  }
+}
@@ -0,0 +1,243 @@
+package com.openelements.hiero.base.implementation;
+
+import com.hedera.hashgraph.sdk.AccountId;
+import com.hedera.hashgraph.sdk.MaxAttemptsExceededException;
+import com.hedera.hashgraph.sdk.PrecheckStatusException;
+import com.hedera.hashgraph.sdk.Status;
+import com.openelements.hiero.base.ConsensusNodeSelector;
+import com.openelements.hiero.base.config.ConsensusNode;
+import com.openelements.hiero.base.data.ConsensusNodeScore;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.TimeoutException;
+import org.jspecify.annotations.NonNull;
+import org.jspecify.annotations.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Default implementation of {@link ConsensusNodeSelector}. For every node the selector tracks an
+ * exponentially weighted moving average (EWMA) of the submit latency, the receipt latency and the
+ * rate of failures that are caused by a busy or unavailable node. The score of a node is the sum of
+ * both latencies, multiplied by a penalty for the error rate, plus a fixed cost for the error rate.
+ * Nodes that have no samples yet have the best score, so every node is measured.
+ *
+ * <p>Every node has a circuit breaker. Once a node failed {@code failureThreshold} times in a row,
+ * it is taken out of rotation for {@code openDuration}. After that time it is used again; the next
+ * failure takes it out of rotation again while a success closes the circuit breaker.
+ */
+public class ConsensusNodeSelectorImpl implements ConsensusNodeSelector {
+
+  private static final Logger log = LoggerFactory.getLogger(ConsensusNodeSelectorImpl.class);
+
+  /** Default number of nodes that are returned by {@link #selectNodes()}. */
+  public static final int DEFAULT_MAX_NODES_PER_TRANSACTION = 3;
+
+  /** Default number of consecutive failures that take a node out of rotation. */
+  public static final int DEFAULT_FAILURE_THRESHOLD = 3;
+
+  /** Default time that a node is out of rotation. */
+  public static final Duration DEFAULT_OPEN_DURATION = Duration.ofSeconds(30);
+
+  private static final double ALPHA = 0.2;
+
+  private static final double ERROR_PENALTY = 10.0;
+
+  private static final double ERROR_COST_NANOS = Duration.ofSeconds(1).toNanos();
+
+  private static final Set<Status> NODE_FAILURE_STATUSES =
+      Set.of(Status.BUSY, Status.PLATFORM_NOT_ACTIVE, Status.PLATFORM_TRANSACTION_NOT_CREATED);
+
+  private final Map<AccountId, NodeState> nodes = new LinkedHashMap<>();
+
+  private final int maxNodesPerTransaction;
+
+  private final int failureThreshold;
+
+  private final Duration openDuration;
+
+  private final Clock clock;
+
+  public ConsensusNodeSelectorImpl(@NonNull final Collection<ConsensusNode> consensusNodes) {
+    this(
+        consensusNodes,
+        DEFAULT_MAX_NODES_PER_TRANSACTION,
+        DEFAULT_FAILURE_THRESHOLD,
+        DEFAULT_OPEN_DURATION,
+        Clock.systemUTC());
+  }
+
+  public ConsensusNodeSelectorImpl(
+      @NonNull final Collection<ConsensusNode> consensusNodes,
+      final int maxNodesPerTransaction,
+      final int failureThreshold,
+      @NonNull final Duration openDuration,
+      @NonNull final Clock clock) {
+    Objects.requireNonNull(consensusNodes, "consensusNodes must not be null");
+    this.openDuration = Objects.requireNonNull(openDuration, "openDuration must not be null");
+    this.clock = Objects.requireNonNull(clock, "clock must not be null");
+    if (consensusNodes.isEmpty()) {
+      throw new IllegalArgumentException("consensusNodes must not be empty");
+    }
+    if (maxNodesPerTransaction < 1) {
+      throw new IllegalArgumentException("maxNodesPerTransaction must be greater than 0");
+    }
+    if (failureThreshold < 1) {
+      throw new IllegalArgumentException("failureThreshold must be greater than 0");
+    }
+    this.maxNodesPerTransaction = maxNodesPerTransaction;
+    this.failureThreshold = failureThreshold;
+    consensusNodes.forEach(
+        node -> nodes.put(node.getAccountId(), new NodeState(node.getAccountId())));
+  }
+
+  @Override
+  public synchronized @NonNull List<AccountId> selectNodes() {
+    final Instant now = clock.instant();
+    final List<AccountId> available =
+        nodes.values().stream()
+            .filter(state -> state.isAvailable(now))
+            .sorted(Comparator.comparingDouble(NodeState::score))
+            .limit(maxNodesPerTransaction)
+            .map(state -> state.node)
+            .toList();
+    if (!available.isEmpty()) {
+      return available;
+    }
+    // all nodes are out of rotation, use the ones that will be back first
+    return nodes.values().stream()
+        .sorted(Comparator.comparing((NodeState state) -> state.openUntil))
+        .limit(maxNodesPerTransaction)
+        .map(state -> state.node)
+        .toList();
+  }
+
+  @Override
+  public synchronized void submitSucceeded(
+      @NonNull final AccountId node, @NonNull final Duration latency) {
+    Objects.requireNonNull(latency, "latency must not be null");
+    final NodeState state = nodes.get(Objects.requireNonNull(node, "node must not be null"));
+    if (state != null) {
+      state.submitLatencyNanos =
+          state.submitSamples++ == 0
+              ? latency.toNanos()
+              : average(state.submitLatencyNanos, latency.toNanos());
+      state.errorRate = average(state.errorRate, 0);
+      state.consecutiveFailures = 0;
+      state.openUntil = null;
+    }
+  }
+
+  @Override
+  public synchronized void receiptReceived(
+      @NonNull final AccountId node, @NonNull final Duration latency) {
+    Objects.requireNonNull(latency, "latency must not be null");
+    final NodeState state = nodes.get(Objects.requireNonNull(node, "node must not be null"));
+    if (state != null) {
+      state.receiptLatencyNanos =
+          state.receiptSamples++ == 0
+              ? latency.toNanos()
+              : average(state.receiptLatencyNanos, latency.toNanos());
+    }
+  }
+
+  @Override
+  public synchronized void submitFailed(
+      @NonNull final AccountId node, @NonNull final Throwable error) {
+    Objects.requireNonNull(error, "error must not be null");
+    final NodeState state = nodes.get(Objects.requireNonNull(node, "node must not be null"));
+    if (state == null || !isNodeFailure(error)) {
+      return;
+    }
+    state.errorRate = average(state.errorRate, 1);
+    state.consecutiveFailures++;
+    if (state.consecutiveFailures >= failureThreshold) {
+      state.openUntil = clock.instant().plus(openDuration);
+      log.debug(
+          "Taking node {} out of rotation until {} after {} failures",
+          node,
+          state.openUntil,
+          state.consecutiveFailures);
+    }
+  }
+
+  @Override
+  public synchronized @NonNull List<ConsensusNodeScore> getScores() {
+    final Instant now = clock.instant();
+    return nodes.values().stream()
+        .sorted(Comparator.comparingDouble(NodeState::score))
+        .map(
+            state ->
+                new ConsensusNodeScore(
+                    state.node,
+                    Duration.ofNanos((long) state.submitLatencyNanos),
+                    Duration.ofNanos((long) state.receiptLatencyNanos),
+                    state.errorRate,
+                    state.score(),
+                    state.isAvailable(now) ? null : state.openUntil))
+        .toList();
+  }
+
+  /**
+   * Checks if the error was caused by a node that is busy or not reachable. Other errors, like an
+   * invalid signature, say nothing about the health of the node.
+   */
+  private static boolean isNodeFailure(@NonNull final Throwable error) {
+    Throwable current = error;
+    while (current != null) {
+      if (current instanceof PrecheckStatusException precheck
+          && NODE_FAILURE_STATUSES.contains(precheck.status)) {
+        return true;
+      }
+      if (current instanceof MaxAttemptsExceededException || current instanceof TimeoutException) {
+        return true;
+      }
+      current = current.getCause() == current ? null : current.getCause();
+    }
+    return false;
+  }
+
+  private static double average(final double average, final double sample) {
+    return ALPHA * sample + (1 - ALPHA) * average;
+  }
+
+  private static final class NodeState {
+
+    private final AccountId node;
+
+    private long submitSamples;
+
+    private double submitLatencyNanos;
+
+    private long receiptSamples;
+
+    private double receiptLatencyNanos;
+
+    private double errorRate;
+
+    private int consecutiveFailures;
+
+    private @Nullable Instant openUntil;
+
+    private NodeState(@NonNull final AccountId node) {
+      this.node = node;
+    }
+
+    private boolean isAvailable(@NonNull final Instant now) {
+      return openUntil == null || !now.isBefore(openUntil);
+    }
+
+    private double score() {
+      return (submitLatencyNanos + receiptLatencyNanos) * (1 + ERROR_PENALTY * errorRate)
+          + ERROR_COST_NANOS * errorRate;
+    }
+  }
+}
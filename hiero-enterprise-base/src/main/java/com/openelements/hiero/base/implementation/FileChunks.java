@@ -0,0 +1,48 @@
+package com.openelements.hiero.base.implementation;
+
+import com.openelements.hiero.base.protocol.data.FileCreateRequest;
+import java.nio.ByteBuffer;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import org.jspecify.annotations.NonNull;
+
+/**
+ * Splits file contents into chunks of {@link FileCreateRequest#FILE_CREATE_MAX_SIZE} bytes. Every
+ * byte of the source is copied exactly once, into the chunk that contains it. Chunks are created
+ * lazily, so only the chunks that are currently processed need to be in memory.
+ */
+final class FileChunks {
+
+  private FileChunks() {}
+
+  /**
+   * Returns the chunks of the remaining bytes of the given buffer. The position of the given buffer
+   * is not modified.
+   *
+   * @param contents the contents
+   * @return the chunks
+   */
+  @NonNull
+  static Iterator<byte[]> of(@NonNull final ByteBuffer contents) {
+    Objects.requireNonNull(contents, "contents must not be null");
+    final ByteBuffer source = contents.duplicate();
+    return new Iterator<>() {
+      @Override
+      public boolean hasNext() {
+        return source.hasRemaining();
+      }
+
+      @Override
+      public byte[] next() {
+        if (!source.hasRemaining()) {
+          throw new NoSuchElementException();
+        }
+        final byte[] chunk =
+            new byte[Math.min(source.remaining(), FileCreateRequest.FILE_CREATE_MAX_SIZE)];
+        source.get(chunk);
+        return chunk;
+      }
+    };
+  }
+}
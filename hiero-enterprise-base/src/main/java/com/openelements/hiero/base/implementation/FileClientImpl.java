@@ -13,8 +13,17 @@ import com.openelements.hiero.base.protocol.data.FileDeleteRequest;
 import com.openelements.hiero.base.protocol.data.FileInfoRequest;
 import com.openelements.hiero.base.protocol.data.FileInfoResponse;
 import com.openelements.hiero.base.protocol.data.FileUpdateRequest;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
 import java.time.Instant;
-import java.util.Arrays;
+import java.util.Iterator;
 import java.util.Objects;
 import org.jspecify.annotations.NonNull;
 import org.jspecify.annotations.Nullable;
@@ -43,49 +52,129 @@ public class FileClientImpl implements FileClient {
     return createFileImpl(contents, expirationTime);
   }
 
+  @Override
+  public @NonNull FileId createFileFrom(@NonNull final ByteBuffer contents) throws HieroException {
+    return createFileImpl(contents, null);
+  }
+
+  @Override
+  public @NonNull FileId createFileFrom(@NonNull final Path path) throws HieroException {
+    return createFileImpl(map(path), null);
+  }
+
+  @Override
+  public @NonNull FileId createFileFrom(@NonNull final InputStream contents) throws HieroException {
+    Objects.requireNonNull(contents, "contents must not be null");
+    return createFileImpl(read(contents), null);
+  }
+
   private FileId createFileImpl(
       @NonNull final byte[] contents, @Nullable final Instant expirationTime)
       throws HieroException {
     Objects.requireNonNull(contents, "contents must not be null");
-    if (contents.length > FileCreateRequest.FILE_MAX_SIZE) {
+    return createFileImpl(ByteBuffer.wrap(contents), expirationTime);
+  }
+
+  private FileId createFileImpl(
+      @NonNull final ByteBuffer contents, @Nullable final Instant expirationTime)
+      throws HieroException {
+    Objects.requireNonNull(contents, "contents must not be null");
+    if (contents.remaining() > FileCreateRequest.FILE_MAX_SIZE) {
       throw new HieroException(
           "File contents must be less than " + FileCreateRequest.FILE_MAX_SIZE + " bytes");
     }
     if (expirationTime != null && expirationTime.isBefore(Instant.now())) {
       throw new IllegalArgumentException("Expiration time must be in the future");
     }
-    if (contents.length <= FileCreateRequest.FILE_CREATE_MAX_SIZE) {
-      final FileCreateRequest request;
-      if (expirationTime != null) {
-        request = FileCreateRequest.of(contents, expirationTime);
-      } else {
-        request = FileCreateRequest.of(contents);
-      }
-      final FileCreateResult result = protocolLayerClient.executeFileCreateTransaction(request);
-      return result.fileId();
+    if (log.isDebugEnabled() && contents.remaining() > FileCreateRequest.FILE_CREATE_MAX_SIZE) {
+      final int appendCount =
+          Math.floorDiv(contents.remaining() - 1, FileCreateRequest.FILE_CREATE_MAX_SIZE);
+      log.debug(
+          "Content of size {} is to big for 1 FileCreate transaction. Will append {} FileAppend transactions",
+          contents.remaining(),
+          appendCount);
+    }
+    return createFileImpl(FileChunks.of(contents), expirationTime);
+  }
+
+  private FileId createFileImpl(
+      @NonNull final Iterator<byte[]> chunks, @Nullable final Instant expirationTime)
+      throws HieroException {
+    final byte[] start = firstChunk(chunks);
+    final FileCreateRequest request;
+    if (expirationTime != null) {
+      request = FileCreateRequest.of(start, expirationTime);
     } else {
-      if (log.isDebugEnabled()) {
-        final int appendCount =
-            Math.floorDiv(contents.length, FileCreateRequest.FILE_CREATE_MAX_SIZE);
-        log.debug(
-            "Content of size {} is to big for 1 FileCreate transaction. Will append {} FileAppend transactions",
-            contents.length,
-            appendCount);
-      }
-      final byte[] start = Arrays.copyOf(contents, FileCreateRequest.FILE_CREATE_MAX_SIZE);
-      final FileCreateRequest request = FileCreateRequest.of(start);
-      final FileCreateResult result = protocolLayerClient.executeFileCreateTransaction(request);
-      final FileId fileId = result.fileId();
-      byte[] remaining =
-          Arrays.copyOfRange(contents, FileCreateRequest.FILE_CREATE_MAX_SIZE, contents.length);
-      while (remaining.length > 0) {
-        final int length = Math.min(remaining.length, FileCreateRequest.FILE_CREATE_MAX_SIZE);
-        final byte[] next = Arrays.copyOf(remaining, length);
-        final FileAppendRequest appendRequest = FileAppendRequest.of(fileId, next);
-        protocolLayerClient.executeFileAppendRequestTransaction(appendRequest);
-        remaining = Arrays.copyOfRange(remaining, length, remaining.length);
+      request = FileCreateRequest.of(start);
+    }
+    final FileCreateResult result = protocolLayerClient.executeFileCreateTransaction(request);
+    final FileId fileId = result.fileId();
+    appendChunks(fileId, chunks);
+    return fileId;
+  }
+
+  @NonNull
+  private static byte[] firstChunk(@NonNull final Iterator<byte[]> chunks) {
+    return chunks.hasNext() ? chunks.next() : new byte[0];
+  }
+
+  /**
+   * Appends the remaining chunks to the file. The appends are pipelined, so the next chunk is
+   * submitted once the previous one has been accepted by the network instead of waiting for its
+   * receipt.
+   */
+  private void appendChunks(@NonNull final FileId fileId, @NonNull final Iterator<byte[]> chunks)
+      throws HieroException {
+    if (!chunks.hasNext()) {
+      return;
+    }
+    final Iterable<FileAppendRequest> requests =
+        () ->
+            new Iterator<>() {
+              @Override
+              public boolean hasNext() {
+                return chunks.hasNext();
+              }
+
+              @Override
+              public FileAppendRequest next() {
+                return FileAppendRequest.of(fileId, chunks.next());
+              }
+            };
+    AsyncSupport.join(
+        protocolLayerClient.executeFileAppendRequestTransactionsAsync(requests),
+        "Failed to append contents to file " + fileId);
+  }
+
+  /**
+   * Reads the contents of a stream on the calling thread. At most one byte more than {@link
+   * FileCreateRequest#FILE_MAX_SIZE} is read, so too large contents are detected before any
+   * transaction is sent without reading the complete stream.
+   */
+  @NonNull
+  private static ByteBuffer read(@NonNull final InputStream contents) throws HieroException {
+    try {
+      return ByteBuffer.wrap(contents.readNBytes(FileCreateRequest.FILE_MAX_SIZE + 1));
+    } catch (final IOException e) {
+      throw new HieroException("Failed to read file contents", e);
+    }
+  }
+
+  /**
+   * Maps the file at the given path into memory, so that its contents are not copied to the heap.
+   */
+  @NonNull
+  private static ByteBuffer map(@NonNull final Path path) throws HieroException {
+    Objects.requireNonNull(path, "path must not be null");
+    try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+      final long size = channel.size();
+      if (size > FileCreateRequest.FILE_MAX_SIZE) {
+        throw new HieroException(
+            "File contents must be less than " + FileCreateRequest.FILE_MAX_SIZE + " bytes");
       }
-      return fileId;
+      return channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+    } catch (final IOException e) {
+      throw new HieroException("Failed to read file " + path, e);
     }
   }
 
@@ -102,6 +191,33 @@ public class FileClientImpl implements FileClient {
     }
   }
 
+  @Override
+  public void readFile(@NonNull final FileId fileId, @NonNull final OutputStream out)
+      throws HieroException {
+    Objects.requireNonNull(out, "out must not be null");
+    final ByteBuffer contents = readFileAsByteBuffer(fileId);
+    try {
+      final WritableByteChannel channel = Channels.newChannel(out);
+      while (contents.hasRemaining()) {
+        channel.write(contents);
+      }
+    } catch (final IOException e) {
+      throw new HieroException("Failed to write contents of file with fileId " + fileId, e);
+    }
+  }
+
+  @Override
+  public @NonNull ByteBuffer readFileAsByteBuffer(@NonNull final FileId fileId)
+      throws HieroException {
+    Objects.requireNonNull(fileId, "fileId must not be null");
+    try {
+      final FileContentsRequest request = FileContentsRequest.of(fileId);
+      return protocolLayerClient.executeFileContentsBufferQuery(request).contents();
+    } catch (Exception e) {
+      throw new HieroException("Failed to read file with fileId " + fileId, e);
+    }
+  }
+
   @Override
   public void deleteFile(@NonNull final FileId fileId) throws HieroException {
     Objects.requireNonNull(fileId, "fileId must not be null");
@@ -118,35 +234,54 @@ public class FileClientImpl implements FileClient {
       throws HieroException {
     Objects.requireNonNull(fileId, "fileId must not be null");
     Objects.requireNonNull(content, "content must not be null");
-    if (content.length > FileCreateRequest.FILE_MAX_SIZE) {
+    updateFileImpl(fileId, ByteBuffer.wrap(content));
+  }
+
+  @Override
+  public void updateFileFrom(@NonNull final FileId fileId, @NonNull final ByteBuffer content)
+      throws HieroException {
+    Objects.requireNonNull(fileId, "fileId must not be null");
+    updateFileImpl(fileId, content);
+  }
+
+  @Override
+  public void updateFileFrom(@NonNull final FileId fileId, @NonNull final Path path)
+      throws HieroException {
+    Objects.requireNonNull(fileId, "fileId must not be null");
+    updateFileImpl(fileId, map(path));
+  }
+
+  @Override
+  public void updateFileFrom(@NonNull final FileId fileId, @NonNull final InputStream content)
+      throws HieroException {
+    Objects.requireNonNull(fileId, "fileId must not be null");
+    Objects.requireNonNull(content, "content must not be null");
+    updateFileImpl(fileId, read(content));
+  }
+
+  private void updateFileImpl(@NonNull final FileId fileId, @NonNull final ByteBuffer content)
+      throws HieroException {
+    Objects.requireNonNull(content, "content must not be null");
+    if (content.remaining() > FileCreateRequest.FILE_MAX_SIZE) {
       throw new HieroException(
           "File contents must be less than " + FileCreateRequest.FILE_MAX_SIZE + " bytes");
     }
-    if (content.length <= FileCreateRequest.FILE_CREATE_MAX_SIZE) {
-      final FileUpdateRequest request = FileUpdateRequest.of(fileId, content);
-      protocolLayerClient.executeFileUpdateRequestTransaction(request);
-    } else {
-      if (log.isDebugEnabled()) {
-        final int appendCount =
-            Math.floorDiv(content.length, FileCreateRequest.FILE_CREATE_MAX_SIZE);
-        log.debug(
-            "Content of size {} is to big for 1 FileUpdate transaction. Will append {} FileAppend transactions",
-            content.length,
-            appendCount);
-      }
-      byte[] start = Arrays.copyOf(content, FileCreateRequest.FILE_CREATE_MAX_SIZE);
-      final FileUpdateRequest request = FileUpdateRequest.of(fileId, start);
-      protocolLayerClient.executeFileUpdateRequestTransaction(request);
-      byte[] remaining =
-          Arrays.copyOfRange(content, FileCreateRequest.FILE_CREATE_MAX_SIZE, content.length);
-      while (remaining.length > 0) {
-        final int length = Math.min(remaining.length, FileCreateRequest.FILE_CREATE_MAX_SIZE);
-        byte[] next = Arrays.copyOf(remaining, length);
-        final FileAppendRequest appendRequest = FileAppendRequest.of(fileId, next);
-        protocolLayerClient.executeFileAppendRequestTransaction(appendRequest);
-        remaining = Arrays.copyOfRange(remaining, length, remaining.length);
-      }
+    if (log.isDebugEnabled() && content.remaining() > FileCreateRequest.FILE_CREATE_MAX_SIZE) {
+      final int appendCount =
+          Math.floorDiv(content.remaining() - 1, FileCreateRequest.FILE_CREATE_MAX_SIZE);
+      log.debug(
+          "Content of size {} is to big for 1 FileUpdate transaction. Will append {} FileAppend transactions",
+          content.remaining(),
+          appendCount);
     }
+    updateFileImpl(fileId, FileChunks.of(content));
+  }
+
+  private void updateFileImpl(@NonNull final FileId fileId, @NonNull final Iterator<byte[]> chunks)
+      throws HieroException {
+    final FileUpdateRequest request = FileUpdateRequest.of(fileId, firstChunk(chunks));
+    protocolLayerClient.executeFileUpdateRequestTransaction(request);
+    appendChunks(fileId, chunks);
   }
 
   @Override
@@ -0,0 +1,121 @@
+package com.openelements.hiero.base.implementation;
+
+import com.hedera.hashgraph.sdk.Query;
+import com.hedera.hashgraph.sdk.Status;
+import com.hedera.hashgraph.sdk.Transaction;
+import com.hedera.hashgraph.sdk.TransactionId;
+import com.hedera.hashgraph.sdk.TransactionReceipt;
+import com.hedera.hashgraph.sdk.TransactionRecord;
+import com.hedera.hashgraph.sdk.TransactionResponse;
+import com.openelements.hiero.base.jfr.QueryEvent;
+import com.openelements.hiero.base.jfr.TransactionReceiptEvent;
+import com.openelements.hiero.base.jfr.TransactionRecordEvent;
+import com.openelements.hiero.base.jfr.TransactionSubmitEvent;
+import com.openelements.hiero.base.protocol.data.TransactionType;
+import jdk.jfr.Event;
+import org.jspecify.annotations.NonNull;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Fills and commits the JFR events of the protocol layer. The fields of an event are only computed
+ * if the event is enabled and exceeds its threshold, so a disabled event only costs the creation of
+ * the event object.
+ */
+final class FlightRecorderEvents {
+
+  private FlightRecorderEvents() {}
+
+  @NonNull
+  static <E extends Event> E begin(@NonNull final E event) {
+    event.begin();
+    return event;
+  }
+
+  static void commitSubmit(
+      @NonNull final TransactionSubmitEvent event,
+      @NonNull final Transaction<?> transaction,
+      @Nullable final TransactionResponse response,
+      @Nullable final Throwable error) {
+    event.end();
+    if (!event.shouldCommit()) {
+      return;
+    }
+    event.transactionType = TransactionType.from(transaction).name();
+    if (response != null) {
+      event.transactionId = response.transactionId.toString();
+      event.node = response.nodeId.toString();
+    } else {
+      event.transactionId = transactionIdOf(transaction);
+    }
+    event.status =
+        error == null ? Status.OK.name() : ProtocolLayerClientImpl.statusOf(error).name();
+    try {
+      event.transactionSize = transaction.toBytes().length;
+    } catch (final RuntimeException e) {
+      // the transaction was not frozen
+      event.transactionSize = -1;
+    }
+    event.commit();
+  }
+
+  static void commitReceipt(
+      @NonNull final TransactionReceiptEvent event,
+      @NonNull final TransactionType type,
+      @NonNull final TransactionId transactionId,
+      @Nullable final TransactionReceipt receipt,
+      @Nullable final Throwable error) {
+    event.end();
+    if (!event.shouldCommit()) {
+      return;
+    }
+    event.transactionType = type.name();
+    event.transactionId = transactionId.toString();
+    event.status =
+        receipt != null ? receipt.status.name() : ProtocolLayerClientImpl.statusOf(error).name();
+    event.commit();
+  }
+
+  static void commitRecord(
+      @NonNull final TransactionRecordEvent event,
+      @NonNull final Transaction<?> transaction,
+      @NonNull final TransactionId transactionId,
+      @Nullable final TransactionRecord record,
+      @Nullable final Throwable error) {
+    event.end();
+    if (!event.shouldCommit()) {
+      return;
+    }
+    event.transactionType = TransactionType.from(transaction).name();
+    event.transactionId = transactionId.toString();
+    if (record != null) {
+      event.status = record.receipt.status.name();
+      event.recordSize = record.toBytes().length;
+    } else {
+      event.status = ProtocolLayerClientImpl.statusOf(error).name();
+    }
+    event.commit();
+  }
+
+  static void commitQuery(
+      @NonNull final QueryEvent event,
+      @NonNull final Query<?, ?> query,
+      @Nullable final Throwable error) {
+    event.end();
+    if (!event.shouldCommit()) {
+      return;
+    }
+    event.queryType = query.getClass().getSimpleName();
+    event.status =
+        error == null ? Status.OK.name() : ProtocolLayerClientImpl.statusOf(error).name();
+    event.commit();
+  }
+
+  @Nullable
+  private static String transactionIdOf(@NonNull final Transaction<?> transaction) {
+    try {
+      return transaction.getTransactionId().toString();
+    } catch (final IllegalStateException e) {
+      return null;
+    }
+  }
+}
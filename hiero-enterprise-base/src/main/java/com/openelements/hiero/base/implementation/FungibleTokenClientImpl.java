@@ -7,6 +7,7 @@ import com.hedera.hashgraph.sdk.TokenType;
 import com.openelements.hiero.base.FungibleTokenClient;
 import com.openelements.hiero.base.HieroException;
 import com.openelements.hiero.base.data.Account;
+import com.openelements.hiero.base.data.TokenTransferOutcome;
 import com.openelements.hiero.base.protocol.ProtocolLayerClient;
 import com.openelements.hiero.base.protocol.data.TokenAssociateRequest;
 import com.openelements.hiero.base.protocol.data.TokenBurnRequest;
@@ -18,6 +19,7 @@ import com.openelements.hiero.base.protocol.data.TokenMintRequest;
 import com.openelements.hiero.base.protocol.data.TokenMintResult;
 import com.openelements.hiero.base.protocol.data.TokenTransferRequest;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import org.jspecify.annotations.NonNull;
 
@@ -164,4 +166,30 @@ public class FungibleTokenClientImpl implements FungibleTokenClient {
         TokenTransferRequest.of(tokenId, fromAccountId, toAccountId, fromAccountKey, amount);
     client.executeTransferTransaction(request);
   }
+
+  @Override
+  public @NonNull Map<AccountId, TokenTransferOutcome> transferTokens(
+      @NonNull final TokenId tokenId, @NonNull final Map<AccountId, Long> amounts)
+      throws HieroException {
+    return transferTokens(
+        tokenId, operationalAccount.accountId(), operationalAccount.privateKey(), amounts);
+  }
+
+  @Override
+  public @NonNull Map<AccountId, TokenTransferOutcome> transferTokens(
+      @NonNull final TokenId tokenId,
+      @NonNull final AccountId fromAccountId,
+      @NonNull final PrivateKey fromAccountKey,
+      @NonNull final Map<AccountId, Long> amounts)
+      throws HieroException {
+    return AsyncSupport.join(
+        TokenBatchTransfer.transfer(
+            client,
+            tokenId,
+            fromAccountId,
+            fromAccountKey,
+            amounts,
+            TokenBatchTransfer.DEFAULT_MAX_TRANSFERS_IN_FLIGHT),
+        "Failed to transfer token " + tokenId);
+  }
 }
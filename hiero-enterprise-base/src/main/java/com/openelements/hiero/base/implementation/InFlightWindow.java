@@ -0,0 +1,148 @@
+package com.openelements.hiero.base.implementation;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+import org.jspecify.annotations.NonNull;
+
+/**
+ * Runs asynchronous tasks for a list of inputs while never having more than a given number of tasks
+ * in flight. A new task is started as soon as a running one completes, so the window is kept full
+ * until all inputs have been processed. No thread is blocked while tasks are in flight.
+ *
+ * <p>The results are returned in the order of the inputs, independent of the order in which the
+ * tasks complete.
+ */
+final class InFlightWindow {
+
+  private InFlightWindow() {}
+
+  /**
+   * Runs the given task for all inputs.
+   *
+   * @param inputs the inputs
+   * @param maxInFlight the maximum number of tasks that are in flight at the same time
+   * @param task the task that is executed for each input
+   * @return a future that completes with the results in input order once all tasks have completed.
+   *     If any task fails the future completes exceptionally with the first failure, but only after
+   *     all other tasks have completed.
+   * @param <I> type of the inputs
+   * @param <O> type of the results
+   */
+  @NonNull
+  static <I, O> CompletableFuture<List<O>> submitAll(
+      @NonNull final List<I> inputs,
+      final int maxInFlight,
+      @NonNull final Function<I, CompletableFuture<O>> task) {
+    Objects.requireNonNull(inputs, "inputs must not be null");
+    Objects.requireNonNull(task, "task must not be null");
+    if (maxInFlight < 1) {
+      throw new IllegalArgumentException("maxInFlight must be greater than 0");
+    }
+    if (inputs.isEmpty()) {
+      return CompletableFuture.completedFuture(List.of());
+    }
+    return new Run<>(List.copyOf(inputs), task).start(Math.min(maxInFlight, inputs.size()));
+  }
+
+  private static final class Run<I, O> {
+
+    private final List<I> inputs;
+
+    private final Function<I, CompletableFuture<O>> task;
+
+    private final Object[] results;
+
+    private final AtomicInteger nextIndex = new AtomicInteger();
+
+    private final AtomicInteger runningLanes = new AtomicInteger();
+
+    private final AtomicReference<Throwable> firstFailure = new AtomicReference<>();
+
+    private final CompletableFuture<List<O>> result = new CompletableFuture<>();
+
+    private Run(
+        @NonNull final List<I> inputs, @NonNull final Function<I, CompletableFuture<O>> task) {
+      this.inputs = inputs;
+      this.task = task;
+      this.results = new Object[inputs.size()];
+    }
+
+    @NonNull
+    private CompletableFuture<List<O>> start(final int lanes) {
+      runningLanes.set(lanes);
+      for (int i = 0; i < lanes; i++) {
+        runLane();
+      }
+      return result;
+    }
+
+    /**
+     * Runs tasks one after another until a task does not complete synchronously. The lane is
+     * continued by the completion of that task. This keeps the stack flat for tasks that complete
+     * immediately.
+     */
+    private void runLane() {
+      while (true) {
+        final int index = nextIndex.getAndIncrement();
+        if (index >= inputs.size()) {
+          laneDone();
+          return;
+        }
+        final CompletableFuture<O> future = startTask(index);
+        if (future.isDone()) {
+          record(index, future);
+          continue;
+        }
+        future.whenComplete(
+            (r, t) -> {
+              record(index, future);
+              runLane();
+            });
+        return;
+      }
+    }
+
+    @NonNull
+    private CompletableFuture<O> startTask(final int index) {
+      try {
+        final CompletableFuture<O> future = task.apply(inputs.get(index));
+        if (future == null) {
+          return CompletableFuture.failedFuture(
+              new NullPointerException("task returned null future"));
+        }
+        return future;
+      } catch (final Exception e) {
+        return CompletableFuture.failedFuture(e);
+      }
+    }
+
+    private void record(final int index, @NonNull final CompletableFuture<O> future) {
+      try {
+        results[index] = future.join();
+      } catch (final Exception e) {
+        firstFailure.compareAndSet(null, AsyncSupport.unwrap(e));
+      }
+    }
+
+    @SuppressWarnings("unchecked")
+    private void laneDone() {
+      if (runningLanes.decrementAndGet() != 0) {
+        return;
+      }
+      final Throwable failure = firstFailure.get();
+      if (failure != null) {
+        result.completeExceptionally(failure);
+      } else {
+        result.complete(
+            (List<O>) Collections.unmodifiableList(new ArrayList<>(Arrays.asList(results))));
+      }
+    }
+  }
+}
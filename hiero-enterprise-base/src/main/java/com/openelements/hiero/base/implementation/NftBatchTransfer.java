@@ -0,0 +1,122 @@
+package com.openelements.hiero.base.implementation;
+
+import com.hedera.hashgraph.sdk.NftId;
+import com.openelements.hiero.base.HieroException;
+import com.openelements.hiero.base.data.NftTransferInstruction;
+import com.openelements.hiero.base.data.NftTransferOutcome;
+import com.openelements.hiero.base.protocol.ProtocolLayerClient;
+import com.openelements.hiero.base.protocol.data.NftBatchTransferRequest;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.IntStream;
+import org.jspecify.annotations.NonNull;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Transfers many NFTs by grouping the transfers into as few transfer transactions as possible.
+ * Every transaction contains up to {@link NftBatchTransferRequest#MAX_NFT_TRANSFERS} NFT transfers.
+ * The transfers are ordered by sender before they are grouped, so that the transfers of a sender
+ * end up in as few transactions as possible and every transaction needs as few signatures as
+ * possible. The transactions are executed concurrently within a bounded window.
+ */
+final class NftBatchTransfer {
+
+  private static final Logger log = LoggerFactory.getLogger(NftBatchTransfer.class);
+
+  /** Default number of transfer transactions that are in flight at the same time. */
+  static final int DEFAULT_MAX_TRANSFERS_IN_FLIGHT = 8;
+
+  private static final Comparator<NftTransferInstruction> PLAN_ORDER =
+      Comparator.<NftTransferInstruction, String>comparing(
+              transfer -> transfer.sender().accountId().toString())
+          .thenComparing(transfer -> transfer.tokenId().toString())
+          .thenComparingLong(NftTransferInstruction::serial);
+
+  private NftBatchTransfer() {}
+
+  @NonNull
+  static CompletableFuture<List<NftTransferOutcome>> transfer(
+      @NonNull final ProtocolLayerClient client,
+      @NonNull final List<NftTransferInstruction> transfers,
+      final int maxInFlight) {
+    Objects.requireNonNull(client, "client must not be null");
+    Objects.requireNonNull(transfers, "transfers must not be null");
+    final List<List<Integer>> plan = plan(transfers);
+    log.debug("Transferring {} NFTs in {} transactions", transfers.size(), plan.size());
+    final NftTransferOutcome[] outcomes = new NftTransferOutcome[transfers.size()];
+    return InFlightWindow.submitAll(
+            plan, maxInFlight, indices -> execute(client, transfers, indices, outcomes))
+        .thenApply(ignored -> List.of(outcomes));
+  }
+
+  @NonNull
+  private static CompletableFuture<Void> execute(
+      @NonNull final ProtocolLayerClient client,
+      @NonNull final List<NftTransferInstruction> transfers,
+      @NonNull final List<Integer> indices,
+      @NonNull final NftTransferOutcome[] outcomes) {
+    final NftBatchTransferRequest request =
+        NftBatchTransferRequest.of(indices.stream().map(transfers::get).toList());
+    return client
+        .executeNftBatchTransferTransactionAsync(request)
+        .handle(
+            (result, throwable) -> {
+              final HieroException error = throwable == null ? null : toHieroException(throwable);
+              if (error != null) {
+                log.debug("NFT batch transfer failed", error);
+              }
+              indices.forEach(
+                  index ->
+                      outcomes[index] =
+                          new NftTransferOutcome(
+                              transfers.get(index),
+                              result == null ? null : result.transactionId(),
+                              result == null ? null : result.status(),
+                              error));
+              return null;
+            });
+  }
+
+  @NonNull
+  private static HieroException toHieroException(@NonNull final Throwable throwable) {
+    final Throwable cause = AsyncSupport.unwrap(throwable);
+    if (cause instanceof HieroException hieroException) {
+      return hieroException;
+    }
+    return new HieroException("Failed to execute nft batch transfer transaction", cause);
+  }
+
+  /**
+   * Groups the transfers into transactions. Every group contains the indices of the transfers in
+   * the given list.
+   */
+  @NonNull
+  private static List<List<Integer>> plan(@NonNull final List<NftTransferInstruction> transfers) {
+    final Set<NftId> nftIds = new HashSet<>();
+    transfers.forEach(
+        transfer -> {
+          Objects.requireNonNull(transfer, "transfer must not be null");
+          if (!nftIds.add(transfer.nftId())) {
+            throw new IllegalArgumentException(
+                "NFT " + transfer.nftId() + " must not be transferred twice");
+          }
+        });
+    final Integer[] ordered = IntStream.range(0, transfers.size()).boxed().toArray(Integer[]::new);
+    Arrays.sort(ordered, Comparator.comparing(transfers::get, PLAN_ORDER));
+    final List<List<Integer>> groups = new ArrayList<>();
+    for (int start = 0;
+        start < ordered.length;
+        start += NftBatchTransferRequest.MAX_NFT_TRANSFERS) {
+      final int end = Math.min(start + NftBatchTransferRequest.MAX_NFT_TRANSFERS, ordered.length);
+      groups.add(List.of(Arrays.copyOfRange(ordered, start, end)));
+    }
+    return groups;
+  }
+}
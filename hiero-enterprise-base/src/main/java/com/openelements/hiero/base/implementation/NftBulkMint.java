@@ -0,0 +1,211 @@
+package com.openelements.hiero.base.implementation;
+
+import com.hedera.hashgraph.sdk.PrivateKey;
+import com.hedera.hashgraph.sdk.ReceiptStatusException;
+import com.hedera.hashgraph.sdk.Status;
+import com.hedera.hashgraph.sdk.TokenId;
+import com.hedera.hashgraph.sdk.TransactionId;
+import com.hedera.hashgraph.sdk.TransactionReceipt;
+import com.openelements.hiero.base.HieroException;
+import com.openelements.hiero.base.data.NftMintCheckpoint;
+import com.openelements.hiero.base.protocol.ProtocolLayerClient;
+import com.openelements.hiero.base.protocol.data.TokenMintRequest;
+import com.openelements.hiero.base.protocol.data.TransactionSubmission;
+import com.openelements.hiero.base.protocol.data.TransactionType;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.stream.IntStream;
+import org.jspecify.annotations.NonNull;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Mints a large number of NFTs by splitting the metadata into chunks of {@link
+ * TokenMintRequest#MAX_NFTS_PER_MINT} entries. The chunks are minted concurrently within a bounded
+ * window and the progress is stored in a {@link NftMintCheckpoint}. Every chunk is minted by a
+ * transaction whose ID is stored in the checkpoint before it is sent, so a resumed mint can check
+ * the receipt of that transaction instead of minting the chunk twice.
+ *
+ * <p>All metadata is read into memory before the first chunk is minted, since the chunks are
+ * identified by their index.
+ */
+final class NftBulkMint {
+
+  private static final Logger log = LoggerFactory.getLogger(NftBulkMint.class);
+
+  /** Default number of mint transactions that are in flight at the same time. */
+  static final int DEFAULT_MAX_MINTS_IN_FLIGHT = 8;
+
+  private NftBulkMint() {}
+
+  @NonNull
+  static CompletableFuture<List<Long>> mint(
+      @NonNull final ProtocolLayerClient client,
+      @NonNull final TokenId tokenId,
+      @NonNull final PrivateKey supplyKey,
+      @NonNull final Iterable<byte[]> metadata,
+      @NonNull final NftMintCheckpoint checkpoint,
+      final int maxInFlight) {
+    Objects.requireNonNull(client, "client must not be null");
+    Objects.requireNonNull(tokenId, "tokenId must not be null");
+    Objects.requireNonNull(supplyKey, "supplyKey must not be null");
+    Objects.requireNonNull(metadata, "metadata must not be null");
+    Objects.requireNonNull(checkpoint, "checkpoint must not be null");
+    final List<List<byte[]>> chunks = split(metadata);
+    log.debug("Minting NFTs of token {} in {} chunks", tokenId, chunks.size());
+    final List<Integer> chunkIndices = IntStream.range(0, chunks.size()).boxed().toList();
+    final CompletableFuture<List<List<Long>>> minted =
+        InFlightWindow.submitAll(
+            chunkIndices,
+            maxInFlight,
+            index -> mintChunk(client, tokenId, supplyKey, chunks.get(index), index, checkpoint));
+    return AsyncSupport.wrapFailure(
+            minted,
+            "Failed to mint NFTs of token "
+                + tokenId
+                + ". All minted chunks are stored in the checkpoint and are skipped on retry.")
+        .thenApply(NftBulkMint::flatten);
+  }
+
+  @NonNull
+  private static CompletableFuture<List<Long>> mintChunk(
+      @NonNull final ProtocolLayerClient client,
+      @NonNull final TokenId tokenId,
+      @NonNull final PrivateKey supplyKey,
+      @NonNull final List<byte[]> chunk,
+      final int chunkIndex,
+      @NonNull final NftMintCheckpoint checkpoint) {
+    final List<Long> alreadyMinted = checkpoint.getMintedSerials(chunkIndex);
+    if (alreadyMinted != null) {
+      if (alreadyMinted.size() != chunk.size()) {
+        return CompletableFuture.failedFuture(
+            new HieroException(
+                "Checkpoint of chunk "
+                    + chunkIndex
+                    + " contains "
+                    + alreadyMinted.size()
+                    + " serials but the chunk has "
+                    + chunk.size()
+                    + " metadata entries"));
+      }
+      log.debug("Chunk {} of token {} has already been minted", chunkIndex, tokenId);
+      return CompletableFuture.completedFuture(alreadyMinted);
+    }
+    final TokenMintRequest request =
+        TokenMintRequest.of(tokenId, supplyKey, chunk.toArray(new byte[0][]));
+    final TransactionId pendingId = checkpoint.getPendingTransactionId(chunkIndex);
+    if (pendingId == null) {
+      return mintWithNewTransaction(client, request, chunkIndex, checkpoint);
+    }
+    log.debug("Checking pending transaction '{}' of chunk {}", pendingId, chunkIndex);
+    return client
+        .collectReceipts(
+            List.of(
+                TransactionSubmission.submitted(
+                    request, pendingId, TransactionType.TOKEN_MINT, null)),
+            1)
+        .thenCompose(
+            outcomes -> {
+              final TransactionReceipt receipt = outcomes.getFirst().receipt();
+              if (receipt == null) {
+                // the network does not know the outcome, sending the transaction again is safe
+                // since a transaction that reached the network is rejected as a duplicate
+                return mintWithTransaction(client, request, pendingId, chunkIndex, checkpoint);
+              }
+              if (receipt.status == Status.SUCCESS) {
+                log.debug("Pending transaction '{}' has minted chunk {}", pendingId, chunkIndex);
+                checkpoint.chunkMinted(chunkIndex, receipt.serials);
+                return CompletableFuture.completedFuture(receipt.serials);
+              }
+              checkpoint.chunkFailed(chunkIndex);
+              return mintWithNewTransaction(client, request, chunkIndex, checkpoint);
+            });
+  }
+
+  @NonNull
+  private static CompletableFuture<List<Long>> mintWithNewTransaction(
+      @NonNull final ProtocolLayerClient client,
+      @NonNull final TokenMintRequest request,
+      final int chunkIndex,
+      @NonNull final NftMintCheckpoint checkpoint) {
+    final TransactionId transactionId = TransactionId.generate(client.getOperatorAccountId());
+    checkpoint.chunkPending(chunkIndex, transactionId);
+    return mintWithTransaction(client, request, transactionId, chunkIndex, checkpoint);
+  }
+
+  @NonNull
+  private static CompletableFuture<List<Long>> mintWithTransaction(
+      @NonNull final ProtocolLayerClient client,
+      @NonNull final TokenMintRequest request,
+      @NonNull final TransactionId transactionId,
+      final int chunkIndex,
+      @NonNull final NftMintCheckpoint checkpoint) {
+    return client
+        .executeMintTokenTransactionAsync(request, transactionId)
+        .handle(
+            (result, throwable) -> {
+              if (throwable == null) {
+                checkpoint.chunkMinted(chunkIndex, result.serials());
+                return result.serials();
+              }
+              final Throwable cause = AsyncSupport.unwrap(throwable);
+              if (isHandled(cause)) {
+                checkpoint.chunkFailed(chunkIndex);
+              } else if (ProtocolLayerClientImpl.statusOf(cause) == Status.TRANSACTION_EXPIRED) {
+                throw new CompletionException(
+                    new HieroException(
+                        "Transaction '"
+                            + transactionId
+                            + "' of chunk "
+                            + chunkIndex
+                            + " has expired and its receipt is no longer available. Check on"
+                            + " the mirror node whether it has minted the chunk and update the"
+                            + " checkpoint",
+                        cause));
+              }
+              throw new CompletionException(cause);
+            });
+  }
+
+  /** Returns true if an error shows that the transaction has been handled by the network. */
+  private static boolean isHandled(@NonNull final Throwable error) {
+    Throwable current = error;
+    while (current != null) {
+      if (current instanceof ReceiptStatusException) {
+        return true;
+      }
+      current = current.getCause() == current ? null : current.getCause();
+    }
+    return false;
+  }
+
+  @NonNull
+  private static List<List<byte[]>> split(@NonNull final Iterable<byte[]> metadata) {
+    final List<List<byte[]>> chunks = new ArrayList<>();
+    List<byte[]> current = new ArrayList<>(TokenMintRequest.MAX_NFTS_PER_MINT);
+    for (final byte[] entry : metadata) {
+      Objects.requireNonNull(entry, "metadata entry must not be null");
+      current.add(entry);
+      if (current.size() == TokenMintRequest.MAX_NFTS_PER_MINT) {
+        chunks.add(current);
+        current = new ArrayList<>(TokenMintRequest.MAX_NFTS_PER_MINT);
+      }
+    }
+    if (!current.isEmpty()) {
+      chunks.add(current);
+    }
+    return chunks;
+  }
+
+  @NonNull
+  private static List<Long> flatten(@NonNull final List<List<Long>> serialsPerChunk) {
+    final List<Long> serials =
+        new ArrayList<>(serialsPerChunk.size() * TokenMintRequest.MAX_NFTS_PER_MINT);
+    serialsPerChunk.forEach(serials::addAll);
+    return Collections.unmodifiableList(serials);
+  }
+}
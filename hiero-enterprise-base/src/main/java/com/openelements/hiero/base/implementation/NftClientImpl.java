@@ -7,6 +7,9 @@ import com.hedera.hashgraph.sdk.TokenType;
 import com.openelements.hiero.base.HieroException;
 import com.openelements.hiero.base.NftClient;
 import com.openelements.hiero.base.data.Account;
+import com.openelements.hiero.base.data.NftMintCheckpoint;
+import com.openelements.hiero.base.data.NftTransferInstruction;
+import com.openelements.hiero.base.data.NftTransferOutcome;
 import com.openelements.hiero.base.protocol.ProtocolLayerClient;
 import com.openelements.hiero.base.protocol.data.TokenAssociateRequest;
 import com.openelements.hiero.base.protocol.data.TokenBurnRequest;
@@ -28,11 +31,24 @@ public class NftClientImpl implements NftClient {
 
   private final Account operationalAccount;
 
+  private final int maxMintsInFlight;
+
   public NftClientImpl(
       @NonNull final ProtocolLayerClient client, @NonNull final Account operationalAccount) {
+    this(client, operationalAccount, NftBulkMint.DEFAULT_MAX_MINTS_IN_FLIGHT);
+  }
+
+  public NftClientImpl(
+      @NonNull final ProtocolLayerClient client,
+      @NonNull final Account operationalAccount,
+      final int maxMintsInFlight) {
     this.client = Objects.requireNonNull(client, "client must not be null");
     this.operationalAccount =
         Objects.requireNonNull(operationalAccount, "operationalAccount must not be null");
+    if (maxMintsInFlight < 1) {
+      throw new IllegalArgumentException("maxMintsInFlight must be greater than 0");
+    }
+    this.maxMintsInFlight = maxMintsInFlight;
   }
 
   @Override
@@ -159,6 +175,27 @@ public class NftClientImpl implements NftClient {
     return Collections.unmodifiableList(result.serials());
   }
 
+  @Override
+  public @NonNull List<Long> bulkMintNfts(
+      @NonNull final TokenId tokenId,
+      @NonNull final Iterable<byte[]> metadata,
+      @NonNull final NftMintCheckpoint checkpoint)
+      throws HieroException {
+    return bulkMintNfts(tokenId, operationalAccount.privateKey(), metadata, checkpoint);
+  }
+
+  @Override
+  public @NonNull List<Long> bulkMintNfts(
+      @NonNull final TokenId tokenId,
+      @NonNull final PrivateKey supplyKey,
+      @NonNull final Iterable<byte[]> metadata,
+      @NonNull final NftMintCheckpoint checkpoint)
+      throws HieroException {
+    return AsyncSupport.join(
+        NftBulkMint.mint(client, tokenId, supplyKey, metadata, checkpoint, maxMintsInFlight),
+        "Failed to mint NFTs of token " + tokenId);
+  }
+
   @Override
   public void burnNfts(@NonNull TokenId tokenId, @NonNull Set<Long> serialNumbers)
       throws HieroException {
@@ -196,4 +233,13 @@ public class NftClientImpl implements NftClient {
         TokenTransferRequest.of(tokenId, serialNumber, fromAccountId, toAccountId, fromAccountKey);
     client.executeTransferTransaction(request);
   }
+
+  @Override
+  public @NonNull List<NftTransferOutcome> transferNfts(
+      @NonNull final List<NftTransferInstruction> transfers) throws HieroException {
+    return AsyncSupport.join(
+        NftBatchTransfer.transfer(
+            client, transfers, NftBatchTransfer.DEFAULT_MAX_TRANSFERS_IN_FLIGHT),
+        "Failed to transfer NFTs");
+  }
 }
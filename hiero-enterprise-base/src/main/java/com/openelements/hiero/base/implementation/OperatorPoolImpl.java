@@ -0,0 +1,129 @@
+package com.openelements.hiero.base.implementation;
+
+import com.hedera.hashgraph.sdk.AccountId;
+import com.hedera.hashgraph.sdk.Hbar;
+import com.openelements.hiero.base.OperatorPool;
+import com.openelements.hiero.base.config.OperatorSelectionStrategy;
+import com.openelements.hiero.base.data.Account;
+import com.openelements.hiero.base.data.OperatorUsage;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import org.jspecify.annotations.NonNull;
+
+/**
+ * Default implementation of {@link OperatorPool}. Transactions of operators that are not part of
+ * the pool are ignored.
+ */
+public class OperatorPoolImpl implements OperatorPool {
+
+  private final List<Account> operators;
+
+  private final OperatorSelectionStrategy strategy;
+
+  private final Map<AccountId, Usage> usage = new LinkedHashMap<>();
+
+  private final AtomicInteger next = new AtomicInteger();
+
+  public OperatorPoolImpl(
+      @NonNull final List<Account> operators, @NonNull final OperatorSelectionStrategy strategy) {
+    Objects.requireNonNull(operators, "operators must not be null");
+    this.strategy = Objects.requireNonNull(strategy, "strategy must not be null");
+    if (operators.isEmpty()) {
+      throw new IllegalArgumentException("operators must not be empty");
+    }
+    this.operators = List.copyOf(operators);
+    this.operators.forEach(
+        operator -> {
+          if (usage.put(operator.accountId(), new Usage()) != null) {
+            throw new IllegalArgumentException(
+                "operator " + operator.accountId() + " is part of the pool more than once");
+          }
+        });
+  }
+
+  @Override
+  public @NonNull Account nextOperator() {
+    final int start = Math.floorMod(next.getAndIncrement(), operators.size());
+    if (strategy == OperatorSelectionStrategy.ROUND_ROBIN) {
+      return operators.get(start);
+    }
+    // least loaded, ties are resolved in round-robin order
+    Account selected = operators.get(start);
+    int selectedInFlight = usage.get(selected.accountId()).inFlight.get();
+    for (int i = 1; i < operators.size() && selectedInFlight > 0; i++) {
+      final Account candidate = operators.get((start + i) % operators.size());
+      final int inFlight = usage.get(candidate.accountId()).inFlight.get();
+      if (inFlight < selectedInFlight) {
+        selected = candidate;
+        selectedInFlight = inFlight;
+      }
+    }
+    return selected;
+  }
+
+  @Override
+  public void transactionSubmitted(@NonNull final AccountId operator) {
+    final Usage operatorUsage =
+        usage.get(Objects.requireNonNull(operator, "operator must not be null"));
+    if (operatorUsage != null) {
+      operatorUsage.inFlight.incrementAndGet();
+      operatorUsage.submitted.incrementAndGet();
+    }
+  }
+
+  @Override
+  public void transactionCompleted(@NonNull final AccountId operator, final boolean success) {
+    final Usage operatorUsage =
+        usage.get(Objects.requireNonNull(operator, "operator must not be null"));
+    if (operatorUsage != null) {
+      operatorUsage.inFlight.decrementAndGet();
+      if (!success) {
+        operatorUsage.failed.incrementAndGet();
+      }
+    }
+  }
+
+  @Override
+  public void feeCharged(@NonNull final AccountId operator, @NonNull final Hbar fee) {
+    Objects.requireNonNull(fee, "fee must not be null");
+    final Usage operatorUsage =
+        usage.get(Objects.requireNonNull(operator, "operator must not be null"));
+    if (operatorUsage != null) {
+      operatorUsage.feesInTinybar.addAndGet(fee.toTinybars());
+    }
+  }
+
+  @Override
+  public @NonNull List<Account> getOperators() {
+    return operators;
+  }
+
+  @Override
+  public @NonNull List<OperatorUsage> getUsage() {
+    return usage.entrySet().stream()
+        .map(
+            entry ->
+                new OperatorUsage(
+                    entry.getKey(),
+                    entry.getValue().inFlight.get(),
+                    entry.getValue().submitted.get(),
+                    entry.getValue().failed.get(),
+                    Hbar.fromTinybars(entry.getValue().feesInTinybar.get())))
+        .toList();
+  }
+
+  private static final class Usage {
+
+    private final AtomicInteger inFlight = new AtomicInteger();
+
+    private final AtomicLong submitted = new AtomicLong();
+
+    private final AtomicLong failed = new AtomicLong();
+
+    private final AtomicLong feesInTinybar = new AtomicLong();
+  }
+}
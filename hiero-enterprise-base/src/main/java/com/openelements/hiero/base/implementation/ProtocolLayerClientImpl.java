@@ -1,11 +1,21 @@
 package com.openelements.hiero.base.implementation;
 
+import static com.openelements.hiero.base.implementation.AsyncSupport.supply;
+import static com.openelements.hiero.base.implementation.AsyncSupport.unwrap;
+import static com.openelements.hiero.base.implementation.AsyncSupport.wrapFailure;
+import static com.openelements.hiero.base.implementation.FlightRecorderEvents.begin;
+import static com.openelements.hiero.base.implementation.FlightRecorderEvents.commitQuery;
+import static com.openelements.hiero.base.implementation.FlightRecorderEvents.commitReceipt;
+import static com.openelements.hiero.base.implementation.FlightRecorderEvents.commitRecord;
+import static com.openelements.hiero.base.implementation.FlightRecorderEvents.commitSubmit;
+
 import com.google.protobuf.ByteString;
 import com.hedera.hashgraph.sdk.AccountBalance;
 import com.hedera.hashgraph.sdk.AccountBalanceQuery;
 import com.hedera.hashgraph.sdk.AccountCreateTransaction;
 import com.hedera.hashgraph.sdk.AccountDeleteTransaction;
 import com.hedera.hashgraph.sdk.AccountId;
+import com.hedera.hashgraph.sdk.Client;
 import com.hedera.hashgraph.sdk.ContractCreateTransaction;
 import com.hedera.hashgraph.sdk.ContractDeleteTransaction;
 import com.hedera.hashgraph.sdk.ContractExecuteTransaction;
@@ -18,9 +28,12 @@ import com.hedera.hashgraph.sdk.FileInfo;
 import com.hedera.hashgraph.sdk.FileInfoQuery;
 import com.hedera.hashgraph.sdk.FileUpdateTransaction;
 import com.hedera.hashgraph.sdk.NftId;
+import com.hedera.hashgraph.sdk.PrecheckStatusException;
 import com.hedera.hashgraph.sdk.PrivateKey;
 import com.hedera.hashgraph.sdk.PublicKey;
 import com.hedera.hashgraph.sdk.Query;
+import com.hedera.hashgraph.sdk.ReceiptStatusException;
+import com.hedera.hashgraph.sdk.Status;
 import com.hedera.hashgraph.sdk.SubscriptionHandle;
 import com.hedera.hashgraph.sdk.TokenAssociateTransaction;
 import com.hedera.hashgraph.sdk.TokenBurnTransaction;
@@ -33,16 +46,29 @@ import com.hedera.hashgraph.sdk.TopicMessageQuery;
 import com.hedera.hashgraph.sdk.TopicMessageSubmitTransaction;
 import com.hedera.hashgraph.sdk.TopicUpdateTransaction;
 import com.hedera.hashgraph.sdk.Transaction;
+import com.hedera.hashgraph.sdk.TransactionId;
 import com.hedera.hashgraph.sdk.TransactionReceipt;
+import com.hedera.hashgraph.sdk.TransactionReceiptQuery;
 import com.hedera.hashgraph.sdk.TransactionRecord;
 import com.hedera.hashgraph.sdk.TransactionResponse;
 import com.hedera.hashgraph.sdk.TransferTransaction;
+import com.openelements.hiero.base.ConsensusNodeSelector;
 import com.openelements.hiero.base.HieroContext;
 import com.openelements.hiero.base.HieroException;
+import com.openelements.hiero.base.TransactionMetrics;
+import com.openelements.hiero.base.TransactionRateLimiter;
+import com.openelements.hiero.base.config.TransactionRetryPolicy;
 import com.openelements.hiero.base.data.Account;
 import com.openelements.hiero.base.data.ContractParam;
+import com.openelements.hiero.base.data.ListenerDispatchMetrics;
+import com.openelements.hiero.base.data.ListenerOverflowPolicy;
+import com.openelements.hiero.base.data.TransactionPhase;
 import com.openelements.hiero.base.interceptors.ReceiveRecordInterceptor;
 import com.openelements.hiero.base.interceptors.ReceiveRecordInterceptor.ReceiveRecordHandler;
+import com.openelements.hiero.base.jfr.QueryEvent;
+import com.openelements.hiero.base.jfr.TransactionReceiptEvent;
+import com.openelements.hiero.base.jfr.TransactionRecordEvent;
+import com.openelements.hiero.base.jfr.TransactionSubmitEvent;
 import com.openelements.hiero.base.protocol.ProtocolLayerClient;
 import com.openelements.hiero.base.protocol.TransactionListener;
 import com.openelements.hiero.base.protocol.data.AccountBalanceRequest;
@@ -59,6 +85,7 @@ import com.openelements.hiero.base.protocol.data.ContractDeleteRequest;
 import com.openelements.hiero.base.protocol.data.ContractDeleteResult;
 import com.openelements.hiero.base.protocol.data.FileAppendRequest;
 import com.openelements.hiero.base.protocol.data.FileAppendResult;
+import com.openelements.hiero.base.protocol.data.FileContentsBufferResponse;
 import com.openelements.hiero.base.protocol.data.FileContentsRequest;
 import com.openelements.hiero.base.protocol.data.FileContentsResponse;
 import com.openelements.hiero.base.protocol.data.FileCreateRequest;
@@ -69,8 +96,10 @@ import com.openelements.hiero.base.protocol.data.FileInfoRequest;
 import com.openelements.hiero.base.protocol.data.FileInfoResponse;
 import com.openelements.hiero.base.protocol.data.FileUpdateRequest;
 import com.openelements.hiero.base.protocol.data.FileUpdateResult;
+import com.openelements.hiero.base.protocol.data.NftBatchTransferRequest;
 import com.openelements.hiero.base.protocol.data.TokenAssociateRequest;
 import com.openelements.hiero.base.protocol.data.TokenAssociateResult;
+import com.openelements.hiero.base.protocol.data.TokenBatchTransferRequest;
 import com.openelements.hiero.base.protocol.data.TokenBurnRequest;
 import com.openelements.hiero.base.protocol.data.TokenBurnResult;
 import com.openelements.hiero.base.protocol.data.TokenCreateRequest;
@@ -91,32 +120,72 @@ import com.openelements.hiero.base.protocol.data.TopicSubmitMessageRequest;
 import com.openelements.hiero.base.protocol.data.TopicSubmitMessageResult;
 import com.openelements.hiero.base.protocol.data.TopicUpdateRequest;
 import com.openelements.hiero.base.protocol.data.TopicUpdateResult;
+import com.openelements.hiero.base.protocol.data.TransactionOutcome;
+import com.openelements.hiero.base.protocol.data.TransactionRequest;
+import com.openelements.hiero.base.protocol.data.TransactionSubmission;
 import com.openelements.hiero.base.protocol.data.TransactionType;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Consumer;
+import java.util.function.Function;
 import org.jspecify.annotations.NonNull;
+import org.jspecify.annotations.Nullable;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-public class ProtocolLayerClientImpl implements ProtocolLayerClient {
+public class ProtocolLayerClientImpl implements ProtocolLayerClient, AutoCloseable {
 
   private static final Logger log = LoggerFactory.getLogger(ProtocolLayerClientImpl.class);
 
   public static final int DEFAULT_GAS = 5_000_000;
 
+  private static final int RECEIPT_CHECK_ATTEMPTS = 2;
+
   private final List<TransactionListener> listeners;
 
+  private final TransactionEventDispatcher dispatcher;
+
   private final HieroContext hieroContext;
 
   private final AtomicReference<ReceiveRecordInterceptor> recordInterceptor =
       new AtomicReference<>(ReceiveRecordInterceptor.DEFAULT_INTERCEPTOR);
 
+  private final AtomicReference<TransactionMetrics> metrics =
+      new AtomicReference<>(TransactionMetrics.NOOP);
+
+  private final RecentReceipts recentReceipts = new RecentReceipts(RecentReceipts.DEFAULT_CAPACITY);
+
   public ProtocolLayerClientImpl(@NonNull final HieroContext hieroContext) {
+    this(hieroContext, TransactionEventDispatcher.DEFAULT_CAPACITY, ListenerOverflowPolicy.BLOCK);
+  }
+
+  /**
+   * Creates a client that notifies its {@link TransactionListener}s on a dedicated thread.
+   *
+   * @param hieroContext the context
+   * @param listenerBufferSize the number of events that can wait for delivery to the listeners
+   * @param listenerOverflowPolicy what to do if the buffer of listener events is full
+   */
+  public ProtocolLayerClientImpl(
+      @NonNull final HieroContext hieroContext,
+      final int listenerBufferSize,
+      @NonNull final ListenerOverflowPolicy listenerOverflowPolicy) {
     this.hieroContext = Objects.requireNonNull(hieroContext, "hieroContext must not be null");
     listeners = new CopyOnWriteArrayList<>();
+    dispatcher =
+        new TransactionEventDispatcher(listeners, listenerBufferSize, listenerOverflowPolicy);
   }
 
   public void setRecordInterceptor(@NonNull final ReceiveRecordInterceptor recordInterceptor) {
@@ -124,27 +193,79 @@ public class ProtocolLayerClientImpl implements ProtocolLayerClient {
     this.recordInterceptor.set(recordInterceptor);
   }
 
+  public void setTransactionMetrics(@NonNull final TransactionMetrics transactionMetrics) {
+    Objects.requireNonNull(transactionMetrics, "transactionMetrics must not be null");
+    this.metrics.set(transactionMetrics);
+  }
+
   @Override
   public AccountBalanceResponse executeAccountBalanceQuery(
       @NonNull final AccountBalanceRequest request) throws HieroException {
-    final AccountBalanceQuery query =
-        new AccountBalanceQuery()
-            .setAccountId(request.accountId())
-            .setQueryPayment(request.queryPayment())
-            .setMaxQueryPayment(request.maxQueryPayment());
-    final AccountBalance balance = executeQueryAndWait(query);
+    final AccountBalance balance = executeQueryAndWait(createAccountBalanceQuery(request));
     return new AccountBalanceResponse(balance.hbars);
   }
 
+  @Override
+  public @NonNull CompletableFuture<AccountBalanceResponse> executeAccountBalanceQueryAsync(
+      @NonNull final AccountBalanceRequest request) {
+    Objects.requireNonNull(request, "request must not be null");
+    return executeQueryAsync(createAccountBalanceQuery(request))
+        .thenApply(balance -> new AccountBalanceResponse(balance.hbars));
+  }
+
+  @NonNull
+  private AccountBalanceQuery createAccountBalanceQuery(
+      @NonNull final AccountBalanceRequest request) {
+    return new AccountBalanceQuery()
+        .setAccountId(request.accountId())
+        .setQueryPayment(request.queryPayment())
+        .setMaxQueryPayment(request.maxQueryPayment());
+  }
+
   @Override
   public FileContentsResponse executeFileContentsQuery(@NonNull final FileContentsRequest request)
       throws HieroException {
-    final FileContentsQuery query =
-        new FileContentsQuery()
-            .setFileId(request.fileId())
-            .setQueryPayment(request.queryPayment())
-            .setMaxQueryPayment(request.maxQueryPayment());
-    final ByteString byteString = executeQueryAndWait(query);
+    final ByteString byteString = executeQueryAndWait(createFileContentsQuery(request));
+    return toFileContentsResponse(request, byteString);
+  }
+
+  @Override
+  public @NonNull CompletableFuture<FileContentsResponse> executeFileContentsQueryAsync(
+      @NonNull final FileContentsRequest request) {
+    Objects.requireNonNull(request, "request must not be null");
+    return executeQueryAsync(createFileContentsQuery(request))
+        .thenApply(byteString -> toFileContentsResponse(request, byteString));
+  }
+
+  @Override
+  public @NonNull FileContentsBufferResponse executeFileContentsBufferQuery(
+      @NonNull final FileContentsRequest request) throws HieroException {
+    final ByteString byteString = executeQueryAndWait(createFileContentsQuery(request));
+    return new FileContentsBufferResponse(request.fileId(), byteString.asReadOnlyByteBuffer());
+  }
+
+  @Override
+  public @NonNull CompletableFuture<FileContentsBufferResponse> executeFileContentsBufferQueryAsync(
+      @NonNull final FileContentsRequest request) {
+    Objects.requireNonNull(request, "request must not be null");
+    return executeQueryAsync(createFileContentsQuery(request))
+        .thenApply(
+            byteString ->
+                new FileContentsBufferResponse(
+                    request.fileId(), byteString.asReadOnlyByteBuffer()));
+  }
+
+  @NonNull
+  private FileContentsQuery createFileContentsQuery(@NonNull final FileContentsRequest request) {
+    return new FileContentsQuery()
+        .setFileId(request.fileId())
+        .setQueryPayment(request.queryPayment())
+        .setMaxQueryPayment(request.maxQueryPayment());
+  }
+
+  @NonNull
+  private FileContentsResponse toFileContentsResponse(
+      @NonNull final FileContentsRequest request, @NonNull final ByteString byteString) {
     final byte[] bytes = byteString.toByteArray();
     return new FileContentsResponse(request.fileId(), bytes);
   }
@@ -153,12 +274,30 @@ public class ProtocolLayerClientImpl implements ProtocolLayerClient {
   public FileInfoResponse executeFileInfoQuery(@NonNull final FileInfoRequest request)
       throws HieroException {
     Objects.requireNonNull(request, "request must not be null");
-    final FileInfoQuery query =
-        new FileInfoQuery()
-            .setFileId(request.fileId())
-            .setQueryPayment(request.queryPayment())
-            .setMaxQueryPayment(request.maxQueryPayment());
-    final FileInfo fileInfo = executeQueryAndWait(query);
+    final FileInfo fileInfo = executeQueryAndWait(createFileInfoQuery(request));
+    return toFileInfoResponse(request, fileInfo);
+  }
+
+  @Override
+  public @NonNull CompletableFuture<FileInfoResponse> executeFileInfoQueryAsync(
+      @NonNull final FileInfoRequest request) {
+    Objects.requireNonNull(request, "request must not be null");
+    return executeQueryAsync(createFileInfoQuery(request))
+        .thenCompose(fileInfo -> supply(() -> toFileInfoResponse(request, fileInfo)));
+  }
+
+  @NonNull
+  private FileInfoQuery createFileInfoQuery(@NonNull final FileInfoRequest request) {
+    return new FileInfoQuery()
+        .setFileId(request.fileId())
+        .setQueryPayment(request.queryPayment())
+        .setMaxQueryPayment(request.maxQueryPayment());
+  }
+
+  @NonNull
+  private FileInfoResponse toFileInfoResponse(
+      @NonNull final FileInfoRequest request, @NonNull final FileInfo fileInfo)
+      throws HieroException {
     if (fileInfo.size > Integer.MAX_VALUE) {
       throw new HieroException("File size is too large to be represented as an integer");
     }
@@ -169,6 +308,24 @@ public class ProtocolLayerClientImpl implements ProtocolLayerClient {
   @Override
   public FileCreateResult executeFileCreateTransaction(@NonNull final FileCreateRequest request)
       throws HieroException {
+    final FileCreateTransaction transaction = createFileCreateTransaction(request);
+    final TransactionReceipt receipt = executeTransactionAndWaitOnReceipt(transaction);
+    return new FileCreateResult(receipt.transactionId, receipt.status, receipt.fileId);
+  }
+
+  @Override
+  public @NonNull CompletableFuture<FileCreateResult> executeFileCreateTransactionAsync(
+      @NonNull final FileCreateRequest request) {
+    Objects.requireNonNull(request, "request must not be null");
+    return supply(() -> createFileCreateTransaction(request))
+        .thenCompose(this::executeTransactionAndWaitOnReceiptAsync)
+        .thenApply(
+            receipt -> new FileCreateResult(receipt.transactionId, receipt.status, receipt.fileId));
+  }
+
+  @NonNull
+  private FileCreateTransaction createFileCreateTransaction(
+      @NonNull final FileCreateRequest request) throws HieroException {
     Objects.requireNonNull(request, "request must not be null");
     Objects.requireNonNull(request.contents(), "content must not be null");
     if (request.contents().length > FileCreateRequest.FILE_CREATE_MAX_SIZE) {
@@ -187,13 +344,28 @@ public class ProtocolLayerClientImpl implements ProtocolLayerClient {
     if (request.expirationTime() != null) {
       transaction.setExpirationTime(request.expirationTime());
     }
+    return transaction;
+  }
 
+  @Override
+  public FileUpdateResult executeFileUpdateRequestTransaction(
+      @NonNull final FileUpdateRequest request) throws HieroException {
+    final FileUpdateTransaction transaction = createFileUpdateTransaction(request);
     final TransactionReceipt receipt = executeTransactionAndWaitOnReceipt(transaction);
-    return new FileCreateResult(receipt.transactionId, receipt.status, receipt.fileId);
+    return new FileUpdateResult(receipt.transactionId, receipt.status);
   }
 
   @Override
-  public FileUpdateResult executeFileUpdateRequestTransaction(
+  public @NonNull CompletableFuture<FileUpdateResult> executeFileUpdateRequestTransactionAsync(
+      @NonNull final FileUpdateRequest request) {
+    Objects.requireNonNull(request, "request must not be null");
+    return supply(() -> createFileUpdateTransaction(request))
+        .thenCompose(this::executeTransactionAndWaitOnReceiptAsync)
+        .thenApply(receipt -> new FileUpdateResult(receipt.transactionId, receipt.status));
+  }
+
+  @NonNull
+  private FileUpdateTransaction createFileUpdateTransaction(
       @NonNull final FileUpdateRequest request) throws HieroException {
     Objects.requireNonNull(request, "request must not be null");
     if (request.contents() != null
@@ -215,13 +387,142 @@ public class ProtocolLayerClientImpl implements ProtocolLayerClient {
     if (request.expirationTime() != null) {
       transaction.setExpirationTime(request.expirationTime());
     }
-    final TransactionReceipt receipt = executeTransactionAndWaitOnReceipt(transaction);
-    return new FileUpdateResult(receipt.transactionId, receipt.status);
+    return transaction;
   }
 
   @Override
   public FileAppendResult executeFileAppendRequestTransaction(
       @NonNull final FileAppendRequest request) throws HieroException {
+    final FileAppendTransaction transaction = createFileAppendTransaction(request);
+    final TransactionReceipt receipt = executeTransactionAndWaitOnReceipt(transaction);
+    return new FileAppendResult(receipt.transactionId, receipt.status);
+  }
+
+  @Override
+  public @NonNull CompletableFuture<FileAppendResult> executeFileAppendRequestTransactionAsync(
+      @NonNull final FileAppendRequest request) {
+    Objects.requireNonNull(request, "request must not be null");
+    return supply(() -> createFileAppendTransaction(request))
+        .thenCompose(this::executeTransactionAndWaitOnReceiptAsync)
+        .thenApply(receipt -> new FileAppendResult(receipt.transactionId, receipt.status));
+  }
+
+  @Override
+  public @NonNull CompletableFuture<List<FileAppendResult>>
+      executeFileAppendRequestTransactionsAsync(
+          @NonNull final Iterable<FileAppendRequest> requests) {
+    Objects.requireNonNull(requests, "requests must not be null");
+    final List<CompletableFuture<FileAppendResult>> results = new ArrayList<>();
+    return submitFileAppends(requests.iterator(), null, results)
+        .thenCompose(
+            ignored ->
+                CompletableFuture.allOf(results.toArray(new CompletableFuture<?>[0]))
+                    .thenApply(v -> results.stream().map(CompletableFuture::join).toList()));
+  }
+
+  /**
+   * Submits the next file append and continues with the following one once the node accepted the
+   * append. Every append is prepared like any other transaction. Appends that are sent to the same
+   * node are handled in the order they were sent, so an append is sent to the node that accepted
+   * the previous one if the node selector allows that node, and is sent without waiting for the
+   * receipt of the previous append. Otherwise the append waits for that receipt, to keep the order
+   * of the appends.
+   */
+  @NonNull
+  private CompletableFuture<Void> submitFileAppends(
+      @NonNull final Iterator<FileAppendRequest> requests,
+      @Nullable final AccountId previousNodeId,
+      @NonNull final List<CompletableFuture<FileAppendResult>> results) {
+    final Client client = hieroContext.nextClient();
+    final FileAppendTransaction transaction;
+    final CompletableFuture<?> previous;
+    final CompletableFuture<TransactionResponse> responseFuture;
+    final AtomicLong submitStart = new AtomicLong();
+    try {
+      if (!requests.hasNext()) {
+        return CompletableFuture.completedFuture(null);
+      }
+      transaction = createFileAppendTransaction(requests.next());
+      // the node selector chooses the candidates of every append, the list of nodes of a
+      // transaction can only be set once
+      final List<AccountId> candidates =
+          hieroContext.getNodeSelector().map(ConsensusNodeSelector::selectNodes).orElse(List.of());
+      if (previousNodeId != null && (candidates.isEmpty() || candidates.contains(previousNodeId))) {
+        transaction.setNodeAccountIds(List.of(previousNodeId));
+        previous = CompletableFuture.completedFuture(null);
+      } else {
+        if (!candidates.isEmpty()) {
+          transaction.setNodeAccountIds(candidates);
+        }
+        if (previousNodeId == null) {
+          previous = CompletableFuture.completedFuture(null);
+        } else {
+          log.debug(
+              "Waiting for receipt of file append {} before sending the next one", results.size());
+          previous = results.getLast();
+        }
+      }
+      selectPayer(transaction);
+      log.debug("Submitting file append {} of pipeline", results.size());
+      responseFuture =
+          previous.thenCompose(ignored -> submitAsync(transaction, client, submitStart));
+    } catch (final Exception e) {
+      return CompletableFuture.failedFuture(
+          new HieroException("Failed to execute file append transaction", e));
+    }
+    return responseFuture
+        .handle(
+            (response, throwable) -> {
+              if (throwable != null && previous.isCompletedExceptionally()) {
+                // the append was not sent, the previous one has already reported its failure
+                throw new CompletionException(unwrap(throwable));
+              }
+              if (throwable != null) {
+                recordSubmitFailed(transaction, unwrap(throwable), submitStart.get());
+                throw new CompletionException(
+                    new HieroException(
+                        "Failed to execute file append transaction", unwrap(throwable)));
+              }
+              final long receiptStart = recordSubmitted(transaction, response, submitStart.get());
+              recordPayerSubmitted(response.transactionId);
+              notifySubmitted(transaction, response.transactionId);
+              results.add(
+                  getReceiptAsync(transaction, response, client)
+                      .handle(
+                          (receipt, receiptThrowable) -> {
+                            if (receiptThrowable != null) {
+                              recordReceiptFailed(
+                                  TransactionType.from(transaction),
+                                  unwrap(receiptThrowable),
+                                  receiptStart);
+                              recordCompleted(response.transactionId, false);
+                              throw new CompletionException(
+                                  new HieroException(
+                                      "Failed to receive receipt of transaction '"
+                                          + response.transactionId
+                                          + "' of type FileAppendTransaction",
+                                      unwrap(receiptThrowable)));
+                            }
+                            recordReceipt(
+                                TransactionType.from(transaction),
+                                response.nodeId,
+                                receipt.status,
+                                receiptStart);
+                            recordCompleted(response.transactionId, true);
+                            notifyHandled(
+                                TransactionType.from(transaction),
+                                response.transactionId,
+                                receipt.status);
+                            return new FileAppendResult(receipt.transactionId, receipt.status);
+                          }));
+              return response.nodeId;
+            })
+        .thenCompose(nodeId -> submitFileAppends(requests, nodeId, results));
+  }
+
+  @NonNull
+  private FileAppendTransaction createFileAppendTransaction(
+      @NonNull final FileAppendRequest request) throws HieroException {
     Objects.requireNonNull(request, "request must not be null");
     Objects.requireNonNull(request.contents(), "content must not be null");
     if (request.contents().length > FileCreateRequest.FILE_CREATE_MAX_SIZE) {
@@ -230,50 +531,92 @@ public class ProtocolLayerClientImpl implements ProtocolLayerClient {
               + FileCreateRequest.FILE_CREATE_MAX_SIZE
               + " bytes. Use multiple FileAppend for larger files.");
     }
-    final FileAppendTransaction transaction =
-        new FileAppendTransaction()
-            .setMaxTransactionFee(request.maxTransactionFee())
-            .setTransactionValidDuration(request.transactionValidDuration())
-            .setFileId(request.fileId())
-            .setContents(request.contents())
-            .setTransactionMemo(request.fileMemo());
-
-    final TransactionReceipt receipt = executeTransactionAndWaitOnReceipt(transaction);
-    return new FileAppendResult(receipt.transactionId, receipt.status);
+    return new FileAppendTransaction()
+        .setMaxTransactionFee(request.maxTransactionFee())
+        .setTransactionValidDuration(request.transactionValidDuration())
+        .setFileId(request.fileId())
+        .setContents(request.contents())
+        .setTransactionMemo(request.fileMemo());
   }
 
   @Override
   public FileDeleteResult executeFileDeleteTransaction(@NonNull final FileDeleteRequest request)
       throws HieroException {
-    final FileDeleteTransaction transaction =
-        new FileDeleteTransaction()
-            .setMaxTransactionFee(request.maxTransactionFee())
-            .setTransactionValidDuration(request.transactionValidDuration())
-            .setFileId(request.fileId());
+    final FileDeleteTransaction transaction = createFileDeleteTransaction(request);
     final TransactionReceipt receipt = executeTransactionAndWaitOnReceipt(transaction);
     return new FileDeleteResult(receipt.transactionId, receipt.status);
   }
 
+  @Override
+  public @NonNull CompletableFuture<FileDeleteResult> executeFileDeleteTransactionAsync(
+      @NonNull final FileDeleteRequest request) {
+    Objects.requireNonNull(request, "request must not be null");
+    return executeTransactionAndWaitOnReceiptAsync(createFileDeleteTransaction(request))
+        .thenApply(receipt -> new FileDeleteResult(receipt.transactionId, receipt.status));
+  }
+
+  @NonNull
+  private FileDeleteTransaction createFileDeleteTransaction(
+      @NonNull final FileDeleteRequest request) {
+    return new FileDeleteTransaction()
+        .setMaxTransactionFee(request.maxTransactionFee())
+        .setTransactionValidDuration(request.transactionValidDuration())
+        .setFileId(request.fileId());
+  }
+
   @Override
   public ContractCreateResult executeContractCreateTransaction(
       @NonNull final ContractCreateRequest request) throws HieroException {
-    final ContractFunctionParameters constructorParams =
-        createParameters(request.constructorParams());
-    final ContractCreateTransaction transaction =
-        new ContractCreateTransaction()
-            .setMaxTransactionFee(request.maxTransactionFee())
-            .setTransactionValidDuration(request.transactionValidDuration())
-            .setBytecodeFileId(request.fileId())
-            .setGas(DEFAULT_GAS)
-            .setConstructorParameters(constructorParams);
+    final ContractCreateTransaction transaction = createContractCreateTransaction(request);
     final TransactionReceipt receipt = executeTransactionAndWaitOnReceipt(transaction);
     return new ContractCreateResult(receipt.transactionId, receipt.status, receipt.contractId);
   }
 
+  @Override
+  public @NonNull CompletableFuture<ContractCreateResult> executeContractCreateTransactionAsync(
+      @NonNull final ContractCreateRequest request) {
+    Objects.requireNonNull(request, "request must not be null");
+    return supply(() -> createContractCreateTransaction(request))
+        .thenCompose(this::executeTransactionAndWaitOnReceiptAsync)
+        .thenApply(
+            receipt ->
+                new ContractCreateResult(
+                    receipt.transactionId, receipt.status, receipt.contractId));
+  }
+
+  @NonNull
+  private ContractCreateTransaction createContractCreateTransaction(
+      @NonNull final ContractCreateRequest request) {
+    final ContractFunctionParameters constructorParams =
+        createParameters(request.constructorParams());
+    return new ContractCreateTransaction()
+        .setMaxTransactionFee(request.maxTransactionFee())
+        .setTransactionValidDuration(request.transactionValidDuration())
+        .setBytecodeFileId(request.fileId())
+        .setGas(DEFAULT_GAS)
+        .setConstructorParameters(constructorParams);
+  }
+
   @Override
   public ContractDeleteResult executeContractDeleteTransaction(
       @NonNull final ContractDeleteRequest request) throws HieroException {
     Objects.requireNonNull(request, "request must not be null");
+    final ContractDeleteTransaction transaction = createContractDeleteTransaction(request);
+    final TransactionReceipt receipt = executeTransactionAndWaitOnReceipt(transaction);
+    return new ContractDeleteResult(receipt.transactionId, receipt.status);
+  }
+
+  @Override
+  public @NonNull CompletableFuture<ContractDeleteResult> executeContractDeleteTransactionAsync(
+      @NonNull final ContractDeleteRequest request) {
+    Objects.requireNonNull(request, "request must not be null");
+    return executeTransactionAndWaitOnReceiptAsync(createContractDeleteTransaction(request))
+        .thenApply(receipt -> new ContractDeleteResult(receipt.transactionId, receipt.status));
+  }
+
+  @NonNull
+  private ContractDeleteTransaction createContractDeleteTransaction(
+      @NonNull final ContractDeleteRequest request) {
     final ContractDeleteTransaction transaction =
         new ContractDeleteTransaction()
             .setMaxTransactionFee(request.maxTransactionFee())
@@ -285,8 +628,7 @@ public class ProtocolLayerClientImpl implements ProtocolLayerClient {
     if (request.transferFeeToAccountId() != null) {
       transaction.setTransferAccountId(request.transferFeeToAccountId());
     }
-    final TransactionReceipt receipt = executeTransactionAndWaitOnReceipt(transaction);
-    return new ContractDeleteResult(receipt.transactionId, receipt.status);
+    return transaction;
   }
 
   @Override
@@ -294,15 +636,33 @@ public class ProtocolLayerClientImpl implements ProtocolLayerClient {
   public ContractCallResult executeContractCallTransaction(
       @NonNull final ContractCallRequest request) throws HieroException {
     Objects.requireNonNull(request, "request must not be null");
-    final ContractFunctionParameters functionParams = createParameters(request.constructorParams());
-    final ContractExecuteTransaction transaction =
-        new ContractExecuteTransaction()
-            .setMaxTransactionFee(request.maxTransactionFee())
-            .setTransactionValidDuration(request.transactionValidDuration())
-            .setContractId(request.contractId())
-            .setFunction(request.functionName(), functionParams)
-            .setGas(DEFAULT_GAS);
+    final ContractExecuteTransaction transaction = createContractExecuteTransaction(request);
     final TransactionRecord record = executeTransactionAndWaitOnRecord(transaction);
+    return toContractCallResult(record);
+  }
+
+  @Override
+  public @NonNull CompletableFuture<ContractCallResult> executeContractCallTransactionAsync(
+      @NonNull final ContractCallRequest request) {
+    Objects.requireNonNull(request, "request must not be null");
+    return executeTransactionAndWaitOnRecordAsync(createContractExecuteTransaction(request))
+        .thenApply(ProtocolLayerClientImpl::toContractCallResult);
+  }
+
+  @NonNull
+  private ContractExecuteTransaction createContractExecuteTransaction(
+      @NonNull final ContractCallRequest request) {
+    final ContractFunctionParameters functionParams = createParameters(request.constructorParams());
+    return new ContractExecuteTransaction()
+        .setMaxTransactionFee(request.maxTransactionFee())
+        .setTransactionValidDuration(request.transactionValidDuration())
+        .setContractId(request.contractId())
+        .setFunction(request.functionName(), functionParams)
+        .setGas(DEFAULT_GAS);
+  }
+
+  @NonNull
+  private static ContractCallResult toContractCallResult(@NonNull final TransactionRecord record) {
     return new ContractCallResult(
         record.transactionId,
         record.receipt.status,
@@ -318,15 +678,38 @@ public class ProtocolLayerClientImpl implements ProtocolLayerClient {
       @NonNull final AccountCreateRequest request) throws HieroException {
     Objects.requireNonNull(request, "request must not be null");
     final PrivateKey privateKey = PrivateKey.generateED25519();
-    final PublicKey publicKey = privateKey.getPublicKey();
     final AccountCreateTransaction transaction =
-        new AccountCreateTransaction()
-            .setMaxTransactionFee(request.maxTransactionFee())
-            .setTransactionValidDuration(request.transactionValidDuration())
-            .setKey(publicKey)
-            .setInitialBalance(request.initialBalance());
+        createAccountCreateTransaction(request, privateKey.getPublicKey());
     final TransactionRecord record = executeTransactionAndWaitOnRecord(transaction);
-    final Account newAccount = Account.of(record.receipt.accountId, publicKey, privateKey);
+    return toAccountCreateResult(record, privateKey);
+  }
+
+  @Override
+  public @NonNull CompletableFuture<AccountCreateResult> executeAccountCreateTransactionAsync(
+      @NonNull final AccountCreateRequest request) {
+    Objects.requireNonNull(request, "request must not be null");
+    final PrivateKey privateKey = PrivateKey.generateED25519();
+    final AccountCreateTransaction transaction =
+        createAccountCreateTransaction(request, privateKey.getPublicKey());
+    return executeTransactionAndWaitOnRecordAsync(transaction)
+        .thenApply(record -> toAccountCreateResult(record, privateKey));
+  }
+
+  @NonNull
+  private AccountCreateTransaction createAccountCreateTransaction(
+      @NonNull final AccountCreateRequest request, @NonNull final PublicKey publicKey) {
+    return new AccountCreateTransaction()
+        .setMaxTransactionFee(request.maxTransactionFee())
+        .setTransactionValidDuration(request.transactionValidDuration())
+        .setKey(publicKey)
+        .setInitialBalance(request.initialBalance());
+  }
+
+  @NonNull
+  private static AccountCreateResult toAccountCreateResult(
+      @NonNull final TransactionRecord record, @NonNull final PrivateKey privateKey) {
+    final Account newAccount =
+        Account.of(record.receipt.accountId, privateKey.getPublicKey(), privateKey);
     return new AccountCreateResult(
         record.transactionId,
         record.receipt.status,
@@ -341,6 +724,22 @@ public class ProtocolLayerClientImpl implements ProtocolLayerClient {
   public AccountDeleteResult executeAccountDeleteTransaction(
       @NonNull final AccountDeleteRequest request) throws HieroException {
     Objects.requireNonNull(request, "request must not be null");
+    final AccountDeleteTransaction transaction = createAccountDeleteTransaction(request);
+    final TransactionRecord record = executeTransactionAndWaitOnRecord(transaction);
+    return toAccountDeleteResult(record);
+  }
+
+  @Override
+  public @NonNull CompletableFuture<AccountDeleteResult> executeAccountDeleteTransactionAsync(
+      @NonNull final AccountDeleteRequest request) {
+    Objects.requireNonNull(request, "request must not be null");
+    return executeTransactionAndWaitOnRecordAsync(createAccountDeleteTransaction(request))
+        .thenApply(ProtocolLayerClientImpl::toAccountDeleteResult);
+  }
+
+  @NonNull
+  private AccountDeleteTransaction createAccountDeleteTransaction(
+      @NonNull final AccountDeleteRequest request) {
     final AccountDeleteTransaction transaction =
         new AccountDeleteTransaction()
             .setMaxTransactionFee(request.maxTransactionFee())
@@ -359,7 +758,12 @@ public class ProtocolLayerClientImpl implements ProtocolLayerClient {
           request.toDelete().privateKey(),
           hieroContext.getOperatorAccount().privateKey());
     }
-    final TransactionRecord record = executeTransactionAndWaitOnRecord(transaction);
+    return transaction;
+  }
+
+  @NonNull
+  private static AccountDeleteResult toAccountDeleteResult(
+      @NonNull final TransactionRecord record) {
     return new AccountDeleteResult(
         record.transactionId,
         record.receipt.status,
@@ -375,18 +779,7 @@ public class ProtocolLayerClientImpl implements ProtocolLayerClient {
     Objects.requireNonNull(
         request.transactionValidDuration(), "transactionValidDuration must not be null");
     try {
-      final TopicCreateTransaction transaction =
-          new TopicCreateTransaction()
-              .setMaxTransactionFee(request.maxTransactionFee())
-              .setTransactionValidDuration(request.transactionValidDuration())
-              .setAdminKey(request.adminKey());
-      if (request.memo() != null) {
-        transaction.setTopicMemo(request.memo());
-      }
-      if (request.submitKey() != null) {
-        transaction.setSubmitKey(request.submitKey());
-      }
-      sign(transaction, request.adminKey());
+      final TopicCreateTransaction transaction = createTopicCreateTransaction(request);
       final TransactionReceipt receipt = executeTransactionAndWaitOnReceipt(transaction);
       return new TopicCreateResult(receipt.transactionId, receipt.status, receipt.topicId);
     } catch (final Exception e) {
@@ -394,6 +787,40 @@ public class ProtocolLayerClientImpl implements ProtocolLayerClient {
     }
   }
 
+  @Override
+  public @NonNull CompletableFuture<TopicCreateResult> executeTopicCreateTransactionAsync(
+      @NonNull final TopicCreateRequest request) {
+    Objects.requireNonNull(request, "request must not be null");
+    Objects.requireNonNull(request.maxTransactionFee(), "maxTransactionFee must not be null");
+    Objects.requireNonNull(
+        request.transactionValidDuration(), "transactionValidDuration must not be null");
+    final CompletableFuture<TopicCreateResult> future =
+        supply(() -> createTopicCreateTransaction(request))
+            .thenCompose(this::executeTransactionAndWaitOnReceiptAsync)
+            .thenApply(
+                receipt ->
+                    new TopicCreateResult(receipt.transactionId, receipt.status, receipt.topicId));
+    return wrapFailure(future, "Failed to execute create topic transaction");
+  }
+
+  @NonNull
+  private TopicCreateTransaction createTopicCreateTransaction(
+      @NonNull final TopicCreateRequest request) {
+    final TopicCreateTransaction transaction =
+        new TopicCreateTransaction()
+            .setMaxTransactionFee(request.maxTransactionFee())
+            .setTransactionValidDuration(request.transactionValidDuration())
+            .setAdminKey(request.adminKey());
+    if (request.memo() != null) {
+      transaction.setTopicMemo(request.memo());
+    }
+    if (request.submitKey() != null) {
+      transaction.setSubmitKey(request.submitKey());
+    }
+    sign(transaction, request.adminKey());
+    return transaction;
+  }
+
   @Override
   public @NonNull TopicUpdateResult executeTopicUpdateTransaction(
       @NonNull TopicUpdateRequest request) throws HieroException {
@@ -402,25 +829,7 @@ public class ProtocolLayerClientImpl implements ProtocolLayerClient {
     Objects.requireNonNull(
         request.transactionValidDuration(), "transactionValidDuration must not be null");
     try {
-      final TopicUpdateTransaction transaction =
-          new TopicUpdateTransaction()
-              .setMaxTransactionFee(request.maxTransactionFee())
-              .setTransactionValidDuration(request.transactionValidDuration())
-              .setTopicId(request.topicId());
-      if (request.memo() != null) {
-        transaction.setTopicMemo(request.memo());
-      }
-      if (request.submitKey() != null) {
-        transaction.setSubmitKey(request.submitKey());
-      }
-      if (request.updatedAdminKey() != null) {
-        transaction.setAdminKey(request.updatedAdminKey());
-      }
-      if (request.updatedAdminKey() != null) {
-        sign(transaction, request.adminKey(), request.updatedAdminKey());
-      } else {
-        sign(transaction, request.adminKey());
-      }
+      final TopicUpdateTransaction transaction = createTopicUpdateTransaction(request);
       final TransactionReceipt receipt = executeTransactionAndWaitOnReceipt(transaction);
       return new TopicUpdateResult(receipt.transactionId, receipt.status);
     } catch (final Exception e) {
@@ -428,16 +837,50 @@ public class ProtocolLayerClientImpl implements ProtocolLayerClient {
     }
   }
 
+  @Override
+  public @NonNull CompletableFuture<TopicUpdateResult> executeTopicUpdateTransactionAsync(
+      @NonNull final TopicUpdateRequest request) {
+    Objects.requireNonNull(request, "request must not be null");
+    Objects.requireNonNull(request.maxTransactionFee(), "maxTransactionFee must not be null");
+    Objects.requireNonNull(
+        request.transactionValidDuration(), "transactionValidDuration must not be null");
+    final CompletableFuture<TopicUpdateResult> future =
+        supply(() -> createTopicUpdateTransaction(request))
+            .thenCompose(this::executeTransactionAndWaitOnReceiptAsync)
+            .thenApply(receipt -> new TopicUpdateResult(receipt.transactionId, receipt.status));
+    return wrapFailure(future, "Failed to execute update topic transaction");
+  }
+
+  @NonNull
+  private TopicUpdateTransaction createTopicUpdateTransaction(
+      @NonNull final TopicUpdateRequest request) {
+    final TopicUpdateTransaction transaction =
+        new TopicUpdateTransaction()
+            .setMaxTransactionFee(request.maxTransactionFee())
+            .setTransactionValidDuration(request.transactionValidDuration())
+            .setTopicId(request.topicId());
+    if (request.memo() != null) {
+      transaction.setTopicMemo(request.memo());
+    }
+    if (request.submitKey() != null) {
+      transaction.setSubmitKey(request.submitKey());
+    }
+    if (request.updatedAdminKey() != null) {
+      transaction.setAdminKey(request.updatedAdminKey());
+    }
+    if (request.updatedAdminKey() != null) {
+      sign(transaction, request.adminKey(), request.updatedAdminKey());
+    } else {
+      sign(transaction, request.adminKey());
+    }
+    return transaction;
+  }
+
   public TopicDeleteResult executeTopicDeleteTransaction(@NonNull final TopicDeleteRequest request)
       throws HieroException {
     Objects.requireNonNull(request, "request must not be null");
     try {
-      final TopicDeleteTransaction transaction =
-          new TopicDeleteTransaction()
-              .setMaxTransactionFee(request.maxTransactionFee())
-              .setTransactionValidDuration(request.transactionValidDuration())
-              .setTopicId(request.topicId());
-      sign(transaction, request.adminKey());
+      final TopicDeleteTransaction transaction = createTopicDeleteTransaction(request);
       final TransactionReceipt receipt = executeTransactionAndWaitOnReceipt(transaction);
       return new TopicDeleteResult(receipt.transactionId, receipt.status);
     } catch (final Exception e) {
@@ -445,19 +888,35 @@ public class ProtocolLayerClientImpl implements ProtocolLayerClient {
     }
   }
 
+  @Override
+  public @NonNull CompletableFuture<TopicDeleteResult> executeTopicDeleteTransactionAsync(
+      @NonNull final TopicDeleteRequest request) {
+    Objects.requireNonNull(request, "request must not be null");
+    final CompletableFuture<TopicDeleteResult> future =
+        supply(() -> createTopicDeleteTransaction(request))
+            .thenCompose(this::executeTransactionAndWaitOnReceiptAsync)
+            .thenApply(receipt -> new TopicDeleteResult(receipt.transactionId, receipt.status));
+    return wrapFailure(future, "Failed to execute delete topic transaction");
+  }
+
+  @NonNull
+  private TopicDeleteTransaction createTopicDeleteTransaction(
+      @NonNull final TopicDeleteRequest request) {
+    final TopicDeleteTransaction transaction =
+        new TopicDeleteTransaction()
+            .setMaxTransactionFee(request.maxTransactionFee())
+            .setTransactionValidDuration(request.transactionValidDuration())
+            .setTopicId(request.topicId());
+    sign(transaction, request.adminKey());
+    return transaction;
+  }
+
   public TopicSubmitMessageResult executeTopicMessageSubmitTransaction(
       @NonNull final TopicSubmitMessageRequest request) throws HieroException {
     Objects.requireNonNull(request, "request must not be null");
     try {
       final TopicMessageSubmitTransaction transaction =
-          new TopicMessageSubmitTransaction()
-              .setMaxTransactionFee(request.maxTransactionFee())
-              .setTransactionValidDuration(request.transactionValidDuration())
-              .setTopicId(request.topicId())
-              .setMessage(request.message());
-      if (request.submitKey() != null) {
-        sign(transaction, request.submitKey());
-      }
+          createTopicMessageSubmitTransaction(request);
       final TransactionReceipt receipt = executeTransactionAndWaitOnReceipt(transaction);
       return new TopicSubmitMessageResult(receipt.transactionId, receipt.status);
     } catch (final Exception e) {
@@ -465,6 +924,33 @@ public class ProtocolLayerClientImpl implements ProtocolLayerClient {
     }
   }
 
+  @Override
+  public @NonNull CompletableFuture<TopicSubmitMessageResult>
+      executeTopicMessageSubmitTransactionAsync(@NonNull final TopicSubmitMessageRequest request) {
+    Objects.requireNonNull(request, "request must not be null");
+    final CompletableFuture<TopicSubmitMessageResult> future =
+        supply(() -> createTopicMessageSubmitTransaction(request))
+            .thenCompose(this::executeTransactionAndWaitOnReceiptAsync)
+            .thenApply(
+                receipt -> new TopicSubmitMessageResult(receipt.transactionId, receipt.status));
+    return wrapFailure(future, "Failed to execute submit message transaction");
+  }
+
+  @NonNull
+  private TopicMessageSubmitTransaction createTopicMessageSubmitTransaction(
+      @NonNull final TopicSubmitMessageRequest request) {
+    final TopicMessageSubmitTransaction transaction =
+        new TopicMessageSubmitTransaction()
+            .setMaxTransactionFee(request.maxTransactionFee())
+            .setTransactionValidDuration(request.transactionValidDuration())
+            .setTopicId(request.topicId())
+            .setMessage(request.message());
+    if (request.submitKey() != null) {
+      sign(transaction, request.submitKey());
+    }
+    return transaction;
+  }
+
   @Override
   public TopicMessageResult executeTopicMessageQuery(TopicMessageRequest request)
       throws HieroException {
@@ -480,9 +966,16 @@ public class ProtocolLayerClientImpl implements ProtocolLayerClient {
       if (request.limit() >= 0) {
         query.setLimit(request.limit());
       }
-      final SubscriptionHandle subscribe =
-          query.subscribe(hieroContext.getClient(), request.subscription());
-      return new TopicMessageResult();
+      if (request.errorHandler() != null) {
+        final Consumer<Throwable> errorHandler = request.errorHandler();
+        query.setErrorHandler((throwable, message) -> errorHandler.accept(throwable));
+      }
+      if (request.completionHandler() != null) {
+        query.setCompletionHandler(request.completionHandler());
+      }
+      final SubscriptionHandle subscriptionHandle =
+          query.subscribe(hieroContext.nextClient(), request.subscription());
+      return new TopicMessageResult(subscriptionHandle);
     } catch (final Exception e) {
       throw new HieroException("Failed to execute query message transaction", e);
     }
@@ -492,16 +985,7 @@ public class ProtocolLayerClientImpl implements ProtocolLayerClient {
       throws HieroException {
     Objects.requireNonNull(request, "request must not be null");
     try {
-      final TokenCreateTransaction transaction =
-          new TokenCreateTransaction()
-              .setMaxTransactionFee(request.maxTransactionFee())
-              .setTransactionValidDuration(request.transactionValidDuration())
-              .setTokenName(request.name())
-              .setTokenSymbol(request.symbol())
-              .setTreasuryAccountId(request.treasuryAccountId())
-              .setTokenType(request.tokenType())
-              .setSupplyKey(request.supplyKey());
-      sign(transaction, request.treasuryKey(), request.supplyKey());
+      final TokenCreateTransaction transaction = createTokenCreateTransaction(request);
       final TransactionReceipt receipt = executeTransactionAndWaitOnReceipt(transaction);
       return new TokenCreateResult(receipt.transactionId, receipt.status, receipt.tokenId);
     } catch (final Exception e) {
@@ -509,17 +993,40 @@ public class ProtocolLayerClientImpl implements ProtocolLayerClient {
     }
   }
 
+  @Override
+  public @NonNull CompletableFuture<TokenCreateResult> executeTokenCreateTransactionAsync(
+      @NonNull final TokenCreateRequest request) {
+    Objects.requireNonNull(request, "request must not be null");
+    final CompletableFuture<TokenCreateResult> future =
+        supply(() -> createTokenCreateTransaction(request))
+            .thenCompose(this::executeTransactionAndWaitOnReceiptAsync)
+            .thenApply(
+                receipt ->
+                    new TokenCreateResult(receipt.transactionId, receipt.status, receipt.tokenId));
+    return wrapFailure(future, "Failed to execute create token transaction");
+  }
+
+  @NonNull
+  private TokenCreateTransaction createTokenCreateTransaction(
+      @NonNull final TokenCreateRequest request) {
+    final TokenCreateTransaction transaction =
+        new TokenCreateTransaction()
+            .setMaxTransactionFee(request.maxTransactionFee())
+            .setTransactionValidDuration(request.transactionValidDuration())
+            .setTokenName(request.name())
+            .setTokenSymbol(request.symbol())
+            .setTreasuryAccountId(request.treasuryAccountId())
+            .setTokenType(request.tokenType())
+            .setSupplyKey(request.supplyKey());
+    sign(transaction, request.treasuryKey(), request.supplyKey());
+    return transaction;
+  }
+
   public TokenAssociateResult executeTokenAssociateTransaction(
       @NonNull final TokenAssociateRequest request) throws HieroException {
     Objects.requireNonNull(request, "request must not be null");
     try {
-      final TokenAssociateTransaction transaction =
-          new TokenAssociateTransaction()
-              .setMaxTransactionFee(request.maxTransactionFee())
-              .setTransactionValidDuration(request.transactionValidDuration())
-              .setTokenIds(request.tokenIds())
-              .setAccountId(request.accountId());
-      sign(transaction, request.accountPrivateKey());
+      final TokenAssociateTransaction transaction = createTokenAssociateTransaction(request);
       final TransactionReceipt receipt = executeTransactionAndWaitOnReceipt(transaction);
       return new TokenAssociateResult(receipt.transactionId, receipt.status);
     } catch (final Exception e) {
@@ -528,17 +1035,35 @@ public class ProtocolLayerClientImpl implements ProtocolLayerClient {
   }
 
   @Override
-  public @NonNull TokenDissociateResult executeTokenDissociateTransaction(
+  public @NonNull CompletableFuture<TokenAssociateResult> executeTokenAssociateTransactionAsync(
+      @NonNull final TokenAssociateRequest request) {
+    Objects.requireNonNull(request, "request must not be null");
+    final CompletableFuture<TokenAssociateResult> future =
+        supply(() -> createTokenAssociateTransaction(request))
+            .thenCompose(this::executeTransactionAndWaitOnReceiptAsync)
+            .thenApply(receipt -> new TokenAssociateResult(receipt.transactionId, receipt.status));
+    return wrapFailure(future, "Failed to execute associate token transaction");
+  }
+
+  @NonNull
+  private TokenAssociateTransaction createTokenAssociateTransaction(
+      @NonNull final TokenAssociateRequest request) {
+    final TokenAssociateTransaction transaction =
+        new TokenAssociateTransaction()
+            .setMaxTransactionFee(request.maxTransactionFee())
+            .setTransactionValidDuration(request.transactionValidDuration())
+            .setTokenIds(request.tokenIds())
+            .setAccountId(request.accountId());
+    sign(transaction, request.accountPrivateKey());
+    return transaction;
+  }
+
+  @Override
+  public @NonNull TokenDissociateResult executeTokenDissociateTransaction(
       @NonNull TokenDissociateRequest request) throws HieroException {
     Objects.requireNonNull(request, "request must not be null");
     try {
-      final TokenDissociateTransaction transaction =
-          new TokenDissociateTransaction()
-              .setMaxTransactionFee(request.maxTransactionFee())
-              .setTransactionValidDuration(request.transactionValidDuration())
-              .setAccountId(request.accountId())
-              .setTokenIds(request.tokenIds());
-      sign(transaction, request.accountKey());
+      final TokenDissociateTransaction transaction = createTokenDissociateTransaction(request);
       final TransactionReceipt receipt = executeTransactionAndWaitOnReceipt(transaction);
       return new TokenDissociateResult(receipt.transactionId, receipt.status);
     } catch (final Exception e) {
@@ -546,23 +1071,35 @@ public class ProtocolLayerClientImpl implements ProtocolLayerClient {
     }
   }
 
+  @Override
+  public @NonNull CompletableFuture<TokenDissociateResult> executeTokenDissociateTransactionAsync(
+      @NonNull final TokenDissociateRequest request) {
+    Objects.requireNonNull(request, "request must not be null");
+    final CompletableFuture<TokenDissociateResult> future =
+        supply(() -> createTokenDissociateTransaction(request))
+            .thenCompose(this::executeTransactionAndWaitOnReceiptAsync)
+            .thenApply(receipt -> new TokenDissociateResult(receipt.transactionId, receipt.status));
+    return wrapFailure(future, "Failed to execute dissociate token transaction");
+  }
+
+  @NonNull
+  private TokenDissociateTransaction createTokenDissociateTransaction(
+      @NonNull final TokenDissociateRequest request) {
+    final TokenDissociateTransaction transaction =
+        new TokenDissociateTransaction()
+            .setMaxTransactionFee(request.maxTransactionFee())
+            .setTransactionValidDuration(request.transactionValidDuration())
+            .setAccountId(request.accountId())
+            .setTokenIds(request.tokenIds());
+    sign(transaction, request.accountKey());
+    return transaction;
+  }
+
   public TokenBurnResult executeBurnTokenTransaction(@NonNull final TokenBurnRequest request)
       throws HieroException {
     Objects.requireNonNull(request, "request must not be null");
     try {
-      final TokenBurnTransaction transaction =
-          new TokenBurnTransaction()
-              .setMaxTransactionFee(request.maxTransactionFee())
-              .setTransactionValidDuration(request.transactionValidDuration())
-              .setTokenId(request.tokenId());
-      if (request.amount() != null) {
-        transaction.setAmount(request.amount());
-      } else if (request.serials() != null) {
-        transaction.setSerials(List.copyOf(request.serials()));
-      } else {
-        throw new IllegalArgumentException("either amount or serial must be provided");
-      }
-
+      final TokenBurnTransaction transaction = createTokenBurnTransaction(request);
       final TransactionReceipt receipt = executeTransactionAndWaitOnReceipt(transaction);
       return new TokenBurnResult(receipt.transactionId, receipt.status, receipt.totalSupply);
     } catch (final Exception e) {
@@ -570,23 +1107,42 @@ public class ProtocolLayerClientImpl implements ProtocolLayerClient {
     }
   }
 
+  @Override
+  public @NonNull CompletableFuture<TokenBurnResult> executeBurnTokenTransactionAsync(
+      @NonNull final TokenBurnRequest request) {
+    Objects.requireNonNull(request, "request must not be null");
+    final CompletableFuture<TokenBurnResult> future =
+        supply(() -> createTokenBurnTransaction(request))
+            .thenCompose(this::executeTransactionAndWaitOnReceiptAsync)
+            .thenApply(
+                receipt ->
+                    new TokenBurnResult(
+                        receipt.transactionId, receipt.status, receipt.totalSupply));
+    return wrapFailure(future, "Failed to execute burn token transaction");
+  }
+
+  @NonNull
+  private TokenBurnTransaction createTokenBurnTransaction(@NonNull final TokenBurnRequest request) {
+    final TokenBurnTransaction transaction =
+        new TokenBurnTransaction()
+            .setMaxTransactionFee(request.maxTransactionFee())
+            .setTransactionValidDuration(request.transactionValidDuration())
+            .setTokenId(request.tokenId());
+    if (request.amount() != null) {
+      transaction.setAmount(request.amount());
+    } else if (request.serials() != null) {
+      transaction.setSerials(List.copyOf(request.serials()));
+    } else {
+      throw new IllegalArgumentException("either amount or serial must be provided");
+    }
+    return transaction;
+  }
+
   public TokenMintResult executeMintTokenTransaction(@NonNull final TokenMintRequest request)
       throws HieroException {
     Objects.requireNonNull(request, "request must not be null");
     try {
-      final TokenMintTransaction transaction =
-          new TokenMintTransaction()
-              .setMaxTransactionFee(request.maxTransactionFee())
-              .setTransactionValidDuration(request.transactionValidDuration())
-              .setTokenId(request.tokenId());
-      if (request.amount() != null) {
-        transaction.setAmount(request.amount());
-      } else if (request.metadata() != null) {
-        transaction.setMetadata(request.metadata());
-      } else {
-        throw new IllegalArgumentException("either amount or metadata must be provided");
-      }
-      sign(transaction, request.supplyKey());
+      final TokenMintTransaction transaction = createTokenMintTransaction(request, null);
       final TransactionReceipt receipt = executeTransactionAndWaitOnReceipt(transaction);
       return new TokenMintResult(
           receipt.transactionId, receipt.status, receipt.serials, receipt.totalSupply);
@@ -595,30 +1151,75 @@ public class ProtocolLayerClientImpl implements ProtocolLayerClient {
     }
   }
 
+  @Override
+  public @NonNull CompletableFuture<TokenMintResult> executeMintTokenTransactionAsync(
+      @NonNull final TokenMintRequest request) {
+    Objects.requireNonNull(request, "request must not be null");
+    final CompletableFuture<TokenMintResult> future =
+        supply(() -> createTokenMintTransaction(request, null))
+            .thenCompose(this::executeTransactionAndWaitOnReceiptAsync)
+            .thenApply(
+                receipt ->
+                    new TokenMintResult(
+                        receipt.transactionId,
+                        receipt.status,
+                        receipt.serials,
+                        receipt.totalSupply));
+    return wrapFailure(future, "Failed to execute mint token transaction");
+  }
+
+  @Override
+  public @NonNull CompletableFuture<TokenMintResult> executeMintTokenTransactionAsync(
+      @NonNull final TokenMintRequest request, @NonNull final TransactionId transactionId) {
+    Objects.requireNonNull(request, "request must not be null");
+    Objects.requireNonNull(transactionId, "transactionId must not be null");
+    final CompletableFuture<TokenMintResult> future =
+        supply(() -> createTokenMintTransaction(request, transactionId))
+            .thenCompose(this::executeTransactionAndWaitOnReceiptAsync)
+            .thenApply(
+                receipt ->
+                    new TokenMintResult(
+                        receipt.transactionId,
+                        receipt.status,
+                        receipt.serials,
+                        receipt.totalSupply));
+    return wrapFailure(future, "Failed to execute mint token transaction '" + transactionId + "'");
+  }
+
+  /**
+   * Creates a signed mint transaction. If a transaction ID is given, it is set before the
+   * transaction is frozen, since the SDK does not allow to change the ID of a frozen transaction.
+   * The payer of that ID is kept and not chosen by the operator pool.
+   */
+  @NonNull
+  private TokenMintTransaction createTokenMintTransaction(
+      @NonNull final TokenMintRequest request, @Nullable final TransactionId transactionId) {
+    final TokenMintTransaction transaction =
+        new TokenMintTransaction()
+            .setMaxTransactionFee(request.maxTransactionFee())
+            .setTransactionValidDuration(request.transactionValidDuration())
+            .setTokenId(request.tokenId());
+    if (request.amount() != null) {
+      transaction.setAmount(request.amount());
+    } else if (request.metadata() != null) {
+      transaction.setMetadata(request.metadata());
+    } else {
+      throw new IllegalArgumentException("either amount or metadata must be provided");
+    }
+    if (transactionId != null) {
+      transaction.setTransactionId(transactionId);
+      selectNodes(transaction);
+      transaction.freezeWith(hieroContext.nextClient());
+    }
+    sign(transaction, request.supplyKey());
+    return transaction;
+  }
+
   public TokenTransferResult executeTransferTransaction(@NonNull final TokenTransferRequest request)
       throws HieroException {
     Objects.requireNonNull(request, "request must not be null");
     try {
-      final TransferTransaction transaction =
-          new TransferTransaction()
-              .setMaxTransactionFee(request.maxTransactionFee())
-              .setTransactionValidDuration(request.transactionValidDuration());
-      if (!request.serials().isEmpty()) {
-        request
-            .serials()
-            .forEach(
-                serial ->
-                    transaction.addNftTransfer(
-                        new NftId(request.tokenId(), serial),
-                        request.sender(),
-                        request.receiver()));
-      } else if (request.amount() != null) {
-        transaction.addTokenTransfer(request.tokenId(), request.sender(), request.amount() * -1);
-        transaction.addTokenTransfer(request.tokenId(), request.receiver(), request.amount());
-      } else {
-        throw new IllegalArgumentException("either amount or serial must be provided");
-      }
-      sign(transaction, request.senderKey());
+      final TransferTransaction transaction = createTransferTransaction(request);
       final TransactionReceipt receipt = executeTransactionAndWaitOnReceipt(transaction);
       return new TokenTransferResult(receipt.transactionId, receipt.status);
     } catch (final Exception e) {
@@ -626,11 +1227,270 @@ public class ProtocolLayerClientImpl implements ProtocolLayerClient {
     }
   }
 
+  @Override
+  public @NonNull CompletableFuture<TokenTransferResult> executeTransferTransactionAsync(
+      @NonNull final TokenTransferRequest request) {
+    Objects.requireNonNull(request, "request must not be null");
+    final CompletableFuture<TokenTransferResult> future =
+        supply(() -> createTransferTransaction(request))
+            .thenCompose(this::executeTransactionAndWaitOnReceiptAsync)
+            .thenApply(receipt -> new TokenTransferResult(receipt.transactionId, receipt.status));
+    return wrapFailure(future, "Failed to execute transfer nft transaction");
+  }
+
+  @NonNull
+  private TransferTransaction createTransferTransaction(
+      @NonNull final TokenTransferRequest request) {
+    final TransferTransaction transaction =
+        new TransferTransaction()
+            .setMaxTransactionFee(request.maxTransactionFee())
+            .setTransactionValidDuration(request.transactionValidDuration());
+    if (!request.serials().isEmpty()) {
+      request
+          .serials()
+          .forEach(
+              serial ->
+                  transaction.addNftTransfer(
+                      new NftId(request.tokenId(), serial), request.sender(), request.receiver()));
+    } else if (request.amount() != null) {
+      transaction.addTokenTransfer(request.tokenId(), request.sender(), request.amount() * -1);
+      transaction.addTokenTransfer(request.tokenId(), request.receiver(), request.amount());
+    } else {
+      throw new IllegalArgumentException("either amount or serial must be provided");
+    }
+    sign(transaction, request.senderKey());
+    return transaction;
+  }
+
+  @Override
+  public @NonNull TokenTransferResult executeBatchTransferTransaction(
+      @NonNull final TokenBatchTransferRequest request) throws HieroException {
+    Objects.requireNonNull(request, "request must not be null");
+    try {
+      final TransferTransaction transaction = createBatchTransferTransaction(request);
+      final TransactionReceipt receipt = executeTransactionAndWaitOnReceipt(transaction);
+      return new TokenTransferResult(receipt.transactionId, receipt.status);
+    } catch (final Exception e) {
+      throw new HieroException("Failed to execute batch transfer transaction", e);
+    }
+  }
+
+  @Override
+  public @NonNull CompletableFuture<TokenTransferResult> executeBatchTransferTransactionAsync(
+      @NonNull final TokenBatchTransferRequest request) {
+    Objects.requireNonNull(request, "request must not be null");
+    final CompletableFuture<TokenTransferResult> future =
+        supply(() -> createBatchTransferTransaction(request))
+            .thenCompose(this::executeTransactionAndWaitOnReceiptAsync)
+            .thenApply(receipt -> new TokenTransferResult(receipt.transactionId, receipt.status));
+    return wrapFailure(future, "Failed to execute batch transfer transaction");
+  }
+
+  @NonNull
+  private TransferTransaction createBatchTransferTransaction(
+      @NonNull final TokenBatchTransferRequest request) {
+    final TransferTransaction transaction =
+        new TransferTransaction()
+            .setMaxTransactionFee(request.maxTransactionFee())
+            .setTransactionValidDuration(request.transactionValidDuration());
+    transaction.addTokenTransfer(request.tokenId(), request.sender(), -request.totalAmount());
+    request
+        .amounts()
+        .forEach(
+            (receiver, amount) ->
+                transaction.addTokenTransfer(request.tokenId(), receiver, amount));
+    sign(transaction, request.senderKey());
+    return transaction;
+  }
+
+  @Override
+  public @NonNull TokenTransferResult executeNftBatchTransferTransaction(
+      @NonNull final NftBatchTransferRequest request) throws HieroException {
+    Objects.requireNonNull(request, "request must not be null");
+    try {
+      final TransferTransaction transaction = createNftBatchTransferTransaction(request);
+      final TransactionReceipt receipt = executeTransactionAndWaitOnReceipt(transaction);
+      return new TokenTransferResult(receipt.transactionId, receipt.status);
+    } catch (final Exception e) {
+      throw new HieroException("Failed to execute nft batch transfer transaction", e);
+    }
+  }
+
+  @Override
+  public @NonNull CompletableFuture<TokenTransferResult> executeNftBatchTransferTransactionAsync(
+      @NonNull final NftBatchTransferRequest request) {
+    Objects.requireNonNull(request, "request must not be null");
+    final CompletableFuture<TokenTransferResult> future =
+        supply(() -> createNftBatchTransferTransaction(request))
+            .thenCompose(this::executeTransactionAndWaitOnReceiptAsync)
+            .thenApply(receipt -> new TokenTransferResult(receipt.transactionId, receipt.status));
+    return wrapFailure(future, "Failed to execute nft batch transfer transaction");
+  }
+
+  @NonNull
+  private TransferTransaction createNftBatchTransferTransaction(
+      @NonNull final NftBatchTransferRequest request) {
+    final TransferTransaction transaction =
+        new TransferTransaction()
+            .setMaxTransactionFee(request.maxTransactionFee())
+            .setTransactionValidDuration(request.transactionValidDuration());
+    request
+        .transfers()
+        .forEach(
+            transfer ->
+                transaction.addNftTransfer(
+                    transfer.nftId(), transfer.sender().accountId(), transfer.receiver()));
+    sign(transaction, request.senderKeys().toArray(new PrivateKey[0]));
+    return transaction;
+  }
+
+  @Override
+  public @NonNull List<TransactionSubmission> submitTransactions(
+      @NonNull final List<? extends TransactionRequest> requests, final int maxInFlight)
+      throws HieroException {
+    Objects.requireNonNull(requests, "requests must not be null");
+    final CompletableFuture<List<TransactionSubmission>> future =
+        InFlightWindow.submitAll(requests, maxInFlight, this::submitTransactionAsync);
+    try {
+      return future.join();
+    } catch (final Exception e) {
+      throw new HieroException("Failed to submit transactions", unwrap(e));
+    }
+  }
+
+  @Override
+  public @NonNull CompletableFuture<List<TransactionOutcome>> collectReceipts(
+      @NonNull final List<TransactionSubmission> submissions, final int maxInFlight) {
+    Objects.requireNonNull(submissions, "submissions must not be null");
+    return InFlightWindow.submitAll(submissions, maxInFlight, this::collectReceiptAsync);
+  }
+
+  @NonNull
+  private CompletableFuture<TransactionSubmission> submitTransactionAsync(
+      @NonNull final TransactionRequest request) {
+    final Client client = hieroContext.nextClient();
+    final Transaction<?> transaction;
+    final CompletableFuture<TransactionResponse> responseFuture;
+    final AtomicLong submitStart = new AtomicLong();
+    final String typeName;
+    try {
+      transaction = createTransaction(request);
+      prepare(transaction);
+      typeName = transaction.getClass().getSimpleName();
+      log.debug("Submitting transaction of type {}", typeName);
+      responseFuture = submitAsync(transaction, client, submitStart);
+    } catch (final Exception e) {
+      return CompletableFuture.completedFuture(
+          TransactionSubmission.failed(
+              request, new HieroException("Failed to create transaction for " + request, e)));
+    }
+    return responseFuture.handle(
+        (response, throwable) -> {
+          if (throwable != null) {
+            recordSubmitFailed(transaction, unwrap(throwable), submitStart.get());
+            return TransactionSubmission.failed(
+                request,
+                new HieroException(
+                    "Failed to execute transaction of type " + typeName, unwrap(throwable)));
+          }
+          recordSubmitted(transaction, response, submitStart.get());
+          recordPayerSubmitted(response.transactionId);
+          notifySubmitted(transaction, response.transactionId);
+          return TransactionSubmission.submitted(
+              request, response.transactionId, TransactionType.from(transaction), response.nodeId);
+        });
+  }
+
+  @NonNull
+  private CompletableFuture<TransactionOutcome> collectReceiptAsync(
+      @NonNull final TransactionSubmission submission) {
+    if (!submission.isSubmitted()) {
+      return CompletableFuture.completedFuture(
+          TransactionOutcome.failed(submission, Objects.requireNonNull(submission.error())));
+    }
+    final TransactionId transactionId = Objects.requireNonNull(submission.transactionId());
+    final TransactionReceipt knownReceipt = recentReceipts.get(transactionId);
+    if (knownReceipt != null) {
+      return CompletableFuture.completedFuture(TransactionOutcome.of(submission, knownReceipt));
+    }
+    final TransactionType type = submission.type();
+    final long receiptStart = System.nanoTime();
+    final CompletableFuture<TransactionReceipt> receiptFuture;
+    try {
+      log.debug("Waiting for receipt of transaction '{}'", transactionId);
+      receiptFuture =
+          getReceiptAsync(type, transactionId, submission.nodeId(), hieroContext.nextClient());
+    } catch (final Exception e) {
+      recordReceiptFailed(type, e, receiptStart);
+      recordCompleted(transactionId, false);
+      return CompletableFuture.completedFuture(
+          TransactionOutcome.failed(
+              submission,
+              new HieroException(
+                  "Failed to receive receipt of transaction '" + transactionId + "'", e)));
+    }
+    return receiptFuture.handle(
+        (receipt, throwable) -> {
+          if (throwable != null) {
+            recordReceiptFailed(type, unwrap(throwable), receiptStart);
+            recordCompleted(transactionId, false);
+            return TransactionOutcome.failed(
+                submission,
+                new HieroException(
+                    "Failed to receive receipt of transaction '" + transactionId + "'",
+                    unwrap(throwable)));
+          }
+          recordReceipt(type, submission.nodeId(), receipt.status, receiptStart);
+          recentReceipts.put(transactionId, receipt);
+          recordCompleted(transactionId, receipt.status == Status.SUCCESS);
+          notifyHandled(type, transactionId, receipt.status);
+          return TransactionOutcome.of(submission, receipt);
+        });
+  }
+
+  /**
+   * Creates the SDK transaction for a request. Requests whose result depends on data that is only
+   * available on the client side (like the generated key of a new account) are not supported.
+   */
+  @NonNull
+  private Transaction<?> createTransaction(@NonNull final TransactionRequest request)
+      throws HieroException {
+    Objects.requireNonNull(request, "request must not be null");
+    return switch (request) {
+      case FileCreateRequest r -> createFileCreateTransaction(r);
+      case FileUpdateRequest r -> createFileUpdateTransaction(r);
+      case FileAppendRequest r -> createFileAppendTransaction(r);
+      case FileDeleteRequest r -> createFileDeleteTransaction(r);
+      case ContractCreateRequest r -> createContractCreateTransaction(r);
+      case ContractDeleteRequest r -> createContractDeleteTransaction(r);
+      case ContractCallRequest r -> createContractExecuteTransaction(r);
+      case AccountDeleteRequest r -> createAccountDeleteTransaction(r);
+      case TopicCreateRequest r -> createTopicCreateTransaction(r);
+      case TopicUpdateRequest r -> createTopicUpdateTransaction(r);
+      case TopicDeleteRequest r -> createTopicDeleteTransaction(r);
+      case TopicSubmitMessageRequest r -> createTopicMessageSubmitTransaction(r);
+      case TokenCreateRequest r -> createTokenCreateTransaction(r);
+      case TokenAssociateRequest r -> createTokenAssociateTransaction(r);
+      case TokenDissociateRequest r -> createTokenDissociateTransaction(r);
+      case TokenBurnRequest r -> createTokenBurnTransaction(r);
+      case TokenMintRequest r -> createTokenMintTransaction(r, null);
+      case TokenTransferRequest r -> createTransferTransaction(r);
+      case TokenBatchTransferRequest r -> createBatchTransferTransaction(r);
+      case NftBatchTransferRequest r -> createNftBatchTransferTransaction(r);
+      default ->
+          throw new IllegalArgumentException(
+              "Request of type "
+                  + request.getClass().getSimpleName()
+                  + " is not supported in pipelined mode");
+    };
+  }
+
   @NonNull
   private <T extends Transaction<T>> Transaction<T> sign(
       Transaction<T> transaction, final PrivateKey... keys) {
     if (keys != null) {
-      transaction.freezeWith(hieroContext.getClient());
+      prepare(transaction);
+      transaction.freezeWith(hieroContext.nextClient());
       for (PrivateKey key : keys) {
         transaction.sign(key);
       }
@@ -649,48 +1509,220 @@ public class ProtocolLayerClientImpl implements ProtocolLayerClient {
     return constructorParams;
   }
 
+  /**
+   * Sends a transaction and waits for its receipt. The transaction ID is assigned before the first
+   * attempt and kept for all retries of the {@link TransactionRetryPolicy}, so the same signed
+   * transaction is submitted again and the network deduplicates it. Since a failed attempt might
+   * still have reached consensus, the receipt of the transaction ID is requested before the
+   * transaction is submitted again.
+   */
   @NonNull
   private <T extends Transaction<T>> TransactionReceipt executeTransactionAndWaitOnReceipt(
       @NonNull final T transaction) throws HieroException {
     Objects.requireNonNull(transaction, "transaction must not be null");
+    final Client client = hieroContext.nextClient();
+    final String typeName = transaction.getClass().getSimpleName();
+    final TransactionRetryPolicy retryPolicy = hieroContext.getTransactionRetryPolicy();
+    final TransactionId transactionId;
     try {
-      log.debug("Sending transaction of type {}", transaction.getClass().getSimpleName());
-      final TransactionResponse response = transaction.execute(hieroContext.getClient());
-      listeners.forEach(
-          listener -> {
-            try {
-              listener.transactionSubmitted(TransactionType.ACCOUNT_CREATE, response.transactionId);
-            } catch (Exception e) {
-              log.error("Failed to notify listener", e);
-            }
-          });
+      prepare(transaction);
+      transactionId = assignTransactionId(transaction, client);
+    } catch (final Exception e) {
+      throw new HieroException("Failed to execute transaction of type " + typeName, e);
+    }
+    recordPayerSubmitted(transactionId);
+    boolean submitted = false;
+    for (int attempt = 1; ; attempt++) {
       try {
-        log.debug(
-            "Waiting for receipt of transaction '{}' of type {}",
-            response.transactionId,
-            transaction.getClass().getSimpleName());
-        final TransactionReceipt receipt = response.getReceipt(hieroContext.getClient());
-        listeners.forEach(
-            listener -> {
-              try {
-                listener.transactionHandled(
-                    TransactionType.ACCOUNT_CREATE, response.transactionId, receipt.status);
-              } catch (Exception e) {
-                log.error("Failed to notify listener", e);
-              }
-            });
+        TransactionReceipt receipt = attempt > 1 ? findReceipt(client, transactionId) : null;
+        if (receipt != null) {
+          log.debug("Transaction '{}' reached consensus before it was retried", transactionId);
+          receipt.validateStatus(true);
+        } else {
+          log.debug(
+              "Sending transaction '{}' of type {} (attempt {})", transactionId, typeName, attempt);
+          acquirePermit(transaction);
+          final long submitStart = System.nanoTime();
+          final TransactionSubmitEvent submitEvent = begin(new TransactionSubmitEvent());
+          TransactionResponse response = null;
+          try {
+            response = transaction.execute(client);
+            commitSubmit(submitEvent, transaction, response, null);
+          } catch (final Exception e) {
+            commitSubmit(submitEvent, transaction, null, e);
+            recordSubmitFailed(transaction, e, submitStart);
+            if (attempt == 1 || !isDuplicate(e)) {
+              throw e;
+            }
+            // an earlier attempt reached the network, only its receipt is missing
+          }
+          if (!submitted) {
+            submitted = true;
+            notifySubmitted(transaction, transactionId);
+          }
+          receipt =
+              response != null
+                  ? waitOnReceipt(
+                      transaction,
+                      response,
+                      client,
+                      recordSubmitted(transaction, response, submitStart))
+                  : waitOnReceipt(transaction, transactionId, client);
+        }
+        recordCompleted(transactionId, true);
+        notifyHandled(TransactionType.from(transaction), transactionId, receipt.status);
         return receipt;
-      } catch (Exception e) {
-        throw new HieroException(
-            "Failed to receive receipt of transaction '"
-                + response.transactionId
-                + "' of type "
-                + transaction.getClass(),
-            e);
+      } catch (final Exception e) {
+        if (attempt < retryPolicy.maxAttempts() && retryPolicy.isTransient(e)) {
+          final Duration backoff = retryPolicy.backoff(attempt);
+          log.debug(
+              "Attempt {} of transaction '{}' failed, retrying in {} ms",
+              attempt,
+              transactionId,
+              backoff.toMillis(),
+              e);
+          awaitBackoff(backoff, transactionId);
+          continue;
+        }
+        recordCompleted(transactionId, false);
+        throw new HieroException("Failed to execute transaction of type " + typeName, e);
       }
+    }
+  }
+
+  /**
+   * Assigns the transaction ID of a transaction and freezes it. Frozen transactions keep their
+   * transaction ID.
+   */
+  @NonNull
+  private static TransactionId assignTransactionId(
+      @NonNull final Transaction<?> transaction, @NonNull final Client client) {
+    if (!isFrozen(transaction)) {
+      transaction.setTransactionId(TransactionId.generate(client.getOperatorAccountId()));
+      transaction.freezeWith(client);
+    }
+    return transaction.getTransactionId();
+  }
+
+  @NonNull
+  private TransactionReceipt waitOnReceipt(
+      @NonNull final Transaction<?> transaction,
+      @NonNull final TransactionResponse response,
+      @NonNull final Client client,
+      final long receiptStart)
+      throws HieroException {
+    final TransactionType type = TransactionType.from(transaction);
+    final TransactionReceiptEvent receiptEvent = begin(new TransactionReceiptEvent());
+    try {
+      log.debug(
+          "Waiting for receipt of transaction '{}' of type {}",
+          response.transactionId,
+          transaction.getClass().getSimpleName());
+      final TransactionReceipt receipt = response.getReceipt(client);
+      commitReceipt(receiptEvent, type, response.transactionId, receipt, null);
+      recordReceipt(
+          TransactionType.from(transaction), response.nodeId, receipt.status, receiptStart);
+      recentReceipts.put(response.transactionId, receipt);
+      return receipt;
+    } catch (final ReceiptStatusException e) {
+      commitReceipt(receiptEvent, type, response.transactionId, e.receipt, null);
+      recentReceipts.put(response.transactionId, e.receipt);
+      recordReceiptFailed(TransactionType.from(transaction), e, receiptStart);
+      throw receiptFailure(transaction, response.transactionId, e);
     } catch (final Exception e) {
-      throw new HieroException(
-          "Failed to execute transaction of type " + transaction.getClass().getSimpleName(), e);
+      commitReceipt(receiptEvent, type, response.transactionId, null, e);
+      recordReceiptFailed(TransactionType.from(transaction), e, receiptStart);
+      throw receiptFailure(transaction, response.transactionId, e);
+    }
+  }
+
+  @NonNull
+  private TransactionReceipt waitOnReceipt(
+      @NonNull final Transaction<?> transaction,
+      @NonNull final TransactionId transactionId,
+      @NonNull final Client client)
+      throws HieroException {
+    final TransactionType type = TransactionType.from(transaction);
+    final long receiptStart = System.nanoTime();
+    final TransactionReceiptEvent receiptEvent = begin(new TransactionReceiptEvent());
+    final TransactionReceipt receipt;
+    try {
+      log.debug(
+          "Waiting for receipt of transaction '{}' of type {}",
+          transactionId,
+          transaction.getClass().getSimpleName());
+      receipt = new TransactionReceiptQuery().setTransactionId(transactionId).execute(client);
+    } catch (final Exception e) {
+      commitReceipt(receiptEvent, type, transactionId, null, e);
+      recordReceiptFailed(type, e, receiptStart);
+      throw receiptFailure(transaction, transactionId, e);
+    }
+    commitReceipt(receiptEvent, type, transactionId, receipt, null);
+    recentReceipts.put(transactionId, receipt);
+    try {
+      receipt.validateStatus(true);
+    } catch (final ReceiptStatusException e) {
+      recordReceiptFailed(type, e, receiptStart);
+      throw receiptFailure(transaction, transactionId, e);
+    }
+    recordReceipt(type, null, receipt.status, receiptStart);
+    return receipt;
+  }
+
+  @NonNull
+  private static HieroException receiptFailure(
+      @NonNull final Transaction<?> transaction,
+      @NonNull final TransactionId transactionId,
+      @NonNull final Throwable cause) {
+    return new HieroException(
+        "Failed to receive receipt of transaction '"
+            + transactionId
+            + "' of type "
+            + transaction.getClass(),
+        cause);
+  }
+
+  /**
+   * Looks for the receipt of a transaction without waiting for consensus. Returns null if the
+   * network does not know the transaction (yet).
+   */
+  @Nullable
+  private TransactionReceipt findReceipt(
+      @NonNull final Client client, @NonNull final TransactionId transactionId) {
+    final TransactionReceipt knownReceipt = recentReceipts.get(transactionId);
+    if (knownReceipt != null) {
+      return knownReceipt;
+    }
+    try {
+      final TransactionReceipt receipt =
+          new TransactionReceiptQuery()
+              .setTransactionId(transactionId)
+              .setMaxAttempts(RECEIPT_CHECK_ATTEMPTS)
+              .execute(client);
+      if (receipt.status == Status.UNKNOWN || receipt.status == Status.RECEIPT_NOT_FOUND) {
+        return null;
+      }
+      recentReceipts.put(transactionId, receipt);
+      return receipt;
+    } catch (final Exception e) {
+      log.debug("No receipt found for transaction '{}'", transactionId, e);
+      return null;
+    }
+  }
+
+  private static boolean isDuplicate(@NonNull final Throwable error) {
+    return error instanceof PrecheckStatusException precheck
+        && precheck.status == Status.DUPLICATE_TRANSACTION;
+  }
+
+  private static void awaitBackoff(
+      @NonNull final Duration backoff, @NonNull final TransactionId transactionId)
+      throws HieroException {
+    try {
+      Thread.sleep(backoff);
+    } catch (final InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new HieroException("Interrupted while retrying transaction '" + transactionId + "'", e);
     }
   }
 
@@ -706,8 +1738,19 @@ public class ProtocolLayerClientImpl implements ProtocolLayerClient {
 
       final ReceiveRecordHandler data =
           new ReceiveRecordHandler(
-              transaction, receipt, r -> r.transactionId.getRecord(hieroContext.getClient()));
-      return recordInterceptor.get().getRecordFor(data);
+              transaction, receipt, r -> r.transactionId.getRecord(hieroContext.nextClient()));
+      final long recordStart = System.nanoTime();
+      final TransactionRecordEvent recordEvent = begin(new TransactionRecordEvent());
+      try {
+        final TransactionRecord record = recordInterceptor.get().getRecordFor(data);
+        commitRecord(recordEvent, transaction, receipt.transactionId, record, null);
+        recordRecordReceived(transaction, record.receipt.status, recordStart);
+        return recordFee(record);
+      } catch (final Exception e) {
+        commitRecord(recordEvent, transaction, receipt.transactionId, null, e);
+        recordRecordReceived(transaction, statusOf(e), recordStart);
+        throw e;
+      }
     } catch (final Exception e) {
       throw new HieroException(
           "Failed to receive record of transaction '"
@@ -722,14 +1765,624 @@ public class ProtocolLayerClientImpl implements ProtocolLayerClient {
   private <R, Q extends Query<R, Q>> R executeQueryAndWait(@NonNull final Q query)
       throws HieroException {
     Objects.requireNonNull(query, "query must not be null");
+    final long start = System.nanoTime();
+    final QueryEvent queryEvent = begin(new QueryEvent());
     try {
       log.debug("Sending query of type {}", query.getClass().getSimpleName());
-      return query.execute(hieroContext.getClient());
+      final R result = query.execute(hieroContext.nextClient());
+      commitQuery(queryEvent, query, null);
+      recordQuery(query, Status.OK, start);
+      return result;
     } catch (Exception e) {
+      commitQuery(queryEvent, query, e);
+      recordQuery(query, statusOf(e), start);
       throw new HieroException("Failed to execute query", e);
     }
   }
 
+  /**
+   * Sends a transaction and waits for its receipt without blocking. This uses the same retry
+   * handling as {@link #executeTransactionAndWaitOnReceipt(Transaction)}, but the backoff between
+   * two attempts is a delay of the returned future instead of a sleeping thread.
+   */
+  @NonNull
+  private <T extends Transaction<T>>
+      CompletableFuture<TransactionReceipt> executeTransactionAndWaitOnReceiptAsync(
+          @NonNull final T transaction) {
+    Objects.requireNonNull(transaction, "transaction must not be null");
+    final Client client = hieroContext.nextClient();
+    final String typeName = transaction.getClass().getSimpleName();
+    final TransactionId transactionId;
+    try {
+      prepare(transaction);
+      transactionId = assignTransactionId(transaction, client);
+    } catch (final Exception e) {
+      return CompletableFuture.failedFuture(
+          new HieroException("Failed to execute transaction of type " + typeName, e));
+    }
+    recordPayerSubmitted(transactionId);
+    return attemptAsync(transaction, client, transactionId, 1, new AtomicBoolean());
+  }
+
+  /**
+   * Runs one attempt of {@link #executeTransactionAndWaitOnReceiptAsync(Transaction)} and schedules
+   * the next attempt if it failed with a transient error.
+   *
+   * @param submitted whether the transaction has been reported as submitted to the listeners
+   */
+  @NonNull
+  private CompletableFuture<TransactionReceipt> attemptAsync(
+      @NonNull final Transaction<?> transaction,
+      @NonNull final Client client,
+      @NonNull final TransactionId transactionId,
+      final int attempt,
+      @NonNull final AtomicBoolean submitted) {
+    final String typeName = transaction.getClass().getSimpleName();
+    final TransactionRetryPolicy retryPolicy = hieroContext.getTransactionRetryPolicy();
+    final CompletableFuture<TransactionReceipt> knownReceipt =
+        attempt > 1
+            ? findReceiptAsync(client, transactionId)
+            : CompletableFuture.completedFuture(null);
+    return knownReceipt
+        .thenCompose(
+            receipt -> {
+              if (receipt != null) {
+                log.debug(
+                    "Transaction '{}' reached consensus before it was retried", transactionId);
+                try {
+                  return CompletableFuture.completedFuture(receipt.validateStatus(true));
+                } catch (final ReceiptStatusException e) {
+                  return CompletableFuture.failedFuture(e);
+                }
+              }
+              log.debug(
+                  "Sending transaction '{}' of type {} (attempt {})",
+                  transactionId,
+                  typeName,
+                  attempt);
+              return submitAndWaitOnReceiptAsync(
+                  transaction, client, transactionId, attempt, submitted);
+            })
+        .handle(
+            (receipt, throwable) -> {
+              if (throwable == null) {
+                recordCompleted(transactionId, true);
+                notifyHandled(TransactionType.from(transaction), transactionId, receipt.status);
+                return CompletableFuture.completedFuture(receipt);
+              }
+              final Throwable error = unwrap(throwable);
+              if (attempt < retryPolicy.maxAttempts() && retryPolicy.isTransient(error)) {
+                final Duration backoff = retryPolicy.backoff(attempt);
+                log.debug(
+                    "Attempt {} of transaction '{}' failed, retrying in {} ms",
+                    attempt,
+                    transactionId,
+                    backoff.toMillis(),
+                    error);
+                final Executor delayed =
+                    CompletableFuture.delayedExecutor(backoff.toMillis(), TimeUnit.MILLISECONDS);
+                return CompletableFuture.runAsync(() -> {}, delayed)
+                    .thenCompose(
+                        ignored ->
+                            attemptAsync(
+                                transaction, client, transactionId, attempt + 1, submitted));
+              }
+              recordCompleted(transactionId, false);
+              return CompletableFuture.<TransactionReceipt>failedFuture(
+                  new HieroException("Failed to execute transaction of type " + typeName, error));
+            })
+        .thenCompose(Function.identity());
+  }
+
+  /**
+   * Submits a transaction and waits for its receipt. If the network rejects a retried transaction
+   * as duplicate, an earlier attempt reached the network and only its receipt is requested.
+   */
+  @NonNull
+  private CompletableFuture<TransactionReceipt> submitAndWaitOnReceiptAsync(
+      @NonNull final Transaction<?> transaction,
+      @NonNull final Client client,
+      @NonNull final TransactionId transactionId,
+      final int attempt,
+      @NonNull final AtomicBoolean submitted) {
+    final AtomicLong submitStart = new AtomicLong();
+    return submitAsync(transaction, client, submitStart)
+        .handle(
+            (response, throwable) -> {
+              if (throwable != null) {
+                final Throwable error = unwrap(throwable);
+                recordSubmitFailed(transaction, error, submitStart.get());
+                if (attempt == 1 || !isDuplicate(error)) {
+                  throw new CompletionException(error);
+                }
+                // an earlier attempt reached the network, only its receipt is missing
+              }
+              if (submitted.compareAndSet(false, true)) {
+                notifySubmitted(transaction, transactionId);
+              }
+              return response;
+            })
+        .thenCompose(
+            response ->
+                response != null
+                    ? waitOnReceiptAsync(
+                        transaction,
+                        response,
+                        client,
+                        recordSubmitted(transaction, response, submitStart.get()))
+                    : waitOnReceiptAsync(transaction, transactionId, client));
+  }
+
+  @NonNull
+  private CompletableFuture<TransactionReceipt> waitOnReceiptAsync(
+      @NonNull final Transaction<?> transaction,
+      @NonNull final TransactionResponse response,
+      @NonNull final Client client,
+      final long receiptStart) {
+    final TransactionType type = TransactionType.from(transaction);
+    log.debug(
+        "Waiting for receipt of transaction '{}' of type {}",
+        response.transactionId,
+        transaction.getClass().getSimpleName());
+    return getReceiptAsync(transaction, response, client)
+        .handle(
+            (receipt, throwable) -> {
+              if (throwable != null) {
+                final Throwable error = unwrap(throwable);
+                if (error instanceof ReceiptStatusException receiptStatus) {
+                  recentReceipts.put(response.transactionId, receiptStatus.receipt);
+                }
+                recordReceiptFailed(type, error, receiptStart);
+                throw new CompletionException(
+                    receiptFailure(transaction, response.transactionId, error));
+              }
+              recordReceipt(type, response.nodeId, receipt.status, receiptStart);
+              recentReceipts.put(response.transactionId, receipt);
+              return receipt;
+            });
+  }
+
+  @NonNull
+  private CompletableFuture<TransactionReceipt> waitOnReceiptAsync(
+      @NonNull final Transaction<?> transaction,
+      @NonNull final TransactionId transactionId,
+      @NonNull final Client client) {
+    final TransactionType type = TransactionType.from(transaction);
+    final long receiptStart = System.nanoTime();
+    log.debug(
+        "Waiting for receipt of transaction '{}' of type {}",
+        transactionId,
+        transaction.getClass().getSimpleName());
+    return getReceiptAsync(type, transactionId, null, client)
+        .handle(
+            (receipt, throwable) -> {
+              if (throwable != null) {
+                final Throwable error = unwrap(throwable);
+                recordReceiptFailed(type, error, receiptStart);
+                throw new CompletionException(receiptFailure(transaction, transactionId, error));
+              }
+              recentReceipts.put(transactionId, receipt);
+              try {
+                receipt.validateStatus(true);
+              } catch (final ReceiptStatusException e) {
+                recordReceiptFailed(type, e, receiptStart);
+                throw new CompletionException(receiptFailure(transaction, transactionId, e));
+              }
+              recordReceipt(type, null, receipt.status, receiptStart);
+              return receipt;
+            });
+  }
+
+  /**
+   * Looks for the receipt of a transaction without waiting for consensus, like {@link
+   * #findReceipt(Client, TransactionId)}. Completes with null if the network does not know the
+   * transaction (yet).
+   */
+  @NonNull
+  private CompletableFuture<TransactionReceipt> findReceiptAsync(
+      @NonNull final Client client, @NonNull final TransactionId transactionId) {
+    final TransactionReceipt knownReceipt = recentReceipts.get(transactionId);
+    if (knownReceipt != null) {
+      return CompletableFuture.completedFuture(knownReceipt);
+    }
+    return new TransactionReceiptQuery()
+        .setTransactionId(transactionId)
+        .setMaxAttempts(RECEIPT_CHECK_ATTEMPTS)
+        .executeAsync(client)
+        .handle(
+            (receipt, throwable) -> {
+              if (throwable != null) {
+                log.debug("No receipt found for transaction '{}'", transactionId, throwable);
+                return null;
+              }
+              if (receipt.status == Status.UNKNOWN || receipt.status == Status.RECEIPT_NOT_FOUND) {
+                return null;
+              }
+              recentReceipts.put(transactionId, receipt);
+              return receipt;
+            });
+  }
+
+  @NonNull
+  private <T extends Transaction<T>>
+      CompletableFuture<TransactionRecord> executeTransactionAndWaitOnRecordAsync(
+          @NonNull final T transaction) {
+    final Client client = hieroContext.nextClient();
+    return executeTransactionAndWaitOnReceiptAsync(transaction)
+        .thenCompose(
+            receipt -> {
+              log.debug(
+                  "Waiting for record of transaction '{}' of type {}",
+                  receipt.transactionId,
+                  transaction.getClass().getSimpleName());
+              final ReceiveRecordInterceptor interceptor = recordInterceptor.get();
+              final long recordStart = System.nanoTime();
+              final TransactionRecordEvent recordEvent = begin(new TransactionRecordEvent());
+              final CompletableFuture<TransactionRecord> recordFuture;
+              if (interceptor == ReceiveRecordInterceptor.DEFAULT_INTERCEPTOR) {
+                recordFuture = receipt.transactionId.getRecordAsync(client);
+              } else {
+                // custom interceptors are blocking by contract and must not run on SDK threads
+                final ReceiveRecordHandler data =
+                    new ReceiveRecordHandler(
+                        transaction, receipt, r -> r.transactionId.getRecord(client));
+                recordFuture =
+                    CompletableFuture.supplyAsync(
+                        () -> {
+                          try {
+                            return interceptor.getRecordFor(data);
+                          } catch (final Exception e) {
+                            throw new CompletionException(e);
+                          }
+                        });
+              }
+              return wrapFailure(
+                  recordFuture
+                      .whenComplete(
+                          (record, throwable) -> {
+                            commitRecord(
+                                recordEvent, transaction, receipt.transactionId, record, throwable);
+                            recordRecordReceived(
+                                transaction,
+                                throwable != null
+                                    ? statusOf(unwrap(throwable))
+                                    : record.receipt.status,
+                                recordStart);
+                          })
+                      .thenApply(this::recordFee),
+                  "Failed to receive record of transaction '"
+                      + receipt.transactionId
+                      + "' of type "
+                      + transaction.getClass());
+            });
+  }
+
+  @NonNull
+  private <R, Q extends Query<R, Q>> CompletableFuture<R> executeQueryAsync(
+      @NonNull final Q query) {
+    Objects.requireNonNull(query, "query must not be null");
+    final long start = System.nanoTime();
+    final QueryEvent queryEvent = begin(new QueryEvent());
+    try {
+      log.debug("Sending query of type {}", query.getClass().getSimpleName());
+      return wrapFailure(
+          query
+              .executeAsync(hieroContext.nextClient())
+              .whenComplete(
+                  (result, throwable) -> {
+                    commitQuery(queryEvent, query, throwable);
+                    recordQuery(
+                        query, throwable != null ? statusOf(unwrap(throwable)) : Status.OK, start);
+                  }),
+          "Failed to execute query");
+    } catch (final Exception e) {
+      return CompletableFuture.failedFuture(new HieroException("Failed to execute query", e));
+    }
+  }
+
+  /**
+   * Prepares a transaction before it is frozen or sent: the node selector chooses the nodes and the
+   * operator pool chooses the payer. Frozen transactions are not changed.
+   */
+  private void prepare(@NonNull final Transaction<?> transaction) {
+    selectNodes(transaction);
+    selectPayer(transaction);
+  }
+
+  /**
+   * Lets the node selector of the context choose the nodes of a transaction. Transactions whose
+   * nodes have been set already are not changed.
+   */
+  private void selectNodes(@NonNull final Transaction<?> transaction) {
+    hieroContext
+        .getNodeSelector()
+        .ifPresent(
+            selector -> {
+              // frozen transactions always have their nodes set
+              final List<AccountId> nodeAccountIds = transaction.getNodeAccountIds();
+              if (nodeAccountIds == null || nodeAccountIds.isEmpty()) {
+                transaction.setNodeAccountIds(selector.selectNodes());
+              }
+            });
+  }
+
+  /**
+   * Lets the operator pool of the context choose the account that pays for a transaction. If the
+   * payer is not the operator of the client, the transaction ID is generated for the payer and the
+   * transaction is frozen and signed by the payer. The client only adds the signature of its
+   * operator if the operator pays, so the transaction is signed by the operator as well: files,
+   * tokens and topics that are created by this client have the operator key as admin key.
+   */
+  private void selectPayer(@NonNull final Transaction<?> transaction) {
+    hieroContext
+        .getOperatorPool()
+        .ifPresent(
+            pool -> {
+              if (isFrozen(transaction)) {
+                return;
+              }
+              final Account payer = pool.nextOperator();
+              if (payer.accountId().equals(hieroContext.getOperatorAccount().accountId())) {
+                return;
+              }
+              transaction.setTransactionId(TransactionId.generate(payer.accountId()));
+              transaction.freezeWith(hieroContext.nextClient());
+              transaction.sign(payer.privateKey());
+              transaction.sign(hieroContext.getOperatorAccount().privateKey());
+            });
+  }
+
+  private static boolean isFrozen(@NonNull final Transaction<?> transaction) {
+    try {
+      // the SDK only provides the transaction ID of frozen transactions
+      transaction.getTransactionId();
+      return true;
+    } catch (final IllegalStateException e) {
+      return false;
+    }
+  }
+
+  /** Blocks until the rate limiter of the context allows to send the transaction. */
+  private void acquirePermit(@NonNull final Transaction<?> transaction) throws HieroException {
+    final Optional<TransactionRateLimiter> rateLimiter = hieroContext.getRateLimiter();
+    if (rateLimiter.isPresent()) {
+      rateLimiter.get().acquire(TransactionType.from(transaction));
+    }
+  }
+
+  /**
+   * Sends a transaction once the rate limiter of the context allows it.
+   *
+   * @param submitStart receives the time the transaction was sent
+   */
+  @NonNull
+  private CompletableFuture<TransactionResponse> submitAsync(
+      @NonNull final Transaction<?> transaction,
+      @NonNull final Client client,
+      @NonNull final AtomicLong submitStart) {
+    final CompletableFuture<Void> permit =
+        hieroContext
+            .getRateLimiter()
+            .map(limiter -> limiter.acquireAsync(TransactionType.from(transaction)))
+            .orElseGet(() -> CompletableFuture.completedFuture(null));
+    return permit.thenCompose(
+        ignored -> {
+          submitStart.set(System.nanoTime());
+          final TransactionSubmitEvent submitEvent = begin(new TransactionSubmitEvent());
+          return transaction
+              .executeAsync(client)
+              .whenComplete(
+                  (response, throwable) ->
+                      commitSubmit(submitEvent, transaction, response, throwable));
+        });
+  }
+
+  /** Waits asynchronously for the receipt of a transaction. */
+  @NonNull
+  private CompletableFuture<TransactionReceipt> getReceiptAsync(
+      @NonNull final Transaction<?> transaction,
+      @NonNull final TransactionResponse response,
+      @NonNull final Client client) {
+    final TransactionType type = TransactionType.from(transaction);
+    final TransactionReceiptEvent receiptEvent = begin(new TransactionReceiptEvent());
+    return response
+        .getReceiptAsync(client)
+        .whenComplete(
+            (receipt, throwable) ->
+                commitReceipt(receiptEvent, type, response.transactionId, receipt, throwable));
+  }
+
+  /**
+   * Waits asynchronously for the receipt of a transaction that has been submitted earlier. The
+   * receipt is requested from the node that accepted the transaction if it is known, like the SDK
+   * does for a {@link TransactionResponse}. A receipt with a failure status completes the future
+   * normally.
+   */
+  @NonNull
+  private CompletableFuture<TransactionReceipt> getReceiptAsync(
+      @NonNull final TransactionType type,
+      @NonNull final TransactionId transactionId,
+      @Nullable final AccountId nodeId,
+      @NonNull final Client client) {
+    final TransactionReceiptQuery query =
+        new TransactionReceiptQuery().setTransactionId(transactionId);
+    if (nodeId != null) {
+      query.setNodeAccountIds(List.of(nodeId));
+    }
+    final TransactionReceiptEvent receiptEvent = begin(new TransactionReceiptEvent());
+    return query
+        .executeAsync(client)
+        .whenComplete(
+            (receipt, throwable) ->
+                commitReceipt(receiptEvent, type, transactionId, receipt, throwable));
+  }
+
+  /**
+   * Reports the status of a failed transaction to the rate limiter. The status is searched in the
+   * whole cause chain, since the SDK wraps a throttled precheck in a {@link
+   * com.hedera.hashgraph.sdk.MaxAttemptsExceededException} once it gives up.
+   */
+  private void recordThrottle(@NonNull final TransactionType type, @NonNull final Throwable error) {
+    final Status status = statusOf(error);
+    if (status == Status.UNKNOWN) {
+      return;
+    }
+    hieroContext.getRateLimiter().ifPresent(limiter -> limiter.recordStatus(type, status));
+  }
+
+  /**
+   * Reports the submit latency of a transaction to the metrics and the node selector.
+   *
+   * @return the start time of the receipt phase
+   */
+  private long recordSubmitted(
+      @NonNull final Transaction<?> transaction,
+      @NonNull final TransactionResponse response,
+      final long start) {
+    final long now = System.nanoTime();
+    final TransactionType type = TransactionType.from(transaction);
+    metrics.get().recordTransaction(TransactionPhase.SUBMIT, type, Status.OK, now - start);
+    hieroContext
+        .getNodeSelector()
+        .ifPresent(
+            selector -> selector.submitSucceeded(response.nodeId, Duration.ofNanos(now - start)));
+    return now;
+  }
+
+  /** Reports a submitted transaction to the operator pool. */
+  private void recordPayerSubmitted(@NonNull final TransactionId transactionId) {
+    final AccountId payer = transactionId.accountId;
+    if (payer != null) {
+      hieroContext.getOperatorPool().ifPresent(pool -> pool.transactionSubmitted(payer));
+    }
+  }
+
+  /** Reports the end of a submitted transaction to the operator pool. */
+  private void recordCompleted(@NonNull final TransactionId transactionId, final boolean success) {
+    final AccountId payer = transactionId.accountId;
+    if (payer != null) {
+      hieroContext.getOperatorPool().ifPresent(pool -> pool.transactionCompleted(payer, success));
+    }
+  }
+
+  /** Reports the fee of a transaction to the operator pool. */
+  @NonNull
+  private TransactionRecord recordFee(@NonNull final TransactionRecord record) {
+    final AccountId payer = record.transactionId.accountId;
+    if (payer != null && record.transactionFee != null) {
+      hieroContext
+          .getOperatorPool()
+          .ifPresent(pool -> pool.feeCharged(payer, record.transactionFee));
+    }
+    return record;
+  }
+
+  /**
+   * Reports the receipt latency of a transaction to the metrics and the node selector, and the
+   * receipt status to the rate limiter.
+   */
+  private void recordReceipt(
+      @NonNull final TransactionType type,
+      @Nullable final AccountId nodeId,
+      @NonNull final Status status,
+      final long start) {
+    final Duration latency = Duration.ofNanos(System.nanoTime() - start);
+    metrics.get().recordTransaction(TransactionPhase.RECEIPT, type, status, latency.toNanos());
+    hieroContext.getRateLimiter().ifPresent(limiter -> limiter.recordStatus(type, status));
+    if (nodeId != null) {
+      hieroContext
+          .getNodeSelector()
+          .ifPresent(selector -> selector.receiptReceived(nodeId, latency));
+    }
+  }
+
+  /**
+   * Reports a failed submission to the node selector. The SDK does not tell which of the nodes of
+   * a transaction failed, so the failure is only attributed to a node if the transaction was pinned
+   * to that single node.
+   *
+   * @param start the time the transaction was sent, 0 if it was not sent
+   */
+  private void recordSubmitFailed(
+      @NonNull final Transaction<?> transaction, @NonNull final Throwable error, final long start) {
+    if (start != 0) {
+      metrics
+          .get()
+          .recordTransaction(
+              TransactionPhase.SUBMIT,
+              TransactionType.from(transaction),
+              statusOf(error),
+              System.nanoTime() - start);
+    }
+    recordThrottle(TransactionType.from(transaction), error);
+    hieroContext
+        .getNodeSelector()
+        .ifPresent(
+            selector -> {
+              final List<AccountId> nodeAccountIds = transaction.getNodeAccountIds();
+              if (nodeAccountIds != null && nodeAccountIds.size() == 1) {
+                selector.submitFailed(nodeAccountIds.get(0), error);
+              }
+            });
+  }
+
+  /** Reports a failed receipt to the metrics and the rate limiter. */
+  private void recordReceiptFailed(
+      @NonNull final TransactionType type, @NonNull final Throwable error, final long start) {
+    metrics
+        .get()
+        .recordTransaction(
+            TransactionPhase.RECEIPT, type, statusOf(error), System.nanoTime() - start);
+    recordThrottle(type, error);
+  }
+
+  private void recordRecordReceived(
+      @NonNull final Transaction<?> transaction, @NonNull final Status status, final long start) {
+    metrics
+        .get()
+        .recordTransaction(
+            TransactionPhase.RECORD,
+            TransactionType.from(transaction),
+            status,
+            System.nanoTime() - start);
+  }
+
+  private void recordQuery(
+      @NonNull final Query<?, ?> query, @NonNull final Status status, final long start) {
+    metrics.get().recordQuery(query.getClass().getSimpleName(), status, System.nanoTime() - start);
+  }
+
+  /**
+   * Returns the status that caused an error, {@link Status#UNKNOWN} if the error was not caused by
+   * a status of the network.
+   */
+  @NonNull
+  static Status statusOf(@Nullable final Throwable error) {
+    Throwable current = error;
+    while (current != null) {
+      if (current instanceof PrecheckStatusException precheck) {
+        return precheck.status;
+      }
+      if (current instanceof ReceiptStatusException receiptStatus) {
+        return receiptStatus.receipt.status;
+      }
+      current = current.getCause() == current ? null : current.getCause();
+    }
+    return Status.UNKNOWN;
+  }
+
+  private void notifySubmitted(
+      @NonNull final Transaction<?> transaction, @NonNull final TransactionId transactionId) {
+    dispatcher.submitted(TransactionType.from(transaction), transactionId);
+  }
+
+  private void notifyHandled(
+      @NonNull final TransactionType type,
+      @NonNull final TransactionId transactionId,
+      @NonNull final Status status) {
+    dispatcher.handled(type, transactionId, status);
+  }
+
   @NonNull
   @Override
   public Runnable addTransactionListener(@NonNull TransactionListener listener) {
@@ -737,6 +2390,20 @@ public class ProtocolLayerClientImpl implements ProtocolLayerClient {
     return () -> listeners.remove(listener);
   }
 
+  @Override
+  public @NonNull ListenerDispatchMetrics getListenerDispatchMetrics() {
+    return dispatcher.metrics();
+  }
+
+  /**
+   * Stops the thread that notifies the listeners. Events that are still buffered are delivered
+   * before this method returns; later events are delivered on the calling thread.
+   */
+  @Override
+  public void close() {
+    dispatcher.close();
+  }
+
   @Override
   public AccountId getOperatorAccountId() {
     return hieroContext.getOperatorAccount().accountId();
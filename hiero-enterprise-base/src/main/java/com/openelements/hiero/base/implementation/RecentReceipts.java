@@ -0,0 +1,46 @@
+package com.openelements.hiero.base.implementation;
+
+import com.hedera.hashgraph.sdk.TransactionId;
+import com.hedera.hashgraph.sdk.TransactionReceipt;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import org.jspecify.annotations.NonNull;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Small index of the final receipts of recent transactions. A receipt that is already known does
+ * not need to be polled from the network again, for example if a retried transaction turns out to
+ * have reached consensus or if the receipts of the same submissions are collected twice.
+ */
+final class RecentReceipts {
+
+  static final int DEFAULT_CAPACITY = 1024;
+
+  private final Map<TransactionId, TransactionReceipt> receipts;
+
+  RecentReceipts(final int capacity) {
+    if (capacity < 1) {
+      throw new IllegalArgumentException("capacity must be greater than 0");
+    }
+    this.receipts =
+        new LinkedHashMap<>(16, 0.75f, true) {
+          @Override
+          protected boolean removeEldestEntry(
+              final Map.Entry<TransactionId, TransactionReceipt> eldest) {
+            return size() > capacity;
+          }
+        };
+  }
+
+  synchronized void put(
+      @NonNull final TransactionId transactionId, @NonNull final TransactionReceipt receipt) {
+    Objects.requireNonNull(transactionId, "transactionId must not be null");
+    Objects.requireNonNull(receipt, "receipt must not be null");
+    receipts.put(transactionId, receipt);
+  }
+
+  synchronized @Nullable TransactionReceipt get(@NonNull final TransactionId transactionId) {
+    return receipts.get(Objects.requireNonNull(transactionId, "transactionId must not be null"));
+  }
+}
@@ -0,0 +1,129 @@
+package com.openelements.hiero.base.implementation;
+
+import com.hedera.hashgraph.sdk.AccountId;
+import com.hedera.hashgraph.sdk.PrivateKey;
+import com.hedera.hashgraph.sdk.TokenId;
+import com.openelements.hiero.base.HieroException;
+import com.openelements.hiero.base.data.TokenTransferOutcome;
+import com.openelements.hiero.base.protocol.ProtocolLayerClient;
+import com.openelements.hiero.base.protocol.data.TokenBatchTransferRequest;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import org.jspecify.annotations.NonNull;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Transfers a fungible token to many receivers by packing up to {@link
+ * TokenBatchTransferRequest#MAX_RECEIVERS} receivers into every transfer transaction. The packed
+ * transactions are executed concurrently within a bounded window and the outcome is reported per
+ * receiver.
+ */
+final class TokenBatchTransfer {
+
+  private static final Logger log = LoggerFactory.getLogger(TokenBatchTransfer.class);
+
+  /** Default number of transfer transactions that are in flight at the same time. */
+  static final int DEFAULT_MAX_TRANSFERS_IN_FLIGHT = 8;
+
+  private TokenBatchTransfer() {}
+
+  @NonNull
+  static CompletableFuture<Map<AccountId, TokenTransferOutcome>> transfer(
+      @NonNull final ProtocolLayerClient client,
+      @NonNull final TokenId tokenId,
+      @NonNull final AccountId sender,
+      @NonNull final PrivateKey senderKey,
+      @NonNull final Map<AccountId, Long> amounts,
+      final int maxInFlight) {
+    Objects.requireNonNull(client, "client must not be null");
+    Objects.requireNonNull(tokenId, "tokenId must not be null");
+    Objects.requireNonNull(sender, "sender must not be null");
+    Objects.requireNonNull(senderKey, "senderKey must not be null");
+    Objects.requireNonNull(amounts, "amounts must not be null");
+    final List<TokenBatchTransferRequest> requests = pack(tokenId, sender, senderKey, amounts);
+    log.debug(
+        "Transferring token {} to {} receivers in {} transactions",
+        tokenId,
+        amounts.size(),
+        requests.size());
+    return InFlightWindow.submitAll(requests, maxInFlight, request -> execute(client, request))
+        .thenApply(
+            outcomesPerRequest -> {
+              final Map<AccountId, TokenTransferOutcome> outcomes =
+                  new LinkedHashMap<>(amounts.size());
+              outcomesPerRequest.forEach(
+                  list -> list.forEach(outcome -> outcomes.put(outcome.receiver(), outcome)));
+              return Collections.unmodifiableMap(outcomes);
+            });
+  }
+
+  @NonNull
+  private static CompletableFuture<List<TokenTransferOutcome>> execute(
+      @NonNull final ProtocolLayerClient client, @NonNull final TokenBatchTransferRequest request) {
+    return client
+        .executeBatchTransferTransactionAsync(request)
+        .handle(
+            (result, throwable) -> {
+              final List<TokenTransferOutcome> outcomes = new ArrayList<>(request.amounts().size());
+              if (throwable != null) {
+                final HieroException error = toHieroException(throwable);
+                log.debug("Batch transfer of token {} failed", request.tokenId(), error);
+                request
+                    .amounts()
+                    .forEach(
+                        (receiver, amount) ->
+                            outcomes.add(
+                                new TokenTransferOutcome(receiver, amount, null, null, error)));
+              } else {
+                request
+                    .amounts()
+                    .forEach(
+                        (receiver, amount) ->
+                            outcomes.add(
+                                new TokenTransferOutcome(
+                                    receiver,
+                                    amount,
+                                    result.transactionId(),
+                                    result.status(),
+                                    null)));
+              }
+              return outcomes;
+            });
+  }
+
+  @NonNull
+  private static HieroException toHieroException(@NonNull final Throwable throwable) {
+    final Throwable cause = AsyncSupport.unwrap(throwable);
+    if (cause instanceof HieroException hieroException) {
+      return hieroException;
+    }
+    return new HieroException("Failed to execute batch transfer transaction", cause);
+  }
+
+  @NonNull
+  private static List<TokenBatchTransferRequest> pack(
+      @NonNull final TokenId tokenId,
+      @NonNull final AccountId sender,
+      @NonNull final PrivateKey senderKey,
+      @NonNull final Map<AccountId, Long> amounts) {
+    final List<TokenBatchTransferRequest> requests = new ArrayList<>();
+    Map<AccountId, Long> current = new LinkedHashMap<>();
+    for (final Map.Entry<AccountId, Long> entry : amounts.entrySet()) {
+      current.put(entry.getKey(), entry.getValue());
+      if (current.size() == TokenBatchTransferRequest.MAX_RECEIVERS) {
+        requests.add(TokenBatchTransferRequest.of(tokenId, sender, senderKey, current));
+        current = new LinkedHashMap<>();
+      }
+    }
+    if (!current.isEmpty()) {
+      requests.add(TokenBatchTransferRequest.of(tokenId, sender, senderKey, current));
+    }
+    return requests;
+  }
+}
@@ -4,10 +4,15 @@ import com.hedera.hashgraph.sdk.PrivateKey;
 import com.hedera.hashgraph.sdk.TopicId;
 import com.openelements.hiero.base.HieroException;
 import com.openelements.hiero.base.TopicClient;
+import com.openelements.hiero.base.TopicSubscription;
 import com.openelements.hiero.base.data.Account;
+import com.openelements.hiero.base.data.SubmitBackpressure;
+import com.openelements.hiero.base.data.TopicSubmitMetrics;
+import com.openelements.hiero.base.data.TopicSubscriptionOptions;
 import com.openelements.hiero.base.protocol.ProtocolLayerClient;
 import com.openelements.hiero.base.protocol.data.*;
 import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
 import org.jspecify.annotations.NonNull;
 
 public class TopicClientImpl implements TopicClient {
@@ -15,11 +20,26 @@ public class TopicClientImpl implements TopicClient {
 
   private final Account operationalAccount;
 
+  private final TopicSubmitWindow submitWindow;
+
   public TopicClientImpl(
       @NonNull final ProtocolLayerClient client, @NonNull final Account operationalAccount) {
+    this(
+        client,
+        operationalAccount,
+        TopicSubmitWindow.DEFAULT_MAX_MESSAGES_IN_FLIGHT,
+        SubmitBackpressure.BLOCK);
+  }
+
+  public TopicClientImpl(
+      @NonNull final ProtocolLayerClient client,
+      @NonNull final Account operationalAccount,
+      final int maxMessagesInFlight,
+      @NonNull final SubmitBackpressure backpressure) {
     this.client = Objects.requireNonNull(client, "client must not be null");
     this.operationalAccount =
         Objects.requireNonNull(operationalAccount, "operationalAccount must not be null");
+    this.submitWindow = new TopicSubmitWindow(maxMessagesInFlight, backpressure);
   }
 
   @Override
@@ -227,4 +247,43 @@ public class TopicClientImpl implements TopicClient {
     TopicSubmitMessageRequest request = TopicSubmitMessageRequest.of(topicId, submitKey, message);
     client.executeTopicMessageSubmitTransaction(request);
   }
+
+  @Override
+  public @NonNull CompletableFuture<Void> enqueueMessage(
+      @NonNull final TopicId topicId, @NonNull final byte[] message) {
+    Objects.requireNonNull(topicId, "topicId must not be null");
+    Objects.requireNonNull(message, "message must not be null");
+    return enqueue(TopicSubmitMessageRequest.of(topicId, message));
+  }
+
+  @Override
+  public @NonNull CompletableFuture<Void> enqueueMessage(
+      @NonNull final TopicId topicId,
+      @NonNull final PrivateKey submitKey,
+      @NonNull final byte[] message) {
+    Objects.requireNonNull(topicId, "topicId must not be null");
+    Objects.requireNonNull(submitKey, "submitKey must not be null");
+    Objects.requireNonNull(message, "message must not be null");
+    return enqueue(TopicSubmitMessageRequest.of(topicId, submitKey, message));
+  }
+
+  @Override
+  public @NonNull TopicSubmitMetrics getSubmitMetrics() {
+    return submitWindow.metrics();
+  }
+
+  @Override
+  public @NonNull TopicSubscription subscribe(
+      @NonNull final TopicId topicId, @NonNull final TopicSubscriptionOptions options) {
+    Objects.requireNonNull(topicId, "topicId must not be null");
+    Objects.requireNonNull(options, "options must not be null");
+    return new TopicSubscriptionImpl(client, topicId, options);
+  }
+
+  @NonNull
+  private CompletableFuture<Void> enqueue(@NonNull final TopicSubmitMessageRequest request) {
+    return submitWindow
+        .submit(() -> client.executeTopicMessageSubmitTransactionAsync(request))
+        .thenApply(result -> null);
+  }
 }
@@ -0,0 +1,203 @@
+package com.openelements.hiero.base.implementation;
+
+import com.hedera.hashgraph.sdk.TopicId;
+import com.openelements.hiero.base.AsyncTopicClient;
+import com.openelements.hiero.base.HieroException;
+import com.openelements.hiero.base.TopicPublisher;
+import com.openelements.hiero.base.data.TopicMessageBatch;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import org.jspecify.annotations.NonNull;
+import org.jspecify.annotations.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+public class TopicPublisherImpl implements TopicPublisher {
+
+  private static final Logger log = LoggerFactory.getLogger(TopicPublisherImpl.class);
+
+  /** Default time a message waits for further messages before its batch is submitted. */
+  public static final Duration DEFAULT_LINGER = Duration.ofMillis(20);
+
+  private final AsyncTopicClient topicClient;
+
+  private final Duration linger;
+
+  private final ScheduledExecutorService scheduler;
+
+  private final Object lock = new Object();
+
+  private final Map<TopicId, Batch> pending = new HashMap<>();
+
+  private boolean closed;
+
+  public TopicPublisherImpl(@NonNull final AsyncTopicClient topicClient) {
+    this(topicClient, DEFAULT_LINGER);
+  }
+
+  public TopicPublisherImpl(
+      @NonNull final AsyncTopicClient topicClient, @NonNull final Duration linger) {
+    this.topicClient = Objects.requireNonNull(topicClient, "topicClient must not be null");
+    this.linger = Objects.requireNonNull(linger, "linger must not be null");
+    if (linger.isNegative()) {
+      throw new IllegalArgumentException("linger must not be negative");
+    }
+    this.scheduler =
+        Executors.newSingleThreadScheduledExecutor(
+            runnable -> {
+              final Thread thread = new Thread(runnable, "hiero-topic-publisher");
+              thread.setDaemon(true);
+              return thread;
+            });
+  }
+
+  @Override
+  public @NonNull CompletableFuture<Void> publish(
+      @NonNull final TopicId topicId, @NonNull final byte[] message) {
+    Objects.requireNonNull(topicId, "topicId must not be null");
+    Objects.requireNonNull(message, "message must not be null");
+    final int framedSize = TopicMessageBatch.encodedSize(message.length);
+    if (TopicMessageBatch.HEADER_SIZE + framedSize > TopicMessageBatch.MAX_ENCODED_SIZE) {
+      throw new IllegalArgumentException(
+          "Message of "
+              + message.length
+              + " bytes does not fit in a topic message of "
+              + TopicMessageBatch.MAX_ENCODED_SIZE
+              + " bytes");
+    }
+    final CompletableFuture<Void> future = new CompletableFuture<>();
+    Batch full = null;
+    Batch ready = null;
+    synchronized (lock) {
+      if (closed) {
+        throw new IllegalStateException("TopicPublisher has been closed");
+      }
+      Batch batch = pending.get(topicId);
+      if (batch != null && batch.size + framedSize > TopicMessageBatch.MAX_ENCODED_SIZE) {
+        full = pending.remove(topicId);
+        batch = null;
+      }
+      if (batch == null) {
+        batch = new Batch(topicId);
+        pending.put(topicId, batch);
+        final Batch scheduled = batch;
+        batch.lingerTask =
+            scheduler.schedule(() -> flush(scheduled), linger.toNanos(), TimeUnit.NANOSECONDS);
+      }
+      batch.add(message, framedSize, future);
+      if (batch.size == TopicMessageBatch.MAX_ENCODED_SIZE) {
+        ready = pending.remove(topicId);
+      }
+    }
+    submit(full);
+    submit(ready);
+    return future;
+  }
+
+  @Override
+  public void flush() {
+    final List<Batch> batches;
+    synchronized (lock) {
+      batches = new ArrayList<>(pending.values());
+      pending.clear();
+    }
+    batches.forEach(this::submit);
+  }
+
+  @Override
+  public void close() {
+    synchronized (lock) {
+      closed = true;
+    }
+    flush();
+    scheduler.shutdown();
+  }
+
+  private void flush(@NonNull final Batch batch) {
+    synchronized (lock) {
+      if (!pending.remove(batch.topicId, batch)) {
+        return;
+      }
+    }
+    submit(batch);
+  }
+
+  private void submit(@Nullable final Batch batch) {
+    if (batch == null) {
+      return;
+    }
+    if (batch.lingerTask != null) {
+      batch.lingerTask.cancel(false);
+    }
+    final TopicMessageBatch messageBatch = new TopicMessageBatch(batch.messages);
+    log.debug(
+        "Submitting {} messages with {} bytes to topic {}",
+        batch.messages.size(),
+        batch.size,
+        batch.topicId);
+    final CompletableFuture<Void> submitted;
+    try {
+      submitted = topicClient.submitMessage(batch.topicId, messageBatch.encode());
+    } catch (final Exception e) {
+      batch.complete(new HieroException("Failed to submit message to topic " + batch.topicId, e));
+      return;
+    }
+    submitted.whenComplete(
+        (result, throwable) -> {
+          if (throwable == null) {
+            batch.complete(null);
+          } else {
+            final Throwable cause = AsyncSupport.unwrap(throwable);
+            batch.complete(
+                cause instanceof HieroException hieroException
+                    ? hieroException
+                    : new HieroException(
+                        "Failed to submit message to topic " + batch.topicId, cause));
+          }
+        });
+  }
+
+  /** Messages of one topic that are submitted together. Guarded by the lock of the publisher. */
+  private static final class Batch {
+
+    private final TopicId topicId;
+
+    private final List<byte[]> messages = new ArrayList<>();
+
+    private final List<CompletableFuture<Void>> futures = new ArrayList<>();
+
+    private int size = TopicMessageBatch.HEADER_SIZE;
+
+    private ScheduledFuture<?> lingerTask;
+
+    private Batch(@NonNull final TopicId topicId) {
+      this.topicId = topicId;
+    }
+
+    private void add(
+        @NonNull final byte[] message,
+        final int framedSize,
+        @NonNull final CompletableFuture<Void> future) {
+      messages.add(message.clone());
+      futures.add(future);
+      size += framedSize;
+    }
+
+    private void complete(@Nullable final HieroException error) {
+      if (error == null) {
+        futures.forEach(future -> future.complete(null));
+      } else {
+        futures.forEach(future -> future.completeExceptionally(error));
+      }
+    }
+  }
+}
@@ -0,0 +1,131 @@
+package com.openelements.hiero.base.implementation;
+
+import com.openelements.hiero.base.HieroException;
+import com.openelements.hiero.base.data.SubmitBackpressure;
+import com.openelements.hiero.base.data.TopicSubmitMetrics;
+import java.time.Duration;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+import org.jspecify.annotations.NonNull;
+
+/**
+ * Limits the number of topic messages that are in flight at the same time. A slot of the window is
+ * taken when a message is submitted and released once its receipt is available, so no thread waits
+ * for a receipt. If the window is full the configured {@link SubmitBackpressure} is applied.
+ */
+final class TopicSubmitWindow {
+
+  static final int DEFAULT_MAX_MESSAGES_IN_FLIGHT = 64;
+
+  private final int maxInFlight;
+
+  private final SubmitBackpressure backpressure;
+
+  private final Semaphore permits;
+
+  private final AtomicInteger waiting = new AtomicInteger();
+
+  private final LongAdder submitted = new LongAdder();
+
+  private final LongAdder succeeded = new LongAdder();
+
+  private final LongAdder failed = new LongAdder();
+
+  private final LongAdder rejected = new LongAdder();
+
+  private final LongAdder totalLatencyNanos = new LongAdder();
+
+  private final AtomicLong maxLatencyNanos = new AtomicLong();
+
+  TopicSubmitWindow(final int maxInFlight, @NonNull final SubmitBackpressure backpressure) {
+    if (maxInFlight < 1) {
+      throw new IllegalArgumentException("maxInFlight must be greater than 0");
+    }
+    this.maxInFlight = maxInFlight;
+    this.backpressure = Objects.requireNonNull(backpressure, "backpressure must not be null");
+    this.permits = new Semaphore(maxInFlight, true);
+  }
+
+  /**
+   * Submits a message once a slot of the window is free.
+   *
+   * @param submission starts the submission of the message
+   * @return a future that completes with the result of the submission. The future fails with a
+   *     {@link HieroException} if the window is full and the backpressure is {@link
+   *     SubmitBackpressure#FAIL} or if the calling thread is interrupted while waiting.
+   * @param <T> type of the result
+   */
+  @NonNull <T> CompletableFuture<T> submit(
+      @NonNull final Supplier<CompletableFuture<T>> submission) {
+    Objects.requireNonNull(submission, "submission must not be null");
+    if (!acquire()) {
+      return CompletableFuture.failedFuture(
+          new HieroException(
+              "No free slot in the window of " + maxInFlight + " in-flight topic messages"));
+    }
+    submitted.increment();
+    final long start = System.nanoTime();
+    final CompletableFuture<T> future;
+    try {
+      future = Objects.requireNonNull(submission.get(), "submission returned null future");
+    } catch (final Exception e) {
+      release(start, false);
+      return CompletableFuture.failedFuture(
+          new HieroException("Failed to submit topic message", e));
+    }
+    return future.whenComplete((result, throwable) -> release(start, throwable == null));
+  }
+
+  private boolean acquire() {
+    if (permits.tryAcquire()) {
+      return true;
+    }
+    if (backpressure == SubmitBackpressure.FAIL) {
+      rejected.increment();
+      return false;
+    }
+    waiting.incrementAndGet();
+    try {
+      permits.acquire();
+      return true;
+    } catch (final InterruptedException e) {
+      Thread.currentThread().interrupt();
+      rejected.increment();
+      return false;
+    } finally {
+      waiting.decrementAndGet();
+    }
+  }
+
+  private void release(final long start, final boolean success) {
+    permits.release();
+    if (success) {
+      final long latency = System.nanoTime() - start;
+      succeeded.increment();
+      totalLatencyNanos.add(latency);
+      maxLatencyNanos.accumulateAndGet(latency, Math::max);
+    } else {
+      failed.increment();
+    }
+  }
+
+  @NonNull TopicSubmitMetrics metrics() {
+    final long succeededCount = succeeded.sum();
+    final long average = succeededCount == 0 ? 0 : totalLatencyNanos.sum() / succeededCount;
+    return new TopicSubmitMetrics(
+        maxInFlight,
+        maxInFlight - permits.availablePermits(),
+        waiting.get(),
+        submitted.sum(),
+        succeededCount,
+        failed.sum(),
+        rejected.sum(),
+        Duration.ofNanos(average),
+        Duration.ofNanos(maxLatencyNanos.get()));
+  }
+}
@@ -0,0 +1,388 @@
+package com.openelements.hiero.base.implementation;
+
+import com.hedera.hashgraph.sdk.SubscriptionHandle;
+import com.hedera.hashgraph.sdk.TopicId;
+import com.hedera.hashgraph.sdk.TopicMessage;
+import com.openelements.hiero.base.HieroException;
+import com.openelements.hiero.base.TopicSubscription;
+import com.openelements.hiero.base.data.TopicSubscriptionOptions;
+import com.openelements.hiero.base.protocol.ProtocolLayerClient;
+import com.openelements.hiero.base.protocol.data.TopicMessageRequest;
+import com.openelements.hiero.base.protocol.data.TopicMessageResult;
+import java.time.Instant;
+import java.util.ArrayDeque;
+import java.util.Objects;
+import java.util.concurrent.Flow;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.jspecify.annotations.NonNull;
+import org.jspecify.annotations.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Implementation of {@link TopicSubscription} on top of {@link
+ * ProtocolLayerClient#executeTopicMessageQuery(TopicMessageRequest)}. Messages are received on the
+ * threads of the SDK and stored in a bounded buffer. They are delivered to the subscriber by a
+ * drain loop that only runs on one thread at a time, so the subscriber is never called
+ * concurrently.
+ */
+final class TopicSubscriptionImpl implements TopicSubscription {
+
+  private static final Logger log = LoggerFactory.getLogger(TopicSubscriptionImpl.class);
+
+  private final ProtocolLayerClient client;
+
+  private final TopicId topicId;
+
+  private final TopicSubscriptionOptions options;
+
+  private final Object lock = new Object();
+
+  private final ArrayDeque<TopicMessage> buffer = new ArrayDeque<>();
+
+  private final AtomicInteger drainRequests = new AtomicInteger();
+
+  private Flow.@Nullable Subscriber<? super TopicMessage> subscriber;
+
+  private long demand;
+
+  private boolean cancelled;
+
+  private boolean completed;
+
+  /** Set once the subscriber has received onComplete or onError. */
+  private boolean terminated;
+
+  private @Nullable Throwable failure;
+
+  private @Nullable SubscriptionHandle subscriptionHandle;
+
+  private @Nullable Instant lastConsensusTimestamp;
+
+  private int reconnects;
+
+  private long droppedMessages;
+
+  TopicSubscriptionImpl(
+      @NonNull final ProtocolLayerClient client,
+      @NonNull final TopicId topicId,
+      @NonNull final TopicSubscriptionOptions options) {
+    this.client = Objects.requireNonNull(client, "client must not be null");
+    this.topicId = Objects.requireNonNull(topicId, "topicId must not be null");
+    this.options = Objects.requireNonNull(options, "options must not be null");
+  }
+
+  @Override
+  public void subscribe(final Flow.Subscriber<? super TopicMessage> subscriber) {
+    Objects.requireNonNull(subscriber, "subscriber must not be null");
+    synchronized (lock) {
+      if (this.subscriber != null || cancelled) {
+        subscriber.onSubscribe(new RejectedSubscription());
+        subscriber.onError(
+            new IllegalStateException("Topic subscription supports only one subscriber"));
+        return;
+      }
+      this.subscriber = subscriber;
+    }
+    subscriber.onSubscribe(new SubscriberSubscription());
+    connect(options.startTime());
+  }
+
+  @Override
+  public @NonNull TopicId topicId() {
+    return topicId;
+  }
+
+  @Override
+  public @Nullable Instant lastConsensusTimestamp() {
+    synchronized (lock) {
+      return lastConsensusTimestamp;
+    }
+  }
+
+  @Override
+  public long droppedMessages() {
+    synchronized (lock) {
+      return droppedMessages;
+    }
+  }
+
+  @Override
+  public boolean isCancelled() {
+    synchronized (lock) {
+      return cancelled;
+    }
+  }
+
+  @Override
+  public void cancel() {
+    final SubscriptionHandle handle;
+    synchronized (lock) {
+      if (cancelled) {
+        return;
+      }
+      cancelled = true;
+      buffer.clear();
+      handle = subscriptionHandle;
+      lock.notifyAll();
+    }
+    unsubscribe(handle);
+  }
+
+  private void connect(@Nullable final Instant startTime) {
+    synchronized (lock) {
+      if (cancelled || terminated) {
+        return;
+      }
+    }
+    final TopicMessageRequest request =
+        TopicMessageRequest.of(
+            topicId,
+            this::onMessage,
+            startTime,
+            options.endTime(),
+            this::onConnectionError,
+            this::onConnectionCompleted);
+    final TopicMessageResult result;
+    try {
+      result = client.executeTopicMessageQuery(request);
+    } catch (final Exception e) {
+      fail(new HieroException("Failed to subscribe to topic " + topicId, e));
+      return;
+    }
+    final boolean alreadyCancelled;
+    synchronized (lock) {
+      alreadyCancelled = cancelled || terminated;
+      subscriptionHandle = result.subscriptionHandle();
+    }
+    if (alreadyCancelled) {
+      unsubscribe(result.subscriptionHandle());
+    }
+  }
+
+  private void onMessage(@NonNull final TopicMessage message) {
+    synchronized (lock) {
+      if (cancelled || completed || failure != null) {
+        return;
+      }
+      if (lastConsensusTimestamp != null
+          && !message.consensusTimestamp.isAfter(lastConsensusTimestamp)) {
+        // a reconnect can deliver messages that have already been received
+        return;
+      }
+      lastConsensusTimestamp = message.consensusTimestamp;
+      reconnects = 0;
+      if (buffer.size() >= options.bufferSize()) {
+        switch (options.overflowPolicy()) {
+          case BLOCK -> {
+            if (!awaitFreeSlot()) {
+              return;
+            }
+          }
+          case DROP_OLDEST -> {
+            buffer.poll();
+            droppedMessages++;
+          }
+          case DROP_LATEST -> {
+            droppedMessages++;
+            return;
+          }
+          case FAIL -> {
+            buffer.clear();
+            failure =
+                new HieroException(
+                    "Buffer of "
+                        + options.bufferSize()
+                        + " messages of subscription to topic "
+                        + topicId
+                        + " overflowed");
+          }
+        }
+      }
+      if (failure == null) {
+        buffer.add(message);
+      }
+    }
+    if (hasFailed()) {
+      unsubscribe(currentHandle());
+    }
+    drain();
+  }
+
+  /**
+   * Waits until the buffer has a free slot. Must be called while holding the lock.
+   *
+   * @return true if the message can be added to the buffer
+   */
+  private boolean awaitFreeSlot() {
+    try {
+      while (buffer.size() >= options.bufferSize() && !cancelled) {
+        lock.wait();
+      }
+      return !cancelled;
+    } catch (final InterruptedException e) {
+      Thread.currentThread().interrupt();
+      droppedMessages++;
+      return false;
+    }
+  }
+
+  private void onConnectionError(@NonNull final Throwable throwable) {
+    final Instant resumeTime;
+    synchronized (lock) {
+      if (cancelled || completed || failure != null) {
+        return;
+      }
+      if (reconnects >= options.maxReconnects()) {
+        failure = new HieroException("Subscription to topic " + topicId + " failed", throwable);
+        buffer.clear();
+        resumeTime = null;
+      } else {
+        reconnects++;
+        resumeTime =
+            lastConsensusTimestamp != null
+                ? lastConsensusTimestamp.plusNanos(1)
+                : options.startTime();
+        log.debug(
+            "Reconnecting subscription to topic {} at {} after error (attempt {})",
+            topicId,
+            resumeTime,
+            reconnects,
+            throwable);
+      }
+    }
+    if (hasFailed()) {
+      drain();
+    } else {
+      connect(resumeTime);
+    }
+  }
+
+  private void onConnectionCompleted() {
+    synchronized (lock) {
+      if (cancelled || failure != null) {
+        return;
+      }
+      completed = true;
+    }
+    drain();
+  }
+
+  private void fail(@NonNull final Throwable throwable) {
+    final SubscriptionHandle handle;
+    synchronized (lock) {
+      if (cancelled || terminated || failure != null) {
+        return;
+      }
+      failure = throwable;
+      buffer.clear();
+      handle = subscriptionHandle;
+    }
+    unsubscribe(handle);
+    drain();
+  }
+
+  private boolean hasFailed() {
+    synchronized (lock) {
+      return failure != null;
+    }
+  }
+
+  private @Nullable SubscriptionHandle currentHandle() {
+    synchronized (lock) {
+      return subscriptionHandle;
+    }
+  }
+
+  private void unsubscribe(@Nullable final SubscriptionHandle handle) {
+    if (handle == null) {
+      return;
+    }
+    try {
+      handle.unsubscribe();
+    } catch (final Exception e) {
+      log.debug("Failed to unsubscribe from topic {}", topicId, e);
+    }
+  }
+
+  private void request(final long n) {
+    if (n <= 0) {
+      fail(new IllegalArgumentException("request must be greater than 0 but was " + n));
+      return;
+    }
+    synchronized (lock) {
+      demand = demand + n < 0 ? Long.MAX_VALUE : demand + n;
+    }
+    drain();
+  }
+
+  /**
+   * Delivers buffered messages and terminal signals to the subscriber. Only one thread runs the
+   * loop at a time; a call while the loop is running makes the running thread loop again.
+   */
+  private void drain() {
+    if (drainRequests.getAndIncrement() != 0) {
+      return;
+    }
+    int missed = 1;
+    while (true) {
+      while (true) {
+        final Flow.Subscriber<? super TopicMessage> target;
+        final TopicMessage next;
+        final Throwable error;
+        synchronized (lock) {
+          target = subscriber;
+          if (cancelled || terminated || target == null) {
+            break;
+          }
+          error = failure;
+          if (error == null && !buffer.isEmpty() && demand > 0) {
+            next = buffer.poll();
+            demand--;
+            lock.notifyAll();
+          } else if (error != null || (completed && buffer.isEmpty())) {
+            next = null;
+            terminated = true;
+            // a failed subscription has been unsubscribed, which counts as a cancellation
+            cancelled = error != null;
+          } else {
+            break;
+          }
+        }
+        if (next != null) {
+          target.onNext(next);
+        } else if (error != null) {
+          target.onError(error);
+        } else {
+          target.onComplete();
+        }
+      }
+      missed = drainRequests.addAndGet(-missed);
+      if (missed == 0) {
+        return;
+      }
+    }
+  }
+
+  private final class SubscriberSubscription implements Flow.Subscription {
+
+    @Override
+    public void request(final long n) {
+      TopicSubscriptionImpl.this.request(n);
+    }
+
+    @Override
+    public void cancel() {
+      TopicSubscriptionImpl.this.cancel();
+    }
+  }
+
+  private static final class RejectedSubscription implements Flow.Subscription {
+
+    @Override
+    public void request(final long n) {}
+
+    @Override
+    public void cancel() {}
+  }
+}
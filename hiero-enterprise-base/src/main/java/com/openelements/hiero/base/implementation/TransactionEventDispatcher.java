@@ -0,0 +1,292 @@
+package com.openelements.hiero.base.implementation;
+
+import com.hedera.hashgraph.sdk.Status;
+import com.hedera.hashgraph.sdk.TransactionId;
+import com.openelements.hiero.base.data.ListenerDispatchMetrics;
+import com.openelements.hiero.base.data.ListenerOverflowPolicy;
+import com.openelements.hiero.base.protocol.TransactionListener;
+import com.openelements.hiero.base.protocol.data.TransactionType;
+import java.time.Duration;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+import org.jspecify.annotations.NonNull;
+import org.jspecify.annotations.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Delivers transaction events to {@link TransactionListener}s on a dedicated daemon thread, so a
+ * slow listener does not add its latency to the transactions. Events are stored in a bounded
+ * lock-free ring buffer (a sequence per slot, as in the bounded queue of Dmitry Vyukov) that many
+ * threads write to and only the dispatcher thread reads from. The dispatcher thread is started with
+ * the first event and parks while the buffer is empty.
+ *
+ * <p>Closing the dispatcher stops its thread and delivers the events that are still buffered before
+ * {@link #close()} returns, unless a listener blocks the dispatcher thread for longer than the
+ * close timeout; the thread then delivers the remaining events itself. An event that is buffered
+ * while the dispatcher closes is delivered by whichever thread empties the buffer last, and events
+ * that are dispatched after closing are delivered on the calling thread.
+ */
+final class TransactionEventDispatcher implements AutoCloseable {
+
+  private static final Logger log = LoggerFactory.getLogger(TransactionEventDispatcher.class);
+
+  static final int DEFAULT_CAPACITY = 1024;
+
+  private static final long IDLE_PARK_NANOS = TimeUnit.MILLISECONDS.toNanos(100);
+
+  private static final long FULL_PARK_NANOS = TimeUnit.MICROSECONDS.toNanos(50);
+
+  private static final Duration CLOSE_TIMEOUT = Duration.ofSeconds(5);
+
+  private final List<TransactionListener> listeners;
+
+  private final ListenerOverflowPolicy overflowPolicy;
+
+  private final int capacity;
+
+  private final int mask;
+
+  private final AtomicReferenceArray<Event> events;
+
+  private final AtomicLongArray sequences;
+
+  private final AtomicLong tail = new AtomicLong();
+
+  private final AtomicLong head = new AtomicLong();
+
+  private final LongAdder dispatched = new LongAdder();
+
+  private final LongAdder dropped = new LongAdder();
+
+  private volatile @Nullable Thread thread;
+
+  private volatile boolean idle;
+
+  private volatile boolean closed;
+
+  // set once the dispatcher thread stopped taking events, guarded by this
+  private boolean drained;
+
+  TransactionEventDispatcher(
+      @NonNull final List<TransactionListener> listeners,
+      final int capacity,
+      @NonNull final ListenerOverflowPolicy overflowPolicy) {
+    this.listeners = Objects.requireNonNull(listeners, "listeners must not be null");
+    this.overflowPolicy = Objects.requireNonNull(overflowPolicy, "overflowPolicy must not be null");
+    if (capacity < 1) {
+      throw new IllegalArgumentException("capacity must be greater than 0");
+    }
+    this.capacity = capacity == 1 ? 1 : Integer.highestOneBit(capacity - 1) << 1;
+    this.mask = this.capacity - 1;
+    this.events = new AtomicReferenceArray<>(this.capacity);
+    this.sequences = new AtomicLongArray(this.capacity);
+    for (int i = 0; i < this.capacity; i++) {
+      sequences.set(i, i);
+    }
+  }
+
+  void submitted(@NonNull final TransactionType type, @NonNull final TransactionId transactionId) {
+    dispatch(new Event(type, transactionId, null));
+  }
+
+  void handled(
+      @NonNull final TransactionType type,
+      @NonNull final TransactionId transactionId,
+      @NonNull final Status status) {
+    dispatch(new Event(type, transactionId, status));
+  }
+
+  @NonNull ListenerDispatchMetrics metrics() {
+    final long queued = tail.get() - head.get();
+    return new ListenerDispatchMetrics(
+        capacity, (int) Math.max(0, queued), dispatched.sum(), dropped.sum());
+  }
+
+  @Override
+  public void close() {
+    final Thread current;
+    synchronized (this) {
+      closed = true;
+      current = thread;
+    }
+    if (current != null && current != Thread.currentThread()) {
+      LockSupport.unpark(current);
+      try {
+        current.join(CLOSE_TIMEOUT.toMillis());
+      } catch (final InterruptedException e) {
+        Thread.currentThread().interrupt();
+      }
+    }
+    if (current == null || !current.isAlive()) {
+      drainClosed();
+    }
+  }
+
+  private void dispatch(@NonNull final Event event) {
+    if (listeners.isEmpty()) {
+      return;
+    }
+    if (closed) {
+      deliver(event);
+      return;
+    }
+    final Thread dispatcher = ensureStarted();
+    if (dispatcher == null || dispatcher == Thread.currentThread()) {
+      // a listener that executes a transaction must not wait for its own thread
+      deliver(event);
+      return;
+    }
+    while (!offer(event)) {
+      switch (overflowPolicy) {
+        case DROP -> {
+          dropped.increment();
+          log.debug("Dropping event of transaction '{}', listener buffer is full", event.id);
+          return;
+        }
+        case CALLER_RUNS -> {
+          deliver(event);
+          return;
+        }
+        case BLOCK -> {
+          if (closed) {
+            deliver(event);
+            return;
+          }
+          LockSupport.unpark(dispatcher);
+          LockSupport.parkNanos(this, FULL_PARK_NANOS);
+        }
+      }
+    }
+    if (closed) {
+      // the dispatcher thread might have stopped before the event was buffered
+      drainClosed();
+    } else if (idle) {
+      LockSupport.unpark(dispatcher);
+    }
+  }
+
+  private boolean offer(@NonNull final Event event) {
+    long position = tail.get();
+    while (true) {
+      final int index = (int) (position & mask);
+      final long difference = sequences.get(index) - position;
+      if (difference == 0) {
+        if (tail.compareAndSet(position, position + 1)) {
+          events.set(index, event);
+          sequences.set(index, position + 1);
+          return true;
+        }
+        position = tail.get();
+      } else if (difference < 0) {
+        return false;
+      } else {
+        position = tail.get();
+      }
+    }
+  }
+
+  /**
+   * Takes the next event of the buffer. Must only be called by the dispatcher thread, or while
+   * holding the lock of this dispatcher once the dispatcher thread stopped taking events.
+   */
+  private @Nullable Event poll() {
+    final long position = head.get();
+    final int index = (int) (position & mask);
+    if (sequences.get(index) != position + 1) {
+      return null;
+    }
+    final Event event = events.get(index);
+    events.set(index, null);
+    sequences.set(index, position + capacity);
+    head.set(position + 1);
+    return event;
+  }
+
+  private boolean isEmpty() {
+    final long position = head.get();
+    return sequences.get((int) (position & mask)) != position + 1;
+  }
+
+  /** Returns the dispatcher thread, or null if the dispatcher was closed before it was started. */
+  private @Nullable Thread ensureStarted() {
+    final Thread current = thread;
+    if (current != null) {
+      return current;
+    }
+    synchronized (this) {
+      if (thread == null && !closed) {
+        thread =
+            Thread.ofPlatform()
+                .daemon()
+                .name("hiero-transaction-listener-dispatcher")
+                .start(this::run);
+      }
+      return thread;
+    }
+  }
+
+  private void run() {
+    while (true) {
+      final Event event = poll();
+      if (event != null) {
+        deliver(event);
+        continue;
+      }
+      if (closed) {
+        synchronized (this) {
+          drained = true;
+          drainBuffer();
+        }
+        return;
+      }
+      idle = true;
+      if (isEmpty() && !closed) {
+        LockSupport.parkNanos(this, IDLE_PARK_NANOS);
+      }
+      idle = false;
+    }
+  }
+
+  /**
+   * Delivers the buffered events on the calling thread once the dispatcher thread no longer takes
+   * events. While the dispatcher thread runs, it empties the buffer itself before it stops.
+   */
+  private synchronized void drainClosed() {
+    if (thread == null || drained) {
+      drainBuffer();
+    }
+  }
+
+  /** Delivers all buffered events. Must only be called by the single consumer of the buffer. */
+  private void drainBuffer() {
+    Event event;
+    while ((event = poll()) != null) {
+      deliver(event);
+    }
+  }
+
+  private void deliver(@NonNull final Event event) {
+    for (final TransactionListener listener : listeners) {
+      try {
+        if (event.status == null) {
+          listener.transactionSubmitted(event.type, event.id);
+        } else {
+          listener.transactionHandled(event.type, event.id, event.status);
+        }
+      } catch (final Exception e) {
+        log.error("Failed to notify listener", e);
+      }
+    }
+    dispatched.increment();
+  }
+
+  private record Event(
+      @NonNull TransactionType type, @NonNull TransactionId id, @Nullable Status status) {}
+}
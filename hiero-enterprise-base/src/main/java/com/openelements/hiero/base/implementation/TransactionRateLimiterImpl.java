@@ -0,0 +1,230 @@
+package com.openelements.hiero.base.implementation;
+
+import com.hedera.hashgraph.sdk.Status;
+import com.openelements.hiero.base.HieroException;
+import com.openelements.hiero.base.TransactionRateLimiter;
+import com.openelements.hiero.base.config.TransactionRateLimitPolicy;
+import com.openelements.hiero.base.data.TransactionRate;
+import com.openelements.hiero.base.protocol.data.TransactionType;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import org.jspecify.annotations.NonNull;
+import org.jspecify.annotations.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Default implementation of {@link TransactionRateLimiter}. Every transaction type has a token
+ * bucket that holds up to one second of permits. The rate of a bucket follows an AIMD (additive
+ * increase, multiplicative decrease) scheme: a throttle status multiplies the rate with {@code
+ * decreaseFactor}, at most once per second so that a burst of throttled transactions counts as one
+ * signal. A {@link Status#SUCCESS} increases the rate by {@code 1 / rate} of {@code
+ * increasePerSecond}, so the rate grows by {@code increasePerSecond} for every second of successful
+ * traffic. All other statuses leave the rate unchanged.
+ *
+ * <p>Permits are reserved in order: a caller that has to wait takes the permit right away and waits
+ * until the bucket would have refilled it. This keeps callers from retrying at the same time.
+ */
+public class TransactionRateLimiterImpl implements TransactionRateLimiter {
+
+  private static final Logger log = LoggerFactory.getLogger(TransactionRateLimiterImpl.class);
+
+  private static final Duration DECREASE_INTERVAL = Duration.ofSeconds(1);
+
+  private static final Set<Status> THROTTLE_STATUSES =
+      Set.of(Status.BUSY, Status.THROTTLED_AT_CONSENSUS, Status.CONSENSUS_GAS_EXHAUSTED);
+
+  private final Map<TransactionType, Bucket> buckets = new ConcurrentHashMap<>();
+
+  private final double initialRate;
+
+  private final double minRate;
+
+  private final double maxRate;
+
+  private final double increasePerSecond;
+
+  private final double decreaseFactor;
+
+  private final Clock clock;
+
+  public TransactionRateLimiterImpl() {
+    this(TransactionRateLimitPolicy.DEFAULT);
+  }
+
+  public TransactionRateLimiterImpl(@NonNull final TransactionRateLimitPolicy policy) {
+    this(policy, Clock.systemUTC());
+  }
+
+  public TransactionRateLimiterImpl(
+      final double initialRate,
+      final double minRate,
+      final double maxRate,
+      final double increasePerSecond,
+      final double decreaseFactor,
+      @NonNull final Clock clock) {
+    this(
+        new TransactionRateLimitPolicy(
+            initialRate, minRate, maxRate, increasePerSecond, decreaseFactor),
+        clock);
+  }
+
+  public TransactionRateLimiterImpl(
+      @NonNull final TransactionRateLimitPolicy policy, @NonNull final Clock clock) {
+    Objects.requireNonNull(policy, "policy must not be null");
+    this.clock = Objects.requireNonNull(clock, "clock must not be null");
+    this.initialRate = policy.initialRate();
+    this.minRate = policy.minRate();
+    this.maxRate = policy.maxRate();
+    this.increasePerSecond = policy.increasePerSecond();
+    this.decreaseFactor = policy.decreaseFactor();
+  }
+
+  @Override
+  public void acquire(@NonNull final TransactionType type) throws HieroException {
+    final Duration wait = bucket(type).reserve();
+    if (wait.isZero()) {
+      return;
+    }
+    try {
+      Thread.sleep(wait);
+    } catch (final InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new HieroException("Interrupted while waiting for a permit for " + type, e);
+    }
+  }
+
+  @Override
+  public @NonNull CompletableFuture<Void> acquireAsync(@NonNull final TransactionType type) {
+    final Duration wait = bucket(type).reserve();
+    if (wait.isZero()) {
+      return CompletableFuture.completedFuture(null);
+    }
+    return CompletableFuture.runAsync(
+        () -> {}, CompletableFuture.delayedExecutor(wait.toNanos(), TimeUnit.NANOSECONDS));
+  }
+
+  @Override
+  public boolean tryAcquire(@NonNull final TransactionType type) {
+    return bucket(type).tryTake();
+  }
+
+  @Override
+  public void recordStatus(@NonNull final TransactionType type, @NonNull final Status status) {
+    Objects.requireNonNull(status, "status must not be null");
+    final Bucket bucket = bucket(type);
+    if (THROTTLE_STATUSES.contains(status)) {
+      bucket.decrease();
+    } else if (status == Status.SUCCESS) {
+      bucket.increase();
+    }
+  }
+
+  @Override
+  public @NonNull List<TransactionRate> getRates() {
+    return buckets.values().stream()
+        .map(Bucket::snapshot)
+        .sorted(Comparator.comparing(TransactionRate::type))
+        .toList();
+  }
+
+  @Override
+  public @NonNull TransactionRate getRate(@NonNull final TransactionType type) {
+    Objects.requireNonNull(type, "type must not be null");
+    final Bucket bucket = buckets.get(type);
+    if (bucket == null) {
+      return new TransactionRate(type, initialRate, initialRate, 0);
+    }
+    return bucket.snapshot();
+  }
+
+  @NonNull
+  private Bucket bucket(@NonNull final TransactionType type) {
+    Objects.requireNonNull(type, "type must not be null");
+    return buckets.computeIfAbsent(type, Bucket::new);
+  }
+
+  private final class Bucket {
+
+    private final TransactionType type;
+
+    private double rate = initialRate;
+
+    private double tokens = initialRate;
+
+    private Instant lastRefill = clock.instant();
+
+    private @Nullable Instant lastDecrease;
+
+    private long throttled;
+
+    private Bucket(@NonNull final TransactionType type) {
+      this.type = type;
+    }
+
+    /**
+     * Takes a permit and returns the time the caller has to wait until the permit is valid.
+     *
+     * @return the time to wait
+     */
+    private synchronized @NonNull Duration reserve() {
+      refill();
+      tokens -= 1;
+      if (tokens >= 0) {
+        return Duration.ZERO;
+      }
+      return Duration.ofNanos((long) Math.ceil(-tokens / rate * 1_000_000_000d));
+    }
+
+    private synchronized boolean tryTake() {
+      refill();
+      if (tokens >= 1) {
+        tokens -= 1;
+        return true;
+      }
+      return false;
+    }
+
+    private synchronized void increase() {
+      refill();
+      rate = Math.min(maxRate, rate + increasePerSecond / rate);
+    }
+
+    private synchronized void decrease() {
+      refill();
+      throttled++;
+      final Instant now = clock.instant();
+      if (lastDecrease != null && now.isBefore(lastDecrease.plus(DECREASE_INTERVAL))) {
+        return;
+      }
+      lastDecrease = now;
+      rate = Math.max(minRate, rate * decreaseFactor);
+      tokens = Math.min(tokens, rate);
+      log.debug("Network throttled transactions of type {}, reducing rate to {}/s", type, rate);
+    }
+
+    private void refill() {
+      final Instant now = clock.instant();
+      final Duration elapsed = Duration.between(lastRefill, now);
+      if (elapsed.isNegative() || elapsed.isZero()) {
+        return;
+      }
+      lastRefill = now;
+      tokens = Math.min(rate, tokens + rate * elapsed.toNanos() / 1_000_000_000d);
+    }
+
+    private synchronized @NonNull TransactionRate snapshot() {
+      refill();
+      return new TransactionRate(type, rate, tokens, throttled);
+    }
+  }
+}
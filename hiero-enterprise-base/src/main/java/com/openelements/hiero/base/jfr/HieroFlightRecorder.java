@@ -0,0 +1,78 @@
+package com.openelements.hiero.base.jfr;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.text.ParseException;
+import java.util.HashMap;
+import java.util.Map;
+import jdk.jfr.Configuration;
+import jdk.jfr.Recording;
+import org.jspecify.annotations.NonNull;
+
+/**
+ * Access to the Java Flight Recorder settings of Hiero. All Hiero events are disabled by default
+ * and are enabled by the {@code hiero.jfc} settings that are part of this library.
+ *
+ * <pre>{@code
+ * try (Recording recording = HieroFlightRecorder.newRecording("default")) {
+ *   recording.start();
+ *   ...
+ * }
+ * }</pre>
+ */
+public final class HieroFlightRecorder {
+
+  /** Path of the settings in the class path. */
+  public static final String SETTINGS_RESOURCE = "/com/openelements/hiero/base/jfr/hiero.jfc";
+
+  private HieroFlightRecorder() {}
+
+  /**
+   * Returns the settings that enable all Hiero events.
+   *
+   * @return the settings
+   */
+  @NonNull
+  public static Configuration configuration() {
+    try (InputStream inputStream =
+            HieroFlightRecorder.class.getResourceAsStream(SETTINGS_RESOURCE);
+        Reader reader =
+            new InputStreamReader(requireResource(inputStream), StandardCharsets.UTF_8)) {
+      return Configuration.create(reader);
+    } catch (final IOException e) {
+      throw new UncheckedIOException("Failed to read " + SETTINGS_RESOURCE, e);
+    } catch (final ParseException e) {
+      throw new IllegalStateException("Failed to parse " + SETTINGS_RESOURCE, e);
+    }
+  }
+
+  /**
+   * Creates a recording with the given JDK settings (like {@code default} or {@code profile}) and
+   * the Hiero events enabled.
+   *
+   * @param jdkConfiguration the name of the JDK settings
+   * @return the recording, not started yet
+   * @throws IOException if the JDK settings can not be read
+   * @throws ParseException if the JDK settings can not be parsed
+   */
+  @NonNull
+  public static Recording newRecording(@NonNull final String jdkConfiguration)
+      throws IOException, ParseException {
+    final Map<String, String> settings =
+        new HashMap<>(Configuration.getConfiguration(jdkConfiguration).getSettings());
+    settings.putAll(configuration().getSettings());
+    return new Recording(settings);
+  }
+
+  @NonNull
+  private static InputStream requireResource(final InputStream inputStream) throws IOException {
+    if (inputStream == null) {
+      throw new IOException("Resource " + SETTINGS_RESOURCE + " not found");
+    }
+    return inputStream;
+  }
+}
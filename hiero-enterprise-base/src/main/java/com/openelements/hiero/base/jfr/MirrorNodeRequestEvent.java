@@ -0,0 +1,51 @@
+package com.openelements.hiero.base.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import org.jspecify.annotations.Nullable;
+
+/** JFR event for an HTTP call to the mirror node, including reading the response body. */
+@Name(MirrorNodeRequestEvent.NAME)
+@Label("Mirror Node Request")
+@Description("HTTP call to the mirror node, including reading the response body")
+@Category({"Hiero", "Mirror Node"})
+@Enabled(false)
+@StackTrace(false)
+public class MirrorNodeRequestEvent extends jdk.jfr.Event {
+
+  public static final String NAME = "com.openelements.hiero.MirrorNodeRequest";
+
+  @Label("Path")
+  public String path;
+
+  @Label("HTTP Status")
+  @Description("HTTP status code of the response, 0 if no response was received")
+  public int statusCode;
+
+  @Label("Response Size")
+  @Description("Size of the response body, -1 if it is not known")
+  @DataAmount
+  public long responseSize;
+
+  /**
+   * Ends the event and commits it if it is enabled.
+   *
+   * @param path the path of the call
+   * @param statusCode the HTTP status code, 0 if no response was received
+   * @param responseSize the size of the response body, -1 if it is not known
+   */
+  public void complete(@Nullable final String path, final int statusCode, final long responseSize) {
+    end();
+    if (shouldCommit()) {
+      this.path = path;
+      this.statusCode = statusCode;
+      this.responseSize = responseSize;
+      commit();
+    }
+  }
+}
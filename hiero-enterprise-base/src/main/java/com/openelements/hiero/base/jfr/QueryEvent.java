@@ -0,0 +1,26 @@
+package com.openelements.hiero.base.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/** JFR event for executing a query against a consensus node. */
+@Name(QueryEvent.NAME)
+@Label("Query")
+@Description("Executing a query against a consensus node")
+@Category({"Hiero", "Query"})
+@Enabled(false)
+@StackTrace(false)
+public class QueryEvent extends jdk.jfr.Event {
+
+  public static final String NAME = "com.openelements.hiero.Query";
+
+  @Label("Query Type")
+  public String queryType;
+
+  @Label("Status")
+  public String status;
+}
@@ -0,0 +1,29 @@
+package com.openelements.hiero.base.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/** JFR event for waiting on the receipt of a transaction. */
+@Name(TransactionReceiptEvent.NAME)
+@Label("Transaction Receipt")
+@Description("Waiting for the receipt of a transaction that has been accepted by a node")
+@Category({"Hiero", "Transaction"})
+@Enabled(false)
+@StackTrace(false)
+public class TransactionReceiptEvent extends jdk.jfr.Event {
+
+  public static final String NAME = "com.openelements.hiero.TransactionReceipt";
+
+  @Label("Transaction Type")
+  public String transactionType;
+
+  @Label("Transaction ID")
+  public String transactionId;
+
+  @Label("Status")
+  public String status;
+}
@@ -0,0 +1,34 @@
+package com.openelements.hiero.base.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/** JFR event for fetching the record of a transaction. */
+@Name(TransactionRecordEvent.NAME)
+@Label("Transaction Record")
+@Description("Fetching the record of a transaction that has reached consensus")
+@Category({"Hiero", "Transaction"})
+@Enabled(false)
+@StackTrace(false)
+public class TransactionRecordEvent extends jdk.jfr.Event {
+
+  public static final String NAME = "com.openelements.hiero.TransactionRecord";
+
+  @Label("Transaction Type")
+  public String transactionType;
+
+  @Label("Transaction ID")
+  public String transactionId;
+
+  @Label("Status")
+  public String status;
+
+  @Label("Record Size")
+  @DataAmount
+  public long recordSize;
+}
@@ -0,0 +1,38 @@
+package com.openelements.hiero.base.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/** JFR event for sending a transaction to a consensus node. */
+@Name(TransactionSubmitEvent.NAME)
+@Label("Transaction Submit")
+@Description("Sending a transaction to a consensus node until the node accepted or rejected it")
+@Category({"Hiero", "Transaction"})
+@Enabled(false)
+@StackTrace(false)
+public class TransactionSubmitEvent extends jdk.jfr.Event {
+
+  public static final String NAME = "com.openelements.hiero.TransactionSubmit";
+
+  @Label("Transaction Type")
+  public String transactionType;
+
+  @Label("Transaction ID")
+  public String transactionId;
+
+  @Label("Node")
+  @Description("Account ID of the node that accepted the transaction")
+  public String node;
+
+  @Label("Status")
+  public String status;
+
+  @Label("Transaction Size")
+  @DataAmount
+  public long transactionSize;
+}
@@ -1,7 +1,9 @@
 package com.openelements.hiero.base.protocol;
 
 import com.hedera.hashgraph.sdk.AccountId;
+import com.hedera.hashgraph.sdk.TransactionId;
 import com.openelements.hiero.base.HieroException;
+import com.openelements.hiero.base.data.ListenerDispatchMetrics;
 import com.openelements.hiero.base.protocol.data.AccountBalanceRequest;
 import com.openelements.hiero.base.protocol.data.AccountBalanceResponse;
 import com.openelements.hiero.base.protocol.data.AccountCreateRequest;
@@ -16,6 +18,7 @@ import com.openelements.hiero.base.protocol.data.ContractDeleteRequest;
 import com.openelements.hiero.base.protocol.data.ContractDeleteResult;
 import com.openelements.hiero.base.protocol.data.FileAppendRequest;
 import com.openelements.hiero.base.protocol.data.FileAppendResult;
+import com.openelements.hiero.base.protocol.data.FileContentsBufferResponse;
 import com.openelements.hiero.base.protocol.data.FileContentsRequest;
 import com.openelements.hiero.base.protocol.data.FileContentsResponse;
 import com.openelements.hiero.base.protocol.data.FileCreateRequest;
@@ -26,8 +29,10 @@ import com.openelements.hiero.base.protocol.data.FileInfoRequest;
 import com.openelements.hiero.base.protocol.data.FileInfoResponse;
 import com.openelements.hiero.base.protocol.data.FileUpdateRequest;
 import com.openelements.hiero.base.protocol.data.FileUpdateResult;
+import com.openelements.hiero.base.protocol.data.NftBatchTransferRequest;
 import com.openelements.hiero.base.protocol.data.TokenAssociateRequest;
 import com.openelements.hiero.base.protocol.data.TokenAssociateResult;
+import com.openelements.hiero.base.protocol.data.TokenBatchTransferRequest;
 import com.openelements.hiero.base.protocol.data.TokenBurnRequest;
 import com.openelements.hiero.base.protocol.data.TokenBurnResult;
 import com.openelements.hiero.base.protocol.data.TokenCreateRequest;
@@ -48,6 +53,11 @@ import com.openelements.hiero.base.protocol.data.TopicSubmitMessageRequest;
 import com.openelements.hiero.base.protocol.data.TopicSubmitMessageResult;
 import com.openelements.hiero.base.protocol.data.TopicUpdateRequest;
 import com.openelements.hiero.base.protocol.data.TopicUpdateResult;
+import com.openelements.hiero.base.protocol.data.TransactionOutcome;
+import com.openelements.hiero.base.protocol.data.TransactionRequest;
+import com.openelements.hiero.base.protocol.data.TransactionSubmission;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
 import org.jspecify.annotations.NonNull;
 
 /** Interface for interacting with a Hiero network at the protocol level. */
@@ -63,6 +73,17 @@ public interface ProtocolLayerClient {
   @NonNull AccountBalanceResponse executeAccountBalanceQuery(@NonNull AccountBalanceRequest request)
       throws HieroException;
 
+  /**
+   * Execute an account balance query asynchronously. No thread is blocked while the query is
+   * handled by the network.
+   *
+   * @param request the request
+   * @return a future that completes with the response or completes exceptionally with a {@link
+   *     HieroException} if the query could not be executed
+   */
+  @NonNull CompletableFuture<AccountBalanceResponse> executeAccountBalanceQueryAsync(
+      @NonNull AccountBalanceRequest request);
+
   /**
    * Execute a file contents query.
    *
@@ -73,6 +94,39 @@ public interface ProtocolLayerClient {
   @NonNull FileContentsResponse executeFileContentsQuery(@NonNull FileContentsRequest request)
       throws HieroException;
 
+  /**
+   * Execute a file contents query asynchronously. No thread is blocked while the query is handled
+   * by the network.
+   *
+   * @param request the request
+   * @return a future that completes with the response or completes exceptionally with a {@link
+   *     HieroException} if the query could not be executed
+   */
+  @NonNull CompletableFuture<FileContentsResponse> executeFileContentsQueryAsync(
+      @NonNull FileContentsRequest request);
+
+  /**
+   * Execute a file contents query and return the contents as a read-only view of the data that was
+   * received from the network, without copying it.
+   *
+   * @param request the request
+   * @return the response
+   * @throws HieroException if the query could not be executed
+   */
+  @NonNull FileContentsBufferResponse executeFileContentsBufferQuery(
+      @NonNull FileContentsRequest request) throws HieroException;
+
+  /**
+   * Execute a file contents query asynchronously and return the contents as a read-only view of the
+   * data that was received from the network, without copying it.
+   *
+   * @param request the request
+   * @return a future that completes with the response or completes exceptionally with a {@link
+   *     HieroException} if the query could not be executed
+   */
+  @NonNull CompletableFuture<FileContentsBufferResponse> executeFileContentsBufferQueryAsync(
+      @NonNull FileContentsRequest request);
+
   /**
    * Execute a file append transaction.
    *
@@ -83,6 +137,34 @@ public interface ProtocolLayerClient {
   @NonNull FileAppendResult executeFileAppendRequestTransaction(@NonNull FileAppendRequest request)
       throws HieroException;
 
+  /**
+   * Execute a file append transaction asynchronously. No thread is blocked while the transaction is
+   * handled by the network.
+   *
+   * @param request the request
+   * @return a future that completes with the result or completes exceptionally with a {@link
+   *     HieroException} if the transaction could not be executed
+   */
+  @NonNull CompletableFuture<FileAppendResult> executeFileAppendRequestTransactionAsync(
+      @NonNull FileAppendRequest request);
+
+  /**
+   * Execute several file append transactions in a pipeline. The appends are submitted one after
+   * another to the same node, so the network handles them in the order of the given requests. The
+   * next append is submitted as soon as the previous one has been accepted by the node, without
+   * waiting for its receipt. The requests are consumed lazily, so the contents of an append only
+   * needs to be in memory until the append has been submitted.
+   *
+   * <p>If an append can not be submitted, no further appends are submitted and the returned future
+   * completes exceptionally. Appends that have already been submitted are not rolled back.
+   *
+   * @param requests the append requests in the order in which the contents should be appended
+   * @return a future that completes with the results of all appends in the order of the requests or
+   *     completes exceptionally with a {@link HieroException} if any append failed
+   */
+  @NonNull CompletableFuture<List<FileAppendResult>> executeFileAppendRequestTransactionsAsync(
+      @NonNull Iterable<FileAppendRequest> requests);
+
   /**
    * Execute a file delete transaction.
    *
@@ -93,6 +175,17 @@ public interface ProtocolLayerClient {
   @NonNull FileDeleteResult executeFileDeleteTransaction(@NonNull FileDeleteRequest request)
       throws HieroException;
 
+  /**
+   * Execute a file delete transaction asynchronously. No thread is blocked while the transaction is
+   * handled by the network.
+   *
+   * @param request the request
+   * @return a future that completes with the result or completes exceptionally with a {@link
+   *     HieroException} if the transaction could not be executed
+   */
+  @NonNull CompletableFuture<FileDeleteResult> executeFileDeleteTransactionAsync(
+      @NonNull FileDeleteRequest request);
+
   /**
    * Execute a file create transaction.
    *
@@ -103,6 +196,17 @@ public interface ProtocolLayerClient {
   @NonNull FileCreateResult executeFileCreateTransaction(@NonNull FileCreateRequest request)
       throws HieroException;
 
+  /**
+   * Execute a file create transaction asynchronously. No thread is blocked while the transaction is
+   * handled by the network.
+   *
+   * @param request the request
+   * @return a future that completes with the result or completes exceptionally with a {@link
+   *     HieroException} if the transaction could not be executed
+   */
+  @NonNull CompletableFuture<FileCreateResult> executeFileCreateTransactionAsync(
+      @NonNull FileCreateRequest request);
+
   /**
    * Execute a file update transaction.
    *
@@ -113,6 +217,17 @@ public interface ProtocolLayerClient {
   @NonNull FileUpdateResult executeFileUpdateRequestTransaction(@NonNull FileUpdateRequest request)
       throws HieroException;
 
+  /**
+   * Execute a file update transaction asynchronously. No thread is blocked while the transaction is
+   * handled by the network.
+   *
+   * @param request the request
+   * @return a future that completes with the result or completes exceptionally with a {@link
+   *     HieroException} if the transaction could not be executed
+   */
+  @NonNull CompletableFuture<FileUpdateResult> executeFileUpdateRequestTransactionAsync(
+      @NonNull FileUpdateRequest request);
+
   /**
    * Execute a file info query.
    *
@@ -123,6 +238,17 @@ public interface ProtocolLayerClient {
   @NonNull FileInfoResponse executeFileInfoQuery(@NonNull FileInfoRequest request)
       throws HieroException;
 
+  /**
+   * Execute a file info query asynchronously. No thread is blocked while the query is handled by
+   * the network.
+   *
+   * @param request the request
+   * @return a future that completes with the response or completes exceptionally with a {@link
+   *     HieroException} if the query could not be executed
+   */
+  @NonNull CompletableFuture<FileInfoResponse> executeFileInfoQueryAsync(
+      @NonNull FileInfoRequest request);
+
   /**
    * Execute a contract create transaction.
    *
@@ -133,6 +259,17 @@ public interface ProtocolLayerClient {
   @NonNull ContractCreateResult executeContractCreateTransaction(
       @NonNull ContractCreateRequest request) throws HieroException;
 
+  /**
+   * Execute a contract create transaction asynchronously. No thread is blocked while the
+   * transaction is handled by the network.
+   *
+   * @param request the request
+   * @return a future that completes with the result or completes exceptionally with a {@link
+   *     HieroException} if the transaction could not be executed
+   */
+  @NonNull CompletableFuture<ContractCreateResult> executeContractCreateTransactionAsync(
+      @NonNull ContractCreateRequest request);
+
   /**
    * Execute a contract call transaction.
    *
@@ -143,6 +280,17 @@ public interface ProtocolLayerClient {
   @NonNull ContractCallResult executeContractCallTransaction(@NonNull ContractCallRequest request)
       throws HieroException;
 
+  /**
+   * Execute a contract call transaction asynchronously. No thread is blocked while the transaction
+   * is handled by the network.
+   *
+   * @param request the request
+   * @return a future that completes with the result or completes exceptionally with a {@link
+   *     HieroException} if the transaction could not be executed
+   */
+  @NonNull CompletableFuture<ContractCallResult> executeContractCallTransactionAsync(
+      @NonNull ContractCallRequest request);
+
   /**
    * Executes a contract delete transaction.
    *
@@ -153,6 +301,17 @@ public interface ProtocolLayerClient {
   @NonNull ContractDeleteResult executeContractDeleteTransaction(
       @NonNull final ContractDeleteRequest request) throws HieroException;
 
+  /**
+   * Executes a contract delete transaction asynchronously. No thread is blocked while the
+   * transaction is handled by the network.
+   *
+   * @param request the request
+   * @return a future that completes with the result or completes exceptionally with a {@link
+   *     HieroException} if the transaction could not be executed
+   */
+  @NonNull CompletableFuture<ContractDeleteResult> executeContractDeleteTransactionAsync(
+      @NonNull ContractDeleteRequest request);
+
   /**
    * Executes an account create transaction.
    *
@@ -163,6 +322,17 @@ public interface ProtocolLayerClient {
   @NonNull AccountCreateResult executeAccountCreateTransaction(
       @NonNull final AccountCreateRequest request) throws HieroException;
 
+  /**
+   * Executes an account create transaction asynchronously. No thread is blocked while the
+   * transaction is handled by the network.
+   *
+   * @param request the request
+   * @return a future that completes with the result or completes exceptionally with a {@link
+   *     HieroException} if the transaction could not be executed
+   */
+  @NonNull CompletableFuture<AccountCreateResult> executeAccountCreateTransactionAsync(
+      @NonNull AccountCreateRequest request);
+
   /**
    * Executes an account delete transaction.
    *
@@ -173,6 +343,17 @@ public interface ProtocolLayerClient {
   @NonNull AccountDeleteResult executeAccountDeleteTransaction(
       @NonNull AccountDeleteRequest request) throws HieroException;
 
+  /**
+   * Executes an account delete transaction asynchronously. No thread is blocked while the
+   * transaction is handled by the network.
+   *
+   * @param request the request
+   * @return a future that completes with the result or completes exceptionally with a {@link
+   *     HieroException} if the transaction could not be executed
+   */
+  @NonNull CompletableFuture<AccountDeleteResult> executeAccountDeleteTransactionAsync(
+      @NonNull AccountDeleteRequest request);
+
   /**
    * Executes a token create transaction.
    *
@@ -183,6 +364,17 @@ public interface ProtocolLayerClient {
   @NonNull TokenCreateResult executeTokenCreateTransaction(
       @NonNull final TokenCreateRequest request) throws HieroException;
 
+  /**
+   * Executes a token create transaction asynchronously. No thread is blocked while the transaction
+   * is handled by the network.
+   *
+   * @param request the request
+   * @return a future that completes with the result or completes exceptionally with a {@link
+   *     HieroException} if the transaction could not be executed
+   */
+  @NonNull CompletableFuture<TokenCreateResult> executeTokenCreateTransactionAsync(
+      @NonNull TokenCreateRequest request);
+
   /**
    * Executes a token associate transaction.
    *
@@ -193,6 +385,17 @@ public interface ProtocolLayerClient {
   @NonNull TokenAssociateResult executeTokenAssociateTransaction(
       @NonNull final TokenAssociateRequest request) throws HieroException;
 
+  /**
+   * Executes a token associate transaction asynchronously. No thread is blocked while the
+   * transaction is handled by the network.
+   *
+   * @param request the request
+   * @return a future that completes with the result or completes exceptionally with a {@link
+   *     HieroException} if the transaction could not be executed
+   */
+  @NonNull CompletableFuture<TokenAssociateResult> executeTokenAssociateTransactionAsync(
+      @NonNull TokenAssociateRequest request);
+
   /**
    * Executes a token dissociate transaction.
    *
@@ -203,6 +406,17 @@ public interface ProtocolLayerClient {
   @NonNull TokenDissociateResult executeTokenDissociateTransaction(
       @NonNull final TokenDissociateRequest request) throws HieroException;
 
+  /**
+   * Executes a token dissociate transaction asynchronously. No thread is blocked while the
+   * transaction is handled by the network.
+   *
+   * @param request the request
+   * @return a future that completes with the result or completes exceptionally with a {@link
+   *     HieroException} if the transaction could not be executed
+   */
+  @NonNull CompletableFuture<TokenDissociateResult> executeTokenDissociateTransactionAsync(
+      @NonNull TokenDissociateRequest request);
+
   /**
    * Executes a token mint transaction.
    *
@@ -213,6 +427,32 @@ public interface ProtocolLayerClient {
   @NonNull TokenMintResult executeMintTokenTransaction(@NonNull final TokenMintRequest request)
       throws HieroException;
 
+  /**
+   * Executes a token mint transaction asynchronously. No thread is blocked while the transaction is
+   * handled by the network.
+   *
+   * @param request the request
+   * @return a future that completes with the result or completes exceptionally with a {@link
+   *     HieroException} if the transaction could not be executed
+   */
+  @NonNull CompletableFuture<TokenMintResult> executeMintTokenTransactionAsync(
+      @NonNull TokenMintRequest request);
+
+  /**
+   * Executes a token mint transaction asynchronously with a transaction ID that is chosen by the
+   * caller. The caller can store the ID before the transaction is sent. If it is not known whether
+   * the transaction reached the network, the receipt of the ID can be checked (see {@link
+   * #collectReceipts(List, int)}) instead of minting again. Sending the transaction again with the
+   * same ID within its valid duration does not mint twice, since the network rejects duplicates.
+   *
+   * @param request the request
+   * @param transactionId the ID of the transaction, its account pays for the transaction
+   * @return a future that completes with the result or completes exceptionally with a {@link
+   *     HieroException} if the transaction could not be executed
+   */
+  @NonNull CompletableFuture<TokenMintResult> executeMintTokenTransactionAsync(
+      @NonNull TokenMintRequest request, @NonNull TransactionId transactionId);
+
   /**
    * Executes a token burn transaction.
    *
@@ -223,6 +463,17 @@ public interface ProtocolLayerClient {
   @NonNull TokenBurnResult executeBurnTokenTransaction(@NonNull final TokenBurnRequest request)
       throws HieroException;
 
+  /**
+   * Executes a token burn transaction asynchronously. No thread is blocked while the transaction is
+   * handled by the network.
+   *
+   * @param request the request
+   * @return a future that completes with the result or completes exceptionally with a {@link
+   *     HieroException} if the transaction could not be executed
+   */
+  @NonNull CompletableFuture<TokenBurnResult> executeBurnTokenTransactionAsync(
+      @NonNull TokenBurnRequest request);
+
   /**
    * Executes a transfer transaction for an NFT.
    *
@@ -233,6 +484,61 @@ public interface ProtocolLayerClient {
   @NonNull TokenTransferResult executeTransferTransaction(
       @NonNull final TokenTransferRequest request) throws HieroException;
 
+  /**
+   * Executes a transfer transaction for an NFT asynchronously. No thread is blocked while the
+   * transaction is handled by the network.
+   *
+   * @param request the request
+   * @return a future that completes with the result or completes exceptionally with a {@link
+   *     HieroException} if the transaction could not be executed
+   */
+  @NonNull CompletableFuture<TokenTransferResult> executeTransferTransactionAsync(
+      @NonNull TokenTransferRequest request);
+
+  /**
+   * Executes a transfer transaction that moves a fungible token from one sender to several
+   * receivers.
+   *
+   * @param request the request containing the details of the batch transfer transaction
+   * @return the result of the token transfer transaction
+   * @throws HieroException if the transaction could not be executed
+   */
+  @NonNull TokenTransferResult executeBatchTransferTransaction(
+      @NonNull TokenBatchTransferRequest request) throws HieroException;
+
+  /**
+   * Executes a transfer transaction that moves a fungible token from one sender to several
+   * receivers asynchronously. No thread is blocked while the transaction is handled by the network.
+   *
+   * @param request the request
+   * @return a future that completes with the result or completes exceptionally with a {@link
+   *     HieroException} if the transaction could not be executed
+   */
+  @NonNull CompletableFuture<TokenTransferResult> executeBatchTransferTransactionAsync(
+      @NonNull TokenBatchTransferRequest request);
+
+  /**
+   * Executes a transfer transaction that moves several NFTs, possibly of different types and
+   * between different accounts.
+   *
+   * @param request the request containing the details of the NFT batch transfer transaction
+   * @return the result of the token transfer transaction
+   * @throws HieroException if the transaction could not be executed
+   */
+  @NonNull TokenTransferResult executeNftBatchTransferTransaction(
+      @NonNull NftBatchTransferRequest request) throws HieroException;
+
+  /**
+   * Executes a transfer transaction that moves several NFTs asynchronously. No thread is blocked
+   * while the transaction is handled by the network.
+   *
+   * @param request the request
+   * @return a future that completes with the result or completes exceptionally with a {@link
+   *     HieroException} if the transaction could not be executed
+   */
+  @NonNull CompletableFuture<TokenTransferResult> executeNftBatchTransferTransactionAsync(
+      @NonNull NftBatchTransferRequest request);
+
   /**
    * Executes a topic create transaction.
    *
@@ -243,6 +549,17 @@ public interface ProtocolLayerClient {
   @NonNull TopicCreateResult executeTopicCreateTransaction(@NonNull TopicCreateRequest request)
       throws HieroException;
 
+  /**
+   * Executes a topic create transaction asynchronously. No thread is blocked while the transaction
+   * is handled by the network.
+   *
+   * @param request the request
+   * @return a future that completes with the result or completes exceptionally with a {@link
+   *     HieroException} if the transaction could not be executed
+   */
+  @NonNull CompletableFuture<TopicCreateResult> executeTopicCreateTransactionAsync(
+      @NonNull TopicCreateRequest request);
+
   /**
    * Executes a topic update transaction.
    *
@@ -253,6 +570,17 @@ public interface ProtocolLayerClient {
   @NonNull TopicUpdateResult executeTopicUpdateTransaction(@NonNull TopicUpdateRequest request)
       throws HieroException;
 
+  /**
+   * Executes a topic update transaction asynchronously. No thread is blocked while the transaction
+   * is handled by the network.
+   *
+   * @param request the request
+   * @return a future that completes with the result or completes exceptionally with a {@link
+   *     HieroException} if the transaction could not be executed
+   */
+  @NonNull CompletableFuture<TopicUpdateResult> executeTopicUpdateTransactionAsync(
+      @NonNull TopicUpdateRequest request);
+
   /**
    * Executes a topic delete transaction.
    *
@@ -263,6 +591,17 @@ public interface ProtocolLayerClient {
   @NonNull TopicDeleteResult executeTopicDeleteTransaction(@NonNull TopicDeleteRequest request)
       throws HieroException;
 
+  /**
+   * Executes a topic delete transaction asynchronously. No thread is blocked while the transaction
+   * is handled by the network.
+   *
+   * @param request the request
+   * @return a future that completes with the result or completes exceptionally with a {@link
+   *     HieroException} if the transaction could not be executed
+   */
+  @NonNull CompletableFuture<TopicDeleteResult> executeTopicDeleteTransactionAsync(
+      @NonNull TopicDeleteRequest request);
+
   /**
    * Executes a topic message submit transaction.
    *
@@ -273,6 +612,17 @@ public interface ProtocolLayerClient {
   @NonNull TopicSubmitMessageResult executeTopicMessageSubmitTransaction(
       @NonNull TopicSubmitMessageRequest request) throws HieroException;
 
+  /**
+   * Executes a topic message submit transaction asynchronously. No thread is blocked while the
+   * transaction is handled by the network.
+   *
+   * @param request the request
+   * @return a future that completes with the result or completes exceptionally with a {@link
+   *     HieroException} if the transaction could not be executed
+   */
+  @NonNull CompletableFuture<TopicSubmitMessageResult> executeTopicMessageSubmitTransactionAsync(
+      @NonNull TopicSubmitMessageRequest request);
+
   /**
    * Executes a topic message query.
    *
@@ -283,6 +633,35 @@ public interface ProtocolLayerClient {
   @NonNull TopicMessageResult executeTopicMessageQuery(@NonNull TopicMessageRequest request)
       throws HieroException;
 
+  /**
+   * Submits a batch of transactions without waiting for consensus. This is the first step of the
+   * pipelined mode: the method returns as soon as all transactions have been accepted or rejected
+   * by the nodes and provides the transaction IDs that can be used to collect the receipts by
+   * calling {@link #collectReceipts(List, int)}. A failure of a single transaction does not stop
+   * the batch, it is reported by the submission of that transaction.
+   *
+   * @param requests the requests
+   * @param maxInFlight the maximum number of transactions that are submitted at the same time
+   * @return the submissions in the order of the requests
+   * @throws HieroException if the batch could not be submitted
+   */
+  @NonNull List<TransactionSubmission> submitTransactions(
+      @NonNull List<? extends TransactionRequest> requests, int maxInFlight) throws HieroException;
+
+  /**
+   * Collects the receipts of transactions that have been submitted by calling {@link
+   * #submitTransactions(List, int)}. This is the second step of the pipelined mode: receipts are
+   * requested concurrently and resolved as they complete, so a batch costs roughly one consensus
+   * latency instead of one latency per transaction. Failed submissions and failed receipt requests
+   * are reported in the outcome of the transaction.
+   *
+   * @param submissions the submissions
+   * @param maxInFlight the maximum number of receipts that are requested at the same time
+   * @return a future that completes with the outcomes in the order of the submissions
+   */
+  @NonNull CompletableFuture<List<TransactionOutcome>> collectReceipts(
+      @NonNull List<TransactionSubmission> submissions, int maxInFlight);
+
   /**
    * Adds a transaction listener to the protocol layer client. The listener will be notified when a
    * transaction is executed.
@@ -292,6 +671,13 @@ public interface ProtocolLayerClient {
    */
   @NonNull Runnable addTransactionListener(@NonNull TransactionListener listener);
 
+  /**
+   * Returns metrics about the delivery of events to the transaction listeners.
+   *
+   * @return the listener dispatch metrics
+   */
+  @NonNull ListenerDispatchMetrics getListenerDispatchMetrics();
+
   /**
    * Returns the account ID of the operator account.
    *
@@ -0,0 +1,25 @@
+package com.openelements.hiero.base.protocol.data;
+
+import com.hedera.hashgraph.sdk.FileId;
+import java.nio.ByteBuffer;
+import java.util.Objects;
+import org.jspecify.annotations.NonNull;
+
+/**
+ * Response of a file contents query that provides the contents as a read-only view of the data that
+ * was received from the network. In contrast to {@link FileContentsResponse} the contents are not
+ * copied into a new array.
+ *
+ * @param fileId the ID of the file
+ * @param contents the read-only contents of the file
+ */
+public record FileContentsBufferResponse(@NonNull FileId fileId, @NonNull ByteBuffer contents) {
+
+  public FileContentsBufferResponse {
+    Objects.requireNonNull(fileId, "fileId must not be null");
+    Objects.requireNonNull(contents, "contents must not be null");
+    if (!contents.isReadOnly()) {
+      throw new IllegalArgumentException("contents must be read-only");
+    }
+  }
+}
@@ -0,0 +1,76 @@
+package com.openelements.hiero.base.protocol.data;
+
+import com.hedera.hashgraph.sdk.AccountId;
+import com.hedera.hashgraph.sdk.Hbar;
+import com.hedera.hashgraph.sdk.NftId;
+import com.hedera.hashgraph.sdk.PrivateKey;
+import com.openelements.hiero.base.data.NftTransferInstruction;
+import java.time.Duration;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import org.jspecify.annotations.NonNull;
+
+/**
+ * Request to transfer several NFTs in a single transfer transaction. The NFTs can be of different
+ * types and can be moved between different senders and receivers. The transaction is signed once by
+ * every distinct sender.
+ */
+public record NftBatchTransferRequest(
+    @NonNull Hbar maxTransactionFee,
+    @NonNull Duration transactionValidDuration,
+    @NonNull List<NftTransferInstruction> transfers)
+    implements TransactionRequest {
+
+  /** Maximum number of NFT transfers that the network accepts in a single transfer transaction. */
+  public static final int MAX_NFT_TRANSFERS = 10;
+
+  public NftBatchTransferRequest {
+    Objects.requireNonNull(maxTransactionFee, "maxTransactionFee must not be null");
+    Objects.requireNonNull(transactionValidDuration, "transactionValidDuration must not be null");
+    Objects.requireNonNull(transfers, "transfers must not be null");
+    if (transfers.isEmpty()) {
+      throw new IllegalArgumentException("transfers must not be empty");
+    }
+    if (transfers.size() > MAX_NFT_TRANSFERS) {
+      throw new IllegalArgumentException(
+          "transfers must not contain more than " + MAX_NFT_TRANSFERS + " entries");
+    }
+    final Set<NftId> nftIds = new HashSet<>();
+    transfers.forEach(
+        transfer -> {
+          Objects.requireNonNull(transfer, "transfer must not be null");
+          if (!nftIds.add(transfer.nftId())) {
+            throw new IllegalArgumentException(
+                "NFT " + transfer.nftId() + " must not be transferred twice");
+          }
+        });
+    transfers = List.copyOf(transfers);
+  }
+
+  /**
+   * Returns the private keys of all distinct senders. Every key is returned only once, even if the
+   * sender transfers several NFTs.
+   *
+   * @return the private keys of the senders
+   */
+  @NonNull
+  public List<PrivateKey> senderKeys() {
+    final Map<AccountId, PrivateKey> keys = new LinkedHashMap<>();
+    transfers.forEach(
+        transfer ->
+            keys.putIfAbsent(transfer.sender().accountId(), transfer.sender().privateKey()));
+    return List.copyOf(keys.values());
+  }
+
+  @NonNull
+  public static NftBatchTransferRequest of(@NonNull final List<NftTransferInstruction> transfers) {
+    return new NftBatchTransferRequest(
+        TransactionRequest.DEFAULT_MAX_TRANSACTION_FEE,
+        TransactionRequest.DEFAULT_TRANSACTION_VALID_DURATION,
+        transfers);
+  }
+}
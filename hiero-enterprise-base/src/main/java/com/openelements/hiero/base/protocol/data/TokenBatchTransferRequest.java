@@ -0,0 +1,95 @@
+package com.openelements.hiero.base.protocol.data;
+
+import com.hedera.hashgraph.sdk.AccountId;
+import com.hedera.hashgraph.sdk.Hbar;
+import com.hedera.hashgraph.sdk.PrivateKey;
+import com.hedera.hashgraph.sdk.TokenId;
+import java.time.Duration;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import org.jspecify.annotations.NonNull;
+
+/**
+ * Request to transfer a fungible token from one sender to several receivers in a single transfer
+ * transaction. The sender leg is computed as the negated sum of all receiver amounts.
+ */
+public record TokenBatchTransferRequest(
+    @NonNull Hbar maxTransactionFee,
+    @NonNull Duration transactionValidDuration,
+    @NonNull TokenId tokenId,
+    @NonNull AccountId sender,
+    @NonNull PrivateKey senderKey,
+    @NonNull Map<AccountId, Long> amounts)
+    implements TransactionRequest {
+
+  /**
+   * Maximum number of token transfer legs (account amounts) that the network accepts in a single
+   * transfer transaction.
+   */
+  public static final int MAX_TRANSFER_LEGS = 10;
+
+  /**
+   * Maximum number of receivers in a single request. One leg of every transaction is needed for the
+   * sender.
+   */
+  public static final int MAX_RECEIVERS = MAX_TRANSFER_LEGS - 1;
+
+  public TokenBatchTransferRequest {
+    Objects.requireNonNull(maxTransactionFee, "maxTransactionFee must not be null");
+    Objects.requireNonNull(transactionValidDuration, "transactionValidDuration must not be null");
+    Objects.requireNonNull(tokenId, "tokenId must not be null");
+    Objects.requireNonNull(sender, "sender must not be null");
+    Objects.requireNonNull(senderKey, "senderKey must not be null");
+    Objects.requireNonNull(amounts, "amounts must not be null");
+    if (amounts.isEmpty()) {
+      throw new IllegalArgumentException("amounts must not be empty");
+    }
+    if (amounts.size() > MAX_RECEIVERS) {
+      throw new IllegalArgumentException(
+          "amounts must not contain more than " + MAX_RECEIVERS + " receivers");
+    }
+    long total = 0;
+    for (final Map.Entry<AccountId, Long> entry : amounts.entrySet()) {
+      Objects.requireNonNull(entry.getKey(), "receiver must not be null");
+      Objects.requireNonNull(entry.getValue(), "amount must not be null");
+      if (entry.getKey().equals(sender)) {
+        throw new IllegalArgumentException("sender must not be a receiver");
+      }
+      if (entry.getValue() <= 0) {
+        throw new IllegalArgumentException("amount must be positive");
+      }
+      try {
+        total = Math.addExact(total, entry.getValue());
+      } catch (final ArithmeticException e) {
+        throw new IllegalArgumentException("total amount must not exceed Long.MAX_VALUE", e);
+      }
+    }
+    amounts = Collections.unmodifiableMap(new LinkedHashMap<>(amounts));
+  }
+
+  /**
+   * Returns the total amount that is transferred to all receivers.
+   *
+   * @return the total amount
+   */
+  public long totalAmount() {
+    return amounts.values().stream().mapToLong(Long::longValue).sum();
+  }
+
+  @NonNull
+  public static TokenBatchTransferRequest of(
+      @NonNull final TokenId tokenId,
+      @NonNull final AccountId sender,
+      @NonNull final PrivateKey senderKey,
+      @NonNull final Map<AccountId, Long> amounts) {
+    return new TokenBatchTransferRequest(
+        TransactionRequest.DEFAULT_MAX_TRANSACTION_FEE,
+        TransactionRequest.DEFAULT_TRANSACTION_VALID_DURATION,
+        tokenId,
+        sender,
+        senderKey,
+        amounts);
+  }
+}
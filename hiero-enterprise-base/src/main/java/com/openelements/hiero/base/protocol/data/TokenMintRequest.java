@@ -21,6 +21,9 @@ public record TokenMintRequest(
 
   static final int MAX_METADATA_SIZE = 100;
 
+  /** Maximum number of NFTs that can be minted by a single mint transaction. */
+  public static final int MAX_NFTS_PER_MINT = 10;
+
   public TokenMintRequest {
     Objects.requireNonNull(tokenId, "tokenId must not be null");
     Objects.requireNonNull(supplyKey, "supplyKey must not be null");
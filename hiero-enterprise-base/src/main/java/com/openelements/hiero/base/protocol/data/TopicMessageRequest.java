@@ -16,7 +16,9 @@ public record TopicMessageRequest(
     @Nullable Instant endTime,
     long limit,
     Hbar queryPayment,
-    Hbar maxQueryPayment)
+    Hbar maxQueryPayment,
+    @Nullable Consumer<Throwable> errorHandler,
+    @Nullable Runnable completionHandler)
     implements QueryRequest {
 
   private static final long NO_LIMIT = -1;
@@ -26,9 +28,51 @@ public record TopicMessageRequest(
     Objects.requireNonNull(subscription, "subscription must not be null");
   }
 
+  public TopicMessageRequest(
+      @NonNull TopicId topicId,
+      @NonNull Consumer<TopicMessage> subscription,
+      @Nullable Instant startTime,
+      @Nullable Instant endTime,
+      long limit,
+      Hbar queryPayment,
+      Hbar maxQueryPayment) {
+    this(
+        topicId,
+        subscription,
+        startTime,
+        endTime,
+        limit,
+        queryPayment,
+        maxQueryPayment,
+        null,
+        null);
+  }
+
   @NonNull
   public static TopicMessageRequest of(
       @NonNull TopicId topicId, @NonNull Consumer<TopicMessage> subscription) {
     return new TopicMessageRequest(topicId, subscription, null, null, NO_LIMIT, null, null);
   }
+
+  @NonNull
+  public static TopicMessageRequest of(
+      @NonNull TopicId topicId,
+      @NonNull Consumer<TopicMessage> subscription,
+      @Nullable Instant startTime,
+      @Nullable Instant endTime,
+      @NonNull Consumer<Throwable> errorHandler,
+      @NonNull Runnable completionHandler) {
+    Objects.requireNonNull(errorHandler, "errorHandler must not be null");
+    Objects.requireNonNull(completionHandler, "completionHandler must not be null");
+    return new TopicMessageRequest(
+        topicId,
+        subscription,
+        startTime,
+        endTime,
+        NO_LIMIT,
+        null,
+        null,
+        errorHandler,
+        completionHandler);
+  }
 }
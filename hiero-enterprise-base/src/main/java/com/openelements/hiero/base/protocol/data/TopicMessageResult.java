@@ -1,3 +1,18 @@
 package com.openelements.hiero.base.protocol.data;
 
-public record TopicMessageResult() {}
+import com.hedera.hashgraph.sdk.SubscriptionHandle;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Result of a topic message query.
+ *
+ * @param subscriptionHandle the handle to cancel the subscription, or {@code null} if the query did
+ *     not provide one
+ */
+public record TopicMessageResult(@Nullable SubscriptionHandle subscriptionHandle) {
+
+  /** Creates a result without a subscription handle. */
+  public TopicMessageResult() {
+    this(null);
+  }
+}
@@ -17,7 +17,8 @@ public record TopicSubmitMessageRequest(
     @NonNull byte[] message)
     implements TransactionRequest {
 
-  static final int MAX_MESSAGE_LENGTH = 1024;
+  /** Maximum number of bytes of a single topic message. */
+  public static final int MAX_MESSAGE_LENGTH = 1024;
 
   public TopicSubmitMessageRequest {
     Objects.requireNonNull(topicId, "TopicId cannot be null");
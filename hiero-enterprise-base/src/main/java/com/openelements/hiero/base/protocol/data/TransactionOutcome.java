@@ -0,0 +1,73 @@
+package com.openelements.hiero.base.protocol.data;
+
+import com.hedera.hashgraph.sdk.Status;
+import com.hedera.hashgraph.sdk.TransactionId;
+import com.hedera.hashgraph.sdk.TransactionReceipt;
+import com.openelements.hiero.base.HieroException;
+import java.util.Objects;
+import org.jspecify.annotations.NonNull;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Final outcome of a transaction that has been handled in pipelined mode. An outcome either
+ * contains the receipt of the transaction or the error that prevented the transaction from being
+ * submitted or its receipt from being received. A receipt does not imply success, the status of the
+ * receipt must be checked (see {@link #isSuccess()}).
+ *
+ * @param request the request the transaction was created from
+ * @param transactionId the ID of the transaction or null if the transaction was never submitted
+ * @param receipt the receipt of the transaction or null if no receipt was received
+ * @param error the error or null if a receipt was received
+ */
+public record TransactionOutcome(
+    @NonNull TransactionRequest request,
+    @Nullable TransactionId transactionId,
+    @Nullable TransactionReceipt receipt,
+    @Nullable HieroException error) {
+
+  public TransactionOutcome {
+    Objects.requireNonNull(request, "request must not be null");
+    if (receipt == null && error == null) {
+      throw new IllegalArgumentException("either receipt or error must be provided");
+    }
+  }
+
+  /**
+   * Returns the status of the transaction.
+   *
+   * @return the status of the transaction or null if no receipt was received
+   */
+  @Nullable
+  public Status status() {
+    if (receipt == null) {
+      return null;
+    }
+    return receipt.status;
+  }
+
+  /**
+   * Returns true if a receipt was received and the transaction reached consensus with status {@link
+   * Status#SUCCESS}.
+   *
+   * @return true if the transaction was successful
+   */
+  public boolean isSuccess() {
+    return error == null && receipt != null && receipt.status == Status.SUCCESS;
+  }
+
+  @NonNull
+  public static TransactionOutcome of(
+      @NonNull final TransactionSubmission submission, @NonNull final TransactionReceipt receipt) {
+    Objects.requireNonNull(submission, "submission must not be null");
+    Objects.requireNonNull(receipt, "receipt must not be null");
+    return new TransactionOutcome(submission.request(), submission.transactionId(), receipt, null);
+  }
+
+  @NonNull
+  public static TransactionOutcome failed(
+      @NonNull final TransactionSubmission submission, @NonNull final HieroException error) {
+    Objects.requireNonNull(submission, "submission must not be null");
+    Objects.requireNonNull(error, "error must not be null");
+    return new TransactionOutcome(submission.request(), submission.transactionId(), null, error);
+  }
+}
@@ -0,0 +1,75 @@
+package com.openelements.hiero.base.protocol.data;
+
+import com.hedera.hashgraph.sdk.AccountId;
+import com.hedera.hashgraph.sdk.TransactionId;
+import com.openelements.hiero.base.HieroException;
+import java.util.Objects;
+import org.jspecify.annotations.NonNull;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Result of submitting a transaction to a node without waiting for consensus. A submission either
+ * has a transaction ID (the node accepted the transaction) or an error (the transaction could not
+ * be created or was rejected by the node).
+ *
+ * @param request the request the transaction was created from
+ * @param transactionId the ID of the submitted transaction or null if the submission failed
+ * @param error the reason why the submission failed or null if the transaction was submitted
+ * @param type the type of the transaction or {@link TransactionType#UNKNOWN} if it is not known
+ * @param nodeId the node that accepted the transaction or null if it is not known
+ */
+public record TransactionSubmission(
+    @NonNull TransactionRequest request,
+    @Nullable TransactionId transactionId,
+    @Nullable HieroException error,
+    @NonNull TransactionType type,
+    @Nullable AccountId nodeId) {
+
+  public TransactionSubmission {
+    Objects.requireNonNull(request, "request must not be null");
+    Objects.requireNonNull(type, "type must not be null");
+    if (transactionId == null && error == null) {
+      throw new IllegalArgumentException("either transactionId or error must be provided");
+    }
+  }
+
+  public TransactionSubmission(
+      @NonNull final TransactionRequest request,
+      @Nullable final TransactionId transactionId,
+      @Nullable final HieroException error) {
+    this(request, transactionId, error, TransactionType.UNKNOWN, null);
+  }
+
+  /**
+   * Returns true if the transaction was accepted by the node.
+   *
+   * @return true if the transaction was accepted by the node
+   */
+  public boolean isSubmitted() {
+    return transactionId != null && error == null;
+  }
+
+  @NonNull
+  public static TransactionSubmission submitted(
+      @NonNull final TransactionRequest request, @NonNull final TransactionId transactionId) {
+    Objects.requireNonNull(transactionId, "transactionId must not be null");
+    return new TransactionSubmission(request, transactionId, null);
+  }
+
+  @NonNull
+  public static TransactionSubmission submitted(
+      @NonNull final TransactionRequest request,
+      @NonNull final TransactionId transactionId,
+      @NonNull final TransactionType type,
+      @Nullable final AccountId nodeId) {
+    Objects.requireNonNull(transactionId, "transactionId must not be null");
+    return new TransactionSubmission(request, transactionId, null, type, nodeId);
+  }
+
+  @NonNull
+  public static TransactionSubmission failed(
+      @NonNull final TransactionRequest request, @NonNull final HieroException error) {
+    Objects.requireNonNull(error, "error must not be null");
+    return new TransactionSubmission(request, null, error);
+  }
+}
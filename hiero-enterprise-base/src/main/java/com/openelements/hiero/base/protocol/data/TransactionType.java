@@ -1,8 +1,56 @@
 package com.openelements.hiero.base.protocol.data;
 
+import com.hedera.hashgraph.sdk.AccountAllowanceApproveTransaction;
+import com.hedera.hashgraph.sdk.AccountAllowanceDeleteTransaction;
+import com.hedera.hashgraph.sdk.AccountCreateTransaction;
+import com.hedera.hashgraph.sdk.AccountDeleteTransaction;
+import com.hedera.hashgraph.sdk.AccountUpdateTransaction;
+import com.hedera.hashgraph.sdk.ContractCreateTransaction;
+import com.hedera.hashgraph.sdk.ContractDeleteTransaction;
+import com.hedera.hashgraph.sdk.ContractExecuteTransaction;
+import com.hedera.hashgraph.sdk.ContractUpdateTransaction;
+import com.hedera.hashgraph.sdk.EthereumTransaction;
+import com.hedera.hashgraph.sdk.FileAppendTransaction;
+import com.hedera.hashgraph.sdk.FileCreateTransaction;
+import com.hedera.hashgraph.sdk.FileDeleteTransaction;
+import com.hedera.hashgraph.sdk.FileUpdateTransaction;
+import com.hedera.hashgraph.sdk.FreezeTransaction;
+import com.hedera.hashgraph.sdk.LiveHashAddTransaction;
+import com.hedera.hashgraph.sdk.LiveHashDeleteTransaction;
+import com.hedera.hashgraph.sdk.PrngTransaction;
+import com.hedera.hashgraph.sdk.ScheduleCreateTransaction;
+import com.hedera.hashgraph.sdk.ScheduleDeleteTransaction;
+import com.hedera.hashgraph.sdk.ScheduleSignTransaction;
+import com.hedera.hashgraph.sdk.SystemDeleteTransaction;
+import com.hedera.hashgraph.sdk.SystemUndeleteTransaction;
+import com.hedera.hashgraph.sdk.TokenAssociateTransaction;
+import com.hedera.hashgraph.sdk.TokenBurnTransaction;
+import com.hedera.hashgraph.sdk.TokenCreateTransaction;
+import com.hedera.hashgraph.sdk.TokenDeleteTransaction;
+import com.hedera.hashgraph.sdk.TokenDissociateTransaction;
+import com.hedera.hashgraph.sdk.TokenFeeScheduleUpdateTransaction;
+import com.hedera.hashgraph.sdk.TokenFreezeTransaction;
+import com.hedera.hashgraph.sdk.TokenGrantKycTransaction;
+import com.hedera.hashgraph.sdk.TokenMintTransaction;
+import com.hedera.hashgraph.sdk.TokenPauseTransaction;
+import com.hedera.hashgraph.sdk.TokenRevokeKycTransaction;
+import com.hedera.hashgraph.sdk.TokenUnfreezeTransaction;
+import com.hedera.hashgraph.sdk.TokenUnpauseTransaction;
+import com.hedera.hashgraph.sdk.TokenUpdateNftsTransaction;
+import com.hedera.hashgraph.sdk.TokenUpdateTransaction;
+import com.hedera.hashgraph.sdk.TokenWipeTransaction;
+import com.hedera.hashgraph.sdk.TopicCreateTransaction;
+import com.hedera.hashgraph.sdk.TopicDeleteTransaction;
+import com.hedera.hashgraph.sdk.TopicMessageSubmitTransaction;
+import com.hedera.hashgraph.sdk.TopicUpdateTransaction;
+import com.hedera.hashgraph.sdk.Transaction;
+import com.hedera.hashgraph.sdk.TransferTransaction;
+import java.util.HashMap;
 import java.util.Map;
+import java.util.Objects;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
+import org.jspecify.annotations.NonNull;
 
 public enum TransactionType {
   ACCOUNT_CREATE("CRYPTOCREATEACCOUNT"),
@@ -66,6 +114,68 @@ public enum TransactionType {
   private static final Map<String, TransactionType> map =
       Stream.of(values()).collect(Collectors.toMap(TransactionType::getType, t -> t));
 
+  /**
+   * Transactions that are newer than the SDK version of this project. They are mapped by class
+   * name, so the mapping is used as soon as an application runs with an SDK that contains them.
+   */
+  private static final Map<String, TransactionType> newerTransactionClasses =
+      Map.ofEntries(
+          Map.entry("com.hedera.hashgraph.sdk.TokenRejectTransaction", TOKEN_REJECT),
+          Map.entry("com.hedera.hashgraph.sdk.TokenAirdropTransaction", TOKEN_AIRDROP),
+          Map.entry("com.hedera.hashgraph.sdk.TokenClaimAirdropTransaction", TOKEN_CLAIM_AIRDROP),
+          Map.entry("com.hedera.hashgraph.sdk.TokenCancelAirdropTransaction", TOKEN_CANCEL_AIRDROP),
+          Map.entry("com.hedera.hashgraph.sdk.NodeCreateTransaction", CREATE_NODE),
+          Map.entry("com.hedera.hashgraph.sdk.NodeUpdateTransaction", UPDATE_NODE),
+          Map.entry("com.hedera.hashgraph.sdk.NodeDeleteTransaction", DELETE_NODE));
+
+  private static final Map<Class<?>, TransactionType> transactionClasses =
+      withNewerTransactionClasses(
+          Map.ofEntries(
+              Map.entry(AccountCreateTransaction.class, ACCOUNT_CREATE),
+              Map.entry(AccountDeleteTransaction.class, ACCOUNT_DELETE),
+              Map.entry(AccountUpdateTransaction.class, ACCOUNT_UPDATE),
+              Map.entry(AccountAllowanceApproveTransaction.class, ALLOWANCE_APPROVAL),
+              Map.entry(AccountAllowanceDeleteTransaction.class, ALLOWANCE_DELETION),
+              Map.entry(TransferTransaction.class, CRYPTO_TRANSFER),
+              Map.entry(LiveHashAddTransaction.class, ADD_LIVE_HASH),
+              Map.entry(LiveHashDeleteTransaction.class, DELETE_LIVE_HASH),
+              Map.entry(TopicCreateTransaction.class, TOPIC_CREATE),
+              Map.entry(TopicUpdateTransaction.class, TOPIC_UPDATE),
+              Map.entry(TopicMessageSubmitTransaction.class, TOPIC_MESSAGE_SUBMIT),
+              Map.entry(TopicDeleteTransaction.class, TOPIC_DELETE),
+              Map.entry(TokenCreateTransaction.class, TOKEN_CREATE),
+              Map.entry(TokenUpdateTransaction.class, TOKEN_UPDATE),
+              Map.entry(TokenDeleteTransaction.class, TOKEN_DELETE),
+              Map.entry(TokenAssociateTransaction.class, TOKEN_ASSOCIATE),
+              Map.entry(TokenDissociateTransaction.class, TOKEN_DISSOCIATE),
+              Map.entry(TokenMintTransaction.class, TOKEN_MINT),
+              Map.entry(TokenBurnTransaction.class, TOKEN_BURN),
+              Map.entry(TokenFreezeTransaction.class, TOKEN_FREEZE),
+              Map.entry(TokenFeeScheduleUpdateTransaction.class, TOKEN_FEE_SCHEDULE_UPDATE),
+              Map.entry(TokenUnfreezeTransaction.class, TOKEN_UNFREEZE),
+              Map.entry(TokenGrantKycTransaction.class, TOKEN_GRANT_KYC),
+              Map.entry(TokenRevokeKycTransaction.class, TOKEN_REVOKE_KYC),
+              Map.entry(TokenPauseTransaction.class, TOKEN_PAUSE),
+              Map.entry(TokenUnpauseTransaction.class, TOKEN_UNPAUSE),
+              Map.entry(TokenWipeTransaction.class, TOKEN_WIPE),
+              Map.entry(TokenUpdateNftsTransaction.class, NFT_UPDATE),
+              Map.entry(FileCreateTransaction.class, FILE_CREATE),
+              Map.entry(FileAppendTransaction.class, FILE_APPEND),
+              Map.entry(FileUpdateTransaction.class, FILE_UPDATE),
+              Map.entry(FileDeleteTransaction.class, FILE_DELETE),
+              Map.entry(FreezeTransaction.class, FREEZE),
+              Map.entry(ScheduleCreateTransaction.class, CREATE_SCHEDULE),
+              Map.entry(ScheduleDeleteTransaction.class, DELETE_SCHEDULE),
+              Map.entry(ScheduleSignTransaction.class, SIGN_SCHEDULE),
+              Map.entry(SystemDeleteTransaction.class, DELETE_SYSTEM),
+              Map.entry(SystemUndeleteTransaction.class, UNDELETE_SYSTEM),
+              Map.entry(ContractCreateTransaction.class, CONTRACT_CREATE),
+              Map.entry(ContractUpdateTransaction.class, CONTRACT_UPDATE),
+              Map.entry(ContractDeleteTransaction.class, CONTRACT_DELETE),
+              Map.entry(ContractExecuteTransaction.class, CONTRACT_CALL),
+              Map.entry(EthereumTransaction.class, ETHEREUM),
+              Map.entry(PrngTransaction.class, UTILPRNG)));
+
   TransactionType(String type) {
     this.type = type;
   }
@@ -77,4 +187,30 @@ public enum TransactionType {
   public static TransactionType from(String value) {
     return map.getOrDefault(value, TransactionType.UNKNOWN);
   }
+
+  /**
+   * Returns the type of the given SDK transaction. The type is looked up in a table that is
+   * computed once, so the lookup is cheap enough to be done for every transaction.
+   *
+   * @param transaction the transaction
+   * @return the type of the transaction or {@link #UNKNOWN} if the type is not known
+   */
+  public static TransactionType from(@NonNull Transaction<?> transaction) {
+    Objects.requireNonNull(transaction, "transaction must not be null");
+    return transactionClasses.getOrDefault(transaction.getClass(), UNKNOWN);
+  }
+
+  private static Map<Class<?>, TransactionType> withNewerTransactionClasses(
+      final Map<Class<?>, TransactionType> transactionClasses) {
+    final Map<Class<?>, TransactionType> result = new HashMap<>(transactionClasses);
+    newerTransactionClasses.forEach(
+        (className, type) -> {
+          try {
+            result.put(Class.forName(className, false, Transaction.class.getClassLoader()), type);
+          } catch (final ClassNotFoundException e) {
+            // the transaction is not part of the SDK on the class path
+          }
+        });
+    return Map.copyOf(result);
+  }
 }
@@ -5,6 +5,7 @@ module com.openelements.hiero.base {
   exports com.openelements.hiero.base.verification;
   exports com.openelements.hiero.base.data;
   exports com.openelements.hiero.base.config;
+  exports com.openelements.hiero.base.jfr;
   exports com.openelements.hiero.base.implementation to
       com.openelements.hiero.base.test;
   exports com.openelements.hiero.base.implementation.data to
@@ -21,6 +22,7 @@ module com.openelements.hiero.base {
 
   requires transitive sdk; // Hedera SDK
   requires org.slf4j;
+  requires jdk.jfr;
   requires com.google.protobuf; // TODO: We should not have the need to use it
   requires static org.jspecify;
   requires com.google.auto.service;
@@ -0,0 +1,204 @@
+package com.openelements.hiero.base.test;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import com.hedera.hashgraph.sdk.FileId;
+import com.openelements.hiero.base.HieroException;
+import com.openelements.hiero.base.implementation.AsyncFileClientImpl;
+import com.openelements.hiero.base.protocol.ProtocolLayerClient;
+import com.openelements.hiero.base.protocol.data.FileAppendRequest;
+import com.openelements.hiero.base.protocol.data.FileAppendResult;
+import com.openelements.hiero.base.protocol.data.FileContentsBufferResponse;
+import com.openelements.hiero.base.protocol.data.FileContentsRequest;
+import com.openelements.hiero.base.protocol.data.FileContentsResponse;
+import com.openelements.hiero.base.protocol.data.FileCreateRequest;
+import com.openelements.hiero.base.protocol.data.FileCreateResult;
+import java.nio.ByteBuffer;
+import java.time.Instant;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mockito;
+
+public class AsyncFileClientImplTest {
+  ProtocolLayerClient protocolLayerClient;
+  AsyncFileClientImpl fileClient;
+
+  @BeforeEach
+  void setup() {
+    protocolLayerClient = Mockito.mock(ProtocolLayerClient.class);
+    fileClient = new AsyncFileClientImpl(protocolLayerClient);
+  }
+
+  @Test
+  void testCreateFile() throws Exception {
+    // mock
+    final FileId fileId = FileId.fromString("1.2.3");
+    final FileCreateResult fileCreateResult = Mockito.mock(FileCreateResult.class);
+
+    // given
+    final byte[] content = "Hello Hiero!".getBytes();
+
+    // then
+    when(protocolLayerClient.executeFileCreateTransactionAsync(any(FileCreateRequest.class)))
+        .thenReturn(CompletableFuture.completedFuture(fileCreateResult));
+    when(fileCreateResult.fileId()).thenReturn(fileId);
+
+    final FileId result = fileClient.createFile(content).get();
+
+    verify(protocolLayerClient, times(1))
+        .executeFileCreateTransactionAsync(any(FileCreateRequest.class));
+    verify(protocolLayerClient, never())
+        .executeFileAppendRequestTransactionAsync(any(FileAppendRequest.class));
+    Assertions.assertEquals(fileId, result);
+  }
+
+  @Test
+  void testCreateFileAppendsRemainingContentInOrder() throws Exception {
+    // mock
+    final FileId fileId = FileId.fromString("1.2.3");
+    final FileCreateResult fileCreateResult = Mockito.mock(FileCreateResult.class);
+    final FileAppendResult fileAppendResult = Mockito.mock(FileAppendResult.class);
+
+    // given
+    final byte[] content = new byte[FileCreateRequest.FILE_CREATE_MAX_SIZE * 3 + 10];
+    for (int i = 0; i < content.length; i++) {
+      content[i] = (byte) (i / FileCreateRequest.FILE_CREATE_MAX_SIZE);
+    }
+
+    // then
+    when(protocolLayerClient.executeFileCreateTransactionAsync(any(FileCreateRequest.class)))
+        .thenReturn(CompletableFuture.completedFuture(fileCreateResult));
+    when(fileCreateResult.fileId()).thenReturn(fileId);
+    when(protocolLayerClient.executeFileAppendRequestTransactionAsync(any(FileAppendRequest.class)))
+        .thenReturn(CompletableFuture.completedFuture(fileAppendResult));
+
+    final FileId result = fileClient.createFile(content).get();
+
+    final ArgumentCaptor<FileAppendRequest> captor =
+        ArgumentCaptor.forClass(FileAppendRequest.class);
+    verify(protocolLayerClient, times(3))
+        .executeFileAppendRequestTransactionAsync(captor.capture());
+    Assertions.assertEquals(fileId, result);
+    Assertions.assertEquals(3, captor.getAllValues().size());
+    Assertions.assertEquals(1, captor.getAllValues().get(0).contents()[0]);
+    Assertions.assertEquals(2, captor.getAllValues().get(1).contents()[0]);
+    Assertions.assertEquals(10, captor.getAllValues().get(2).contents().length);
+  }
+
+  @Test
+  void testCreateFileThrowsExceptionForSizeGreaterThanMaxFileSize() {
+    // given
+    final byte[] content = new byte[FileCreateRequest.FILE_MAX_SIZE + 1];
+
+    // then
+    final CompletableFuture<FileId> future = fileClient.createFile(content);
+
+    final ExecutionException exception =
+        Assertions.assertThrows(ExecutionException.class, future::get);
+    Assertions.assertInstanceOf(HieroException.class, exception.getCause());
+  }
+
+  @Test
+  void testExpirationTimeInThePastResultsInFailedFuture() {
+    // given
+    final FileId fileId = FileId.fromString("1.2.3");
+    final Instant expirationTime = Instant.now().minusSeconds(60);
+
+    // when
+    final CompletableFuture<FileId> createFuture =
+        fileClient.createFile(new byte[] {1}, expirationTime);
+    final CompletableFuture<Void> updateFuture =
+        fileClient.updateExpirationTime(fileId, expirationTime);
+
+    // then
+    final ExecutionException createException =
+        Assertions.assertThrows(ExecutionException.class, createFuture::get);
+    Assertions.assertInstanceOf(IllegalArgumentException.class, createException.getCause());
+    final ExecutionException updateException =
+        Assertions.assertThrows(ExecutionException.class, updateFuture::get);
+    Assertions.assertInstanceOf(IllegalArgumentException.class, updateException.getCause());
+    verifyNoInteractions(protocolLayerClient);
+  }
+
+  @Test
+  void testCreateFileWrapsFailure() {
+    // then
+    when(protocolLayerClient.executeFileCreateTransactionAsync(any(FileCreateRequest.class)))
+        .thenReturn(
+            CompletableFuture.failedFuture(new HieroException("Failed to execute transaction")));
+
+    final CompletableFuture<FileId> future = fileClient.createFile(new byte[] {1});
+
+    final ExecutionException exception =
+        Assertions.assertThrows(ExecutionException.class, future::get);
+    Assertions.assertInstanceOf(HieroException.class, exception.getCause());
+    Assertions.assertEquals("Failed to create file", exception.getCause().getMessage());
+  }
+
+  @Test
+  void testReadFileWrapsFailure() {
+    // given
+    final FileId fileId = FileId.fromString("1.2.3");
+
+    // then
+    when(protocolLayerClient.executeFileContentsQueryAsync(any(FileContentsRequest.class)))
+        .thenReturn(CompletableFuture.failedFuture(new HieroException("Failed to execute query")));
+
+    final CompletableFuture<byte[]> future = fileClient.readFile(fileId);
+
+    final ExecutionException exception =
+        Assertions.assertThrows(ExecutionException.class, future::get);
+    Assertions.assertInstanceOf(HieroException.class, exception.getCause());
+    Assertions.assertEquals(
+        "Failed to read file with fileId " + fileId, exception.getCause().getMessage());
+  }
+
+  @Test
+  void testReadFile() throws Exception {
+    // given
+    final FileId fileId = FileId.fromString("1.2.3");
+    final byte[] content = "Hello Hiero!".getBytes();
+
+    // then
+    when(protocolLayerClient.executeFileContentsQueryAsync(any(FileContentsRequest.class)))
+        .thenReturn(CompletableFuture.completedFuture(new FileContentsResponse(fileId, content)));
+
+    final byte[] result = fileClient.readFile(fileId).get();
+
+    Assertions.assertArrayEquals(content, result);
+  }
+
+  @Test
+  void testReadFileAsByteBuffer() throws Exception {
+    // given
+    final FileId fileId = FileId.fromString("1.2.3");
+    final ByteBuffer content = ByteBuffer.wrap("Hello Hiero!".getBytes()).asReadOnlyBuffer();
+
+    // then
+    when(protocolLayerClient.executeFileContentsBufferQueryAsync(any(FileContentsRequest.class)))
+        .thenReturn(
+            CompletableFuture.completedFuture(new FileContentsBufferResponse(fileId, content)));
+
+    final ByteBuffer result = fileClient.readFileAsByteBuffer(fileId).get();
+
+    Assertions.assertSame(content, result);
+  }
+
+  @Test
+  void testNullParams() {
+    Assertions.assertThrows(NullPointerException.class, () -> fileClient.createFile(null));
+    Assertions.assertThrows(NullPointerException.class, () -> fileClient.readFile(null));
+    Assertions.assertThrows(
+        NullPointerException.class, () -> fileClient.readFileAsByteBuffer(null));
+    Assertions.assertThrows(NullPointerException.class, () -> fileClient.deleteFile(null));
+  }
+}
@@ -0,0 +1,201 @@
+package com.openelements.hiero.base.test;
+
+import com.hedera.hashgraph.sdk.AccountId;
+import com.hedera.hashgraph.sdk.PrecheckStatusException;
+import com.hedera.hashgraph.sdk.Status;
+import com.hedera.hashgraph.sdk.TransactionId;
+import com.openelements.hiero.base.HieroException;
+import com.openelements.hiero.base.config.ConsensusNode;
+import com.openelements.hiero.base.data.ConsensusNodeScore;
+import com.openelements.hiero.base.implementation.ConsensusNodeSelectorImpl;
+import java.lang.reflect.Constructor;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.concurrent.TimeoutException;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class ConsensusNodeSelectorImplTest {
+
+  final AccountId node3 = AccountId.fromString("0.0.3");
+
+  final AccountId node4 = AccountId.fromString("0.0.4");
+
+  final AccountId node5 = AccountId.fromString("0.0.5");
+
+  final List<ConsensusNode> consensusNodes =
+      List.of(
+          new ConsensusNode("127.0.0.1", "50211", "0.0.3"),
+          new ConsensusNode("127.0.0.2", "50211", "0.0.4"),
+          new ConsensusNode("127.0.0.3", "50211", "0.0.5"));
+
+  MutableClock clock;
+
+  ConsensusNodeSelectorImpl selector;
+
+  @BeforeEach
+  void setup() {
+    clock = new MutableClock(Instant.parse("2025-01-01T00:00:00Z"));
+    selector = new ConsensusNodeSelectorImpl(consensusNodes, 2, 2, Duration.ofSeconds(30), clock);
+  }
+
+  @Test
+  void shouldPreferNodesWithLowerLatency() {
+    // when
+    selector.submitSucceeded(node3, Duration.ofMillis(300));
+    selector.submitSucceeded(node4, Duration.ofMillis(50));
+    selector.submitSucceeded(node5, Duration.ofMillis(100));
+    selector.receiptReceived(node5, Duration.ofMillis(500));
+
+    // then
+    Assertions.assertEquals(List.of(node4, node3), selector.selectNodes());
+    final List<ConsensusNodeScore> scores = selector.getScores();
+    Assertions.assertEquals(
+        List.of(node4, node3, node5), scores.stream().map(s -> s.node()).toList());
+    Assertions.assertEquals(Duration.ofMillis(100), scores.get(2).submitLatency());
+    Assertions.assertEquals(Duration.ofMillis(500), scores.get(2).receiptLatency());
+  }
+
+  @Test
+  void shouldAverageLatency() {
+    // when
+    selector.submitSucceeded(node3, Duration.ofMillis(100));
+    selector.submitSucceeded(node3, Duration.ofMillis(200));
+
+    // then
+    final ConsensusNodeScore score =
+        selector.getScores().stream().filter(s -> s.node().equals(node3)).findFirst().orElseThrow();
+    Assertions.assertEquals(Duration.ofMillis(120), score.submitLatency());
+  }
+
+  @Test
+  void shouldTakeFailingNodeOutOfRotation() throws Exception {
+    // given
+    selector.submitSucceeded(node3, Duration.ofMillis(10));
+    selector.submitSucceeded(node4, Duration.ofMillis(20));
+    selector.submitSucceeded(node5, Duration.ofMillis(30));
+
+    // when
+    selector.submitFailed(node3, precheckFailure(Status.BUSY));
+    Assertions.assertTrue(selector.getScores().stream().allMatch(ConsensusNodeScore::isAvailable));
+    selector.submitFailed(node3, new HieroException("failed", new TimeoutException()));
+
+    // then
+    Assertions.assertEquals(List.of(node4, node5), selector.selectNodes());
+    final ConsensusNodeScore score =
+        selector.getScores().stream().filter(s -> s.node().equals(node3)).findFirst().orElseThrow();
+    Assertions.assertFalse(score.isAvailable());
+    Assertions.assertEquals(clock.instant().plusSeconds(30), score.unavailableUntil());
+    Assertions.assertTrue(score.errorRate() > 0);
+  }
+
+  @Test
+  void shouldReturnNodeToRotationAfterOpenDuration() throws Exception {
+    // given
+    selector.submitFailed(node3, precheckFailure(Status.BUSY));
+    selector.submitFailed(node3, precheckFailure(Status.BUSY));
+    Assertions.assertFalse(selector.selectNodes().contains(node3));
+
+    // when
+    clock.advance(Duration.ofSeconds(30));
+
+    // then
+    Assertions.assertTrue(selector.getScores().stream().allMatch(ConsensusNodeScore::isAvailable));
+    selector.submitFailed(node3, precheckFailure(Status.PLATFORM_NOT_ACTIVE));
+    Assertions.assertFalse(selector.selectNodes().contains(node3));
+    clock.advance(Duration.ofSeconds(30));
+    selector.submitSucceeded(node3, Duration.ofMillis(10));
+    selector.submitFailed(node3, precheckFailure(Status.BUSY));
+    Assertions.assertTrue(selector.getScores().stream().allMatch(ConsensusNodeScore::isAvailable));
+  }
+
+  @Test
+  void shouldIgnoreErrorsThatAreNotCausedByTheNode() throws Exception {
+    // when
+    for (int i = 0; i < 5; i++) {
+      selector.submitFailed(node3, precheckFailure(Status.INVALID_SIGNATURE));
+      selector.submitFailed(node3, new IllegalArgumentException("invalid"));
+    }
+
+    // then
+    Assertions.assertTrue(selector.getScores().stream().allMatch(ConsensusNodeScore::isAvailable));
+    Assertions.assertEquals(0, selector.getScores().get(0).errorRate());
+  }
+
+  @Test
+  void shouldFallBackToAllNodesIfAllAreOutOfRotation() throws Exception {
+    // given
+    for (final AccountId node : List.of(node3, node4, node5)) {
+      selector.submitFailed(node, precheckFailure(Status.BUSY));
+      selector.submitFailed(node, precheckFailure(Status.BUSY));
+      clock.advance(Duration.ofSeconds(1));
+    }
+
+    // then
+    Assertions.assertEquals(List.of(node3, node4), selector.selectNodes());
+  }
+
+  @Test
+  void shouldIgnoreUnknownNodes() {
+    // when
+    selector.submitSucceeded(AccountId.fromString("0.0.99"), Duration.ofMillis(10));
+
+    // then
+    Assertions.assertEquals(3, selector.getScores().size());
+  }
+
+  @Test
+  void shouldValidateArguments() {
+    Assertions.assertThrows(
+        IllegalArgumentException.class, () -> new ConsensusNodeSelectorImpl(List.of()));
+    Assertions.assertThrows(
+        IllegalArgumentException.class,
+        () -> new ConsensusNodeSelectorImpl(consensusNodes, 0, 1, Duration.ofSeconds(1), clock));
+    Assertions.assertThrows(
+        IllegalArgumentException.class,
+        () -> new ConsensusNodeSelectorImpl(consensusNodes, 1, 0, Duration.ofSeconds(1), clock));
+    Assertions.assertThrows(
+        NullPointerException.class, () -> selector.submitSucceeded(null, Duration.ZERO));
+    Assertions.assertThrows(NullPointerException.class, () -> selector.submitFailed(node3, null));
+  }
+
+  private static PrecheckStatusException precheckFailure(final Status status) throws Exception {
+    final Constructor<PrecheckStatusException> constructor =
+        PrecheckStatusException.class.getDeclaredConstructor(Status.class, TransactionId.class);
+    constructor.setAccessible(true);
+    return constructor.newInstance(status, TransactionId.generate(AccountId.fromString("0.0.2")));
+  }
+
+  private static final class MutableClock extends Clock {
+
+    private Instant instant;
+
+    private MutableClock(final Instant instant) {
+      this.instant = instant;
+    }
+
+    private void advance(final Duration duration) {
+      instant = instant.plus(duration);
+    }
+
+    @Override
+    public ZoneId getZone() {
+      return ZoneOffset.UTC;
+    }
+
+    @Override
+    public Clock withZone(final ZoneId zone) {
+      return this;
+    }
+
+    @Override
+    public Instant instant() {
+      return instant;
+    }
+  }
+}
@@ -8,6 +8,7 @@ import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
 import com.hedera.hashgraph.sdk.FileId;
@@ -16,6 +17,7 @@ import com.openelements.hiero.base.implementation.FileClientImpl;
 import com.openelements.hiero.base.protocol.ProtocolLayerClient;
 import com.openelements.hiero.base.protocol.data.FileAppendRequest;
 import com.openelements.hiero.base.protocol.data.FileAppendResult;
+import com.openelements.hiero.base.protocol.data.FileContentsBufferResponse;
 import com.openelements.hiero.base.protocol.data.FileContentsRequest;
 import com.openelements.hiero.base.protocol.data.FileContentsResponse;
 import com.openelements.hiero.base.protocol.data.FileCreateRequest;
@@ -24,10 +26,23 @@ import com.openelements.hiero.base.protocol.data.FileInfoRequest;
 import com.openelements.hiero.base.protocol.data.FileInfoResponse;
 import com.openelements.hiero.base.protocol.data.FileUpdateRequest;
 import com.openelements.hiero.base.protocol.data.FileUpdateResult;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.CompletableFuture;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mockito;
 
 public class FileClientImplTest {
@@ -79,16 +94,14 @@ public class FileClientImplTest {
     when(protocolLayerClient.executeFileCreateTransaction(any(FileCreateRequest.class)))
         .thenReturn(fileCreateResult);
     when(fileCreateResult.fileId()).thenReturn(fileId);
-    when(protocolLayerClient.executeFileAppendRequestTransaction(any(FileAppendRequest.class)))
-        .thenReturn(fileAppendResult);
+    final List<FileAppendRequest> appendRequests = mockPipelinedAppends(fileAppendResult);
 
     final FileId result = fileClientImpl.createFile(content);
 
     verify(protocolLayerClient, times(1))
         .executeFileCreateTransaction(any(FileCreateRequest.class));
     verify(fileCreateResult, times(1)).fileId();
-    verify(protocolLayerClient, times(appendCount))
-        .executeFileAppendRequestTransaction(any(FileAppendRequest.class));
+    Assertions.assertEquals(appendCount, appendRequests.size());
     Assertions.assertEquals(fileId, result);
   }
 
@@ -163,15 +176,13 @@ public class FileClientImplTest {
     // then
     when(protocolLayerClient.executeFileUpdateRequestTransaction(any(FileUpdateRequest.class)))
         .thenReturn(fileUpdateResult);
-    when(protocolLayerClient.executeFileAppendRequestTransaction(any(FileAppendRequest.class)))
-        .thenReturn(fileAppendResult);
+    final List<FileAppendRequest> appendRequests = mockPipelinedAppends(fileAppendResult);
 
     fileClientImpl.updateFile(fileId, updatedContent);
 
     verify(protocolLayerClient, times(1))
         .executeFileUpdateRequestTransaction(any(FileUpdateRequest.class));
-    verify(protocolLayerClient, times(appendCount))
-        .executeFileAppendRequestTransaction(any(FileAppendRequest.class));
+    Assertions.assertEquals(appendCount, appendRequests.size());
   }
 
   @Test
@@ -336,6 +347,79 @@ public class FileClientImplTest {
     Assertions.assertArrayEquals(content, result);
   }
 
+  @Test
+  void testReadFileAsByteBuffer() throws HieroException {
+    // given
+    final FileId fileId = FileId.fromString("1.2.3");
+    final byte[] content = "Hello Hiero!".getBytes();
+    final ByteBuffer buffer = ByteBuffer.wrap(content).asReadOnlyBuffer();
+    when(protocolLayerClient.executeFileContentsBufferQuery(any(FileContentsRequest.class)))
+        .thenReturn(new FileContentsBufferResponse(fileId, buffer));
+
+    // when
+    final ByteBuffer result = fileClientImpl.readFileAsByteBuffer(fileId);
+
+    // then
+    Assertions.assertSame(buffer, result);
+    Assertions.assertTrue(result.isReadOnly());
+    verify(protocolLayerClient, times(0)).executeFileContentsQuery(any(FileContentsRequest.class));
+  }
+
+  @Test
+  void testReadFileToOutputStream() throws HieroException {
+    // given
+    final FileId fileId = FileId.fromString("1.2.3");
+    final byte[] content = randomContent(FileCreateRequest.FILE_MAX_SIZE);
+    when(protocolLayerClient.executeFileContentsBufferQuery(any(FileContentsRequest.class)))
+        .thenReturn(
+            new FileContentsBufferResponse(fileId, ByteBuffer.wrap(content).asReadOnlyBuffer()));
+    final ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+    // when
+    fileClientImpl.readFile(fileId, out);
+
+    // then
+    Assertions.assertArrayEquals(content, out.toByteArray());
+  }
+
+  @Test
+  void testReadFileToOutputStreamThrowsExceptionForFailedWrite() throws HieroException {
+    // given
+    final FileId fileId = FileId.fromString("1.2.3");
+    when(protocolLayerClient.executeFileContentsBufferQuery(any(FileContentsRequest.class)))
+        .thenReturn(
+            new FileContentsBufferResponse(fileId, ByteBuffer.allocate(10).asReadOnlyBuffer()));
+    final OutputStream out =
+        new OutputStream() {
+          @Override
+          public void write(int b) throws IOException {
+            throw new IOException("closed");
+          }
+        };
+
+    // then
+    Assertions.assertThrows(HieroException.class, () -> fileClientImpl.readFile(fileId, out));
+  }
+
+  @Test
+  void testReadFileAsByteBufferThrowsExceptionForInvalidId() throws HieroException {
+    // given
+    final FileId fileId = FileId.fromString("1.2.3");
+    when(protocolLayerClient.executeFileContentsBufferQuery(any(FileContentsRequest.class)))
+        .thenThrow(new HieroException("Failed to execute query"));
+
+    // then
+    final HieroException exception =
+        Assertions.assertThrows(
+            HieroException.class, () -> fileClientImpl.readFileAsByteBuffer(fileId));
+    Assertions.assertTrue(
+        exception.getMessage().contains("Failed to read file with fileId " + fileId));
+    Assertions.assertThrows(
+        NullPointerException.class, () -> fileClientImpl.readFileAsByteBuffer(null));
+    Assertions.assertThrows(
+        NullPointerException.class, () -> fileClientImpl.readFile(fileId, null));
+  }
+
   @Test
   void testReadFileThrowsExceptionForInvalidId() throws HieroException {
     // given
@@ -440,4 +524,217 @@ public class FileClientImplTest {
     Assertions.assertThrows(
         NullPointerException.class, () -> fileClientImpl.updateExpirationTime(null, null));
   }
+
+  /**
+   * Mocks the pipelined append of the protocol layer. The returned list is filled with the append
+   * requests when the pipeline is executed.
+   */
+  private List<FileAppendRequest> mockPipelinedAppends(final FileAppendResult result) {
+    final List<FileAppendRequest> requests = new ArrayList<>();
+    when(protocolLayerClient.executeFileAppendRequestTransactionsAsync(any()))
+        .thenAnswer(
+            invocation -> {
+              final Iterable<FileAppendRequest> iterable = invocation.getArgument(0);
+              iterable.forEach(requests::add);
+              return CompletableFuture.completedFuture(
+                  requests.stream().map(request -> result).toList());
+            });
+    return requests;
+  }
+
+  private static byte[] randomContent(final int size) {
+    final byte[] content = new byte[size];
+    new Random(size).nextBytes(content);
+    return content;
+  }
+
+  private byte[] uploadedContent(
+      final ArgumentCaptor<FileCreateRequest> createCaptor,
+      final List<FileAppendRequest> appendRequests) {
+    final ByteArrayOutputStream uploaded = new ByteArrayOutputStream();
+    uploaded.writeBytes(createCaptor.getValue().contents());
+    appendRequests.forEach(request -> uploaded.writeBytes(request.contents()));
+    return uploaded.toByteArray();
+  }
+
+  @Test
+  void testCreateFileFromByteBuffer() throws HieroException {
+    // given
+    final FileId fileId = FileId.fromString("1.2.3");
+    final FileCreateResult fileCreateResult = Mockito.mock(FileCreateResult.class);
+    final byte[] content = randomContent(FileCreateRequest.FILE_CREATE_MAX_SIZE * 3 + 17);
+    final ByteBuffer buffer = ByteBuffer.wrap(content);
+    final ArgumentCaptor<FileCreateRequest> createCaptor =
+        ArgumentCaptor.forClass(FileCreateRequest.class);
+    when(protocolLayerClient.executeFileCreateTransaction(createCaptor.capture()))
+        .thenReturn(fileCreateResult);
+    when(fileCreateResult.fileId()).thenReturn(fileId);
+    final List<FileAppendRequest> appendRequests =
+        mockPipelinedAppends(Mockito.mock(FileAppendResult.class));
+
+    // when
+    final FileId result = fileClientImpl.createFileFrom(buffer);
+
+    // then
+    Assertions.assertEquals(fileId, result);
+    Assertions.assertEquals(3, appendRequests.size());
+    appendRequests.forEach(request -> Assertions.assertEquals(fileId, request.fileId()));
+    Assertions.assertArrayEquals(content, uploadedContent(createCaptor, appendRequests));
+    Assertions.assertEquals(0, buffer.position());
+  }
+
+  @Test
+  void testCreateFileFromPath() throws Exception {
+    // given
+    final FileId fileId = FileId.fromString("1.2.3");
+    final FileCreateResult fileCreateResult = Mockito.mock(FileCreateResult.class);
+    final byte[] content = randomContent(FileCreateRequest.FILE_CREATE_MAX_SIZE * 2 + 1);
+    final Path path = Files.createTempFile("hiero-file", ".bin");
+    Files.write(path, content);
+    final ArgumentCaptor<FileCreateRequest> createCaptor =
+        ArgumentCaptor.forClass(FileCreateRequest.class);
+    when(protocolLayerClient.executeFileCreateTransaction(createCaptor.capture()))
+        .thenReturn(fileCreateResult);
+    when(fileCreateResult.fileId()).thenReturn(fileId);
+    final List<FileAppendRequest> appendRequests =
+        mockPipelinedAppends(Mockito.mock(FileAppendResult.class));
+
+    try {
+      // when
+      final FileId result = fileClientImpl.createFileFrom(path);
+
+      // then
+      Assertions.assertEquals(fileId, result);
+      Assertions.assertEquals(2, appendRequests.size());
+      Assertions.assertArrayEquals(content, uploadedContent(createCaptor, appendRequests));
+    } finally {
+      Files.deleteIfExists(path);
+    }
+  }
+
+  @Test
+  void testCreateFileFromInputStream() throws HieroException {
+    // given
+    final FileId fileId = FileId.fromString("1.2.3");
+    final FileCreateResult fileCreateResult = Mockito.mock(FileCreateResult.class);
+    final byte[] content = randomContent(FileCreateRequest.FILE_CREATE_MAX_SIZE * 4);
+    final ArgumentCaptor<FileCreateRequest> createCaptor =
+        ArgumentCaptor.forClass(FileCreateRequest.class);
+    when(protocolLayerClient.executeFileCreateTransaction(createCaptor.capture()))
+        .thenReturn(fileCreateResult);
+    when(fileCreateResult.fileId()).thenReturn(fileId);
+    final List<FileAppendRequest> appendRequests =
+        mockPipelinedAppends(Mockito.mock(FileAppendResult.class));
+
+    // when
+    final FileId result = fileClientImpl.createFileFrom(new ByteArrayInputStream(content));
+
+    // then
+    Assertions.assertEquals(fileId, result);
+    Assertions.assertEquals(3, appendRequests.size());
+    Assertions.assertArrayEquals(content, uploadedContent(createCaptor, appendRequests));
+  }
+
+  @Test
+  void testCreateFileFromInputStreamThatCanNotBeRead() {
+    // given
+    final InputStream stream =
+        new InputStream() {
+          @Override
+          public int read() throws IOException {
+            throw new IOException("broken");
+          }
+        };
+
+    // then
+    Assertions.assertThrows(HieroException.class, () -> fileClientImpl.createFileFrom(stream));
+  }
+
+  @Test
+  void testCreateFileFromTooLargeInputStreamCreatesNoFile() {
+    // given
+    final InputStream stream =
+        new ByteArrayInputStream(new byte[FileCreateRequest.FILE_MAX_SIZE + 1]);
+
+    // then
+    Assertions.assertThrows(HieroException.class, () -> fileClientImpl.createFileFrom(stream));
+    verifyNoInteractions(protocolLayerClient);
+  }
+
+  @Test
+  void testUpdateFileFromTooLargeInputStreamDoesNotUpdateFile() {
+    // given
+    final FileId fileId = FileId.fromString("1.2.3");
+    final InputStream stream =
+        new ByteArrayInputStream(new byte[FileCreateRequest.FILE_MAX_SIZE + 1]);
+
+    // then
+    Assertions.assertThrows(
+        HieroException.class, () -> fileClientImpl.updateFileFrom(fileId, stream));
+    verifyNoInteractions(protocolLayerClient);
+  }
+
+  @Test
+  void testCreateFileFromThrowsExceptionForTooLargeContent() {
+    // given
+    final ByteBuffer buffer = ByteBuffer.allocate(FileCreateRequest.FILE_MAX_SIZE + 1);
+
+    // then
+    Assertions.assertThrows(HieroException.class, () -> fileClientImpl.createFileFrom(buffer));
+  }
+
+  @Test
+  void testCreateFileFromThrowsExceptionForFailedAppend() throws HieroException {
+    // given
+    final FileId fileId = FileId.fromString("1.2.3");
+    final FileCreateResult fileCreateResult = Mockito.mock(FileCreateResult.class);
+    when(protocolLayerClient.executeFileCreateTransaction(any(FileCreateRequest.class)))
+        .thenReturn(fileCreateResult);
+    when(fileCreateResult.fileId()).thenReturn(fileId);
+    when(protocolLayerClient.executeFileAppendRequestTransactionsAsync(any()))
+        .thenReturn(CompletableFuture.failedFuture(new HieroException("append failed")));
+    final ByteBuffer buffer = ByteBuffer.allocate(FileCreateRequest.FILE_CREATE_MAX_SIZE + 1);
+
+    // then
+    Assertions.assertThrows(HieroException.class, () -> fileClientImpl.createFileFrom(buffer));
+  }
+
+  @Test
+  void testUpdateFileFromInputStream() throws HieroException {
+    // given
+    final FileId fileId = FileId.fromString("1.2.3");
+    final byte[] content = randomContent(FileCreateRequest.FILE_CREATE_MAX_SIZE + 5);
+    final ArgumentCaptor<FileUpdateRequest> updateCaptor =
+        ArgumentCaptor.forClass(FileUpdateRequest.class);
+    when(protocolLayerClient.executeFileUpdateRequestTransaction(updateCaptor.capture()))
+        .thenReturn(Mockito.mock(FileUpdateResult.class));
+    final List<FileAppendRequest> appendRequests =
+        mockPipelinedAppends(Mockito.mock(FileAppendResult.class));
+
+    // when
+    fileClientImpl.updateFileFrom(fileId, new ByteArrayInputStream(content));
+
+    // then
+    Assertions.assertEquals(1, appendRequests.size());
+    Assertions.assertEquals(
+        FileCreateRequest.FILE_CREATE_MAX_SIZE, updateCaptor.getValue().contents().length);
+    Assertions.assertEquals(5, appendRequests.get(0).contents().length);
+  }
+
+  @Test
+  void testFileFromMethodsThrowExceptionForNullArguments() {
+    final FileId fileId = FileId.fromString("1.2.3");
+
+    Assertions.assertThrows(
+        NullPointerException.class, () -> fileClientImpl.createFileFrom((ByteBuffer) null));
+    Assertions.assertThrows(
+        NullPointerException.class, () -> fileClientImpl.createFileFrom((Path) null));
+    Assertions.assertThrows(
+        NullPointerException.class, () -> fileClientImpl.createFileFrom((InputStream) null));
+    Assertions.assertThrows(
+        NullPointerException.class,
+        () -> fileClientImpl.updateFileFrom(null, ByteBuffer.allocate(1)));
+    Assertions.assertThrows(
+        NullPointerException.class, () -> fileClientImpl.updateFileFrom(fileId, (Path) null));
+  }
 }
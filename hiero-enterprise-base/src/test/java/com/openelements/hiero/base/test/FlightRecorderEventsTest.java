@@ -0,0 +1,137 @@
+package com.openelements.hiero.base.test;
+
+import com.hedera.hashgraph.sdk.AccountId;
+import com.hedera.hashgraph.sdk.Client;
+import com.hedera.hashgraph.sdk.PrivateKey;
+import com.openelements.hiero.base.HieroContext;
+import com.openelements.hiero.base.HieroException;
+import com.openelements.hiero.base.data.Account;
+import com.openelements.hiero.base.implementation.ProtocolLayerClientImpl;
+import com.openelements.hiero.base.jfr.HieroFlightRecorder;
+import com.openelements.hiero.base.jfr.MirrorNodeRequestEvent;
+import com.openelements.hiero.base.jfr.QueryEvent;
+import com.openelements.hiero.base.jfr.TransactionReceiptEvent;
+import com.openelements.hiero.base.jfr.TransactionRecordEvent;
+import com.openelements.hiero.base.jfr.TransactionSubmitEvent;
+import com.openelements.hiero.base.protocol.data.AccountBalanceRequest;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.jspecify.annotations.NonNull;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class FlightRecorderEventsTest {
+
+  @Test
+  void shouldEnableAllEventsInSettings() {
+    // when
+    final Map<String, String> settings = HieroFlightRecorder.configuration().getSettings();
+
+    // then
+    for (final String name :
+        List.of(
+            TransactionSubmitEvent.NAME,
+            TransactionReceiptEvent.NAME,
+            TransactionRecordEvent.NAME,
+            QueryEvent.NAME,
+            MirrorNodeRequestEvent.NAME)) {
+      Assertions.assertEquals("true", settings.get(name + "#enabled"), name);
+    }
+  }
+
+  @Test
+  void shouldRecordMirrorNodeRequest() throws Exception {
+    // given
+    final List<RecordedEvent> events;
+
+    // when
+    try (Recording recording = new Recording(HieroFlightRecorder.configuration())) {
+      recording.start();
+      final MirrorNodeRequestEvent event = new MirrorNodeRequestEvent();
+      event.begin();
+      event.complete("/api/v1/accounts/0.0.2", 200, 1234);
+      recording.stop();
+      events = readEvents(recording, MirrorNodeRequestEvent.NAME);
+    }
+
+    // then
+    Assertions.assertEquals(1, events.size());
+    Assertions.assertEquals("/api/v1/accounts/0.0.2", events.get(0).getString("path"));
+    Assertions.assertEquals(200, events.get(0).getInt("statusCode"));
+    Assertions.assertEquals(1234, events.get(0).getLong("responseSize"));
+  }
+
+  @Test
+  void shouldRecordFailedQuery() throws Exception {
+    // given
+    final PrivateKey privateKey = PrivateKey.generateED25519();
+    final Account account =
+        Account.of(AccountId.fromString("0.0.2"), privateKey.getPublicKey(), privateKey);
+    final ProtocolLayerClientImpl client =
+        new ProtocolLayerClientImpl(
+            new HieroContext() {
+              @Override
+              public @NonNull Account getOperatorAccount() {
+                return account;
+              }
+
+              @Override
+              public @NonNull Client getClient() {
+                return null;
+              }
+            });
+    final List<RecordedEvent> events;
+
+    // when
+    try (Recording recording = new Recording(HieroFlightRecorder.configuration())) {
+      recording.start();
+      Assertions.assertThrows(
+          HieroException.class,
+          () -> client.executeAccountBalanceQuery(AccountBalanceRequest.of("0.0.3")));
+      recording.stop();
+      events = readEvents(recording, QueryEvent.NAME);
+    }
+
+    // then
+    Assertions.assertEquals(1, events.size());
+    Assertions.assertEquals("AccountBalanceQuery", events.get(0).getString("queryType"));
+    Assertions.assertEquals("UNKNOWN", events.get(0).getString("status"));
+  }
+
+  @Test
+  void shouldNotRecordWithoutSettings() throws Exception {
+    // given
+    final List<RecordedEvent> events;
+
+    // when
+    try (Recording recording = new Recording()) {
+      recording.start();
+      final MirrorNodeRequestEvent event = new MirrorNodeRequestEvent();
+      event.begin();
+      event.complete("/api/v1/accounts/0.0.2", 200, 1234);
+      recording.stop();
+      events = readEvents(recording, MirrorNodeRequestEvent.NAME);
+    }
+
+    // then
+    Assertions.assertTrue(events.isEmpty());
+  }
+
+  private static List<RecordedEvent> readEvents(final Recording recording, final String name)
+      throws Exception {
+    final Path file = Files.createTempFile("hiero", ".jfr");
+    try {
+      recording.dump(file);
+      return RecordingFile.readAllEvents(file).stream()
+          .filter(event -> event.getEventType().getName().equals(name))
+          .toList();
+    } finally {
+      Files.deleteIfExists(file);
+    }
+  }
+}
@@ -8,21 +8,30 @@ import static org.mockito.Mockito.when;
 import com.hedera.hashgraph.sdk.AccountId;
 import com.hedera.hashgraph.sdk.PrivateKey;
 import com.hedera.hashgraph.sdk.PublicKey;
+import com.hedera.hashgraph.sdk.Status;
 import com.hedera.hashgraph.sdk.TokenId;
 import com.hedera.hashgraph.sdk.TokenType;
+import com.hedera.hashgraph.sdk.TransactionId;
 import com.openelements.hiero.base.HieroException;
 import com.openelements.hiero.base.data.Account;
+import com.openelements.hiero.base.data.TokenTransferOutcome;
 import com.openelements.hiero.base.implementation.FungibleTokenClientImpl;
 import com.openelements.hiero.base.protocol.ProtocolLayerClient;
 import com.openelements.hiero.base.protocol.data.TokenAssociateRequest;
 import com.openelements.hiero.base.protocol.data.TokenAssociateResult;
+import com.openelements.hiero.base.protocol.data.TokenBatchTransferRequest;
 import com.openelements.hiero.base.protocol.data.TokenCreateRequest;
 import com.openelements.hiero.base.protocol.data.TokenCreateResult;
 import com.openelements.hiero.base.protocol.data.TokenDissociateRequest;
 import com.openelements.hiero.base.protocol.data.TokenDissociateResult;
 import com.openelements.hiero.base.protocol.data.TokenMintRequest;
 import com.openelements.hiero.base.protocol.data.TokenMintResult;
+import com.openelements.hiero.base.protocol.data.TokenTransferResult;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.IntStream;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -42,6 +51,8 @@ public class FungibleClientImplTest {
       ArgumentCaptor.forClass(TokenDissociateRequest.class);
   ArgumentCaptor<TokenMintRequest> tokenMintCaptor =
       ArgumentCaptor.forClass(TokenMintRequest.class);
+  ArgumentCaptor<TokenBatchTransferRequest> tokenBatchTransferCaptor =
+      ArgumentCaptor.forClass(TokenBatchTransferRequest.class);
 
   @BeforeEach
   public void setup() {
@@ -554,4 +565,127 @@ public class FungibleClientImplTest {
     Assertions.assertEquals("tokenId must not be null", e2.getMessage());
     Assertions.assertEquals("supplyKey must not be null", e3.getMessage());
   }
+
+  private static Map<AccountId, Long> receivers(final int count) {
+    final Map<AccountId, Long> amounts = new LinkedHashMap<>();
+    IntStream.range(0, count)
+        .forEach(i -> amounts.put(AccountId.fromString("0.0." + (1000 + i)), (long) i + 1));
+    return amounts;
+  }
+
+  @Test
+  void testTransferTokensPacksReceiversPerTransaction() throws HieroException {
+    // given
+    final TokenId tokenId = TokenId.fromString("0.0.1");
+    final AccountId sender = AccountId.fromString("0.0.2");
+    final PrivateKey senderKey = PrivateKey.generateECDSA();
+    final Map<AccountId, Long> amounts = receivers(20);
+    final TokenTransferResult result =
+        new TokenTransferResult(TransactionId.generate(sender), Status.SUCCESS);
+    when(protocolLayerClient.executeBatchTransferTransactionAsync(
+            any(TokenBatchTransferRequest.class)))
+        .thenReturn(CompletableFuture.completedFuture(result));
+
+    // when
+    final Map<AccountId, TokenTransferOutcome> outcomes =
+        fungibleClientImpl.transferTokens(tokenId, sender, senderKey, amounts);
+
+    // then
+    verify(protocolLayerClient, times(3))
+        .executeBatchTransferTransactionAsync(tokenBatchTransferCaptor.capture());
+    final List<TokenBatchTransferRequest> requests = tokenBatchTransferCaptor.getAllValues();
+    requests.forEach(
+        request -> {
+          Assertions.assertEquals(tokenId, request.tokenId());
+          Assertions.assertEquals(sender, request.sender());
+          Assertions.assertEquals(senderKey, request.senderKey());
+          Assertions.assertTrue(
+              request.amounts().size() <= TokenBatchTransferRequest.MAX_RECEIVERS);
+        });
+    Assertions.assertEquals(
+        20, requests.stream().mapToInt(request -> request.amounts().size()).sum());
+    Assertions.assertEquals(List.copyOf(amounts.keySet()), List.copyOf(outcomes.keySet()));
+    outcomes.forEach(
+        (receiver, outcome) -> {
+          Assertions.assertTrue(outcome.isSuccess());
+          Assertions.assertEquals(amounts.get(receiver), outcome.amount());
+          Assertions.assertEquals(result.transactionId(), outcome.transactionId());
+        });
+  }
+
+  @Test
+  void testTransferTokensReportsFailedTransactionPerReceiver() throws HieroException {
+    // given
+    final TokenId tokenId = TokenId.fromString("0.0.1");
+    final AccountId sender = AccountId.fromString("0.0.2");
+    final PrivateKey senderKey = PrivateKey.generateECDSA();
+    final Map<AccountId, Long> amounts = receivers(12);
+    final AccountId firstReceiver = amounts.keySet().iterator().next();
+    when(operationalAccount.accountId()).thenReturn(sender);
+    when(operationalAccount.privateKey()).thenReturn(senderKey);
+    when(protocolLayerClient.executeBatchTransferTransactionAsync(
+            any(TokenBatchTransferRequest.class)))
+        .thenAnswer(
+            invocation -> {
+              final TokenBatchTransferRequest request = invocation.getArgument(0);
+              if (request.amounts().containsKey(firstReceiver)) {
+                return CompletableFuture.failedFuture(new HieroException("insufficient balance"));
+              }
+              return CompletableFuture.completedFuture(
+                  new TokenTransferResult(TransactionId.generate(sender), Status.SUCCESS));
+            });
+
+    // when
+    final Map<AccountId, TokenTransferOutcome> outcomes =
+        fungibleClientImpl.transferTokens(tokenId, amounts);
+
+    // then
+    Assertions.assertEquals(12, outcomes.size());
+    Assertions.assertEquals(
+        TokenBatchTransferRequest.MAX_RECEIVERS,
+        outcomes.values().stream().filter(outcome -> !outcome.isSuccess()).count());
+    final TokenTransferOutcome failed = outcomes.get(firstReceiver);
+    Assertions.assertNotNull(failed.error());
+    Assertions.assertNull(failed.transactionId());
+    Assertions.assertEquals(
+        3, outcomes.values().stream().filter(TokenTransferOutcome::isSuccess).count());
+  }
+
+  @Test
+  void testTransferTokensWithoutReceivers() throws HieroException {
+    // given
+    final TokenId tokenId = TokenId.fromString("0.0.1");
+    final AccountId sender = AccountId.fromString("0.0.2");
+    final PrivateKey senderKey = PrivateKey.generateECDSA();
+
+    // when
+    final Map<AccountId, TokenTransferOutcome> outcomes =
+        fungibleClientImpl.transferTokens(tokenId, sender, senderKey, Map.of());
+
+    // then
+    Assertions.assertTrue(outcomes.isEmpty());
+    verify(protocolLayerClient, times(0))
+        .executeBatchTransferTransactionAsync(any(TokenBatchTransferRequest.class));
+  }
+
+  @Test
+  void testTransferTokensNullParams() {
+    final TokenId tokenId = TokenId.fromString("0.0.1");
+    final AccountId sender = AccountId.fromString("0.0.2");
+    final PrivateKey senderKey = PrivateKey.generateECDSA();
+    final Map<AccountId, Long> amounts = receivers(1);
+
+    Assertions.assertThrows(
+        NullPointerException.class,
+        () -> fungibleClientImpl.transferTokens(null, sender, senderKey, amounts));
+    Assertions.assertThrows(
+        NullPointerException.class,
+        () -> fungibleClientImpl.transferTokens(tokenId, null, senderKey, amounts));
+    Assertions.assertThrows(
+        NullPointerException.class,
+        () -> fungibleClientImpl.transferTokens(tokenId, sender, null, amounts));
+    Assertions.assertThrows(
+        NullPointerException.class,
+        () -> fungibleClientImpl.transferTokens(tokenId, sender, senderKey, null));
+  }
 }
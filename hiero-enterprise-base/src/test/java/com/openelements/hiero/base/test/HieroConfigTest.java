@@ -0,0 +1,330 @@
+package com.openelements.hiero.base.test;
+
+import com.hedera.hashgraph.sdk.AccountId;
+import com.hedera.hashgraph.sdk.Client;
+import com.hedera.hashgraph.sdk.PrivateKey;
+import com.openelements.hiero.base.HieroContext;
+import com.openelements.hiero.base.TransactionRateLimiter;
+import com.openelements.hiero.base.config.ClientExecutorType;
+import com.openelements.hiero.base.config.ConsensusNode;
+import com.openelements.hiero.base.config.HieroConfig;
+import com.openelements.hiero.base.config.TransactionRateLimitPolicy;
+import com.openelements.hiero.base.config.TransactionRetryPolicy;
+import com.openelements.hiero.base.data.Account;
+import com.openelements.hiero.base.protocol.data.TransactionType;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeoutException;
+import java.util.stream.IntStream;
+import org.jspecify.annotations.NonNull;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+public class HieroConfigTest {
+
+  @Test
+  void shouldCreateSingleClientByDefault() throws Exception {
+    // given
+    final HieroConfig config = new TestConfig(null);
+
+    // when
+    final HieroContext context = config.createHieroContext();
+
+    // then
+    try {
+      Assertions.assertEquals(1, context.getClients().size());
+      Assertions.assertSame(context.getClient(), context.nextClient());
+      Assertions.assertSame(context.getClient(), context.nextClient());
+    } finally {
+      context.close();
+    }
+  }
+
+  @Test
+  void shouldSpreadRequestsOverClientPool() throws Exception {
+    // given
+    final HieroConfig config = new TestConfig(3);
+
+    // when
+    final HieroContext context = config.createHieroContext();
+
+    // then
+    try {
+      final List<Client> clients = context.getClients();
+      Assertions.assertEquals(3, clients.size());
+      Assertions.assertEquals(3, clients.stream().distinct().count());
+      Assertions.assertSame(clients.get(0), context.getClient());
+      final List<Client> used = IntStream.range(0, 6).mapToObj(i -> context.nextClient()).toList();
+      Assertions.assertEquals(
+          List.of(
+              clients.get(0),
+              clients.get(1),
+              clients.get(2),
+              clients.get(0),
+              clients.get(1),
+              clients.get(2)),
+          used);
+      clients.forEach(
+          client ->
+              Assertions.assertEquals(
+                  config.getOperatorAccount().accountId(), client.getOperatorAccountId()));
+    } finally {
+      context.close();
+    }
+  }
+
+  @Test
+  void shouldRejectInvalidClientPoolSize() {
+    Assertions.assertThrows(
+        IllegalArgumentException.class, () -> new TestConfig(0).createHieroContext());
+  }
+
+  @Test
+  void shouldCloseAllClientsOfPool() throws Exception {
+    // given
+    final HieroConfig config =
+        new TestConfig(3) {
+          @Override
+          public @NonNull Client createClient() {
+            return Mockito.mock(Client.class);
+          }
+        };
+    final HieroContext context = config.createHieroContext();
+
+    // when
+    context.close();
+
+    // then
+    for (final Client client : context.getClients()) {
+      Mockito.verify(client).close();
+    }
+  }
+
+  @Test
+  void shouldCloseRemainingClientsIfOneFails() throws Exception {
+    // given
+    final Client failing = Mockito.mock(Client.class);
+    Mockito.doThrow(new TimeoutException("close")).when(failing).close();
+    final Client healthy = Mockito.mock(Client.class);
+    final Iterator<Client> clients = List.of(failing, healthy).iterator();
+    final HieroConfig config =
+        new TestConfig(2) {
+          @Override
+          public @NonNull Client createClient() {
+            return clients.next();
+          }
+        };
+    final HieroContext context = config.createHieroContext();
+
+    // when
+    final IllegalStateException exception =
+        Assertions.assertThrows(IllegalStateException.class, context::close);
+
+    // then
+    Assertions.assertInstanceOf(TimeoutException.class, exception.getCause());
+    Mockito.verify(healthy).close();
+  }
+
+  @Test
+  void shouldGiveEveryClientItsOwnExecutor() throws Exception {
+    // given
+    final List<ExecutorService> executors = new ArrayList<>();
+    final HieroConfig config =
+        new TestConfig(3) {
+          @Override
+          public @NonNull ClientExecutorType getClientExecutorType() {
+            return ClientExecutorType.PLATFORM;
+          }
+
+          @Override
+          public int getClientExecutorThreads() {
+            return 2;
+          }
+
+          @Override
+          public @NonNull Client createClient(@NonNull final ExecutorService executor) {
+            executors.add(executor);
+            return Mockito.mock(Client.class);
+          }
+        };
+    final HieroContext context = config.createHieroContext();
+
+    // when
+    context.close();
+
+    // then
+    Assertions.assertEquals(3, executors.size());
+    Assertions.assertEquals(3, executors.stream().distinct().count());
+    executors.forEach(executor -> Assertions.assertTrue(executor.isShutdown()));
+  }
+
+  @Test
+  void shouldRejectInvalidClientExecutorThreads() {
+    // given
+    final HieroConfig config =
+        new TestConfig(1) {
+          @Override
+          public @NonNull ClientExecutorType getClientExecutorType() {
+            return ClientExecutorType.PLATFORM;
+          }
+
+          @Override
+          public int getClientExecutorThreads() {
+            return 0;
+          }
+        };
+
+    // then
+    Assertions.assertThrows(IllegalArgumentException.class, config::createHieroContext);
+  }
+
+  @Test
+  void shouldNotRetryByDefault() throws Exception {
+    // given
+    final HieroConfig config = new TestConfig(null);
+
+    // when
+    final HieroContext context = config.createHieroContext();
+
+    // then
+    try {
+      Assertions.assertEquals(TransactionRetryPolicy.NONE, context.getTransactionRetryPolicy());
+      final HieroContext customContext =
+          Mockito.mock(HieroContext.class, Mockito.CALLS_REAL_METHODS);
+      Assertions.assertEquals(
+          customContext.getTransactionRetryPolicy(), context.getTransactionRetryPolicy());
+    } finally {
+      context.close();
+    }
+  }
+
+  @Test
+  void shouldNotLimitRateByDefault() throws Exception {
+    // given
+    final HieroConfig config = new TestConfig(null);
+
+    // when
+    final HieroContext context = config.createHieroContext();
+
+    // then
+    try {
+      Assertions.assertTrue(context.getRateLimiter().isEmpty());
+    } finally {
+      context.close();
+    }
+  }
+
+  @Test
+  void shouldLimitRateWithConfiguredPolicy() throws Exception {
+    // given
+    final HieroConfig config =
+        new TestConfig(null) {
+          @Override
+          public @NonNull Optional<TransactionRateLimitPolicy> getTransactionRateLimitPolicy() {
+            return Optional.of(new TransactionRateLimitPolicy(20, 1, 100, 10, 0.5));
+          }
+        };
+
+    // when
+    final HieroContext context = config.createHieroContext();
+
+    // then
+    try {
+      final TransactionRateLimiter rateLimiter = context.getRateLimiter().orElseThrow();
+      Assertions.assertEquals(
+          20, rateLimiter.getRate(TransactionType.TOKEN_MINT).permitsPerSecond(), 0.0001);
+    } finally {
+      context.close();
+    }
+  }
+
+  @Test
+  void shouldNotSelectNodesByDefault() throws Exception {
+    // given
+    final HieroConfig config = new TestConfig(null);
+
+    // when
+    final HieroContext context = config.createHieroContext();
+
+    // then
+    try {
+      Assertions.assertTrue(context.getNodeSelector().isEmpty());
+    } finally {
+      context.close();
+    }
+  }
+
+  @Test
+  void shouldSelectNodesIfEnabled() throws Exception {
+    // given
+    final HieroConfig config =
+        new TestConfig(null) {
+          @Override
+          public boolean isNodeSelectionEnabled() {
+            return true;
+          }
+        };
+
+    // when
+    final HieroContext context = config.createHieroContext();
+
+    // then
+    try {
+      Assertions.assertTrue(context.getNodeSelector().isPresent());
+    } finally {
+      context.close();
+    }
+  }
+
+  private static class TestConfig implements HieroConfig {
+
+    private final Account operatorAccount =
+        Account.of(AccountId.fromString("0.0.2"), PrivateKey.generateED25519());
+
+    private final Integer clientPoolSize;
+
+    private TestConfig(final Integer clientPoolSize) {
+      this.clientPoolSize = clientPoolSize;
+    }
+
+    @Override
+    public @NonNull Account getOperatorAccount() {
+      return operatorAccount;
+    }
+
+    @Override
+    public @NonNull Optional<String> getNetworkName() {
+      return Optional.of("test");
+    }
+
+    @Override
+    public @NonNull Set<String> getMirrorNodeAddresses() {
+      return Set.of("localhost:5600");
+    }
+
+    @Override
+    public @NonNull Set<ConsensusNode> getConsensusNodes() {
+      return Set.of(new ConsensusNode("127.0.0.1", "50211", "0.0.3"));
+    }
+
+    @Override
+    public @NonNull Optional<Long> chainId() {
+      return Optional.empty();
+    }
+
+    @Override
+    public @NonNull Optional<String> relayUrl() {
+      return Optional.empty();
+    }
+
+    @Override
+    public int getClientPoolSize() {
+      return clientPoolSize == null ? HieroConfig.super.getClientPoolSize() : clientPoolSize;
+    }
+  }
+}
@@ -9,11 +9,18 @@ import static org.mockito.Mockito.when;
 import com.hedera.hashgraph.sdk.AccountId;
 import com.hedera.hashgraph.sdk.PrivateKey;
 import com.hedera.hashgraph.sdk.PublicKey;
+import com.hedera.hashgraph.sdk.Status;
 import com.hedera.hashgraph.sdk.TokenId;
+import com.hedera.hashgraph.sdk.TransactionId;
+import com.hedera.hashgraph.sdk.TransactionReceipt;
 import com.openelements.hiero.base.HieroException;
 import com.openelements.hiero.base.data.Account;
+import com.openelements.hiero.base.data.NftMintCheckpoint;
+import com.openelements.hiero.base.data.NftTransferInstruction;
+import com.openelements.hiero.base.data.NftTransferOutcome;
 import com.openelements.hiero.base.implementation.NftClientImpl;
 import com.openelements.hiero.base.protocol.ProtocolLayerClient;
+import com.openelements.hiero.base.protocol.data.NftBatchTransferRequest;
 import com.openelements.hiero.base.protocol.data.TokenAssociateRequest;
 import com.openelements.hiero.base.protocol.data.TokenAssociateResult;
 import com.openelements.hiero.base.protocol.data.TokenBurnRequest;
@@ -26,8 +33,13 @@ import com.openelements.hiero.base.protocol.data.TokenMintRequest;
 import com.openelements.hiero.base.protocol.data.TokenMintResult;
 import com.openelements.hiero.base.protocol.data.TokenTransferRequest;
 import com.openelements.hiero.base.protocol.data.TokenTransferResult;
+import com.openelements.hiero.base.protocol.data.TransactionOutcome;
+import com.openelements.hiero.base.protocol.data.TransactionSubmission;
 import java.util.List;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.IntStream;
+import java.util.stream.LongStream;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -51,12 +63,15 @@ public class NftClientImplTest {
       ArgumentCaptor.forClass(TokenDissociateRequest.class);
   ArgumentCaptor<TokenMintRequest> tokenMintCaptor =
       ArgumentCaptor.forClass(TokenMintRequest.class);
+  ArgumentCaptor<NftBatchTransferRequest> nftBatchTransferCaptor =
+      ArgumentCaptor.forClass(NftBatchTransferRequest.class);
 
   @BeforeEach
   public void setup() {
     protocolLayerClient = Mockito.mock(ProtocolLayerClient.class);
     operationalAccount = Mockito.mock(Account.class);
     nftClientImpl = new NftClientImpl(protocolLayerClient, operationalAccount);
+    when(protocolLayerClient.getOperatorAccountId()).thenReturn(AccountId.fromString("0.0.2"));
   }
 
   @Test
@@ -874,4 +889,382 @@ public class NftClientImplTest {
     Assertions.assertThrows(
         NullPointerException.class, () -> nftClientImpl.mintNfts(tokenId, supplyKey, null));
   }
+
+  private static CompletableFuture<TokenMintResult> mintResult(final TokenMintRequest request) {
+    final long first = request.metadata().get(0)[0];
+    final List<Long> serials =
+        LongStream.range(first, first + request.metadata().size()).boxed().toList();
+    return CompletableFuture.completedFuture(
+        new TokenMintResult(
+            TransactionId.generate(AccountId.fromString("0.0.1")),
+            Status.SUCCESS,
+            serials,
+            (long) serials.size()));
+  }
+
+  private static List<byte[]> metadata(final int count) {
+    return IntStream.range(0, count).mapToObj(i -> new byte[] {(byte) i}).toList();
+  }
+
+  private static CompletableFuture<List<TransactionOutcome>> receiptsNotFound(
+      final List<TransactionSubmission> submissions) {
+    return CompletableFuture.completedFuture(
+        submissions.stream()
+            .map(
+                submission ->
+                    TransactionOutcome.failed(submission, new HieroException("RECEIPT_NOT_FOUND")))
+            .toList());
+  }
+
+  private static TransactionReceipt receipt(
+      final com.hedera.hashgraph.sdk.proto.ResponseCodeEnum status, final long... serials)
+      throws Exception {
+    final com.hedera.hashgraph.sdk.proto.TransactionReceipt.Builder builder =
+        com.hedera.hashgraph.sdk.proto.TransactionReceipt.newBuilder().setStatus(status);
+    for (final long serial : serials) {
+      builder.addSerialNumbers(serial);
+    }
+    return TransactionReceipt.fromBytes(builder.build().toByteArray());
+  }
+
+  @Test
+  void testBulkMintNftsSplitsIntoChunksAndKeepsOrder() throws HieroException {
+    // given
+    final TokenId tokenId = TokenId.fromString("1.2.3");
+    final PrivateKey supplyKey = PrivateKey.generateECDSA();
+    when(protocolLayerClient.executeMintTokenTransactionAsync(
+            any(TokenMintRequest.class), any(TransactionId.class)))
+        .thenAnswer(invocation -> mintResult(invocation.getArgument(0)));
+
+    // when
+    final List<Long> serials =
+        nftClientImpl.bulkMintNfts(tokenId, supplyKey, metadata(25), NftMintCheckpoint.inMemory());
+
+    // then
+    verify(protocolLayerClient, times(3))
+        .executeMintTokenTransactionAsync(tokenMintCaptor.capture(), any(TransactionId.class));
+    final List<Integer> chunkSizes =
+        tokenMintCaptor.getAllValues().stream().map(r -> r.metadata().size()).sorted().toList();
+    Assertions.assertEquals(List.of(5, 10, 10), chunkSizes);
+    Assertions.assertEquals(LongStream.range(0, 25).boxed().toList(), serials);
+  }
+
+  @Test
+  void testBulkMintNftsWithEmptyMetadata() throws HieroException {
+    // given
+    final TokenId tokenId = TokenId.fromString("1.2.3");
+    final PrivateKey supplyKey = PrivateKey.generateECDSA();
+
+    // when
+    final List<Long> serials =
+        nftClientImpl.bulkMintNfts(tokenId, supplyKey, List.of(), NftMintCheckpoint.inMemory());
+
+    // then
+    Assertions.assertTrue(serials.isEmpty());
+    verify(protocolLayerClient, times(0))
+        .executeMintTokenTransactionAsync(any(TokenMintRequest.class), any(TransactionId.class));
+  }
+
+  @Test
+  void testBulkMintNftsResumesFromCheckpoint() throws HieroException {
+    // given
+    final TokenId tokenId = TokenId.fromString("1.2.3");
+    final PrivateKey supplyKey = PrivateKey.generateECDSA();
+    final NftMintCheckpoint checkpoint = NftMintCheckpoint.inMemory();
+    final List<byte[]> metadata = metadata(30);
+    when(protocolLayerClient.executeMintTokenTransactionAsync(
+            any(TokenMintRequest.class), any(TransactionId.class)))
+        .thenAnswer(
+            invocation -> {
+              final TokenMintRequest request = invocation.getArgument(0);
+              if (request.metadata().get(0)[0] == 10) {
+                return CompletableFuture.failedFuture(new HieroException("network down"));
+              }
+              return mintResult(request);
+            });
+
+    // then
+    Assertions.assertThrows(
+        HieroException.class,
+        () -> nftClientImpl.bulkMintNfts(tokenId, supplyKey, metadata, checkpoint));
+    Assertions.assertNotNull(checkpoint.getMintedSerials(0));
+    Assertions.assertNull(checkpoint.getMintedSerials(1));
+    Assertions.assertNotNull(checkpoint.getMintedSerials(2));
+
+    // given
+    Mockito.reset(protocolLayerClient);
+    when(protocolLayerClient.getOperatorAccountId()).thenReturn(AccountId.fromString("0.0.2"));
+    when(protocolLayerClient.collectReceipts(any(), Mockito.anyInt()))
+        .thenAnswer(invocation -> receiptsNotFound(invocation.getArgument(0)));
+    when(protocolLayerClient.executeMintTokenTransactionAsync(
+            any(TokenMintRequest.class), any(TransactionId.class)))
+        .thenAnswer(invocation -> mintResult(invocation.getArgument(0)));
+
+    // when
+    final List<Long> serials = nftClientImpl.bulkMintNfts(tokenId, supplyKey, metadata, checkpoint);
+
+    // then
+    verify(protocolLayerClient, times(1))
+        .executeMintTokenTransactionAsync(tokenMintCaptor.capture(), any(TransactionId.class));
+    Assertions.assertEquals(10, tokenMintCaptor.getValue().metadata().get(0)[0]);
+    Assertions.assertEquals(LongStream.range(0, 30).boxed().toList(), serials);
+  }
+
+  @Test
+  void testBulkMintNftsStoresTransactionIdBeforeMinting() throws HieroException {
+    // given
+    final TokenId tokenId = TokenId.fromString("1.2.3");
+    final PrivateKey supplyKey = PrivateKey.generateECDSA();
+    final NftMintCheckpoint checkpoint = NftMintCheckpoint.inMemory();
+    final ArgumentCaptor<TransactionId> transactionIdCaptor =
+        ArgumentCaptor.forClass(TransactionId.class);
+    when(protocolLayerClient.executeMintTokenTransactionAsync(
+            any(TokenMintRequest.class), transactionIdCaptor.capture()))
+        .thenAnswer(
+            invocation -> {
+              Assertions.assertEquals(
+                  invocation.getArgument(1, TransactionId.class),
+                  checkpoint.getPendingTransactionId(0));
+              return CompletableFuture.failedFuture(new HieroException("timeout"));
+            });
+
+    // when
+    Assertions.assertThrows(
+        HieroException.class,
+        () -> nftClientImpl.bulkMintNfts(tokenId, supplyKey, metadata(5), checkpoint));
+
+    // then
+    Assertions.assertEquals(transactionIdCaptor.getValue(), checkpoint.getPendingTransactionId(0));
+    Assertions.assertEquals(
+        AccountId.fromString("0.0.2"), transactionIdCaptor.getValue().accountId);
+    Assertions.assertNull(checkpoint.getMintedSerials(0));
+  }
+
+  @Test
+  void testBulkMintNftsResumesWithReceiptOfPendingTransaction() throws Exception {
+    // given
+    final TokenId tokenId = TokenId.fromString("1.2.3");
+    final PrivateKey supplyKey = PrivateKey.generateECDSA();
+    final NftMintCheckpoint checkpoint = NftMintCheckpoint.inMemory();
+    final TransactionId pendingId = TransactionId.generate(AccountId.fromString("0.0.2"));
+    checkpoint.chunkPending(0, pendingId);
+    final TransactionReceipt receipt =
+        receipt(com.hedera.hashgraph.sdk.proto.ResponseCodeEnum.SUCCESS, 7, 8, 9);
+    when(protocolLayerClient.collectReceipts(any(), Mockito.anyInt()))
+        .thenAnswer(
+            invocation -> {
+              final List<TransactionSubmission> submissions = invocation.getArgument(0);
+              Assertions.assertEquals(pendingId, submissions.getFirst().transactionId());
+              return CompletableFuture.completedFuture(
+                  List.of(TransactionOutcome.of(submissions.getFirst(), receipt)));
+            });
+
+    // when
+    final List<Long> serials =
+        nftClientImpl.bulkMintNfts(tokenId, supplyKey, metadata(3), checkpoint);
+
+    // then
+    Assertions.assertEquals(List.of(7L, 8L, 9L), serials);
+    Assertions.assertEquals(List.of(7L, 8L, 9L), checkpoint.getMintedSerials(0));
+    Assertions.assertNull(checkpoint.getPendingTransactionId(0));
+    verify(protocolLayerClient, times(0))
+        .executeMintTokenTransactionAsync(any(TokenMintRequest.class), any(TransactionId.class));
+  }
+
+  @Test
+  void testBulkMintNftsResendsPendingTransactionWithSameId() throws HieroException {
+    // given
+    final TokenId tokenId = TokenId.fromString("1.2.3");
+    final PrivateKey supplyKey = PrivateKey.generateECDSA();
+    final NftMintCheckpoint checkpoint = NftMintCheckpoint.inMemory();
+    final TransactionId pendingId = TransactionId.generate(AccountId.fromString("0.0.2"));
+    checkpoint.chunkPending(0, pendingId);
+    when(protocolLayerClient.collectReceipts(any(), Mockito.anyInt()))
+        .thenAnswer(invocation -> receiptsNotFound(invocation.getArgument(0)));
+    when(protocolLayerClient.executeMintTokenTransactionAsync(
+            any(TokenMintRequest.class), any(TransactionId.class)))
+        .thenAnswer(invocation -> mintResult(invocation.getArgument(0)));
+
+    // when
+    final List<Long> serials =
+        nftClientImpl.bulkMintNfts(tokenId, supplyKey, metadata(3), checkpoint);
+
+    // then
+    verify(protocolLayerClient, times(1))
+        .executeMintTokenTransactionAsync(any(TokenMintRequest.class), Mockito.eq(pendingId));
+    Assertions.assertEquals(List.of(0L, 1L, 2L), serials);
+  }
+
+  @Test
+  void testBulkMintNftsUsesNewTransactionIfPendingTransactionFailed() throws Exception {
+    // given
+    final TokenId tokenId = TokenId.fromString("1.2.3");
+    final PrivateKey supplyKey = PrivateKey.generateECDSA();
+    final NftMintCheckpoint checkpoint = NftMintCheckpoint.inMemory();
+    final TransactionId pendingId = TransactionId.generate(AccountId.fromString("0.0.2"));
+    checkpoint.chunkPending(0, pendingId);
+    final TransactionReceipt receipt =
+        receipt(com.hedera.hashgraph.sdk.proto.ResponseCodeEnum.INVALID_SIGNATURE);
+    when(protocolLayerClient.collectReceipts(any(), Mockito.anyInt()))
+        .thenAnswer(
+            invocation -> {
+              final List<TransactionSubmission> submissions = invocation.getArgument(0);
+              return CompletableFuture.completedFuture(
+                  List.of(TransactionOutcome.of(submissions.getFirst(), receipt)));
+            });
+    final ArgumentCaptor<TransactionId> transactionIdCaptor =
+        ArgumentCaptor.forClass(TransactionId.class);
+    when(protocolLayerClient.executeMintTokenTransactionAsync(
+            any(TokenMintRequest.class), transactionIdCaptor.capture()))
+        .thenAnswer(invocation -> mintResult(invocation.getArgument(0)));
+
+    // when
+    nftClientImpl.bulkMintNfts(tokenId, supplyKey, metadata(3), checkpoint);
+
+    // then
+    Assertions.assertNotEquals(pendingId, transactionIdCaptor.getValue());
+    Assertions.assertEquals(List.of(0L, 1L, 2L), checkpoint.getMintedSerials(0));
+  }
+
+  @Test
+  void testBulkMintNftsUsesOperatorAccount() throws HieroException {
+    // given
+    final TokenId tokenId = TokenId.fromString("1.2.3");
+    final PrivateKey privateKey = PrivateKey.generateECDSA();
+    when(operationalAccount.privateKey()).thenReturn(privateKey);
+    when(protocolLayerClient.executeMintTokenTransactionAsync(
+            any(TokenMintRequest.class), any(TransactionId.class)))
+        .thenAnswer(invocation -> mintResult(invocation.getArgument(0)));
+
+    // when
+    nftClientImpl.bulkMintNfts(tokenId, metadata(3));
+
+    // then
+    verify(protocolLayerClient, times(1))
+        .executeMintTokenTransactionAsync(tokenMintCaptor.capture(), any(TransactionId.class));
+    Assertions.assertEquals(privateKey, tokenMintCaptor.getValue().supplyKey());
+  }
+
+  @Test
+  void testBulkMintNftsNullParams() {
+    final TokenId tokenId = TokenId.fromString("1.2.3");
+    final PrivateKey supplyKey = PrivateKey.generateECDSA();
+    final NftMintCheckpoint checkpoint = NftMintCheckpoint.inMemory();
+
+    Assertions.assertThrows(
+        NullPointerException.class,
+        () -> nftClientImpl.bulkMintNfts(null, supplyKey, metadata(1), checkpoint));
+    Assertions.assertThrows(
+        NullPointerException.class,
+        () -> nftClientImpl.bulkMintNfts(tokenId, null, metadata(1), checkpoint));
+    Assertions.assertThrows(
+        NullPointerException.class,
+        () -> nftClientImpl.bulkMintNfts(tokenId, supplyKey, (Iterable<byte[]>) null, checkpoint));
+    Assertions.assertThrows(
+        NullPointerException.class,
+        () -> nftClientImpl.bulkMintNfts(tokenId, supplyKey, metadata(1), null));
+  }
+
+  private static Account account(final String accountId) {
+    final PrivateKey privateKey = PrivateKey.generateECDSA();
+    return new Account(AccountId.fromString(accountId), privateKey.getPublicKey(), privateKey);
+  }
+
+  @Test
+  void testTransferNftsGroupsTransfersPerTransaction() throws HieroException {
+    // given
+    final TokenId firstToken = TokenId.fromString("0.0.100");
+    final TokenId secondToken = TokenId.fromString("0.0.200");
+    final Account firstSender = account("0.0.10");
+    final Account secondSender = account("0.0.20");
+    final List<NftTransferInstruction> transfers =
+        IntStream.range(0, 25)
+            .mapToObj(
+                i ->
+                    NftTransferInstruction.of(
+                        i % 2 == 0 ? firstToken : secondToken,
+                        i + 1,
+                        i % 3 == 0 ? firstSender : secondSender,
+                        AccountId.fromString("0.0." + (1000 + i))))
+            .toList();
+    final TokenTransferResult result =
+        new TokenTransferResult(
+            TransactionId.generate(AccountId.fromString("0.0.1")), Status.SUCCESS);
+    when(protocolLayerClient.executeNftBatchTransferTransactionAsync(
+            any(NftBatchTransferRequest.class)))
+        .thenReturn(CompletableFuture.completedFuture(result));
+
+    // when
+    final List<NftTransferOutcome> outcomes = nftClientImpl.transferNfts(transfers);
+
+    // then
+    verify(protocolLayerClient, times(3))
+        .executeNftBatchTransferTransactionAsync(nftBatchTransferCaptor.capture());
+    final List<NftBatchTransferRequest> requests = nftBatchTransferCaptor.getAllValues();
+    requests.forEach(
+        request ->
+            Assertions.assertTrue(
+                request.transfers().size() <= NftBatchTransferRequest.MAX_NFT_TRANSFERS));
+    // transfers are grouped by sender, so only one transaction needs signatures of both senders
+    Assertions.assertEquals(
+        4, requests.stream().mapToInt(request -> request.senderKeys().size()).sum());
+    Assertions.assertEquals(
+        transfers, outcomes.stream().map(NftTransferOutcome::instruction).toList());
+    outcomes.forEach(outcome -> Assertions.assertTrue(outcome.isSuccess()));
+  }
+
+  @Test
+  void testTransferNftsReportsFailedTransactionPerTransfer() throws HieroException {
+    // given
+    final TokenId tokenId = TokenId.fromString("0.0.100");
+    final Account sender = account("0.0.10");
+    final List<NftTransferInstruction> transfers =
+        IntStream.range(0, 15)
+            .mapToObj(
+                i ->
+                    NftTransferInstruction.of(
+                        tokenId, 15 - i, sender, AccountId.fromString("0.0." + (1000 + i))))
+            .toList();
+    when(protocolLayerClient.executeNftBatchTransferTransactionAsync(
+            any(NftBatchTransferRequest.class)))
+        .thenAnswer(
+            invocation -> {
+              final NftBatchTransferRequest request = invocation.getArgument(0);
+              if (request.transfers().get(0).serial() == 1) {
+                return CompletableFuture.failedFuture(new HieroException("not owner"));
+              }
+              return CompletableFuture.completedFuture(
+                  new TokenTransferResult(
+                      TransactionId.generate(sender.accountId()), Status.SUCCESS));
+            });
+
+    // when
+    final List<NftTransferOutcome> outcomes = nftClientImpl.transferNfts(transfers);
+
+    // then
+    Assertions.assertEquals(15, outcomes.size());
+    for (int i = 0; i < outcomes.size(); i++) {
+      final NftTransferOutcome outcome = outcomes.get(i);
+      Assertions.assertSame(transfers.get(i), outcome.instruction());
+      Assertions.assertEquals(outcome.instruction().serial() > 10, outcome.isSuccess());
+    }
+  }
+
+  @Test
+  void testTransferNftsRejectsDuplicates() {
+    // given
+    final TokenId tokenId = TokenId.fromString("0.0.100");
+    final Account sender = account("0.0.10");
+    final List<NftTransferInstruction> transfers =
+        List.of(
+            NftTransferInstruction.of(tokenId, 1, sender, AccountId.fromString("0.0.11")),
+            NftTransferInstruction.of(tokenId, 1, sender, AccountId.fromString("0.0.12")));
+
+    // then
+    Assertions.assertThrows(
+        IllegalArgumentException.class, () -> nftClientImpl.transferNfts(transfers));
+    Assertions.assertThrows(
+        NullPointerException.class,
+        () -> nftClientImpl.transferNfts((List<NftTransferInstruction>) null));
+  }
 }
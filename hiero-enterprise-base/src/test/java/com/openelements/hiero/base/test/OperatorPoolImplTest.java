@@ -0,0 +1,121 @@
+package com.openelements.hiero.base.test;
+
+import com.hedera.hashgraph.sdk.AccountId;
+import com.hedera.hashgraph.sdk.Hbar;
+import com.hedera.hashgraph.sdk.PrivateKey;
+import com.openelements.hiero.base.config.OperatorSelectionStrategy;
+import com.openelements.hiero.base.data.Account;
+import com.openelements.hiero.base.data.OperatorUsage;
+import com.openelements.hiero.base.implementation.OperatorPoolImpl;
+import java.util.List;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class OperatorPoolImplTest {
+
+  final Account operator1 =
+      Account.of(AccountId.fromString("0.0.1001"), PrivateKey.generateED25519());
+
+  final Account operator2 =
+      Account.of(AccountId.fromString("0.0.1002"), PrivateKey.generateED25519());
+
+  final Account operator3 =
+      Account.of(AccountId.fromString("0.0.1003"), PrivateKey.generateED25519());
+
+  final List<Account> operators = List.of(operator1, operator2, operator3);
+
+  @Test
+  void shouldUseOperatorsRoundRobin() {
+    // given
+    final OperatorPoolImpl pool =
+        new OperatorPoolImpl(operators, OperatorSelectionStrategy.ROUND_ROBIN);
+
+    // when
+    final List<Account> selected =
+        IntStream.range(0, 6).mapToObj(i -> pool.nextOperator()).toList();
+
+    // then
+    Assertions.assertEquals(
+        List.of(operator1, operator2, operator3, operator1, operator2, operator3), selected);
+  }
+
+  @Test
+  void shouldUseLeastLoadedOperator() {
+    // given
+    final OperatorPoolImpl pool =
+        new OperatorPoolImpl(operators, OperatorSelectionStrategy.LEAST_LOADED);
+    pool.transactionSubmitted(operator1.accountId());
+    pool.transactionSubmitted(operator1.accountId());
+    pool.transactionSubmitted(operator2.accountId());
+
+    // then
+    Assertions.assertEquals(operator3, pool.nextOperator());
+    pool.transactionSubmitted(operator3.accountId());
+    Assertions.assertEquals(operator2, pool.nextOperator());
+    pool.transactionCompleted(operator1.accountId(), true);
+    pool.transactionCompleted(operator1.accountId(), true);
+    Assertions.assertEquals(operator1, pool.nextOperator());
+  }
+
+  @Test
+  void shouldTrackUsage() {
+    // given
+    final OperatorPoolImpl pool =
+        new OperatorPoolImpl(operators, OperatorSelectionStrategy.ROUND_ROBIN);
+
+    // when
+    pool.transactionSubmitted(operator1.accountId());
+    pool.transactionSubmitted(operator1.accountId());
+    pool.transactionSubmitted(operator2.accountId());
+    pool.transactionCompleted(operator1.accountId(), true);
+    pool.transactionCompleted(operator2.accountId(), false);
+    pool.feeCharged(operator1.accountId(), Hbar.fromTinybars(100));
+    pool.feeCharged(operator1.accountId(), Hbar.fromTinybars(50));
+
+    // then
+    final List<OperatorUsage> usage = pool.getUsage();
+    Assertions.assertEquals(3, usage.size());
+    Assertions.assertEquals(
+        new OperatorUsage(operator1.accountId(), 1, 2, 0, Hbar.fromTinybars(150)), usage.get(0));
+    Assertions.assertEquals(
+        new OperatorUsage(operator2.accountId(), 0, 1, 1, Hbar.fromTinybars(0)), usage.get(1));
+    Assertions.assertEquals(
+        new OperatorUsage(operator3.accountId(), 0, 0, 0, Hbar.fromTinybars(0)), usage.get(2));
+  }
+
+  @Test
+  void shouldIgnoreUnknownOperators() {
+    // given
+    final OperatorPoolImpl pool =
+        new OperatorPoolImpl(operators, OperatorSelectionStrategy.LEAST_LOADED);
+    final AccountId unknown = AccountId.fromString("0.0.99");
+
+    // when
+    pool.transactionSubmitted(unknown);
+    pool.feeCharged(unknown, Hbar.fromTinybars(10));
+
+    // then
+    Assertions.assertEquals(3, pool.getUsage().size());
+    Assertions.assertTrue(pool.getUsage().stream().allMatch(u -> u.submitted() == 0));
+  }
+
+  @Test
+  void shouldValidateArguments() {
+    Assertions.assertThrows(
+        IllegalArgumentException.class,
+        () -> new OperatorPoolImpl(List.of(), OperatorSelectionStrategy.ROUND_ROBIN));
+    Assertions.assertThrows(
+        IllegalArgumentException.class,
+        () ->
+            new OperatorPoolImpl(
+                List.of(operator1, operator1), OperatorSelectionStrategy.ROUND_ROBIN));
+    Assertions.assertThrows(
+        NullPointerException.class, () -> new OperatorPoolImpl(operators, null));
+    final OperatorPoolImpl pool =
+        new OperatorPoolImpl(operators, OperatorSelectionStrategy.ROUND_ROBIN);
+    Assertions.assertThrows(NullPointerException.class, () -> pool.transactionSubmitted(null));
+    Assertions.assertThrows(
+        NullPointerException.class, () -> pool.feeCharged(operator1.accountId(), null));
+  }
+}
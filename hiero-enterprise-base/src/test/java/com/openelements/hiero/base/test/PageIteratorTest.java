@@ -0,0 +1,213 @@
+package com.openelements.hiero.base.test;
+
+import com.openelements.hiero.base.data.Page;
+import com.openelements.hiero.base.data.PageIterator;
+import com.openelements.hiero.base.data.SinglePage;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class PageIteratorTest {
+
+  private static final int PAGE_SIZE = 3;
+
+  private final List<Integer> fetched = new CopyOnWriteArrayList<>();
+
+  private final CountDownLatch fetchBlocked = new CountDownLatch(1);
+
+  private final CountDownLatch fetchInterrupted = new CountDownLatch(1);
+
+  private final CountDownLatch fetchReleased = new CountDownLatch(1);
+
+  private volatile int blockingIndex = -1;
+
+  @Test
+  void shouldStreamAllPagesInOrder() {
+    // given
+    final Page<Integer> first = new TestPage(0, 4, null);
+
+    // when
+    final List<Integer> result;
+    try (Stream<Integer> stream = first.stream()) {
+      result = stream.toList();
+    }
+
+    // then
+    Assertions.assertEquals(IntStream.range(0, 15).boxed().toList(), result);
+    Assertions.assertEquals(List.of(1, 2, 3, 4), fetched);
+  }
+
+  @Test
+  void shouldIterateWithoutPrefetch() {
+    // given
+    final Page<Integer> first = new TestPage(0, 2, null);
+
+    // when
+    final PageIterator<Integer> iterator = first.iterator(0);
+    final List<Integer> result = new ArrayList<>();
+    iterator.forEachRemaining(result::add);
+
+    // then
+    Assertions.assertEquals(IntStream.range(0, 9).boxed().toList(), result);
+    Assertions.assertFalse(iterator.hasNext());
+    Assertions.assertThrows(NoSuchElementException.class, iterator::next);
+  }
+
+  @Test
+  void shouldPrefetchWhileCurrentPageIsConsumed() throws Exception {
+    // given
+    final CountDownLatch fetchStarted = new CountDownLatch(2);
+    final Page<Integer> first = new TestPage(0, 10, fetchStarted);
+
+    // when
+    try (PageIterator<Integer> iterator = first.iterator(2)) {
+      Assertions.assertEquals(0, iterator.next());
+
+      // then
+      Assertions.assertTrue(fetchStarted.await(5, TimeUnit.SECONDS));
+      Assertions.assertEquals(List.of(1, 2), fetched);
+    }
+  }
+
+  @Test
+  void shouldStopFetchingWhenClosed() throws Exception {
+    // given
+    final Page<Integer> first = new TestPage(0, 100, null);
+    blockingIndex = 2;
+
+    // when
+    final List<Integer> result;
+    try (Stream<Integer> stream = first.stream(2)) {
+      result = stream.limit(4).toList();
+      Assertions.assertTrue(fetchBlocked.await(5, TimeUnit.SECONDS));
+      Assertions.assertEquals(1, fetchInterrupted.getCount());
+    }
+
+    // then
+    try {
+      Assertions.assertTrue(fetchInterrupted.await(5, TimeUnit.SECONDS));
+      Assertions.assertEquals(List.of(0, 1, 2, 3), result);
+      Assertions.assertEquals(List.of(1, 2), fetched);
+    } finally {
+      fetchReleased.countDown();
+    }
+  }
+
+  @Test
+  void shouldPropagateFetchErrors() {
+    // given
+    final Page<Integer> first = new TestPage(0, 3, null, 2);
+
+    // when
+    final PageIterator<Integer> iterator = first.iterator(1);
+    for (int i = 0; i < 2 * PAGE_SIZE; i++) {
+      iterator.next();
+    }
+
+    // then
+    final IllegalStateException exception =
+        Assertions.assertThrows(IllegalStateException.class, iterator::hasNext);
+    Assertions.assertEquals("page 2 failed", exception.getMessage());
+    Assertions.assertFalse(iterator.hasNext());
+  }
+
+  @Test
+  void shouldSupportSinglePage() {
+    // given
+    final Page<String> page = new SinglePage<>(List.of("a", "b"));
+
+    // then
+    Assertions.assertEquals(List.of("a", "b"), page.stream().toList());
+    Assertions.assertThrows(IllegalArgumentException.class, () -> page.iterator(-1));
+  }
+
+  private class TestPage implements Page<Integer> {
+
+    private final int index;
+
+    private final int lastIndex;
+
+    private final CountDownLatch fetchStarted;
+
+    private final int failingIndex;
+
+    TestPage(final int index, final int lastIndex, final CountDownLatch fetchStarted) {
+      this(index, lastIndex, fetchStarted, -1);
+    }
+
+    TestPage(
+        final int index,
+        final int lastIndex,
+        final CountDownLatch fetchStarted,
+        final int failingIndex) {
+      this.index = index;
+      this.lastIndex = lastIndex;
+      this.fetchStarted = fetchStarted;
+      this.failingIndex = failingIndex;
+    }
+
+    @Override
+    public int getPageIndex() {
+      return index;
+    }
+
+    @Override
+    public int getSize() {
+      return PAGE_SIZE;
+    }
+
+    @Override
+    public List<Integer> getData() {
+      return IntStream.range(index * PAGE_SIZE, (index + 1) * PAGE_SIZE).boxed().toList();
+    }
+
+    @Override
+    public boolean hasNext() {
+      return index < lastIndex;
+    }
+
+    @Override
+    public Page<Integer> next() {
+      final int nextIndex = index + 1;
+      if (nextIndex == failingIndex) {
+        throw new IllegalStateException("page " + nextIndex + " failed");
+      }
+      fetched.add(nextIndex);
+      if (fetchStarted != null) {
+        fetchStarted.countDown();
+      }
+      if (nextIndex == blockingIndex) {
+        awaitRelease();
+      }
+      return new TestPage(nextIndex, lastIndex, fetchStarted, failingIndex);
+    }
+
+    private void awaitRelease() {
+      fetchBlocked.countDown();
+      try {
+        fetchReleased.await();
+      } catch (final InterruptedException e) {
+        fetchInterrupted.countDown();
+        Thread.currentThread().interrupt();
+        throw new IllegalStateException("fetch of page " + blockingIndex + " interrupted", e);
+      }
+    }
+
+    @Override
+    public Page<Integer> first() {
+      return new TestPage(0, lastIndex, fetchStarted, failingIndex);
+    }
+
+    @Override
+    public boolean isFirst() {
+      return index == 0;
+    }
+  }
+}
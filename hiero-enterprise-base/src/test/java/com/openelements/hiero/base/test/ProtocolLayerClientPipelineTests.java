@@ -0,0 +1,119 @@
+package com.openelements.hiero.base.test;
+
+import com.hedera.hashgraph.sdk.AccountId;
+import com.hedera.hashgraph.sdk.Client;
+import com.hedera.hashgraph.sdk.FileId;
+import com.hedera.hashgraph.sdk.PrivateKey;
+import com.hedera.hashgraph.sdk.TransactionId;
+import com.openelements.hiero.base.HieroContext;
+import com.openelements.hiero.base.HieroException;
+import com.openelements.hiero.base.data.Account;
+import com.openelements.hiero.base.implementation.ProtocolLayerClientImpl;
+import com.openelements.hiero.base.protocol.ProtocolLayerClient;
+import com.openelements.hiero.base.protocol.data.AccountCreateRequest;
+import com.openelements.hiero.base.protocol.data.FileDeleteRequest;
+import com.openelements.hiero.base.protocol.data.TransactionOutcome;
+import com.openelements.hiero.base.protocol.data.TransactionRequest;
+import com.openelements.hiero.base.protocol.data.TransactionSubmission;
+import com.openelements.hiero.base.protocol.data.TransactionType;
+import java.util.List;
+import org.jspecify.annotations.NonNull;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class ProtocolLayerClientPipelineTests {
+
+  private ProtocolLayerClient client;
+
+  @BeforeEach
+  void setup() {
+    final PrivateKey privateKey = PrivateKey.generateED25519();
+    final Account account =
+        Account.of(AccountId.fromString("0.0.2"), privateKey.getPublicKey(), privateKey);
+    final HieroContext context =
+        new HieroContext() {
+          @Override
+          public @NonNull Account getOperatorAccount() {
+            return account;
+          }
+
+          @Override
+          public @NonNull Client getClient() {
+            return null;
+          }
+        };
+    client = new ProtocolLayerClientImpl(context);
+  }
+
+  @Test
+  void testSubmitReportsFailuresPerTransaction() throws HieroException {
+    // given
+    final List<TransactionRequest> requests =
+        List.of(
+            FileDeleteRequest.of(FileId.fromString("0.0.100")),
+            AccountCreateRequest.of(),
+            FileDeleteRequest.of(FileId.fromString("0.0.101")));
+
+    // when
+    final List<TransactionSubmission> submissions = client.submitTransactions(requests, 2);
+
+    // then
+    Assertions.assertEquals(3, submissions.size());
+    for (int i = 0; i < requests.size(); i++) {
+      Assertions.assertSame(requests.get(i), submissions.get(i).request());
+      Assertions.assertFalse(submissions.get(i).isSubmitted());
+      Assertions.assertNotNull(submissions.get(i).error());
+    }
+  }
+
+  @Test
+  void testCollectReceiptsKeepsFailedSubmissions() {
+    // given
+    final TransactionSubmission failed =
+        TransactionSubmission.failed(
+            FileDeleteRequest.of(FileId.fromString("0.0.100")), new HieroException("rejected"));
+
+    // when
+    final List<TransactionOutcome> outcomes = client.collectReceipts(List.of(failed), 4).join();
+
+    // then
+    Assertions.assertEquals(1, outcomes.size());
+    Assertions.assertFalse(outcomes.get(0).isSuccess());
+    Assertions.assertNull(outcomes.get(0).status());
+    Assertions.assertSame(failed.error(), outcomes.get(0).error());
+  }
+
+  @Test
+  void testCollectReceiptsForEmptyBatch() {
+    Assertions.assertEquals(List.of(), client.collectReceipts(List.of(), 1).join());
+  }
+
+  @Test
+  void testInvalidMaxInFlight() {
+    Assertions.assertThrows(
+        IllegalArgumentException.class, () -> client.collectReceipts(List.of(), 0));
+    Assertions.assertThrows(
+        IllegalArgumentException.class,
+        () -> client.submitTransactions(List.of(AccountCreateRequest.of()), 0));
+  }
+
+  @Test
+  void testSubmissionAndOutcomeValidation() {
+    final FileDeleteRequest request = FileDeleteRequest.of(FileId.fromString("0.0.100"));
+    Assertions.assertThrows(
+        IllegalArgumentException.class, () -> new TransactionSubmission(request, null, null));
+    Assertions.assertThrows(
+        IllegalArgumentException.class, () -> new TransactionOutcome(request, null, null, null));
+    final TransactionSubmission submission =
+        TransactionSubmission.submitted(
+            request, TransactionId.generate(AccountId.fromString("0.0.2")));
+    Assertions.assertTrue(submission.isSubmitted());
+    Assertions.assertEquals(TransactionType.UNKNOWN, submission.type());
+    Assertions.assertNull(submission.nodeId());
+    Assertions.assertThrows(
+        NullPointerException.class,
+        () -> TransactionSubmission.submitted(request, submission.transactionId(), null, null));
+    Assertions.assertNull(TransactionOutcome.failed(submission, new HieroException("x")).status());
+  }
+}
@@ -78,4 +78,76 @@ public class ProtocolLayerClientTests {
     Assertions.assertThrows(
         NullPointerException.class, () -> client.executeTransferTransaction(null));
   }
+
+  @Test
+  void testNullParamsForAsyncMethods() {
+    // given
+    final HieroContext context =
+        new HieroContext() {
+          @Override
+          public @NonNull Account getOperatorAccount() {
+            return null;
+          }
+
+          @Override
+          public @NonNull Client getClient() {
+            return null;
+          }
+        };
+    final ProtocolLayerClient client = new ProtocolLayerClientImpl(context);
+
+    // then
+    Assertions.assertThrows(
+        NullPointerException.class, () -> client.executeAccountBalanceQueryAsync(null));
+    Assertions.assertThrows(
+        NullPointerException.class, () -> client.executeFileContentsQueryAsync(null));
+    Assertions.assertThrows(
+        NullPointerException.class, () -> client.executeFileContentsBufferQueryAsync(null));
+    Assertions.assertThrows(
+        NullPointerException.class, () -> client.executeFileAppendRequestTransactionAsync(null));
+    Assertions.assertThrows(
+        NullPointerException.class, () -> client.executeFileAppendRequestTransactionsAsync(null));
+    Assertions.assertThrows(
+        NullPointerException.class, () -> client.executeFileDeleteTransactionAsync(null));
+    Assertions.assertThrows(
+        NullPointerException.class, () -> client.executeFileCreateTransactionAsync(null));
+    Assertions.assertThrows(
+        NullPointerException.class, () -> client.executeFileUpdateRequestTransactionAsync(null));
+    Assertions.assertThrows(
+        NullPointerException.class, () -> client.executeFileInfoQueryAsync(null));
+    Assertions.assertThrows(
+        NullPointerException.class, () -> client.executeContractCreateTransactionAsync(null));
+    Assertions.assertThrows(
+        NullPointerException.class, () -> client.executeContractCallTransactionAsync(null));
+    Assertions.assertThrows(
+        NullPointerException.class, () -> client.executeContractDeleteTransactionAsync(null));
+    Assertions.assertThrows(
+        NullPointerException.class, () -> client.executeAccountCreateTransactionAsync(null));
+    Assertions.assertThrows(
+        NullPointerException.class, () -> client.executeAccountDeleteTransactionAsync(null));
+    Assertions.assertThrows(
+        NullPointerException.class, () -> client.executeTokenCreateTransactionAsync(null));
+    Assertions.assertThrows(
+        NullPointerException.class, () -> client.executeTokenAssociateTransactionAsync(null));
+    Assertions.assertThrows(
+        NullPointerException.class, () -> client.executeTokenDissociateTransactionAsync(null));
+    Assertions.assertThrows(
+        NullPointerException.class, () -> client.executeMintTokenTransactionAsync(null));
+    Assertions.assertThrows(
+        NullPointerException.class, () -> client.executeBurnTokenTransactionAsync(null));
+    Assertions.assertThrows(
+        NullPointerException.class, () -> client.executeTransferTransactionAsync(null));
+    Assertions.assertThrows(
+        NullPointerException.class, () -> client.executeBatchTransferTransactionAsync(null));
+    Assertions.assertThrows(
+        NullPointerException.class, () -> client.executeNftBatchTransferTransactionAsync(null));
+    Assertions.assertThrows(
+        NullPointerException.class, () -> client.executeTopicCreateTransactionAsync(null));
+    Assertions.assertThrows(
+        NullPointerException.class, () -> client.executeTopicUpdateTransactionAsync(null));
+    Assertions.assertThrows(
+        NullPointerException.class, () -> client.executeTopicDeleteTransactionAsync(null));
+    Assertions.assertThrows(
+        NullPointerException.class, () -> client.executeTopicMessageSubmitTransactionAsync(null));
+  }
 }
@@ -14,6 +14,7 @@ import com.hedera.hashgraph.sdk.TransactionId;
 import com.hedera.hashgraph.sdk.proto.ContractFunctionResultOrBuilder;
 import com.openelements.hiero.base.data.Account;
 import com.openelements.hiero.base.data.ContractParam;
+import com.openelements.hiero.base.data.NftTransferInstruction;
 import com.openelements.hiero.base.protocol.data.AccountBalanceRequest;
 import com.openelements.hiero.base.protocol.data.AccountBalanceResponse;
 import com.openelements.hiero.base.protocol.data.AccountCreateRequest;
@@ -28,6 +29,7 @@ import com.openelements.hiero.base.protocol.data.ContractDeleteRequest;
 import com.openelements.hiero.base.protocol.data.ContractDeleteResult;
 import com.openelements.hiero.base.protocol.data.FileAppendRequest;
 import com.openelements.hiero.base.protocol.data.FileAppendResult;
+import com.openelements.hiero.base.protocol.data.FileContentsBufferResponse;
 import com.openelements.hiero.base.protocol.data.FileContentsRequest;
 import com.openelements.hiero.base.protocol.data.FileContentsResponse;
 import com.openelements.hiero.base.protocol.data.FileCreateRequest;
@@ -38,8 +40,10 @@ import com.openelements.hiero.base.protocol.data.FileInfoRequest;
 import com.openelements.hiero.base.protocol.data.FileInfoResponse;
 import com.openelements.hiero.base.protocol.data.FileUpdateRequest;
 import com.openelements.hiero.base.protocol.data.FileUpdateResult;
+import com.openelements.hiero.base.protocol.data.NftBatchTransferRequest;
 import com.openelements.hiero.base.protocol.data.TokenAssociateRequest;
 import com.openelements.hiero.base.protocol.data.TokenAssociateResult;
+import com.openelements.hiero.base.protocol.data.TokenBatchTransferRequest;
 import com.openelements.hiero.base.protocol.data.TokenBurnRequest;
 import com.openelements.hiero.base.protocol.data.TokenBurnResult;
 import com.openelements.hiero.base.protocol.data.TokenCreateRequest;
@@ -59,10 +63,13 @@ import com.openelements.hiero.base.protocol.data.TopicSubmitMessageResult;
 import com.openelements.hiero.base.protocol.data.TopicUpdateRequest;
 import com.openelements.hiero.base.protocol.data.TopicUpdateResult;
 import java.lang.reflect.Constructor;
+import java.nio.ByteBuffer;
 import java.nio.charset.StandardCharsets;
 import java.time.Duration;
 import java.time.Instant;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.stream.IntStream;
 import org.junit.jupiter.api.Assertions;
@@ -1020,6 +1027,23 @@ public class ProtocolLayerDataCreationTests {
         NullPointerException.class, () -> new FileCreateResult(transactionId, status, null));
   }
 
+  @Test
+  void testFileContentsBufferResponseCreation() {
+    // Given
+    final FileId fileId = FileId.fromString("0.0.12345");
+    final ByteBuffer contents = ByteBuffer.wrap(new byte[] {1, 2, 3}).asReadOnlyBuffer();
+
+    // Then
+    Assertions.assertDoesNotThrow(() -> new FileContentsBufferResponse(fileId, contents));
+    Assertions.assertThrows(
+        NullPointerException.class, () -> new FileContentsBufferResponse(null, contents));
+    Assertions.assertThrows(
+        NullPointerException.class, () -> new FileContentsBufferResponse(fileId, null));
+    Assertions.assertThrows(
+        IllegalArgumentException.class,
+        () -> new FileContentsBufferResponse(fileId, ByteBuffer.wrap(new byte[] {1, 2, 3})));
+  }
+
   @Test
   void testFileContentsResponseCreation() {
     // Given
@@ -1817,4 +1841,100 @@ public class ProtocolLayerDataCreationTests {
     Assertions.assertThrows(
         NullPointerException.class, () -> new TopicUpdateResult(validTransactionId, null));
   }
+
+  @Test
+  void testTokenBatchTransferRequestCreation() {
+    // given
+    final TokenId tokenId = TokenId.fromString("0.0.100");
+    final AccountId sender = AccountId.fromString("0.0.1");
+    final PrivateKey senderKey = PrivateKey.generateECDSA();
+    final Map<AccountId, Long> amounts =
+        Map.of(AccountId.fromString("0.0.2"), 5L, AccountId.fromString("0.0.3"), 7L);
+    final Map<AccountId, Long> tooManyReceivers = new LinkedHashMap<>();
+    IntStream.range(0, TokenBatchTransferRequest.MAX_RECEIVERS + 1)
+        .forEach(i -> tooManyReceivers.put(AccountId.fromString("0.0." + (10 + i)), 1L));
+
+    // then
+    Assertions.assertDoesNotThrow(
+        () -> TokenBatchTransferRequest.of(tokenId, sender, senderKey, amounts));
+    Assertions.assertEquals(
+        12L, TokenBatchTransferRequest.of(tokenId, sender, senderKey, amounts).totalAmount());
+    Assertions.assertThrows(
+        NullPointerException.class,
+        () -> TokenBatchTransferRequest.of(null, sender, senderKey, amounts));
+    Assertions.assertThrows(
+        NullPointerException.class,
+        () -> TokenBatchTransferRequest.of(tokenId, null, senderKey, amounts));
+    Assertions.assertThrows(
+        NullPointerException.class,
+        () -> TokenBatchTransferRequest.of(tokenId, sender, null, amounts));
+    Assertions.assertThrows(
+        NullPointerException.class,
+        () -> TokenBatchTransferRequest.of(tokenId, sender, senderKey, null));
+    Assertions.assertThrows(
+        IllegalArgumentException.class,
+        () -> TokenBatchTransferRequest.of(tokenId, sender, senderKey, Map.of()));
+    Assertions.assertThrows(
+        IllegalArgumentException.class,
+        () -> TokenBatchTransferRequest.of(tokenId, sender, senderKey, tooManyReceivers));
+    Assertions.assertThrows(
+        IllegalArgumentException.class,
+        () -> TokenBatchTransferRequest.of(tokenId, sender, senderKey, Map.of(sender, 1L)));
+    Assertions.assertThrows(
+        IllegalArgumentException.class,
+        () ->
+            TokenBatchTransferRequest.of(
+                tokenId, sender, senderKey, Map.of(AccountId.fromString("0.0.2"), 0L)));
+    Assertions.assertThrows(
+        IllegalArgumentException.class,
+        () ->
+            TokenBatchTransferRequest.of(
+                tokenId,
+                sender,
+                senderKey,
+                Map.of(
+                    AccountId.fromString("0.0.2"),
+                    Long.MAX_VALUE,
+                    AccountId.fromString("0.0.3"),
+                    1L)));
+  }
+
+  @Test
+  void testNftBatchTransferRequestCreation() {
+    // given
+    final TokenId tokenId = TokenId.fromString("0.0.100");
+    final PrivateKey senderKey = PrivateKey.generateECDSA();
+    final Account sender =
+        new Account(AccountId.fromString("0.0.1"), senderKey.getPublicKey(), senderKey);
+    final List<NftTransferInstruction> transfers =
+        List.of(
+            NftTransferInstruction.of(tokenId, 1, sender, AccountId.fromString("0.0.2")),
+            NftTransferInstruction.of(tokenId, 2, sender, AccountId.fromString("0.0.3")));
+    final List<NftTransferInstruction> tooManyTransfers =
+        IntStream.rangeClosed(1, NftBatchTransferRequest.MAX_NFT_TRANSFERS + 1)
+            .mapToObj(
+                i -> NftTransferInstruction.of(tokenId, i, sender, AccountId.fromString("0.0.2")))
+            .toList();
+
+    // then
+    Assertions.assertDoesNotThrow(() -> NftBatchTransferRequest.of(transfers));
+    Assertions.assertEquals(List.of(senderKey), NftBatchTransferRequest.of(transfers).senderKeys());
+    Assertions.assertThrows(NullPointerException.class, () -> NftBatchTransferRequest.of(null));
+    Assertions.assertThrows(
+        IllegalArgumentException.class, () -> NftBatchTransferRequest.of(List.of()));
+    Assertions.assertThrows(
+        IllegalArgumentException.class, () -> NftBatchTransferRequest.of(tooManyTransfers));
+    Assertions.assertThrows(
+        IllegalArgumentException.class,
+        () -> NftBatchTransferRequest.of(List.of(transfers.get(0), transfers.get(0))));
+    Assertions.assertThrows(
+        IllegalArgumentException.class,
+        () -> NftTransferInstruction.of(tokenId, 1, sender, sender.accountId()));
+    Assertions.assertThrows(
+        IllegalArgumentException.class,
+        () -> NftTransferInstruction.of(tokenId, -1, sender, AccountId.fromString("0.0.2")));
+    Assertions.assertThrows(
+        IllegalArgumentException.class,
+        () -> NftTransferInstruction.of(tokenId, 0, sender, AccountId.fromString("0.0.2")));
+  }
 }
@@ -7,6 +7,8 @@ import com.hedera.hashgraph.sdk.PrivateKey;
 import com.hedera.hashgraph.sdk.TopicId;
 import com.openelements.hiero.base.HieroException;
 import com.openelements.hiero.base.data.Account;
+import com.openelements.hiero.base.data.SubmitBackpressure;
+import com.openelements.hiero.base.data.TopicSubmitMetrics;
 import com.openelements.hiero.base.implementation.TopicClientImpl;
 import com.openelements.hiero.base.protocol.ProtocolLayerClient;
 import com.openelements.hiero.base.protocol.data.TopicCreateRequest;
@@ -17,6 +19,11 @@ import com.openelements.hiero.base.protocol.data.TopicSubmitMessageRequest;
 import com.openelements.hiero.base.protocol.data.TopicSubmitMessageResult;
 import com.openelements.hiero.base.protocol.data.TopicUpdateRequest;
 import com.openelements.hiero.base.protocol.data.TopicUpdateResult;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -607,4 +614,131 @@ public class TopicClientImplTest {
         NullPointerException.class,
         () -> topicClient.submitMessage((TopicId) null, null, (String) null));
   }
+
+  @Test
+  void shouldEnqueueMessageWithoutBlockingForReceipt() throws Exception {
+    // given
+    final TopicId topicId = TopicId.fromString("1.2.3");
+    final byte[] message = "Hello Hiero!".getBytes();
+    final CompletableFuture<TopicSubmitMessageResult> receipt = new CompletableFuture<>();
+
+    // when
+    when(protocolLayerClient.executeTopicMessageSubmitTransactionAsync(
+            any(TopicSubmitMessageRequest.class)))
+        .thenReturn(receipt);
+    final CompletableFuture<Void> future = topicClient.enqueueMessage(topicId, message);
+
+    // then
+    Assertions.assertFalse(future.isDone());
+    Assertions.assertEquals(1, topicClient.getSubmitMetrics().inFlight());
+    verify(protocolLayerClient, times(1))
+        .executeTopicMessageSubmitTransactionAsync(topicSubmitCaptor.capture());
+    Assertions.assertEquals(topicId, topicSubmitCaptor.getValue().topicId());
+    Assertions.assertArrayEquals(message, topicSubmitCaptor.getValue().message());
+    verify(protocolLayerClient, never()).executeTopicMessageSubmitTransaction(any());
+
+    receipt.complete(Mockito.mock(TopicSubmitMessageResult.class));
+    future.get(1, TimeUnit.SECONDS);
+    final TopicSubmitMetrics metrics = topicClient.getSubmitMetrics();
+    Assertions.assertEquals(0, metrics.inFlight());
+    Assertions.assertEquals(1, metrics.submitted());
+    Assertions.assertEquals(1, metrics.succeeded());
+  }
+
+  @Test
+  void shouldEnqueueStringMessageAsUtf8() {
+    // given
+    final TopicId topicId = TopicId.fromString("1.2.3");
+    final String message = "Gr\u00fc\u00dfe, \u4e16\u754c";
+
+    // when
+    when(protocolLayerClient.executeTopicMessageSubmitTransactionAsync(
+            any(TopicSubmitMessageRequest.class)))
+        .thenReturn(new CompletableFuture<>());
+    topicClient.enqueueMessage(topicId, message);
+
+    // then
+    verify(protocolLayerClient, times(1))
+        .executeTopicMessageSubmitTransactionAsync(topicSubmitCaptor.capture());
+    Assertions.assertArrayEquals(
+        message.getBytes(StandardCharsets.UTF_8), topicSubmitCaptor.getValue().message());
+  }
+
+  @Test
+  void shouldRejectMessageIfWindowIsFull() {
+    // given
+    final TopicClientImpl windowedClient =
+        new TopicClientImpl(protocolLayerClient, operationalAccount, 2, SubmitBackpressure.FAIL);
+    final TopicId topicId = TopicId.fromString("1.2.3");
+
+    // when
+    when(protocolLayerClient.executeTopicMessageSubmitTransactionAsync(
+            any(TopicSubmitMessageRequest.class)))
+        .thenReturn(new CompletableFuture<>());
+    windowedClient.enqueueMessage(topicId, "first");
+    windowedClient.enqueueMessage(topicId, "second");
+    final CompletableFuture<Void> rejected = windowedClient.enqueueMessage(topicId, "third");
+
+    // then
+    final ExecutionException exception =
+        Assertions.assertThrows(ExecutionException.class, rejected::get);
+    Assertions.assertInstanceOf(HieroException.class, exception.getCause());
+    verify(protocolLayerClient, times(2)).executeTopicMessageSubmitTransactionAsync(any());
+    final TopicSubmitMetrics metrics = windowedClient.getSubmitMetrics();
+    Assertions.assertEquals(2, metrics.maxInFlight());
+    Assertions.assertEquals(2, metrics.inFlight());
+    Assertions.assertEquals(1, metrics.rejected());
+  }
+
+  @Test
+  void shouldBlockUntilSlotIsFreeIfWindowIsFull() throws Exception {
+    // given
+    final TopicClientImpl windowedClient =
+        new TopicClientImpl(protocolLayerClient, operationalAccount, 1, SubmitBackpressure.BLOCK);
+    final TopicId topicId = TopicId.fromString("1.2.3");
+    final CompletableFuture<TopicSubmitMessageResult> firstReceipt = new CompletableFuture<>();
+
+    // when
+    when(protocolLayerClient.executeTopicMessageSubmitTransactionAsync(
+            any(TopicSubmitMessageRequest.class)))
+        .thenReturn(firstReceipt)
+        .thenReturn(
+            CompletableFuture.completedFuture(Mockito.mock(TopicSubmitMessageResult.class)));
+    windowedClient.enqueueMessage(topicId, "first");
+    final CompletableFuture<CompletableFuture<Void>> second =
+        CompletableFuture.supplyAsync(() -> windowedClient.enqueueMessage(topicId, "second"));
+
+    // then
+    Assertions.assertThrows(TimeoutException.class, () -> second.get(200, TimeUnit.MILLISECONDS));
+    Assertions.assertEquals(1, windowedClient.getSubmitMetrics().waiting());
+    Assertions.assertEquals(2, windowedClient.getSubmitMetrics().queueDepth());
+    firstReceipt.complete(Mockito.mock(TopicSubmitMessageResult.class));
+    second.get(5, TimeUnit.SECONDS).get(5, TimeUnit.SECONDS);
+    verify(protocolLayerClient, times(2)).executeTopicMessageSubmitTransactionAsync(any());
+    Assertions.assertEquals(0, windowedClient.getSubmitMetrics().queueDepth());
+  }
+
+  @Test
+  void shouldReleaseSlotIfSubmissionFails() {
+    // given
+    final TopicClientImpl windowedClient =
+        new TopicClientImpl(protocolLayerClient, operationalAccount, 1, SubmitBackpressure.FAIL);
+    final TopicId topicId = TopicId.fromString("1.2.3");
+
+    // when
+    when(protocolLayerClient.executeTopicMessageSubmitTransactionAsync(
+            any(TopicSubmitMessageRequest.class)))
+        .thenReturn(CompletableFuture.failedFuture(new HieroException("failed")));
+    final CompletableFuture<Void> first = windowedClient.enqueueMessage(topicId, "first");
+    final CompletableFuture<Void> second = windowedClient.enqueueMessage(topicId, "second");
+
+    // then
+    Assertions.assertTrue(first.isCompletedExceptionally());
+    Assertions.assertTrue(second.isCompletedExceptionally());
+    verify(protocolLayerClient, times(2)).executeTopicMessageSubmitTransactionAsync(any());
+    final TopicSubmitMetrics metrics = windowedClient.getSubmitMetrics();
+    Assertions.assertEquals(2, metrics.failed());
+    Assertions.assertEquals(0, metrics.rejected());
+    Assertions.assertEquals(0, metrics.inFlight());
+  }
 }
@@ -0,0 +1,201 @@
+package com.openelements.hiero.base.test;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.hedera.hashgraph.sdk.TopicId;
+import com.openelements.hiero.base.AsyncTopicClient;
+import com.openelements.hiero.base.HieroException;
+import com.openelements.hiero.base.data.TopicMessageBatch;
+import com.openelements.hiero.base.implementation.TopicPublisherImpl;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mockito;
+
+public class TopicPublisherImplTest {
+
+  AsyncTopicClient topicClient;
+
+  TopicPublisherImpl publisher;
+
+  final TopicId topicId = TopicId.fromString("0.0.12345");
+
+  @BeforeEach
+  void setup() {
+    topicClient = Mockito.mock(AsyncTopicClient.class);
+    when(topicClient.submitMessage(any(TopicId.class), any(byte[].class)))
+        .thenReturn(CompletableFuture.completedFuture(null));
+  }
+
+  @AfterEach
+  void tearDown() {
+    if (publisher != null) {
+      publisher.close();
+    }
+  }
+
+  @Test
+  void shouldCoalesceMessagesIntoOneSubmit() throws Exception {
+    // given
+    publisher = new TopicPublisherImpl(topicClient, Duration.ofHours(1));
+    final ArgumentCaptor<byte[]> captor = ArgumentCaptor.forClass(byte[].class);
+
+    // when
+    final CompletableFuture<Void> first = publisher.publish(topicId, "first");
+    final CompletableFuture<Void> second = publisher.publish(topicId, "second");
+    publisher.flush();
+
+    // then
+    first.get(1, TimeUnit.SECONDS);
+    second.get(1, TimeUnit.SECONDS);
+    verify(topicClient, times(1)).submitMessage(eq(topicId), captor.capture());
+    final List<byte[]> messages = TopicMessageBatch.decode(captor.getValue()).messages();
+    Assertions.assertEquals(2, messages.size());
+    Assertions.assertEquals("first", new String(messages.get(0), StandardCharsets.UTF_8));
+    Assertions.assertEquals("second", new String(messages.get(1), StandardCharsets.UTF_8));
+  }
+
+  @Test
+  void shouldSubmitWhenBatchIsFull() {
+    // given
+    publisher = new TopicPublisherImpl(topicClient, Duration.ofHours(1));
+    final byte[] message = new byte[500];
+
+    // when
+    publisher.publish(topicId, message);
+    publisher.publish(topicId, message);
+    publisher.publish(topicId, message);
+
+    // then
+    verify(topicClient, times(1)).submitMessage(eq(topicId), any(byte[].class));
+  }
+
+  @Test
+  void shouldSubmitAfterLinger() throws Exception {
+    // given
+    publisher = new TopicPublisherImpl(topicClient, Duration.ofMillis(10));
+
+    // when
+    final CompletableFuture<Void> future = publisher.publish(topicId, "message");
+
+    // then
+    future.get(5, TimeUnit.SECONDS);
+    verify(topicClient, timeout(5000).times(1)).submitMessage(eq(topicId), any(byte[].class));
+  }
+
+  @Test
+  void shouldKeepTopicsSeparate() {
+    // given
+    publisher = new TopicPublisherImpl(topicClient, Duration.ofHours(1));
+    final TopicId otherTopicId = TopicId.fromString("0.0.54321");
+
+    // when
+    publisher.publish(topicId, "first");
+    publisher.publish(otherTopicId, "second");
+    publisher.flush();
+
+    // then
+    verify(topicClient, times(1)).submitMessage(eq(topicId), any(byte[].class));
+    verify(topicClient, times(1)).submitMessage(eq(otherTopicId), any(byte[].class));
+  }
+
+  @Test
+  void shouldFailAllFuturesOfFailedBatch() {
+    // given
+    when(topicClient.submitMessage(any(TopicId.class), any(byte[].class)))
+        .thenReturn(CompletableFuture.failedFuture(new HieroException("submit failed")));
+    publisher = new TopicPublisherImpl(topicClient, Duration.ofHours(1));
+
+    // when
+    final CompletableFuture<Void> first = publisher.publish(topicId, "first");
+    final CompletableFuture<Void> second = publisher.publish(topicId, "second");
+    publisher.flush();
+
+    // then
+    final ExecutionException exception =
+        Assertions.assertThrows(ExecutionException.class, () -> first.get(1, TimeUnit.SECONDS));
+    Assertions.assertInstanceOf(HieroException.class, exception.getCause());
+    Assertions.assertTrue(second.isCompletedExceptionally());
+  }
+
+  @Test
+  void shouldRejectTooLargeMessage() {
+    // given
+    publisher = new TopicPublisherImpl(topicClient, Duration.ofHours(1));
+    final byte[] message = new byte[TopicMessageBatch.MAX_ENCODED_SIZE];
+
+    // then
+    Assertions.assertThrows(
+        IllegalArgumentException.class, () -> publisher.publish(topicId, message));
+    verify(topicClient, never()).submitMessage(any(TopicId.class), any(byte[].class));
+  }
+
+  @Test
+  void shouldFlushOnCloseAndRejectLaterMessages() throws Exception {
+    // given
+    publisher = new TopicPublisherImpl(topicClient, Duration.ofHours(1));
+
+    // when
+    final CompletableFuture<Void> future = publisher.publish(topicId, "message");
+    publisher.close();
+
+    // then
+    future.get(1, TimeUnit.SECONDS);
+    Assertions.assertThrows(
+        IllegalStateException.class, () -> publisher.publish(topicId, "message"));
+  }
+
+  @Test
+  void shouldRoundTripBatch() {
+    // given
+    final byte[] small = "small".getBytes(StandardCharsets.UTF_8);
+    final byte[] large = new byte[300];
+    large[299] = 7;
+    final TopicMessageBatch batch = new TopicMessageBatch(List.of(small, new byte[0], large));
+
+    // when
+    final byte[] encoded = batch.encode();
+    final TopicMessageBatch decoded = TopicMessageBatch.decode(encoded);
+
+    // then
+    Assertions.assertEquals(batch.encodedSize(), encoded.length);
+    Assertions.assertTrue(TopicMessageBatch.isBatch(encoded));
+    Assertions.assertEquals(3, decoded.messages().size());
+    Assertions.assertArrayEquals(small, decoded.messages().get(0));
+    Assertions.assertArrayEquals(new byte[0], decoded.messages().get(1));
+    Assertions.assertArrayEquals(large, decoded.messages().get(2));
+    Assertions.assertEquals(2 + 300, TopicMessageBatch.encodedSize(300));
+  }
+
+  @Test
+  void shouldRejectMalformedBatch() {
+    Assertions.assertFalse(TopicMessageBatch.isBatch("plain".getBytes(StandardCharsets.UTF_8)));
+    Assertions.assertThrows(
+        IllegalArgumentException.class,
+        () -> TopicMessageBatch.decode("plain".getBytes(StandardCharsets.UTF_8)));
+    Assertions.assertThrows(
+        IllegalArgumentException.class,
+        () ->
+            TopicMessageBatch.decode(
+                new byte[] {TopicMessageBatch.MAGIC, TopicMessageBatch.VERSION, 10, 1}));
+    Assertions.assertThrows(
+        IllegalArgumentException.class,
+        () ->
+            TopicMessageBatch.decode(
+                new byte[] {TopicMessageBatch.MAGIC, TopicMessageBatch.VERSION, (byte) 0x80}));
+  }
+}
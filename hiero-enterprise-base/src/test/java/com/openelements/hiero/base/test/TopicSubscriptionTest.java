@@ -0,0 +1,411 @@
+package com.openelements.hiero.base.test;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.hedera.hashgraph.sdk.SubscriptionHandle;
+import com.hedera.hashgraph.sdk.TopicId;
+import com.hedera.hashgraph.sdk.TopicMessage;
+import com.openelements.hiero.base.HieroException;
+import com.openelements.hiero.base.TopicSubscription;
+import com.openelements.hiero.base.data.Account;
+import com.openelements.hiero.base.data.TopicOverflowPolicy;
+import com.openelements.hiero.base.data.TopicSubscriptionOptions;
+import com.openelements.hiero.base.implementation.TopicClientImpl;
+import com.openelements.hiero.base.protocol.ProtocolLayerClient;
+import com.openelements.hiero.base.protocol.data.TopicMessageRequest;
+import com.openelements.hiero.base.protocol.data.TopicMessageResult;
+import java.lang.reflect.Constructor;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Flow;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mockito;
+
+public class TopicSubscriptionTest {
+
+  ProtocolLayerClient protocolLayerClient;
+
+  SubscriptionHandle subscriptionHandle;
+
+  TopicClientImpl topicClient;
+
+  ArgumentCaptor<TopicMessageRequest> requestCaptor =
+      ArgumentCaptor.forClass(TopicMessageRequest.class);
+
+  final TopicId topicId = TopicId.fromString("0.0.12345");
+
+  final Instant start = Instant.parse("2025-01-01T00:00:00Z");
+
+  @BeforeEach
+  void setup() throws Exception {
+    protocolLayerClient = Mockito.mock(ProtocolLayerClient.class);
+    subscriptionHandle = Mockito.mock(SubscriptionHandle.class);
+    topicClient = new TopicClientImpl(protocolLayerClient, Mockito.mock(Account.class));
+    when(protocolLayerClient.executeTopicMessageQuery(any(TopicMessageRequest.class)))
+        .thenReturn(new TopicMessageResult(subscriptionHandle));
+  }
+
+  @Test
+  void shouldConnectOnlyOnceSubscriberSubscribes() throws Exception {
+    // given
+    final TopicSubscription subscription = topicClient.subscribe(topicId);
+
+    // then
+    verify(protocolLayerClient, times(0)).executeTopicMessageQuery(any());
+    subscription.subscribe(new RecordingSubscriber(0));
+    verify(protocolLayerClient, times(1)).executeTopicMessageQuery(requestCaptor.capture());
+    Assertions.assertEquals(topicId, requestCaptor.getValue().topicId());
+    Assertions.assertNotNull(requestCaptor.getValue().errorHandler());
+    Assertions.assertNotNull(requestCaptor.getValue().completionHandler());
+  }
+
+  @Test
+  void shouldDeliverMessagesOnlyOnDemand() throws Exception {
+    // given
+    final TopicSubscription subscription = topicClient.subscribe(topicId);
+    final RecordingSubscriber subscriber = new RecordingSubscriber(1);
+    subscription.subscribe(subscriber);
+    final TopicMessageRequest request = capturedRequest();
+
+    // when
+    request.subscription().accept(message(1));
+    request.subscription().accept(message(2));
+    request.subscription().accept(message(3));
+
+    // then
+    Assertions.assertEquals(List.of(1L), subscriber.sequenceNumbers());
+    subscriber.subscription.request(5);
+    Assertions.assertEquals(List.of(1L, 2L, 3L), subscriber.sequenceNumbers());
+    Assertions.assertEquals(start.plusSeconds(3), subscription.lastConsensusTimestamp());
+  }
+
+  @Test
+  void shouldDropOldestMessageIfBufferIsFull() throws Exception {
+    // given
+    final TopicSubscription subscription =
+        topicClient.subscribe(
+            topicId, TopicSubscriptionOptions.of(2, TopicOverflowPolicy.DROP_OLDEST));
+    final RecordingSubscriber subscriber = new RecordingSubscriber(0);
+    subscription.subscribe(subscriber);
+    final TopicMessageRequest request = capturedRequest();
+
+    // when
+    for (int i = 1; i <= 4; i++) {
+      request.subscription().accept(message(i));
+    }
+    subscriber.subscription.request(10);
+
+    // then
+    Assertions.assertEquals(List.of(3L, 4L), subscriber.sequenceNumbers());
+    Assertions.assertEquals(2, subscription.droppedMessages());
+  }
+
+  @Test
+  void shouldDropLatestMessageIfBufferIsFull() throws Exception {
+    // given
+    final TopicSubscription subscription =
+        topicClient.subscribe(
+            topicId, TopicSubscriptionOptions.of(2, TopicOverflowPolicy.DROP_LATEST));
+    final RecordingSubscriber subscriber = new RecordingSubscriber(0);
+    subscription.subscribe(subscriber);
+    final TopicMessageRequest request = capturedRequest();
+
+    // when
+    for (int i = 1; i <= 4; i++) {
+      request.subscription().accept(message(i));
+    }
+    subscriber.subscription.request(10);
+
+    // then
+    Assertions.assertEquals(List.of(1L, 2L), subscriber.sequenceNumbers());
+    Assertions.assertEquals(2, subscription.droppedMessages());
+  }
+
+  @Test
+  void shouldFailAndUnsubscribeIfBufferOverflows() throws Exception {
+    // given
+    final TopicSubscription subscription =
+        topicClient.subscribe(topicId, TopicSubscriptionOptions.of(1, TopicOverflowPolicy.FAIL));
+    final RecordingSubscriber subscriber = new RecordingSubscriber(0);
+    subscription.subscribe(subscriber);
+    final TopicMessageRequest request = capturedRequest();
+
+    // when
+    request.subscription().accept(message(1));
+    request.subscription().accept(message(2));
+
+    // then
+    Assertions.assertInstanceOf(HieroException.class, subscriber.error);
+    Assertions.assertTrue(subscription.isCancelled());
+    verify(subscriptionHandle, times(1)).unsubscribe();
+  }
+
+  @Test
+  void shouldBlockReceivingThreadUntilSubscriberRequestsMessages() throws Exception {
+    // given
+    final TopicSubscription subscription =
+        topicClient.subscribe(topicId, TopicSubscriptionOptions.of(1, TopicOverflowPolicy.BLOCK));
+    final RecordingSubscriber subscriber = new RecordingSubscriber(0);
+    subscription.subscribe(subscriber);
+    final TopicMessageRequest request = capturedRequest();
+    request.subscription().accept(message(1));
+
+    final TopicMessage second = message(2);
+
+    // when
+    final CompletableFuture<Void> blocked = new CompletableFuture<>();
+    final Thread receiver =
+        Thread.ofPlatform()
+            .start(
+                () -> {
+                  request.subscription().accept(second);
+                  blocked.complete(null);
+                });
+
+    // then
+    awaitWaiting(receiver);
+    Assertions.assertFalse(blocked.isDone());
+    Assertions.assertEquals(List.of(), subscriber.sequenceNumbers());
+    subscriber.subscription.request(1);
+    blocked.get(5, TimeUnit.SECONDS);
+    subscriber.subscription.request(1);
+    Assertions.assertEquals(List.of(1L, 2L), subscriber.sequenceNumbers());
+    Assertions.assertEquals(0, subscription.droppedMessages());
+  }
+
+  @Test
+  void shouldCancelThroughHandle() throws Exception {
+    // given
+    final TopicSubscription subscription = topicClient.subscribe(topicId);
+    final RecordingSubscriber subscriber = new RecordingSubscriber(Long.MAX_VALUE);
+    subscription.subscribe(subscriber);
+    final TopicMessageRequest request = capturedRequest();
+
+    // when
+    subscription.close();
+    request.subscription().accept(message(1));
+
+    // then
+    verify(subscriptionHandle, times(1)).unsubscribe();
+    Assertions.assertTrue(subscription.isCancelled());
+    Assertions.assertTrue(subscriber.sequenceNumbers().isEmpty());
+    Assertions.assertFalse(subscriber.completed);
+    Assertions.assertNull(subscriber.error);
+  }
+
+  @Test
+  void shouldCancelWithoutHandle() throws Exception {
+    // given
+    when(protocolLayerClient.executeTopicMessageQuery(any(TopicMessageRequest.class)))
+        .thenReturn(new TopicMessageResult());
+    final TopicSubscription subscription = topicClient.subscribe(topicId);
+    subscription.subscribe(new RecordingSubscriber(Long.MAX_VALUE));
+
+    // when
+    subscription.close();
+
+    // then
+    Assertions.assertTrue(subscription.isCancelled());
+    verify(subscriptionHandle, never()).unsubscribe();
+  }
+
+  @Test
+  void shouldResumeAfterLastConsensusTimestampOnReconnect() throws Exception {
+    // given
+    final TopicSubscription subscription = topicClient.subscribe(topicId);
+    final RecordingSubscriber subscriber = new RecordingSubscriber(Long.MAX_VALUE);
+    subscription.subscribe(subscriber);
+    final TopicMessageRequest first = capturedRequest();
+    first.subscription().accept(message(1));
+    first.subscription().accept(message(2));
+
+    // when
+    first.errorHandler().accept(new RuntimeException("connection lost"));
+
+    // then
+    verify(protocolLayerClient, times(2)).executeTopicMessageQuery(requestCaptor.capture());
+    final TopicMessageRequest second = requestCaptor.getValue();
+    Assertions.assertEquals(start.plusSeconds(2).plusNanos(1), second.startTime());
+    second.subscription().accept(message(2));
+    second.subscription().accept(message(3));
+    Assertions.assertEquals(List.of(1L, 2L, 3L), subscriber.sequenceNumbers());
+    Assertions.assertNull(subscriber.error);
+  }
+
+  @Test
+  void shouldFailAfterMaxReconnects() throws Exception {
+    // given
+    final TopicSubscription subscription =
+        topicClient.subscribe(
+            topicId, new TopicSubscriptionOptions(start, null, 16, TopicOverflowPolicy.BLOCK, 1));
+    final RecordingSubscriber subscriber = new RecordingSubscriber(Long.MAX_VALUE);
+    subscription.subscribe(subscriber);
+
+    // when
+    capturedRequest().errorHandler().accept(new RuntimeException("connection lost"));
+    verify(protocolLayerClient, times(2)).executeTopicMessageQuery(requestCaptor.capture());
+    final TopicMessageRequest reconnect = requestCaptor.getValue();
+    reconnect.errorHandler().accept(new RuntimeException("connection lost again"));
+
+    // then
+    Assertions.assertEquals(start, reconnect.startTime());
+    Assertions.assertInstanceOf(HieroException.class, subscriber.error);
+    verify(protocolLayerClient, times(2)).executeTopicMessageQuery(any());
+  }
+
+  @Test
+  void shouldCompleteAfterBufferedMessages() throws Exception {
+    // given
+    final TopicSubscription subscription = topicClient.subscribe(topicId);
+    final RecordingSubscriber subscriber = new RecordingSubscriber(0);
+    subscription.subscribe(subscriber);
+    final TopicMessageRequest request = capturedRequest();
+
+    // when
+    request.subscription().accept(message(1));
+    request.completionHandler().run();
+
+    // then
+    Assertions.assertFalse(subscriber.completed);
+    subscriber.subscription.request(1);
+    Assertions.assertEquals(List.of(1L), subscriber.sequenceNumbers());
+    Assertions.assertTrue(subscriber.completed);
+    Assertions.assertFalse(subscription.isCancelled());
+  }
+
+  @Test
+  void shouldRejectSecondSubscriber() throws Exception {
+    // given
+    final TopicSubscription subscription = topicClient.subscribe(topicId);
+    subscription.subscribe(new RecordingSubscriber(0));
+    final RecordingSubscriber second = new RecordingSubscriber(0);
+
+    // when
+    subscription.subscribe(second);
+
+    // then
+    Assertions.assertInstanceOf(IllegalStateException.class, second.error);
+    verify(protocolLayerClient, times(1)).executeTopicMessageQuery(any());
+  }
+
+  @Test
+  void shouldFailIfQueryCanNotBeExecuted() throws Exception {
+    // given
+    when(protocolLayerClient.executeTopicMessageQuery(any(TopicMessageRequest.class)))
+        .thenThrow(new HieroException("no mirror node"));
+    final RecordingSubscriber subscriber = new RecordingSubscriber(0);
+
+    // when
+    topicClient.subscribe(topicId).subscribe(subscriber);
+
+    // then
+    Assertions.assertInstanceOf(HieroException.class, subscriber.error);
+  }
+
+  @Test
+  void shouldValidateOptions() {
+    Assertions.assertThrows(
+        IllegalArgumentException.class,
+        () -> TopicSubscriptionOptions.of(0, TopicOverflowPolicy.BLOCK));
+    Assertions.assertThrows(NullPointerException.class, () -> TopicSubscriptionOptions.of(1, null));
+    Assertions.assertThrows(
+        IllegalArgumentException.class,
+        () -> new TopicSubscriptionOptions(null, null, 1, TopicOverflowPolicy.BLOCK, -1));
+    Assertions.assertThrows(
+        IllegalArgumentException.class,
+        () ->
+            new TopicSubscriptionOptions(
+                start, start.minusSeconds(1), 1, TopicOverflowPolicy.BLOCK, 0));
+    Assertions.assertThrows(NullPointerException.class, () -> topicClient.subscribe(null));
+  }
+
+  private TopicMessageRequest capturedRequest() throws HieroException {
+    verify(protocolLayerClient, Mockito.atLeastOnce())
+        .executeTopicMessageQuery(requestCaptor.capture());
+    return requestCaptor.getValue();
+  }
+
+  /** Waits until the thread waits on the lock of the subscription for a free buffer slot. */
+  private static void awaitWaiting(final Thread thread) {
+    final long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+    while (thread.getState() != Thread.State.WAITING) {
+      Assertions.assertTrue(thread.isAlive(), "thread has not blocked");
+      Assertions.assertTrue(System.nanoTime() < deadline, "thread is " + thread.getState());
+      Thread.onSpinWait();
+    }
+  }
+
+  private TopicMessage message(final long sequenceNumber) throws Exception {
+    // the constructor of TopicMessage is package-private and its chunk type is not public
+    @SuppressWarnings("unchecked")
+    final Constructor<TopicMessage> constructor =
+        (Constructor<TopicMessage>)
+            Arrays.stream(TopicMessage.class.getDeclaredConstructors())
+                .filter(c -> c.getParameterCount() == 6)
+                .findFirst()
+                .orElseThrow();
+    constructor.setAccessible(true);
+    return constructor.newInstance(
+        start.plusSeconds(sequenceNumber),
+        new byte[] {(byte) sequenceNumber},
+        new byte[0],
+        sequenceNumber,
+        null,
+        null);
+  }
+
+  private static final class RecordingSubscriber implements Flow.Subscriber<TopicMessage> {
+
+    private final long initialRequest;
+
+    private final List<TopicMessage> messages = new CopyOnWriteArrayList<>();
+
+    private volatile Flow.Subscription subscription;
+
+    private volatile Throwable error;
+
+    private volatile boolean completed;
+
+    private RecordingSubscriber(final long initialRequest) {
+      this.initialRequest = initialRequest;
+    }
+
+    @Override
+    public void onSubscribe(final Flow.Subscription subscription) {
+      this.subscription = subscription;
+      if (initialRequest > 0) {
+        subscription.request(initialRequest);
+      }
+    }
+
+    @Override
+    public void onNext(final TopicMessage item) {
+      messages.add(item);
+    }
+
+    @Override
+    public void onError(final Throwable throwable) {
+      error = throwable;
+    }
+
+    @Override
+    public void onComplete() {
+      completed = true;
+    }
+
+    private List<Long> sequenceNumbers() {
+      return messages.stream().map(m -> m.sequenceNumber).toList();
+    }
+  }
+}
@@ -0,0 +1,111 @@
+package com.openelements.hiero.base.test;
+
+import com.hedera.hashgraph.sdk.AccountCreateTransaction;
+import com.hedera.hashgraph.sdk.AccountId;
+import com.hedera.hashgraph.sdk.Client;
+import com.hedera.hashgraph.sdk.FileAppendTransaction;
+import com.hedera.hashgraph.sdk.PrivateKey;
+import com.hedera.hashgraph.sdk.Status;
+import com.hedera.hashgraph.sdk.TokenMintTransaction;
+import com.hedera.hashgraph.sdk.TopicMessageSubmitTransaction;
+import com.hedera.hashgraph.sdk.TransactionId;
+import com.hedera.hashgraph.sdk.TransferTransaction;
+import com.openelements.hiero.base.HieroContext;
+import com.openelements.hiero.base.data.Account;
+import com.openelements.hiero.base.data.ListenerDispatchMetrics;
+import com.openelements.hiero.base.data.ListenerOverflowPolicy;
+import com.openelements.hiero.base.implementation.ProtocolLayerClientImpl;
+import com.openelements.hiero.base.protocol.TransactionListener;
+import com.openelements.hiero.base.protocol.data.TransactionType;
+import org.jspecify.annotations.NonNull;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class TransactionListenerDispatchTest {
+
+  private HieroContext context;
+
+  @BeforeEach
+  void setup() {
+    final PrivateKey privateKey = PrivateKey.generateED25519();
+    final Account account =
+        Account.of(AccountId.fromString("0.0.2"), privateKey.getPublicKey(), privateKey);
+    context =
+        new HieroContext() {
+          @Override
+          public @NonNull Account getOperatorAccount() {
+            return account;
+          }
+
+          @Override
+          public @NonNull Client getClient() {
+            return null;
+          }
+        };
+  }
+
+  @Test
+  void shouldResolveTransactionTypeOfTransaction() {
+    Assertions.assertEquals(
+        TransactionType.ACCOUNT_CREATE, TransactionType.from(new AccountCreateTransaction()));
+    Assertions.assertEquals(
+        TransactionType.CRYPTO_TRANSFER, TransactionType.from(new TransferTransaction()));
+    Assertions.assertEquals(
+        TransactionType.FILE_APPEND, TransactionType.from(new FileAppendTransaction()));
+    Assertions.assertEquals(
+        TransactionType.TOKEN_MINT, TransactionType.from(new TokenMintTransaction()));
+    Assertions.assertEquals(
+        TransactionType.TOPIC_MESSAGE_SUBMIT,
+        TransactionType.from(new TopicMessageSubmitTransaction()));
+  }
+
+  @Test
+  void shouldReportEmptyMetricsBeforeFirstEvent() {
+    // given
+    final ProtocolLayerClientImpl client =
+        new ProtocolLayerClientImpl(context, 1000, ListenerOverflowPolicy.DROP);
+
+    // when
+    final ListenerDispatchMetrics metrics = client.getListenerDispatchMetrics();
+
+    // then
+    Assertions.assertEquals(1024, metrics.capacity());
+    Assertions.assertEquals(0, metrics.queued());
+    Assertions.assertEquals(0, metrics.dispatched());
+    Assertions.assertEquals(0, metrics.dropped());
+    client.close();
+  }
+
+  @Test
+  void shouldCloseMoreThanOnce() {
+    // given
+    final ProtocolLayerClientImpl client = new ProtocolLayerClientImpl(context);
+    client.addTransactionListener(
+        new TransactionListener() {
+          @Override
+          public void transactionSubmitted(
+              @NonNull final TransactionType transactionType,
+              @NonNull final TransactionId transactionId) {}
+
+          @Override
+          public void transactionHandled(
+              @NonNull final TransactionType transactionType,
+              @NonNull final TransactionId transactionId,
+              @NonNull final Status transactionStatus) {}
+        });
+
+    // then
+    Assertions.assertDoesNotThrow(client::close);
+    Assertions.assertDoesNotThrow(client::close);
+  }
+
+  @Test
+  void shouldValidateArguments() {
+    Assertions.assertThrows(
+        IllegalArgumentException.class,
+        () -> new ProtocolLayerClientImpl(context, 0, ListenerOverflowPolicy.BLOCK));
+    Assertions.assertThrows(
+        NullPointerException.class, () -> new ProtocolLayerClientImpl(context, 16, null));
+  }
+}
@@ -0,0 +1,202 @@
+package com.openelements.hiero.base.test;
+
+import com.hedera.hashgraph.sdk.Status;
+import com.hedera.hashgraph.sdk.TopicMessageSubmitTransaction;
+import com.hedera.hashgraph.sdk.TransferTransaction;
+import com.openelements.hiero.base.data.TransactionRate;
+import com.openelements.hiero.base.implementation.TransactionRateLimiterImpl;
+import com.openelements.hiero.base.protocol.data.TransactionType;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class TransactionRateLimiterImplTest {
+
+  MutableClock clock;
+
+  TransactionRateLimiterImpl limiter;
+
+  @BeforeEach
+  void setup() {
+    clock = new MutableClock(Instant.parse("2025-01-01T00:00:00Z"));
+    limiter = new TransactionRateLimiterImpl(10, 1, 100, 10, 0.5, clock);
+  }
+
+  @Test
+  void shouldLimitPermitsPerType() {
+    // when
+    for (int i = 0; i < 10; i++) {
+      Assertions.assertTrue(limiter.tryAcquire(TransactionType.CRYPTO_TRANSFER));
+    }
+
+    // then
+    Assertions.assertFalse(limiter.tryAcquire(TransactionType.CRYPTO_TRANSFER));
+    Assertions.assertTrue(limiter.tryAcquire(TransactionType.TOKEN_MINT));
+    clock.advance(Duration.ofMillis(100));
+    Assertions.assertTrue(limiter.tryAcquire(TransactionType.CRYPTO_TRANSFER));
+    Assertions.assertFalse(limiter.tryAcquire(TransactionType.CRYPTO_TRANSFER));
+  }
+
+  @Test
+  void shouldDelayAsyncPermitWhenBucketIsEmpty() throws Exception {
+    // given
+    for (int i = 0; i < 10; i++) {
+      limiter.acquire(TransactionType.CRYPTO_TRANSFER);
+    }
+
+    // when
+    final CompletableFuture<Void> permit = limiter.acquireAsync(TransactionType.CRYPTO_TRANSFER);
+
+    // then
+    Assertions.assertFalse(permit.isDone());
+    permit.get(5, TimeUnit.SECONDS);
+    final TransactionRate rate = limiter.getRates().get(0);
+    Assertions.assertEquals(-1, rate.availablePermits(), 0.0001);
+  }
+
+  @Test
+  void shouldDecreaseRateOnThrottle() {
+    // when
+    limiter.recordStatus(TransactionType.CRYPTO_TRANSFER, Status.BUSY);
+    limiter.recordStatus(TransactionType.CRYPTO_TRANSFER, Status.BUSY);
+
+    // then
+    TransactionRate rate = limiter.getRates().get(0);
+    Assertions.assertEquals(5, rate.permitsPerSecond(), 0.0001);
+    Assertions.assertEquals(2, rate.throttled());
+
+    // when
+    clock.advance(Duration.ofSeconds(1));
+    limiter.recordStatus(TransactionType.CRYPTO_TRANSFER, Status.CONSENSUS_GAS_EXHAUSTED);
+
+    // then
+    rate = limiter.getRates().get(0);
+    Assertions.assertEquals(2.5, rate.permitsPerSecond(), 0.0001);
+    Assertions.assertTrue(rate.availablePermits() <= 2.5);
+  }
+
+  @Test
+  void shouldDecreaseRateOnConsensusThrottle() {
+    // when
+    limiter.recordStatus(TransactionType.TOKEN_MINT, Status.THROTTLED_AT_CONSENSUS);
+
+    // then
+    final TransactionRate rate = limiter.getRates().get(0);
+    Assertions.assertEquals(TransactionType.TOKEN_MINT, rate.type());
+    Assertions.assertEquals(5, rate.permitsPerSecond(), 0.0001);
+    Assertions.assertEquals(1, rate.throttled());
+  }
+
+  @Test
+  void shouldIncreaseRateAdditively() {
+    // given
+    final TransactionRateLimiterImpl limiter =
+        new TransactionRateLimiterImpl(10, 1, 100, 1, 0.5, clock);
+
+    // when one second of traffic succeeded
+    for (int i = 0; i < 10; i++) {
+      limiter.recordStatus(TransactionType.CRYPTO_TRANSFER, Status.SUCCESS);
+    }
+
+    // then
+    final double rate = limiter.getRates().get(0).permitsPerSecond();
+    Assertions.assertTrue(rate > 10.9 && rate < 11, "rate was " + rate);
+  }
+
+  @Test
+  void shouldOnlyIncreaseRateOnSuccess() {
+    // when
+    limiter.recordStatus(TransactionType.CRYPTO_TRANSFER, Status.OK);
+    limiter.recordStatus(TransactionType.CRYPTO_TRANSFER, Status.INSUFFICIENT_PAYER_BALANCE);
+    limiter.recordStatus(TransactionType.CRYPTO_TRANSFER, Status.UNKNOWN);
+
+    // then
+    Assertions.assertEquals(10, limiter.getRates().get(0).permitsPerSecond(), 0.0001);
+
+    // when
+    limiter.recordStatus(TransactionType.CRYPTO_TRANSFER, Status.SUCCESS);
+
+    // then
+    Assertions.assertEquals(11, limiter.getRates().get(0).permitsPerSecond(), 0.0001);
+  }
+
+  @Test
+  void shouldNotExceedLimits() {
+    // given
+    final TransactionRateLimiterImpl limiter =
+        new TransactionRateLimiterImpl(2, 1, 2, 100, 0.1, clock);
+
+    // when
+    limiter.recordStatus(TransactionType.TOKEN_MINT, Status.SUCCESS);
+    limiter.recordStatus(TransactionType.CRYPTO_TRANSFER, Status.BUSY);
+
+    // then
+    final List<TransactionRate> rates = limiter.getRates();
+    Assertions.assertEquals(TransactionType.CRYPTO_TRANSFER, rates.get(0).type());
+    Assertions.assertEquals(1, rates.get(0).permitsPerSecond(), 0.0001);
+    Assertions.assertEquals(TransactionType.TOKEN_MINT, rates.get(1).type());
+    Assertions.assertEquals(2, rates.get(1).permitsPerSecond(), 0.0001);
+  }
+
+  @Test
+  void shouldMapSdkTransactionsToTypes() {
+    Assertions.assertEquals(
+        TransactionType.CRYPTO_TRANSFER, TransactionType.from(new TransferTransaction()));
+    Assertions.assertEquals(
+        TransactionType.TOPIC_MESSAGE_SUBMIT,
+        TransactionType.from(new TopicMessageSubmitTransaction()));
+  }
+
+  @Test
+  void shouldValidateArguments() {
+    Assertions.assertThrows(
+        IllegalArgumentException.class,
+        () -> new TransactionRateLimiterImpl(10, 0, 100, 1, 0.5, clock));
+    Assertions.assertThrows(
+        IllegalArgumentException.class,
+        () -> new TransactionRateLimiterImpl(200, 1, 100, 1, 0.5, clock));
+    Assertions.assertThrows(
+        IllegalArgumentException.class,
+        () -> new TransactionRateLimiterImpl(10, 1, 100, 1, 1, clock));
+    Assertions.assertThrows(NullPointerException.class, () -> limiter.tryAcquire(null));
+    Assertions.assertThrows(
+        NullPointerException.class,
+        () -> limiter.recordStatus(TransactionType.CRYPTO_TRANSFER, null));
+  }
+
+  private static final class MutableClock extends Clock {
+
+    private Instant instant;
+
+    private MutableClock(final Instant instant) {
+      this.instant = instant;
+    }
+
+    private void advance(final Duration duration) {
+      instant = instant.plus(duration);
+    }
+
+    @Override
+    public ZoneId getZone() {
+      return ZoneOffset.UTC;
+    }
+
+    @Override
+    public Clock withZone(final ZoneId zone) {
+      return this;
+    }
+
+    @Override
+    public Instant instant() {
+      return instant;
+    }
+  }
+}
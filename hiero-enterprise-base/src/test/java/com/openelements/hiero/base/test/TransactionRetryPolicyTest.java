@@ -0,0 +1,77 @@
+package com.openelements.hiero.base.test;
+
+import com.hedera.hashgraph.sdk.AccountId;
+import com.hedera.hashgraph.sdk.PrecheckStatusException;
+import com.hedera.hashgraph.sdk.Status;
+import com.hedera.hashgraph.sdk.TransactionId;
+import com.openelements.hiero.base.HieroException;
+import com.openelements.hiero.base.config.TransactionRetryPolicy;
+import java.lang.reflect.Constructor;
+import java.time.Duration;
+import java.util.concurrent.TimeoutException;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class TransactionRetryPolicyTest {
+
+  @Test
+  void shouldDoubleBackoffUpToMaximum() {
+    // given
+    final TransactionRetryPolicy policy =
+        TransactionRetryPolicy.of(10, Duration.ofMillis(100), Duration.ofMillis(500));
+
+    // then
+    Assertions.assertEquals(Duration.ofMillis(100), policy.backoff(1));
+    Assertions.assertEquals(Duration.ofMillis(200), policy.backoff(2));
+    Assertions.assertEquals(Duration.ofMillis(400), policy.backoff(3));
+    Assertions.assertEquals(Duration.ofMillis(500), policy.backoff(4));
+    Assertions.assertEquals(Duration.ofMillis(500), policy.backoff(1000));
+  }
+
+  @Test
+  void shouldDetectTransientFailures() throws Exception {
+    // given
+    final TransactionRetryPolicy policy = TransactionRetryPolicy.DEFAULT;
+
+    // then
+    Assertions.assertTrue(policy.isTransient(precheckFailure(Status.BUSY)));
+    Assertions.assertTrue(policy.isTransient(precheckFailure(Status.PLATFORM_NOT_ACTIVE)));
+    Assertions.assertTrue(
+        policy.isTransient(new HieroException("failed", new TimeoutException("timeout"))));
+    Assertions.assertFalse(policy.isTransient(precheckFailure(Status.INVALID_SIGNATURE)));
+    Assertions.assertFalse(policy.isTransient(precheckFailure(Status.DUPLICATE_TRANSACTION)));
+    Assertions.assertFalse(policy.isTransient(new IllegalStateException("failed")));
+  }
+
+  @Test
+  void shouldNotRetryWithNonePolicy() {
+    Assertions.assertEquals(1, TransactionRetryPolicy.NONE.maxAttempts());
+    Assertions.assertEquals(3, TransactionRetryPolicy.DEFAULT.maxAttempts());
+  }
+
+  @Test
+  void shouldValidateArguments() {
+    Assertions.assertThrows(
+        IllegalArgumentException.class,
+        () -> TransactionRetryPolicy.of(0, Duration.ZERO, Duration.ZERO));
+    Assertions.assertThrows(
+        IllegalArgumentException.class,
+        () -> TransactionRetryPolicy.of(1, Duration.ofSeconds(2), Duration.ofSeconds(1)));
+    Assertions.assertThrows(
+        IllegalArgumentException.class,
+        () -> TransactionRetryPolicy.of(1, Duration.ofSeconds(-1), Duration.ofSeconds(1)));
+    Assertions.assertThrows(
+        NullPointerException.class, () -> TransactionRetryPolicy.of(1, null, Duration.ZERO));
+    Assertions.assertThrows(
+        IllegalArgumentException.class, () -> TransactionRetryPolicy.DEFAULT.backoff(0));
+    Assertions.assertThrows(
+        NullPointerException.class, () -> TransactionRetryPolicy.DEFAULT.isTransient(null));
+  }
+
+  private static PrecheckStatusException precheckFailure(final Status status) throws Exception {
+    final Constructor<PrecheckStatusException> constructor =
+        PrecheckStatusException.class.getDeclaredConstructor(Status.class, TransactionId.class);
+    constructor.setAccessible(true);
+    return constructor.newInstance(status, TransactionId.generate(AccountId.fromString("0.0.2")));
+  }
+}
@@ -0,0 +1,131 @@
+package com.openelements.hiero.base.test;
+
+import com.hedera.hashgraph.sdk.Transaction;
+import com.openelements.hiero.base.protocol.data.TransactionType;
+import java.util.EnumSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class TransactionTypeTest {
+
+  /** Types that have no transaction class in the SDK. */
+  private static final Set<TransactionType> WITHOUT_TRANSACTION_CLASS =
+      EnumSet.of(
+          TransactionType.NODE,
+          TransactionType.NODE_STAKE_UPDATE,
+          TransactionType.UNCHECKED_SUBMIT,
+          TransactionType.UNKNOWN);
+
+  /** Types whose transaction class is newer than the SDK version of the project. */
+  private static final Set<TransactionType> NEWER_THAN_SDK =
+      EnumSet.of(
+          TransactionType.TOKEN_REJECT,
+          TransactionType.TOKEN_AIRDROP,
+          TransactionType.TOKEN_CLAIM_AIRDROP,
+          TransactionType.TOKEN_CANCEL_AIRDROP,
+          TransactionType.CREATE_NODE,
+          TransactionType.UPDATE_NODE,
+          TransactionType.DELETE_NODE);
+
+  private static final Map<TransactionType, String> TRANSACTION_CLASSES =
+      Map.ofEntries(
+          Map.entry(TransactionType.ACCOUNT_CREATE, "AccountCreateTransaction"),
+          Map.entry(TransactionType.ACCOUNT_DELETE, "AccountDeleteTransaction"),
+          Map.entry(TransactionType.ACCOUNT_UPDATE, "AccountUpdateTransaction"),
+          Map.entry(TransactionType.ALLOWANCE_APPROVAL, "AccountAllowanceApproveTransaction"),
+          Map.entry(TransactionType.ALLOWANCE_DELETION, "AccountAllowanceDeleteTransaction"),
+          Map.entry(TransactionType.CRYPTO_TRANSFER, "TransferTransaction"),
+          Map.entry(TransactionType.ADD_LIVE_HASH, "LiveHashAddTransaction"),
+          Map.entry(TransactionType.DELETE_LIVE_HASH, "LiveHashDeleteTransaction"),
+          Map.entry(TransactionType.TOPIC_CREATE, "TopicCreateTransaction"),
+          Map.entry(TransactionType.TOPIC_UPDATE, "TopicUpdateTransaction"),
+          Map.entry(TransactionType.TOPIC_MESSAGE_SUBMIT, "TopicMessageSubmitTransaction"),
+          Map.entry(TransactionType.TOPIC_DELETE, "TopicDeleteTransaction"),
+          Map.entry(TransactionType.TOKEN_CREATE, "TokenCreateTransaction"),
+          Map.entry(TransactionType.TOKEN_UPDATE, "TokenUpdateTransaction"),
+          Map.entry(TransactionType.TOKEN_DELETE, "TokenDeleteTransaction"),
+          Map.entry(TransactionType.TOKEN_ASSOCIATE, "TokenAssociateTransaction"),
+          Map.entry(TransactionType.TOKEN_DISSOCIATE, "TokenDissociateTransaction"),
+          Map.entry(TransactionType.TOKEN_MINT, "TokenMintTransaction"),
+          Map.entry(TransactionType.TOKEN_BURN, "TokenBurnTransaction"),
+          Map.entry(TransactionType.TOKEN_FREEZE, "TokenFreezeTransaction"),
+          Map.entry(TransactionType.TOKEN_FEE_SCHEDULE_UPDATE, "TokenFeeScheduleUpdateTransaction"),
+          Map.entry(TransactionType.TOKEN_UNFREEZE, "TokenUnfreezeTransaction"),
+          Map.entry(TransactionType.TOKEN_GRANT_KYC, "TokenGrantKycTransaction"),
+          Map.entry(TransactionType.TOKEN_REVOKE_KYC, "TokenRevokeKycTransaction"),
+          Map.entry(TransactionType.TOKEN_PAUSE, "TokenPauseTransaction"),
+          Map.entry(TransactionType.TOKEN_UNPAUSE, "TokenUnpauseTransaction"),
+          Map.entry(TransactionType.TOKEN_REJECT, "TokenRejectTransaction"),
+          Map.entry(TransactionType.TOKEN_WIPE, "TokenWipeTransaction"),
+          Map.entry(TransactionType.TOKEN_AIRDROP, "TokenAirdropTransaction"),
+          Map.entry(TransactionType.TOKEN_CLAIM_AIRDROP, "TokenClaimAirdropTransaction"),
+          Map.entry(TransactionType.TOKEN_CANCEL_AIRDROP, "TokenCancelAirdropTransaction"),
+          Map.entry(TransactionType.NFT_UPDATE, "TokenUpdateNftsTransaction"),
+          Map.entry(TransactionType.FILE_CREATE, "FileCreateTransaction"),
+          Map.entry(TransactionType.FILE_APPEND, "FileAppendTransaction"),
+          Map.entry(TransactionType.FILE_UPDATE, "FileUpdateTransaction"),
+          Map.entry(TransactionType.FILE_DELETE, "FileDeleteTransaction"),
+          Map.entry(TransactionType.FREEZE, "FreezeTransaction"),
+          Map.entry(TransactionType.CREATE_NODE, "NodeCreateTransaction"),
+          Map.entry(TransactionType.DELETE_NODE, "NodeDeleteTransaction"),
+          Map.entry(TransactionType.UPDATE_NODE, "NodeUpdateTransaction"),
+          Map.entry(TransactionType.CREATE_SCHEDULE, "ScheduleCreateTransaction"),
+          Map.entry(TransactionType.DELETE_SCHEDULE, "ScheduleDeleteTransaction"),
+          Map.entry(TransactionType.SIGN_SCHEDULE, "ScheduleSignTransaction"),
+          Map.entry(TransactionType.DELETE_SYSTEM, "SystemDeleteTransaction"),
+          Map.entry(TransactionType.UNDELETE_SYSTEM, "SystemUndeleteTransaction"),
+          Map.entry(TransactionType.CONTRACT_CREATE, "ContractCreateTransaction"),
+          Map.entry(TransactionType.CONTRACT_UPDATE, "ContractUpdateTransaction"),
+          Map.entry(TransactionType.CONTRACT_DELETE, "ContractDeleteTransaction"),
+          Map.entry(TransactionType.CONTRACT_CALL, "ContractExecuteTransaction"),
+          Map.entry(TransactionType.ETHEREUM, "EthereumTransaction"),
+          Map.entry(TransactionType.UTILPRNG, "PrngTransaction"));
+
+  @Test
+  void shouldKnowTransactionClassOfEveryType() {
+    for (final TransactionType type : TransactionType.values()) {
+      Assertions.assertNotEquals(
+          TRANSACTION_CLASSES.containsKey(type),
+          WITHOUT_TRANSACTION_CLASS.contains(type),
+          "transaction class of " + type);
+    }
+  }
+
+  @Test
+  void shouldMapEveryTransactionClassOfSdk() throws Exception {
+    for (final Map.Entry<TransactionType, String> entry : TRANSACTION_CLASSES.entrySet()) {
+      // given
+      final TransactionType type = entry.getKey();
+      final Class<?> transactionClass = transactionClass(entry.getValue());
+      if (transactionClass == null) {
+        Assertions.assertTrue(NEWER_THAN_SDK.contains(type), entry.getValue() + " not found");
+        continue;
+      }
+
+      // when
+      final Transaction<?> transaction =
+          (Transaction<?>) transactionClass.getConstructor().newInstance();
+
+      // then
+      Assertions.assertEquals(type, TransactionType.from(transaction), entry.getValue());
+    }
+  }
+
+  @Test
+  void shouldMapTypeNames() {
+    Stream.of(TransactionType.values())
+        .forEach(type -> Assertions.assertEquals(type, TransactionType.from(type.getType())));
+    Assertions.assertEquals(TransactionType.UNKNOWN, TransactionType.from("NOT_A_TYPE"));
+  }
+
+  private static Class<?> transactionClass(final String simpleName) {
+    try {
+      return Class.forName(Transaction.class.getPackageName() + "." + simpleName);
+    } catch (final ClassNotFoundException e) {
+      return null;
+    }
+  }
+}
@@ -0,0 +1,94 @@
+package com.openelements.hiero.benchmarks;
+
+import com.google.protobuf.ByteString;
+import com.hedera.hashgraph.sdk.AccountId;
+import com.hedera.hashgraph.sdk.ContractCreateTransaction;
+import com.hedera.hashgraph.sdk.ContractFunctionParameters;
+import com.hedera.hashgraph.sdk.ContractId;
+import com.openelements.hiero.base.data.ContractParam;
+import java.math.BigInteger;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks the creation of {@link ContractParam} instances and their encoding into {@link
+ * ContractFunctionParameters}, as done for every contract create and contract call.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class ContractParamBenchmark {
+
+  private final AccountId account = AccountId.fromString("0.0.4500000");
+
+  private final ContractId contract = ContractId.fromString("0.0.4800000");
+
+  private final BigInteger amount = new BigInteger("1000000000000000000000");
+
+  private final byte[] hash = new byte[32];
+
+  private List<ContractParam<?>> params;
+
+  @Setup
+  public void setup() {
+    params = createParams();
+  }
+
+  @Benchmark
+  public List<ContractParam<?>> create() {
+    return createParams();
+  }
+
+  @Benchmark
+  public ByteString encode() {
+    return encode(createParameters(params));
+  }
+
+  @Benchmark
+  public ByteString createAndEncode() {
+    return encode(createParameters(createParams()));
+  }
+
+  private List<ContractParam<?>> createParams() {
+    return List.of(
+        ContractParam.string("Hiero Enterprise"),
+        ContractParam.address(account),
+        ContractParam.address(contract),
+        ContractParam.uint256(amount),
+        ContractParam.int64(-42L),
+        ContractParam.bool(true),
+        ContractParam.bytes32(hash));
+  }
+
+  /** Encodes the parameters like a contract create transaction does. */
+  private static ByteString encode(final ContractFunctionParameters functionParameters) {
+    return new ContractCreateTransaction()
+        .setConstructorParameters(functionParameters)
+        .getConstructorParameters();
+  }
+
+  /** Same encoding as {@code ProtocolLayerClientImpl.createParameters}. */
+  private static ContractFunctionParameters createParameters(final List<ContractParam<?>> params) {
+    final ContractFunctionParameters functionParameters = new ContractFunctionParameters();
+    params.forEach(param -> addParam(param, functionParameters));
+    return functionParameters;
+  }
+
+  private static <T> void addParam(
+      final ContractParam<T> param, final ContractFunctionParameters functionParameters) {
+    param.supplier().addParamToFunctionParameters(param.value(), functionParameters);
+  }
+}
@@ -0,0 +1,122 @@
+package com.openelements.hiero.benchmarks;
+
+import com.hedera.hashgraph.sdk.AccountId;
+import com.hedera.hashgraph.sdk.Client;
+import com.hedera.hashgraph.sdk.PrivateKey;
+import com.hedera.hashgraph.sdk.TokenId;
+import com.openelements.hiero.base.HieroContext;
+import com.openelements.hiero.base.HieroException;
+import com.openelements.hiero.base.data.Account;
+import com.openelements.hiero.base.data.AccountInfo;
+import com.openelements.hiero.base.implementation.ProtocolLayerClientImpl;
+import com.openelements.hiero.base.protocol.data.TokenTransferRequest;
+import com.openelements.hiero.base.protocol.data.TokenTransferResult;
+import com.openelements.hiero.spring.implementation.HieroMirrorNodeClientProperties;
+import com.openelements.hiero.spring.implementation.MirrorNodeClientImpl;
+import com.openelements.hiero.spring.implementation.MirrorNodeHttpClients;
+import com.openelements.hiero.test.fake.FakeConsensusNode;
+import com.openelements.hiero.test.fake.FakeMirrorNode;
+import com.openelements.hiero.test.fake.LatencyDistribution;
+import com.openelements.hiero.test.fake.NodeBehavior;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.web.client.RestClient;
+
+/**
+ * Load test of the complete client stack against a {@link FakeConsensusNode} and a {@link
+ * FakeMirrorNode} with a log-normal latency (median 1 ms, p99 10 ms). Several threads send calls at
+ * the same time and JMH reports the latency percentiles, so the effect of throttling on the tail
+ * latency becomes visible.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(1)
+@Threads(16)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 3, time = 5)
+public class FakeNetworkLoadBenchmark {
+
+  private final TokenId tokenId = TokenId.fromString("0.0.4800000");
+
+  private final AccountId receiver = AccountId.fromString("0.0.4500000");
+
+  @Param({"0", "0.01"})
+  private double throttleRate;
+
+  private Account operator;
+
+  private FakeConsensusNode node;
+
+  private FakeMirrorNode mirrorNode;
+
+  private Client client;
+
+  private ProtocolLayerClientImpl protocolLayerClient;
+
+  private MirrorNodeClientImpl mirrorNodeClient;
+
+  @Setup
+  public void setup() {
+    final NodeBehavior behavior =
+        new NodeBehavior(
+            LatencyDistribution.logNormal(Duration.ofMillis(1), Duration.ofMillis(10)),
+            throttleRate,
+            0);
+    operator = Account.of(AccountId.fromString("0.0.2"), PrivateKey.generateED25519());
+    node = new FakeConsensusNode();
+    node.setBehavior(behavior);
+    mirrorNode = new FakeMirrorNode();
+    mirrorNode.setBehavior(behavior);
+    final HieroContext context = node.createContext(operator);
+    client = context.getClient();
+    protocolLayerClient = new ProtocolLayerClientImpl(context);
+    mirrorNodeClient =
+        new MirrorNodeClientImpl(
+            RestClient.builder()
+                .baseUrl(mirrorNode.getBaseUrl())
+                .requestFactory(
+                    MirrorNodeHttpClients.createRequestFactory(
+                        new HieroMirrorNodeClientProperties()))
+                .build());
+  }
+
+  @TearDown
+  public void tearDown() throws Exception {
+    protocolLayerClient.close();
+    client.close();
+    node.close();
+    mirrorNode.close();
+  }
+
+  @Benchmark
+  public TokenTransferResult transfer() throws HieroException {
+    return protocolLayerClient.executeTransferTransaction(
+        TokenTransferRequest.of(
+            tokenId, operator.accountId(), receiver, operator.privateKey(), 1L));
+  }
+
+  /** A throttled mirror node call fails, the failure is part of the measured latency. */
+  @Benchmark
+  public Optional<AccountInfo> queryAccount() {
+    try {
+      return mirrorNodeClient.queryAccount(receiver);
+    } catch (final HieroException | RuntimeException e) {
+      return Optional.empty();
+    }
+  }
+}
@@ -0,0 +1,101 @@
+package com.openelements.hiero.benchmarks;
+
+import com.hedera.hashgraph.sdk.AccountId;
+import com.hedera.hashgraph.sdk.FileId;
+import com.hedera.hashgraph.sdk.Status;
+import com.hedera.hashgraph.sdk.TransactionId;
+import com.openelements.hiero.base.implementation.FileClientImpl;
+import com.openelements.hiero.base.protocol.ProtocolLayerClient;
+import com.openelements.hiero.base.protocol.data.FileAppendRequest;
+import com.openelements.hiero.base.protocol.data.FileAppendResult;
+import com.openelements.hiero.base.protocol.data.FileCreateResult;
+import java.io.ByteArrayInputStream;
+import java.lang.reflect.Proxy;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks how {@link FileClientImpl} splits file contents into a file create and file append
+ * requests. The protocol layer is a stub that accepts every request, so only the chunking is
+ * measured.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class FileClientBenchmark {
+
+  private static final FileId FILE_ID = FileId.fromString("0.0.4900000");
+
+  private static final TransactionId TRANSACTION_ID =
+      TransactionId.generate(AccountId.fromString("0.0.2"));
+
+  @Param({"4096", "1024000"})
+  private int size;
+
+  private byte[] contents;
+
+  private FileClientImpl fileClient;
+
+  @Setup
+  public void setup() {
+    contents = new byte[size];
+    new Random(42).nextBytes(contents);
+    fileClient = new FileClientImpl(createProtocolLayerClient());
+  }
+
+  @Benchmark
+  public FileId createFile() throws Exception {
+    return fileClient.createFile(contents);
+  }
+
+  @Benchmark
+  public FileId createFileFromBuffer() throws Exception {
+    return fileClient.createFileFrom(ByteBuffer.wrap(contents).asReadOnlyBuffer());
+  }
+
+  @Benchmark
+  public FileId createFileFromStream() throws Exception {
+    return fileClient.createFileFrom(new ByteArrayInputStream(contents));
+  }
+
+  private static ProtocolLayerClient createProtocolLayerClient() {
+    return (ProtocolLayerClient)
+        Proxy.newProxyInstance(
+            FileClientBenchmark.class.getClassLoader(),
+            new Class<?>[] {ProtocolLayerClient.class},
+            (proxy, method, args) ->
+                switch (method.getName()) {
+                  case "executeFileCreateTransaction" ->
+                      new FileCreateResult(TRANSACTION_ID, Status.SUCCESS, FILE_ID);
+                  case "executeFileAppendRequestTransactionsAsync" -> append(args[0]);
+                  default -> throw new UnsupportedOperationException(method.getName());
+                });
+  }
+
+  @SuppressWarnings("unchecked")
+  private static CompletableFuture<List<FileAppendResult>> append(final Object requests) {
+    final List<FileAppendResult> results = new ArrayList<>();
+    for (final FileAppendRequest request : (Iterable<FileAppendRequest>) requests) {
+      results.add(new FileAppendResult(TRANSACTION_ID, Status.SUCCESS));
+    }
+    return CompletableFuture.completedFuture(results);
+  }
+}
@@ -0,0 +1,82 @@
+package com.openelements.hiero.benchmarks;
+
+import com.hedera.hashgraph.sdk.AccountId;
+import com.hedera.hashgraph.sdk.Client;
+import com.hedera.hashgraph.sdk.FileId;
+import com.hedera.hashgraph.sdk.PrivateKey;
+import com.openelements.hiero.base.HieroContext;
+import com.openelements.hiero.base.HieroException;
+import com.openelements.hiero.base.data.Account;
+import com.openelements.hiero.base.implementation.FileClientImpl;
+import com.openelements.hiero.base.implementation.ProtocolLayerClientImpl;
+import com.openelements.hiero.base.protocol.data.FileCreateRequest;
+import com.openelements.hiero.test.fake.FakeConsensusNode;
+import java.nio.ByteBuffer;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks reading a file of the maximum size (about 1 MB) as a byte array, which copies the
+ * contents, and as a read-only buffer that shares the contents of the response. Run it with {@code
+ * -prof gc} to compare the allocation per operation.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class FileReadBenchmark {
+
+  private FakeConsensusNode node;
+
+  private Client client;
+
+  private ProtocolLayerClientImpl protocolLayerClient;
+
+  private FileClientImpl fileClient;
+
+  private FileId fileId;
+
+  @Setup
+  public void setup() throws HieroException {
+    final byte[] contents = new byte[FileCreateRequest.FILE_MAX_SIZE];
+    new Random(42).nextBytes(contents);
+    final Account operator =
+        Account.of(AccountId.fromString("0.0.2"), PrivateKey.generateED25519());
+    node = new FakeConsensusNode();
+    final HieroContext context = node.createContext(operator);
+    client = context.getClient();
+    protocolLayerClient = new ProtocolLayerClientImpl(context);
+    fileClient = new FileClientImpl(protocolLayerClient);
+    fileId = fileClient.createFile(contents);
+  }
+
+  @TearDown
+  public void tearDown() throws Exception {
+    protocolLayerClient.close();
+    client.close();
+    node.close();
+  }
+
+  @Benchmark
+  public byte[] readFile() throws Exception {
+    return fileClient.readFile(fileId);
+  }
+
+  @Benchmark
+  public ByteBuffer readFileAsByteBuffer() throws Exception {
+    return fileClient.readFileAsByteBuffer(fileId);
+  }
+}
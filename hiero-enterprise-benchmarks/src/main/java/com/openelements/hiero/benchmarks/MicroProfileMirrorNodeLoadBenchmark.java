@@ -0,0 +1,113 @@
+package com.openelements.hiero.benchmarks;
+
+import com.hedera.hashgraph.sdk.AccountId;
+import com.openelements.hiero.base.HieroException;
+import com.openelements.hiero.base.data.AccountInfo;
+import com.openelements.hiero.base.data.Page;
+import com.openelements.hiero.base.data.Token;
+import com.openelements.hiero.microprofile.implementation.MirrorNodeClientImpl;
+import com.openelements.hiero.microprofile.implementation.MirrorNodeHttpClient;
+import com.openelements.hiero.microprofile.implementation.MirrorNodeJsonConverterImpl;
+import com.openelements.hiero.microprofile.implementation.MirrorNodeRestClientImpl;
+import com.openelements.hiero.test.fake.FakeMirrorNode;
+import com.openelements.hiero.test.fake.LatencyDistribution;
+import com.openelements.hiero.test.fake.NodeBehavior;
+import com.sun.management.UnixOperatingSystemMXBean;
+import java.lang.management.ManagementFactory;
+import java.lang.management.OperatingSystemMXBean;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Long running load test of the MicroProfile mirror node client against a {@link FakeMirrorNode}
+ * with a log-normal latency (median 1 ms, p99 10 ms). After every iteration the number of open file
+ * descriptors of the process and the number of connections the mirror node has seen are printed.
+ * With the shared JAX-RS client both numbers stay flat, as do the latency percentiles of the
+ * iterations. The keep-alive cache of the JDK, that is used by the default connector of Jersey, is
+ * sized to the number of threads, otherwise it keeps only 5 idle connections and the other
+ * connections are closed and opened again. Use {@code -i} and {@code -r} to make the run longer.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(value = 1, jvmArgsAppend = "-Dhttp.maxConnections=16")
+@Threads(16)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 10, time = 10)
+public class MicroProfileMirrorNodeLoadBenchmark {
+
+  private final AccountId accountId = AccountId.fromString("0.0.4500000");
+
+  private FakeMirrorNode mirrorNode;
+
+  private MirrorNodeHttpClient httpClient;
+
+  private MirrorNodeClientImpl mirrorNodeClient;
+
+  @Setup
+  public void setup() {
+    mirrorNode = new FakeMirrorNode();
+    mirrorNode.setBehavior(
+        NodeBehavior.of(
+            LatencyDistribution.logNormal(Duration.ofMillis(1), Duration.ofMillis(10))));
+    mirrorNode.setPageCount(3);
+    httpClient =
+        new MirrorNodeHttpClient(
+            MirrorNodeHttpClient.createClient(5_000, 30_000, true), mirrorNode.getBaseUrl(), 50);
+    mirrorNodeClient =
+        new MirrorNodeClientImpl(
+            new MirrorNodeRestClientImpl(httpClient), new MirrorNodeJsonConverterImpl());
+  }
+
+  @TearDown(Level.Iteration)
+  public void printResources() {
+    System.out.printf(
+        "%nopen file descriptors: %d, mirror node connections: %d%n",
+        openFileDescriptors(), mirrorNode.getConnectionCount());
+  }
+
+  @TearDown
+  public void tearDown() {
+    httpClient.close();
+    mirrorNode.close();
+  }
+
+  @Benchmark
+  public Optional<AccountInfo> queryAccount() throws HieroException {
+    return mirrorNodeClient.queryAccount(accountId);
+  }
+
+  /** Reads all pages of a paged query, every page is a request. */
+  @Benchmark
+  public int readAllPages() throws HieroException {
+    Page<Token> page = mirrorNodeClient.queryTokensForAccount(accountId);
+    int count = page.getSize();
+    while (page.hasNext()) {
+      page = page.next();
+      count += page.getSize();
+    }
+    return count;
+  }
+
+  private static long openFileDescriptors() {
+    final OperatingSystemMXBean bean = ManagementFactory.getOperatingSystemMXBean();
+    if (bean instanceof UnixOperatingSystemMXBean unixBean) {
+      return unixBean.getOpenFileDescriptorCount();
+    }
+    return -1;
+  }
+}
@@ -0,0 +1,74 @@
+package com.openelements.hiero.benchmarks;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.Objects;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Local HTTP server that serves a paged mirror node endpoint. Every page contains the same data and
+ * links to the next page until the configured number of pages is reached, so paging can be
+ * benchmarked without network access.
+ */
+final class MirrorNodeHttpStub implements AutoCloseable {
+
+  static final String PATH = "/api/v1/tokens";
+
+  private final HttpServer server;
+
+  private final ExecutorService executor;
+
+  private final byte[][] pages;
+
+  MirrorNodeHttpStub(final String payload, final int pageCount) {
+    Objects.requireNonNull(payload, "payload must not be null");
+    if (pageCount < 1) {
+      throw new IllegalArgumentException("pageCount must be positive");
+    }
+    pages = new byte[pageCount][];
+    for (int i = 0; i < pageCount; i++) {
+      final String next = i + 1 < pageCount ? "\"" + PATH + "?page=" + (i + 1) + "\"" : "null";
+      pages[i] =
+          payload
+              .replaceFirst("\"next\"\\s*:\\s*(\"[^\"]*\"|null)", "\"next\": " + next)
+              .getBytes(StandardCharsets.UTF_8);
+    }
+    try {
+      server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+    } catch (final IOException e) {
+      throw new UncheckedIOException("Failed to create HTTP server", e);
+    }
+    executor = Executors.newFixedThreadPool(4);
+    server.setExecutor(executor);
+    server.createContext(PATH, this::handle);
+    server.start();
+  }
+
+  String getBaseUrl() {
+    return "http://" + server.getAddress().getHostString() + ":" + server.getAddress().getPort();
+  }
+
+  private void handle(final HttpExchange exchange) throws IOException {
+    final String query = exchange.getRequestURI().getRawQuery();
+    final int index = query == null ? 0 : Integer.parseInt(query.substring("page=".length()));
+    final byte[] body = pages[index];
+    exchange.getResponseHeaders().set("Content-Type", "application/json");
+    exchange.sendResponseHeaders(200, body.length);
+    try (OutputStream outputStream = exchange.getResponseBody()) {
+      outputStream.write(body);
+    }
+  }
+
+  @Override
+  public void close() {
+    server.stop(0);
+    executor.shutdownNow();
+  }
+}
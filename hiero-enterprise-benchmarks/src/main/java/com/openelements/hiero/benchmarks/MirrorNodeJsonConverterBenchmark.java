@@ -0,0 +1,83 @@
+package com.openelements.hiero.benchmarks;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.openelements.hiero.base.implementation.MirrorNodeJsonConverter;
+import jakarta.json.Json;
+import jakarta.json.JsonReader;
+import jakarta.json.JsonReaderFactory;
+import java.io.StringReader;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks the Spring (Jackson) and MicroProfile (JSON-P) implementations of {@link
+ * MirrorNodeJsonConverter}. Each operation parses a mirror node response and converts it to the
+ * data types of Hiero, like the mirror node clients do for every call.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class MirrorNodeJsonConverterBenchmark {
+
+  @Param({"balances", "tokens", "account", "exchange-rate"})
+  private String payload;
+
+  private String json;
+
+  private ObjectMapper objectMapper;
+
+  private JsonReaderFactory readerFactory;
+
+  private com.openelements.hiero.spring.implementation.MirrorNodeJsonConverterImpl springConverter;
+
+  private com.openelements.hiero.microprofile.implementation.MirrorNodeJsonConverterImpl
+      microprofileConverter;
+
+  @Setup
+  public void setup() {
+    json = Payloads.read(payload);
+    objectMapper = new ObjectMapper();
+    readerFactory = Json.createReaderFactory(Map.of());
+    springConverter =
+        new com.openelements.hiero.spring.implementation.MirrorNodeJsonConverterImpl();
+    microprofileConverter =
+        new com.openelements.hiero.microprofile.implementation.MirrorNodeJsonConverterImpl();
+  }
+
+  @Benchmark
+  public Object spring() throws JsonProcessingException {
+    return convert(springConverter, objectMapper.readTree(json));
+  }
+
+  @Benchmark
+  public Object microprofile() {
+    try (JsonReader reader = readerFactory.createReader(new StringReader(json))) {
+      return convert(microprofileConverter, reader.readObject());
+    }
+  }
+
+  private <J> Object convert(final MirrorNodeJsonConverter<J> converter, final J node) {
+    return switch (payload) {
+      case "balances" -> converter.toBalances(node);
+      case "tokens" -> converter.toTokens(node);
+      case "account" -> converter.toAccountInfo(node);
+      case "exchange-rate" -> converter.toExchangeRates(node);
+      default -> throw new IllegalStateException("Unknown payload: " + payload);
+    };
+  }
+}
@@ -0,0 +1,127 @@
+package com.openelements.hiero.benchmarks;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.openelements.hiero.spring.implementation.MirrorNodeJsonConverterImpl;
+import com.openelements.hiero.spring.implementation.MirrorNodeJsonStreamingDecoder;
+import jakarta.json.Json;
+import jakarta.json.JsonObject;
+import jakarta.json.JsonReader;
+import jakarta.json.JsonReaderFactory;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares the two ways the mirror node clients decode a page of a list response: the tree path
+ * reads the body into a {@link JsonNode} (Spring) or {@link JsonObject} (MicroProfile) before
+ * converting it, the streaming path decodes the records directly from the body stream. Run with
+ * {@code -prof gc} to compare the allocation rate.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class MirrorNodeJsonStreamingDecoderBenchmark {
+
+  @Param({"transactions", "nfts", "balances", "tokens"})
+  private String payload;
+
+  private byte[] body;
+
+  private ObjectMapper objectMapper;
+
+  private MirrorNodeJsonConverterImpl converter;
+
+  private MirrorNodeJsonStreamingDecoder decoder;
+
+  private JsonReaderFactory readerFactory;
+
+  private com.openelements.hiero.microprofile.implementation.MirrorNodeJsonConverterImpl
+      microprofileConverter;
+
+  private com.openelements.hiero.microprofile.implementation.MirrorNodeJsonStreamingDecoder
+      microprofileDecoder;
+
+  @Setup
+  public void setup() {
+    body = Payloads.read(payload).getBytes(StandardCharsets.UTF_8);
+    objectMapper = new ObjectMapper();
+    converter = new MirrorNodeJsonConverterImpl();
+    decoder = new MirrorNodeJsonStreamingDecoder(objectMapper.getFactory());
+    readerFactory = Json.createReaderFactory(Map.of());
+    microprofileConverter =
+        new com.openelements.hiero.microprofile.implementation.MirrorNodeJsonConverterImpl();
+    microprofileDecoder =
+        new com.openelements.hiero.microprofile.implementation.MirrorNodeJsonStreamingDecoder(
+            Json.createParserFactory(Map.of()));
+  }
+
+  @Benchmark
+  public List<?> springTree() throws IOException {
+    final JsonNode node = objectMapper.readTree(new String(body, StandardCharsets.UTF_8));
+    return switch (payload) {
+      case "transactions" -> converter.toTransactionInfos(node);
+      case "nfts" -> converter.toNfts(node);
+      case "balances" -> converter.toBalances(node);
+      case "tokens" -> converter.toTokens(node);
+      default -> throw new IllegalStateException("Unknown payload: " + payload);
+    };
+  }
+
+  @Benchmark
+  public List<?> springStreaming() throws IOException {
+    final InputStream stream = new ByteArrayInputStream(body);
+    return switch (payload) {
+      case "transactions" -> decoder.decodeTransactions(stream).data();
+      case "nfts" -> decoder.decodeNfts(stream).data();
+      case "balances" -> decoder.decodeBalances(stream).data();
+      case "tokens" -> decoder.decodeTokens(stream).data();
+      default -> throw new IllegalStateException("Unknown payload: " + payload);
+    };
+  }
+
+  @Benchmark
+  public List<?> microprofileTree() {
+    final JsonObject jsonObject;
+    try (JsonReader reader = readerFactory.createReader(new ByteArrayInputStream(body))) {
+      jsonObject = reader.readObject();
+    }
+    return switch (payload) {
+      case "transactions" -> microprofileConverter.toTransactionInfos(jsonObject);
+      case "nfts" -> microprofileConverter.toNfts(jsonObject);
+      case "balances" -> microprofileConverter.toBalances(jsonObject);
+      case "tokens" -> microprofileConverter.toTokens(jsonObject);
+      default -> throw new IllegalStateException("Unknown payload: " + payload);
+    };
+  }
+
+  @Benchmark
+  public List<?> microprofileStreaming() {
+    final InputStream stream = new ByteArrayInputStream(body);
+    return switch (payload) {
+      case "transactions" -> microprofileDecoder.decodeTransactions(stream).data();
+      case "nfts" -> microprofileDecoder.decodeNfts(stream).data();
+      case "balances" -> microprofileDecoder.decodeBalances(stream).data();
+      case "tokens" -> microprofileDecoder.decodeTokens(stream).data();
+      default -> throw new IllegalStateException("Unknown payload: " + payload);
+    };
+  }
+}
@@ -0,0 +1,29 @@
+package com.openelements.hiero.benchmarks;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Objects;
+
+/**
+ * Mirror node responses used by the benchmarks. The payloads are stored in the {@code payloads}
+ * folder of the class path and follow the format of the mirror node REST API.
+ */
+final class Payloads {
+
+  private Payloads() {}
+
+  static String read(final String name) {
+    Objects.requireNonNull(name, "name must not be null");
+    final String resource = "/payloads/" + name + ".json";
+    try (InputStream inputStream = Payloads.class.getResourceAsStream(resource)) {
+      if (inputStream == null) {
+        throw new IllegalArgumentException("Payload " + resource + " not found");
+      }
+      return new String(inputStream.readAllBytes(), StandardCharsets.UTF_8);
+    } catch (final IOException e) {
+      throw new UncheckedIOException("Failed to read payload " + resource, e);
+    }
+  }
+}
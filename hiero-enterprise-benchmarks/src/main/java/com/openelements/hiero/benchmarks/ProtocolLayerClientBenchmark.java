@@ -0,0 +1,101 @@
+package com.openelements.hiero.benchmarks;
+
+import com.hedera.hashgraph.sdk.AccountBalance;
+import com.hedera.hashgraph.sdk.AccountBalanceQuery;
+import com.hedera.hashgraph.sdk.AccountId;
+import com.hedera.hashgraph.sdk.Client;
+import com.hedera.hashgraph.sdk.PrivateKey;
+import com.hedera.hashgraph.sdk.TokenId;
+import com.hedera.hashgraph.sdk.TransactionReceipt;
+import com.hedera.hashgraph.sdk.TransferTransaction;
+import com.openelements.hiero.base.HieroContext;
+import com.openelements.hiero.base.data.Account;
+import com.openelements.hiero.base.implementation.ProtocolLayerClientImpl;
+import com.openelements.hiero.base.protocol.data.AccountBalanceRequest;
+import com.openelements.hiero.base.protocol.data.AccountBalanceResponse;
+import com.openelements.hiero.base.protocol.data.TokenTransferRequest;
+import com.openelements.hiero.base.protocol.data.TokenTransferResult;
+import com.openelements.hiero.test.fake.FakeConsensusNode;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks the overhead of {@link ProtocolLayerClientImpl} compared to calling the SDK directly.
+ * Both use an SDK {@link Client} that is connected to a {@link FakeConsensusNode}, so the
+ * difference between the {@code sdk*} and the other benchmarks is the cost of the Hiero layer.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class ProtocolLayerClientBenchmark {
+
+  private final TokenId tokenId = TokenId.fromString("0.0.4800000");
+
+  private final AccountId receiver = AccountId.fromString("0.0.4500000");
+
+  private Account operator;
+
+  private FakeConsensusNode node;
+
+  private Client client;
+
+  private ProtocolLayerClientImpl protocolLayerClient;
+
+  @Setup
+  public void setup() {
+    final PrivateKey privateKey = PrivateKey.generateED25519();
+    operator = Account.of(AccountId.fromString("0.0.2"), privateKey);
+    node = new FakeConsensusNode();
+    final HieroContext context = node.createContext(operator);
+    client = context.getClient();
+    protocolLayerClient = new ProtocolLayerClientImpl(context);
+  }
+
+  @TearDown
+  public void tearDown() throws Exception {
+    protocolLayerClient.close();
+    client.close();
+    node.close();
+  }
+
+  @Benchmark
+  public AccountBalance sdkAccountBalanceQuery() throws Exception {
+    return new AccountBalanceQuery().setAccountId(receiver).execute(client);
+  }
+
+  @Benchmark
+  public AccountBalanceResponse accountBalanceQuery() throws Exception {
+    return protocolLayerClient.executeAccountBalanceQuery(AccountBalanceRequest.of(receiver));
+  }
+
+  @Benchmark
+  public TransactionReceipt sdkTransfer() throws Exception {
+    return new TransferTransaction()
+        .addTokenTransfer(tokenId, operator.accountId(), -1)
+        .addTokenTransfer(tokenId, receiver, 1)
+        .freezeWith(client)
+        .sign(operator.privateKey())
+        .execute(client)
+        .getReceipt(client);
+  }
+
+  @Benchmark
+  public TokenTransferResult transfer() throws Exception {
+    return protocolLayerClient.executeTransferTransaction(
+        TokenTransferRequest.of(
+            tokenId, operator.accountId(), receiver, operator.privateKey(), 1L));
+  }
+}
@@ -0,0 +1,103 @@
+package com.openelements.hiero.benchmarks;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.openelements.hiero.base.data.Page;
+import com.openelements.hiero.base.data.Token;
+import com.openelements.hiero.spring.implementation.HieroMirrorNodeClientProperties;
+import com.openelements.hiero.spring.implementation.MirrorNodeHttpClients;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.web.client.RestClient;
+
+/**
+ * Benchmarks paging through a mirror node result with the Spring and MicroProfile {@code
+ * RestBasedPage} implementations against a local HTTP stub. One operation reads all pages.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class RestBasedPageBenchmark {
+
+  @Param({"10"})
+  private int pages;
+
+  private MirrorNodeHttpStub stub;
+
+  private ObjectMapper objectMapper;
+
+  private RestClient restClient;
+
+  private com.openelements.hiero.microprofile.implementation.MirrorNodeHttpClient
+      microprofileClient;
+
+  private com.openelements.hiero.spring.implementation.MirrorNodeJsonConverterImpl springConverter;
+
+  private com.openelements.hiero.microprofile.implementation.MirrorNodeJsonConverterImpl
+      microprofileConverter;
+
+  @Setup
+  public void setup() {
+    stub = new MirrorNodeHttpStub(Payloads.read("tokens"), pages);
+    objectMapper = new ObjectMapper();
+    restClient =
+        RestClient.builder()
+            .baseUrl(stub.getBaseUrl())
+            .requestFactory(
+                MirrorNodeHttpClients.createRequestFactory(new HieroMirrorNodeClientProperties()))
+            .build();
+    microprofileClient =
+        new com.openelements.hiero.microprofile.implementation.MirrorNodeHttpClient(
+            com.openelements.hiero.microprofile.implementation.MirrorNodeHttpClient.createClient(
+                5_000, 30_000, false),
+            stub.getBaseUrl(),
+            50);
+    springConverter =
+        new com.openelements.hiero.spring.implementation.MirrorNodeJsonConverterImpl();
+    microprofileConverter =
+        new com.openelements.hiero.microprofile.implementation.MirrorNodeJsonConverterImpl();
+  }
+
+  @TearDown
+  public void tearDown() {
+    microprofileClient.close();
+    stub.close();
+  }
+
+  @Benchmark
+  public int spring() {
+    return readAll(
+        new com.openelements.hiero.spring.implementation.RestBasedPage<>(
+            objectMapper, restClient, MirrorNodeHttpStub.PATH, springConverter::toTokens));
+  }
+
+  @Benchmark
+  public int microprofile() {
+    return readAll(
+        new com.openelements.hiero.microprofile.implementation.RestBasedPage<>(
+            microprofileClient, microprofileConverter::toTokens, MirrorNodeHttpStub.PATH));
+  }
+
+  private static int readAll(final Page<Token> first) {
+    Page<Token> page = first;
+    int count = page.getSize();
+    while (page.hasNext()) {
+      page = page.next();
+      count += page.getSize();
+    }
+    return count;
+  }
+}
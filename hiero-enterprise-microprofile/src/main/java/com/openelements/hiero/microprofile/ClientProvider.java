@@ -1,14 +1,27 @@
 package com.openelements.hiero.microprofile;
 
 import com.openelements.hiero.base.AccountClient;
+import com.openelements.hiero.base.AsyncFileClient;
+import com.openelements.hiero.base.AsyncFungibleTokenClient;
+import com.openelements.hiero.base.AsyncNftClient;
+import com.openelements.hiero.base.AsyncSmartContractClient;
+import com.openelements.hiero.base.AsyncTopicClient;
 import com.openelements.hiero.base.FileClient;
 import com.openelements.hiero.base.FungibleTokenClient;
 import com.openelements.hiero.base.HieroContext;
 import com.openelements.hiero.base.NftClient;
 import com.openelements.hiero.base.SmartContractClient;
+import com.openelements.hiero.base.TopicClient;
+import com.openelements.hiero.base.TopicPublisher;
+import com.openelements.hiero.base.TransactionMetrics;
 import com.openelements.hiero.base.config.HieroConfig;
 import com.openelements.hiero.base.implementation.AccountClientImpl;
 import com.openelements.hiero.base.implementation.AccountRepositoryImpl;
+import com.openelements.hiero.base.implementation.AsyncFileClientImpl;
+import com.openelements.hiero.base.implementation.AsyncFungibleTokenClientImpl;
+import com.openelements.hiero.base.implementation.AsyncNftClientImpl;
+import com.openelements.hiero.base.implementation.AsyncSmartContractClientImpl;
+import com.openelements.hiero.base.implementation.AsyncTopicClientImpl;
 import com.openelements.hiero.base.implementation.ContractRepositoryImpl;
 import com.openelements.hiero.base.implementation.FileClientImpl;
 import com.openelements.hiero.base.implementation.FungibleTokenClientImpl;
@@ -18,6 +31,8 @@ import com.openelements.hiero.base.implementation.NftRepositoryImpl;
 import com.openelements.hiero.base.implementation.ProtocolLayerClientImpl;
 import com.openelements.hiero.base.implementation.SmartContractClientImpl;
 import com.openelements.hiero.base.implementation.TokenRepositoryImpl;
+import com.openelements.hiero.base.implementation.TopicClientImpl;
+import com.openelements.hiero.base.implementation.TopicPublisherImpl;
 import com.openelements.hiero.base.implementation.TransactionRepositoryImpl;
 import com.openelements.hiero.base.mirrornode.AccountRepository;
 import com.openelements.hiero.base.mirrornode.ContractRepository;
@@ -31,11 +46,19 @@ import com.openelements.hiero.base.verification.ContractVerificationClient;
 import com.openelements.hiero.microprofile.implementation.ContractVerificationClientImpl;
 import com.openelements.hiero.microprofile.implementation.HieroConfigImpl;
 import com.openelements.hiero.microprofile.implementation.MirrorNodeClientImpl;
+import com.openelements.hiero.microprofile.implementation.MirrorNodeHttpClient;
 import com.openelements.hiero.microprofile.implementation.MirrorNodeJsonConverterImpl;
 import com.openelements.hiero.microprofile.implementation.MirrorNodeRestClientImpl;
+import com.openelements.hiero.microprofile.implementation.OpenTelemetryTransactionMetrics;
+import com.openelements.hiero.microprofile.implementation.TransactionMetricsImpl;
+import io.opentelemetry.api.OpenTelemetry;
 import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.inject.Disposes;
+import jakarta.enterprise.inject.Instance;
 import jakarta.enterprise.inject.Produces;
 import jakarta.inject.Inject;
+import jakarta.inject.Singleton;
+import jakarta.ws.rs.client.Client;
 import org.eclipse.microprofile.config.inject.ConfigProperties;
 import org.jspecify.annotations.NonNull;
 
@@ -45,11 +68,30 @@ public class ClientProvider {
 
   @Inject @ConfigProperties private HieroNetworkConfiguration networkConfiguration;
 
+  @Inject @ConfigProperties private HieroOperatorPoolConfiguration operatorPoolConfiguration;
+
+  @Inject @ConfigProperties private HieroRateLimiterConfiguration rateLimiterConfiguration;
+
+  @Inject @ConfigProperties private HieroRetryConfiguration retryConfiguration;
+
+  @Inject @ConfigProperties private HieroNodeSelectorConfiguration nodeSelectorConfiguration;
+
+  @Inject @ConfigProperties
+  private HieroMirrorNodeClientConfiguration mirrorNodeClientConfiguration;
+
+  @Inject @ConfigProperties private HieroTopicClientConfiguration topicClientConfiguration;
+
   @NonNull
   @Produces
   @ApplicationScoped
   HieroConfig createHieroConfig() {
-    return new HieroConfigImpl(configuration, networkConfiguration);
+    return new HieroConfigImpl(
+        configuration,
+        networkConfiguration,
+        operatorPoolConfiguration,
+        rateLimiterConfiguration,
+        retryConfiguration,
+        nodeSelectorConfiguration);
   }
 
   @NonNull
@@ -59,11 +101,51 @@ public class ClientProvider {
     return hieroConfig.createHieroContext();
   }
 
+  void closeHieroContext(@Disposes final HieroContext hieroContext) {
+    hieroContext.close();
+  }
+
+  @NonNull
+  @Produces
+  @ApplicationScoped
+  TransactionMetrics createTransactionMetrics(@NonNull final Instance<Object> beans) {
+    final TransactionMetricsImpl transactionMetrics = new TransactionMetricsImpl();
+    // the OpenTelemetry API is provided by MicroProfile Telemetry and may be missing at runtime, so
+    // it is not part of the signature of this producer
+    if (isOpenTelemetryAvailable()) {
+      final Instance<OpenTelemetry> openTelemetry = beans.select(OpenTelemetry.class);
+      if (openTelemetry.isResolvable()) {
+        return new OpenTelemetryTransactionMetrics(openTelemetry.get(), transactionMetrics);
+      }
+    }
+    return transactionMetrics;
+  }
+
+  private static boolean isOpenTelemetryAvailable() {
+    try {
+      Class.forName(
+          "io.opentelemetry.api.OpenTelemetry", false, ClientProvider.class.getClassLoader());
+      return true;
+    } catch (final ClassNotFoundException e) {
+      return false;
+    }
+  }
+
   @NonNull
   @Produces
   @ApplicationScoped
-  ProtocolLayerClient createProtocolLayerClient(@NonNull final HieroContext hieroContext) {
-    return new ProtocolLayerClientImpl(hieroContext);
+  ProtocolLayerClient createProtocolLayerClient(
+      @NonNull final HieroContext hieroContext,
+      @NonNull final TransactionMetrics transactionMetrics) {
+    final ProtocolLayerClientImpl protocolLayerClient = new ProtocolLayerClientImpl(hieroContext);
+    protocolLayerClient.setTransactionMetrics(transactionMetrics);
+    return protocolLayerClient;
+  }
+
+  void closeProtocolLayerClient(@Disposes final ProtocolLayerClient protocolLayerClient) {
+    if (protocolLayerClient instanceof ProtocolLayerClientImpl closeable) {
+      closeable.close();
+    }
   }
 
   @NonNull
@@ -107,6 +189,73 @@ public class ClientProvider {
     return new AccountClientImpl(protocolLayerClient);
   }
 
+  @NonNull
+  @Produces
+  @ApplicationScoped
+  TopicClient createTopicClient(
+      @NonNull final ProtocolLayerClient protocolLayerClient,
+      @NonNull final HieroContext hieroContext) {
+    return new TopicClientImpl(
+        protocolLayerClient,
+        hieroContext.getOperatorAccount(),
+        topicClientConfiguration.getMaxMessagesInFlight(),
+        topicClientConfiguration.getBackpressure());
+  }
+
+  @NonNull
+  @Produces
+  @ApplicationScoped
+  AsyncFileClient createAsyncFileClient(@NonNull final ProtocolLayerClient protocolLayerClient) {
+    return new AsyncFileClientImpl(protocolLayerClient);
+  }
+
+  @NonNull
+  @Produces
+  @ApplicationScoped
+  AsyncSmartContractClient createAsyncSmartContractClient(
+      @NonNull final ProtocolLayerClient protocolLayerClient,
+      @NonNull final AsyncFileClient asyncFileClient) {
+    return new AsyncSmartContractClientImpl(protocolLayerClient, asyncFileClient);
+  }
+
+  @NonNull
+  @Produces
+  @ApplicationScoped
+  AsyncNftClient createAsyncNftClient(
+      @NonNull final ProtocolLayerClient protocolLayerClient,
+      @NonNull final HieroContext hieroContext) {
+    return new AsyncNftClientImpl(protocolLayerClient, hieroContext.getOperatorAccount());
+  }
+
+  @NonNull
+  @Produces
+  @ApplicationScoped
+  AsyncFungibleTokenClient createAsyncFungibleTokenClient(
+      @NonNull final ProtocolLayerClient protocolLayerClient,
+      @NonNull final HieroContext hieroContext) {
+    return new AsyncFungibleTokenClientImpl(protocolLayerClient, hieroContext.getOperatorAccount());
+  }
+
+  @NonNull
+  @Produces
+  @ApplicationScoped
+  AsyncTopicClient createAsyncTopicClient(
+      @NonNull final ProtocolLayerClient protocolLayerClient,
+      @NonNull final HieroContext hieroContext) {
+    return new AsyncTopicClientImpl(protocolLayerClient, hieroContext.getOperatorAccount());
+  }
+
+  @NonNull
+  @Produces
+  @ApplicationScoped
+  TopicPublisher createTopicPublisher(@NonNull final AsyncTopicClient asyncTopicClient) {
+    return new TopicPublisherImpl(asyncTopicClient);
+  }
+
+  void closeTopicPublisher(@Disposes final TopicPublisher topicPublisher) {
+    topicPublisher.close();
+  }
+
   @NonNull
   @Produces
   @ApplicationScoped
@@ -115,15 +264,33 @@ public class ClientProvider {
     return new ContractVerificationClientImpl(hieroConfig);
   }
 
+  /** Singleton instead of application scoped, since the final client class can not be proxied. */
   @NonNull
   @Produces
-  @ApplicationScoped
-  MirrorNodeClient createMirrorNodeClient(@NonNull final HieroConfig hieroConfig) {
+  @Singleton
+  MirrorNodeHttpClient createMirrorNodeHttpClient(@NonNull final HieroConfig hieroConfig) {
     final String target =
         hieroConfig.getMirrorNodeAddresses().stream()
             .findFirst()
             .orElseThrow(() -> new IllegalStateException("No mirror node addresses configured"));
-    final MirrorNodeRestClientImpl restClient = new MirrorNodeRestClientImpl(target);
+    final Client client =
+        MirrorNodeHttpClient.createClient(
+            mirrorNodeClientConfiguration.getConnectTimeoutInMs(),
+            mirrorNodeClientConfiguration.getReadTimeoutInMs(),
+            mirrorNodeClientConfiguration.isCompression());
+    return new MirrorNodeHttpClient(
+        client, target, mirrorNodeClientConfiguration.getMaxConnections());
+  }
+
+  void closeMirrorNodeHttpClient(@Disposes final MirrorNodeHttpClient httpClient) {
+    httpClient.close();
+  }
+
+  @NonNull
+  @Produces
+  @ApplicationScoped
+  MirrorNodeClient createMirrorNodeClient(@NonNull final MirrorNodeHttpClient httpClient) {
+    final MirrorNodeRestClientImpl restClient = new MirrorNodeRestClientImpl(httpClient);
     final MirrorNodeJsonConverterImpl jsonConverter = new MirrorNodeJsonConverterImpl();
     return new MirrorNodeClientImpl(restClient, jsonConverter);
   }
@@ -0,0 +1,55 @@
+package com.openelements.hiero.microprofile;
+
+import jakarta.enterprise.context.Dependent;
+import java.util.Optional;
+import org.eclipse.microprofile.config.inject.ConfigProperties;
+
+@ConfigProperties(prefix = "hiero.mirror-node-client")
+@Dependent
+public class HieroMirrorNodeClientConfiguration {
+
+  private Optional<Integer> maxConnections;
+
+  private Optional<Long> connectTimeoutInMs;
+
+  private Optional<Long> readTimeoutInMs;
+
+  private Optional<Boolean> compression;
+
+  /**
+   * Returns the maximum number of concurrent requests to the mirror node. Default is 50.
+   *
+   * @return the maximum number of concurrent requests
+   */
+  public int getMaxConnections() {
+    return maxConnections.orElse(50);
+  }
+
+  /**
+   * Returns the timeout for establishing a connection to the mirror node. Default is 5 seconds.
+   *
+   * @return the connect timeout in milliseconds
+   */
+  public long getConnectTimeoutInMs() {
+    return connectTimeoutInMs.orElse(5_000L);
+  }
+
+  /**
+   * Returns the timeout for reading a response of the mirror node. Default is 30 seconds.
+   *
+   * @return the read timeout in milliseconds
+   */
+  public long getReadTimeoutInMs() {
+    return readTimeoutInMs.orElse(30_000L);
+  }
+
+  /**
+   * Returns whether responses of the mirror node are requested with gzip compression. Default is
+   * true.
+   *
+   * @return true if compression is used
+   */
+  public boolean isCompression() {
+    return compression.orElse(true);
+  }
+}
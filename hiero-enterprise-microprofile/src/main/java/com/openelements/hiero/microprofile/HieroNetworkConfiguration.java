@@ -1,8 +1,10 @@
 package com.openelements.hiero.microprofile;
 
+import com.openelements.hiero.base.config.ClientExecutorType;
 import com.openelements.hiero.base.config.ConsensusNode;
 import jakarta.enterprise.context.Dependent;
 import jakarta.inject.Inject;
+import java.util.Locale;
 import java.util.Optional;
 import java.util.Set;
 import java.util.stream.Collectors;
@@ -26,10 +28,40 @@ public class HieroNetworkConfiguration {
 
   private Optional<Long> requestTimeoutInMs;
 
+  private Optional<Integer> clientPoolSize;
+
+  private Optional<String> clientExecutorType;
+
+  private Optional<Integer> clientExecutorThreads;
+
   public Optional<Long> getRequestTimeoutInMs() {
     return requestTimeoutInMs;
   }
 
+  public Optional<Integer> getClientPoolSize() {
+    return clientPoolSize;
+  }
+
+  /**
+   * Returns the executor that every SDK client of the pool gets (sdk, platform or virtual).
+   *
+   * @return the executor type
+   */
+  public Optional<ClientExecutorType> getClientExecutorType() {
+    return clientExecutorType
+        .map(t -> t.trim().toUpperCase(Locale.ROOT))
+        .map(ClientExecutorType::valueOf);
+  }
+
+  /**
+   * Returns the number of threads of every client executor if the executor type is platform.
+   *
+   * @return the number of threads
+   */
+  public Optional<Integer> getClientExecutorThreads() {
+    return clientExecutorThreads;
+  }
+
   public Optional<String> getName() {
     return name;
   }
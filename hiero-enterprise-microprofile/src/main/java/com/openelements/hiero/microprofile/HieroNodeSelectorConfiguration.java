@@ -0,0 +1,22 @@
+package com.openelements.hiero.microprofile;
+
+import jakarta.enterprise.context.Dependent;
+import java.util.Optional;
+import org.eclipse.microprofile.config.inject.ConfigProperties;
+
+@ConfigProperties(prefix = "hiero.node-selector")
+@Dependent
+public class HieroNodeSelectorConfiguration {
+
+  private Optional<Boolean> enabled;
+
+  /**
+   * Returns whether the consensus nodes of new transactions are chosen by their latency and health
+   * instead of by the SDK. Configured by {@code hiero.node-selector.enabled} (default false).
+   *
+   * @return true if node selection is enabled
+   */
+  public boolean isEnabled() {
+    return enabled.orElse(false);
+  }
+}
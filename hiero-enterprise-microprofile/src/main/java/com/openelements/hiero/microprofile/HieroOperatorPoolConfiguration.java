@@ -0,0 +1,50 @@
+package com.openelements.hiero.microprofile;
+
+import com.hedera.hashgraph.sdk.AccountId;
+import com.hedera.hashgraph.sdk.PrivateKey;
+import com.openelements.hiero.base.config.OperatorSelectionStrategy;
+import com.openelements.hiero.base.data.Account;
+import jakarta.enterprise.context.Dependent;
+import java.util.List;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.stream.Stream;
+import org.eclipse.microprofile.config.inject.ConfigProperties;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+
+@ConfigProperties(prefix = "hiero.operator-pool")
+@Dependent
+public class HieroOperatorPoolConfiguration {
+
+  @ConfigProperty(name = "accounts")
+  private Optional<String> accounts;
+
+  @ConfigProperty(name = "strategy")
+  private Optional<String> strategy;
+
+  public List<Account> getAccounts() {
+    return accounts
+        .map(a -> a.split(","))
+        .map(a -> Stream.of(a))
+        .orElse(Stream.empty())
+        .map(String::trim)
+        .filter(a -> !a.isEmpty())
+        .map(
+            a -> {
+              // 0.0.1001:302e020100300506032b657004220420...
+              final String[] split = a.split(":");
+              if (split.length != 2) {
+                throw new IllegalStateException("Can not parse operator account for '" + a + "'");
+              }
+              return Account.of(AccountId.fromString(split[0]), PrivateKey.fromString(split[1]));
+            })
+        .toList();
+  }
+
+  public OperatorSelectionStrategy getStrategy() {
+    return strategy
+        .map(s -> s.trim().replace('-', '_').toUpperCase(Locale.ROOT))
+        .map(OperatorSelectionStrategy::valueOf)
+        .orElse(OperatorSelectionStrategy.ROUND_ROBIN);
+  }
+}
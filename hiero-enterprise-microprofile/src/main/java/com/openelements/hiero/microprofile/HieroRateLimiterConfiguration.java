@@ -0,0 +1,44 @@
+package com.openelements.hiero.microprofile;
+
+import com.openelements.hiero.base.config.TransactionRateLimitPolicy;
+import jakarta.enterprise.context.Dependent;
+import java.util.Optional;
+import org.eclipse.microprofile.config.inject.ConfigProperties;
+
+@ConfigProperties(prefix = "hiero.rate-limiter")
+@Dependent
+public class HieroRateLimiterConfiguration {
+
+  private Optional<Boolean> enabled;
+
+  private Optional<Double> initialRate;
+
+  private Optional<Double> minRate;
+
+  private Optional<Double> maxRate;
+
+  private Optional<Double> increasePerSecond;
+
+  private Optional<Double> decreaseFactor;
+
+  /**
+   * Returns the policy for limiting the rate of transactions per transaction type. The rate is only
+   * limited if {@code hiero.rate-limiter.enabled} is true. Values that are not configured are taken
+   * from {@link TransactionRateLimitPolicy#DEFAULT}.
+   *
+   * @return the rate limit policy or an empty optional if transactions should not be limited
+   */
+  public Optional<TransactionRateLimitPolicy> getPolicy() {
+    if (!enabled.orElse(false)) {
+      return Optional.empty();
+    }
+    final TransactionRateLimitPolicy defaults = TransactionRateLimitPolicy.DEFAULT;
+    return Optional.of(
+        new TransactionRateLimitPolicy(
+            initialRate.orElse(defaults.initialRate()),
+            minRate.orElse(defaults.minRate()),
+            maxRate.orElse(defaults.maxRate()),
+            increasePerSecond.orElse(defaults.increasePerSecond()),
+            decreaseFactor.orElse(defaults.decreaseFactor())));
+  }
+}
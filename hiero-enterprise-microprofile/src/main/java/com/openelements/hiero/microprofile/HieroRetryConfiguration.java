@@ -0,0 +1,33 @@
+package com.openelements.hiero.microprofile;
+
+import com.openelements.hiero.base.config.TransactionRetryPolicy;
+import jakarta.enterprise.context.Dependent;
+import java.time.Duration;
+import java.util.Optional;
+import org.eclipse.microprofile.config.inject.ConfigProperties;
+
+@ConfigProperties(prefix = "hiero.retry")
+@Dependent
+public class HieroRetryConfiguration {
+
+  private Optional<Integer> maxAttempts;
+
+  private Optional<Long> initialBackoffInMs;
+
+  private Optional<Long> maxBackoffInMs;
+
+  /**
+   * Returns the policy for retrying transactions that failed with a transient error. The policy is
+   * configured by {@code hiero.retry.maxAttempts} (default 1, so transactions are not retried),
+   * {@code hiero.retry.initialBackoffInMs} (default 250) and {@code hiero.retry.maxBackoffInMs}
+   * (default 5000).
+   *
+   * @return the retry policy
+   */
+  public TransactionRetryPolicy getPolicy() {
+    return TransactionRetryPolicy.of(
+        maxAttempts.orElse(1),
+        Duration.ofMillis(initialBackoffInMs.orElse(250L)),
+        Duration.ofMillis(maxBackoffInMs.orElse(5_000L)));
+  }
+}
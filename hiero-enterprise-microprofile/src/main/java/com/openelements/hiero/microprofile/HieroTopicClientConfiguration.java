@@ -0,0 +1,39 @@
+package com.openelements.hiero.microprofile;
+
+import com.openelements.hiero.base.data.SubmitBackpressure;
+import jakarta.enterprise.context.Dependent;
+import java.util.Locale;
+import java.util.Optional;
+import org.eclipse.microprofile.config.inject.ConfigProperties;
+
+@ConfigProperties(prefix = "hiero.topic-client")
+@Dependent
+public class HieroTopicClientConfiguration {
+
+  private Optional<Integer> maxMessagesInFlight;
+
+  private Optional<String> backpressure;
+
+  /**
+   * Returns the maximum number of topic messages that are submitted without their receipt being
+   * available. Default is 64.
+   *
+   * @return the maximum number of messages in flight
+   */
+  public int getMaxMessagesInFlight() {
+    return maxMessagesInFlight.orElse(64);
+  }
+
+  /**
+   * Returns the behavior if a message is submitted while the maximum number of messages is in
+   * flight. Default is {@link SubmitBackpressure#BLOCK}.
+   *
+   * @return the backpressure
+   */
+  public SubmitBackpressure getBackpressure() {
+    return backpressure
+        .map(b -> b.trim().toUpperCase(Locale.ROOT))
+        .map(SubmitBackpressure::valueOf)
+        .orElse(SubmitBackpressure.BLOCK);
+  }
+}
@@ -2,14 +2,23 @@ package com.openelements.hiero.microprofile.implementation;
 
 import com.hedera.hashgraph.sdk.AccountId;
 import com.hedera.hashgraph.sdk.PrivateKey;
+import com.openelements.hiero.base.config.ClientExecutorType;
 import com.openelements.hiero.base.config.ConsensusNode;
 import com.openelements.hiero.base.config.HieroConfig;
 import com.openelements.hiero.base.config.NetworkSettings;
+import com.openelements.hiero.base.config.OperatorSelectionStrategy;
+import com.openelements.hiero.base.config.TransactionRateLimitPolicy;
+import com.openelements.hiero.base.config.TransactionRetryPolicy;
 import com.openelements.hiero.base.data.Account;
 import com.openelements.hiero.microprofile.HieroNetworkConfiguration;
+import com.openelements.hiero.microprofile.HieroNodeSelectorConfiguration;
 import com.openelements.hiero.microprofile.HieroOperatorConfiguration;
+import com.openelements.hiero.microprofile.HieroOperatorPoolConfiguration;
+import com.openelements.hiero.microprofile.HieroRateLimiterConfiguration;
+import com.openelements.hiero.microprofile.HieroRetryConfiguration;
 import java.time.Duration;
 import java.util.Collections;
+import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
@@ -23,6 +32,10 @@ public class HieroConfigImpl implements HieroConfig {
 
   private final Account operatorAccount;
 
+  private final List<Account> additionalOperatorAccounts;
+
+  private final OperatorSelectionStrategy operatorSelectionStrategy;
+
   private final String networkName;
 
   private final Set<String> mirrorNodeAddresses;
@@ -35,16 +48,45 @@ public class HieroConfigImpl implements HieroConfig {
 
   private final Long requestTimeoutInMs;
 
+  private final int clientPoolSize;
+
+  private final ClientExecutorType clientExecutorType;
+
+  private final Integer clientExecutorThreads;
+
+  private final TransactionRetryPolicy retryPolicy;
+
+  private final TransactionRateLimitPolicy rateLimitPolicy;
+
+  private final boolean nodeSelectionEnabled;
+
   public HieroConfigImpl(
       @NonNull final HieroOperatorConfiguration configuration,
-      @NonNull final HieroNetworkConfiguration networkConfiguration) {
+      @NonNull final HieroNetworkConfiguration networkConfiguration,
+      @NonNull final HieroOperatorPoolConfiguration operatorPoolConfiguration,
+      @NonNull final HieroRateLimiterConfiguration rateLimiterConfiguration,
+      @NonNull final HieroRetryConfiguration retryConfiguration,
+      @NonNull final HieroNodeSelectorConfiguration nodeSelectorConfiguration) {
     Objects.requireNonNull(configuration, "configuration must not be null");
     Objects.requireNonNull(networkConfiguration, "networkConfiguration must not be null");
+    Objects.requireNonNull(operatorPoolConfiguration, "operatorPoolConfiguration must not be null");
+    Objects.requireNonNull(rateLimiterConfiguration, "rateLimiterConfiguration must not be null");
+    Objects.requireNonNull(retryConfiguration, "retryConfiguration must not be null");
+    Objects.requireNonNull(nodeSelectorConfiguration, "nodeSelectorConfiguration must not be null");
 
     final AccountId operatorAccountId = AccountId.fromString(configuration.getAccountId());
     final PrivateKey operatorPrivateKey = PrivateKey.fromString(configuration.getPrivateKey());
     operatorAccount = Account.of(operatorAccountId, operatorPrivateKey);
+    additionalOperatorAccounts = operatorPoolConfiguration.getAccounts();
+    operatorSelectionStrategy = operatorPoolConfiguration.getStrategy();
     requestTimeoutInMs = networkConfiguration.getRequestTimeoutInMs().orElse(null);
+    clientPoolSize = networkConfiguration.getClientPoolSize().orElse(1);
+    clientExecutorType =
+        networkConfiguration.getClientExecutorType().orElse(ClientExecutorType.SDK);
+    clientExecutorThreads = networkConfiguration.getClientExecutorThreads().orElse(null);
+    retryPolicy = retryConfiguration.getPolicy();
+    rateLimitPolicy = rateLimiterConfiguration.getPolicy().orElse(null);
+    nodeSelectionEnabled = nodeSelectorConfiguration.isEnabled();
     final Optional<NetworkSettings> networkSettings =
         networkConfiguration
             .getName()
@@ -71,11 +113,54 @@ public class HieroConfigImpl implements HieroConfig {
     return Optional.ofNullable(requestTimeoutInMs).map(Duration::ofMillis);
   }
 
+  @Override
+  public int getClientPoolSize() {
+    return clientPoolSize;
+  }
+
+  @Override
+  public @NonNull ClientExecutorType getClientExecutorType() {
+    return clientExecutorType;
+  }
+
+  @Override
+  public int getClientExecutorThreads() {
+    if (clientExecutorThreads == null) {
+      return HieroConfig.super.getClientExecutorThreads();
+    }
+    return clientExecutorThreads;
+  }
+
+  @Override
+  public @NonNull TransactionRetryPolicy getTransactionRetryPolicy() {
+    return retryPolicy;
+  }
+
+  @Override
+  public @NonNull Optional<TransactionRateLimitPolicy> getTransactionRateLimitPolicy() {
+    return Optional.ofNullable(rateLimitPolicy);
+  }
+
+  @Override
+  public boolean isNodeSelectionEnabled() {
+    return nodeSelectionEnabled;
+  }
+
   @Override
   public @NonNull Account getOperatorAccount() {
     return operatorAccount;
   }
 
+  @Override
+  public @NonNull List<Account> getAdditionalOperatorAccounts() {
+    return additionalOperatorAccounts;
+  }
+
+  @Override
+  public @NonNull OperatorSelectionStrategy getOperatorSelectionStrategy() {
+    return operatorSelectionStrategy;
+  }
+
   @Override
   public @NonNull Optional<String> getNetworkName() {
     return Optional.ofNullable(networkName);
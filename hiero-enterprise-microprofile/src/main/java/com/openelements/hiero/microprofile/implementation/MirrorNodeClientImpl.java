@@ -18,9 +18,7 @@ import com.openelements.hiero.base.implementation.MirrorNodeJsonConverter;
 import com.openelements.hiero.base.implementation.MirrorNodeRestClient;
 import com.openelements.hiero.base.protocol.data.TransactionType;
 import jakarta.json.JsonObject;
-import java.util.List;
 import java.util.Objects;
-import java.util.function.Function;
 import org.jspecify.annotations.NonNull;
 
 public class MirrorNodeClientImpl extends AbstractMirrorNodeClient<JsonObject> {
@@ -29,10 +27,13 @@ public class MirrorNodeClientImpl extends AbstractMirrorNodeClient<JsonObject> {
 
   private final MirrorNodeJsonConverter<JsonObject> jsonConverter;
 
+  private final MirrorNodeJsonStreamingDecoder streamingDecoder;
+
   public MirrorNodeClientImpl(
       MirrorNodeRestClientImpl restClient, MirrorNodeJsonConverter<JsonObject> jsonConverter) {
     this.restClient = Objects.requireNonNull(restClient, "restClient must not be null");
     this.jsonConverter = Objects.requireNonNull(jsonConverter, "jsonConverter must not be null");
+    this.streamingDecoder = new MirrorNodeJsonStreamingDecoder();
   }
 
   @Override
@@ -47,28 +48,34 @@ public class MirrorNodeClientImpl extends AbstractMirrorNodeClient<JsonObject> {
 
   @Override
   public @NonNull Page<Nft> queryNftsByAccount(@NonNull AccountId accountId) throws HieroException {
-    throw new RuntimeException("Not implemented");
+    Objects.requireNonNull(accountId, "accountId must not be null");
+    final String path = "/api/v1/accounts/" + accountId + "/nfts";
+    return new RestBasedPage<>(restClient.getHttpClient(), path, streamingDecoder::decodeNfts);
   }
 
   @Override
   public @NonNull Page<Nft> queryNftsByAccountAndTokenId(
       @NonNull AccountId accountId, @NonNull TokenId tokenId) throws HieroException {
-    throw new RuntimeException("Not implemented");
+    Objects.requireNonNull(accountId, "accountId must not be null");
+    Objects.requireNonNull(tokenId, "tokenId must not be null");
+    final String path = "/api/v1/tokens/" + tokenId + "/nfts?account.id=" + accountId;
+    return new RestBasedPage<>(restClient.getHttpClient(), path, streamingDecoder::decodeNfts);
   }
 
   @Override
   public @NonNull Page<Nft> queryNftsByTokenId(@NonNull TokenId tokenId) throws HieroException {
-    throw new RuntimeException("Not implemented");
+    Objects.requireNonNull(tokenId, "tokenId must not be null");
+    final String path = "/api/v1/tokens/" + tokenId + "/nfts";
+    return new RestBasedPage<>(restClient.getHttpClient(), path, streamingDecoder::decodeNfts);
   }
 
   @Override
   public @NonNull Page<TransactionInfo> queryTransactionsByAccount(@NonNull AccountId accountId)
       throws HieroException {
     Objects.requireNonNull(accountId, "accountId must not be null");
-    final String path = "/api/v1/tokens?account.id=" + accountId;
-    final Function<JsonObject, List<TransactionInfo>> dataExtractionFunction =
-        node -> jsonConverter.toTransactionInfos(node);
-    return new RestBasedPage<>(restClient.getTarget(), dataExtractionFunction, path);
+    final String path = "/api/v1/transactions?account.id=" + accountId;
+    return new RestBasedPage<>(
+        restClient.getHttpClient(), path, streamingDecoder::decodeTransactions);
   }
 
   @Override
@@ -76,10 +83,10 @@ public class MirrorNodeClientImpl extends AbstractMirrorNodeClient<JsonObject> {
       @NonNull AccountId accountId, @NonNull TransactionType type) throws HieroException {
     Objects.requireNonNull(accountId, "accountId must not be null");
     Objects.requireNonNull(type, "type must not be null");
-    final String path = "/api/v1/tokens?account.id=" + accountId + "&transactiontype=" + type;
-    final Function<JsonObject, List<TransactionInfo>> dataExtractionFunction =
-        node -> jsonConverter.toTransactionInfos(node);
-    return new RestBasedPage<>(restClient.getTarget(), dataExtractionFunction, path);
+    final String path =
+        "/api/v1/transactions?account.id=" + accountId + "&transactiontype=" + type.getType();
+    return new RestBasedPage<>(
+        restClient.getHttpClient(), path, streamingDecoder::decodeTransactions);
   }
 
   @Override
@@ -87,10 +94,9 @@ public class MirrorNodeClientImpl extends AbstractMirrorNodeClient<JsonObject> {
       @NonNull AccountId accountId, @NonNull Result result) throws HieroException {
     Objects.requireNonNull(accountId, "accountId must not be null");
     Objects.requireNonNull(result, "result must not be null");
-    final String path = "/api/v1/tokens?account.id=" + accountId + "&result=" + result;
-    final Function<JsonObject, List<TransactionInfo>> dataExtractionFunction =
-        node -> jsonConverter.toTransactionInfos(node);
-    return new RestBasedPage<>(restClient.getTarget(), dataExtractionFunction, path);
+    final String path = "/api/v1/transactions?account.id=" + accountId + "&result=" + result.name();
+    return new RestBasedPage<>(
+        restClient.getHttpClient(), path, streamingDecoder::decodeTransactions);
   }
 
   @Override
@@ -98,28 +104,23 @@ public class MirrorNodeClientImpl extends AbstractMirrorNodeClient<JsonObject> {
       @NonNull AccountId accountId, @NonNull BalanceModification type) throws HieroException {
     Objects.requireNonNull(accountId, "accountId must not be null");
     Objects.requireNonNull(type, "type must not be null");
-    final String path = "/api/v1/tokens?account.id=" + accountId + "&type=" + type;
-    final Function<JsonObject, List<TransactionInfo>> dataExtractionFunction =
-        node -> jsonConverter.toTransactionInfos(node);
-    return new RestBasedPage<>(restClient.getTarget(), dataExtractionFunction, path);
+    final String path = "/api/v1/transactions?account.id=" + accountId + "&type=" + type.name();
+    return new RestBasedPage<>(
+        restClient.getHttpClient(), path, streamingDecoder::decodeTransactions);
   }
 
   @Override
   public Page<Token> queryTokensForAccount(@NonNull AccountId accountId) throws HieroException {
     Objects.requireNonNull(accountId, "accountId must not be null");
     final String path = "/api/v1/tokens?account.id=" + accountId;
-    final Function<JsonObject, List<Token>> dataExtractionFunction =
-        node -> jsonConverter.toTokens(node);
-    return new RestBasedPage<>(restClient.getTarget(), dataExtractionFunction, path);
+    return new RestBasedPage<>(restClient.getHttpClient(), path, streamingDecoder::decodeTokens);
   }
 
   @Override
   public @NonNull Page<Balance> queryTokenBalances(@NonNull TokenId tokenId) throws HieroException {
     Objects.requireNonNull(tokenId, "tokenId must not be null");
     final String path = "/api/v1/tokens/" + tokenId + "/balances";
-    final Function<JsonObject, List<Balance>> dataExtractionFunction =
-        node -> jsonConverter.toBalances(node);
-    return new RestBasedPage<>(restClient.getTarget(), dataExtractionFunction, path);
+    return new RestBasedPage<>(restClient.getHttpClient(), path, streamingDecoder::decodeBalances);
   }
 
   @Override
@@ -128,18 +129,15 @@ public class MirrorNodeClientImpl extends AbstractMirrorNodeClient<JsonObject> {
     Objects.requireNonNull(tokenId, "tokenId must not be null");
     Objects.requireNonNull(accountId, "accountId must not be null");
     final String path = "/api/v1/tokens/" + tokenId + "/balances?account.id=" + accountId;
-    final Function<JsonObject, List<Balance>> dataExtractionFunction =
-        node -> jsonConverter.toBalances(node);
-    return new RestBasedPage<>(restClient.getTarget(), dataExtractionFunction, path);
+    return new RestBasedPage<>(restClient.getHttpClient(), path, streamingDecoder::decodeBalances);
   }
 
   @Override
   public @NonNull Page<TopicMessage> queryTopicMessages(TopicId topicId) throws HieroException {
     Objects.requireNonNull(topicId, "topicId must not be null");
     final String path = "/api/v1/topics/" + topicId + "/messages";
-    final Function<JsonObject, List<TopicMessage>> dataExtractionFunction =
-        node -> jsonConverter.toTopicMessages(node);
-    return new RestBasedPage<>(restClient.getTarget(), dataExtractionFunction, path);
+    return new RestBasedPage<>(
+        restClient.getHttpClient(), path, streamingDecoder::decodeTopicMessages);
   }
 
   @Override
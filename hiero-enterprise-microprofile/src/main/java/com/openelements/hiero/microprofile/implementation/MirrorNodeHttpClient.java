@@ -0,0 +1,143 @@
+package com.openelements.hiero.microprofile.implementation;
+
+import jakarta.ws.rs.ProcessingException;
+import jakarta.ws.rs.client.Client;
+import jakarta.ws.rs.client.ClientBuilder;
+import jakarta.ws.rs.client.ClientRequestContext;
+import jakarta.ws.rs.client.ClientRequestFilter;
+import jakarta.ws.rs.client.WebTarget;
+import jakarta.ws.rs.core.HttpHeaders;
+import jakarta.ws.rs.core.MediaType;
+import jakarta.ws.rs.core.Response;
+import jakarta.ws.rs.ext.ReaderInterceptor;
+import jakarta.ws.rs.ext.ReaderInterceptorContext;
+import java.io.IOException;
+import java.util.Objects;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.zip.GZIPInputStream;
+import org.jspecify.annotations.NonNull;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * JAX-RS client that is shared by all requests to a mirror node. The client is created once, so the
+ * connections of the underlying connector are reused, and every response is closed after it has
+ * been read. The number of concurrent requests is limited, which bounds the number of open
+ * connections under load.
+ *
+ * <p>How many idle connections are kept alive is defined by the connector of the JAX-RS
+ * implementation. For the default connector of Jersey that is the keep-alive cache of the JDK,
+ * which is configured by the {@code http.keepAlive} and {@code http.maxConnections} system
+ * properties.
+ */
+public final class MirrorNodeHttpClient implements AutoCloseable {
+
+  private final Client client;
+
+  private final String target;
+
+  private final Semaphore connections;
+
+  /**
+   * Creates a mirror node client.
+   *
+   * @param client the JAX-RS client, that is closed together with this client
+   * @param target the base URL of the mirror node
+   * @param maxConnections the maximum number of concurrent requests
+   */
+  public MirrorNodeHttpClient(
+      @NonNull final Client client, @NonNull final String target, final int maxConnections) {
+    this.client = Objects.requireNonNull(client, "client must not be null");
+    this.target = Objects.requireNonNull(target, "target must not be null");
+    if (maxConnections < 1) {
+      throw new IllegalArgumentException("maxConnections must be positive");
+    }
+    this.connections = new Semaphore(maxConnections, true);
+  }
+
+  /**
+   * Creates a JAX-RS client with the given timeouts.
+   *
+   * @param connectTimeoutInMs the connect timeout in milliseconds
+   * @param readTimeoutInMs the read timeout in milliseconds
+   * @param compression true if responses are requested with gzip compression
+   * @return the JAX-RS client
+   */
+  @NonNull
+  public static Client createClient(
+      final long connectTimeoutInMs, final long readTimeoutInMs, final boolean compression) {
+    final ClientBuilder builder =
+        ClientBuilder.newBuilder()
+            .connectTimeout(connectTimeoutInMs, TimeUnit.MILLISECONDS)
+            .readTimeout(readTimeoutInMs, TimeUnit.MILLISECONDS);
+    if (compression) {
+      builder.register(GzipCompression.class);
+    }
+    return builder.build();
+  }
+
+  /**
+   * Sends a GET request to the mirror node and passes the response to the handler. The response is
+   * closed after the handler returns.
+   *
+   * @param path the path of the request
+   * @param query the query of the request, like {@code limit=25&order=asc}
+   * @param handler the handler that reads the response
+   * @return the result of the handler
+   * @param <R> the type of the result
+   */
+  <R> R get(
+      @NonNull final String path,
+      @Nullable final String query,
+      @NonNull final Function<Response, R> handler) {
+    WebTarget webTarget = client.target(target).path(path);
+    if (query != null) {
+      for (final String parameter : query.split("&")) {
+        final String[] p = parameter.split("=");
+        webTarget = webTarget.queryParam(p[0], p[1]);
+      }
+    }
+    try {
+      connections.acquire();
+    } catch (final InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new ProcessingException("Interrupted while waiting for a connection", e);
+    }
+    try (Response response = webTarget.request(MediaType.APPLICATION_JSON).get()) {
+      return handler.apply(response);
+    } finally {
+      connections.release();
+    }
+  }
+
+  @NonNull
+  public String getTarget() {
+    return target;
+  }
+
+  @Override
+  public void close() {
+    client.close();
+  }
+
+  /** Requests gzip compressed responses and decompresses them. */
+  public static final class GzipCompression implements ClientRequestFilter, ReaderInterceptor {
+
+    private static final String GZIP = "gzip";
+
+    @Override
+    public void filter(final ClientRequestContext requestContext) {
+      requestContext.getHeaders().putSingle(HttpHeaders.ACCEPT_ENCODING, GZIP);
+    }
+
+    @Override
+    public Object aroundReadFrom(final ReaderInterceptorContext context) throws IOException {
+      if (GZIP.equalsIgnoreCase(context.getHeaders().getFirst(HttpHeaders.CONTENT_ENCODING))) {
+        context.getHeaders().remove(HttpHeaders.CONTENT_ENCODING);
+        context.setInputStream(new GZIPInputStream(context.getInputStream()));
+      }
+      return context.proceed();
+    }
+  }
+}
@@ -37,8 +37,10 @@ import com.openelements.hiero.base.implementation.MirrorNodeJsonConverter;
 import com.openelements.hiero.base.protocol.data.TransactionType;
 import jakarta.json.JsonArray;
 import jakarta.json.JsonObject;
+import jakarta.json.JsonString;
 import jakarta.json.JsonValue;
 import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
 import java.time.Instant;
 import java.util.Base64;
 import java.util.List;
@@ -207,19 +209,20 @@ public class MirrorNodeJsonConverterImpl implements MirrorNodeJsonConverter<Json
 
     try {
       final String transactionId = jsonObject.getString("transaction_id");
-      final byte[] bytes = jsonObject.getString("bytes").getBytes();
-      final long chargedTxFee = Long.parseLong(jsonObject.getString("charged_tx_fee"));
+      final String bytesValue = getNullableString(jsonObject, "bytes");
+      final byte[] bytes = bytesValue == null ? null : bytesValue.getBytes();
+      final long chargedTxFee = getLong(jsonObject, "charged_tx_fee");
       final Instant consensusTimestamp =
           Instant.ofEpochSecond(
               (long) Double.parseDouble(jsonObject.getString("consensus_timestamp")));
-      final String entityId = jsonObject.getString("entity_id");
+      final String entityId = getNullableString(jsonObject, "entity_id");
       final String maxFee = jsonObject.getString("max_fee");
       final byte[] memo = jsonObject.getString("memo_base64").getBytes();
       final TransactionType name = TransactionType.from(jsonObject.getString("name"));
-      final String _node = jsonObject.getString("node");
+      final String _node = getNullableString(jsonObject, "node");
       final int nonce = jsonObject.getInt("nonce");
       final Instant parentConsensusTimestamp =
-          jsonObject.get("parent_consensus_timestamp").asJsonObject() == null
+          jsonObject.isNull("parent_consensus_timestamp")
               ? null
               : Instant.ofEpochSecond(
                   (long) Double.parseDouble(jsonObject.getString("parent_consensus_timestamp")));
@@ -297,7 +300,7 @@ public class MirrorNodeJsonConverterImpl implements MirrorNodeJsonConverter<Json
   private Transfer toTransfer(JsonValue node) {
     final JsonObject jsonObject = node.asJsonObject();
     final AccountId account = AccountId.fromString(jsonObject.getString("account"));
-    final long amount = Long.parseLong(jsonObject.getString("amount"));
+    final long amount = getLong(jsonObject, "amount");
     final boolean isApproval = jsonObject.getBoolean("is_approval");
 
     return new Transfer(account, amount, isApproval);
@@ -307,7 +310,7 @@ public class MirrorNodeJsonConverterImpl implements MirrorNodeJsonConverter<Json
     final JsonObject jsonObject = node.asJsonObject();
     final TokenId tokenId = TokenId.fromString(jsonObject.getString("token_id"));
     final AccountId account = AccountId.fromString(jsonObject.getString("account"));
-    final long amount = Long.parseLong(jsonObject.getString("amount"));
+    final long amount = getLong(jsonObject, "amount");
     final boolean isApproval = jsonObject.getBoolean("is_approval");
 
     return new TokenTransfer(tokenId, account, amount, isApproval);
@@ -316,7 +319,7 @@ public class MirrorNodeJsonConverterImpl implements MirrorNodeJsonConverter<Json
   private StakingRewardTransfer toStakingRewardTransfer(JsonValue node) {
     final JsonObject jsonObject = node.asJsonObject();
     final AccountId account = AccountId.fromString(jsonObject.getString("account"));
-    long amount = Long.parseLong(jsonObject.getString("amount"));
+    long amount = getLong(jsonObject, "amount");
 
     return new StakingRewardTransfer(account, amount);
   }
@@ -324,11 +327,11 @@ public class MirrorNodeJsonConverterImpl implements MirrorNodeJsonConverter<Json
   private NftTransfer toNftTransfer(JsonValue node) {
     final JsonObject jsonObject = node.asJsonObject();
     final boolean isApproval = jsonObject.getBoolean("is_approval");
-    final AccountId receiverAccountId =
-        AccountId.fromString(jsonObject.getString("receiver_account_id"));
-    final AccountId senderAccountId =
-        AccountId.fromString(jsonObject.getString("sender_account_id"));
-    final long serialNumber = Long.parseLong(jsonObject.getString("serial_number"));
+    final String receiver = getNullableString(jsonObject, "receiver_account_id");
+    final AccountId receiverAccountId = receiver == null ? null : AccountId.fromString(receiver);
+    final String sender = getNullableString(jsonObject, "sender_account_id");
+    final AccountId senderAccountId = sender == null ? null : AccountId.fromString(sender);
+    final long serialNumber = getLong(jsonObject, "serial_number");
     final TokenId tokenId = TokenId.fromString(jsonObject.getString("token_id"));
 
     return new NftTransfer(isApproval, receiverAccountId, senderAccountId, serialNumber, tokenId);
@@ -336,12 +339,12 @@ public class MirrorNodeJsonConverterImpl implements MirrorNodeJsonConverter<Json
 
   @Override
   public List<Nft> toNfts(@NonNull JsonObject jsonObject) {
-    if (!jsonObject.containsKey("transactions")) {
+    if (!jsonObject.containsKey("nfts")) {
       return List.of();
     }
 
     final JsonArray nftsArray = jsonObject.getJsonArray("nfts");
-    if (nftsArray.isEmpty()) {
+    if (nftsArray == null) {
       throw new IllegalArgumentException("NFTs jsonObject is not an array: " + nftsArray);
     }
     Spliterator<JsonValue> spliterator =
@@ -355,13 +358,28 @@ public class MirrorNodeJsonConverterImpl implements MirrorNodeJsonConverter<Json
 
   @NonNull
   private Stream<JsonValue> jsonArrayToStream(@NonNull final JsonArray jsonObject) {
-    if (jsonObject.isEmpty()) {
+    if (jsonObject == null) {
       throw new IllegalStateException("not an array");
     }
     return StreamSupport.stream(
         Spliterators.spliteratorUnknownSize(jsonObject.iterator(), Spliterator.ORDERED), false);
   }
 
+  /** Returns the string value of the key, or null if the value is null. */
+  private static String getNullableString(
+      @NonNull final JsonObject jsonObject, @NonNull final String key) {
+    return jsonObject.isNull(key) ? null : jsonObject.getString(key);
+  }
+
+  /** Returns the long value of the key, the mirror node sends some numbers as strings. */
+  private static long getLong(@NonNull final JsonObject jsonObject, @NonNull final String key) {
+    final JsonValue value = jsonObject.get(key);
+    if (value instanceof JsonString string) {
+      return Long.parseLong(string.getString());
+    }
+    return jsonObject.getJsonNumber(key).longValue();
+  }
+
   @Override
   public List<Token> toTokens(JsonObject jsonObject) {
     Objects.requireNonNull(jsonObject, "jsonObject must not be null");
@@ -471,28 +489,28 @@ public class MirrorNodeJsonConverterImpl implements MirrorNodeJsonConverter<Json
     }
 
     try {
-      final JsonObject chunk = jsonObject.get("chunk_info").asJsonObject();
       ChunkInfo chunkInfo = null;
-      if (chunk != null) {
+      if (!jsonObject.isNull("chunk_info")) {
+        final JsonObject chunk = jsonObject.getJsonObject("chunk_info");
         final TransactionId transactionId =
-            TransactionId.fromString(jsonObject.getString("initial_transaction_id"));
-        final int nonce = jsonObject.getInt("nonce");
-        final int number = jsonObject.getInt("number");
-        final int total = jsonObject.getInt("total");
-        final boolean scheduled = jsonObject.getBoolean("scheduled");
+            TransactionId.fromString(chunk.getString("initial_transaction_id"));
+        final int nonce = chunk.getInt("nonce");
+        final int number = chunk.getInt("number");
+        final int total = chunk.getInt("total");
+        final boolean scheduled = chunk.getBoolean("scheduled");
         chunkInfo = new ChunkInfo(transactionId, nonce, number, total, scheduled);
       }
 
       final Instant consensusTimestamp =
           Instant.ofEpochSecond(
               (long) Double.parseDouble(jsonObject.getString("consensus_timestamp")));
-      final String message =
-          new String(Base64.getDecoder().decode(jsonObject.getString("message")));
+      final byte[] contents = Base64.getDecoder().decode(jsonObject.getString("message"));
+      final String message = new String(contents, StandardCharsets.UTF_8);
       final AccountId payerAccountId =
           AccountId.fromString(jsonObject.getString("payer_account_id"));
       final byte[] runningHash = jsonObject.getString("running_hash").getBytes();
       final int runningHashVersion = jsonObject.getInt("running_hash_version");
-      final long sequenceNumber = Long.parseLong(jsonObject.getString("sequence_number"));
+      final long sequenceNumber = getLong(jsonObject, "sequence_number");
       final TopicId topicId = TopicId.fromString(jsonObject.getString("topic_id"));
 
       return Optional.of(
@@ -504,7 +522,8 @@ public class MirrorNodeJsonConverterImpl implements MirrorNodeJsonConverter<Json
               runningHash,
               runningHashVersion,
               sequenceNumber,
-              topicId));
+              topicId,
+              contents));
     } catch (final Exception e) {
       throw new IllegalStateException("Can not parse JSON: " + jsonObject, e);
     }
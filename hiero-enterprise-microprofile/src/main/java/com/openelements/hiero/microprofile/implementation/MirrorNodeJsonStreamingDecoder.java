@@ -0,0 +1,570 @@
+package com.openelements.hiero.microprofile.implementation;
+
+import com.hedera.hashgraph.sdk.AccountId;
+import com.hedera.hashgraph.sdk.TokenId;
+import com.hedera.hashgraph.sdk.TokenType;
+import com.hedera.hashgraph.sdk.TopicId;
+import com.hedera.hashgraph.sdk.TransactionId;
+import com.openelements.hiero.base.data.Balance;
+import com.openelements.hiero.base.data.ChunkInfo;
+import com.openelements.hiero.base.data.Nft;
+import com.openelements.hiero.base.data.NftTransfer;
+import com.openelements.hiero.base.data.StakingRewardTransfer;
+import com.openelements.hiero.base.data.Token;
+import com.openelements.hiero.base.data.TokenTransfer;
+import com.openelements.hiero.base.data.TopicMessage;
+import com.openelements.hiero.base.data.TransactionInfo;
+import com.openelements.hiero.base.data.Transfer;
+import com.openelements.hiero.base.protocol.data.TransactionType;
+import com.openelements.hiero.microprofile.implementation.PageDecoder.Content;
+import jakarta.json.Json;
+import jakarta.json.JsonException;
+import jakarta.json.stream.JsonParser;
+import jakarta.json.stream.JsonParser.Event;
+import jakarta.json.stream.JsonParserFactory;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import org.jspecify.annotations.NonNull;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Decodes list responses of the mirror node directly from the response stream. A JSON-P {@link
+ * JsonParser} walks the body once and creates the data records and the link to the next page
+ * without building a {@code JsonObject} of the body.
+ *
+ * <p>Values are read like {@link MirrorNodeJsonConverterImpl} does, so both produce equal records
+ * for the same response.
+ */
+public class MirrorNodeJsonStreamingDecoder {
+
+  private final JsonParserFactory parserFactory;
+
+  public MirrorNodeJsonStreamingDecoder() {
+    this(Json.createParserFactory(Map.of()));
+  }
+
+  public MirrorNodeJsonStreamingDecoder(@NonNull final JsonParserFactory parserFactory) {
+    this.parserFactory = Objects.requireNonNull(parserFactory, "parserFactory must not be null");
+  }
+
+  @NonNull
+  public Content<TransactionInfo> decodeTransactions(@NonNull final InputStream body) {
+    return decodePage(body, "transactions", this::decodeTransactionInfo);
+  }
+
+  @NonNull
+  public Content<Nft> decodeNfts(@NonNull final InputStream body) {
+    return decodePage(body, "nfts", this::decodeNft);
+  }
+
+  @NonNull
+  public Content<Balance> decodeBalances(@NonNull final InputStream body) {
+    return decodePage(body, "balances", this::decodeBalance);
+  }
+
+  @NonNull
+  public Content<TopicMessage> decodeTopicMessages(@NonNull final InputStream body) {
+    return decodePage(body, "messages", this::decodeTopicMessage);
+  }
+
+  @NonNull
+  public Content<Token> decodeTokens(@NonNull final InputStream body) {
+    return decodePage(body, "tokens", this::decodeToken);
+  }
+
+  private <T> Content<T> decodePage(
+      final InputStream body, final String arrayName, final ElementDecoder<T> elementDecoder) {
+    Objects.requireNonNull(body, "body must not be null");
+    try (JsonParser parser = parserFactory.createParser(body)) {
+      if (!parser.hasNext()) {
+        throw new IllegalStateException("Response body is empty");
+      }
+      final Event start = parser.next();
+      if (start != Event.START_OBJECT) {
+        throw new IllegalStateException(
+            "Can not parse JSON: expected an object but found " + start);
+      }
+      List<T> data = List.of();
+      String nextPath = null;
+      while (parser.next() == Event.KEY_NAME) {
+        final String field = parser.getString();
+        final Event event = parser.next();
+        if (arrayName.equals(field)) {
+          data = decodeArray(parser, event, field, elementDecoder);
+        } else if ("links".equals(field) && event == Event.START_OBJECT) {
+          nextPath = decodeNextPath(parser);
+        } else {
+          skip(parser, event);
+        }
+      }
+      return new Content<>(data, nextPath);
+    } catch (final JsonException e) {
+      throw new IllegalStateException("Can not parse JSON: " + e.getMessage(), e);
+    }
+  }
+
+  @Nullable
+  private static String decodeNextPath(final JsonParser parser) {
+    String nextPath = null;
+    while (parser.next() == Event.KEY_NAME) {
+      final String field = parser.getString();
+      final Event event = parser.next();
+      if ("next".equals(field)) {
+        nextPath = nullableString(parser, event);
+      } else {
+        skip(parser, event);
+      }
+    }
+    return nextPath;
+  }
+
+  /** Decodes an array of objects, elements the element decoder returns null for are skipped. */
+  private static <T> List<T> decodeArray(
+      final JsonParser parser,
+      final Event event,
+      final String field,
+      final ElementDecoder<T> elementDecoder) {
+    if (event != Event.START_ARRAY) {
+      throw new IllegalStateException("Can not parse JSON: '" + field + "' is not an array");
+    }
+    final List<T> elements = new ArrayList<>();
+    Event next;
+    while ((next = parser.next()) != Event.END_ARRAY) {
+      if (next != Event.START_OBJECT) {
+        throw new IllegalStateException("Can not parse JSON: '" + field + "' contains " + next);
+      }
+      final T element;
+      try {
+        element = elementDecoder.decode(parser);
+      } catch (final RuntimeException e) {
+        throw new IllegalStateException(
+            "Can not parse JSON: invalid element in '" + field + "'", e);
+      }
+      if (element != null) {
+        elements.add(element);
+      }
+    }
+    return Collections.unmodifiableList(elements);
+  }
+
+  @Nullable
+  private TransactionInfo decodeTransactionInfo(final JsonParser parser) {
+    final Fields fields = new Fields();
+    String transactionId = null;
+    String bytes = null;
+    Long chargedTxFee = null;
+    String consensusTimestamp = null;
+    String entityId = null;
+    String maxFee = null;
+    String memo = null;
+    String name = null;
+    String node = null;
+    Integer nonce = null;
+    String parentConsensusTimestamp = null;
+    String result = null;
+    Boolean scheduled = null;
+    String transactionHash = null;
+    String validDurationSeconds = null;
+    String validStartTimestamp = null;
+    List<NftTransfer> nftTransfers = null;
+    List<StakingRewardTransfer> stakingRewardTransfers = null;
+    List<TokenTransfer> tokenTransfers = null;
+    List<Transfer> transfers = null;
+    while (parser.next() == Event.KEY_NAME) {
+      final String field = fields.next(parser);
+      final Event event = parser.next();
+      switch (field) {
+        case "transaction_id" -> transactionId = string(parser, event);
+        case "bytes" -> bytes = nullableString(parser, event);
+        case "charged_tx_fee" -> chargedTxFee = longValue(parser, event);
+        case "consensus_timestamp" -> consensusTimestamp = string(parser, event);
+        case "entity_id" -> entityId = nullableString(parser, event);
+        case "max_fee" -> maxFee = string(parser, event);
+        case "memo_base64" -> memo = string(parser, event);
+        case "name" -> name = string(parser, event);
+        case "node" -> node = nullableString(parser, event);
+        case "nonce" -> nonce = intValue(parser, event);
+        case "parent_consensus_timestamp" ->
+            parentConsensusTimestamp = nullableString(parser, event);
+        case "result" -> result = string(parser, event);
+        case "scheduled" -> scheduled = booleanValue(event);
+        case "transaction_hash" -> transactionHash = string(parser, event);
+        case "valid_duration_seconds" -> validDurationSeconds = string(parser, event);
+        case "valid_start_timestamp" -> validStartTimestamp = string(parser, event);
+        case "nft_transfers" ->
+            nftTransfers = decodeArray(parser, event, field, this::decodeNftTransfer);
+        case "staking_reward_transfers" ->
+            stakingRewardTransfers =
+                decodeArray(parser, event, field, this::decodeStakingRewardTransfer);
+        case "token_transfers" ->
+            tokenTransfers = decodeArray(parser, event, field, this::decodeTokenTransfer);
+        case "transfers" -> transfers = decodeArray(parser, event, field, this::decodeTransfer);
+        default -> skip(parser, event);
+      }
+    }
+    if (fields.isEmpty()) {
+      return null;
+    }
+    fields.require("bytes", "entity_id", "node", "parent_consensus_timestamp");
+    return new TransactionInfo(
+        require(transactionId, "transaction_id"),
+        bytes == null ? null : bytes.getBytes(),
+        require(chargedTxFee, "charged_tx_fee"),
+        timestamp(require(consensusTimestamp, "consensus_timestamp")),
+        entityId,
+        require(maxFee, "max_fee"),
+        require(memo, "memo_base64").getBytes(),
+        TransactionType.from(require(name, "name")),
+        require(nftTransfers, "nft_transfers"),
+        node,
+        require(nonce, "nonce"),
+        parentConsensusTimestamp == null ? null : timestamp(parentConsensusTimestamp),
+        require(result, "result"),
+        require(scheduled, "scheduled"),
+        require(stakingRewardTransfers, "staking_reward_transfers"),
+        require(tokenTransfers, "token_transfers"),
+        require(transactionHash, "transaction_hash").getBytes(),
+        require(transfers, "transfers"),
+        require(validDurationSeconds, "valid_duration_seconds"),
+        timestamp(require(validStartTimestamp, "valid_start_timestamp")));
+  }
+
+  private Transfer decodeTransfer(final JsonParser parser) {
+    String account = null;
+    Long amount = null;
+    Boolean isApproval = null;
+    while (parser.next() == Event.KEY_NAME) {
+      final String field = parser.getString();
+      final Event event = parser.next();
+      switch (field) {
+        case "account" -> account = string(parser, event);
+        case "amount" -> amount = longValue(parser, event);
+        case "is_approval" -> isApproval = booleanValue(event);
+        default -> skip(parser, event);
+      }
+    }
+    return new Transfer(
+        AccountId.fromString(require(account, "account")),
+        require(amount, "amount"),
+        require(isApproval, "is_approval"));
+  }
+
+  private TokenTransfer decodeTokenTransfer(final JsonParser parser) {
+    String tokenId = null;
+    String account = null;
+    Long amount = null;
+    Boolean isApproval = null;
+    while (parser.next() == Event.KEY_NAME) {
+      final String field = parser.getString();
+      final Event event = parser.next();
+      switch (field) {
+        case "token_id" -> tokenId = string(parser, event);
+        case "account" -> account = string(parser, event);
+        case "amount" -> amount = longValue(parser, event);
+        case "is_approval" -> isApproval = booleanValue(event);
+        default -> skip(parser, event);
+      }
+    }
+    return new TokenTransfer(
+        TokenId.fromString(require(tokenId, "token_id")),
+        AccountId.fromString(require(account, "account")),
+        require(amount, "amount"),
+        require(isApproval, "is_approval"));
+  }
+
+  private StakingRewardTransfer decodeStakingRewardTransfer(final JsonParser parser) {
+    String account = null;
+    Long amount = null;
+    while (parser.next() == Event.KEY_NAME) {
+      final String field = parser.getString();
+      final Event event = parser.next();
+      switch (field) {
+        case "account" -> account = string(parser, event);
+        case "amount" -> amount = longValue(parser, event);
+        default -> skip(parser, event);
+      }
+    }
+    return new StakingRewardTransfer(
+        AccountId.fromString(require(account, "account")), require(amount, "amount"));
+  }
+
+  private NftTransfer decodeNftTransfer(final JsonParser parser) {
+    final Fields fields = new Fields();
+    Boolean isApproval = null;
+    String receiverAccountId = null;
+    String senderAccountId = null;
+    Long serialNumber = null;
+    String tokenId = null;
+    while (parser.next() == Event.KEY_NAME) {
+      final String field = fields.next(parser);
+      final Event event = parser.next();
+      switch (field) {
+        case "is_approval" -> isApproval = booleanValue(event);
+        case "receiver_account_id" -> receiverAccountId = nullableString(parser, event);
+        case "sender_account_id" -> senderAccountId = nullableString(parser, event);
+        case "serial_number" -> serialNumber = longValue(parser, event);
+        case "token_id" -> tokenId = string(parser, event);
+        default -> skip(parser, event);
+      }
+    }
+    fields.require("receiver_account_id", "sender_account_id");
+    return new NftTransfer(
+        require(isApproval, "is_approval"),
+        receiverAccountId == null ? null : AccountId.fromString(receiverAccountId),
+        senderAccountId == null ? null : AccountId.fromString(senderAccountId),
+        require(serialNumber, "serial_number"),
+        TokenId.fromString(require(tokenId, "token_id")));
+  }
+
+  private Nft decodeNft(final JsonParser parser) {
+    String tokenId = null;
+    String accountId = null;
+    Long serial = null;
+    String metadata = null;
+    while (parser.next() == Event.KEY_NAME) {
+      final String field = parser.getString();
+      final Event event = parser.next();
+      switch (field) {
+        case "token_id" -> tokenId = string(parser, event);
+        case "account_id" -> accountId = string(parser, event);
+        case "serial_number" -> serial = number(parser, event);
+        case "metadata" -> metadata = string(parser, event);
+        default -> skip(parser, event);
+      }
+    }
+    return new Nft(
+        TokenId.fromString(require(tokenId, "token_id")),
+        require(serial, "serial_number"),
+        AccountId.fromString(require(accountId, "account_id")),
+        require(metadata, "metadata").getBytes());
+  }
+
+  @Nullable
+  private Balance decodeBalance(final JsonParser parser) {
+    final Fields fields = new Fields();
+    String account = null;
+    Long balance = null;
+    Long decimals = null;
+    while (parser.next() == Event.KEY_NAME) {
+      final String field = fields.next(parser);
+      final Event event = parser.next();
+      switch (field) {
+        case "account" -> account = string(parser, event);
+        case "balance" -> balance = number(parser, event);
+        case "decimals" -> decimals = number(parser, event);
+        default -> skip(parser, event);
+      }
+    }
+    if (fields.isEmpty()) {
+      return null;
+    }
+    return new Balance(
+        AccountId.fromString(require(account, "account")),
+        require(balance, "balance"),
+        require(decimals, "decimals"));
+  }
+
+  @Nullable
+  private TopicMessage decodeTopicMessage(final JsonParser parser) {
+    final Fields fields = new Fields();
+    ChunkInfo chunkInfo = null;
+    String consensusTimestamp = null;
+    String message = null;
+    String payerAccountId = null;
+    String runningHash = null;
+    Integer runningHashVersion = null;
+    Long sequenceNumber = null;
+    String topicId = null;
+    while (parser.next() == Event.KEY_NAME) {
+      final String field = fields.next(parser);
+      final Event event = parser.next();
+      switch (field) {
+        case "chunk_info" -> chunkInfo = event == Event.VALUE_NULL ? null : decodeChunkInfo(parser);
+        case "consensus_timestamp" -> consensusTimestamp = string(parser, event);
+        case "message" -> message = string(parser, event);
+        case "payer_account_id" -> payerAccountId = string(parser, event);
+        case "running_hash" -> runningHash = string(parser, event);
+        case "running_hash_version" -> runningHashVersion = intValue(parser, event);
+        case "sequence_number" -> sequenceNumber = longValue(parser, event);
+        case "topic_id" -> topicId = string(parser, event);
+        default -> skip(parser, event);
+      }
+    }
+    if (fields.isEmpty()) {
+      return null;
+    }
+    fields.require("chunk_info");
+    final byte[] contents = Base64.getDecoder().decode(require(message, "message"));
+    return new TopicMessage(
+        chunkInfo,
+        timestamp(require(consensusTimestamp, "consensus_timestamp")),
+        new String(contents, StandardCharsets.UTF_8),
+        AccountId.fromString(require(payerAccountId, "payer_account_id")),
+        require(runningHash, "running_hash").getBytes(),
+        require(runningHashVersion, "running_hash_version"),
+        require(sequenceNumber, "sequence_number"),
+        TopicId.fromString(require(topicId, "topic_id")),
+        contents);
+  }
+
+  private ChunkInfo decodeChunkInfo(final JsonParser parser) {
+    String initialTransactionId = null;
+    Integer nonce = null;
+    Integer number = null;
+    Integer total = null;
+    Boolean scheduled = null;
+    while (parser.next() == Event.KEY_NAME) {
+      final String field = parser.getString();
+      final Event event = parser.next();
+      switch (field) {
+        case "initial_transaction_id" -> initialTransactionId = string(parser, event);
+        case "nonce" -> nonce = intValue(parser, event);
+        case "number" -> number = intValue(parser, event);
+        case "total" -> total = intValue(parser, event);
+        case "scheduled" -> scheduled = booleanValue(event);
+        default -> skip(parser, event);
+      }
+    }
+    return new ChunkInfo(
+        TransactionId.fromString(require(initialTransactionId, "initial_transaction_id")),
+        require(nonce, "nonce"),
+        require(number, "number"),
+        require(total, "total"),
+        require(scheduled, "scheduled"));
+  }
+
+  @Nullable
+  private Token decodeToken(final JsonParser parser) {
+    final Fields fields = new Fields();
+    String metadata = null;
+    String name = null;
+    String symbol = null;
+    Long decimals = null;
+    String type = null;
+    String tokenId = null;
+    while (parser.next() == Event.KEY_NAME) {
+      final String field = fields.next(parser);
+      final Event event = parser.next();
+      switch (field) {
+        case "metadata" -> metadata = string(parser, event);
+        case "name" -> name = string(parser, event);
+        case "symbol" -> symbol = string(parser, event);
+        case "decimals" -> decimals = number(parser, event);
+        case "type" -> type = string(parser, event);
+        case "token_id" -> tokenId = nullableString(parser, event);
+        default -> skip(parser, event);
+      }
+    }
+    if (fields.isEmpty()) {
+      return null;
+    }
+    fields.require("token_id");
+    return new Token(
+        require(decimals, "decimals"),
+        require(metadata, "metadata").getBytes(),
+        require(name, "name"),
+        require(symbol, "symbol"),
+        tokenId == null ? null : TokenId.fromString(tokenId),
+        TokenType.valueOf(require(type, "type")));
+  }
+
+  private static Instant timestamp(final String value) {
+    return Instant.ofEpochSecond((long) Double.parseDouble(value));
+  }
+
+  private static String string(final JsonParser parser, final Event event) {
+    if (event != Event.VALUE_STRING) {
+      throw new IllegalStateException("Expected a string but found " + event);
+    }
+    return parser.getString();
+  }
+
+  @Nullable
+  private static String nullableString(final JsonParser parser, final Event event) {
+    return event == Event.VALUE_NULL ? null : string(parser, event);
+  }
+
+  private static long number(final JsonParser parser, final Event event) {
+    if (event != Event.VALUE_NUMBER) {
+      throw new IllegalStateException("Expected a number but found " + event);
+    }
+    return parser.getLong();
+  }
+
+  private static int intValue(final JsonParser parser, final Event event) {
+    if (event != Event.VALUE_NUMBER) {
+      throw new IllegalStateException("Expected a number but found " + event);
+    }
+    return parser.getInt();
+  }
+
+  /** Returns the value as long, the mirror node sends some numbers as strings. */
+  private static long longValue(final JsonParser parser, final Event event) {
+    if (event == Event.VALUE_STRING) {
+      return Long.parseLong(parser.getString());
+    }
+    return number(parser, event);
+  }
+
+  private static boolean booleanValue(final Event event) {
+    return switch (event) {
+      case VALUE_TRUE -> true;
+      case VALUE_FALSE -> false;
+      default -> throw new IllegalStateException("Expected a boolean but found " + event);
+    };
+  }
+
+  private static void skip(final JsonParser parser, final Event event) {
+    if (event == Event.START_OBJECT) {
+      parser.skipObject();
+    } else if (event == Event.START_ARRAY) {
+      parser.skipArray();
+    }
+  }
+
+  private static <V> V require(@Nullable final V value, final String field) {
+    if (value == null) {
+      throw new IllegalStateException("Missing field '" + field + "'");
+    }
+    return value;
+  }
+
+  /**
+   * Names of the fields of an object. Fields that may be null must still be present, like the
+   * converter requires them.
+   */
+  private static final class Fields {
+
+    private final List<String> names = new ArrayList<>();
+
+    String next(final JsonParser parser) {
+      final String name = parser.getString();
+      names.add(name);
+      return name;
+    }
+
+    boolean isEmpty() {
+      return names.isEmpty();
+    }
+
+    void require(final String... required) {
+      for (final String name : required) {
+        if (!names.contains(name)) {
+          throw new IllegalStateException("Missing field '" + name + "'");
+        }
+      }
+    }
+  }
+
+  @FunctionalInterface
+  private interface ElementDecoder<T> {
+    @Nullable T decode(JsonParser parser);
+  }
+}
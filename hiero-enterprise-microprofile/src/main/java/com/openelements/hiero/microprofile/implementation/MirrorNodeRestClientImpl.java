@@ -2,33 +2,48 @@ package com.openelements.hiero.microprofile.implementation;
 
 import com.openelements.hiero.base.HieroException;
 import com.openelements.hiero.base.implementation.MirrorNodeRestClient;
+import com.openelements.hiero.base.jfr.MirrorNodeRequestEvent;
 import jakarta.json.JsonObject;
-import jakarta.ws.rs.client.Client;
-import jakarta.ws.rs.client.ClientBuilder;
-import jakarta.ws.rs.core.MediaType;
-import jakarta.ws.rs.core.Response;
+import java.util.Objects;
 import org.jspecify.annotations.NonNull;
 
 public class MirrorNodeRestClientImpl implements MirrorNodeRestClient<JsonObject> {
 
-  private final String target;
+  private final MirrorNodeHttpClient httpClient;
 
-  public MirrorNodeRestClientImpl(String target) {
-    this.target = target;
+  public MirrorNodeRestClientImpl(@NonNull final MirrorNodeHttpClient httpClient) {
+    this.httpClient = Objects.requireNonNull(httpClient, "httpClient must not be null");
   }
 
   @Override
   public @NonNull JsonObject doGetCall(@NonNull String path) throws HieroException {
-    Client client = ClientBuilder.newClient();
-    Response response = client.target(target).path(path).request(MediaType.APPLICATION_JSON).get();
-
-    if (response.getStatus() == 404 || !response.hasEntity()) {
-      return JsonObject.EMPTY_JSON_OBJECT;
+    final MirrorNodeRequestEvent event = new MirrorNodeRequestEvent();
+    event.begin();
+    final boolean[] received = {false};
+    try {
+      return httpClient.get(
+          path,
+          null,
+          response -> {
+            received[0] = true;
+            if (response.getStatus() == 404 || !response.hasEntity()) {
+              event.complete(path, response.getStatus(), response.getLength());
+              return JsonObject.EMPTY_JSON_OBJECT;
+            }
+            final JsonObject jsonObject = response.readEntity(JsonObject.class);
+            event.complete(path, response.getStatus(), response.getLength());
+            return jsonObject;
+          });
+    } catch (final RuntimeException e) {
+      if (!received[0]) {
+        event.complete(path, 0, -1);
+      }
+      throw e;
     }
-    return response.readEntity(JsonObject.class);
   }
 
-  public String getTarget() {
-    return target;
+  @NonNull
+  public MirrorNodeHttpClient getHttpClient() {
+    return httpClient;
   }
 }
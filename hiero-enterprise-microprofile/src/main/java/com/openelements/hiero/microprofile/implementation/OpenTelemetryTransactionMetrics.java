@@ -0,0 +1,104 @@
+package com.openelements.hiero.microprofile.implementation;
+
+import com.hedera.hashgraph.sdk.Status;
+import com.openelements.hiero.base.TransactionMetrics;
+import com.openelements.hiero.base.data.PhaseLatency;
+import com.openelements.hiero.base.data.TransactionPhase;
+import com.openelements.hiero.base.protocol.data.TransactionType;
+import io.opentelemetry.api.OpenTelemetry;
+import io.opentelemetry.api.common.AttributeKey;
+import io.opentelemetry.api.common.Attributes;
+import io.opentelemetry.api.metrics.DoubleHistogram;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import org.jspecify.annotations.NonNull;
+
+/**
+ * {@link TransactionMetrics} that publishes the latency of every phase as an OpenTelemetry
+ * histogram with the name {@link #HISTOGRAM_NAME}, tagged by phase, type and status. MicroProfile
+ * Telemetry exports the histogram with the other metrics of the application. The percentiles of
+ * {@link #getLatencies()} are read from the wrapped metrics, since an OpenTelemetry histogram can
+ * not be read by the application.
+ */
+public class OpenTelemetryTransactionMetrics implements TransactionMetrics {
+
+  public static final String HISTOGRAM_NAME = "hiero.transaction.phase.time";
+  public static final AttributeKey<String> PHASE_ATTRIBUTE =
+      AttributeKey.stringKey("hiero.transaction.phase");
+  public static final AttributeKey<String> TYPE_ATTRIBUTE =
+      AttributeKey.stringKey("hiero.transaction.type");
+  public static final AttributeKey<String> STATUS_ATTRIBUTE =
+      AttributeKey.stringKey("hiero.transaction.status");
+
+  private static final String INSTRUMENTATION_SCOPE = "com.openelements.hiero";
+
+  private static final double NANOS_PER_SECOND = 1_000_000_000d;
+
+  private final TransactionMetrics delegate;
+
+  private final DoubleHistogram histogram;
+
+  private final Map<Key, Attributes> attributes = new ConcurrentHashMap<>();
+
+  /**
+   * Creates the metrics.
+   *
+   * @param openTelemetry the OpenTelemetry instance of the application
+   * @param delegate the metrics that provide the latencies of {@link #getLatencies()}
+   */
+  public OpenTelemetryTransactionMetrics(
+      @NonNull final OpenTelemetry openTelemetry, @NonNull final TransactionMetrics delegate) {
+    Objects.requireNonNull(openTelemetry, "openTelemetry must not be null");
+    this.delegate = Objects.requireNonNull(delegate, "delegate must not be null");
+    this.histogram =
+        openTelemetry
+            .getMeter(INSTRUMENTATION_SCOPE)
+            .histogramBuilder(HISTOGRAM_NAME)
+            .setDescription("Latency of a phase of a Hiero transaction or query")
+            .setUnit("s")
+            .build();
+  }
+
+  @Override
+  public void recordTransaction(
+      @NonNull final TransactionPhase phase,
+      @NonNull final TransactionType type,
+      @NonNull final Status status,
+      final long durationNanos) {
+    delegate.recordTransaction(phase, type, status, durationNanos);
+    record(phase, type.name(), status, durationNanos);
+  }
+
+  @Override
+  public void recordQuery(
+      @NonNull final String queryType, @NonNull final Status status, final long durationNanos) {
+    delegate.recordQuery(queryType, status, durationNanos);
+    record(TransactionPhase.QUERY, queryType, status, durationNanos);
+  }
+
+  @Override
+  public @NonNull List<PhaseLatency> getLatencies() {
+    return delegate.getLatencies();
+  }
+
+  private void record(
+      @NonNull final TransactionPhase phase,
+      @NonNull final String type,
+      @NonNull final Status status,
+      final long durationNanos) {
+    final Attributes keyAttributes =
+        attributes.computeIfAbsent(
+            new Key(phase, type, status),
+            key ->
+                Attributes.of(
+                    PHASE_ATTRIBUTE, key.phase().name(),
+                    TYPE_ATTRIBUTE, key.type(),
+                    STATUS_ATTRIBUTE, key.status().name()));
+    histogram.record(Math.max(0, durationNanos) / NANOS_PER_SECOND, keyAttributes);
+  }
+
+  private record Key(
+      @NonNull TransactionPhase phase, @NonNull String type, @NonNull Status status) {}
+}
@@ -1,21 +1,27 @@
 package com.openelements.hiero.microprofile.implementation;
 
 import com.openelements.hiero.base.data.Page;
+import com.openelements.hiero.base.jfr.MirrorNodeRequestEvent;
+import jakarta.json.Json;
 import jakarta.json.JsonObject;
-import jakarta.ws.rs.client.Client;
-import jakarta.ws.rs.client.ClientBuilder;
-import jakarta.ws.rs.client.WebTarget;
-import jakarta.ws.rs.core.MediaType;
-import jakarta.ws.rs.core.Response;
+import jakarta.json.JsonReader;
+import jakarta.json.JsonReaderFactory;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.function.Function;
 import org.jspecify.annotations.NonNull;
 
 public class RestBasedPage<T> implements Page<T> {
-  private final String restTarget;
-  private final Function<JsonObject, List<T>> dataExtractionFunction;
+  private static final JsonReaderFactory READER_FACTORY = Json.createReaderFactory(Map.of());
+  private final MirrorNodeHttpClient httpClient;
+  private final PageDecoder<T> decoder;
   private final List<T> data;
   private final String rootPath;
   private final String currentPath;
@@ -23,49 +29,111 @@ public class RestBasedPage<T> implements Page<T> {
   private final int number;
 
   public RestBasedPage(
-      @NonNull String restTarget,
+      @NonNull MirrorNodeHttpClient httpClient,
       @NonNull Function<JsonObject, @NonNull List<T>> dataExtractionFunction,
       @NonNull String path) {
-    this(restTarget, dataExtractionFunction, path, path, 0);
+    this(httpClient, dataExtractionFunction, path, path, 0);
   }
 
   public RestBasedPage(
-      @NonNull String restTarget,
+      @NonNull MirrorNodeHttpClient httpClient,
       @NonNull Function<JsonObject, List<T>> dataExtractionFunction,
       @NonNull String path,
       @NonNull String rootPath,
       int number) {
-    this.restTarget = Objects.requireNonNull(restTarget, "restTarget must not be null");
-    this.dataExtractionFunction =
-        Objects.requireNonNull(dataExtractionFunction, "dataExtractionFunction must not be null");
+    this(httpClient, path, treeDecoder(dataExtractionFunction), rootPath, number);
+  }
+
+  /**
+   * Creates the first page. The decoder reads the body of every page directly from the response
+   * stream.
+   *
+   * @param httpClient the HTTP client of the mirror node
+   * @param path the path of the page
+   * @param decoder the decoder of the response body
+   */
+  public RestBasedPage(
+      @NonNull MirrorNodeHttpClient httpClient,
+      @NonNull String path,
+      @NonNull PageDecoder<T> decoder) {
+    this(httpClient, path, decoder, path, 0);
+  }
+
+  private RestBasedPage(
+      @NonNull MirrorNodeHttpClient httpClient,
+      @NonNull String path,
+      @NonNull PageDecoder<T> decoder,
+      @NonNull String rootPath,
+      int number) {
+    this.httpClient = Objects.requireNonNull(httpClient, "httpClient must not be null");
+    this.decoder = Objects.requireNonNull(decoder, "decoder must not be null");
     this.rootPath = Objects.requireNonNull(rootPath, "rootPath must not be null");
     this.currentPath = Objects.requireNonNull(path, "path must not be null");
     this.number = number;
 
     String[] pathParts = currentPath.split("\\?");
     final String requestPath = pathParts[0];
+    final String requestQuery = pathParts.length > 1 ? pathParts[1] : null;
 
+    final MirrorNodeRequestEvent event = new MirrorNodeRequestEvent();
+    event.begin();
+    final boolean[] received = {false};
     try {
-      Client client = ClientBuilder.newClient();
-      WebTarget target = client.target(restTarget).path(requestPath);
-      if (pathParts.length > 1) {
-        String[] params = pathParts[1].split("&");
-        for (String param : params) {
-          String[] p = param.split("=");
-          target = target.queryParam(p[0], p[1]);
-        }
-      }
-      Response response = target.request(MediaType.APPLICATION_JSON).get();
-
-      final JsonObject jsonObject = response.readEntity(JsonObject.class);
-      this.data = Collections.unmodifiableList(dataExtractionFunction.apply(jsonObject));
-      this.nextPath = getNextPath(jsonObject);
+      final PageDecoder.Content<T> content =
+          httpClient.get(
+              requestPath,
+              requestQuery,
+              response -> {
+                received[0] = true;
+                try {
+                  return decode(response.readEntity(InputStream.class));
+                } finally {
+                  event.complete(requestPath, response.getStatus(), response.getLength());
+                }
+              });
+      this.data = Collections.unmodifiableList(content.data());
+      this.nextPath = content.nextPath();
     } catch (Exception e) {
+      if (!received[0]) {
+        event.complete(requestPath, 0, -1);
+      }
       throw new IllegalStateException("Can not parse JSON: " + e);
     }
   }
 
-  private String getNextPath(final JsonObject jsonObject) {
+  /**
+   * Decodes the body and reads it to the end, so the connection can be reused even if the decoder
+   * stops at the end of the JSON document.
+   */
+  private PageDecoder.Content<T> decode(final InputStream body) {
+    final PageDecoder.Content<T> content =
+        decoder.decode(
+            new FilterInputStream(body) {
+              @Override
+              public void close() {}
+            });
+    try {
+      body.transferTo(OutputStream.nullOutputStream());
+    } catch (final IOException e) {
+      throw new UncheckedIOException("Error reading response body", e);
+    }
+    return content;
+  }
+
+  /** Returns a decoder that reads the body as object and passes it to the extraction function. */
+  private static <T> PageDecoder<T> treeDecoder(
+      @NonNull Function<JsonObject, List<T>> dataExtractionFunction) {
+    Objects.requireNonNull(dataExtractionFunction, "dataExtractionFunction must not be null");
+    return body -> {
+      try (JsonReader reader = READER_FACTORY.createReader(body)) {
+        final JsonObject jsonObject = reader.readObject();
+        return new PageDecoder.Content<>(
+            dataExtractionFunction.apply(jsonObject), getNextPath(jsonObject));
+      }
+    };
+  }
+
+  private static String getNextPath(final JsonObject jsonObject) {
     if (!jsonObject.containsKey("links")) {
       return null;
     }
@@ -112,12 +180,12 @@ public class RestBasedPage<T> implements Page<T> {
     if (nextPath == null) {
       throw new IllegalStateException("No next Page");
     }
-    return new RestBasedPage<T>(restTarget, dataExtractionFunction, nextPath, rootPath, number + 1);
+    return new RestBasedPage<T>(httpClient, nextPath, decoder, rootPath, number + 1);
   }
 
   @Override
   public Page<T> first() {
-    return new RestBasedPage<T>(restTarget, dataExtractionFunction, rootPath);
+    return new RestBasedPage<T>(httpClient, rootPath, decoder);
   }
 
   @Override
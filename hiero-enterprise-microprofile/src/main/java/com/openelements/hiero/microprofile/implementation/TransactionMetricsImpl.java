@@ -0,0 +1,96 @@
+package com.openelements.hiero.microprofile.implementation;
+
+import com.hedera.hashgraph.sdk.Status;
+import com.openelements.hiero.base.TransactionMetrics;
+import com.openelements.hiero.base.data.PhaseLatency;
+import com.openelements.hiero.base.data.TransactionPhase;
+import com.openelements.hiero.base.protocol.data.TransactionType;
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+import org.jspecify.annotations.NonNull;
+
+/**
+ * Implementation of {@link TransactionMetrics} that keeps an HdrHistogram for every phase, type and
+ * status. Measurements are written to a {@link Recorder}, which is wait-free, and are only merged
+ * into the total histogram when the latencies are read. It lives in the MicroProfile module since
+ * HdrHistogram is not a named module and can not be required by the base module.
+ */
+public class TransactionMetricsImpl implements TransactionMetrics {
+
+  private static final int SIGNIFICANT_DIGITS = 3;
+
+  private final Map<Key, Latencies> latencies = new ConcurrentHashMap<>();
+
+  @Override
+  public void recordTransaction(
+      @NonNull final TransactionPhase phase,
+      @NonNull final TransactionType type,
+      @NonNull final Status status,
+      final long durationNanos) {
+    Objects.requireNonNull(type, "type must not be null");
+    record(phase, type.name(), status, durationNanos);
+  }
+
+  @Override
+  public void recordQuery(
+      @NonNull final String queryType, @NonNull final Status status, final long durationNanos) {
+    record(TransactionPhase.QUERY, queryType, status, durationNanos);
+  }
+
+  @Override
+  public @NonNull List<PhaseLatency> getLatencies() {
+    return latencies.entrySet().stream()
+        .map(entry -> entry.getValue().snapshot(entry.getKey()))
+        .sorted(
+            Comparator.comparing(PhaseLatency::phase)
+                .thenComparing(PhaseLatency::type)
+                .thenComparing(PhaseLatency::status))
+        .toList();
+  }
+
+  private void record(
+      @NonNull final TransactionPhase phase,
+      @NonNull final String type,
+      @NonNull final Status status,
+      final long durationNanos) {
+    Objects.requireNonNull(phase, "phase must not be null");
+    Objects.requireNonNull(type, "type must not be null");
+    Objects.requireNonNull(status, "status must not be null");
+    latencies
+        .computeIfAbsent(new Key(phase, type, status), key -> new Latencies())
+        .recorder
+        .recordValue(Math.max(0, durationNanos));
+  }
+
+  private record Key(
+      @NonNull TransactionPhase phase, @NonNull String type, @NonNull Status status) {}
+
+  private static final class Latencies {
+
+    private final Recorder recorder = new Recorder(SIGNIFICANT_DIGITS);
+
+    private final Histogram total = new Histogram(SIGNIFICANT_DIGITS);
+
+    private Histogram interval;
+
+    private synchronized PhaseLatency snapshot(@NonNull final Key key) {
+      interval = recorder.getIntervalHistogram(interval);
+      total.add(interval);
+      return new PhaseLatency(
+          key.phase(),
+          key.type(),
+          key.status(),
+          total.getTotalCount(),
+          Duration.ofNanos(total.getValueAtPercentile(50)),
+          Duration.ofNanos(total.getValueAtPercentile(90)),
+          Duration.ofNanos(total.getValueAtPercentile(99)),
+          Duration.ofNanos(total.getMaxValue()));
+    }
+  }
+}
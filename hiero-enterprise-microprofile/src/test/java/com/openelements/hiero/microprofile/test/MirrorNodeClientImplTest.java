@@ -0,0 +1,111 @@
+package com.openelements.hiero.microprofile.test;
+
+import com.hedera.hashgraph.sdk.AccountId;
+import com.hedera.hashgraph.sdk.TokenId;
+import com.openelements.hiero.base.HieroException;
+import com.openelements.hiero.base.data.BalanceModification;
+import com.openelements.hiero.base.data.Nft;
+import com.openelements.hiero.base.data.Page;
+import com.openelements.hiero.base.data.Result;
+import com.openelements.hiero.base.data.TransactionInfo;
+import com.openelements.hiero.base.protocol.data.TransactionType;
+import com.openelements.hiero.microprofile.implementation.MirrorNodeClientImpl;
+import com.openelements.hiero.microprofile.implementation.MirrorNodeHttpClient;
+import com.openelements.hiero.microprofile.implementation.MirrorNodeJsonConverterImpl;
+import com.openelements.hiero.microprofile.implementation.MirrorNodeRestClientImpl;
+import com.openelements.hiero.test.fake.FakeMirrorNode;
+import java.util.List;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class MirrorNodeClientImplTest {
+
+  private static final AccountId ACCOUNT_ID = AccountId.fromString("0.0.4500000");
+
+  private static final TokenId TOKEN_ID = TokenId.fromString("0.0.4800012");
+
+  private FakeMirrorNode mirrorNode;
+
+  private MirrorNodeHttpClient httpClient;
+
+  private MirrorNodeClientImpl mirrorNodeClient;
+
+  @BeforeEach
+  void setup() {
+    mirrorNode = new FakeMirrorNode();
+    httpClient =
+        new MirrorNodeHttpClient(
+            MirrorNodeHttpClient.createClient(5_000, 30_000, false), mirrorNode.getBaseUrl(), 4);
+    mirrorNodeClient =
+        new MirrorNodeClientImpl(
+            new MirrorNodeRestClientImpl(httpClient), new MirrorNodeJsonConverterImpl());
+  }
+
+  @AfterEach
+  void tearDown() {
+    httpClient.close();
+    mirrorNode.close();
+  }
+
+  @Test
+  void queryNftsByAccount() throws HieroException {
+    // when
+    final List<Nft> nfts = mirrorNodeClient.queryNftsByAccount(ACCOUNT_ID).getData();
+
+    // then
+    Assertions.assertEquals(FakeMirrorNode.PAGE_SIZE, nfts.size());
+    Assertions.assertTrue(nfts.stream().allMatch(nft -> nft.owner().equals(ACCOUNT_ID)));
+  }
+
+  @Test
+  void queryNftsByAccountAndTokenId() throws HieroException {
+    // when
+    final List<Nft> nfts =
+        mirrorNodeClient.queryNftsByAccountAndTokenId(ACCOUNT_ID, TOKEN_ID).getData();
+
+    // then
+    Assertions.assertEquals(FakeMirrorNode.PAGE_SIZE, nfts.size());
+    Assertions.assertTrue(
+        nfts.stream()
+            .allMatch(nft -> nft.owner().equals(ACCOUNT_ID) && nft.tokenId().equals(TOKEN_ID)));
+  }
+
+  @Test
+  void queryNftsByTokenId() throws HieroException {
+    // given
+    mirrorNode.setPageCount(2);
+
+    // when
+    final Page<Nft> page = mirrorNodeClient.queryNftsByTokenId(TOKEN_ID);
+    final Page<Nft> next = page.next();
+
+    // then
+    Assertions.assertTrue(page.getData().stream().allMatch(nft -> nft.tokenId().equals(TOKEN_ID)));
+    Assertions.assertEquals(1, page.getData().get(0).serial());
+    Assertions.assertEquals(FakeMirrorNode.PAGE_SIZE + 1, next.getData().get(0).serial());
+    Assertions.assertFalse(next.hasNext());
+  }
+
+  @Test
+  void transactionQueriesUseTransactionsEndpoint() throws HieroException {
+    assertTransactionsOfAccount(mirrorNodeClient.queryTransactionsByAccount(ACCOUNT_ID));
+    assertTransactionsOfAccount(
+        mirrorNodeClient.queryTransactionsByAccountAndType(
+            ACCOUNT_ID, TransactionType.CRYPTO_TRANSFER));
+    assertTransactionsOfAccount(
+        mirrorNodeClient.queryTransactionsByAccountAndResult(ACCOUNT_ID, Result.SUCCESS));
+    assertTransactionsOfAccount(
+        mirrorNodeClient.queryTransactionsByAccountAndModification(
+            ACCOUNT_ID, BalanceModification.CREDIT));
+  }
+
+  private static void assertTransactionsOfAccount(final Page<TransactionInfo> page) {
+    // the tokens endpoint has no transactions, so an empty page means a wrong endpoint
+    Assertions.assertEquals(FakeMirrorNode.PAGE_SIZE, page.getSize());
+    Assertions.assertTrue(
+        page.getData().stream()
+            .allMatch(transaction -> transaction.transactionId().startsWith(ACCOUNT_ID + "-")));
+  }
+}
@@ -0,0 +1,172 @@
+package com.openelements.hiero.microprofile.test;
+
+import com.hedera.hashgraph.sdk.AccountId;
+import com.openelements.hiero.base.HieroException;
+import com.openelements.hiero.base.data.Page;
+import com.openelements.hiero.base.data.Token;
+import com.openelements.hiero.microprofile.implementation.MirrorNodeClientImpl;
+import com.openelements.hiero.microprofile.implementation.MirrorNodeHttpClient;
+import com.openelements.hiero.microprofile.implementation.MirrorNodeJsonConverterImpl;
+import com.openelements.hiero.microprofile.implementation.MirrorNodeRestClientImpl;
+import com.openelements.hiero.test.fake.FakeMirrorNode;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+public class MirrorNodeHttpClientTest {
+
+  private static final int PAGE_COUNT = 20;
+
+  private FakeMirrorNode mirrorNode;
+
+  private MirrorNodeHttpClient httpClient;
+
+  @BeforeEach
+  void startMirrorNode() {
+    mirrorNode = new FakeMirrorNode();
+    mirrorNode.setPageCount(PAGE_COUNT);
+  }
+
+  @AfterEach
+  void stopMirrorNode() {
+    if (httpClient != null) {
+      httpClient.close();
+    }
+    mirrorNode.close();
+  }
+
+  @ParameterizedTest
+  @ValueSource(booleans = {false, true})
+  void pagesShareOneConnection(final boolean compression) throws HieroException {
+    // given
+    final MirrorNodeClientImpl mirrorNodeClient = createClient(compression, 50);
+
+    // when
+    Page<Token> page = mirrorNodeClient.queryTokensForAccount(AccountId.fromString("0.0.2"));
+    int count = page.getSize();
+    while (page.hasNext()) {
+      page = page.next();
+      count += page.getSize();
+    }
+    final Page<Token> first = page.first();
+    mirrorNodeClient.queryNetworkSupplies();
+
+    // then
+    Assertions.assertEquals(PAGE_COUNT * FakeMirrorNode.PAGE_SIZE, count);
+    Assertions.assertEquals(PAGE_COUNT - 1, page.getPageIndex());
+    Assertions.assertTrue(first.isFirst());
+    Assertions.assertEquals(PAGE_COUNT + 2, mirrorNode.getRequestCount());
+    Assertions.assertEquals(1, mirrorNode.getConnectionCount());
+  }
+
+  @Test
+  void parallelRequestsAreLimited() throws Exception {
+    // given
+    final MirrorNodeClientImpl mirrorNodeClient = createClient(true, 4);
+
+    // when
+    try (ExecutorService executor = Executors.newFixedThreadPool(8)) {
+      for (int i = 0; i < 200; i++) {
+        executor.submit(() -> mirrorNodeClient.queryNetworkSupplies());
+      }
+    }
+
+    // then
+    Assertions.assertEquals(200, mirrorNode.getRequestCount());
+    Assertions.assertTrue(mirrorNode.getConnectionCount() <= 4);
+  }
+
+  @Test
+  void concurrentPagingKeepsConnectionsBounded() throws Exception {
+    // given
+    final int readers = 16;
+    final int rounds = 2;
+    final int pageCount = 3;
+    mirrorNode.setPageCount(pageCount);
+    final MirrorNodeClientImpl mirrorNodeClient = createClient(true, 4);
+    final List<Future<Integer>> counts = new ArrayList<>();
+
+    // when
+    try (ExecutorService executor = Executors.newFixedThreadPool(readers)) {
+      for (int i = 0; i < readers * rounds; i++) {
+        counts.add(executor.submit(() -> readAllPages(mirrorNodeClient)));
+      }
+    }
+
+    // then
+    for (final Future<Integer> count : counts) {
+      Assertions.assertEquals(pageCount * FakeMirrorNode.PAGE_SIZE, count.get());
+    }
+    Assertions.assertEquals((long) readers * rounds * pageCount, mirrorNode.getRequestCount());
+    Assertions.assertTrue(
+        mirrorNode.getConnectionCount() <= 4, "connections: " + mirrorNode.getConnectionCount());
+  }
+
+  @Test
+  void streamFetchesAllPages() throws HieroException {
+    // given
+    final MirrorNodeClientImpl mirrorNodeClient = createClient(true, 50);
+
+    // when
+    final List<Token> tokens;
+    try (Stream<Token> stream =
+        mirrorNodeClient.queryTokensForAccount(AccountId.fromString("0.0.2")).stream(4)) {
+      tokens = stream.toList();
+    }
+
+    // then
+    Assertions.assertEquals(PAGE_COUNT * FakeMirrorNode.PAGE_SIZE, tokens.size());
+    Assertions.assertEquals(
+        PAGE_COUNT * FakeMirrorNode.PAGE_SIZE, tokens.stream().distinct().count());
+    Assertions.assertEquals(PAGE_COUNT, mirrorNode.getRequestCount());
+  }
+
+  @Test
+  void closedStreamStopsFetching() throws Exception {
+    // given
+    final MirrorNodeClientImpl mirrorNodeClient = createClient(true, 1);
+
+    // when
+    try (Stream<Token> stream =
+        mirrorNodeClient.queryTokensForAccount(AccountId.fromString("0.0.2")).stream(2)) {
+      Assertions.assertEquals(
+          FakeMirrorNode.PAGE_SIZE + 1, stream.limit(FakeMirrorNode.PAGE_SIZE + 1).count());
+    }
+    // the client sends one request at a time in order, so this request waits for the fetch that
+    // was still in flight when the stream was closed
+    mirrorNodeClient.queryNetworkSupplies();
+
+    // then
+    Assertions.assertTrue(mirrorNode.getRequestCount() <= 4 + 1);
+  }
+
+  private static int readAllPages(final MirrorNodeClientImpl mirrorNodeClient)
+      throws HieroException {
+    Page<Token> page = mirrorNodeClient.queryTokensForAccount(AccountId.fromString("0.0.2"));
+    int count = page.getSize();
+    while (page.hasNext()) {
+      page = page.next();
+      count += page.getSize();
+    }
+    return count;
+  }
+
+  private MirrorNodeClientImpl createClient(final boolean compression, final int maxConnections) {
+    httpClient =
+        new MirrorNodeHttpClient(
+            MirrorNodeHttpClient.createClient(5_000, 30_000, compression),
+            mirrorNode.getBaseUrl(),
+            maxConnections);
+    return new MirrorNodeClientImpl(
+        new MirrorNodeRestClientImpl(httpClient), new MirrorNodeJsonConverterImpl());
+  }
+}
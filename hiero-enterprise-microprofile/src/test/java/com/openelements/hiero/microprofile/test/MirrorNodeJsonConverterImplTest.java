@@ -0,0 +1,187 @@
+package com.openelements.hiero.microprofile.test;
+
+import com.hedera.hashgraph.sdk.AccountId;
+import com.hedera.hashgraph.sdk.TokenId;
+import com.hedera.hashgraph.sdk.TransactionId;
+import com.openelements.hiero.base.data.ChunkInfo;
+import com.openelements.hiero.base.data.Nft;
+import com.openelements.hiero.base.data.TopicMessage;
+import com.openelements.hiero.base.data.TransactionInfo;
+import com.openelements.hiero.base.protocol.data.TransactionType;
+import com.openelements.hiero.microprofile.implementation.MirrorNodeJsonConverterImpl;
+import jakarta.json.Json;
+import jakarta.json.JsonObject;
+import jakarta.json.JsonReader;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.List;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class MirrorNodeJsonConverterImplTest {
+
+  private static final String TRANSACTION =
+      """
+      {"bytes": null, "charged_tx_fee": %s, "consensus_timestamp": "1729001101.823001224",
+      "entity_id": %s, "max_fee": "100000000", "memo_base64": "", "name": "CRYPTOTRANSFER",
+      "nft_transfers": [{"is_approval": false, "receiver_account_id": "0.0.4500000",
+      "sender_account_id": null, "serial_number": 7, "token_id": "0.0.4800012"}],
+      "node": %s, "nonce": 0, "parent_consensus_timestamp": %s, "result": "SUCCESS",
+      "scheduled": false, "staking_reward_transfers": [], "token_transfers": [],
+      "transaction_hash": "aGFzaA==", "transaction_id": "0.0.4500000-1729001090-000000001",
+      "transfers": [{"account": "0.0.3", "amount": 1500, "is_approval": false},
+      {"account": "0.0.4500000", "amount": -1500, "is_approval": false}],
+      "valid_duration_seconds": "120", "valid_start_timestamp": "1729001090.000000001"}""";
+
+  private static final String TOPIC_MESSAGE =
+      """
+      {"chunk_info": %s, "consensus_timestamp": "1729001101.823001224", "message": "aGVsbG8=",
+      "payer_account_id": "0.0.4500000", "running_hash": "aGFzaA==", "running_hash_version": 3,
+      "sequence_number": %s, "topic_id": "0.0.4900001"}""";
+
+  private final MirrorNodeJsonConverterImpl jsonConverter = new MirrorNodeJsonConverterImpl();
+
+  @Test
+  void transactionWithNullFieldsAndNumericValuesIsConverted() {
+    // given
+    final JsonObject json = read(TRANSACTION.formatted("2012318", "null", "null", "null"));
+
+    // when
+    final TransactionInfo transaction = jsonConverter.toTransactionInfo(json).orElseThrow();
+
+    // then
+    Assertions.assertEquals("0.0.4500000-1729001090-000000001", transaction.transactionId());
+    Assertions.assertEquals(TransactionType.CRYPTO_TRANSFER, transaction.name());
+    Assertions.assertNull(transaction.bytes());
+    Assertions.assertEquals(2012318, transaction.chargedTxFee());
+    Assertions.assertNull(transaction.entityId());
+    Assertions.assertNull(transaction.node());
+    Assertions.assertNull(transaction.parentConsensusTimestamp());
+    Assertions.assertEquals(List.of(), transaction.tokenTransfers());
+    Assertions.assertEquals(List.of(), transaction.stakingRewardTransfers());
+    Assertions.assertEquals(2, transaction.transfers().size());
+    Assertions.assertEquals(1500, transaction.transfers().get(0).amount());
+    Assertions.assertEquals(-1500, transaction.transfers().get(1).amount());
+    Assertions.assertEquals(1, transaction.nftTransfers().size());
+    Assertions.assertNull(transaction.nftTransfers().get(0).senderAccountId());
+    Assertions.assertEquals(
+        AccountId.fromString("0.0.4500000"), transaction.nftTransfers().get(0).receiverAccountId());
+    Assertions.assertEquals(7, transaction.nftTransfers().get(0).serialNumber());
+  }
+
+  @Test
+  void transactionWithStringValuesIsConverted() {
+    // given
+    final JsonObject json =
+        read(
+            TRANSACTION.formatted(
+                "\"2012318\"", "\"0.0.4800012\"", "\"0.0.3\"", "\"1729001101.000000001\""));
+
+    // when
+    final TransactionInfo transaction = jsonConverter.toTransactionInfo(json).orElseThrow();
+
+    // then
+    Assertions.assertEquals(2012318, transaction.chargedTxFee());
+    Assertions.assertEquals("0.0.4800012", transaction.entityId());
+    Assertions.assertEquals("0.0.3", transaction.node());
+    Assertions.assertEquals(
+        Instant.ofEpochSecond(1729001101), transaction.parentConsensusTimestamp());
+  }
+
+  @Test
+  void nftsAreReadFromNftsKey() {
+    // given
+    final JsonObject json =
+        read(
+            """
+            {"nfts": [{"account_id": "0.0.4500000", "metadata": "bWV0YQ==",
+            "serial_number": 18, "token_id": "0.0.4800012"}], "links": {"next": null}}""");
+
+    // when
+    final List<Nft> nfts = jsonConverter.toNfts(json);
+
+    // then
+    Assertions.assertEquals(1, nfts.size());
+    Assertions.assertEquals(TokenId.fromString("0.0.4800012"), nfts.get(0).tokenId());
+    Assertions.assertEquals(AccountId.fromString("0.0.4500000"), nfts.get(0).owner());
+    Assertions.assertEquals(18, nfts.get(0).serial());
+  }
+
+  @Test
+  void emptyListsAreConverted() {
+    Assertions.assertEquals(
+        List.of(), jsonConverter.toNfts(read("{\"nfts\": [], \"links\": {\"next\": null}}")));
+    Assertions.assertEquals(
+        List.of(),
+        jsonConverter.toTransactionInfos(
+            read("{\"transactions\": [], \"links\": {\"next\": null}}")));
+  }
+
+  @Test
+  void chunkInfoIsReadFromNestedObject() {
+    // given
+    final JsonObject json =
+        read(
+            TOPIC_MESSAGE.formatted(
+                """
+                {"initial_transaction_id": "0.0.4500000@1729001090.000000001", "nonce": 0,
+                "number": 2, "total": 3, "scheduled": false}""",
+                "\"42\""));
+
+    // when
+    final TopicMessage message = jsonConverter.toTopicMessage(json).orElseThrow();
+
+    // then
+    final ChunkInfo chunkInfo = message.chunkInfo();
+    Assertions.assertNotNull(chunkInfo);
+    Assertions.assertEquals(
+        TransactionId.fromString("0.0.4500000@1729001090.000000001"),
+        chunkInfo.initialTransactionId());
+    Assertions.assertEquals(2, chunkInfo.number());
+    Assertions.assertEquals(3, chunkInfo.total());
+    Assertions.assertFalse(chunkInfo.scheduled());
+    Assertions.assertEquals(42, message.sequenceNumber());
+    Assertions.assertEquals("hello", message.message());
+  }
+
+  @Test
+  void topicMessageWithoutChunkInfoIsConverted() {
+    // when
+    final TopicMessage message =
+        jsonConverter.toTopicMessage(read(TOPIC_MESSAGE.formatted("null", "42"))).orElseThrow();
+
+    // then
+    Assertions.assertNull(message.chunkInfo());
+    Assertions.assertEquals(42, message.sequenceNumber());
+  }
+
+  @Test
+  void topicMessagesAreDecodedAsUtf8() {
+    // given
+    final String text = "Gr\u00fc\u00dfe, \u4e16\u754c";
+    final JsonObject json =
+        read(
+            """
+            {"messages": [{"chunk_info": null, "consensus_timestamp": "1700000000.000000001",
+            "message": "%s", "payer_account_id": "0.0.2", "running_hash": "aGFzaA==",
+            "running_hash_version": 3, "sequence_number": 1, "topic_id": "0.0.1001"}],
+            "links": {"next": null}}"""
+                .formatted(
+                    Base64.getEncoder().encodeToString(text.getBytes(StandardCharsets.UTF_8))));
+
+    // when
+    final TopicMessage message = jsonConverter.toTopicMessages(json).get(0);
+
+    // then
+    Assertions.assertEquals(text, message.message());
+    Assertions.assertArrayEquals(text.getBytes(StandardCharsets.UTF_8), message.contents());
+  }
+
+  private static JsonObject read(final String json) {
+    try (JsonReader reader = Json.createReader(new StringReader(json))) {
+      return reader.readObject();
+    }
+  }
+}
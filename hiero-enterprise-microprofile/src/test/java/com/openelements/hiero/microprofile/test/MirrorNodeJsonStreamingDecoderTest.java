@@ -0,0 +1,249 @@
+package com.openelements.hiero.microprofile.test;
+
+import com.hedera.hashgraph.sdk.AccountId;
+import com.hedera.hashgraph.sdk.TokenId;
+import com.hedera.hashgraph.sdk.TopicId;
+import com.openelements.hiero.base.HieroException;
+import com.openelements.hiero.base.data.Nft;
+import com.openelements.hiero.base.data.Page;
+import com.openelements.hiero.base.data.TopicMessage;
+import com.openelements.hiero.base.data.TransactionInfo;
+import com.openelements.hiero.microprofile.implementation.MirrorNodeClientImpl;
+import com.openelements.hiero.microprofile.implementation.MirrorNodeHttpClient;
+import com.openelements.hiero.microprofile.implementation.MirrorNodeJsonConverterImpl;
+import com.openelements.hiero.microprofile.implementation.MirrorNodeJsonStreamingDecoder;
+import com.openelements.hiero.microprofile.implementation.MirrorNodeRestClientImpl;
+import com.openelements.hiero.microprofile.implementation.PageDecoder;
+import com.openelements.hiero.test.fake.FakeMirrorNode;
+import jakarta.json.Json;
+import jakarta.json.JsonObject;
+import jakarta.json.JsonReader;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.StringReader;
+import java.lang.reflect.RecordComponent;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Function;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class MirrorNodeJsonStreamingDecoderTest {
+
+  private final MirrorNodeJsonConverterImpl jsonConverter = new MirrorNodeJsonConverterImpl();
+
+  private final MirrorNodeJsonStreamingDecoder decoder = new MirrorNodeJsonStreamingDecoder();
+
+  private FakeMirrorNode mirrorNode;
+
+  private MirrorNodeHttpClient httpClient;
+
+  @BeforeEach
+  void startMirrorNode() {
+    mirrorNode = new FakeMirrorNode();
+    mirrorNode.setPageCount(2);
+  }
+
+  @AfterEach
+  void stopMirrorNode() {
+    if (httpClient != null) {
+      httpClient.close();
+    }
+    mirrorNode.close();
+  }
+
+  @Test
+  void decodesFixturesLikeConverter() throws Exception {
+    assertDecodesLikeConverter(
+        fixture("transactions"), decoder::decodeTransactions, jsonConverter::toTransactionInfos);
+    assertDecodesLikeConverter(fixture("nfts"), decoder::decodeNfts, jsonConverter::toNfts);
+    assertDecodesLikeConverter(
+        fixture("balances"), decoder::decodeBalances, jsonConverter::toBalances);
+    assertDecodesLikeConverter(
+        fixture("topic-messages"), decoder::decodeTopicMessages, jsonConverter::toTopicMessages);
+    assertDecodesLikeConverter(fixture("tokens"), decoder::decodeTokens, jsonConverter::toTokens);
+  }
+
+  @Test
+  void decodesFakeMirrorNodeResponsesLikeConverter() throws Exception {
+    assertDecodesLikeConverter(
+        fetch("/api/v1/transactions?account.id=0.0.2"),
+        decoder::decodeTransactions,
+        jsonConverter::toTransactionInfos);
+    assertDecodesLikeConverter(
+        fetch("/api/v1/accounts/0.0.2/nfts"), decoder::decodeNfts, jsonConverter::toNfts);
+    assertDecodesLikeConverter(
+        fetch("/api/v1/tokens/0.0.1001/balances"),
+        decoder::decodeBalances,
+        jsonConverter::toBalances);
+    assertDecodesLikeConverter(
+        fetch("/api/v1/topics/0.0.1001/messages"),
+        decoder::decodeTopicMessages,
+        jsonConverter::toTopicMessages);
+    assertDecodesLikeConverter(
+        fetch("/api/v1/tokens?account.id=0.0.2"), decoder::decodeTokens, jsonConverter::toTokens);
+  }
+
+  @Test
+  void decodesFixtureValues() throws Exception {
+    // when
+    final PageDecoder.Content<TransactionInfo> transactions =
+        decoder.decodeTransactions(stream(fixture("transactions")));
+    final PageDecoder.Content<Nft> nfts = decoder.decodeNfts(stream(fixture("nfts")));
+    final PageDecoder.Content<TopicMessage> messages =
+        decoder.decodeTopicMessages(stream(fixture("topic-messages")));
+
+    // then
+    Assertions.assertEquals(4, transactions.data().size());
+    Assertions.assertEquals(
+        "/api/v1/transactions?account.id=0.0.4500000&limit=4&timestamp=lt:1729001101.823001224",
+        transactions.nextPath());
+    final TransactionInfo mint = transactions.data().get(1);
+    Assertions.assertEquals(2012318, mint.chargedTxFee());
+    Assertions.assertEquals("0.0.4800012", mint.entityId());
+    Assertions.assertEquals(2, mint.nftTransfers().size());
+    Assertions.assertNull(mint.nftTransfers().get(0).senderAccountId());
+    Assertions.assertEquals(18, mint.nftTransfers().get(1).serialNumber());
+    Assertions.assertNull(transactions.data().get(2).node());
+    Assertions.assertNotNull(transactions.data().get(2).parentConsensusTimestamp());
+    Assertions.assertEquals(3, nfts.data().size());
+    Assertions.assertNull(nfts.nextPath());
+    Assertions.assertEquals(TokenId.fromString("0.0.4800012"), nfts.data().get(0).tokenId());
+    Assertions.assertEquals(3, messages.data().size());
+    Assertions.assertEquals(2, messages.data().get(1).sequenceNumber());
+    Assertions.assertEquals(
+        "{\"event\":\"order-paid\",\"id\":1}", messages.data().get(1).message());
+    Assertions.assertEquals(TopicId.fromString("0.0.4900001"), messages.data().get(1).topicId());
+  }
+
+  @Test
+  void missingArrayResultsInEmptyPage() {
+    // when
+    final PageDecoder.Content<?> content = decoder.decodeNfts(stream("{\"links\": {}}"));
+
+    // then
+    Assertions.assertTrue(content.data().isEmpty());
+    Assertions.assertNull(content.nextPath());
+  }
+
+  @Test
+  void invalidResponsesAreRejected() {
+    Assertions.assertThrows(IllegalStateException.class, () -> decoder.decodeTokens(stream("")));
+    Assertions.assertThrows(IllegalStateException.class, () -> decoder.decodeTokens(stream("[]")));
+    Assertions.assertThrows(
+        IllegalStateException.class, () -> decoder.decodeTokens(stream("{\"tokens\": {}}")));
+    Assertions.assertThrows(
+        IllegalStateException.class,
+        () -> decoder.decodeBalances(stream("{\"balances\": [{\"balance\": 1}]}")));
+    Assertions.assertThrows(
+        IllegalStateException.class,
+        () ->
+            decoder.decodeBalances(
+                stream(
+                    "{\"balances\": [{\"account\": \"0.0.2\", "
+                        + "\"balance\": \"1\", \"decimals\": 0}]}")));
+    Assertions.assertThrows(
+        IllegalStateException.class, () -> decoder.decodeTokens(stream("{\"tokens\": [")));
+  }
+
+  @Test
+  void clientPagesAreDecodedFromStream() throws HieroException {
+    // given
+    httpClient =
+        new MirrorNodeHttpClient(
+            MirrorNodeHttpClient.createClient(5_000, 30_000, true), mirrorNode.getBaseUrl(), 50);
+    final MirrorNodeClientImpl mirrorNodeClient =
+        new MirrorNodeClientImpl(
+            new MirrorNodeRestClientImpl(httpClient), new MirrorNodeJsonConverterImpl());
+    final AccountId accountId = AccountId.fromString("0.0.2");
+
+    // when
+    final Page<TransactionInfo> transactions =
+        mirrorNodeClient.queryTransactionsByAccount(accountId);
+    final Page<TransactionInfo> nextTransactions = transactions.next();
+    final Page<Nft> nfts = mirrorNodeClient.queryNftsByAccount(accountId);
+    final Page<TopicMessage> messages =
+        mirrorNodeClient.queryTopicMessages(TopicId.fromString("0.0.1001"));
+
+    // then
+    Assertions.assertEquals(FakeMirrorNode.PAGE_SIZE, transactions.getSize());
+    Assertions.assertEquals(FakeMirrorNode.PAGE_SIZE, nextTransactions.getSize());
+    Assertions.assertFalse(nextTransactions.hasNext());
+    Assertions.assertTrue(transactions.getData().get(0).transactionId().startsWith("0.0.2-"));
+    Assertions.assertEquals(FakeMirrorNode.PAGE_SIZE, nfts.getSize());
+    Assertions.assertEquals(accountId, nfts.getData().get(0).owner());
+    Assertions.assertEquals(FakeMirrorNode.PAGE_SIZE, messages.getSize());
+    Assertions.assertEquals(1, messages.getData().get(0).sequenceNumber());
+    Assertions.assertEquals(1, mirrorNode.getConnectionCount());
+  }
+
+  private <T> void assertDecodesLikeConverter(
+      final String json,
+      final PageDecoder<T> pageDecoder,
+      final Function<JsonObject, List<T>> converterFunction)
+      throws Exception {
+    // when
+    final List<T> expected;
+    try (JsonReader reader = Json.createReader(new StringReader(json))) {
+      expected = converterFunction.apply(reader.readObject());
+    }
+    final PageDecoder.Content<T> content = pageDecoder.decode(stream(json));
+
+    // then
+    Assertions.assertFalse(expected.isEmpty());
+    Assertions.assertEquals(expected.size(), content.data().size());
+    for (int i = 0; i < expected.size(); i++) {
+      assertRecordEquals(expected.get(i), content.data().get(i));
+    }
+  }
+
+  /** Compares records component by component, since record equality ignores array contents. */
+  private static void assertRecordEquals(final Object expected, final Object actual)
+      throws ReflectiveOperationException {
+    Assertions.assertEquals(expected.getClass(), actual.getClass());
+    for (final RecordComponent component : expected.getClass().getRecordComponents()) {
+      final Object expectedValue = component.getAccessor().invoke(expected);
+      final Object actualValue = component.getAccessor().invoke(actual);
+      Assertions.assertTrue(
+          Objects.deepEquals(expectedValue, actualValue),
+          () ->
+              component.getName()
+                  + " differs: expected "
+                  + expectedValue
+                  + " but was "
+                  + actualValue);
+    }
+  }
+
+  private String fetch(final String path) throws IOException, InterruptedException {
+    try (HttpClient client = HttpClient.newHttpClient()) {
+      final HttpResponse<String> response =
+          client.send(
+              HttpRequest.newBuilder(URI.create(mirrorNode.getBaseUrl() + path)).build(),
+              HttpResponse.BodyHandlers.ofString());
+      Assertions.assertEquals(200, response.statusCode());
+      return response.body();
+    }
+  }
+
+  private static String fixture(final String name) throws IOException {
+    final String resource = "/mirror-node/" + name + ".json";
+    try (InputStream inputStream =
+        MirrorNodeJsonStreamingDecoderTest.class.getResourceAsStream(resource)) {
+      Assertions.assertNotNull(inputStream, "Fixture " + resource + " not found");
+      return new String(inputStream.readAllBytes(), StandardCharsets.UTF_8);
+    }
+  }
+
+  private static InputStream stream(final String json) {
+    return new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8));
+  }
+}
@@ -0,0 +1,101 @@
+package com.openelements.hiero.microprofile.test;
+
+import com.hedera.hashgraph.sdk.Status;
+import com.openelements.hiero.base.data.PhaseLatency;
+import com.openelements.hiero.base.data.TransactionPhase;
+import com.openelements.hiero.base.protocol.data.TransactionType;
+import com.openelements.hiero.microprofile.implementation.OpenTelemetryTransactionMetrics;
+import com.openelements.hiero.microprofile.implementation.TransactionMetricsImpl;
+import io.opentelemetry.sdk.OpenTelemetrySdk;
+import io.opentelemetry.sdk.metrics.SdkMeterProvider;
+import io.opentelemetry.sdk.metrics.data.HistogramPointData;
+import io.opentelemetry.sdk.metrics.data.MetricData;
+import io.opentelemetry.sdk.testing.exporter.InMemoryMetricReader;
+import java.time.Duration;
+import java.util.List;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class OpenTelemetryTransactionMetricsTest {
+
+  private InMemoryMetricReader metricReader;
+
+  private OpenTelemetrySdk openTelemetry;
+
+  @BeforeEach
+  void setup() {
+    metricReader = InMemoryMetricReader.create();
+    openTelemetry =
+        OpenTelemetrySdk.builder()
+            .setMeterProvider(SdkMeterProvider.builder().registerMetricReader(metricReader).build())
+            .build();
+  }
+
+  @AfterEach
+  void tearDown() {
+    openTelemetry.close();
+  }
+
+  @Test
+  void shouldPublishLatencyAsHistogram() {
+    // given
+    final OpenTelemetryTransactionMetrics metrics =
+        new OpenTelemetryTransactionMetrics(openTelemetry, new TransactionMetricsImpl());
+
+    // when
+    metrics.recordTransaction(
+        TransactionPhase.SUBMIT,
+        TransactionType.TOPIC_CREATE,
+        Status.OK,
+        Duration.ofMillis(5).toNanos());
+    metrics.recordTransaction(
+        TransactionPhase.SUBMIT,
+        TransactionType.TOPIC_CREATE,
+        Status.OK,
+        Duration.ofMillis(15).toNanos());
+    metrics.recordQuery("AccountBalanceQuery", Status.OK, Duration.ofMillis(1).toNanos());
+
+    // then
+    final MetricData metric =
+        metricReader.collectAllMetrics().stream()
+            .filter(m -> m.getName().equals(OpenTelemetryTransactionMetrics.HISTOGRAM_NAME))
+            .findFirst()
+            .orElseThrow();
+    Assertions.assertEquals("s", metric.getUnit());
+    final HistogramPointData submit =
+        metric.getHistogramData().getPoints().stream()
+            .filter(
+                p ->
+                    "SUBMIT".equals(
+                        p.getAttributes().get(OpenTelemetryTransactionMetrics.PHASE_ATTRIBUTE)))
+            .findFirst()
+            .orElseThrow();
+    Assertions.assertEquals(2, submit.getCount());
+    Assertions.assertEquals(0.02, submit.getSum(), 0.000_001);
+    Assertions.assertEquals(
+        "TOPIC_CREATE", submit.getAttributes().get(OpenTelemetryTransactionMetrics.TYPE_ATTRIBUTE));
+    Assertions.assertEquals(
+        "OK", submit.getAttributes().get(OpenTelemetryTransactionMetrics.STATUS_ATTRIBUTE));
+    Assertions.assertEquals(2, metric.getHistogramData().getPoints().size());
+  }
+
+  @Test
+  void shouldReadLatenciesFromDelegate() {
+    // given
+    final OpenTelemetryTransactionMetrics metrics =
+        new OpenTelemetryTransactionMetrics(openTelemetry, new TransactionMetricsImpl());
+
+    // when
+    metrics.recordTransaction(
+        TransactionPhase.RECEIPT, TransactionType.TOKEN_MINT, Status.SUCCESS, 1_000);
+
+    // then
+    final List<PhaseLatency> latencies = metrics.getLatencies();
+    Assertions.assertEquals(1, latencies.size());
+    Assertions.assertEquals(TransactionPhase.RECEIPT, latencies.get(0).phase());
+    Assertions.assertEquals("TOKEN_MINT", latencies.get(0).type());
+    Assertions.assertEquals(1, latencies.get(0).count());
+  }
+}
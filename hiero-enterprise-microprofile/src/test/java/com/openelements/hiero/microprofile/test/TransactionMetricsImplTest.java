@@ -0,0 +1,117 @@
+package com.openelements.hiero.microprofile.test;
+
+import com.hedera.hashgraph.sdk.Status;
+import com.openelements.hiero.base.TransactionMetrics;
+import com.openelements.hiero.base.data.PhaseLatency;
+import com.openelements.hiero.base.data.TransactionPhase;
+import com.openelements.hiero.base.protocol.data.TransactionType;
+import com.openelements.hiero.microprofile.implementation.TransactionMetricsImpl;
+import java.time.Duration;
+import java.util.List;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class TransactionMetricsImplTest {
+
+  @Test
+  void shouldRecordPercentilesPerPhaseTypeAndStatus() {
+    // given
+    final TransactionMetricsImpl metrics = new TransactionMetricsImpl();
+
+    // when
+    for (int i = 1; i <= 100; i++) {
+      metrics.recordTransaction(
+          TransactionPhase.SUBMIT,
+          TransactionType.CRYPTO_TRANSFER,
+          Status.OK,
+          Duration.ofMillis(i).toNanos());
+    }
+    metrics.recordTransaction(
+        TransactionPhase.SUBMIT,
+        TransactionType.CRYPTO_TRANSFER,
+        Status.BUSY,
+        Duration.ofMillis(5).toNanos());
+
+    // then
+    final List<PhaseLatency> latencies = metrics.getLatencies();
+    Assertions.assertEquals(2, latencies.size());
+    final PhaseLatency ok = latencies.get(0);
+    Assertions.assertEquals(TransactionPhase.SUBMIT, ok.phase());
+    Assertions.assertEquals("CRYPTO_TRANSFER", ok.type());
+    Assertions.assertEquals(Status.OK, ok.status());
+    Assertions.assertEquals(100, ok.count());
+    assertAbout(Duration.ofMillis(50), ok.p50());
+    assertAbout(Duration.ofMillis(90), ok.p90());
+    assertAbout(Duration.ofMillis(99), ok.p99());
+    assertAbout(Duration.ofMillis(100), ok.max());
+    Assertions.assertEquals(Status.BUSY, latencies.get(1).status());
+    Assertions.assertEquals(1, latencies.get(1).count());
+  }
+
+  @Test
+  void shouldKeepMeasurementsBetweenSnapshots() {
+    // given
+    final TransactionMetricsImpl metrics = new TransactionMetricsImpl();
+    metrics.recordQuery("AccountBalanceQuery", Status.OK, 1_000);
+    metrics.getLatencies();
+
+    // when
+    metrics.recordQuery("AccountBalanceQuery", Status.OK, 2_000);
+
+    // then
+    final PhaseLatency latency = metrics.getLatencies().get(0);
+    Assertions.assertEquals(TransactionPhase.QUERY, latency.phase());
+    Assertions.assertEquals("AccountBalanceQuery", latency.type());
+    Assertions.assertEquals(2, latency.count());
+  }
+
+  @Test
+  void shouldSortLatenciesByPhase() {
+    // given
+    final TransactionMetricsImpl metrics = new TransactionMetricsImpl();
+
+    // when
+    metrics.recordTransaction(
+        TransactionPhase.RECORD, TransactionType.TOKEN_MINT, Status.SUCCESS, 10);
+    metrics.recordTransaction(
+        TransactionPhase.RECEIPT, TransactionType.TOKEN_MINT, Status.SUCCESS, 10);
+    metrics.recordTransaction(TransactionPhase.SUBMIT, TransactionType.TOKEN_MINT, Status.OK, 10);
+
+    // then
+    Assertions.assertEquals(
+        List.of(TransactionPhase.SUBMIT, TransactionPhase.RECEIPT, TransactionPhase.RECORD),
+        metrics.getLatencies().stream().map(PhaseLatency::phase).toList());
+  }
+
+  @Test
+  void shouldIgnoreMeasurementsInNoopMetrics() {
+    // when
+    TransactionMetrics.NOOP.recordTransaction(
+        TransactionPhase.SUBMIT, TransactionType.TOKEN_MINT, Status.OK, 10);
+
+    // then
+    Assertions.assertTrue(TransactionMetrics.NOOP.getLatencies().isEmpty());
+  }
+
+  @Test
+  void shouldValidateArguments() {
+    final TransactionMetricsImpl metrics = new TransactionMetricsImpl();
+    Assertions.assertThrows(
+        NullPointerException.class,
+        () -> metrics.recordTransaction(null, TransactionType.TOKEN_MINT, Status.OK, 10));
+    Assertions.assertThrows(
+        NullPointerException.class,
+        () ->
+            metrics.recordTransaction(
+                TransactionPhase.SUBMIT, TransactionType.TOKEN_MINT, null, 10));
+    Assertions.assertThrows(
+        NullPointerException.class, () -> metrics.recordQuery(null, Status.OK, 10));
+  }
+
+  private static void assertAbout(final Duration expected, final Duration actual) {
+    final long tolerance = expected.toNanos() / 100;
+    Assertions.assertTrue(
+        Math.abs(expected.toNanos() - actual.toNanos()) <= tolerance,
+        "expected about " + expected + " but was " + actual);
+  }
+}
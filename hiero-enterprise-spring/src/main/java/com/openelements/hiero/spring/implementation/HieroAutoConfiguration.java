@@ -1,15 +1,27 @@
 package com.openelements.hiero.spring.implementation;
 
 import com.openelements.hiero.base.AccountClient;
+import com.openelements.hiero.base.AsyncFileClient;
+import com.openelements.hiero.base.AsyncFungibleTokenClient;
+import com.openelements.hiero.base.AsyncNftClient;
+import com.openelements.hiero.base.AsyncSmartContractClient;
+import com.openelements.hiero.base.AsyncTopicClient;
 import com.openelements.hiero.base.FileClient;
 import com.openelements.hiero.base.FungibleTokenClient;
 import com.openelements.hiero.base.HieroContext;
 import com.openelements.hiero.base.NftClient;
 import com.openelements.hiero.base.SmartContractClient;
 import com.openelements.hiero.base.TopicClient;
+import com.openelements.hiero.base.TopicPublisher;
+import com.openelements.hiero.base.TransactionMetrics;
 import com.openelements.hiero.base.config.HieroConfig;
 import com.openelements.hiero.base.implementation.AccountClientImpl;
 import com.openelements.hiero.base.implementation.AccountRepositoryImpl;
+import com.openelements.hiero.base.implementation.AsyncFileClientImpl;
+import com.openelements.hiero.base.implementation.AsyncFungibleTokenClientImpl;
+import com.openelements.hiero.base.implementation.AsyncNftClientImpl;
+import com.openelements.hiero.base.implementation.AsyncSmartContractClientImpl;
+import com.openelements.hiero.base.implementation.AsyncTopicClientImpl;
 import com.openelements.hiero.base.implementation.ContractRepositoryImpl;
 import com.openelements.hiero.base.implementation.FileClientImpl;
 import com.openelements.hiero.base.implementation.FungibleTokenClientImpl;
@@ -20,6 +32,7 @@ import com.openelements.hiero.base.implementation.ProtocolLayerClientImpl;
 import com.openelements.hiero.base.implementation.SmartContractClientImpl;
 import com.openelements.hiero.base.implementation.TokenRepositoryImpl;
 import com.openelements.hiero.base.implementation.TopicClientImpl;
+import com.openelements.hiero.base.implementation.TopicPublisherImpl;
 import com.openelements.hiero.base.implementation.TopicRepositoryImpl;
 import com.openelements.hiero.base.implementation.TransactionRepositoryImpl;
 import com.openelements.hiero.base.interceptors.ReceiveRecordInterceptor;
@@ -39,11 +52,13 @@ import java.util.List;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.boot.autoconfigure.AutoConfiguration;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Import;
+import org.springframework.http.client.ClientHttpRequestFactory;
 import org.springframework.web.client.RestClient;
 import org.springframework.web.context.annotation.ApplicationScope;
 
@@ -60,7 +75,7 @@ public class HieroAutoConfiguration {
     return new HieroConfigImpl(properties);
   }
 
-  @Bean
+  @Bean(destroyMethod = "close")
   @ApplicationScope
   HieroContext hieroContext(final HieroConfig hieroConfig) {
     return hieroConfig.createHieroContext();
@@ -69,11 +84,15 @@ public class HieroAutoConfiguration {
   @Bean
   ProtocolLayerClient protocolLevelClient(
       final HieroContext hieroContext,
-      @Autowired(required = false) final ReceiveRecordInterceptor interceptor) {
+      @Autowired(required = false) final ReceiveRecordInterceptor interceptor,
+      @Autowired(required = false) final TransactionMetrics transactionMetrics) {
     ProtocolLayerClientImpl protocolLayerClient = new ProtocolLayerClientImpl(hieroContext);
     if (interceptor != null) {
       protocolLayerClient.setRecordInterceptor(interceptor);
     }
+    if (transactionMetrics != null) {
+      protocolLayerClient.setTransactionMetrics(transactionMetrics);
+    }
     return protocolLayerClient;
   }
 
@@ -106,8 +125,49 @@ public class HieroAutoConfiguration {
 
   @Bean
   TopicClient topicClient(
+      final ProtocolLayerClient protocolLayerClient,
+      HieroContext hieroContext,
+      final HieroProperties properties) {
+    final HieroTopicClientProperties topicClientProperties = properties.getTopicClient();
+    return new TopicClientImpl(
+        protocolLayerClient,
+        hieroContext.getOperatorAccount(),
+        topicClientProperties.getMaxMessagesInFlight(),
+        topicClientProperties.getBackpressure());
+  }
+
+  @Bean
+  AsyncFileClient asyncFileClient(final ProtocolLayerClient protocolLayerClient) {
+    return new AsyncFileClientImpl(protocolLayerClient);
+  }
+
+  @Bean
+  AsyncSmartContractClient asyncSmartContractClient(
+      final ProtocolLayerClient protocolLayerClient, AsyncFileClient asyncFileClient) {
+    return new AsyncSmartContractClientImpl(protocolLayerClient, asyncFileClient);
+  }
+
+  @Bean
+  AsyncNftClient asyncNftClient(
+      final ProtocolLayerClient protocolLayerClient, HieroContext hieroContext) {
+    return new AsyncNftClientImpl(protocolLayerClient, hieroContext.getOperatorAccount());
+  }
+
+  @Bean
+  AsyncFungibleTokenClient asyncTokenClient(
       final ProtocolLayerClient protocolLayerClient, HieroContext hieroContext) {
-    return new TopicClientImpl(protocolLayerClient, hieroContext.getOperatorAccount());
+    return new AsyncFungibleTokenClientImpl(protocolLayerClient, hieroContext.getOperatorAccount());
+  }
+
+  @Bean
+  AsyncTopicClient asyncTopicClient(
+      final ProtocolLayerClient protocolLayerClient, HieroContext hieroContext) {
+    return new AsyncTopicClientImpl(protocolLayerClient, hieroContext.getOperatorAccount());
+  }
+
+  @Bean
+  TopicPublisher topicPublisher(final AsyncTopicClient asyncTopicClient) {
+    return new TopicPublisherImpl(asyncTopicClient);
   }
 
   @Bean
@@ -116,7 +176,19 @@ public class HieroAutoConfiguration {
       name = "mirrorNodeSupported",
       havingValue = "true",
       matchIfMissing = true)
-  MirrorNodeClient mirrorNodeClient(final HieroContext hieroContext) {
+  ClientHttpRequestFactory mirrorNodeRequestFactory(final HieroProperties properties) {
+    return MirrorNodeHttpClients.createRequestFactory(properties.getMirrorNodeClient());
+  }
+
+  @Bean
+  @ConditionalOnProperty(
+      prefix = "spring.hiero",
+      name = "mirrorNodeSupported",
+      havingValue = "true",
+      matchIfMissing = true)
+  MirrorNodeClient mirrorNodeClient(
+      final HieroContext hieroContext,
+      @Qualifier("mirrorNodeRequestFactory") final ClientHttpRequestFactory requestFactory) {
     final String mirrorNodeEndpoint;
     final List<String> mirrorNetwork = hieroContext.getClient().getMirrorNetwork();
     if (mirrorNetwork.isEmpty()) {
@@ -148,8 +220,9 @@ public class HieroAutoConfiguration {
       throw new IllegalArgumentException(
           "Error parsing mirrorNodeEndpoint '" + mirrorNodeEndpoint + "'", e);
     }
-    RestClient.Builder builder = RestClient.builder().baseUrl(baseUri);
-    return new MirrorNodeClientImpl(builder);
+    final RestClient restClient =
+        RestClient.builder().baseUrl(baseUri).requestFactory(requestFactory).build();
+    return new MirrorNodeClientImpl(restClient);
   }
 
   @Bean
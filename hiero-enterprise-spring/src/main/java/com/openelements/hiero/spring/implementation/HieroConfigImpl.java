@@ -2,9 +2,13 @@ package com.openelements.hiero.spring.implementation;
 
 import com.hedera.hashgraph.sdk.AccountId;
 import com.hedera.hashgraph.sdk.PrivateKey;
+import com.openelements.hiero.base.config.ClientExecutorType;
 import com.openelements.hiero.base.config.ConsensusNode;
 import com.openelements.hiero.base.config.HieroConfig;
 import com.openelements.hiero.base.config.NetworkSettings;
+import com.openelements.hiero.base.config.OperatorSelectionStrategy;
+import com.openelements.hiero.base.config.TransactionRateLimitPolicy;
+import com.openelements.hiero.base.config.TransactionRetryPolicy;
 import com.openelements.hiero.base.data.Account;
 import java.time.Duration;
 import java.util.Collections;
@@ -19,6 +23,10 @@ public class HieroConfigImpl implements HieroConfig {
 
   private final Account operatorAccount;
 
+  private final List<Account> additionalOperatorAccounts;
+
+  private final OperatorSelectionStrategy operatorSelectionStrategy;
+
   private final String networkName;
 
   private final Set<String> mirrorNodeAddresses;
@@ -31,6 +39,18 @@ public class HieroConfigImpl implements HieroConfig {
 
   private final Duration requestTimeout;
 
+  private final int clientPoolSize;
+
+  private final ClientExecutorType clientExecutorType;
+
+  private final Integer clientExecutorThreads;
+
+  private final TransactionRetryPolicy retryPolicy;
+
+  private final TransactionRateLimitPolicy rateLimitPolicy;
+
+  private final boolean nodeSelectionEnabled;
+
   public HieroConfigImpl(@NonNull final HieroProperties properties) {
     Objects.requireNonNull(properties, "properties must not be null");
 
@@ -41,11 +61,77 @@ public class HieroConfigImpl implements HieroConfig {
     final PrivateKey operatorPrivateKey = parsePrivateKey(properties.getPrivateKey());
 
     operatorAccount = Account.of(operatorAccountId, operatorPrivateKey);
+    final HieroOperatorPoolProperties operatorPool = properties.getOperatorPool();
+    if (operatorPool == null || operatorPool.getAccounts() == null) {
+      additionalOperatorAccounts = List.of();
+    } else {
+      additionalOperatorAccounts =
+          operatorPool.getAccounts().stream()
+              .map(
+                  operator ->
+                      Account.of(
+                          parseAccountId(operator.getAccountId()),
+                          parsePrivateKey(operator.getPrivateKey())))
+              .toList();
+    }
+    operatorSelectionStrategy =
+        Optional.ofNullable(operatorPool)
+            .map(HieroOperatorPoolProperties::getStrategy)
+            .orElse(OperatorSelectionStrategy.ROUND_ROBIN);
     requestTimeout =
         Optional.ofNullable(properties.getNetwork().getRequestTimeoutInMs())
             .map(timeout -> Duration.ofMillis(timeout))
             .orElse(null);
 
+    clientPoolSize = properties.getNetwork().getClientPoolSize();
+    if (clientPoolSize < 1) {
+      throw new IllegalArgumentException(
+          "'clientPoolSize' property must be greater than 0 but was " + clientPoolSize);
+    }
+    clientExecutorType =
+        Optional.ofNullable(properties.getNetwork().getClientExecutorType())
+            .orElse(ClientExecutorType.SDK);
+    clientExecutorThreads = properties.getNetwork().getClientExecutorThreads();
+    if (clientExecutorThreads != null && clientExecutorThreads < 1) {
+      throw new IllegalArgumentException(
+          "'clientExecutorThreads' property must be greater than 0 but was "
+              + clientExecutorThreads);
+    }
+
+    final HieroRetryProperties retry = properties.getRetry();
+    if (retry == null) {
+      retryPolicy = TransactionRetryPolicy.NONE;
+    } else {
+      try {
+        retryPolicy =
+            TransactionRetryPolicy.of(
+                retry.getMaxAttempts(),
+                Duration.ofMillis(retry.getInitialBackoffInMs()),
+                Duration.ofMillis(retry.getMaxBackoffInMs()));
+      } catch (final IllegalArgumentException e) {
+        throw new IllegalArgumentException("Invalid 'retry' properties", e);
+      }
+    }
+
+    final HieroRateLimiterProperties rateLimiter = properties.getRateLimiter();
+    if (rateLimiter != null && rateLimiter.isEnabled()) {
+      try {
+        rateLimitPolicy =
+            new TransactionRateLimitPolicy(
+                rateLimiter.getInitialRate(),
+                rateLimiter.getMinRate(),
+                rateLimiter.getMaxRate(),
+                rateLimiter.getIncreasePerSecond(),
+                rateLimiter.getDecreaseFactor());
+      } catch (final IllegalArgumentException e) {
+        throw new IllegalArgumentException("Invalid 'rate-limiter' properties", e);
+      }
+    } else {
+      rateLimitPolicy = null;
+    }
+    nodeSelectionEnabled =
+        properties.getNodeSelector() != null && properties.getNodeSelector().isEnabled();
+
     final Optional<NetworkSettings> networkSettings =
         NetworkSettings.forIdentifier(properties.getNetwork().getName());
     if (networkSettings.isPresent()) {
@@ -101,6 +187,16 @@ public class HieroConfigImpl implements HieroConfig {
     return operatorAccount;
   }
 
+  @Override
+  public @NonNull List<Account> getAdditionalOperatorAccounts() {
+    return additionalOperatorAccounts;
+  }
+
+  @Override
+  public @NonNull OperatorSelectionStrategy getOperatorSelectionStrategy() {
+    return operatorSelectionStrategy;
+  }
+
   @Override
   public Optional<String> getNetworkName() {
     return Optional.ofNullable(networkName);
@@ -130,4 +226,37 @@ public class HieroConfigImpl implements HieroConfig {
   public Optional<Duration> getRequestTimeout() {
     return Optional.ofNullable(requestTimeout);
   }
+
+  @Override
+  public int getClientPoolSize() {
+    return clientPoolSize;
+  }
+
+  @Override
+  public @NonNull ClientExecutorType getClientExecutorType() {
+    return clientExecutorType;
+  }
+
+  @Override
+  public int getClientExecutorThreads() {
+    if (clientExecutorThreads == null) {
+      return HieroConfig.super.getClientExecutorThreads();
+    }
+    return clientExecutorThreads;
+  }
+
+  @Override
+  public @NonNull TransactionRetryPolicy getTransactionRetryPolicy() {
+    return retryPolicy;
+  }
+
+  @Override
+  public @NonNull Optional<TransactionRateLimitPolicy> getTransactionRateLimitPolicy() {
+    return Optional.ofNullable(rateLimitPolicy);
+  }
+
+  @Override
+  public boolean isNodeSelectionEnabled() {
+    return nodeSelectionEnabled;
+  }
 }
@@ -0,0 +1,71 @@
+package com.openelements.hiero.spring.implementation;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@ConfigurationProperties(prefix = "spring.hiero.mirror-node-client")
+public class HieroMirrorNodeClientProperties {
+
+  /**
+   * Maximum number of pooled connections to the mirror node. All requests and pages share the pool.
+   * Default is 50.
+   */
+  private int maxConnections = 50;
+
+  /** Timeout for establishing a connection to the mirror node. Default is 5 seconds. */
+  private long connectTimeoutInMs = 5_000;
+
+  /** Timeout for reading a response of the mirror node. Default is 30 seconds. */
+  private long readTimeoutInMs = 30_000;
+
+  /**
+   * Time an idle connection is kept alive for reuse. The mirror node can close connections earlier.
+   * Default is 30 seconds.
+   */
+  private long keepAliveInMs = 30_000;
+
+  /**
+   * Use HTTP/2 and multiplex all requests over a single connection instead of a pool of HTTP/1.1
+   * connections. Default is false.
+   */
+  private boolean http2 = false;
+
+  public int getMaxConnections() {
+    return maxConnections;
+  }
+
+  public void setMaxConnections(int maxConnections) {
+    this.maxConnections = maxConnections;
+  }
+
+  public long getConnectTimeoutInMs() {
+    return connectTimeoutInMs;
+  }
+
+  public void setConnectTimeoutInMs(long connectTimeoutInMs) {
+    this.connectTimeoutInMs = connectTimeoutInMs;
+  }
+
+  public long getReadTimeoutInMs() {
+    return readTimeoutInMs;
+  }
+
+  public void setReadTimeoutInMs(long readTimeoutInMs) {
+    this.readTimeoutInMs = readTimeoutInMs;
+  }
+
+  public long getKeepAliveInMs() {
+    return keepAliveInMs;
+  }
+
+  public void setKeepAliveInMs(long keepAliveInMs) {
+    this.keepAliveInMs = keepAliveInMs;
+  }
+
+  public boolean isHttp2() {
+    return http2;
+  }
+
+  public void setHttp2(boolean http2) {
+    this.http2 = http2;
+  }
+}
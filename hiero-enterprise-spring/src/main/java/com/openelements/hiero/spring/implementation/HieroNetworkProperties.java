@@ -1,5 +1,6 @@
 package com.openelements.hiero.spring.implementation;
 
+import com.openelements.hiero.base.config.ClientExecutorType;
 import java.util.List;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 
@@ -23,6 +24,24 @@ public class HieroNetworkProperties {
 
   private Long requestTimeoutInMs;
 
+  /**
+   * Number of SDK clients that are used to connect to the network. Every client has its own
+   * channels and executor. Default is 1.
+   */
+  private int clientPoolSize = 1;
+
+  /**
+   * Executor that every SDK client of the pool gets (sdk, platform or virtual). With sdk every
+   * client creates the default executor of the SDK. Default is sdk.
+   */
+  private ClientExecutorType clientExecutorType = ClientExecutorType.SDK;
+
+  /**
+   * Number of threads of every client executor if the executor type is platform. Default is the
+   * number of available processors.
+   */
+  private Integer clientExecutorThreads;
+
   public String getName() {
     return name;
   }
@@ -54,4 +73,28 @@ public class HieroNetworkProperties {
   public void setRequestTimeoutInMs(Long requestTimeoutInMs) {
     this.requestTimeoutInMs = requestTimeoutInMs;
   }
+
+  public int getClientPoolSize() {
+    return clientPoolSize;
+  }
+
+  public void setClientPoolSize(int clientPoolSize) {
+    this.clientPoolSize = clientPoolSize;
+  }
+
+  public ClientExecutorType getClientExecutorType() {
+    return clientExecutorType;
+  }
+
+  public void setClientExecutorType(ClientExecutorType clientExecutorType) {
+    this.clientExecutorType = clientExecutorType;
+  }
+
+  public Integer getClientExecutorThreads() {
+    return clientExecutorThreads;
+  }
+
+  public void setClientExecutorThreads(Integer clientExecutorThreads) {
+    this.clientExecutorThreads = clientExecutorThreads;
+  }
 }
@@ -0,0 +1,21 @@
+package com.openelements.hiero.spring.implementation;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@ConfigurationProperties(prefix = "spring.hiero.node-selector")
+public class HieroNodeSelectorProperties {
+
+  /**
+   * Whether the consensus nodes of new transactions are chosen by their latency and health instead
+   * of by the SDK. Default is false.
+   */
+  private boolean enabled = false;
+
+  public boolean isEnabled() {
+    return enabled;
+  }
+
+  public void setEnabled(boolean enabled) {
+    this.enabled = enabled;
+  }
+}
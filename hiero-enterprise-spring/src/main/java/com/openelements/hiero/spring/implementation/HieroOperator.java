@@ -0,0 +1,24 @@
+package com.openelements.hiero.spring.implementation;
+
+public class HieroOperator {
+
+  private String accountId;
+
+  private String privateKey;
+
+  public String getAccountId() {
+    return accountId;
+  }
+
+  public void setAccountId(String accountId) {
+    this.accountId = accountId;
+  }
+
+  public String getPrivateKey() {
+    return privateKey;
+  }
+
+  public void setPrivateKey(String privateKey) {
+    this.privateKey = privateKey;
+  }
+}
@@ -0,0 +1,34 @@
+package com.openelements.hiero.spring.implementation;
+
+import com.openelements.hiero.base.config.OperatorSelectionStrategy;
+import java.util.List;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@ConfigurationProperties(prefix = "spring.hiero.operator-pool")
+public class HieroOperatorPoolProperties {
+
+  /**
+   * Accounts that pay for transactions in addition to the operator account. If provided,
+   * transactions are spread over the operator account and these accounts.
+   */
+  private List<HieroOperator> accounts;
+
+  /** Strategy that chooses the payer of a transaction (round-robin or least-loaded). */
+  private OperatorSelectionStrategy strategy = OperatorSelectionStrategy.ROUND_ROBIN;
+
+  public List<HieroOperator> getAccounts() {
+    return accounts;
+  }
+
+  public void setAccounts(List<HieroOperator> accounts) {
+    this.accounts = accounts;
+  }
+
+  public OperatorSelectionStrategy getStrategy() {
+    return strategy;
+  }
+
+  public void setStrategy(OperatorSelectionStrategy strategy) {
+    this.strategy = strategy;
+  }
+}
@@ -15,6 +15,24 @@ public class HieroProperties {
   @NestedConfigurationProperty
   private HieroNetworkProperties network = new HieroNetworkProperties();
 
+  @NestedConfigurationProperty
+  private HieroOperatorPoolProperties operatorPool = new HieroOperatorPoolProperties();
+
+  @NestedConfigurationProperty
+  private HieroRetryProperties retry = new HieroRetryProperties();
+
+  @NestedConfigurationProperty
+  private HieroRateLimiterProperties rateLimiter = new HieroRateLimiterProperties();
+
+  @NestedConfigurationProperty
+  private HieroNodeSelectorProperties nodeSelector = new HieroNodeSelectorProperties();
+
+  @NestedConfigurationProperty
+  private HieroMirrorNodeClientProperties mirrorNodeClient = new HieroMirrorNodeClientProperties();
+
+  @NestedConfigurationProperty
+  private HieroTopicClientProperties topicClient = new HieroTopicClientProperties();
+
   public String getAccountId() {
     return this.accountId;
   }
@@ -38,4 +56,52 @@ public class HieroProperties {
   public void setNetwork(HieroNetworkProperties network) {
     this.network = network;
   }
+
+  public HieroOperatorPoolProperties getOperatorPool() {
+    return operatorPool;
+  }
+
+  public void setOperatorPool(HieroOperatorPoolProperties operatorPool) {
+    this.operatorPool = operatorPool;
+  }
+
+  public HieroRetryProperties getRetry() {
+    return retry;
+  }
+
+  public void setRetry(HieroRetryProperties retry) {
+    this.retry = retry;
+  }
+
+  public HieroRateLimiterProperties getRateLimiter() {
+    return rateLimiter;
+  }
+
+  public void setRateLimiter(HieroRateLimiterProperties rateLimiter) {
+    this.rateLimiter = rateLimiter;
+  }
+
+  public HieroNodeSelectorProperties getNodeSelector() {
+    return nodeSelector;
+  }
+
+  public void setNodeSelector(HieroNodeSelectorProperties nodeSelector) {
+    this.nodeSelector = nodeSelector;
+  }
+
+  public HieroMirrorNodeClientProperties getMirrorNodeClient() {
+    return mirrorNodeClient;
+  }
+
+  public void setMirrorNodeClient(HieroMirrorNodeClientProperties mirrorNodeClient) {
+    this.mirrorNodeClient = mirrorNodeClient;
+  }
+
+  public HieroTopicClientProperties getTopicClient() {
+    return topicClient;
+  }
+
+  public void setTopicClient(HieroTopicClientProperties topicClient) {
+    this.topicClient = topicClient;
+  }
 }
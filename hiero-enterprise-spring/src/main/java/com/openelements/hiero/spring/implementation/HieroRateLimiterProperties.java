@@ -0,0 +1,77 @@
+package com.openelements.hiero.spring.implementation;
+
+import com.openelements.hiero.base.config.TransactionRateLimitPolicy;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@ConfigurationProperties(prefix = "spring.hiero.rate-limiter")
+public class HieroRateLimiterProperties {
+
+  /**
+   * Whether the rate of transactions is limited per transaction type and adapted to the throttles
+   * of the network. Default is false.
+   */
+  private boolean enabled = false;
+
+  /** Transactions per second of a transaction type before the network throttled it. */
+  private double initialRate = TransactionRateLimitPolicy.DEFAULT.initialRate();
+
+  /** Minimum transactions per second of a transaction type. */
+  private double minRate = TransactionRateLimitPolicy.DEFAULT.minRate();
+
+  /** Maximum transactions per second of a transaction type. */
+  private double maxRate = TransactionRateLimitPolicy.DEFAULT.maxRate();
+
+  /** Growth of the rate per second of traffic without throttling. */
+  private double increasePerSecond = TransactionRateLimitPolicy.DEFAULT.increasePerSecond();
+
+  /** Factor that is applied to the rate when the network throttles a transaction. */
+  private double decreaseFactor = TransactionRateLimitPolicy.DEFAULT.decreaseFactor();
+
+  public boolean isEnabled() {
+    return enabled;
+  }
+
+  public void setEnabled(boolean enabled) {
+    this.enabled = enabled;
+  }
+
+  public double getInitialRate() {
+    return initialRate;
+  }
+
+  public void setInitialRate(double initialRate) {
+    this.initialRate = initialRate;
+  }
+
+  public double getMinRate() {
+    return minRate;
+  }
+
+  public void setMinRate(double minRate) {
+    this.minRate = minRate;
+  }
+
+  public double getMaxRate() {
+    return maxRate;
+  }
+
+  public void setMaxRate(double maxRate) {
+    this.maxRate = maxRate;
+  }
+
+  public double getIncreasePerSecond() {
+    return increasePerSecond;
+  }
+
+  public void setIncreasePerSecond(double increasePerSecond) {
+    this.increasePerSecond = increasePerSecond;
+  }
+
+  public double getDecreaseFactor() {
+    return decreaseFactor;
+  }
+
+  public void setDecreaseFactor(double decreaseFactor) {
+    this.decreaseFactor = decreaseFactor;
+  }
+}
@@ -0,0 +1,43 @@
+package com.openelements.hiero.spring.implementation;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@ConfigurationProperties(prefix = "spring.hiero.retry")
+public class HieroRetryProperties {
+
+  /**
+   * Maximum number of attempts of a transaction that failed with a transient error, including the
+   * first one. Default is 1, so transactions are not retried.
+   */
+  private int maxAttempts = 1;
+
+  /** Time to wait before the second attempt of a transaction. Default is 250 ms. */
+  private long initialBackoffInMs = 250;
+
+  /** Maximum time to wait between two attempts of a transaction. Default is 5000 ms. */
+  private long maxBackoffInMs = 5_000;
+
+  public int getMaxAttempts() {
+    return maxAttempts;
+  }
+
+  public void setMaxAttempts(int maxAttempts) {
+    this.maxAttempts = maxAttempts;
+  }
+
+  public long getInitialBackoffInMs() {
+    return initialBackoffInMs;
+  }
+
+  public void setInitialBackoffInMs(long initialBackoffInMs) {
+    this.initialBackoffInMs = initialBackoffInMs;
+  }
+
+  public long getMaxBackoffInMs() {
+    return maxBackoffInMs;
+  }
+
+  public void setMaxBackoffInMs(long maxBackoffInMs) {
+    this.maxBackoffInMs = maxBackoffInMs;
+  }
+}
@@ -0,0 +1,36 @@
+package com.openelements.hiero.spring.implementation;
+
+import com.openelements.hiero.base.data.SubmitBackpressure;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@ConfigurationProperties(prefix = "spring.hiero.topic-client")
+public class HieroTopicClientProperties {
+
+  /**
+   * Maximum number of topic messages that are submitted without their receipt being available.
+   * Default is 64.
+   */
+  private int maxMessagesInFlight = 64;
+
+  /**
+   * Behavior if a message is submitted while the maximum number of messages is in flight. Default
+   * is BLOCK.
+   */
+  private SubmitBackpressure backpressure = SubmitBackpressure.BLOCK;
+
+  public int getMaxMessagesInFlight() {
+    return maxMessagesInFlight;
+  }
+
+  public void setMaxMessagesInFlight(int maxMessagesInFlight) {
+    this.maxMessagesInFlight = maxMessagesInFlight;
+  }
+
+  public SubmitBackpressure getBackpressure() {
+    return backpressure;
+  }
+
+  public void setBackpressure(SubmitBackpressure backpressure) {
+    this.backpressure = backpressure;
+  }
+}
@@ -15,4 +15,12 @@ public class JsonParseException extends IllegalStateException {
   public JsonParseException(JsonNode node, Throwable cause) {
     super("Error in parsing JSON: " + node, cause);
   }
+
+  public JsonParseException(String message) {
+    super("Error in parsing JSON: " + message);
+  }
+
+  public JsonParseException(String message, Throwable cause) {
+    super("Error in parsing JSON: " + message, cause);
+  }
 }
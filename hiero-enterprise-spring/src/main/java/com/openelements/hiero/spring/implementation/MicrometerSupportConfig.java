@@ -2,11 +2,19 @@ package com.openelements.hiero.spring.implementation;
 
 import com.hedera.hashgraph.sdk.ContractExecuteTransaction;
 import com.hedera.hashgraph.sdk.TransactionRecord;
+import com.openelements.hiero.base.HieroContext;
+import com.openelements.hiero.base.TransactionMetrics;
+import com.openelements.hiero.base.TransactionRateLimiter;
 import com.openelements.hiero.base.interceptors.ReceiveRecordInterceptor;
+import com.openelements.hiero.base.protocol.data.TransactionType;
 import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
 import io.micrometer.core.instrument.MeterRegistry;
 import io.micrometer.core.instrument.Tag;
+import io.micrometer.core.instrument.Tags;
 import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.MeterBinder;
 import java.util.HashSet;
 import java.util.Set;
 import org.jspecify.annotations.NonNull;
@@ -17,9 +25,11 @@ import org.springframework.context.annotation.Bean;
 
 /**
  * Micrometer support for Hiero. This configuration class is used to create a {@link
- * ReceiveRecordInterceptor} that will measure metrics for Hiero transactions. The config is only
- * loaded if the {@code spring.hiero.metrics.enabled} property is set to {@code true} or not set at
- * all. Next to that, the {@code MetricsAutoConfiguration} configuration must be on the classpath.
+ * ReceiveRecordInterceptor} and a {@link TransactionMetrics} that will measure metrics for Hiero
+ * transactions, and a {@link MeterBinder} that publishes the rate limits of the {@link
+ * TransactionRateLimiter}. The config is only loaded if the {@code spring.hiero.metrics.enabled}
+ * property is set to {@code true} or not set at all. Next to that, the {@code
+ * MetricsAutoConfiguration} configuration must be on the classpath.
  */
 @AutoConfiguration
 @ConditionalOnProperty(
@@ -34,6 +44,64 @@ public class MicrometerSupportConfig {
   public static final String CONTRACT_ID_TAG = "hiero.transaction.record.contractId";
   public static final String TIMER_NAME = "hiero.transaction.record.time";
   public static final String COUNTER_NAME = "hiero.transaction.record";
+  public static final String RATE_GAUGE_NAME = "hiero.transaction.rate.limit";
+  public static final String AVAILABLE_PERMITS_GAUGE_NAME = "hiero.transaction.rate.available";
+  public static final String THROTTLED_COUNTER_NAME = "hiero.transaction.rate.throttled";
+
+  /**
+   * Creates a {@link TransactionMetrics} that publishes the latency of every phase of Hiero
+   * transactions and queries.
+   *
+   * @param meterRegistry the {@link MeterRegistry} to use for metrics
+   * @return the {@link TransactionMetrics} to use for metrics
+   */
+  @Bean
+  @NonNull
+  public TransactionMetrics transactionMetrics(@NonNull final MeterRegistry meterRegistry) {
+    return new MicrometerTransactionMetrics(meterRegistry);
+  }
+
+  /**
+   * Creates a {@link MeterBinder} that publishes the current rate limit, the available permits and
+   * the number of throttled transactions of every transaction type, tagged by type. Nothing is
+   * published if the {@link HieroContext} has no {@link TransactionRateLimiter}.
+   *
+   * @param hieroContext the {@link HieroContext} that provides the rate limiter
+   * @return the {@link MeterBinder} for the rate limits
+   */
+  @Bean
+  @NonNull
+  public MeterBinder transactionRateLimiterMetrics(@NonNull final HieroContext hieroContext) {
+    return meterRegistry ->
+        hieroContext
+            .getRateLimiter()
+            .ifPresent(
+                rateLimiter -> {
+                  for (final TransactionType type : TransactionType.values()) {
+                    final Tags tags =
+                        Tags.of(MicrometerTransactionMetrics.TYPE_TAG, type.name());
+                    Gauge.builder(
+                            RATE_GAUGE_NAME,
+                            rateLimiter,
+                            limiter -> limiter.getRate(type).permitsPerSecond())
+                        .tags(tags)
+                        .baseUnit("transactions/s")
+                        .register(meterRegistry);
+                    Gauge.builder(
+                            AVAILABLE_PERMITS_GAUGE_NAME,
+                            rateLimiter,
+                            limiter -> limiter.getRate(type).availablePermits())
+                        .tags(tags)
+                        .register(meterRegistry);
+                    FunctionCounter.builder(
+                            THROTTLED_COUNTER_NAME,
+                            rateLimiter,
+                            limiter -> limiter.getRate(type).throttled())
+                        .tags(tags)
+                        .register(meterRegistry);
+                  }
+                });
+  }
 
   /**
    * Creates a {@link ReceiveRecordInterceptor} that will measure metrics for Hiero transactions.
@@ -0,0 +1,120 @@
+package com.openelements.hiero.spring.implementation;
+
+import com.hedera.hashgraph.sdk.Status;
+import com.openelements.hiero.base.TransactionMetrics;
+import com.openelements.hiero.base.data.PhaseLatency;
+import com.openelements.hiero.base.data.TransactionPhase;
+import com.openelements.hiero.base.protocol.data.TransactionType;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.distribution.HistogramSnapshot;
+import io.micrometer.core.instrument.distribution.ValueAtPercentile;
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import org.jspecify.annotations.NonNull;
+
+/**
+ * {@link TransactionMetrics} that publishes the latency of every phase as a Micrometer {@link
+ * Timer} with the name {@link #TIMER_NAME}, tagged by phase, type and status. The timers publish
+ * the 50th, 90th and 99th percentile and a percentile histogram. Timers are cached, so recording a
+ * measurement does not look up the timer in the {@link MeterRegistry}.
+ */
+public class MicrometerTransactionMetrics implements TransactionMetrics {
+
+  public static final String TIMER_NAME = "hiero.transaction.phase.time";
+  public static final String PHASE_TAG = "hiero.transaction.phase";
+  public static final String TYPE_TAG = "hiero.transaction.type";
+  public static final String STATUS_TAG = "hiero.transaction.status";
+
+  private static final double[] PERCENTILES = {0.5, 0.9, 0.99};
+
+  private final MeterRegistry meterRegistry;
+
+  private final Map<Key, Timer> timers = new ConcurrentHashMap<>();
+
+  public MicrometerTransactionMetrics(@NonNull final MeterRegistry meterRegistry) {
+    this.meterRegistry = Objects.requireNonNull(meterRegistry, "meterRegistry must not be null");
+  }
+
+  @Override
+  public void recordTransaction(
+      @NonNull final TransactionPhase phase,
+      @NonNull final TransactionType type,
+      @NonNull final Status status,
+      final long durationNanos) {
+    Objects.requireNonNull(type, "type must not be null");
+    record(phase, type.name(), status, durationNanos);
+  }
+
+  @Override
+  public void recordQuery(
+      @NonNull final String queryType, @NonNull final Status status, final long durationNanos) {
+    record(TransactionPhase.QUERY, queryType, status, durationNanos);
+  }
+
+  @Override
+  public @NonNull List<PhaseLatency> getLatencies() {
+    return timers.entrySet().stream()
+        .map(entry -> toLatency(entry.getKey(), entry.getValue().takeSnapshot()))
+        .sorted(
+            Comparator.comparing(PhaseLatency::phase)
+                .thenComparing(PhaseLatency::type)
+                .thenComparing(PhaseLatency::status))
+        .toList();
+  }
+
+  private void record(
+      @NonNull final TransactionPhase phase,
+      @NonNull final String type,
+      @NonNull final Status status,
+      final long durationNanos) {
+    timers
+        .computeIfAbsent(new Key(phase, type, status), this::createTimer)
+        .record(Math.max(0, durationNanos), TimeUnit.NANOSECONDS);
+  }
+
+  @NonNull
+  private Timer createTimer(@NonNull final Key key) {
+    return Timer.builder(TIMER_NAME)
+        .tag(PHASE_TAG, key.phase().name())
+        .tag(TYPE_TAG, key.type())
+        .tag(STATUS_TAG, key.status().name())
+        .publishPercentiles(PERCENTILES)
+        .publishPercentileHistogram()
+        .register(meterRegistry);
+  }
+
+  @NonNull
+  private static PhaseLatency toLatency(
+      @NonNull final Key key, @NonNull final HistogramSnapshot snapshot) {
+    final ValueAtPercentile[] percentiles = snapshot.percentileValues();
+    return new PhaseLatency(
+        key.phase(),
+        key.type(),
+        key.status(),
+        snapshot.count(),
+        percentile(percentiles, 0.5),
+        percentile(percentiles, 0.9),
+        percentile(percentiles, 0.99),
+        Duration.ofNanos((long) snapshot.max(TimeUnit.NANOSECONDS)));
+  }
+
+  @NonNull
+  private static Duration percentile(
+      @NonNull final ValueAtPercentile[] percentiles, final double percentile) {
+    for (final ValueAtPercentile value : percentiles) {
+      if (value.percentile() == percentile) {
+        return Duration.ofNanos((long) value.value(TimeUnit.NANOSECONDS));
+      }
+    }
+    return Duration.ZERO;
+  }
+
+  private record Key(
+      @NonNull TransactionPhase phase, @NonNull String type, @NonNull Status status) {}
+}
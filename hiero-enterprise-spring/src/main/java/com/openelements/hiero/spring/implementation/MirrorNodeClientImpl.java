@@ -35,17 +35,28 @@ public class MirrorNodeClientImpl extends AbstractMirrorNodeClient<JsonNode> {
 
   private final MirrorNodeJsonConverter<JsonNode> jsonConverter;
 
+  private final MirrorNodeJsonStreamingDecoder streamingDecoder;
+
   /**
    * Constructor.
    *
    * @param restClientBuilder the builder for the REST client that must have the base URL set
    */
   public MirrorNodeClientImpl(final RestClient.Builder restClientBuilder) {
-    Objects.requireNonNull(restClientBuilder, "restClientBuilder must not be null");
-    mirrorNodeRestClient = new MirrorNodeRestClientImpl(restClientBuilder);
+    this(Objects.requireNonNull(restClientBuilder, "restClientBuilder must not be null").build());
+  }
+
+  /**
+   * Constructor. The REST client is used for all requests and pages, so they share its connections.
+   *
+   * @param restClient the REST client that must have the base URL set
+   */
+  public MirrorNodeClientImpl(final RestClient restClient) {
+    this.restClient = Objects.requireNonNull(restClient, "restClient must not be null");
+    mirrorNodeRestClient = new MirrorNodeRestClientImpl(restClient);
     jsonConverter = new MirrorNodeJsonConverterImpl();
     objectMapper = new ObjectMapper();
-    restClient = restClientBuilder.build();
+    streamingDecoder = new MirrorNodeJsonStreamingDecoder(objectMapper.getFactory());
   }
 
   @Override
@@ -62,9 +73,7 @@ public class MirrorNodeClientImpl extends AbstractMirrorNodeClient<JsonNode> {
   public Page<Nft> queryNftsByAccount(@NonNull final AccountId accountId) throws HieroException {
     Objects.requireNonNull(accountId, "newAccountId must not be null");
     final String path = "/api/v1/accounts/" + accountId + "/nfts";
-    final Function<JsonNode, List<Nft>> dataExtractionFunction = node -> jsonConverter.toNfts(node);
-    return new RestBasedPage<>(
-        objectMapper, restClient.mutate().clone(), path, dataExtractionFunction);
+    return new RestBasedPage<>(restClient, path, streamingDecoder::decodeNfts);
   }
 
   @Override
@@ -73,17 +82,13 @@ public class MirrorNodeClientImpl extends AbstractMirrorNodeClient<JsonNode> {
     Objects.requireNonNull(accountId, "accountId must not be null");
     Objects.requireNonNull(tokenId, "tokenId must not be null");
     final String path = "/api/v1/tokens/" + tokenId + "/nfts/?account.id=" + accountId;
-    final Function<JsonNode, List<Nft>> dataExtractionFunction = node -> jsonConverter.toNfts(node);
-    return new RestBasedPage<>(
-        objectMapper, restClient.mutate().clone(), path, dataExtractionFunction);
+    return new RestBasedPage<>(restClient, path, streamingDecoder::decodeNfts);
   }
 
   @Override
   public Page<Nft> queryNftsByTokenId(@NonNull TokenId tokenId) {
     final String path = "/api/v1/tokens/" + tokenId + "/nfts";
-    final Function<JsonNode, List<Nft>> dataExtractionFunction = node -> jsonConverter.toNfts(node);
-    return new RestBasedPage<>(
-        objectMapper, restClient.mutate().clone(), path, dataExtractionFunction);
+    return new RestBasedPage<>(restClient, path, streamingDecoder::decodeNfts);
   }
 
   @Override
@@ -91,10 +96,7 @@ public class MirrorNodeClientImpl extends AbstractMirrorNodeClient<JsonNode> {
       throws HieroException {
     Objects.requireNonNull(accountId, "accountId must not be null");
     final String path = "/api/v1/transactions?account.id=" + accountId;
-    final Function<JsonNode, List<TransactionInfo>> dataExtractionFunction =
-        n -> jsonConverter.toTransactionInfos(n);
-    return new RestBasedPage<>(
-        objectMapper, restClient.mutate().clone(), path, dataExtractionFunction);
+    return new RestBasedPage<>(restClient, path, streamingDecoder::decodeTransactions);
   }
 
   @Override
@@ -103,10 +105,7 @@ public class MirrorNodeClientImpl extends AbstractMirrorNodeClient<JsonNode> {
     Objects.requireNonNull(accountId, "accountId must not be null");
     final String path =
         "/api/v1/transactions?account.id=" + accountId + "&transactiontype=" + type.getType();
-    final Function<JsonNode, List<TransactionInfo>> dataExtractionFunction =
-        n -> jsonConverter.toTransactionInfos(n);
-    return new RestBasedPage<>(
-        objectMapper, restClient.mutate().clone(), path, dataExtractionFunction);
+    return new RestBasedPage<>(restClient, path, streamingDecoder::decodeTransactions);
   }
 
   @Override
@@ -114,10 +113,7 @@ public class MirrorNodeClientImpl extends AbstractMirrorNodeClient<JsonNode> {
       @NonNull AccountId accountId, @NonNull Result result) throws HieroException {
     Objects.requireNonNull(accountId, "accountId must not be null");
     final String path = "/api/v1/transactions?account.id=" + accountId + "&result=" + result.name();
-    final Function<JsonNode, List<TransactionInfo>> dataExtractionFunction =
-        n -> jsonConverter.toTransactionInfos(n);
-    return new RestBasedPage<>(
-        objectMapper, restClient.mutate().clone(), path, dataExtractionFunction);
+    return new RestBasedPage<>(restClient, path, streamingDecoder::decodeTransactions);
   }
 
   @Override
@@ -125,30 +121,21 @@ public class MirrorNodeClientImpl extends AbstractMirrorNodeClient<JsonNode> {
       @NonNull AccountId accountId, @NonNull BalanceModification type) throws HieroException {
     Objects.requireNonNull(accountId, "accountId must not be null");
     final String path = "/api/v1/transactions?account.id=" + accountId + "&type=" + type.name();
-    final Function<JsonNode, List<TransactionInfo>> dataExtractionFunction =
-        n -> jsonConverter.toTransactionInfos(n);
-    return new RestBasedPage<>(
-        objectMapper, restClient.mutate().clone(), path, dataExtractionFunction);
+    return new RestBasedPage<>(restClient, path, streamingDecoder::decodeTransactions);
   }
 
   @Override
   public Page<Token> queryTokensForAccount(@NonNull AccountId accountId) throws HieroException {
     Objects.requireNonNull(accountId, "accountId must not be null");
     final String path = "/api/v1/tokens?account.id=" + accountId;
-    final Function<JsonNode, List<Token>> dataExtractionFunction =
-        node -> jsonConverter.toTokens(node);
-    return new RestBasedPage<>(
-        objectMapper, restClient.mutate().clone(), path, dataExtractionFunction);
+    return new RestBasedPage<>(restClient, path, streamingDecoder::decodeTokens);
   }
 
   @Override
   public @NonNull Page<Balance> queryTokenBalances(TokenId tokenId) throws HieroException {
     Objects.requireNonNull(tokenId, "tokenId must not be null");
     final String path = "/api/v1/tokens/" + tokenId + "/balances";
-    final Function<JsonNode, List<Balance>> dataExtractionFunction =
-        node -> jsonConverter.toBalances(node);
-    return new RestBasedPage<>(
-        objectMapper, restClient.mutate().clone(), path, dataExtractionFunction);
+    return new RestBasedPage<>(restClient, path, streamingDecoder::decodeBalances);
   }
 
   @Override
@@ -157,10 +144,7 @@ public class MirrorNodeClientImpl extends AbstractMirrorNodeClient<JsonNode> {
     Objects.requireNonNull(tokenId, "tokenId must not be null");
     Objects.requireNonNull(accountId, "accountId must not be null");
     final String path = "/api/v1/tokens/" + tokenId + "/balances?account.id=" + accountId;
-    final Function<JsonNode, List<Balance>> dataExtractionFunction =
-        node -> jsonConverter.toBalances(node);
-    return new RestBasedPage<>(
-        objectMapper, restClient.mutate().clone(), path, dataExtractionFunction);
+    return new RestBasedPage<>(restClient, path, streamingDecoder::decodeBalances);
   }
 
   @Override
@@ -169,8 +153,7 @@ public class MirrorNodeClientImpl extends AbstractMirrorNodeClient<JsonNode> {
     final String path = "/api/v1/topics/" + topicId + "/messages";
     final Function<JsonNode, List<TopicMessage>> dataExtractionFunction =
         node -> jsonConverter.toTopicMessages(node);
-    return new RestBasedPage<>(
-        objectMapper, restClient.mutate().clone(), path, dataExtractionFunction);
+    return new RestBasedPage<>(objectMapper, restClient, path, dataExtractionFunction);
   }
 
   @Override
@@ -0,0 +1,72 @@
+package com.openelements.hiero.spring.implementation;
+
+import java.net.http.HttpClient;
+import java.time.Duration;
+import java.util.Objects;
+import org.apache.hc.client5.http.config.ConnectionConfig;
+import org.apache.hc.client5.http.config.RequestConfig;
+import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManagerBuilder;
+import org.apache.hc.core5.util.TimeValue;
+import org.apache.hc.core5.util.Timeout;
+import org.jspecify.annotations.NonNull;
+import org.springframework.http.client.ClientHttpRequestFactory;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+import org.springframework.http.client.JdkClientHttpRequestFactory;
+
+/**
+ * Creates the HTTP client that is shared by all requests to the mirror node. Without a shared
+ * client every page of a paged query opens new connections and pays for the TCP and TLS handshake
+ * again.
+ */
+public final class MirrorNodeHttpClients {
+
+  private MirrorNodeHttpClients() {}
+
+  /**
+   * Creates a request factory for the mirror node. With HTTP/1.1 the requests use a pool of
+   * connections (Apache HttpClient). With HTTP/2 all requests are multiplexed over a single
+   * connection of the JDK {@link HttpClient}, in that case the pool size and keep-alive are defined
+   * by the JDK.
+   *
+   * @param properties the properties of the mirror node client
+   * @return the request factory
+   */
+  @NonNull
+  public static ClientHttpRequestFactory createRequestFactory(
+      @NonNull final HieroMirrorNodeClientProperties properties) {
+    Objects.requireNonNull(properties, "properties must not be null");
+    if (properties.isHttp2()) {
+      final HttpClient httpClient =
+          HttpClient.newBuilder()
+              .version(HttpClient.Version.HTTP_2)
+              .connectTimeout(Duration.ofMillis(properties.getConnectTimeoutInMs()))
+              .build();
+      final JdkClientHttpRequestFactory requestFactory =
+          new JdkClientHttpRequestFactory(httpClient);
+      requestFactory.setReadTimeout(Duration.ofMillis(properties.getReadTimeoutInMs()));
+      return requestFactory;
+    }
+    final ConnectionConfig connectionConfig =
+        ConnectionConfig.custom()
+            .setConnectTimeout(Timeout.ofMilliseconds(properties.getConnectTimeoutInMs()))
+            .setSocketTimeout(Timeout.ofMilliseconds(properties.getReadTimeoutInMs()))
+            .build();
+    final RequestConfig requestConfig =
+        RequestConfig.custom()
+            .setResponseTimeout(Timeout.ofMilliseconds(properties.getReadTimeoutInMs()))
+            .setConnectionKeepAlive(TimeValue.ofMilliseconds(properties.getKeepAliveInMs()))
+            .build();
+    return new HttpComponentsClientHttpRequestFactory(
+        HttpClients.custom()
+            .setConnectionManager(
+                PoolingHttpClientConnectionManagerBuilder.create()
+                    .setMaxConnTotal(properties.getMaxConnections())
+                    .setMaxConnPerRoute(properties.getMaxConnections())
+                    .setDefaultConnectionConfig(connectionConfig)
+                    .build())
+            .setDefaultRequestConfig(requestConfig)
+            .evictIdleConnections(TimeValue.ofMilliseconds(properties.getKeepAliveInMs()))
+            .build());
+  }
+}
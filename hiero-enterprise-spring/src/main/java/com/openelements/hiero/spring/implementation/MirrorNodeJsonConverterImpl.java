@@ -37,6 +37,7 @@ import com.openelements.hiero.base.data.Transfer;
 import com.openelements.hiero.base.implementation.MirrorNodeJsonConverter;
 import com.openelements.hiero.base.protocol.data.TransactionType;
 import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
 import java.time.Instant;
 import java.util.Base64;
 import java.util.List;
@@ -632,7 +633,8 @@ public class MirrorNodeJsonConverterImpl implements MirrorNodeJsonConverter<Json
 
       final Instant consensusTimestamp =
           Instant.ofEpochSecond(node.get("consensus_timestamp").asLong());
-      final String message = new String(Base64.getDecoder().decode(node.get("message").asText()));
+      final byte[] contents = Base64.getDecoder().decode(node.get("message").asText());
+      final String message = new String(contents, StandardCharsets.UTF_8);
       final AccountId payerAccountId = AccountId.fromString(node.get("payer_account_id").asText());
       final byte[] runningHash = node.get("running_hash").asText().getBytes();
       final int runningHashVersion = node.get("running_hash_version").asInt();
@@ -648,7 +650,8 @@ public class MirrorNodeJsonConverterImpl implements MirrorNodeJsonConverter<Json
               runningHash,
               runningHashVersion,
               sequenceNumber,
-              topicId));
+              topicId,
+              contents));
     } catch (final Exception e) {
       throw new JsonParseException(node, e);
     }
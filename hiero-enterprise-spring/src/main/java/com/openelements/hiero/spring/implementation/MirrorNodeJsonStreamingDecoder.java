@@ -0,0 +1,487 @@
+package com.openelements.hiero.spring.implementation;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.io.NumberInput;
+import com.hedera.hashgraph.sdk.AccountId;
+import com.hedera.hashgraph.sdk.TokenId;
+import com.hedera.hashgraph.sdk.TokenType;
+import com.openelements.hiero.base.data.Balance;
+import com.openelements.hiero.base.data.Nft;
+import com.openelements.hiero.base.data.NftTransfer;
+import com.openelements.hiero.base.data.StakingRewardTransfer;
+import com.openelements.hiero.base.data.Token;
+import com.openelements.hiero.base.data.TokenTransfer;
+import com.openelements.hiero.base.data.TransactionInfo;
+import com.openelements.hiero.base.data.Transfer;
+import com.openelements.hiero.base.protocol.data.TransactionType;
+import com.openelements.hiero.spring.implementation.PageDecoder.Content;
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import org.jspecify.annotations.NonNull;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Decodes list responses of the mirror node directly from the response stream. A Jackson {@link
+ * JsonParser} walks the body once and creates the data records and the link to the next page
+ * without a {@code String} or {@code JsonNode} copy of the body.
+ *
+ * <p>Values are coerced like {@link MirrorNodeJsonConverterImpl} does, so both produce equal
+ * records for the same response.
+ */
+public class MirrorNodeJsonStreamingDecoder {
+
+  private final JsonFactory jsonFactory;
+
+  public MirrorNodeJsonStreamingDecoder() {
+    this(new JsonFactory());
+  }
+
+  public MirrorNodeJsonStreamingDecoder(@NonNull final JsonFactory jsonFactory) {
+    this.jsonFactory = Objects.requireNonNull(jsonFactory, "jsonFactory must not be null");
+  }
+
+  @NonNull
+  public Content<TransactionInfo> decodeTransactions(@NonNull final InputStream body)
+      throws IOException {
+    return decodePage(body, "transactions", this::decodeTransactionInfo);
+  }
+
+  @NonNull
+  public Content<Nft> decodeNfts(@NonNull final InputStream body) throws IOException {
+    return decodePage(body, "nfts", this::decodeNft);
+  }
+
+  @NonNull
+  public Content<Balance> decodeBalances(@NonNull final InputStream body) throws IOException {
+    return decodePage(body, "balances", this::decodeBalance);
+  }
+
+  @NonNull
+  public Content<Token> decodeTokens(@NonNull final InputStream body) throws IOException {
+    return decodePage(body, "tokens", this::decodeToken);
+  }
+
+  private <T> Content<T> decodePage(
+      final InputStream body, final String arrayName, final ElementDecoder<T> elementDecoder)
+      throws IOException {
+    Objects.requireNonNull(body, "body must not be null");
+    try (JsonParser parser = jsonFactory.createParser(body)) {
+      final JsonToken start = parser.nextToken();
+      if (start == null) {
+        throw new IllegalStateException("Response body is empty");
+      }
+      if (start != JsonToken.START_OBJECT) {
+        throw new JsonParseException("expected an object but found " + start);
+      }
+      List<T> data = List.of();
+      String nextPath = null;
+      while (parser.nextToken() == JsonToken.FIELD_NAME) {
+        final String field = parser.currentName();
+        parser.nextToken();
+        if (arrayName.equals(field)) {
+          data = decodeArray(parser, field, elementDecoder);
+        } else if ("links".equals(field) && parser.currentToken() == JsonToken.START_OBJECT) {
+          nextPath = decodeNextPath(parser);
+        } else {
+          parser.skipChildren();
+        }
+      }
+      return new Content<>(data, nextPath);
+    }
+  }
+
+  @Nullable
+  private static String decodeNextPath(final JsonParser parser) throws IOException {
+    String nextPath = null;
+    while (parser.nextToken() == JsonToken.FIELD_NAME) {
+      final String field = parser.currentName();
+      final JsonToken token = parser.nextToken();
+      if ("next".equals(field) && token != JsonToken.VALUE_NULL) {
+        if (token != JsonToken.VALUE_STRING) {
+          throw new IllegalArgumentException("Next link is not a string: " + token);
+        }
+        nextPath = parser.getText();
+      } else {
+        parser.skipChildren();
+      }
+    }
+    return nextPath;
+  }
+
+  /** Decodes an array, elements that are empty objects are skipped. */
+  private static <T> List<T> decodeArray(
+      final JsonParser parser, final String field, final ElementDecoder<T> elementDecoder)
+      throws IOException {
+    if (parser.currentToken() != JsonToken.START_ARRAY) {
+      throw new JsonParseException("'" + field + "' is not an array");
+    }
+    final List<T> elements = new ArrayList<>();
+    while (parser.nextToken() != JsonToken.END_ARRAY) {
+      if (parser.currentToken() != JsonToken.START_OBJECT) {
+        parser.skipChildren();
+        continue;
+      }
+      final T element;
+      try {
+        element = elementDecoder.decode(parser);
+      } catch (final RuntimeException e) {
+        throw new JsonParseException("invalid element in '" + field + "'", e);
+      }
+      if (element != null) {
+        elements.add(element);
+      }
+    }
+    return Collections.unmodifiableList(elements);
+  }
+
+  @Nullable
+  private TransactionInfo decodeTransactionInfo(final JsonParser parser) throws IOException {
+    String transactionId = null;
+    byte[] bytes = null;
+    Long chargedTxFee = null;
+    Long consensusTimestamp = null;
+    String entityId = null;
+    String maxFee = null;
+    byte[] memo = null;
+    String name = null;
+    String node = null;
+    Integer nonce = null;
+    Long parentConsensusTimestamp = null;
+    boolean hasParentConsensusTimestamp = false;
+    String result = null;
+    Boolean scheduled = null;
+    byte[] transactionHash = null;
+    String validDurationSeconds = null;
+    Long validStartTimestamp = null;
+    List<NftTransfer> nftTransfers = null;
+    List<StakingRewardTransfer> stakingRewardTransfers = null;
+    List<TokenTransfer> tokenTransfers = null;
+    List<Transfer> transfers = null;
+    boolean empty = true;
+    while (parser.nextToken() == JsonToken.FIELD_NAME) {
+      empty = false;
+      final String field = parser.currentName();
+      parser.nextToken();
+      switch (field) {
+        case "transaction_id" -> transactionId = text(parser);
+        case "bytes" -> bytes = text(parser).getBytes();
+        case "charged_tx_fee" -> chargedTxFee = asLong(parser);
+        case "consensus_timestamp" -> consensusTimestamp = asLong(parser);
+        case "entity_id" -> entityId = text(parser);
+        case "max_fee" -> maxFee = text(parser);
+        case "memo_base64" -> memo = text(parser).getBytes();
+        case "name" -> name = text(parser);
+        case "node" -> node = text(parser);
+        case "nonce" -> nonce = (int) asLong(parser);
+        case "parent_consensus_timestamp" -> {
+          hasParentConsensusTimestamp = true;
+          parentConsensusTimestamp =
+              parser.currentToken() == JsonToken.VALUE_NULL ? null : asLong(parser);
+        }
+        case "result" -> result = text(parser);
+        case "scheduled" -> scheduled = asBoolean(parser);
+        case "transaction_hash" -> transactionHash = text(parser).getBytes();
+        case "valid_duration_seconds" -> validDurationSeconds = text(parser);
+        case "valid_start_timestamp" -> validStartTimestamp = asLong(parser);
+        case "nft_transfers" -> nftTransfers = decodeArray(parser, field, this::decodeNftTransfer);
+        case "staking_reward_transfers" ->
+            stakingRewardTransfers = decodeArray(parser, field, this::decodeStakingRewardTransfer);
+        case "token_transfers" ->
+            tokenTransfers = decodeArray(parser, field, this::decodeTokenTransfer);
+        case "transfers" -> transfers = decodeArray(parser, field, this::decodeTransfer);
+        default -> parser.skipChildren();
+      }
+    }
+    if (empty) {
+      return null;
+    }
+    requirePresent(hasParentConsensusTimestamp, "parent_consensus_timestamp");
+    return new TransactionInfo(
+        require(transactionId, "transaction_id"),
+        require(bytes, "bytes"),
+        require(chargedTxFee, "charged_tx_fee"),
+        Instant.ofEpochSecond(require(consensusTimestamp, "consensus_timestamp")),
+        require(entityId, "entity_id"),
+        require(maxFee, "max_fee"),
+        require(memo, "memo_base64"),
+        TransactionType.from(require(name, "name")),
+        require(nftTransfers, "nft_transfers"),
+        require(node, "node"),
+        require(nonce, "nonce"),
+        parentConsensusTimestamp == null ? null : Instant.ofEpochSecond(parentConsensusTimestamp),
+        require(result, "result"),
+        require(scheduled, "scheduled"),
+        require(stakingRewardTransfers, "staking_reward_transfers"),
+        require(tokenTransfers, "token_transfers"),
+        require(transactionHash, "transaction_hash"),
+        require(transfers, "transfers"),
+        require(validDurationSeconds, "valid_duration_seconds"),
+        Instant.ofEpochSecond(require(validStartTimestamp, "valid_start_timestamp")));
+  }
+
+  private Transfer decodeTransfer(final JsonParser parser) throws IOException {
+    String account = null;
+    Long amount = null;
+    Boolean isApproval = null;
+    while (parser.nextToken() == JsonToken.FIELD_NAME) {
+      final String field = parser.currentName();
+      parser.nextToken();
+      switch (field) {
+        case "account" -> account = text(parser);
+        case "amount" -> amount = asLong(parser);
+        case "is_approval" -> isApproval = asBoolean(parser);
+        default -> parser.skipChildren();
+      }
+    }
+    return new Transfer(
+        AccountId.fromString(require(account, "account")),
+        require(amount, "amount"),
+        require(isApproval, "is_approval"));
+  }
+
+  private TokenTransfer decodeTokenTransfer(final JsonParser parser) throws IOException {
+    String tokenId = null;
+    String account = null;
+    Long amount = null;
+    Boolean isApproval = null;
+    while (parser.nextToken() == JsonToken.FIELD_NAME) {
+      final String field = parser.currentName();
+      parser.nextToken();
+      switch (field) {
+        case "token_id" -> tokenId = text(parser);
+        case "account" -> account = text(parser);
+        case "amount" -> amount = asLong(parser);
+        case "is_approval" -> isApproval = asBoolean(parser);
+        default -> parser.skipChildren();
+      }
+    }
+    return new TokenTransfer(
+        TokenId.fromString(require(tokenId, "token_id")),
+        AccountId.fromString(require(account, "account")),
+        require(amount, "amount"),
+        require(isApproval, "is_approval"));
+  }
+
+  private StakingRewardTransfer decodeStakingRewardTransfer(final JsonParser parser)
+      throws IOException {
+    String account = null;
+    Long amount = null;
+    while (parser.nextToken() == JsonToken.FIELD_NAME) {
+      final String field = parser.currentName();
+      parser.nextToken();
+      switch (field) {
+        case "account" -> account = text(parser);
+        case "amount" -> amount = asLong(parser);
+        default -> parser.skipChildren();
+      }
+    }
+    return new StakingRewardTransfer(
+        AccountId.fromString(require(account, "account")), require(amount, "amount"));
+  }
+
+  private NftTransfer decodeNftTransfer(final JsonParser parser) throws IOException {
+    Boolean isApproval = null;
+    String receiverAccountId = null;
+    boolean hasReceiverAccountId = false;
+    String senderAccountId = null;
+    boolean hasSenderAccountId = false;
+    Long serialNumber = null;
+    String tokenId = null;
+    while (parser.nextToken() == JsonToken.FIELD_NAME) {
+      final String field = parser.currentName();
+      parser.nextToken();
+      switch (field) {
+        case "is_approval" -> isApproval = asBoolean(parser);
+        case "receiver_account_id" -> {
+          hasReceiverAccountId = true;
+          receiverAccountId = nullableText(parser);
+        }
+        case "sender_account_id" -> {
+          hasSenderAccountId = true;
+          senderAccountId = nullableText(parser);
+        }
+        case "serial_number" -> serialNumber = asLong(parser);
+        case "token_id" -> tokenId = text(parser);
+        default -> parser.skipChildren();
+      }
+    }
+    requirePresent(hasReceiverAccountId, "receiver_account_id");
+    requirePresent(hasSenderAccountId, "sender_account_id");
+    return new NftTransfer(
+        require(isApproval, "is_approval"),
+        receiverAccountId == null ? null : AccountId.fromString(receiverAccountId),
+        senderAccountId == null ? null : AccountId.fromString(senderAccountId),
+        require(serialNumber, "serial_number"),
+        TokenId.fromString(require(tokenId, "token_id")));
+  }
+
+  @Nullable
+  private Nft decodeNft(final JsonParser parser) throws IOException {
+    String tokenId = null;
+    String accountId = null;
+    Long serial = null;
+    byte[] metadata = null;
+    boolean hasMetadata = false;
+    boolean empty = true;
+    while (parser.nextToken() == JsonToken.FIELD_NAME) {
+      empty = false;
+      final String field = parser.currentName();
+      parser.nextToken();
+      switch (field) {
+        case "token_id" -> tokenId = text(parser);
+        case "account_id" -> accountId = text(parser);
+        case "serial_number" -> serial = asLong(parser);
+        case "metadata" -> {
+          hasMetadata = true;
+          metadata =
+              parser.currentToken() == JsonToken.VALUE_STRING ? parser.getBinaryValue() : null;
+          parser.skipChildren();
+        }
+        default -> parser.skipChildren();
+      }
+    }
+    if (empty) {
+      return null;
+    }
+    requirePresent(hasMetadata, "metadata");
+    return new Nft(
+        TokenId.fromString(require(tokenId, "token_id")),
+        require(serial, "serial_number"),
+        AccountId.fromString(require(accountId, "account_id")),
+        metadata);
+  }
+
+  @Nullable
+  private Balance decodeBalance(final JsonParser parser) throws IOException {
+    String account = null;
+    Long balance = null;
+    Long decimals = null;
+    boolean empty = true;
+    while (parser.nextToken() == JsonToken.FIELD_NAME) {
+      empty = false;
+      final String field = parser.currentName();
+      parser.nextToken();
+      switch (field) {
+        case "account" -> account = text(parser);
+        case "balance" -> balance = asLong(parser);
+        case "decimals" -> decimals = asLong(parser);
+        default -> parser.skipChildren();
+      }
+    }
+    if (empty) {
+      return null;
+    }
+    return new Balance(
+        AccountId.fromString(require(account, "account")),
+        require(balance, "balance"),
+        require(decimals, "decimals"));
+  }
+
+  @Nullable
+  private Token decodeToken(final JsonParser parser) throws IOException {
+    byte[] metadata = null;
+    String name = null;
+    String symbol = null;
+    Long decimals = null;
+    String type = null;
+    String tokenId = null;
+    boolean hasTokenId = false;
+    boolean empty = true;
+    while (parser.nextToken() == JsonToken.FIELD_NAME) {
+      empty = false;
+      final String field = parser.currentName();
+      parser.nextToken();
+      switch (field) {
+        case "metadata" -> metadata = text(parser).getBytes();
+        case "name" -> name = text(parser);
+        case "symbol" -> symbol = text(parser);
+        case "decimals" -> decimals = asLong(parser);
+        case "type" -> type = text(parser);
+        case "token_id" -> {
+          hasTokenId = true;
+          tokenId = nullableText(parser);
+        }
+        default -> parser.skipChildren();
+      }
+    }
+    if (empty) {
+      return null;
+    }
+    requirePresent(hasTokenId, "token_id");
+    return new Token(
+        require(decimals, "decimals"),
+        require(metadata, "metadata"),
+        require(name, "name"),
+        require(symbol, "symbol"),
+        tokenId == null ? null : TokenId.fromString(tokenId),
+        TokenType.valueOf(require(type, "type")));
+  }
+
+  /** Returns the value as text, like {@code JsonNode.asText()}. */
+  private static String text(final JsonParser parser) throws IOException {
+    return switch (parser.currentToken()) {
+      case VALUE_NULL -> "null";
+      case START_OBJECT, START_ARRAY -> {
+        parser.skipChildren();
+        yield "";
+      }
+      default -> parser.getText();
+    };
+  }
+
+  /** Returns the value as long, like {@code JsonNode.asLong()}. */
+  private static long asLong(final JsonParser parser) throws IOException {
+    return switch (parser.currentToken()) {
+      case VALUE_NUMBER_INT -> parser.getLongValue();
+      case VALUE_NUMBER_FLOAT -> (long) parser.getDoubleValue();
+      case VALUE_STRING -> NumberInput.parseAsLong(parser.getText(), 0L);
+      case VALUE_TRUE -> 1L;
+      default -> {
+        parser.skipChildren();
+        yield 0L;
+      }
+    };
+  }
+
+  /** Returns the value as boolean, like {@code JsonNode.asBoolean()}. */
+  private static boolean asBoolean(final JsonParser parser) throws IOException {
+    return switch (parser.currentToken()) {
+      case VALUE_TRUE -> true;
+      case VALUE_NUMBER_INT -> parser.getLongValue() != 0;
+      case VALUE_STRING -> "true".equals(parser.getText().trim());
+      default -> {
+        parser.skipChildren();
+        yield false;
+      }
+    };
+  }
+
+  /** Returns the value as text, or null for a JSON null. */
+  @Nullable
+  private static String nullableText(final JsonParser parser) throws IOException {
+    return parser.currentToken() == JsonToken.VALUE_NULL ? null : text(parser);
+  }
+
+  private static <V> V require(@Nullable final V value, final String field) {
+    requirePresent(value != null, field);
+    return value;
+  }
+
+  private static void requirePresent(final boolean present, final String field) {
+    if (!present) {
+      throw new IllegalStateException("Missing field '" + field + "'");
+    }
+  }
+
+  @FunctionalInterface
+  private interface ElementDecoder<T> {
+    @Nullable T decode(JsonParser parser) throws IOException;
+  }
+}
@@ -5,13 +5,15 @@ import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.openelements.hiero.base.HieroException;
 import com.openelements.hiero.base.implementation.MirrorNodeRestClient;
+import com.openelements.hiero.base.jfr.MirrorNodeRequestEvent;
+import java.io.UncheckedIOException;
 import java.net.URI;
 import java.util.Objects;
 import java.util.function.Function;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.HttpStatusCode;
 import org.springframework.http.MediaType;
-import org.springframework.http.ResponseEntity;
+import org.springframework.util.StreamUtils;
 import org.springframework.web.client.RestClient;
 import org.springframework.web.util.UriBuilder;
 
@@ -22,9 +24,12 @@ public class MirrorNodeRestClientImpl implements MirrorNodeRestClient<JsonNode>
   private final RestClient restClient;
 
   public MirrorNodeRestClientImpl(final RestClient.Builder restClientBuilder) {
-    Objects.requireNonNull(restClientBuilder, "restClientBuilder must not be null");
+    this(Objects.requireNonNull(restClientBuilder, "restClientBuilder must not be null").build());
+  }
+
+  public MirrorNodeRestClientImpl(final RestClient restClient) {
+    this.restClient = Objects.requireNonNull(restClient, "restClient must not be null");
     objectMapper = new ObjectMapper();
-    restClient = restClientBuilder.build();
   }
 
   public JsonNode doGetCall(String path) throws HieroException {
@@ -32,36 +37,54 @@ public class MirrorNodeRestClientImpl implements MirrorNodeRestClient<JsonNode>
   }
 
   public JsonNode doGetCall(Function<UriBuilder, URI> uriFunction) throws HieroException {
-    final ResponseEntity<String> responseEntity =
-        restClient
-            .get()
-            .uri(uriBuilder -> uriFunction.apply(uriBuilder))
-            .accept(MediaType.APPLICATION_JSON)
-            .retrieve()
-            .onStatus(
-                HttpStatusCode::is4xxClientError,
-                (request, response) -> {
-                  if (!HttpStatus.NOT_FOUND.equals(response.getStatusCode())) {
+    final MirrorNodeRequestEvent event = new MirrorNodeRequestEvent();
+    event.begin();
+    final boolean[] received = {false};
+    try {
+      return restClient
+          .get()
+          .uri(
+              uriBuilder -> {
+                final URI uri = uriFunction.apply(uriBuilder);
+                event.path = uri.getPath();
+                return uri;
+              })
+          .accept(MediaType.APPLICATION_JSON)
+          .exchange(
+              (request, response) -> {
+                received[0] = true;
+                final HttpStatusCode statusCode = response.getStatusCode();
+                final long contentLength = response.getHeaders().getContentLength();
+                try {
+                  if (HttpStatus.NOT_FOUND.equals(statusCode)) {
+                    return objectMapper.createObjectNode();
+                  }
+                  if (statusCode.is4xxClientError()) {
                     throw new RuntimeException("Client error: " + response.getStatusText());
                   }
-                })
-            .onStatus(
-                HttpStatusCode::is5xxServerError,
-                (request, response) -> {
-                  throw new RuntimeException("Server error: " + response.getStatusText());
-                })
-            .toEntity(String.class);
-    final String body = responseEntity.getBody();
-    try {
-      if (HttpStatus.NOT_FOUND.equals(responseEntity.getStatusCode())) {
-        return objectMapper.readTree("{}");
-      }
-      if (body == null || body.isBlank()) {
-        return objectMapper.readTree("{}");
+                  if (statusCode.is5xxServerError()) {
+                    throw new RuntimeException("Server error: " + response.getStatusText());
+                  }
+                  final JsonNode body =
+                      objectMapper.readTree(StreamUtils.nonClosing(response.getBody()));
+                  StreamUtils.drain(response.getBody());
+                  if (body == null || body.isMissingNode()) {
+                    return objectMapper.createObjectNode();
+                  }
+                  return body;
+                } catch (final JsonProcessingException e) {
+                  throw new UncheckedIOException(e);
+                } finally {
+                  event.complete(event.path, statusCode.value(), contentLength);
+                }
+              });
+    } catch (final UncheckedIOException e) {
+      throw new HieroException("Error parsing body as JSON from path: " + event.path, e.getCause());
+    } catch (final RuntimeException e) {
+      if (!received[0]) {
+        event.complete(event.path, 0, -1);
       }
-      return objectMapper.readTree(body);
-    } catch (JsonProcessingException e) {
-      throw new HieroException("Error parsing body as JSON: " + body, e);
+      throw e;
     }
   }
 }
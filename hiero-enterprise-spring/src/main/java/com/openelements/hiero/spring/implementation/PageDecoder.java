@@ -0,0 +1,42 @@
+package com.openelements.hiero.spring.implementation;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.List;
+import java.util.Objects;
+import org.jspecify.annotations.NonNull;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Decodes the body of a mirror node list response into the elements of a page and the link to the
+ * next page.
+ *
+ * @param <T> the type of the elements
+ * @see RestBasedPage
+ */
+@FunctionalInterface
+public interface PageDecoder<T> {
+
+  /**
+   * Decodes a response body. The stream is closed by the caller.
+   *
+   * @param body the response body
+   * @return the elements and the link to the next page
+   * @throws IOException if the body can not be read or is not valid JSON
+   */
+  @NonNull Content<T> decode(@NonNull InputStream body) throws IOException;
+
+  /**
+   * Decoded content of a page.
+   *
+   * @param data the elements of the page
+   * @param nextPath the path of the next page, or null if this is the last page
+   * @param <T> the type of the elements
+   */
+  record Content<T>(@NonNull List<T> data, @Nullable String nextPath) {
+
+    public Content {
+      Objects.requireNonNull(data, "data must not be null");
+    }
+  }
+}
@@ -6,6 +6,9 @@ import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.openelements.hiero.base.data.Page;
+import com.openelements.hiero.base.jfr.MirrorNodeRequestEvent;
+import java.io.IOException;
+import java.io.InputStream;
 import java.util.Collections;
 import java.util.List;
 import java.util.Objects;
@@ -14,18 +17,20 @@ import org.jspecify.annotations.NonNull;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.http.HttpStatusCode;
-import org.springframework.http.ResponseEntity;
+import org.springframework.util.StreamUtils;
+import org.springframework.web.client.DefaultResponseErrorHandler;
+import org.springframework.web.client.ResponseErrorHandler;
 import org.springframework.web.client.RestClient;
 
 public class RestBasedPage<T> implements Page<T> {
 
   private static final Logger log = LoggerFactory.getLogger(RestBasedPage.class);
 
-  private final ObjectMapper objectMapper;
+  private static final ResponseErrorHandler ERROR_HANDLER = new DefaultResponseErrorHandler();
 
   private final RestClient restClient;
 
-  private final Function<JsonNode, List<T>> dataExtractionFunction;
+  private final PageDecoder<T> decoder;
 
   private final int number;
 
@@ -52,10 +57,54 @@ public class RestBasedPage<T> implements Page<T> {
       int number,
       final @NonNull Function<JsonNode, List<T>> dataExtractionFunction,
       final @NonNull String rootPath) {
-    this.objectMapper = Objects.requireNonNull(objectMapper, "objectMapper must not be null");
-    Objects.requireNonNull(restClientBuilder, "restClientBuilder must not be null");
-    this.dataExtractionFunction =
-        Objects.requireNonNull(dataExtractionFunction, "dataExtractionFunction must not be null");
+    this(
+        Objects.requireNonNull(restClientBuilder, "restClientBuilder must not be null").build(),
+        path,
+        number,
+        treeDecoder(objectMapper, dataExtractionFunction),
+        rootPath);
+  }
+
+  /**
+   * Creates the first page. The REST client is shared with all following pages, so the pages reuse
+   * the connections of the client.
+   *
+   * @param objectMapper the object mapper
+   * @param restClient the REST client that must have the base URL set
+   * @param path the path of the page
+   * @param dataExtractionFunction the function that extracts the data of the page
+   */
+  public RestBasedPage(
+      final @NonNull ObjectMapper objectMapper,
+      final @NonNull RestClient restClient,
+      final @NonNull String path,
+      final @NonNull Function<JsonNode, List<T>> dataExtractionFunction) {
+    this(restClient, path, treeDecoder(objectMapper, dataExtractionFunction));
+  }
+
+  /**
+   * Creates the first page. The decoder reads the body of every page directly from the response
+   * stream.
+   *
+   * @param restClient the REST client that must have the base URL set
+   * @param path the path of the page
+   * @param decoder the decoder of the response body
+   */
+  public RestBasedPage(
+      final @NonNull RestClient restClient,
+      final @NonNull String path,
+      final @NonNull PageDecoder<T> decoder) {
+    this(restClient, path, 0, decoder, path);
+  }
+
+  private RestBasedPage(
+      final @NonNull RestClient restClient,
+      final @NonNull String path,
+      int number,
+      final @NonNull PageDecoder<T> decoder,
+      final @NonNull String rootPath) {
+    this.restClient = Objects.requireNonNull(restClient, "restClient must not be null");
+    this.decoder = Objects.requireNonNull(decoder, "decoder must not be null");
     this.rootPath = Objects.requireNonNull(rootPath, "rootPath must not be null");
     this.currentPath = Objects.requireNonNull(path, "path must not be null");
     this.number = number;
@@ -63,7 +112,6 @@ public class RestBasedPage<T> implements Page<T> {
       throw new IllegalArgumentException("number must be non-negative");
     }
     log.debug("Fetching data from PATH: {}", path);
-    restClient = restClientBuilder.build();
     String[] pathParts = path.split("\\?");
     final String requestPath = pathParts[0];
     final String requestQuery;
@@ -73,31 +121,76 @@ public class RestBasedPage<T> implements Page<T> {
       requestQuery = null;
     }
 
-    final ResponseEntity<String> response =
-        restClient
-            .get()
-            .uri(uriBuilder -> uriBuilder.path(requestPath).query(requestQuery).build())
-            .accept(APPLICATION_JSON)
-            .retrieve()
-            .toEntity(String.class);
-    final HttpStatusCode statusCode = response.getStatusCode();
-    if (!statusCode.is2xxSuccessful()) {
-      throw new IllegalStateException("HTTP status code: " + statusCode);
-    }
-    final String body = response.getBody();
-    if (body == null) {
-      throw new IllegalStateException("Response body is null");
-    }
+    final MirrorNodeRequestEvent event = new MirrorNodeRequestEvent();
+    event.begin();
+    final boolean[] received = {false};
+    final PageDecoder.Content<T> content;
     try {
-      final JsonNode jsonNode = objectMapper.readTree(body);
-      data = Collections.unmodifiableList(dataExtractionFunction.apply(jsonNode));
-      nextPath = getNextPath(jsonNode);
-    } catch (JsonProcessingException e) {
-      throw new RuntimeException("JSON parsing error", e);
+      content =
+          restClient
+              .get()
+              .uri(uriBuilder -> uriBuilder.path(requestPath).query(requestQuery).build())
+              .accept(APPLICATION_JSON)
+              .exchange(
+                  (request, response) -> {
+                    received[0] = true;
+                    final HttpStatusCode statusCode = response.getStatusCode();
+                    final long contentLength = response.getHeaders().getContentLength();
+                    if (ERROR_HANDLER.hasError(response)) {
+                      event.complete(requestPath, statusCode.value(), contentLength);
+                      ERROR_HANDLER.handleError(response);
+                    }
+                    if (!statusCode.is2xxSuccessful()) {
+                      event.complete(requestPath, statusCode.value(), contentLength);
+                      throw new IllegalStateException("HTTP status code: " + statusCode);
+                    }
+                    final PageDecoder.Content<T> decoded;
+                    try {
+                      decoded = decode(response.getBody());
+                    } catch (final JsonProcessingException e) {
+                      throw new RuntimeException("JSON parsing error", e);
+                    } finally {
+                      event.complete(requestPath, statusCode.value(), contentLength);
+                    }
+                    return decoded;
+                  });
+    } catch (final RuntimeException e) {
+      if (!received[0]) {
+        event.complete(requestPath, 0, -1);
+      }
+      throw e;
     }
+    data = Collections.unmodifiableList(content.data());
+    nextPath = content.nextPath();
+  }
+
+  /**
+   * Decodes the body and reads it to the end, so the connection can be reused even if the decoder
+   * stops at the end of the JSON document.
+   */
+  private PageDecoder.Content<T> decode(final InputStream body) throws IOException {
+    final PageDecoder.Content<T> content = decoder.decode(StreamUtils.nonClosing(body));
+    StreamUtils.drain(body);
+    return content;
   }
 
-  private String getNextPath(final JsonNode jsonNode) {
+  /** Returns a decoder that reads the body as tree and passes it to the extraction function. */
+  private static <T> PageDecoder<T> treeDecoder(
+      final @NonNull ObjectMapper objectMapper,
+      final @NonNull Function<JsonNode, List<T>> dataExtractionFunction) {
+    Objects.requireNonNull(objectMapper, "objectMapper must not be null");
+    Objects.requireNonNull(dataExtractionFunction, "dataExtractionFunction must not be null");
+    return body -> {
+      final JsonNode jsonNode = objectMapper.readTree(body);
+      if (jsonNode == null || jsonNode.isMissingNode()) {
+        throw new IllegalStateException("Response body is null");
+      }
+      return new PageDecoder.Content<>(
+          dataExtractionFunction.apply(jsonNode), getNextPath(jsonNode));
+    };
+  }
+
+  private static String getNextPath(final JsonNode jsonNode) {
     if (!jsonNode.has("links")) {
       return null;
     }
@@ -147,19 +240,12 @@ public class RestBasedPage<T> implements Page<T> {
     if (nextPath == null) {
       throw new IllegalStateException("No next Page");
     }
-    return new RestBasedPage<>(
-        objectMapper,
-        restClient.mutate().clone(),
-        nextPath,
-        number + 1,
-        dataExtractionFunction,
-        rootPath);
+    return new RestBasedPage<>(restClient, nextPath, number + 1, decoder, rootPath);
   }
 
   @Override
   public Page<T> first() {
-    return new RestBasedPage<>(
-        objectMapper, restClient.mutate().clone(), rootPath, dataExtractionFunction);
+    return new RestBasedPage<>(restClient, rootPath, decoder);
   }
 
   @Override
@@ -0,0 +1,121 @@
+package com.openelements.hiero.spring.test;
+
+import com.openelements.hiero.base.config.TransactionRateLimitPolicy;
+import com.openelements.hiero.base.data.SubmitBackpressure;
+import com.openelements.hiero.spring.implementation.HieroProperties;
+import java.util.Map;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.boot.context.properties.source.MapConfigurationPropertySource;
+
+public class HieroPropertiesTest {
+
+  @Test
+  void testTopicClientDefaults() {
+    // when
+    final HieroProperties properties = bind(Map.of("spring.hiero.account-id", "0.0.2"));
+
+    // then
+    Assertions.assertEquals(64, properties.getTopicClient().getMaxMessagesInFlight());
+    Assertions.assertEquals(
+        SubmitBackpressure.BLOCK, properties.getTopicClient().getBackpressure());
+  }
+
+  @Test
+  void testTopicClientProperties() {
+    // when
+    final HieroProperties properties =
+        bind(
+            Map.of(
+                "spring.hiero.topic-client.max-messages-in-flight", "8",
+                "spring.hiero.topic-client.backpressure", "fail"));
+
+    // then
+    Assertions.assertEquals(8, properties.getTopicClient().getMaxMessagesInFlight());
+    Assertions.assertEquals(SubmitBackpressure.FAIL, properties.getTopicClient().getBackpressure());
+  }
+
+  @Test
+  void testRetryDefaults() {
+    // when
+    final HieroProperties properties = bind(Map.of("spring.hiero.account-id", "0.0.2"));
+
+    // then
+    Assertions.assertEquals(1, properties.getRetry().getMaxAttempts());
+    Assertions.assertEquals(250, properties.getRetry().getInitialBackoffInMs());
+    Assertions.assertEquals(5_000, properties.getRetry().getMaxBackoffInMs());
+  }
+
+  @Test
+  void testRetryProperties() {
+    // when
+    final HieroProperties properties =
+        bind(
+            Map.of(
+                "spring.hiero.retry.max-attempts", "4",
+                "spring.hiero.retry.initial-backoff-in-ms", "100",
+                "spring.hiero.retry.max-backoff-in-ms", "800"));
+
+    // then
+    Assertions.assertEquals(4, properties.getRetry().getMaxAttempts());
+    Assertions.assertEquals(100, properties.getRetry().getInitialBackoffInMs());
+    Assertions.assertEquals(800, properties.getRetry().getMaxBackoffInMs());
+  }
+
+  @Test
+  void testRateLimiterIsDisabledByDefault() {
+    // when
+    final HieroProperties properties = bind(Map.of("spring.hiero.account-id", "0.0.2"));
+
+    // then
+    Assertions.assertFalse(properties.getRateLimiter().isEnabled());
+    Assertions.assertEquals(
+        TransactionRateLimitPolicy.DEFAULT.initialRate(),
+        properties.getRateLimiter().getInitialRate());
+  }
+
+  @Test
+  void testRateLimiterProperties() {
+    // when
+    final HieroProperties properties =
+        bind(
+            Map.of(
+                "spring.hiero.rate-limiter.enabled", "true",
+                "spring.hiero.rate-limiter.initial-rate", "50",
+                "spring.hiero.rate-limiter.max-rate", "200",
+                "spring.hiero.rate-limiter.decrease-factor", "0.25"));
+
+    // then
+    Assertions.assertTrue(properties.getRateLimiter().isEnabled());
+    Assertions.assertEquals(50, properties.getRateLimiter().getInitialRate());
+    Assertions.assertEquals(200, properties.getRateLimiter().getMaxRate());
+    Assertions.assertEquals(0.25, properties.getRateLimiter().getDecreaseFactor());
+    Assertions.assertEquals(
+        TransactionRateLimitPolicy.DEFAULT.minRate(), properties.getRateLimiter().getMinRate());
+  }
+
+  @Test
+  void testNodeSelectorIsDisabledByDefault() {
+    // when
+    final HieroProperties properties = bind(Map.of("spring.hiero.account-id", "0.0.2"));
+
+    // then
+    Assertions.assertFalse(properties.getNodeSelector().isEnabled());
+  }
+
+  @Test
+  void testNodeSelectorProperties() {
+    // when
+    final HieroProperties properties = bind(Map.of("spring.hiero.node-selector.enabled", "true"));
+
+    // then
+    Assertions.assertTrue(properties.getNodeSelector().isEnabled());
+  }
+
+  private static HieroProperties bind(final Map<String, String> values) {
+    return new Binder(new MapConfigurationPropertySource(values))
+        .bind("spring.hiero", HieroProperties.class)
+        .get();
+  }
+}
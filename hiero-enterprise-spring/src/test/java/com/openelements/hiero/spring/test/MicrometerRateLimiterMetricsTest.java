@@ -0,0 +1,90 @@
+package com.openelements.hiero.spring.test;
+
+import com.hedera.hashgraph.sdk.Client;
+import com.hedera.hashgraph.sdk.Status;
+import com.openelements.hiero.base.HieroContext;
+import com.openelements.hiero.base.TransactionRateLimiter;
+import com.openelements.hiero.base.data.Account;
+import com.openelements.hiero.base.implementation.TransactionRateLimiterImpl;
+import com.openelements.hiero.base.protocol.data.TransactionType;
+import com.openelements.hiero.spring.implementation.MicrometerSupportConfig;
+import com.openelements.hiero.spring.implementation.MicrometerTransactionMetrics;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.Optional;
+import org.jspecify.annotations.NonNull;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class MicrometerRateLimiterMetricsTest {
+
+  @Test
+  void testRatesArePublishedPerType() {
+    // given
+    final TransactionRateLimiter rateLimiter = new TransactionRateLimiterImpl();
+    final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    new MicrometerSupportConfig()
+        .transactionRateLimiterMetrics(contextWith(Optional.of(rateLimiter)))
+        .bindTo(registry);
+
+    // when
+    rateLimiter.recordStatus(TransactionType.TOKEN_MINT, Status.BUSY);
+
+    // then
+    final Gauge mintRate = rateGauge(registry, TransactionType.TOKEN_MINT);
+    final Gauge transferRate = rateGauge(registry, TransactionType.CRYPTO_TRANSFER);
+    Assertions.assertNotNull(mintRate);
+    Assertions.assertNotNull(transferRate);
+    Assertions.assertEquals(
+        rateLimiter.getRate(TransactionType.CRYPTO_TRANSFER).permitsPerSecond() / 2,
+        mintRate.value(),
+        0.0001);
+    Assertions.assertEquals(
+        1,
+        registry
+            .find(MicrometerSupportConfig.THROTTLED_COUNTER_NAME)
+            .tag(MicrometerTransactionMetrics.TYPE_TAG, TransactionType.TOKEN_MINT.name())
+            .functionCounter()
+            .count());
+  }
+
+  @Test
+  void testNothingIsPublishedWithoutRateLimiter() {
+    // given
+    final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+
+    // when
+    new MicrometerSupportConfig()
+        .transactionRateLimiterMetrics(contextWith(Optional.empty()))
+        .bindTo(registry);
+
+    // then
+    Assertions.assertTrue(registry.getMeters().isEmpty());
+  }
+
+  private static Gauge rateGauge(final SimpleMeterRegistry registry, final TransactionType type) {
+    return registry
+        .find(MicrometerSupportConfig.RATE_GAUGE_NAME)
+        .tag(MicrometerTransactionMetrics.TYPE_TAG, type.name())
+        .gauge();
+  }
+
+  private static HieroContext contextWith(final Optional<TransactionRateLimiter> rateLimiter) {
+    return new HieroContext() {
+      @Override
+      public @NonNull Account getOperatorAccount() {
+        throw new UnsupportedOperationException();
+      }
+
+      @Override
+      public @NonNull Client getClient() {
+        throw new UnsupportedOperationException();
+      }
+
+      @Override
+      public @NonNull Optional<TransactionRateLimiter> getRateLimiter() {
+        return rateLimiter;
+      }
+    };
+  }
+}
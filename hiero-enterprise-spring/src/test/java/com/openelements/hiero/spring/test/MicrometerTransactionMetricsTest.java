@@ -0,0 +1,46 @@
+package com.openelements.hiero.spring.test;
+
+import com.hedera.hashgraph.sdk.Status;
+import com.openelements.hiero.base.data.PhaseLatency;
+import com.openelements.hiero.base.data.TransactionPhase;
+import com.openelements.hiero.base.protocol.data.TransactionType;
+import com.openelements.hiero.spring.implementation.MicrometerTransactionMetrics;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class MicrometerTransactionMetricsTest {
+
+  @Test
+  void testTimerIsTaggedByPhaseTypeAndStatus() {
+    // given
+    final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    final MicrometerTransactionMetrics metrics = new MicrometerTransactionMetrics(registry);
+
+    // when
+    metrics.recordTransaction(
+        TransactionPhase.SUBMIT,
+        TransactionType.TOPIC_CREATE,
+        Status.OK,
+        TimeUnit.MILLISECONDS.toNanos(5));
+
+    // then
+    final Timer timer =
+        registry
+            .find(MicrometerTransactionMetrics.TIMER_NAME)
+            .tag("hiero.transaction.phase", "SUBMIT")
+            .tag(MicrometerTransactionMetrics.TYPE_TAG, "TOPIC_CREATE")
+            .tag(MicrometerTransactionMetrics.STATUS_TAG, "OK")
+            .timer();
+    Assertions.assertNotNull(timer);
+    Assertions.assertEquals(1, timer.count());
+    Assertions.assertNotEquals(
+        MicrometerTransactionMetrics.TIMER_NAME, MicrometerTransactionMetrics.PHASE_TAG);
+    final List<PhaseLatency> latencies = metrics.getLatencies();
+    Assertions.assertEquals(1, latencies.size());
+    Assertions.assertEquals(TransactionPhase.SUBMIT, latencies.get(0).phase());
+  }
+}
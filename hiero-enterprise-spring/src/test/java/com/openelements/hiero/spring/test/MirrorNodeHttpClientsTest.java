@@ -0,0 +1,187 @@
+package com.openelements.hiero.spring.test;
+
+import com.hedera.hashgraph.sdk.AccountId;
+import com.openelements.hiero.base.HieroException;
+import com.openelements.hiero.base.data.Page;
+import com.openelements.hiero.base.data.Token;
+import com.openelements.hiero.spring.implementation.HieroMirrorNodeClientProperties;
+import com.openelements.hiero.spring.implementation.MirrorNodeClientImpl;
+import com.openelements.hiero.spring.implementation.MirrorNodeHttpClients;
+import com.openelements.hiero.test.fake.FakeMirrorNode;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.web.client.RestClient;
+
+public class MirrorNodeHttpClientsTest {
+
+  private static final int PAGE_COUNT = 20;
+
+  private FakeMirrorNode mirrorNode;
+
+  @BeforeEach
+  void startMirrorNode() {
+    mirrorNode = new FakeMirrorNode();
+    mirrorNode.setPageCount(PAGE_COUNT);
+  }
+
+  @AfterEach
+  void stopMirrorNode() {
+    mirrorNode.close();
+  }
+
+  @ParameterizedTest
+  @ValueSource(booleans = {false, true})
+  void pagesShareOneConnection(final boolean http2) throws HieroException {
+    // given
+    final HieroMirrorNodeClientProperties properties = new HieroMirrorNodeClientProperties();
+    properties.setHttp2(http2);
+    final MirrorNodeClientImpl mirrorNodeClient = createClient(properties);
+
+    // when
+    Page<Token> page = mirrorNodeClient.queryTokensForAccount(AccountId.fromString("0.0.2"));
+    int count = page.getSize();
+    while (page.hasNext()) {
+      page = page.next();
+      count += page.getSize();
+    }
+    final Page<Token> first = page.first();
+    mirrorNodeClient.queryNetworkSupplies();
+
+    // then
+    Assertions.assertEquals(PAGE_COUNT * FakeMirrorNode.PAGE_SIZE, count);
+    Assertions.assertEquals(PAGE_COUNT - 1, page.getPageIndex());
+    Assertions.assertTrue(first.isFirst());
+    Assertions.assertEquals(PAGE_COUNT + 2, mirrorNode.getRequestCount());
+    Assertions.assertEquals(1, mirrorNode.getConnectionCount());
+  }
+
+  @ParameterizedTest
+  @ValueSource(booleans = {false, true})
+  void parallelRequestsAreLimitedByPool(final boolean http2) throws Exception {
+    // given
+    final HieroMirrorNodeClientProperties properties = new HieroMirrorNodeClientProperties();
+    properties.setHttp2(http2);
+    properties.setMaxConnections(4);
+    final MirrorNodeClientImpl mirrorNodeClient = createClient(properties);
+
+    // when
+    try (ExecutorService executor = Executors.newFixedThreadPool(8)) {
+      for (int i = 0; i < 200; i++) {
+        executor.submit(() -> mirrorNodeClient.queryNetworkSupplies());
+      }
+    }
+
+    // then
+    Assertions.assertEquals(200, mirrorNode.getRequestCount());
+    if (!http2) {
+      Assertions.assertTrue(mirrorNode.getConnectionCount() <= 4);
+    }
+  }
+
+  @Test
+  void streamFetchesAllPages() throws HieroException {
+    // given
+    final MirrorNodeClientImpl mirrorNodeClient =
+        createClient(new HieroMirrorNodeClientProperties());
+
+    // when
+    final List<Token> tokens;
+    try (Stream<Token> stream =
+        mirrorNodeClient.queryTokensForAccount(AccountId.fromString("0.0.2")).stream(4)) {
+      tokens = stream.toList();
+    }
+
+    // then
+    Assertions.assertEquals(PAGE_COUNT * FakeMirrorNode.PAGE_SIZE, tokens.size());
+    Assertions.assertEquals(
+        PAGE_COUNT * FakeMirrorNode.PAGE_SIZE, tokens.stream().distinct().count());
+    Assertions.assertEquals(PAGE_COUNT, mirrorNode.getRequestCount());
+  }
+
+  @Test
+  void closedStreamStopsFetching() throws Exception {
+    // given
+    final MirrorNodeClientImpl mirrorNodeClient =
+        createClient(new HieroMirrorNodeClientProperties());
+    final Page<Token> first =
+        mirrorNodeClient.queryTokensForAccount(AccountId.fromString("0.0.2"));
+    final CountDownLatch fetchFailed = new CountDownLatch(1);
+    mirrorNode.holdRequests();
+
+    // when
+    try (Stream<Token> stream = new FailureTrackingPage<>(first, fetchFailed).stream(2)) {
+      Assertions.assertEquals(
+          FakeMirrorNode.PAGE_SIZE, stream.limit(FakeMirrorNode.PAGE_SIZE).count());
+      Assertions.assertTrue(mirrorNode.awaitHeldRequest(5, TimeUnit.SECONDS));
+      Assertions.assertEquals(1, fetchFailed.getCount());
+    }
+
+    // then
+    Assertions.assertTrue(fetchFailed.await(5, TimeUnit.SECONDS));
+    Assertions.assertFalse(mirrorNode.awaitHeldRequest(0, TimeUnit.SECONDS));
+    Assertions.assertEquals(1, mirrorNode.getRequestCount());
+  }
+
+  private MirrorNodeClientImpl createClient(final HieroMirrorNodeClientProperties properties) {
+    return new MirrorNodeClientImpl(
+        RestClient.builder()
+            .baseUrl(mirrorNode.getBaseUrl())
+            .requestFactory(MirrorNodeHttpClients.createRequestFactory(properties))
+            .build());
+  }
+
+  /** Page that counts down the latch if fetching one of the following pages fails. */
+  private record FailureTrackingPage<T>(Page<T> page, CountDownLatch fetchFailed)
+      implements Page<T> {
+
+    @Override
+    public int getPageIndex() {
+      return page.getPageIndex();
+    }
+
+    @Override
+    public int getSize() {
+      return page.getSize();
+    }
+
+    @Override
+    public List<T> getData() {
+      return page.getData();
+    }
+
+    @Override
+    public boolean hasNext() {
+      return page.hasNext();
+    }
+
+    @Override
+    public Page<T> next() {
+      try {
+        return new FailureTrackingPage<>(page.next(), fetchFailed);
+      } catch (final RuntimeException e) {
+        fetchFailed.countDown();
+        throw e;
+      }
+    }
+
+    @Override
+    public Page<T> first() {
+      return new FailureTrackingPage<>(page.first(), fetchFailed);
+    }
+
+    @Override
+    public boolean isFirst() {
+      return page.isFirst();
+    }
+  }
+}
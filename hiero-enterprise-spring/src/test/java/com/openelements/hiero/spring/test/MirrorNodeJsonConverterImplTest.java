@@ -0,0 +1,38 @@
+package com.openelements.hiero.spring.test;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.openelements.hiero.base.data.TopicMessage;
+import com.openelements.hiero.spring.implementation.MirrorNodeJsonConverterImpl;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class MirrorNodeJsonConverterImplTest {
+
+  private final ObjectMapper objectMapper = new ObjectMapper();
+
+  private final MirrorNodeJsonConverterImpl jsonConverter = new MirrorNodeJsonConverterImpl();
+
+  @Test
+  void topicMessagesAreDecodedAsUtf8() throws Exception {
+    // given
+    final String text = "Gr\u00fc\u00dfe, \u4e16\u754c";
+    final JsonNode node =
+        objectMapper.readTree(
+            """
+            {"chunk_info": null, "consensus_timestamp": "1700000000.000000001",
+            "message": "%s", "payer_account_id": "0.0.2", "running_hash": "aGFzaA==",
+            "running_hash_version": 3, "sequence_number": 1, "topic_id": "0.0.1001"}"""
+                .formatted(
+                    Base64.getEncoder().encodeToString(text.getBytes(StandardCharsets.UTF_8))));
+
+    // when
+    final TopicMessage message = jsonConverter.toTopicMessage(node).orElseThrow();
+
+    // then
+    Assertions.assertEquals(text, message.message());
+    Assertions.assertArrayEquals(text.getBytes(StandardCharsets.UTF_8), message.contents());
+  }
+}
@@ -0,0 +1,243 @@
+package com.openelements.hiero.spring.test;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.hedera.hashgraph.sdk.AccountId;
+import com.hedera.hashgraph.sdk.TopicId;
+import com.openelements.hiero.base.HieroException;
+import com.openelements.hiero.base.data.Page;
+import com.openelements.hiero.base.data.TopicMessage;
+import com.openelements.hiero.base.data.TransactionInfo;
+import com.openelements.hiero.spring.implementation.JsonParseException;
+import com.openelements.hiero.spring.implementation.MirrorNodeClientImpl;
+import com.openelements.hiero.spring.implementation.MirrorNodeJsonConverterImpl;
+import com.openelements.hiero.spring.implementation.MirrorNodeJsonStreamingDecoder;
+import com.openelements.hiero.spring.implementation.PageDecoder;
+import com.openelements.hiero.test.fake.FakeMirrorNode;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.reflect.RecordComponent;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Function;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.client.RestClient;
+
+public class MirrorNodeJsonStreamingDecoderTest {
+
+  private static final String TRANSACTIONS =
+      """
+      {"transactions": [{}, {"bytes": null, "charged_tx_fee": "1500",
+      "consensus_timestamp": "1700000000.123456789", "entity_id": "0.0.1001",
+      "max_fee": "100000000", "memo_base64": "bWVtbw==", "name": "TOKENMINT",
+      "nft_transfers": [{"is_approval": false, "receiver_account_id": "0.0.1002",
+      "sender_account_id": null, "serial_number": 7, "token_id": "0.0.1001"}],
+      "node": "0.0.3", "nonce": 1, "parent_consensus_timestamp": "1699999999.5",
+      "result": "SUCCESS", "scheduled": true, "staking_reward_transfers": [
+      {"account": "0.0.800", "amount": 42}], "token_transfers": [{"token_id": "0.0.1001",
+      "account": "0.0.1002", "amount": -3, "is_approval": true}],
+      "transaction_hash": "aGFzaA==", "transaction_id": "0.0.2-1700000000-000000001",
+      "transfers": [{"account": "0.0.2", "amount": -1500, "is_approval": false}],
+      "valid_duration_seconds": "120", "valid_start_timestamp": "1699999990.1",
+      "unknown": {"nested": [1, 2, {"deep": null}]}}],
+      "links": {"next": "/api/v1/transactions?timestamp=lt:1700000000.123456789"}}""";
+
+  private static final String NFTS =
+      """
+      {"links": {"next": null}, "nfts": [{"account_id": "0.0.2", "metadata": "",
+      "serial_number": "3", "token_id": "0.0.1001"}, {"account_id": "0.0.2",
+      "metadata": "bmZ0", "serial_number": 4, "token_id": "0.0.1001"}]}""";
+
+  private static final String TOKENS =
+      """
+      {"tokens": [{"decimals": "2", "metadata": "", "name": "Token", "symbol": "T",
+      "token_id": null, "type": "NON_FUNGIBLE_UNIQUE"}], "links": {}}""";
+
+  private static final String BALANCES =
+      """
+      {"timestamp": "1700000000.0", "balances": [{"account": "0.0.2", "balance": 1000,
+      "decimals": 0}, {}], "links": null}""";
+
+  private final ObjectMapper objectMapper = new ObjectMapper();
+
+  private final MirrorNodeJsonConverterImpl jsonConverter = new MirrorNodeJsonConverterImpl();
+
+  private final MirrorNodeJsonStreamingDecoder decoder = new MirrorNodeJsonStreamingDecoder();
+
+  private FakeMirrorNode mirrorNode;
+
+  @BeforeEach
+  void startMirrorNode() {
+    mirrorNode = new FakeMirrorNode();
+    mirrorNode.setPageCount(2);
+  }
+
+  @AfterEach
+  void stopMirrorNode() {
+    mirrorNode.close();
+  }
+
+  @Test
+  void decodesLikeConverter() throws Exception {
+    assertDecodesLikeConverter(
+        TRANSACTIONS, decoder::decodeTransactions, jsonConverter::toTransactionInfos);
+    assertDecodesLikeConverter(NFTS, decoder::decodeNfts, jsonConverter::toNfts);
+    assertDecodesLikeConverter(TOKENS, decoder::decodeTokens, jsonConverter::toTokens);
+    assertDecodesLikeConverter(BALANCES, decoder::decodeBalances, jsonConverter::toBalances);
+  }
+
+  @Test
+  void decodesFakeMirrorNodeResponsesLikeConverter() throws Exception {
+    assertDecodesLikeConverter(
+        fetch("/api/v1/transactions?account.id=0.0.2"),
+        decoder::decodeTransactions,
+        jsonConverter::toTransactionInfos);
+    assertDecodesLikeConverter(
+        fetch("/api/v1/accounts/0.0.2/nfts"), decoder::decodeNfts, jsonConverter::toNfts);
+    assertDecodesLikeConverter(
+        fetch("/api/v1/tokens?account.id=0.0.2"), decoder::decodeTokens, jsonConverter::toTokens);
+    assertDecodesLikeConverter(
+        fetch("/api/v1/tokens/0.0.1001/balances"),
+        decoder::decodeBalances,
+        jsonConverter::toBalances);
+  }
+
+  @Test
+  void decodesNextPath() throws Exception {
+    // when
+    final PageDecoder.Content<TransactionInfo> transactions =
+        decoder.decodeTransactions(stream(TRANSACTIONS));
+    final PageDecoder.Content<?> nfts = decoder.decodeNfts(stream(NFTS));
+    final PageDecoder.Content<?> tokens = decoder.decodeTokens(stream(TOKENS));
+    final PageDecoder.Content<?> balances = decoder.decodeBalances(stream(BALANCES));
+
+    // then
+    Assertions.assertEquals(
+        "/api/v1/transactions?timestamp=lt:1700000000.123456789", transactions.nextPath());
+    Assertions.assertNull(nfts.nextPath());
+    Assertions.assertNull(tokens.nextPath());
+    Assertions.assertNull(balances.nextPath());
+  }
+
+  @Test
+  void topicMessageWithoutContentsUsesUtf8Bytes() {
+    // when
+    final TopicMessage message =
+        new TopicMessage(
+            null,
+            Instant.EPOCH,
+            "Gr\u00fc\u00dfe",
+            AccountId.fromString("0.0.2"),
+            new byte[0],
+            3,
+            1,
+            TopicId.fromString("0.0.1001"));
+
+    // then
+    Assertions.assertArrayEquals(
+        "Gr\u00fc\u00dfe".getBytes(StandardCharsets.UTF_8), message.contents());
+  }
+
+  @Test
+  void missingArrayResultsInEmptyPage() throws Exception {
+    // when
+    final PageDecoder.Content<?> content = decoder.decodeNfts(stream("{\"links\": {}}"));
+
+    // then
+    Assertions.assertTrue(content.data().isEmpty());
+    Assertions.assertNull(content.nextPath());
+  }
+
+  @Test
+  void invalidResponsesAreRejected() {
+    Assertions.assertThrows(IllegalStateException.class, () -> decoder.decodeTokens(stream("  ")));
+    Assertions.assertThrows(JsonParseException.class, () -> decoder.decodeTokens(stream("[]")));
+    Assertions.assertThrows(
+        JsonParseException.class, () -> decoder.decodeTokens(stream("{\"tokens\": {}}")));
+    Assertions.assertThrows(
+        JsonParseException.class,
+        () -> decoder.decodeBalances(stream("{\"balances\": [{\"balance\": 1}]}")));
+    Assertions.assertThrows(
+        IOException.class, () -> decoder.decodeTokens(stream("{\"tokens\": [")));
+  }
+
+  @Test
+  void clientPagesAreDecodedFromStream() throws HieroException {
+    // given
+    final MirrorNodeClientImpl mirrorNodeClient =
+        new MirrorNodeClientImpl(RestClient.builder().baseUrl(mirrorNode.getBaseUrl()).build());
+
+    // when
+    final Page<TransactionInfo> first =
+        mirrorNodeClient.queryTransactionsByAccount(AccountId.fromString("0.0.2"));
+    final Page<TransactionInfo> second = first.next();
+
+    // then
+    Assertions.assertEquals(FakeMirrorNode.PAGE_SIZE, first.getSize());
+    Assertions.assertEquals(FakeMirrorNode.PAGE_SIZE, second.getSize());
+    Assertions.assertTrue(first.hasNext());
+    Assertions.assertFalse(second.hasNext());
+    Assertions.assertTrue(first.getData().get(0).transactionId().startsWith("0.0.2-"));
+    Assertions.assertEquals(1, second.getPageIndex());
+  }
+
+  private <T> void assertDecodesLikeConverter(
+      final String json,
+      final PageDecoder<T> pageDecoder,
+      final Function<JsonNode, List<T>> converterFunction)
+      throws Exception {
+    // when
+    final List<T> expected = converterFunction.apply(objectMapper.readTree(json));
+    final PageDecoder.Content<T> content = pageDecoder.decode(stream(json));
+
+    // then
+    Assertions.assertFalse(expected.isEmpty());
+    Assertions.assertEquals(expected.size(), content.data().size());
+    for (int i = 0; i < expected.size(); i++) {
+      assertRecordEquals(expected.get(i), content.data().get(i));
+    }
+  }
+
+  /** Compares records component by component, since record equality ignores array contents. */
+  private static void assertRecordEquals(final Object expected, final Object actual)
+      throws ReflectiveOperationException {
+    Assertions.assertEquals(expected.getClass(), actual.getClass());
+    for (final RecordComponent component : expected.getClass().getRecordComponents()) {
+      final Object expectedValue = component.getAccessor().invoke(expected);
+      final Object actualValue = component.getAccessor().invoke(actual);
+      Assertions.assertTrue(
+          Objects.deepEquals(expectedValue, actualValue),
+          () ->
+              component.getName()
+                  + " differs: expected "
+                  + expectedValue
+                  + " but was "
+                  + actualValue);
+    }
+  }
+
+  private String fetch(final String path) throws IOException, InterruptedException {
+    try (HttpClient httpClient = HttpClient.newHttpClient()) {
+      final HttpResponse<String> response =
+          httpClient.send(
+              HttpRequest.newBuilder(URI.create(mirrorNode.getBaseUrl() + path)).build(),
+              HttpResponse.BodyHandlers.ofString());
+      Assertions.assertEquals(200, response.statusCode());
+      return response.body();
+    }
+  }
+
+  private static InputStream stream(final String json) {
+    return new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8));
+  }
+}
@@ -0,0 +1,781 @@
+package com.openelements.hiero.test.fake;
+
+import com.google.protobuf.ByteString;
+import com.google.protobuf.InvalidProtocolBufferException;
+import com.hedera.hashgraph.sdk.AccountId;
+import com.hedera.hashgraph.sdk.Client;
+import com.hedera.hashgraph.sdk.PublicKey;
+import com.hedera.hashgraph.sdk.proto.AccountID;
+import com.hedera.hashgraph.sdk.proto.ConsensusServiceGrpc;
+import com.hedera.hashgraph.sdk.proto.ConsensusSubmitMessageTransactionBody;
+import com.hedera.hashgraph.sdk.proto.ContractCallLocalQuery;
+import com.hedera.hashgraph.sdk.proto.ContractCallLocalResponse;
+import com.hedera.hashgraph.sdk.proto.ContractFunctionResult;
+import com.hedera.hashgraph.sdk.proto.ContractID;
+import com.hedera.hashgraph.sdk.proto.CryptoGetAccountBalanceQuery;
+import com.hedera.hashgraph.sdk.proto.CryptoGetAccountBalanceResponse;
+import com.hedera.hashgraph.sdk.proto.CryptoServiceGrpc;
+import com.hedera.hashgraph.sdk.proto.FileCreateTransactionBody;
+import com.hedera.hashgraph.sdk.proto.FileGetContentsQuery;
+import com.hedera.hashgraph.sdk.proto.FileGetContentsResponse;
+import com.hedera.hashgraph.sdk.proto.FileGetInfoQuery;
+import com.hedera.hashgraph.sdk.proto.FileGetInfoResponse;
+import com.hedera.hashgraph.sdk.proto.FileID;
+import com.hedera.hashgraph.sdk.proto.FileServiceGrpc;
+import com.hedera.hashgraph.sdk.proto.FileUpdateTransactionBody;
+import com.hedera.hashgraph.sdk.proto.FreezeServiceGrpc;
+import com.hedera.hashgraph.sdk.proto.Key;
+import com.hedera.hashgraph.sdk.proto.KeyList;
+import com.hedera.hashgraph.sdk.proto.NetworkServiceGrpc;
+import com.hedera.hashgraph.sdk.proto.Query;
+import com.hedera.hashgraph.sdk.proto.QueryHeader;
+import com.hedera.hashgraph.sdk.proto.Response;
+import com.hedera.hashgraph.sdk.proto.ResponseCodeEnum;
+import com.hedera.hashgraph.sdk.proto.ResponseHeader;
+import com.hedera.hashgraph.sdk.proto.ResponseType;
+import com.hedera.hashgraph.sdk.proto.ScheduleID;
+import com.hedera.hashgraph.sdk.proto.ScheduleServiceGrpc;
+import com.hedera.hashgraph.sdk.proto.SignaturePair;
+import com.hedera.hashgraph.sdk.proto.SignedTransaction;
+import com.hedera.hashgraph.sdk.proto.SmartContractServiceGrpc;
+import com.hedera.hashgraph.sdk.proto.Timestamp;
+import com.hedera.hashgraph.sdk.proto.TokenBurnTransactionBody;
+import com.hedera.hashgraph.sdk.proto.TokenID;
+import com.hedera.hashgraph.sdk.proto.TokenMintTransactionBody;
+import com.hedera.hashgraph.sdk.proto.TokenServiceGrpc;
+import com.hedera.hashgraph.sdk.proto.TopicID;
+import com.hedera.hashgraph.sdk.proto.Transaction;
+import com.hedera.hashgraph.sdk.proto.TransactionBody;
+import com.hedera.hashgraph.sdk.proto.TransactionGetReceiptQuery;
+import com.hedera.hashgraph.sdk.proto.TransactionGetReceiptResponse;
+import com.hedera.hashgraph.sdk.proto.TransactionGetRecordQuery;
+import com.hedera.hashgraph.sdk.proto.TransactionGetRecordResponse;
+import com.hedera.hashgraph.sdk.proto.TransactionID;
+import com.hedera.hashgraph.sdk.proto.TransactionReceipt;
+import com.hedera.hashgraph.sdk.proto.TransactionRecord;
+import com.hedera.hashgraph.sdk.proto.TransactionResponse;
+import com.hedera.hashgraph.sdk.proto.UtilServiceGrpc;
+import com.openelements.hiero.base.HieroContext;
+import com.openelements.hiero.base.data.Account;
+import io.grpc.MethodDescriptor;
+import io.grpc.Server;
+import io.grpc.ServerServiceDefinition;
+import io.grpc.ServiceDescriptor;
+import io.grpc.Status;
+import io.grpc.StatusRuntimeException;
+import io.grpc.inprocess.InProcessServerBuilder;
+import io.grpc.stub.ServerCalls;
+import io.grpc.stub.StreamObserver;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.UnaryOperator;
+import java.util.stream.LongStream;
+import org.jspecify.annotations.NonNull;
+
+/**
+ * Consensus node that runs in the same JVM as the test. SDK clients reach the node through an
+ * {@code in-process:} address, so the complete client stack can be load-tested without network
+ * access.
+ *
+ * <p>The node accepts every transaction, assigns new entity ids for create transactions and keeps
+ * receipts and records for {@link #RECORD_RETENTION}. Transactions that create or change a file
+ * must be signed by the keys of the file, otherwise their receipt has the status {@code
+ * INVALID_SIGNATURE}. Receipts have the status {@code UNKNOWN}
+ * until the consensus latency of the transaction has passed. Files are stored, so file contents and
+ * file info queries return what has been created, appended and updated. Balance queries return a
+ * fixed balance and contract calls return an empty result. Other queries fail with {@code
+ * UNIMPLEMENTED}.
+ *
+ * <p>The {@link NodeBehavior} adds latency to every call, rejects calls with the precheck status
+ * {@code BUSY} (throttling) and fails calls with the gRPC status {@code UNAVAILABLE} (errors).
+ */
+public final class FakeConsensusNode implements AutoCloseable {
+
+  /** Account id of the node. */
+  public static final AccountId NODE_ACCOUNT_ID = AccountId.fromString("0.0.3");
+
+  /** Duration after consensus for which receipts and records are available. */
+  public static final Duration RECORD_RETENTION = Duration.ofMinutes(3);
+
+  /** Balance that is returned for every account, 1,000,000 hbar. */
+  public static final long ACCOUNT_BALANCE = 100_000_000_000_000L;
+
+  private static final long TRANSACTION_FEE = 100_000L;
+
+  private static final long FIRST_ENTITY_NUMBER = 1001;
+
+  private static final int PRUNE_INTERVAL = 1024;
+
+  private static final int RUNNING_HASH_VERSION = 3;
+
+  private static final TransactionReceipt UNKNOWN_RECEIPT =
+      TransactionReceipt.newBuilder().setStatus(ResponseCodeEnum.UNKNOWN).build();
+
+  private static final List<ServiceDescriptor> SERVICES =
+      List.of(
+          CryptoServiceGrpc.getServiceDescriptor(),
+          FileServiceGrpc.getServiceDescriptor(),
+          ConsensusServiceGrpc.getServiceDescriptor(),
+          TokenServiceGrpc.getServiceDescriptor(),
+          SmartContractServiceGrpc.getServiceDescriptor(),
+          ScheduleServiceGrpc.getServiceDescriptor(),
+          NetworkServiceGrpc.getServiceDescriptor(),
+          UtilServiceGrpc.getServiceDescriptor(),
+          FreezeServiceGrpc.getServiceDescriptor());
+
+  private final String name;
+
+  private final Server server;
+
+  private final ScheduledExecutorService scheduler;
+
+  private final AtomicLong nextEntityNumber = new AtomicLong(FIRST_ENTITY_NUMBER);
+
+  private final Map<TransactionID, HandledTransaction> transactions = new ConcurrentHashMap<>();
+
+  private final Map<FileID, StoredFile> files = new ConcurrentHashMap<>();
+
+  private final Map<TokenID, AtomicLong> tokenSupplies = new ConcurrentHashMap<>();
+
+  private final Map<TopicID, TopicState> topics = new ConcurrentHashMap<>();
+
+  private final AtomicLong transactionCount = new AtomicLong();
+
+  private final LongAdder queryCount = new LongAdder();
+
+  private final LongAdder throttledCount = new LongAdder();
+
+  private final LongAdder failedCount = new LongAdder();
+
+  private volatile NodeBehavior behavior = NodeBehavior.DEFAULT;
+
+  private volatile LatencyDistribution consensusLatency = LatencyDistribution.none();
+
+  /** Creates and starts the node. */
+  public FakeConsensusNode() {
+    name = "hiero-fake-node-" + UUID.randomUUID();
+    scheduler =
+        Executors.newSingleThreadScheduledExecutor(
+            runnable -> Thread.ofPlatform().name(name).daemon().unstarted(runnable));
+    final InProcessServerBuilder builder = InProcessServerBuilder.forName(name);
+    SERVICES.forEach(service -> builder.addService(bind(service)));
+    try {
+      server = builder.build().start();
+    } catch (final IOException e) {
+      scheduler.shutdownNow();
+      throw new UncheckedIOException("Failed to start fake consensus node", e);
+    }
+  }
+
+  /**
+   * Returns the network of this node, as used by {@link Client#forNetwork(Map)}.
+   *
+   * @return the network
+   */
+  @NonNull
+  public Map<String, AccountId> getNetwork() {
+    return Map.of("in-process:" + name, NODE_ACCOUNT_ID);
+  }
+
+  /**
+   * Creates an SDK client that sends all calls to this node. The caller must close the client.
+   *
+   * @param operator the operator account of the client
+   * @return the client
+   */
+  @NonNull
+  public Client createClient(@NonNull final Account operator) {
+    Objects.requireNonNull(operator, "operator must not be null");
+    final Client client = Client.forNetwork(getNetwork());
+    client.setOperator(operator.accountId(), operator.privateKey());
+    return client;
+  }
+
+  /**
+   * Creates a context with a client that sends all calls to this node. The caller must close the
+   * client of the context.
+   *
+   * @param operator the operator account of the context
+   * @return the context
+   */
+  @NonNull
+  public HieroContext createContext(@NonNull final Account operator) {
+    final Client client = createClient(operator);
+    return new HieroContext() {
+      @Override
+      public @NonNull Account getOperatorAccount() {
+        return operator;
+      }
+
+      @Override
+      public @NonNull Client getClient() {
+        return client;
+      }
+    };
+  }
+
+  /**
+   * Sets the behavior of the node for all following calls.
+   *
+   * @param behavior the behavior
+   */
+  public void setBehavior(@NonNull final NodeBehavior behavior) {
+    this.behavior = Objects.requireNonNull(behavior, "behavior must not be null");
+  }
+
+  /**
+   * Sets the time between the submission of a transaction and its consensus. Until then, receipt
+   * and record queries return the status {@code UNKNOWN}.
+   *
+   * @param consensusLatency the consensus latency
+   */
+  public void setConsensusLatency(@NonNull final LatencyDistribution consensusLatency) {
+    this.consensusLatency =
+        Objects.requireNonNull(consensusLatency, "consensusLatency must not be null");
+  }
+
+  /**
+   * Returns the number of transactions that have been accepted by the node.
+   *
+   * @return the number of transactions
+   */
+  public long getTransactionCount() {
+    return transactionCount.get();
+  }
+
+  /**
+   * Returns the number of queries that have been answered by the node.
+   *
+   * @return the number of queries
+   */
+  public long getQueryCount() {
+    return queryCount.sum();
+  }
+
+  /**
+   * Returns the number of calls that have been rejected as throttled.
+   *
+   * @return the number of throttled calls
+   */
+  public long getThrottledCount() {
+    return throttledCount.sum();
+  }
+
+  /**
+   * Returns the number of calls that have failed with an injected error.
+   *
+   * @return the number of failed calls
+   */
+  public long getFailedCount() {
+    return failedCount.sum();
+  }
+
+  @Override
+  public void close() {
+    server.shutdownNow();
+    scheduler.shutdownNow();
+  }
+
+  @SuppressWarnings("unchecked")
+  private ServerServiceDefinition bind(final ServiceDescriptor service) {
+    final ServerServiceDefinition.Builder builder = ServerServiceDefinition.builder(service);
+    for (final MethodDescriptor<?, ?> method : service.getMethods()) {
+      builder.addMethod(
+          (MethodDescriptor<Object, Object>) method, ServerCalls.asyncUnaryCall(this::handle));
+    }
+    return builder.build();
+  }
+
+  private void handle(final Object request, final StreamObserver<Object> observer) {
+    final NodeBehavior current = behavior;
+    final Runnable reply =
+        switch (current.nextOutcome()) {
+          case ERROR -> {
+            failedCount.increment();
+            yield () ->
+                observer.onError(
+                    Status.UNAVAILABLE.withDescription("Injected error").asRuntimeException());
+          }
+          case THROTTLED -> {
+            throttledCount.increment();
+            yield reply(request, true, observer);
+          }
+          case OK -> reply(request, false, observer);
+        };
+    final long latency = current.latency().sampleNanos();
+    if (latency > 0) {
+      scheduler.schedule(reply, latency, TimeUnit.NANOSECONDS);
+    } else {
+      reply.run();
+    }
+  }
+
+  private Runnable reply(
+      final Object request, final boolean throttled, final StreamObserver<Object> observer) {
+    try {
+      final Object response =
+          request instanceof Transaction transaction
+              ? submit(transaction, throttled)
+              : query((Query) request, throttled);
+      return () -> {
+        observer.onNext(response);
+        observer.onCompleted();
+      };
+    } catch (final StatusRuntimeException e) {
+      return () -> observer.onError(e);
+    }
+  }
+
+  private TransactionResponse submit(final Transaction transaction, final boolean throttled) {
+    if (throttled) {
+      return precheck(ResponseCodeEnum.BUSY);
+    }
+    final SignedTransaction signedTransaction;
+    final TransactionBody body;
+    try {
+      signedTransaction = SignedTransaction.parseFrom(transaction.getSignedTransactionBytes());
+      body = TransactionBody.parseFrom(signedTransaction.getBodyBytes());
+    } catch (final InvalidProtocolBufferException e) {
+      return precheck(ResponseCodeEnum.INVALID_TRANSACTION_BODY);
+    }
+    final long latency = consensusLatency.sampleNanos();
+    final long consensusNanos = System.nanoTime() + latency;
+    // the id is reserved before the transaction is handled, so a duplicate that is submitted
+    // concurrently is rejected and never handled
+    if (transactions.putIfAbsent(
+            body.getTransactionID(), HandledTransaction.pending(consensusNanos))
+        != null) {
+      return precheck(ResponseCodeEnum.DUPLICATE_TRANSACTION);
+    }
+    final Instant consensusTimestamp = Instant.now().plusNanos(latency);
+    final TransactionRecord record =
+        handle(
+            body,
+            signedTransaction,
+            consensusTimestamp,
+            sha384(transaction.getSignedTransactionBytes()));
+    transactions.put(body.getTransactionID(), new HandledTransaction(consensusNanos, record));
+    if (transactionCount.incrementAndGet() % PRUNE_INTERVAL == 0) {
+      final long oldest = System.nanoTime() - RECORD_RETENTION.toNanos();
+      transactions.values().removeIf(handled -> handled.consensusNanos() < oldest);
+    }
+    return precheck(ResponseCodeEnum.OK);
+  }
+
+  private TransactionRecord handle(
+      final TransactionBody body,
+      final SignedTransaction signedTransaction,
+      final Instant consensusTimestamp,
+      final ByteString hash) {
+    final TransactionReceipt.Builder receipt =
+        TransactionReceipt.newBuilder().setStatus(ResponseCodeEnum.SUCCESS);
+    final TransactionRecord.Builder record =
+        TransactionRecord.newBuilder()
+            .setTransactionID(body.getTransactionID())
+            .setTransactionHash(hash)
+            .setConsensusTimestamp(toTimestamp(consensusTimestamp))
+            .setMemo(body.getMemo())
+            .setTransactionFee(Math.min(body.getTransactionFee(), TRANSACTION_FEE));
+    switch (body.getDataCase()) {
+      case CRYPTOCREATEACCOUNT ->
+          receipt.setAccountID(AccountID.newBuilder().setAccountNum(nextEntityNumber()));
+      case FILECREATE -> {
+        if (isSignedBy(signedTransaction, body.getFileCreate().getKeys())) {
+          receipt.setFileID(createFile(body.getFileCreate()));
+        } else {
+          receipt.setStatus(ResponseCodeEnum.INVALID_SIGNATURE);
+        }
+      }
+      case FILEAPPEND ->
+          receipt.setStatus(
+              changeFile(
+                  body.getFileAppend().getFileID(),
+                  signedTransaction,
+                  file ->
+                      file.withContents(
+                          file.contents().concat(body.getFileAppend().getContents()))));
+      case FILEUPDATE -> receipt.setStatus(updateFile(body.getFileUpdate(), signedTransaction));
+      case FILEDELETE ->
+          receipt.setStatus(
+              changeFile(
+                  body.getFileDelete().getFileID(), signedTransaction, StoredFile::delete));
+      case CONSENSUSCREATETOPIC -> {
+        final TopicID topicId = TopicID.newBuilder().setTopicNum(nextEntityNumber()).build();
+        topics.put(topicId, TopicState.INITIAL);
+        receipt.setTopicID(topicId);
+      }
+      case CONSENSUSSUBMITMESSAGE -> submitMessage(body.getConsensusSubmitMessage(), receipt);
+      case TOKENCREATION -> {
+        final TokenID tokenId = TokenID.newBuilder().setTokenNum(nextEntityNumber()).build();
+        tokenSupplies.put(tokenId, new AtomicLong(body.getTokenCreation().getInitialSupply()));
+        receipt.setTokenID(tokenId);
+      }
+      case TOKENMINT -> mint(body.getTokenMint(), receipt);
+      case TOKENBURN -> burn(body.getTokenBurn(), receipt);
+      case CONTRACTCREATEINSTANCE -> {
+        final ContractID contractId =
+            ContractID.newBuilder().setContractNum(nextEntityNumber()).build();
+        receipt.setContractID(contractId);
+        record.setContractCreateResult(
+            ContractFunctionResult.newBuilder().setContractID(contractId));
+      }
+      case CONTRACTCALL ->
+          record.setContractCallResult(
+              ContractFunctionResult.newBuilder()
+                  .setContractID(body.getContractCall().getContractID())
+                  .setGasUsed(body.getContractCall().getGas()));
+      case SCHEDULECREATE ->
+          receipt.setScheduleID(ScheduleID.newBuilder().setScheduleNum(nextEntityNumber()));
+      default -> {}
+    }
+    return record.setReceipt(receipt).build();
+  }
+
+  private FileID createFile(final FileCreateTransactionBody fileCreate) {
+    final FileID fileId = FileID.newBuilder().setFileNum(nextEntityNumber()).build();
+    files.put(
+        fileId,
+        new StoredFile(
+            fileCreate.getContents(),
+            fileCreate.getExpirationTime(),
+            fileCreate.getMemo(),
+            fileCreate.getKeys(),
+            false));
+    return fileId;
+  }
+
+  private ResponseCodeEnum updateFile(
+      final FileUpdateTransactionBody fileUpdate, final SignedTransaction signedTransaction) {
+    return changeFile(
+        fileUpdate.getFileID(),
+        signedTransaction,
+        file -> {
+          StoredFile updated = file;
+          if (!fileUpdate.getContents().isEmpty()) {
+            updated = updated.withContents(fileUpdate.getContents());
+          }
+          if (fileUpdate.hasExpirationTime()) {
+            updated =
+                new StoredFile(
+                    updated.contents(),
+                    fileUpdate.getExpirationTime(),
+                    updated.memo(),
+                    updated.keys(),
+                    updated.deleted());
+          }
+          if (fileUpdate.hasMemo()) {
+            updated =
+                new StoredFile(
+                    updated.contents(),
+                    updated.expirationTime(),
+                    fileUpdate.getMemo().getValue(),
+                    updated.keys(),
+                    updated.deleted());
+          }
+          return updated;
+        });
+  }
+
+  private ResponseCodeEnum changeFile(
+      final FileID fileId,
+      final SignedTransaction signedTransaction,
+      final UnaryOperator<StoredFile> change) {
+    final StoredFile file = files.get(fileId);
+    if (file == null) {
+      return ResponseCodeEnum.INVALID_FILE_ID;
+    }
+    if (file.deleted()) {
+      return ResponseCodeEnum.FILE_DELETED;
+    }
+    if (!isSignedBy(signedTransaction, file.keys())) {
+      return ResponseCodeEnum.INVALID_SIGNATURE;
+    }
+    files.computeIfPresent(fileId, (id, current) -> change.apply(current));
+    return ResponseCodeEnum.SUCCESS;
+  }
+
+  private void submitMessage(
+      final ConsensusSubmitMessageTransactionBody submitMessage,
+      final TransactionReceipt.Builder receipt) {
+    final TopicState state =
+        topics.computeIfPresent(
+            submitMessage.getTopicID(), (id, current) -> current.next(submitMessage.getMessage()));
+    if (state == null) {
+      receipt.setStatus(ResponseCodeEnum.INVALID_TOPIC_ID);
+      return;
+    }
+    receipt
+        .setTopicSequenceNumber(state.sequenceNumber())
+        .setTopicRunningHash(state.runningHash())
+        .setTopicRunningHashVersion(RUNNING_HASH_VERSION);
+  }
+
+  private void mint(final TokenMintTransactionBody mint, final TransactionReceipt.Builder receipt) {
+    final AtomicLong supply = tokenSupplies.get(mint.getToken());
+    if (supply == null) {
+      receipt.setStatus(ResponseCodeEnum.INVALID_TOKEN_ID);
+      return;
+    }
+    final int count = mint.getMetadataCount();
+    final long totalSupply = supply.addAndGet(count > 0 ? count : mint.getAmount());
+    receipt.setNewTotalSupply(totalSupply);
+    if (count > 0) {
+      receipt.addAllSerialNumbers(
+          LongStream.rangeClosed(totalSupply - count + 1, totalSupply).boxed().toList());
+    }
+  }
+
+  private void burn(final TokenBurnTransactionBody burn, final TransactionReceipt.Builder receipt) {
+    final AtomicLong supply = tokenSupplies.get(burn.getToken());
+    if (supply == null) {
+      receipt.setStatus(ResponseCodeEnum.INVALID_TOKEN_ID);
+      return;
+    }
+    final int count = burn.getSerialNumbersCount();
+    receipt.setNewTotalSupply(supply.addAndGet(-(count > 0 ? count : burn.getAmount())));
+  }
+
+  private Response query(final Query query, final boolean throttled) {
+    final Response response =
+        switch (query.getQueryCase()) {
+          case TRANSACTIONGETRECEIPT -> getReceipt(query.getTransactionGetReceipt(), throttled);
+          case TRANSACTIONGETRECORD -> getRecord(query.getTransactionGetRecord(), throttled);
+          case CRYPTOGETACCOUNTBALANCE -> getBalance(query.getCryptogetAccountBalance(), throttled);
+          case FILEGETCONTENTS -> getFileContents(query.getFileGetContents(), throttled);
+          case FILEGETINFO -> getFileInfo(query.getFileGetInfo(), throttled);
+          case CONTRACTCALLLOCAL -> callContract(query.getContractCallLocal(), throttled);
+          default ->
+              throw Status.UNIMPLEMENTED
+                  .withDescription("Query not supported: " + query.getQueryCase())
+                  .asRuntimeException();
+        };
+    queryCount.increment();
+    return response;
+  }
+
+  private Response getReceipt(final TransactionGetReceiptQuery query, final boolean throttled) {
+    final HandledTransaction handled = transactions.get(query.getTransactionID());
+    final ResponseCodeEnum precheck =
+        precheck(throttled, handled == null, ResponseCodeEnum.RECEIPT_NOT_FOUND);
+    final TransactionGetReceiptResponse.Builder response =
+        TransactionGetReceiptResponse.newBuilder().setHeader(header(query.getHeader(), precheck));
+    if (isAnswered(query.getHeader(), precheck)) {
+      response.setReceipt(handled.recordAt(System.nanoTime()).getReceipt());
+    }
+    return Response.newBuilder().setTransactionGetReceipt(response).build();
+  }
+
+  private Response getRecord(final TransactionGetRecordQuery query, final boolean throttled) {
+    final HandledTransaction handled = transactions.get(query.getTransactionID());
+    final ResponseCodeEnum precheck =
+        precheck(throttled, handled == null, ResponseCodeEnum.RECORD_NOT_FOUND);
+    final TransactionGetRecordResponse.Builder response =
+        TransactionGetRecordResponse.newBuilder().setHeader(header(query.getHeader(), precheck));
+    if (isAnswered(query.getHeader(), precheck)) {
+      response.setTransactionRecord(handled.recordAt(System.nanoTime()));
+    }
+    return Response.newBuilder().setTransactionGetRecord(response).build();
+  }
+
+  private Response getBalance(final CryptoGetAccountBalanceQuery query, final boolean throttled) {
+    final ResponseCodeEnum precheck = precheck(throttled, false, ResponseCodeEnum.OK);
+    final CryptoGetAccountBalanceResponse.Builder response =
+        CryptoGetAccountBalanceResponse.newBuilder().setHeader(header(query.getHeader(), precheck));
+    if (isAnswered(query.getHeader(), precheck)) {
+      response.setAccountID(query.getAccountID()).setBalance(ACCOUNT_BALANCE);
+    }
+    return Response.newBuilder().setCryptogetAccountBalance(response).build();
+  }
+
+  private Response getFileContents(final FileGetContentsQuery query, final boolean throttled) {
+    final StoredFile file = files.get(query.getFileID());
+    final ResponseCodeEnum precheck =
+        file != null && file.deleted() && !throttled
+            ? ResponseCodeEnum.FILE_DELETED
+            : precheck(throttled, file == null, ResponseCodeEnum.INVALID_FILE_ID);
+    final FileGetContentsResponse.Builder response =
+        FileGetContentsResponse.newBuilder().setHeader(header(query.getHeader(), precheck));
+    if (isAnswered(query.getHeader(), precheck)) {
+      response.setFileContents(
+          FileGetContentsResponse.FileContents.newBuilder()
+              .setFileID(query.getFileID())
+              .setContents(file.contents()));
+    }
+    return Response.newBuilder().setFileGetContents(response).build();
+  }
+
+  private Response getFileInfo(final FileGetInfoQuery query, final boolean throttled) {
+    final StoredFile file = files.get(query.getFileID());
+    final ResponseCodeEnum precheck =
+        precheck(throttled, file == null, ResponseCodeEnum.INVALID_FILE_ID);
+    final FileGetInfoResponse.Builder response =
+        FileGetInfoResponse.newBuilder().setHeader(header(query.getHeader(), precheck));
+    if (isAnswered(query.getHeader(), precheck)) {
+      response.setFileInfo(
+          FileGetInfoResponse.FileInfo.newBuilder()
+              .setFileID(query.getFileID())
+              .setSize(file.contents().size())
+              .setExpirationTime(file.expirationTime())
+              .setDeleted(file.deleted())
+              .setMemo(file.memo()));
+    }
+    return Response.newBuilder().setFileGetInfo(response).build();
+  }
+
+  private Response callContract(final ContractCallLocalQuery query, final boolean throttled) {
+    final ResponseCodeEnum precheck = precheck(throttled, false, ResponseCodeEnum.OK);
+    final ContractCallLocalResponse.Builder response =
+        ContractCallLocalResponse.newBuilder().setHeader(header(query.getHeader(), precheck));
+    if (isAnswered(query.getHeader(), precheck)) {
+      response.setFunctionResult(
+          ContractFunctionResult.newBuilder()
+              .setContractID(query.getContractID())
+              .setGasUsed(query.getGas()));
+    }
+    return Response.newBuilder().setContractCallLocal(response).build();
+  }
+
+  private long nextEntityNumber() {
+    return nextEntityNumber.getAndIncrement();
+  }
+
+  private static ResponseCodeEnum precheck(
+      final boolean throttled, final boolean notFound, final ResponseCodeEnum notFoundStatus) {
+    if (throttled) {
+      return ResponseCodeEnum.BUSY;
+    }
+    return notFound ? notFoundStatus : ResponseCodeEnum.OK;
+  }
+
+  private static TransactionResponse precheck(final ResponseCodeEnum status) {
+    return TransactionResponse.newBuilder().setNodeTransactionPrecheckCode(status).build();
+  }
+
+  private static ResponseHeader header(
+      final QueryHeader queryHeader, final ResponseCodeEnum precheck) {
+    return ResponseHeader.newBuilder()
+        .setNodeTransactionPrecheckCode(precheck)
+        .setResponseType(queryHeader.getResponseType())
+        .setCost(0)
+        .build();
+  }
+
+  /** Paid queries ask for the cost first, these calls are answered with the header only. */
+  private static boolean isAnswered(
+      final QueryHeader queryHeader, final ResponseCodeEnum precheck) {
+    return precheck == ResponseCodeEnum.OK
+        && (queryHeader.getResponseType() == ResponseType.ANSWER_ONLY
+            || queryHeader.getResponseType() == ResponseType.ANSWER_STATE_PROOF);
+  }
+
+  private static Timestamp toTimestamp(final Instant instant) {
+    return Timestamp.newBuilder()
+        .setSeconds(instant.getEpochSecond())
+        .setNanos(instant.getNano())
+        .build();
+  }
+
+  /**
+   * Returns true if every key of the list has signed the transaction. Only ED25519 and ECDSA
+   * (secp256k1) keys are checked, other keys are accepted without a signature.
+   */
+  private static boolean isSignedBy(final SignedTransaction signedTransaction, final KeyList keys) {
+    return keys.getKeysList().stream().allMatch(key -> isSignedBy(signedTransaction, key));
+  }
+
+  private static boolean isSignedBy(final SignedTransaction signedTransaction, final Key key) {
+    final ByteString keyBytes;
+    final PublicKey publicKey;
+    switch (key.getKeyCase()) {
+      case ED25519 -> {
+        keyBytes = key.getEd25519();
+        publicKey = PublicKey.fromBytesED25519(keyBytes.toByteArray());
+      }
+      case ECDSA_SECP256K1 -> {
+        keyBytes = key.getECDSASecp256K1();
+        publicKey = PublicKey.fromBytesECDSA(keyBytes.toByteArray());
+      }
+      default -> {
+        return true;
+      }
+    }
+    final byte[] bodyBytes = signedTransaction.getBodyBytes().toByteArray();
+    return signedTransaction.getSigMap().getSigPairList().stream()
+        .filter(pair -> keyBytes.startsWith(pair.getPubKeyPrefix()))
+        .map(FakeConsensusNode::signature)
+        .anyMatch(signature -> publicKey.verify(bodyBytes, signature.toByteArray()));
+  }
+
+  private static ByteString signature(final SignaturePair pair) {
+    return switch (pair.getSignatureCase()) {
+      case ED25519 -> pair.getEd25519();
+      case ECDSA_SECP256K1 -> pair.getECDSASecp256K1();
+      default -> ByteString.EMPTY;
+    };
+  }
+
+  private static ByteString sha384(final ByteString... values) {
+    try {
+      final MessageDigest digest = MessageDigest.getInstance("SHA-384");
+      for (final ByteString value : values) {
+        digest.update(value.asReadOnlyByteBuffer());
+      }
+      return ByteString.copyFrom(digest.digest());
+    } catch (final NoSuchAlgorithmException e) {
+      throw new IllegalStateException("SHA-384 is not supported", e);
+    }
+  }
+
+  /** A transaction that has been accepted, the record is null while it is handled. */
+  private record HandledTransaction(long consensusNanos, TransactionRecord record) {
+
+    static HandledTransaction pending(final long consensusNanos) {
+      return new HandledTransaction(consensusNanos, null);
+    }
+
+    TransactionRecord recordAt(final long nanos) {
+      if (record == null) {
+        return TransactionRecord.newBuilder().setReceipt(UNKNOWN_RECEIPT).build();
+      }
+      if (nanos - consensusNanos >= 0) {
+        return record;
+      }
+      return record.toBuilder().setReceipt(UNKNOWN_RECEIPT).build();
+    }
+  }
+
+  private record StoredFile(
+      ByteString contents, Timestamp expirationTime, String memo, KeyList keys, boolean deleted) {
+
+    StoredFile withContents(final ByteString contents) {
+      return new StoredFile(contents, expirationTime, memo, keys, deleted);
+    }
+
+    StoredFile delete() {
+      return new StoredFile(contents, expirationTime, memo, keys, true);
+    }
+  }
+
+  private record TopicState(long sequenceNumber, ByteString runningHash) {
+
+    static final TopicState INITIAL = new TopicState(0, ByteString.copyFrom(new byte[48]));
+
+    TopicState next(final ByteString message) {
+      return new TopicState(sequenceNumber + 1, sha384(runningHash, message));
+    }
+  }
+}
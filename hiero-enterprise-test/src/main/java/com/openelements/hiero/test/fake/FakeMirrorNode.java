@@ -0,0 +1,352 @@
+package com.openelements.hiero.test.fake;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+import java.util.zip.GZIPOutputStream;
+import org.jspecify.annotations.NonNull;
+
+/**
+ * Mirror node that runs as a local HTTP server in the same JVM as the test. It serves all {@code
+ * /api/v1/...} endpoints that are used by the mirror node clients of Hiero, so the complete client
+ * stack can be load-tested without network access.
+ *
+ * <p>The responses have the structure of the real mirror node REST API, but contain synthetic data:
+ * every well-formed id exists and lists contain {@link #PAGE_SIZE} entries per page, on a single
+ * page unless {@link #setPageCount(int)} is used. Unknown paths are answered with {@code 404}.
+ *
+ * <p>Responses are gzip compressed if the client accepts it. The {@link NodeBehavior} adds latency
+ * to every request, rejects requests with {@code 429 Too Many Requests} (throttling) and fails
+ * requests with {@code 503 Service Unavailable} (errors).
+ */
+public final class FakeMirrorNode implements AutoCloseable {
+
+  /** Number of entries in every list response. */
+  public static final int PAGE_SIZE = 25;
+
+  private static final String ENTITY_ID = "([0-9]+\\.[0-9]+\\.[0-9]+)";
+
+  private final HttpServer server;
+
+  private final ExecutorService executor;
+
+  private final List<Route> routes;
+
+  private final LongAdder requestCount = new LongAdder();
+
+  private final LongAdder throttledCount = new LongAdder();
+
+  private final LongAdder failedCount = new LongAdder();
+
+  private final Set<InetSocketAddress> connections = ConcurrentHashMap.newKeySet();
+
+  private volatile NodeBehavior behavior = NodeBehavior.DEFAULT;
+
+  private final Semaphore heldRequests = new Semaphore(0);
+
+  private volatile int pageCount = 1;
+
+  private volatile CountDownLatch hold;
+
+  /** Creates and starts the mirror node on a free port of the loopback address. */
+  public FakeMirrorNode() {
+    routes =
+        List.of(
+            route("/api/v1/accounts/" + ENTITY_ID, r -> MirrorNodeJson.account(r.group(1))),
+            route(
+                "/api/v1/accounts/" + ENTITY_ID + "/nfts",
+                r -> MirrorNodeJson.nfts("0.0.1001", r.group(1), r.firstEntry(), r.nextLink())),
+            route(
+                "/api/v1/transactions",
+                r -> MirrorNodeJson.transactions(r.account(), r.firstEntry(), r.nextLink())),
+            route("/api/v1/transactions/([^/]+)", r -> MirrorNodeJson.transaction(r.group(1))),
+            route("/api/v1/tokens", r -> MirrorNodeJson.tokens(r.firstEntry(), r.nextLink())),
+            route("/api/v1/tokens/" + ENTITY_ID, r -> MirrorNodeJson.token(r.group(1))),
+            route(
+                "/api/v1/tokens/" + ENTITY_ID + "/balances",
+                r -> MirrorNodeJson.balances(r.account(), r.firstEntry(), r.nextLink())),
+            route(
+                "/api/v1/tokens/" + ENTITY_ID + "/nfts",
+                r -> MirrorNodeJson.nfts(r.group(1), r.account(), r.firstEntry(), r.nextLink())),
+            route(
+                "/api/v1/tokens/" + ENTITY_ID + "/nfts/([0-9]+)",
+                r -> MirrorNodeJson.nft(r.group(1), "0.0.2", Long.parseLong(r.group(2)))),
+            route("/api/v1/topics/" + ENTITY_ID, r -> MirrorNodeJson.topic(r.group(1))),
+            route(
+                "/api/v1/topics/" + ENTITY_ID + "/messages",
+                r -> MirrorNodeJson.topicMessages(r.group(1), r.firstEntry(), r.nextLink())),
+            route(
+                "/api/v1/topics/" + ENTITY_ID + "/messages/([0-9]+)",
+                r -> MirrorNodeJson.topicMessage(r.group(1), Long.parseLong(r.group(2)))),
+            route("/api/v1/contracts", r -> MirrorNodeJson.contracts(r.firstEntry(), r.nextLink())),
+            route("/api/v1/contracts/" + ENTITY_ID, r -> MirrorNodeJson.contract(r.group(1))),
+            route("/api/v1/network/exchangerate", r -> MirrorNodeJson.exchangeRate()),
+            route("/api/v1/network/fees", r -> MirrorNodeJson.fees()),
+            route("/api/v1/network/stake", r -> MirrorNodeJson.stake()),
+            route("/api/v1/network/supply", r -> MirrorNodeJson.supply()));
+    try {
+      server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+    } catch (final IOException e) {
+      throw new UncheckedIOException("Failed to create fake mirror node", e);
+    }
+    executor = Executors.newVirtualThreadPerTaskExecutor();
+    server.setExecutor(executor);
+    server.createContext("/", this::handle);
+    server.start();
+  }
+
+  /**
+   * Returns the base URL of the mirror node, like {@code http://127.0.0.1:54321}.
+   *
+   * @return the base URL
+   */
+  @NonNull
+  public String getBaseUrl() {
+    return "http://" + server.getAddress().getHostString() + ":" + server.getAddress().getPort();
+  }
+
+  /**
+   * Sets the behavior of the mirror node for all following requests.
+   *
+   * @param behavior the behavior
+   */
+  public void setBehavior(@NonNull final NodeBehavior behavior) {
+    this.behavior = Objects.requireNonNull(behavior, "behavior must not be null");
+  }
+
+  /**
+   * Sets the number of pages of all list responses. Every page links to the next one, the default
+   * is a single page.
+   *
+   * @param pageCount the number of pages
+   */
+  public void setPageCount(final int pageCount) {
+    if (pageCount < 1) {
+      throw new IllegalArgumentException("pageCount must be positive");
+    }
+    this.pageCount = pageCount;
+  }
+
+  /**
+   * Holds all following requests until {@link #releaseRequests()} is called, so the state of a
+   * client can be checked while its requests are in flight. Held requests are not counted until
+   * they are answered.
+   */
+  public void holdRequests() {
+    hold = new CountDownLatch(1);
+  }
+
+  /** Answers all held requests and stops holding the following ones. */
+  public void releaseRequests() {
+    final CountDownLatch current = hold;
+    hold = null;
+    if (current != null) {
+      current.countDown();
+    }
+  }
+
+  /**
+   * Waits until a request is held by {@link #holdRequests()}. Every held request is returned by
+   * only one call.
+   *
+   * @param timeout the maximum time to wait
+   * @param unit the unit of the timeout
+   * @return true if a request is held, false if the timeout elapsed before
+   * @throws InterruptedException if the current thread is interrupted while waiting
+   */
+  public boolean awaitHeldRequest(final long timeout, @NonNull final TimeUnit unit)
+      throws InterruptedException {
+    return heldRequests.tryAcquire(timeout, unit);
+  }
+
+  /**
+   * Returns the number of distinct client connections that have sent requests. A client that reuses
+   * its connections keeps this number low.
+   *
+   * @return the number of connections
+   */
+  public int getConnectionCount() {
+    return connections.size();
+  }
+
+  /**
+   * Returns the number of requests that have been answered successfully.
+   *
+   * @return the number of requests
+   */
+  public long getRequestCount() {
+    return requestCount.sum();
+  }
+
+  /**
+   * Returns the number of requests that have been rejected as throttled.
+   *
+   * @return the number of throttled requests
+   */
+  public long getThrottledCount() {
+    return throttledCount.sum();
+  }
+
+  /**
+   * Returns the number of requests that have failed with an injected error.
+   *
+   * @return the number of failed requests
+   */
+  public long getFailedCount() {
+    return failedCount.sum();
+  }
+
+  @Override
+  public void close() {
+    releaseRequests();
+    server.stop(0);
+    executor.shutdownNow();
+  }
+
+  private void handle(final HttpExchange exchange) throws IOException {
+    try (exchange) {
+      connections.add(exchange.getRemoteAddress());
+      final NodeBehavior current = behavior;
+      final long latency = current.latency().sampleNanos();
+      if (latency > 0) {
+        TimeUnit.NANOSECONDS.sleep(latency);
+      }
+      final CountDownLatch currentHold = hold;
+      if (currentHold != null) {
+        heldRequests.release();
+        currentHold.await();
+      }
+      switch (current.nextOutcome()) {
+        case THROTTLED -> {
+          throttledCount.increment();
+          send(exchange, 429, MirrorNodeJson.error("Too Many Requests"));
+        }
+        case ERROR -> {
+          failedCount.increment();
+          send(exchange, 503, MirrorNodeJson.error("Service Unavailable"));
+        }
+        case OK -> answer(exchange);
+      }
+    } catch (final InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  private void answer(final HttpExchange exchange) throws IOException {
+    if (!"GET".equals(exchange.getRequestMethod())) {
+      send(exchange, 405, MirrorNodeJson.error("Method Not Allowed"));
+      return;
+    }
+    String path = exchange.getRequestURI().getPath();
+    if (path.length() > 1 && path.endsWith("/")) {
+      path = path.substring(0, path.length() - 1);
+    }
+    final String query = exchange.getRequestURI().getRawQuery();
+    for (final Route route : routes) {
+      final Matcher matcher = route.pattern().matcher(path);
+      if (matcher.matches()) {
+        requestCount.increment();
+        send(exchange, 200, route.handler().apply(new Request(matcher, path, query, pageCount)));
+        return;
+      }
+    }
+    send(exchange, 404, MirrorNodeJson.error("Not found"));
+  }
+
+  private static void send(final HttpExchange exchange, final int status, final String body)
+      throws IOException {
+    byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+    exchange.getResponseHeaders().set("Content-Type", "application/json");
+    final String acceptEncoding = exchange.getRequestHeaders().getFirst("Accept-Encoding");
+    if (acceptEncoding != null && acceptEncoding.contains("gzip")) {
+      final ByteArrayOutputStream compressed = new ByteArrayOutputStream();
+      try (GZIPOutputStream outputStream = new GZIPOutputStream(compressed)) {
+        outputStream.write(bytes);
+      }
+      bytes = compressed.toByteArray();
+      exchange.getResponseHeaders().set("Content-Encoding", "gzip");
+    }
+    exchange.sendResponseHeaders(status, bytes.length);
+    try (OutputStream outputStream = exchange.getResponseBody()) {
+      outputStream.write(bytes);
+    }
+  }
+
+  private static Route route(final String pattern, final Function<Request, String> handler) {
+    return new Route(Pattern.compile(pattern), handler);
+  }
+
+  private record Route(Pattern pattern, Function<Request, String> handler) {}
+
+  /** A request that matches a route. List responses are paged with a {@code page} parameter. */
+  private record Request(Matcher matcher, String path, String query, int pageCount) {
+
+    String group(final int group) {
+      return matcher.group(group);
+    }
+
+    /** Returns the value of the {@code account.id} parameter, or the treasury account. */
+    String account() {
+      final String account = parameter("account.id");
+      return account != null ? account : "0.0.2";
+    }
+
+    /** Returns the number of the first entry of the requested page, starting with 1. */
+    long firstEntry() {
+      return (long) pageIndex() * PAGE_SIZE + 1;
+    }
+
+    /** Returns the link to the next page, or {@code null} for the last page. */
+    String nextLink() {
+      final int next = pageIndex() + 1;
+      if (next >= pageCount) {
+        return null;
+      }
+      final String otherParameters =
+          query == null
+              ? ""
+              : Arrays.stream(query.split("&"))
+                  .filter(parameter -> !parameter.startsWith("page="))
+                  .map(parameter -> parameter + "&")
+                  .collect(Collectors.joining());
+      return path + "?" + otherParameters + "page=" + next;
+    }
+
+    private int pageIndex() {
+      final String page = parameter("page");
+      return page != null ? Integer.parseInt(page) : 0;
+    }
+
+    private String parameter(final String name) {
+      if (query != null) {
+        for (final String parameter : query.split("&")) {
+          if (parameter.startsWith(name + "=")) {
+            return parameter.substring(name.length() + 1);
+          }
+        }
+      }
+      return null;
+    }
+  }
+}
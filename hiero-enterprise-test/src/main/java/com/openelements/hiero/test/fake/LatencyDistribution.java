@@ -0,0 +1,91 @@
+package com.openelements.hiero.test.fake;
+
+import java.time.Duration;
+import java.util.Objects;
+import java.util.concurrent.ThreadLocalRandom;
+import org.jspecify.annotations.NonNull;
+
+/**
+ * Distribution of the latency that a fake node adds to every call. Implementations must be thread
+ * safe.
+ */
+@FunctionalInterface
+public interface LatencyDistribution {
+
+  /**
+   * Samples the latency of one call.
+   *
+   * @return the latency in nanoseconds, never negative
+   */
+  long sampleNanos();
+
+  /**
+   * Returns a distribution without any latency.
+   *
+   * @return the distribution
+   */
+  static @NonNull LatencyDistribution none() {
+    return () -> 0;
+  }
+
+  /**
+   * Returns a distribution that always has the given latency.
+   *
+   * @param latency the latency
+   * @return the distribution
+   */
+  static @NonNull LatencyDistribution fixed(@NonNull final Duration latency) {
+    Objects.requireNonNull(latency, "latency must not be null");
+    if (latency.isNegative()) {
+      throw new IllegalArgumentException("latency must not be negative");
+    }
+    final long nanos = latency.toNanos();
+    return () -> nanos;
+  }
+
+  /**
+   * Returns a distribution with latencies that are uniformly distributed between the given bounds.
+   *
+   * @param min the minimum latency
+   * @param max the maximum latency
+   * @return the distribution
+   */
+  static @NonNull LatencyDistribution uniform(
+      @NonNull final Duration min, @NonNull final Duration max) {
+    Objects.requireNonNull(min, "min must not be null");
+    Objects.requireNonNull(max, "max must not be null");
+    if (min.isNegative()) {
+      throw new IllegalArgumentException("min must not be negative");
+    }
+    if (max.compareTo(min) < 0) {
+      throw new IllegalArgumentException("max must not be less than min");
+    }
+    final long minNanos = min.toNanos();
+    final long maxNanos = max.toNanos();
+    return () -> ThreadLocalRandom.current().nextLong(minNanos, maxNanos + 1);
+  }
+
+  /**
+   * Returns a log-normal distribution, which has the long tail of real network latencies. The
+   * distribution is defined by its median and its 99th percentile.
+   *
+   * @param median the median latency
+   * @param p99 the 99th percentile of the latency
+   * @return the distribution
+   */
+  static @NonNull LatencyDistribution logNormal(
+      @NonNull final Duration median, @NonNull final Duration p99) {
+    Objects.requireNonNull(median, "median must not be null");
+    Objects.requireNonNull(p99, "p99 must not be null");
+    if (median.isNegative() || median.isZero()) {
+      throw new IllegalArgumentException("median must be positive");
+    }
+    if (p99.compareTo(median) < 0) {
+      throw new IllegalArgumentException("p99 must not be less than median");
+    }
+    final double mu = Math.log(median.toNanos());
+    // 2.326 is the z-score of the 99th percentile of the standard normal distribution
+    final double sigma = Math.log((double) p99.toNanos() / median.toNanos()) / 2.326;
+    return () -> (long) Math.exp(mu + sigma * ThreadLocalRandom.current().nextGaussian());
+  }
+}
@@ -0,0 +1,245 @@
+package com.openelements.hiero.test.fake;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.HexFormat;
+import java.util.function.LongFunction;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+
+/** Synthetic responses of the mirror node REST API, as served by {@link FakeMirrorNode}. */
+final class MirrorNodeJson {
+
+  private static final String HASH = "0".repeat(96);
+
+  private static final long AUTO_RENEW_PERIOD = 7_776_000;
+
+  private MirrorNodeJson() {}
+
+  static String error(final String message) {
+    return """
+        {"_status": {"messages": [{"message": "%s"}]}}"""
+        .formatted(message);
+  }
+
+  static String account(final String accountId) {
+    return """
+        {"account": "%s", "alias": null, "auto_renew_period": 7776000,
+        "balance": {"balance": %d, "timestamp": "%s", "tokens": []},
+        "created_timestamp": "%s", "decline_reward": false, "deleted": false,
+        "ethereum_nonce": 0, "evm_address": "%s", "expiry_timestamp": "%s", "key": null,
+        "max_automatic_token_associations": 0, "memo": "", "pending_reward": 0,
+        "receiver_sig_required": false, "staked_account_id": null, "staked_node_id": null,
+        "stake_period_start": null, "transactions": [], "links": {"next": null}}"""
+        .formatted(
+            accountId,
+            FakeConsensusNode.ACCOUNT_BALANCE,
+            now(),
+            now(),
+            evmAddress(accountId),
+            now());
+  }
+
+  static String transactions(final String accountId, final long firstEntry, final String next) {
+    return page(
+        "transactions",
+        firstEntry,
+        next,
+        serial -> transactionEntry(accountId + "-" + timestampId(serial)));
+  }
+
+  static String transaction(final String transactionId) {
+    return """
+        {"transactions": [%s]}"""
+        .formatted(transactionEntry(transactionId));
+  }
+
+  static String tokens(final long firstEntry, final String next) {
+    return page(
+        "tokens",
+        firstEntry,
+        next,
+        serial ->
+            """
+            {"admin_key": null, "decimals": 0, "metadata": "", "name": "Token %d",
+            "symbol": "T%d", "token_id": "0.0.%d", "type": "FUNGIBLE_COMMON"}"""
+                .formatted(serial, serial, 1000 + serial));
+  }
+
+  static String token(final String tokenId) {
+    return """
+        {"admin_key": null, "auto_renew_account": null, "auto_renew_period": 7776000,
+        "created_timestamp": "%s", "custom_fees": {"created_timestamp": "%s",
+        "fixed_fees": [], "fractional_fees": []}, "decimals": "0", "deleted": false,
+        "expiry_timestamp": %d, "fee_schedule_key": null,
+        "freeze_default": false, "freeze_key": null, "initial_supply": "1000000",
+        "kyc_key": null, "max_supply": "0", "memo": "", "metadata": "",
+        "modified_timestamp": "%s", "name": "Token %s", "pause_key": null,
+        "pause_status": "NOT_APPLICABLE", "supply_key": null, "supply_type": "INFINITE",
+        "symbol": "TOKEN", "token_id": "%s", "total_supply": "1000000",
+        "treasury_account_id": "0.0.2", "type": "FUNGIBLE_COMMON", "wipe_key": null}"""
+        .formatted(
+            now(),
+            now(),
+            (Instant.now().getEpochSecond() + AUTO_RENEW_PERIOD) * 1_000_000_000L,
+            now(),
+            tokenId,
+            tokenId);
+  }
+
+  static String balances(final String accountId, final long firstEntry, final String next) {
+    return page(
+        "balances",
+        firstEntry,
+        next,
+        serial ->
+            """
+            {"account": "%s", "balance": %d, "decimals": 0}"""
+                .formatted(serial == 1 ? accountId : "0.0." + (1000 + serial), serial * 1000));
+  }
+
+  static String nfts(
+      final String tokenId, final String accountId, final long firstEntry, final String next) {
+    return page("nfts", firstEntry, next, serial -> nft(tokenId, accountId, serial));
+  }
+
+  static String nft(final String tokenId, final String accountId, final long serial) {
+    return """
+        {"account_id": "%s", "created_timestamp": "%s", "delegating_spender": null,
+        "deleted": false, "metadata": "%s", "modified_timestamp": "%s",
+        "serial_number": %d, "spender": null, "token_id": "%s"}"""
+        .formatted(accountId, now(), base64("nft-" + serial), now(), serial, tokenId);
+  }
+
+  static String topic(final String topicId) {
+    return """
+        {"admin_key": null, "auto_renew_account": null, "auto_renew_period": 7776000,
+        "created_timestamp": "%s", "custom_fees": {"created_timestamp": "%s",
+        "fixed_fees": []}, "deleted": false, "fee_exempt_key_list": [],
+        "fee_schedule_key": null, "memo": "", "submit_key": null,
+        "timestamp": {"from": "%s", "to": null}, "topic_id": "%s"}"""
+        .formatted(now(), now(), now(), topicId);
+  }
+
+  static String topicMessages(final String topicId, final long firstEntry, final String next) {
+    return page("messages", firstEntry, next, serial -> topicMessage(topicId, serial));
+  }
+
+  static String topicMessage(final String topicId, final long sequenceNumber) {
+    return """
+        {"chunk_info": null, "consensus_timestamp": "%s", "message": "%s",
+        "payer_account_id": "0.0.2", "running_hash": "%s", "running_hash_version": 3,
+        "sequence_number": %d, "topic_id": "%s"}"""
+        .formatted(
+            now(), base64("message-" + sequenceNumber), base64(HASH), sequenceNumber, topicId);
+  }
+
+  static String contracts(final long firstEntry, final String next) {
+    return page("contracts", firstEntry, next, serial -> contractEntry("0.0." + (1000 + serial)));
+  }
+
+  static String contract(final String contractId) {
+    return contractEntry(contractId);
+  }
+
+  static String exchangeRate() {
+    final long hour = Instant.now().getEpochSecond() / 3600 * 3600;
+    return """
+        {"current_rate": {"cent_equivalent": 1200000, "expiration_time": %d,
+        "hbar_equivalent": 30000}, "next_rate": {"cent_equivalent": 1200000,
+        "expiration_time": %d, "hbar_equivalent": 30000}, "timestamp": "%s"}"""
+        .formatted(hour + 3600, hour + 7200, now());
+  }
+
+  static String fees() {
+    return """
+        {"fees": [{"gas": 852000, "transaction_type": "ContractCall"},
+        {"gas": 1032000, "transaction_type": "ContractCreate"},
+        {"gas": 852000, "transaction_type": "EthereumTransaction"}], "timestamp": "%s"}"""
+        .formatted(now());
+  }
+
+  static String stake() {
+    return """
+        {"max_stake_rewarded": 1000000000000000, "max_staking_reward_rate_per_hbar": 17808,
+        "max_total_reward": 100000000000000, "node_reward_fee_fraction": 0.0,
+        "reserved_staking_rewards": 0, "reward_balance_threshold": 8500000000000000,
+        "stake_total": 2000000000000000000, "staking_period": {"from": "%s", "to": "%s"},
+        "staking_period_duration": 1440, "staking_periods_stored": 365,
+        "staking_reward_fee_fraction": 0.1, "staking_reward_rate": 100000000000,
+        "staking_start_threshold": 25000000000000000,
+        "unreserved_staking_reward_balance": 0}"""
+        .formatted(now(), now());
+  }
+
+  static String supply() {
+    return """
+        {"released_supply": "3999999999999999949", "timestamp": "%s",
+        "total_supply": "5000000000000000000"}"""
+        .formatted(now());
+  }
+
+  private static String transactionEntry(final String transactionId) {
+    final String payer = transactionId.split("[-@]")[0];
+    return """
+        {"bytes": null, "charged_tx_fee": 100000, "consensus_timestamp": "%s",
+        "entity_id": null, "max_fee": "100000000", "memo_base64": "",
+        "name": "CRYPTOTRANSFER", "nft_transfers": [], "node": "0.0.3", "nonce": 0,
+        "parent_consensus_timestamp": null, "result": "SUCCESS", "scheduled": false,
+        "staking_reward_transfers": [], "token_transfers": [], "transaction_hash": "%s",
+        "transaction_id": "%s", "transfers": [{"account": "%s", "amount": -100000,
+        "is_approval": false}, {"account": "0.0.3", "amount": 100000, "is_approval": false}],
+        "valid_duration_seconds": "120", "valid_start_timestamp": "%s"}"""
+        .formatted(now(), base64(HASH), transactionId, payer, now());
+  }
+
+  /**
+   * The list endpoints of the mirror node omit the bytecode of contracts, but the converters expect
+   * the fields, so every entry contains them.
+   */
+  private static String contractEntry(final String contractId) {
+    return """
+        {"admin_key": null, "auto_renew_account": null, "auto_renew_period": 7776000,
+        "bytecode": "0x", "contract_id": "%s", "created_timestamp": "%s", "deleted": false,
+        "evm_address": "%s", "expiration_timestamp": "%s", "file_id": "0.0.1001",
+        "max_automatic_token_associations": 0, "memo": "", "nonce": 1,
+        "obtainer_id": null, "permanent_removal": null, "proxy_account_id": null,
+        "runtime_bytecode": "0x", "timestamp": {"from": "%s", "to": null}}"""
+        .formatted(contractId, now(), evmAddress(contractId), now(), now());
+  }
+
+  private static String page(
+      final String name,
+      final long firstEntry,
+      final String next,
+      final LongFunction<String> entry) {
+    return """
+        {"%s": [%s], "links": {"next": %s}}"""
+        .formatted(
+            name,
+            LongStream.range(firstEntry, firstEntry + FakeMirrorNode.PAGE_SIZE)
+                .mapToObj(entry)
+                .collect(Collectors.joining(", ")),
+            next == null ? "null" : "\"" + next + "\"");
+  }
+
+  /** Returns the long-zero EVM address of an entity id. */
+  private static String evmAddress(final String entityId) {
+    final long number = Long.parseLong(entityId.substring(entityId.lastIndexOf('.') + 1));
+    return "0x" + "0".repeat(24) + HexFormat.of().toHexDigits(number);
+  }
+
+  private static String timestampId(final long serial) {
+    return Instant.now().getEpochSecond() + "-" + "%09d".formatted(serial);
+  }
+
+  private static String now() {
+    final Instant now = Instant.now();
+    return now.getEpochSecond() + "." + "%09d".formatted(now.getNano());
+  }
+
+  private static String base64(final String value) {
+    return Base64.getEncoder().encodeToString(value.getBytes(StandardCharsets.UTF_8));
+  }
+}
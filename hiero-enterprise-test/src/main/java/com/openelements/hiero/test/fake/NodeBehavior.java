@@ -0,0 +1,80 @@
+package com.openelements.hiero.test.fake;
+
+import java.util.Objects;
+import java.util.concurrent.ThreadLocalRandom;
+import org.jspecify.annotations.NonNull;
+
+/**
+ * Behavior of a fake node for every call it receives.
+ *
+ * @param latency the latency that is added to every call
+ * @param throttleRate the fraction of calls (between 0 and 1) that are rejected as throttled
+ * @param errorRate the fraction of calls (between 0 and 1) that fail with a transport error
+ */
+public record NodeBehavior(
+    @NonNull LatencyDistribution latency, double throttleRate, double errorRate) {
+
+  /** Behavior without latency, throttling or errors. */
+  public static final NodeBehavior DEFAULT = new NodeBehavior(LatencyDistribution.none(), 0, 0);
+
+  public NodeBehavior {
+    Objects.requireNonNull(latency, "latency must not be null");
+    checkRate(throttleRate, "throttleRate");
+    checkRate(errorRate, "errorRate");
+    if (throttleRate + errorRate > 1) {
+      throw new IllegalArgumentException("throttleRate and errorRate must not exceed 1 in sum");
+    }
+  }
+
+  @NonNull
+  public static NodeBehavior of(@NonNull final LatencyDistribution latency) {
+    return new NodeBehavior(latency, 0, 0);
+  }
+
+  @NonNull
+  public NodeBehavior withLatency(@NonNull final LatencyDistribution latency) {
+    return new NodeBehavior(latency, throttleRate, errorRate);
+  }
+
+  @NonNull
+  public NodeBehavior withThrottleRate(final double throttleRate) {
+    return new NodeBehavior(latency, throttleRate, errorRate);
+  }
+
+  @NonNull
+  public NodeBehavior withErrorRate(final double errorRate) {
+    return new NodeBehavior(latency, throttleRate, errorRate);
+  }
+
+  /**
+   * Decides the outcome of one call.
+   *
+   * @return the outcome
+   */
+  @NonNull Outcome nextOutcome() {
+    if (throttleRate == 0 && errorRate == 0) {
+      return Outcome.OK;
+    }
+    final double random = ThreadLocalRandom.current().nextDouble();
+    if (random < throttleRate) {
+      return Outcome.THROTTLED;
+    }
+    if (random < throttleRate + errorRate) {
+      return Outcome.ERROR;
+    }
+    return Outcome.OK;
+  }
+
+  private static void checkRate(final double rate, final String name) {
+    if (!(rate >= 0 && rate <= 1)) {
+      throw new IllegalArgumentException(name + " must be between 0 and 1");
+    }
+  }
+
+  /** Outcome of a single call. */
+  enum Outcome {
+    OK,
+    THROTTLED,
+    ERROR
+  }
+}
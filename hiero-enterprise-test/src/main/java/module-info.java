@@ -1,5 +1,6 @@
 open module com.openelements.hiero.test {
   exports com.openelements.hiero.test;
+  exports com.openelements.hiero.test.fake;
 
   provides com.openelements.hiero.base.config.NetworkSettingsProvider with
       com.openelements.hiero.test.implementation.SoloActionNetworkSettingsProvider;
@@ -8,4 +9,9 @@ open module com.openelements.hiero.test {
   requires org.jspecify;
   requires com.google.auto.service;
   requires org.slf4j;
+  requires com.google.protobuf;
+  requires io.grpc;
+  requires io.grpc.inprocess;
+  requires io.grpc.stub;
+  requires jdk.httpserver;
 }
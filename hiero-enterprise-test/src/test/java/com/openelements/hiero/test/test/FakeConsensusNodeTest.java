@@ -0,0 +1,265 @@
+package com.openelements.hiero.test.test;
+
+import com.hedera.hashgraph.sdk.AccountBalanceQuery;
+import com.hedera.hashgraph.sdk.AccountId;
+import com.hedera.hashgraph.sdk.Client;
+import com.hedera.hashgraph.sdk.FileContentsQuery;
+import com.hedera.hashgraph.sdk.FileCreateTransaction;
+import com.hedera.hashgraph.sdk.MaxAttemptsExceededException;
+import com.hedera.hashgraph.sdk.PrecheckStatusException;
+import com.hedera.hashgraph.sdk.PrivateKey;
+import com.hedera.hashgraph.sdk.Status;
+import com.hedera.hashgraph.sdk.TopicCreateTransaction;
+import com.hedera.hashgraph.sdk.TransactionId;
+import com.hedera.hashgraph.sdk.TransactionReceipt;
+import com.hedera.hashgraph.sdk.TransactionReceiptQuery;
+import com.hedera.hashgraph.sdk.TransactionRecord;
+import com.hedera.hashgraph.sdk.TransactionResponse;
+import com.hedera.hashgraph.sdk.proto.AccountID;
+import com.hedera.hashgraph.sdk.proto.ConsensusCreateTopicTransactionBody;
+import com.hedera.hashgraph.sdk.proto.ConsensusServiceGrpc;
+import com.hedera.hashgraph.sdk.proto.ResponseCodeEnum;
+import com.hedera.hashgraph.sdk.proto.SignedTransaction;
+import com.hedera.hashgraph.sdk.proto.Timestamp;
+import com.hedera.hashgraph.sdk.proto.Transaction;
+import com.hedera.hashgraph.sdk.proto.TransactionBody;
+import com.hedera.hashgraph.sdk.proto.TransactionID;
+import com.openelements.hiero.base.data.Account;
+import com.openelements.hiero.test.fake.FakeConsensusNode;
+import com.openelements.hiero.test.fake.LatencyDistribution;
+import com.openelements.hiero.test.fake.NodeBehavior;
+import io.grpc.ManagedChannel;
+import io.grpc.inprocess.InProcessChannelBuilder;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class FakeConsensusNodeTest {
+
+  private FakeConsensusNode node;
+
+  private Account operator;
+
+  private Client client;
+
+  @BeforeEach
+  void setup() {
+    node = new FakeConsensusNode();
+    final PrivateKey privateKey = PrivateKey.generateED25519();
+    operator = Account.of(AccountId.fromString("0.0.2"), privateKey.getPublicKey(), privateKey);
+    client =
+        node.createClient(operator)
+            .setMinBackoff(Duration.ofMillis(1))
+            .setMaxBackoff(Duration.ofMillis(10))
+            .setNodeMinBackoff(Duration.ofMillis(1))
+            .setNodeMaxBackoff(Duration.ofMillis(10));
+  }
+
+  @AfterEach
+  void tearDown() throws Exception {
+    client.close();
+    node.close();
+  }
+
+  @Test
+  void testReceiptAndRecordOfHandledTransaction() throws Exception {
+    // when
+    final TransactionResponse response =
+        new FileCreateTransaction()
+            .setKeys(operator.publicKey())
+            .setContents("Hello Hiero!")
+            .execute(client);
+    final TransactionReceipt receipt = response.getReceipt(client);
+    final TransactionRecord record = response.getRecord(client);
+
+    // then
+    Assertions.assertEquals(Status.SUCCESS, receipt.status);
+    Assertions.assertNotNull(receipt.fileId);
+    Assertions.assertEquals(response.transactionId, record.transactionId);
+    Assertions.assertEquals(receipt.fileId, record.receipt.fileId);
+    Assertions.assertNotNull(record.consensusTimestamp);
+    Assertions.assertEquals(
+        "Hello Hiero!",
+        new FileContentsQuery().setFileId(receipt.fileId).execute(client).toStringUtf8());
+    Assertions.assertEquals(1, node.getTransactionCount());
+  }
+
+  @Test
+  void testReceiptIsUnknownBeforeConsensus() throws Exception {
+    // given
+    node.setConsensusLatency(LatencyDistribution.fixed(Duration.ofMillis(500)));
+
+    // when
+    final TransactionResponse response = new TopicCreateTransaction().execute(client);
+
+    // then
+    Assertions.assertThrows(
+        MaxAttemptsExceededException.class,
+        () ->
+            new TransactionReceiptQuery()
+                .setTransactionId(response.transactionId)
+                .setMaxAttempts(1)
+                .execute(client));
+    // the backoff of the client is at most 10 ms, so the query needs enough attempts to outlast
+    // the latency of the node
+    final TransactionReceipt receipt =
+        response.getReceiptQuery().setMaxAttempts(500).execute(client);
+    Assertions.assertEquals(Status.SUCCESS, receipt.status);
+    Assertions.assertNotNull(receipt.topicId);
+  }
+
+  @Test
+  void testReceiptOfUnknownTransactionIsNotFound() {
+    // when
+    final Exception exception =
+        Assertions.assertThrows(
+            Exception.class,
+            () ->
+                new TransactionReceiptQuery()
+                    .setTransactionId(TransactionId.generate(operator.accountId()))
+                    .setMaxAttempts(2)
+                    .execute(client));
+
+    // then
+    Assertions.assertEquals(Status.RECEIPT_NOT_FOUND, statusOf(exception));
+  }
+
+  @Test
+  void testThrottledCallsAreRejectedWithBusy() throws Exception {
+    // given
+    client.setMaxAttempts(3);
+    node.setBehavior(NodeBehavior.DEFAULT.withThrottleRate(1));
+
+    // when
+    final Exception exception =
+        Assertions.assertThrows(
+            Exception.class, () -> new TopicCreateTransaction().execute(client));
+
+    // then
+    Assertions.assertEquals(Status.BUSY, statusOf(exception));
+    Assertions.assertTrue(node.getThrottledCount() >= 1);
+    Assertions.assertEquals(0, node.getTransactionCount());
+
+    // when
+    node.setBehavior(NodeBehavior.DEFAULT);
+
+    // then
+    Assertions.assertEquals(
+        Status.SUCCESS, new TopicCreateTransaction().execute(client).getReceipt(client).status);
+  }
+
+  @Test
+  void testInjectedErrorsFailCalls() {
+    // given
+    client.setMaxAttempts(2);
+    node.setBehavior(NodeBehavior.DEFAULT.withErrorRate(1));
+
+    // when
+    Assertions.assertThrows(
+        Exception.class,
+        () -> new AccountBalanceQuery().setAccountId(operator.accountId()).execute(client));
+
+    // then
+    Assertions.assertTrue(node.getFailedCount() >= 1);
+    Assertions.assertEquals(0, node.getQueryCount());
+  }
+
+  @Test
+  void testDuplicateTransactionIsRejected() throws Exception {
+    // given
+    final TopicCreateTransaction transaction = new TopicCreateTransaction().freezeWith(client);
+    transaction.execute(client).getReceipt(client);
+
+    // when
+    final PrecheckStatusException exception =
+        Assertions.assertThrows(PrecheckStatusException.class, () -> transaction.execute(client));
+
+    // then
+    Assertions.assertEquals(Status.DUPLICATE_TRANSACTION, exception.status);
+    Assertions.assertEquals(1, node.getTransactionCount());
+  }
+
+  @Test
+  void testConcurrentDuplicatesAreAcceptedOnce() throws Exception {
+    // given
+    final int submitters = 16;
+    final Transaction transaction = topicCreateTransaction();
+    final String address = node.getNetwork().keySet().iterator().next();
+    final ManagedChannel channel =
+        InProcessChannelBuilder.forName(address.substring("in-process:".length())).build();
+    final ExecutorService executor = Executors.newFixedThreadPool(submitters);
+    final CountDownLatch start = new CountDownLatch(1);
+    try {
+      final List<Future<ResponseCodeEnum>> results = new ArrayList<>();
+      for (int i = 0; i < submitters; i++) {
+        results.add(
+            executor.submit(
+                () -> {
+                  start.await();
+                  return ConsensusServiceGrpc.newBlockingStub(channel)
+                      .createTopic(transaction)
+                      .getNodeTransactionPrecheckCode();
+                }));
+      }
+
+      // when
+      start.countDown();
+      final List<ResponseCodeEnum> codes = new ArrayList<>();
+      for (final Future<ResponseCodeEnum> result : results) {
+        codes.add(result.get(10, TimeUnit.SECONDS));
+      }
+
+      // then
+      Assertions.assertEquals(
+          1, codes.stream().filter(code -> code == ResponseCodeEnum.OK).count());
+      Assertions.assertEquals(
+          submitters - 1,
+          codes.stream().filter(code -> code == ResponseCodeEnum.DUPLICATE_TRANSACTION).count());
+      Assertions.assertEquals(1, node.getTransactionCount());
+    } finally {
+      executor.shutdownNow();
+      channel.shutdownNow();
+    }
+  }
+
+  private Transaction topicCreateTransaction() {
+    final Instant now = Instant.now();
+    final TransactionBody body =
+        TransactionBody.newBuilder()
+            .setTransactionID(
+                TransactionID.newBuilder()
+                    .setAccountID(AccountID.newBuilder().setAccountNum(2))
+                    .setTransactionValidStart(
+                        Timestamp.newBuilder()
+                            .setSeconds(now.getEpochSecond())
+                            .setNanos(now.getNano())))
+            .setNodeAccountID(AccountID.newBuilder().setAccountNum(3))
+            .setConsensusCreateTopic(ConsensusCreateTopicTransactionBody.getDefaultInstance())
+            .build();
+    return Transaction.newBuilder()
+        .setSignedTransactionBytes(
+            SignedTransaction.newBuilder().setBodyBytes(body.toByteString()).build().toByteString())
+        .build();
+  }
+
+  private static Status statusOf(final Throwable error) {
+    Throwable current = error;
+    while (current != null) {
+      if (current instanceof PrecheckStatusException precheck) {
+        return precheck.status;
+      }
+      current = current.getCause();
+    }
+    return Status.UNKNOWN;
+  }
+}
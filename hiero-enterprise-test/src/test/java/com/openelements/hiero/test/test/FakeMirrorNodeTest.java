@@ -0,0 +1,180 @@
+package com.openelements.hiero.test.test;
+
+import com.openelements.hiero.test.fake.FakeMirrorNode;
+import com.openelements.hiero.test.fake.NodeBehavior;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.zip.GZIPInputStream;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class FakeMirrorNodeTest {
+
+  private static final Pattern NEXT_LINK = Pattern.compile("\"next\": (null|\"([^\"]+)\")");
+
+  private FakeMirrorNode mirrorNode;
+
+  private HttpClient httpClient;
+
+  @BeforeEach
+  void setup() {
+    mirrorNode = new FakeMirrorNode();
+    httpClient = HttpClient.newHttpClient();
+  }
+
+  @AfterEach
+  void tearDown() {
+    httpClient.close();
+    mirrorNode.close();
+  }
+
+  @Test
+  void testListResponsesArePaged() throws Exception {
+    // given
+    mirrorNode.setPageCount(3);
+    final List<String> bodies = new ArrayList<>();
+
+    // when
+    String path = "/api/v1/transactions?account.id=0.0.5";
+    while (path != null) {
+      final HttpResponse<String> response = get(path);
+      Assertions.assertEquals(200, response.statusCode());
+      bodies.add(response.body());
+      path = nextLink(response.body());
+    }
+
+    // then
+    Assertions.assertEquals(3, bodies.size());
+    Assertions.assertTrue(bodies.get(0).contains("\"0.0.5-"));
+    Assertions.assertEquals(
+        "/api/v1/transactions?account.id=0.0.5&page=1", nextLink(bodies.get(0)));
+    Assertions.assertEquals(3, mirrorNode.getRequestCount());
+  }
+
+  @Test
+  void testSinglePageByDefault() throws Exception {
+    // when
+    final HttpResponse<String> response = get("/api/v1/tokens");
+
+    // then
+    Assertions.assertEquals(200, response.statusCode());
+    Assertions.assertNull(nextLink(response.body()));
+    Assertions.assertEquals(
+        FakeMirrorNode.PAGE_SIZE, response.body().split("\"token_id\"", -1).length - 1);
+  }
+
+  @Test
+  void testThrottledPageIsAnsweredWith429() throws Exception {
+    // given
+    mirrorNode.setPageCount(2);
+    final String next = nextLink(get("/api/v1/tokens").body());
+    mirrorNode.setBehavior(NodeBehavior.DEFAULT.withThrottleRate(1));
+
+    // when
+    final HttpResponse<String> throttled = get(next);
+    mirrorNode.setBehavior(NodeBehavior.DEFAULT);
+    final HttpResponse<String> retried = get(next);
+
+    // then
+    Assertions.assertEquals(429, throttled.statusCode());
+    Assertions.assertTrue(throttled.body().contains("Too Many Requests"));
+    Assertions.assertEquals(200, retried.statusCode());
+    Assertions.assertNull(nextLink(retried.body()));
+    Assertions.assertEquals(1, mirrorNode.getThrottledCount());
+    Assertions.assertEquals(2, mirrorNode.getRequestCount());
+  }
+
+  @Test
+  void testFailedPageIsAnsweredWith503() throws Exception {
+    // given
+    mirrorNode.setPageCount(2);
+    final String next = nextLink(get("/api/v1/tokens/0.0.1001/balances").body());
+    mirrorNode.setBehavior(NodeBehavior.DEFAULT.withErrorRate(1));
+
+    // when
+    final HttpResponse<String> failed = get(next);
+    mirrorNode.setBehavior(NodeBehavior.DEFAULT);
+    final HttpResponse<String> retried = get(next);
+
+    // then
+    Assertions.assertEquals(503, failed.statusCode());
+    Assertions.assertTrue(failed.body().contains("Service Unavailable"));
+    Assertions.assertEquals(200, retried.statusCode());
+    Assertions.assertNull(nextLink(retried.body()));
+    Assertions.assertEquals(1, mirrorNode.getFailedCount());
+  }
+
+  @Test
+  void testHeldRequestIsAnsweredAfterRelease() throws Exception {
+    // given
+    mirrorNode.holdRequests();
+
+    // when
+    final CompletableFuture<HttpResponse<String>> response =
+        httpClient.sendAsync(
+            request("/api/v1/network/supply").build(), HttpResponse.BodyHandlers.ofString());
+    Assertions.assertTrue(mirrorNode.awaitHeldRequest(5, TimeUnit.SECONDS));
+    final long countWhileHeld = mirrorNode.getRequestCount();
+    mirrorNode.releaseRequests();
+
+    // then
+    Assertions.assertEquals(0, countWhileHeld);
+    Assertions.assertEquals(200, response.get(5, TimeUnit.SECONDS).statusCode());
+    Assertions.assertEquals(1, mirrorNode.getRequestCount());
+  }
+
+  @Test
+  void testUnknownPathIsNotFound() throws Exception {
+    Assertions.assertEquals(404, get("/api/v1/unknown").statusCode());
+    Assertions.assertEquals(404, get("/api/v1/accounts/not-an-id").statusCode());
+    Assertions.assertEquals(0, mirrorNode.getRequestCount());
+  }
+
+  @Test
+  void testResponseIsCompressedIfAccepted() throws Exception {
+    // when
+    final HttpResponse<byte[]> response =
+        httpClient.send(
+            request("/api/v1/topics/0.0.1001/messages").header("Accept-Encoding", "gzip").build(),
+            HttpResponse.BodyHandlers.ofByteArray());
+
+    // then
+    Assertions.assertEquals(200, response.statusCode());
+    Assertions.assertEquals("gzip", response.headers().firstValue("Content-Encoding").orElse(null));
+    final String body = gunzip(response.body());
+    Assertions.assertTrue(body.startsWith("{\"messages\": ["));
+  }
+
+  private HttpResponse<String> get(final String path) throws IOException, InterruptedException {
+    return httpClient.send(request(path).build(), HttpResponse.BodyHandlers.ofString());
+  }
+
+  private HttpRequest.Builder request(final String path) {
+    return HttpRequest.newBuilder(URI.create(mirrorNode.getBaseUrl() + path));
+  }
+
+  private static String nextLink(final String body) {
+    final Matcher matcher = NEXT_LINK.matcher(body);
+    Assertions.assertTrue(matcher.find(), "Response has no links: " + body);
+    return matcher.group(2);
+  }
+
+  private static String gunzip(final byte[] compressed) throws IOException {
+    try (GZIPInputStream inputStream = new GZIPInputStream(new ByteArrayInputStream(compressed))) {
+      return new String(inputStream.readAllBytes(), StandardCharsets.UTF_8);
+    }
+  }
+}
@@ -0,0 +1,104 @@
+package com.openelements.hiero.test.test;
+
+import com.hedera.hashgraph.sdk.AccountId;
+import com.hedera.hashgraph.sdk.PrivateKey;
+import com.hedera.hashgraph.sdk.Status;
+import com.hedera.hashgraph.sdk.TokenId;
+import com.hedera.hashgraph.sdk.TransactionId;
+import com.hedera.hashgraph.sdk.TransactionReceipt;
+import com.hedera.hashgraph.sdk.TransactionReceiptQuery;
+import com.openelements.hiero.base.HieroContext;
+import com.openelements.hiero.base.data.Account;
+import com.openelements.hiero.base.data.NftMintCheckpoint;
+import com.openelements.hiero.base.implementation.NftClientImpl;
+import com.openelements.hiero.base.implementation.ProtocolLayerClientImpl;
+import com.openelements.hiero.test.fake.FakeConsensusNode;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.stream.IntStream;
+import java.util.stream.LongStream;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class NftBulkMintTest {
+
+  private FakeConsensusNode node;
+
+  private HieroContext context;
+
+  private ProtocolLayerClientImpl protocolLayerClient;
+
+  private NftClientImpl nftClient;
+
+  @BeforeEach
+  void setup() {
+    node = new FakeConsensusNode();
+    final PrivateKey privateKey = PrivateKey.generateED25519();
+    final Account operator =
+        Account.of(AccountId.fromString("0.0.2"), privateKey.getPublicKey(), privateKey);
+    context = node.createContext(operator);
+    // an unknown receipt is reported after one attempt instead of being polled until the timeout
+    context.getClient().setMaxAttempts(1);
+    protocolLayerClient = new ProtocolLayerClientImpl(context);
+    nftClient = new NftClientImpl(protocolLayerClient, operator);
+  }
+
+  @AfterEach
+  void tearDown() throws Exception {
+    protocolLayerClient.close();
+    context.getClient().close();
+    node.close();
+  }
+
+  @Test
+  void testBulkMintMintsEveryChunkWithPinnedTransactionId() throws Exception {
+    // given
+    final TokenId tokenId = nftClient.createNftType("Bulk", "BLK");
+    final List<byte[]> metadata = metadata(25);
+    final NftMintCheckpoint checkpoint = NftMintCheckpoint.inMemory();
+
+    // when
+    final List<Long> serials = nftClient.bulkMintNfts(tokenId, metadata, checkpoint);
+
+    // then
+    Assertions.assertEquals(
+        LongStream.rangeClosed(1, 25).boxed().toList(), serials.stream().sorted().toList());
+    Assertions.assertEquals(10, checkpoint.getMintedSerials(0).size());
+    Assertions.assertEquals(10, checkpoint.getMintedSerials(1).size());
+    Assertions.assertEquals(5, checkpoint.getMintedSerials(2).size());
+    Assertions.assertNull(checkpoint.getPendingTransactionId(2));
+    Assertions.assertEquals(4, node.getTransactionCount());
+  }
+
+  @Test
+  void testBulkMintResumesPendingChunkWithItsTransactionId() throws Exception {
+    // given
+    final TokenId tokenId = nftClient.createNftType("Bulk", "BLK");
+    final List<byte[]> metadata = metadata(15);
+    final NftMintCheckpoint checkpoint = NftMintCheckpoint.inMemory();
+    final TransactionId pendingId =
+        TransactionId.generate(context.getOperatorAccount().accountId());
+    checkpoint.chunkPending(1, pendingId);
+
+    // when
+    final List<Long> serials = nftClient.bulkMintNfts(tokenId, metadata, checkpoint);
+
+    // then
+    Assertions.assertEquals(15, serials.size());
+    Assertions.assertEquals(5, checkpoint.getMintedSerials(1).size());
+    Assertions.assertNull(checkpoint.getPendingTransactionId(1));
+    Assertions.assertEquals(3, node.getTransactionCount());
+    final TransactionReceipt receipt =
+        new TransactionReceiptQuery().setTransactionId(pendingId).execute(context.getClient());
+    Assertions.assertEquals(Status.SUCCESS, receipt.status);
+    Assertions.assertEquals(checkpoint.getMintedSerials(1), receipt.serials);
+  }
+
+  private static List<byte[]> metadata(final int count) {
+    return IntStream.range(0, count)
+        .mapToObj(i -> ("nft-" + i).getBytes(StandardCharsets.UTF_8))
+        .toList();
+  }
+}
@@ -0,0 +1,92 @@
+package com.openelements.hiero.test.test;
+
+import com.hedera.hashgraph.sdk.AccountId;
+import com.hedera.hashgraph.sdk.Client;
+import com.hedera.hashgraph.sdk.FileId;
+import com.hedera.hashgraph.sdk.PrivateKey;
+import com.openelements.hiero.base.HieroContext;
+import com.openelements.hiero.base.OperatorPool;
+import com.openelements.hiero.base.config.OperatorSelectionStrategy;
+import com.openelements.hiero.base.data.Account;
+import com.openelements.hiero.base.implementation.FileClientImpl;
+import com.openelements.hiero.base.implementation.OperatorPoolImpl;
+import com.openelements.hiero.base.implementation.ProtocolLayerClientImpl;
+import com.openelements.hiero.base.protocol.data.FileCreateRequest;
+import com.openelements.hiero.test.fake.FakeConsensusNode;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import org.jspecify.annotations.NonNull;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class OperatorPoolPayerTest {
+
+  private FakeConsensusNode node;
+
+  private HieroContext context;
+
+  private ProtocolLayerClientImpl protocolLayerClient;
+
+  private FileClientImpl fileClient;
+
+  @BeforeEach
+  void setup() {
+    node = new FakeConsensusNode();
+    final PrivateKey operatorKey = PrivateKey.generateED25519();
+    final Account operator =
+        Account.of(AccountId.fromString("0.0.2"), operatorKey.getPublicKey(), operatorKey);
+    final PrivateKey payerKey = PrivateKey.generateED25519();
+    final Account payer =
+        Account.of(AccountId.fromString("0.0.1002"), payerKey.getPublicKey(), payerKey);
+    final HieroContext nodeContext = node.createContext(operator);
+    // the pool only contains the payer, so every transaction is paid by an account that is not the
+    // operator of the client
+    final OperatorPool pool =
+        new OperatorPoolImpl(List.of(payer), OperatorSelectionStrategy.ROUND_ROBIN);
+    context =
+        new HieroContext() {
+          @Override
+          public @NonNull Account getOperatorAccount() {
+            return nodeContext.getOperatorAccount();
+          }
+
+          @Override
+          public @NonNull Client getClient() {
+            return nodeContext.getClient();
+          }
+
+          @Override
+          public Optional<OperatorPool> getOperatorPool() {
+            return Optional.of(pool);
+          }
+        };
+    // an unknown receipt is reported after one attempt instead of being polled until the timeout
+    context.getClient().setMaxAttempts(1);
+    protocolLayerClient = new ProtocolLayerClientImpl(context);
+    fileClient = new FileClientImpl(protocolLayerClient);
+  }
+
+  @AfterEach
+  void tearDown() throws Exception {
+    protocolLayerClient.close();
+    context.getClient().close();
+    node.close();
+  }
+
+  @Test
+  void testCreateAndAppendFileWithPoolPayer() throws Exception {
+    // given
+    final byte[] contents = new byte[FileCreateRequest.FILE_CREATE_MAX_SIZE * 2 + 10];
+    Arrays.fill(contents, (byte) 'a');
+
+    // when
+    final FileId fileId = fileClient.createFile(contents);
+
+    // then
+    Assertions.assertArrayEquals(contents, fileClient.readFile(fileId));
+    Assertions.assertEquals(3, node.getTransactionCount());
+  }
+}
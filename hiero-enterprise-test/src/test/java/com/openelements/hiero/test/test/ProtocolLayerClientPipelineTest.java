@@ -0,0 +1,216 @@
+package com.openelements.hiero.test.test;
+
+import com.hedera.hashgraph.sdk.AccountId;
+import com.hedera.hashgraph.sdk.Client;
+import com.hedera.hashgraph.sdk.FileId;
+import com.hedera.hashgraph.sdk.PrivateKey;
+import com.hedera.hashgraph.sdk.Status;
+import com.hedera.hashgraph.sdk.TopicId;
+import com.hedera.hashgraph.sdk.TransactionId;
+import com.openelements.hiero.base.ConsensusNodeSelector;
+import com.openelements.hiero.base.HieroContext;
+import com.openelements.hiero.base.data.Account;
+import com.openelements.hiero.base.data.ConsensusNodeScore;
+import com.openelements.hiero.base.implementation.ProtocolLayerClientImpl;
+import com.openelements.hiero.base.protocol.TransactionListener;
+import com.openelements.hiero.base.protocol.data.AccountCreateRequest;
+import com.openelements.hiero.base.protocol.data.FileAppendRequest;
+import com.openelements.hiero.base.protocol.data.FileAppendResult;
+import com.openelements.hiero.base.protocol.data.FileContentsRequest;
+import com.openelements.hiero.base.protocol.data.FileCreateRequest;
+import com.openelements.hiero.base.protocol.data.TopicCreateRequest;
+import com.openelements.hiero.base.protocol.data.TopicSubmitMessageRequest;
+import com.openelements.hiero.base.protocol.data.TransactionOutcome;
+import com.openelements.hiero.base.protocol.data.TransactionRequest;
+import com.openelements.hiero.base.protocol.data.TransactionSubmission;
+import com.openelements.hiero.base.protocol.data.TransactionType;
+import com.openelements.hiero.test.fake.FakeConsensusNode;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+import org.jspecify.annotations.NonNull;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class ProtocolLayerClientPipelineTest {
+
+  private FakeConsensusNode node;
+
+  private HieroContext context;
+
+  private RecordingSelector selector;
+
+  private ProtocolLayerClientImpl protocolLayerClient;
+
+  @BeforeEach
+  void setup() {
+    node = new FakeConsensusNode();
+    final PrivateKey privateKey = PrivateKey.generateED25519();
+    final Account operator =
+        Account.of(AccountId.fromString("0.0.2"), privateKey.getPublicKey(), privateKey);
+    final HieroContext nodeContext = node.createContext(operator);
+    selector = new RecordingSelector();
+    context =
+        new HieroContext() {
+          @Override
+          public @NonNull Account getOperatorAccount() {
+            return nodeContext.getOperatorAccount();
+          }
+
+          @Override
+          public @NonNull Client getClient() {
+            return nodeContext.getClient();
+          }
+
+          @Override
+          public Optional<ConsensusNodeSelector> getNodeSelector() {
+            return Optional.of(selector);
+          }
+        };
+    protocolLayerClient = new ProtocolLayerClientImpl(context);
+  }
+
+  @AfterEach
+  void tearDown() throws Exception {
+    protocolLayerClient.close();
+    context.getClient().close();
+    node.close();
+  }
+
+  @Test
+  void testPipelinedBatchWithFailureInTheMiddle() throws Exception {
+    // given
+    final TopicId topicId =
+        protocolLayerClient
+            .executeTopicCreateTransaction(TopicCreateRequest.of(PrivateKey.generateED25519()))
+            .topicId();
+    final TopicId unknownTopicId = TopicId.fromString("0.0.999999");
+    final List<TransactionRequest> requests =
+        List.of(
+            TopicSubmitMessageRequest.of(topicId, "message 1"),
+            TopicSubmitMessageRequest.of(topicId, "message 2"),
+            TopicSubmitMessageRequest.of(unknownTopicId, "message 3"),
+            AccountCreateRequest.of(),
+            TopicSubmitMessageRequest.of(topicId, "message 4"));
+    final Map<TransactionId, Status> handled = new ConcurrentHashMap<>();
+    protocolLayerClient.addTransactionListener(
+        new TransactionListener() {
+          @Override
+          public void transactionSubmitted(
+              final TransactionType transactionType, final TransactionId transactionId) {}
+
+          @Override
+          public void transactionHandled(
+              final TransactionType transactionType,
+              final TransactionId transactionId,
+              final Status transactionStatus) {
+            Assertions.assertEquals(TransactionType.TOPIC_MESSAGE_SUBMIT, transactionType);
+            handled.put(transactionId, transactionStatus);
+          }
+        });
+    final int receiptsBefore = selector.receipts.get();
+
+    // when
+    final List<TransactionSubmission> submissions =
+        protocolLayerClient.submitTransactions(requests, 3);
+    final List<TransactionOutcome> outcomes =
+        protocolLayerClient.collectReceipts(submissions, 3).join();
+    protocolLayerClient.close();
+
+    // then
+    Assertions.assertEquals(requests.size(), outcomes.size());
+    for (int i = 0; i < requests.size(); i++) {
+      Assertions.assertSame(requests.get(i), outcomes.get(i).request());
+    }
+    Assertions.assertTrue(outcomes.get(0).isSuccess());
+    Assertions.assertTrue(outcomes.get(1).isSuccess());
+    Assertions.assertEquals(Status.INVALID_TOPIC_ID, outcomes.get(2).status());
+    Assertions.assertNull(outcomes.get(3).transactionId());
+    Assertions.assertNotNull(outcomes.get(3).error());
+    Assertions.assertTrue(outcomes.get(4).isSuccess());
+    Assertions.assertEquals(
+        List.of(1L, 2L, 3L),
+        List.of(
+                outcomes.get(0).receipt().topicSequenceNumber,
+                outcomes.get(1).receipt().topicSequenceNumber,
+                outcomes.get(4).receipt().topicSequenceNumber)
+            .stream()
+            .sorted()
+            .toList());
+
+    Assertions.assertEquals(FakeConsensusNode.NODE_ACCOUNT_ID, submissions.get(0).nodeId());
+    Assertions.assertEquals(TransactionType.TOPIC_MESSAGE_SUBMIT, submissions.get(0).type());
+    Assertions.assertEquals(TransactionType.UNKNOWN, submissions.get(3).type());
+    Assertions.assertEquals(4, handled.size());
+    Assertions.assertEquals(Status.INVALID_TOPIC_ID, handled.get(outcomes.get(2).transactionId()));
+    Assertions.assertEquals(Status.SUCCESS, handled.get(outcomes.get(4).transactionId()));
+    Assertions.assertEquals(4, selector.receipts.get() - receiptsBefore);
+    Assertions.assertEquals(5, node.getTransactionCount());
+  }
+
+  @Test
+  void testFileAppendsAreSentInOrderAndPreparedOneByOne() throws Exception {
+    // given
+    final FileId fileId =
+        protocolLayerClient
+            .executeFileCreateTransaction(
+                FileCreateRequest.of("start".getBytes(StandardCharsets.UTF_8)))
+            .fileId();
+    final List<FileAppendRequest> requests =
+        IntStream.range(0, 8)
+            .mapToObj(i -> FileAppendRequest.of(fileId, ("-" + i).getBytes(StandardCharsets.UTF_8)))
+            .toList();
+    final int selectionsBefore = selector.selections.get();
+
+    // when
+    final List<FileAppendResult> results =
+        protocolLayerClient.executeFileAppendRequestTransactionsAsync(requests).join();
+
+    // then
+    Assertions.assertEquals(requests.size(), results.size());
+    results.forEach(result -> Assertions.assertEquals(Status.SUCCESS, result.status()));
+    Assertions.assertEquals(requests.size(), selector.selections.get() - selectionsBefore);
+    Assertions.assertEquals(
+        "start-0-1-2-3-4-5-6-7",
+        new String(
+            protocolLayerClient.executeFileContentsQuery(FileContentsRequest.of(fileId)).contents(),
+            StandardCharsets.UTF_8));
+  }
+
+  private static class RecordingSelector implements ConsensusNodeSelector {
+
+    private final AtomicInteger receipts = new AtomicInteger();
+
+    private final AtomicInteger selections = new AtomicInteger();
+
+    @Override
+    public @NonNull List<AccountId> selectNodes() {
+      selections.incrementAndGet();
+      return List.of(FakeConsensusNode.NODE_ACCOUNT_ID);
+    }
+
+    @Override
+    public void submitSucceeded(@NonNull final AccountId node, @NonNull final Duration latency) {}
+
+    @Override
+    public void receiptReceived(@NonNull final AccountId node, @NonNull final Duration latency) {
+      Assertions.assertEquals(FakeConsensusNode.NODE_ACCOUNT_ID, node);
+      receipts.incrementAndGet();
+    }
+
+    @Override
+    public void submitFailed(@NonNull final AccountId node, @NonNull final Throwable error) {}
+
+    @Override
+    public @NonNull List<ConsensusNodeScore> getScores() {
+      return List.of();
+    }
+  }
+}
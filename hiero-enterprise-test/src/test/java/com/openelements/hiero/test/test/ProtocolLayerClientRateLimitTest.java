@@ -0,0 +1,118 @@
+package com.openelements.hiero.test.test;
+
+import com.hedera.hashgraph.sdk.AccountId;
+import com.hedera.hashgraph.sdk.Client;
+import com.hedera.hashgraph.sdk.PrivateKey;
+import com.openelements.hiero.base.HieroContext;
+import com.openelements.hiero.base.HieroException;
+import com.openelements.hiero.base.TransactionRateLimiter;
+import com.openelements.hiero.base.config.TransactionRetryPolicy;
+import com.openelements.hiero.base.data.Account;
+import com.openelements.hiero.base.data.TransactionRate;
+import com.openelements.hiero.base.implementation.ProtocolLayerClientImpl;
+import com.openelements.hiero.base.implementation.TransactionRateLimiterImpl;
+import com.openelements.hiero.base.protocol.data.TopicCreateRequest;
+import com.openelements.hiero.base.protocol.data.TransactionType;
+import com.openelements.hiero.test.fake.FakeConsensusNode;
+import com.openelements.hiero.test.fake.NodeBehavior;
+import java.time.Clock;
+import java.util.Optional;
+import org.jspecify.annotations.NonNull;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class ProtocolLayerClientRateLimitTest {
+
+  private static final double INITIAL_RATE = 100;
+
+  private FakeConsensusNode node;
+
+  private HieroContext context;
+
+  private TransactionRateLimiterImpl rateLimiter;
+
+  private ProtocolLayerClientImpl protocolLayerClient;
+
+  @BeforeEach
+  void setup() {
+    node = new FakeConsensusNode();
+    final PrivateKey privateKey = PrivateKey.generateED25519();
+    final Account operator =
+        Account.of(AccountId.fromString("0.0.2"), privateKey.getPublicKey(), privateKey);
+    final HieroContext nodeContext = node.createContext(operator);
+    // the client gives up after one attempt and wraps the BUSY precheck in a
+    // MaxAttemptsExceededException
+    nodeContext.getClient().setMaxAttempts(1);
+    rateLimiter =
+        new TransactionRateLimiterImpl(INITIAL_RATE, 1, 1_000, 10, 0.5, Clock.systemUTC());
+    context =
+        new HieroContext() {
+          @Override
+          public @NonNull Account getOperatorAccount() {
+            return nodeContext.getOperatorAccount();
+          }
+
+          @Override
+          public @NonNull Client getClient() {
+            return nodeContext.getClient();
+          }
+
+          @Override
+          public @NonNull TransactionRetryPolicy getTransactionRetryPolicy() {
+            return TransactionRetryPolicy.NONE;
+          }
+
+          @Override
+          public @NonNull Optional<TransactionRateLimiter> getRateLimiter() {
+            return Optional.of(rateLimiter);
+          }
+        };
+    protocolLayerClient = new ProtocolLayerClientImpl(context);
+  }
+
+  @AfterEach
+  void tearDown() throws Exception {
+    protocolLayerClient.close();
+    context.getClient().close();
+    node.close();
+  }
+
+  @Test
+  void testWrappedBusyHalvesRate() {
+    // given
+    node.setBehavior(NodeBehavior.DEFAULT.withThrottleRate(1));
+
+    // when
+    Assertions.assertThrows(
+        HieroException.class,
+        () ->
+            protocolLayerClient.executeTopicCreateTransaction(
+                TopicCreateRequest.of(PrivateKey.generateED25519())));
+
+    // then
+    final TransactionRate rate = rateOf(TransactionType.TOPIC_CREATE);
+    Assertions.assertEquals(INITIAL_RATE / 2, rate.permitsPerSecond(), 0.0001);
+    Assertions.assertEquals(1, rate.throttled());
+  }
+
+  @Test
+  void testSuccessfulReceiptIncreasesRate() throws Exception {
+    // when
+    protocolLayerClient.executeTopicCreateTransaction(
+        TopicCreateRequest.of(PrivateKey.generateED25519()));
+
+    // then
+    final TransactionRate rate = rateOf(TransactionType.TOPIC_CREATE);
+    Assertions.assertEquals(INITIAL_RATE + 0.1, rate.permitsPerSecond(), 0.0001);
+    Assertions.assertEquals(0, rate.throttled());
+  }
+
+  private TransactionRate rateOf(final TransactionType type) {
+    return rateLimiter.getRates().stream()
+        .filter(rate -> rate.type() == type)
+        .findFirst()
+        .orElseThrow(() -> new AssertionError("No rate for " + type));
+  }
+}
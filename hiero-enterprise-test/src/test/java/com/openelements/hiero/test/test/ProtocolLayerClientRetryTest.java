@@ -0,0 +1,162 @@
+package com.openelements.hiero.test.test;
+
+import com.hedera.hashgraph.sdk.AccountId;
+import com.hedera.hashgraph.sdk.Client;
+import com.hedera.hashgraph.sdk.PrivateKey;
+import com.hedera.hashgraph.sdk.ReceiptStatusException;
+import com.hedera.hashgraph.sdk.Status;
+import com.hedera.hashgraph.sdk.TopicId;
+import com.openelements.hiero.base.HieroContext;
+import com.openelements.hiero.base.HieroException;
+import com.openelements.hiero.base.config.TransactionRetryPolicy;
+import com.openelements.hiero.base.data.Account;
+import com.openelements.hiero.base.implementation.ProtocolLayerClientImpl;
+import com.openelements.hiero.base.protocol.data.TopicCreateRequest;
+import com.openelements.hiero.base.protocol.data.TopicCreateResult;
+import com.openelements.hiero.base.protocol.data.TopicSubmitMessageRequest;
+import com.openelements.hiero.test.fake.FakeConsensusNode;
+import com.openelements.hiero.test.fake.LatencyDistribution;
+import com.openelements.hiero.test.fake.NodeBehavior;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import org.jspecify.annotations.NonNull;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class ProtocolLayerClientRetryTest {
+
+  private static final Duration BACKOFF = Duration.ofMillis(500);
+
+  private FakeConsensusNode node;
+
+  private HieroContext context;
+
+  private ProtocolLayerClientImpl protocolLayerClient;
+
+  @BeforeEach
+  void setup() {
+    node = new FakeConsensusNode();
+    final PrivateKey privateKey = PrivateKey.generateED25519();
+    final Account operator =
+        Account.of(AccountId.fromString("0.0.2"), privateKey.getPublicKey(), privateKey);
+    final HieroContext nodeContext = node.createContext(operator);
+    // the client gives up after one attempt, so every retry is done by the retry policy
+    nodeContext.getClient().setMaxAttempts(1);
+    context =
+        new HieroContext() {
+          @Override
+          public @NonNull Account getOperatorAccount() {
+            return nodeContext.getOperatorAccount();
+          }
+
+          @Override
+          public @NonNull Client getClient() {
+            return nodeContext.getClient();
+          }
+
+          @Override
+          public @NonNull TransactionRetryPolicy getTransactionRetryPolicy() {
+            return TransactionRetryPolicy.of(3, BACKOFF, BACKOFF);
+          }
+        };
+    protocolLayerClient = new ProtocolLayerClientImpl(context);
+  }
+
+  @AfterEach
+  void tearDown() throws Exception {
+    protocolLayerClient.close();
+    context.getClient().close();
+    node.close();
+  }
+
+  @Test
+  void testAsyncTransactionIsRetriedAfterThrottling() throws Exception {
+    // given
+    node.setBehavior(NodeBehavior.DEFAULT.withThrottleRate(1));
+
+    // when
+    final CompletableFuture<TopicCreateResult> future =
+        protocolLayerClient.executeTopicCreateTransactionAsync(
+            TopicCreateRequest.of(PrivateKey.generateED25519()));
+    awaitThrottled();
+    Assertions.assertFalse(future.isDone());
+    node.setBehavior(NodeBehavior.DEFAULT);
+
+    // then
+    Assertions.assertNotNull(future.get(10, TimeUnit.SECONDS).topicId());
+    Assertions.assertEquals(1, node.getTransactionCount());
+  }
+
+  @Test
+  void testAsyncTransactionIsNotSubmittedAgainIfItReachedConsensus() throws Exception {
+    // given
+    node.setConsensusLatency(LatencyDistribution.fixed(BACKOFF.dividedBy(2)));
+
+    // when
+    final CompletableFuture<TopicCreateResult> future =
+        protocolLayerClient.executeTopicCreateTransactionAsync(
+            TopicCreateRequest.of(PrivateKey.generateED25519()));
+
+    // then
+    Assertions.assertNotNull(future.get(10, TimeUnit.SECONDS).topicId());
+    Assertions.assertEquals(1, node.getTransactionCount());
+  }
+
+  @Test
+  void testAsyncTransactionFailsAfterMaxAttempts() {
+    // given
+    node.setBehavior(NodeBehavior.DEFAULT.withThrottleRate(1));
+
+    // when
+    final CompletableFuture<TopicCreateResult> future =
+        protocolLayerClient.executeTopicCreateTransactionAsync(
+            TopicCreateRequest.of(PrivateKey.generateED25519()));
+
+    // then
+    final ExecutionException exception =
+        Assertions.assertThrows(ExecutionException.class, () -> future.get(10, TimeUnit.SECONDS));
+    Assertions.assertInstanceOf(HieroException.class, exception.getCause());
+    Assertions.assertTrue(node.getThrottledCount() >= 3);
+    Assertions.assertEquals(0, node.getTransactionCount());
+  }
+
+  @Test
+  void testAsyncTransactionWithFailedReceiptIsNotRetried() throws Exception {
+    // given
+    final TopicId unknownTopicId = TopicId.fromString("0.0.999999");
+
+    // when
+    final CompletableFuture<?> future =
+        protocolLayerClient.executeTopicMessageSubmitTransactionAsync(
+            TopicSubmitMessageRequest.of(unknownTopicId, "message"));
+
+    // then
+    final ExecutionException exception =
+        Assertions.assertThrows(ExecutionException.class, () -> future.get(10, TimeUnit.SECONDS));
+    Assertions.assertEquals(Status.INVALID_TOPIC_ID, receiptStatusOf(exception));
+    Assertions.assertEquals(1, node.getTransactionCount());
+  }
+
+  private void awaitThrottled() throws InterruptedException {
+    final long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+    while (node.getThrottledCount() == 0) {
+      Assertions.assertTrue(System.nanoTime() < deadline, "Node was never called");
+      Thread.sleep(5);
+    }
+  }
+
+  private static Status receiptStatusOf(final Throwable error) {
+    Throwable current = error;
+    while (current != null) {
+      if (current instanceof ReceiptStatusException receiptStatus) {
+        return receiptStatus.receipt.status;
+      }
+      current = current.getCause();
+    }
+    return Status.UNKNOWN;
+  }
+}
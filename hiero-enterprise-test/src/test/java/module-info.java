@@ -0,0 +1,11 @@
+open module com.openelements.hiero.test.test {
+  requires com.openelements.hiero.test;
+  requires static org.jspecify;
+  requires org.junit.jupiter.api;
+  requires org.slf4j;
+  requires io.grpc;
+  requires io.grpc.inprocess;
+  requires io.grpc.stub;
+  requires com.google.protobuf;
+  requires java.net.http;
+}